@@ -63,6 +63,7 @@ import fr.gouv.vitam.common.exception.NoWritingPermissionException;
 import fr.gouv.vitam.common.json.JsonHandler;
 import fr.gouv.vitam.common.logging.VitamLogger;
 import fr.gouv.vitam.common.logging.VitamLoggerFactory;
+import fr.gouv.vitam.common.model.ByteRange;
 import fr.gouv.vitam.common.model.DeleteGotVersionsRequest;
 import fr.gouv.vitam.common.model.PreservationRequest;
 import fr.gouv.vitam.common.model.RequestResponse;
@@ -958,9 +959,9 @@ public class AccessExternalResource extends ApplicationStatusResource {
     /**
      * <b>The caller is responsible to close the Response after consuming the inputStream.</b>
      *
-     * @param headers the http header defined parameters of request. Headers X-Qualifier and X-Version must be defined with target object qualifier and version in the object group container associated with the unit.
+     * @param headers the http header defined parameters of request. Headers X-Qualifier and X-Version must be defined with target object qualifier and version in the object group container associated with the unit. An optional single byte Range header may be provided.
      * @param unitId the id of archive unit
-     * @return object content as response body stream with HTTP 200 when OK, HTTP 404 when object not found, HTTP 460 when object is not available for immediate access and requires Access Request. HTTP 40X / 50X on error.
+     * @return object content as response body stream with HTTP 200 when OK, HTTP 206 when a byte range was served, HTTP 416 when the requested range is not satisfiable, HTTP 404 when object not found, HTTP 460 when object is not available for immediate access and requires Access Request. HTTP 40X / 50X on error.
      */
     @GET
     @Path("/units/{idu}/objects")
@@ -1835,10 +1836,29 @@ public class AccessExternalResource extends ApplicationStatusResource {
         final String xVersion = multipleMap.get(GlobalDataRest.X_VERSION).get(0);
         try (AccessInternalClient client = accessInternalClientFactory.getClient()) {
             HttpHeaderHelper.checkVitamHeadersMap(multipleMap);
-            final Response response = client.getObject(idObjectGroup, xQualifier, Integer.parseInt(xVersion), unitId);
+            final ByteRange range = ByteRange.parse(multipleMap.getFirst(GlobalDataRest.RANGE)).orElse(null);
+            final Response response = client.getObject(
+                idObjectGroup,
+                xQualifier,
+                Integer.parseInt(xVersion),
+                unitId,
+                range
+            );
+            if (response.getStatus() == Status.REQUESTED_RANGE_NOT_SATISFIABLE.getStatusCode()) {
+                final String contentRange = response.getHeaderString(GlobalDataRest.CONTENT_RANGE);
+                response.close();
+                return Response.status(Status.REQUESTED_RANGE_NOT_SATISFIABLE)
+                    .header(GlobalDataRest.CONTENT_RANGE, contentRange)
+                    .build();
+            }
             Map<String, String> headers = VitamAsyncInputStreamResponse.getDefaultMapFromResponse(response);
             headers.put(GlobalDataRest.X_QUALIFIER, xQualifier);
             headers.put(GlobalDataRest.X_VERSION, xVersion);
+            headers.put(GlobalDataRest.ACCEPT_RANGES, "bytes");
+            if (response.getStatus() == Status.PARTIAL_CONTENT.getStatusCode()) {
+                headers.put(GlobalDataRest.CONTENT_RANGE, response.getHeaderString(GlobalDataRest.CONTENT_RANGE));
+                return new VitamAsyncInputStreamResponse(response, Status.PARTIAL_CONTENT, headers);
+            }
             return new VitamAsyncInputStreamResponse(response, Status.OK, headers);
         } catch (final InvalidParseOperationException | IllegalArgumentException exc) {
             LOGGER.error(exc);
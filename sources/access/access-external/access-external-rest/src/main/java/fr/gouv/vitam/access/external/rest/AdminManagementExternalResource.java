@@ -113,6 +113,7 @@ import fr.gouv.vitam.ingest.internal.common.exception.IngestInternalClientServer
 import fr.gouv.vitam.logbook.common.exception.LogbookClientAlreadyExistsException;
 import fr.gouv.vitam.logbook.common.exception.LogbookClientException;
 import fr.gouv.vitam.logbook.common.parameters.LogbookOperationParameters;
+import fr.gouv.vitam.security.internal.filter.SecurityContextCache;
 import io.swagger.v3.oas.annotations.tags.Tag;
 
 import javax.ws.rs.ApplicationPath;
@@ -594,6 +595,7 @@ public class AdminManagementExternalResource extends ApplicationStatusResource {
             Status status = client.importIngestContracts(
                 getFromStringAsTypeReference(select.toString(), new TypeReference<List<IngestContractModel>>() {})
             );
+            SecurityContextCache.getInstance().invalidateAll();
 
             if (BAD_REQUEST.getStatusCode() == status.getStatusCode()) {
                 return VitamCodeHelper.toVitamError(
@@ -637,6 +639,7 @@ public class AdminManagementExternalResource extends ApplicationStatusResource {
             Status status = client.importAccessContracts(
                 getFromStringAsTypeReference(contract.toString(), new TypeReference<List<AccessContractModel>>() {})
             );
+            SecurityContextCache.getInstance().invalidateAll();
 
             if (BAD_REQUEST.getStatusCode() == status.getStatusCode()) {
                 return VitamCodeHelper.toVitamError(
@@ -726,6 +729,7 @@ public class AdminManagementExternalResource extends ApplicationStatusResource {
             Status status = client.importContexts(
                 getFromStringAsTypeReference(select.toString(), new TypeReference<>() {})
             );
+            SecurityContextCache.getInstance().invalidateAll();
 
             return Response.status(status).entity(SUCCESSFULLY_IMPORTED).build();
         } catch (ReferentialException | InvalidParseOperationException | InvalidFormatException e) {
@@ -1863,6 +1867,7 @@ public class AdminManagementExternalResource extends ApplicationStatusResource {
             Update update = updateParserSingle.getRequest();
             update.setQuery(QueryHelper.eq(IDENTIFIER, identifier));
             RequestResponse<ContextModel> response = client.updateContext(identifier, update.getFinalUpdate());
+            SecurityContextCache.getInstance().invalidateAll();
             return getResponse(response);
         } catch (ReferentialNotFoundException e) {
             LOGGER.error(e);
@@ -2009,6 +2014,7 @@ public class AdminManagementExternalResource extends ApplicationStatusResource {
                 identifier,
                 update.getFinalUpdate()
             );
+            SecurityContextCache.getInstance().invalidateAll();
             return getResponse(response);
         } catch (
             AdminManagementClientBadRequestException
@@ -2059,6 +2065,7 @@ public class AdminManagementExternalResource extends ApplicationStatusResource {
                 identifier,
                 update.getFinalUpdate()
             );
+            SecurityContextCache.getInstance().invalidateAll();
             return getResponse(response);
         } catch (
             AdminManagementClientBadRequestException
@@ -54,6 +54,7 @@ import fr.gouv.vitam.common.json.JsonHandler;
 import fr.gouv.vitam.common.junit.JunitHelper;
 import fr.gouv.vitam.common.logging.VitamLogger;
 import fr.gouv.vitam.common.logging.VitamLoggerFactory;
+import fr.gouv.vitam.common.model.ByteRange;
 import fr.gouv.vitam.common.model.DeleteGotVersionsRequest;
 import fr.gouv.vitam.common.model.RequestResponse;
 import fr.gouv.vitam.common.model.RequestResponseOK;
@@ -104,6 +105,7 @@ import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.nullable;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
@@ -1759,10 +1761,18 @@ public class AccessExternalResourceTest extends ResteasyTestApplication {
             new RequestResponseOK<JsonNode>().addResult(resultObjectReturn)
         );
 
-        when(accessInternalClient.getObject(anyString(), anyString(), anyInt(), anyString())).thenReturn(response);
+        when(
+            accessInternalClient.getObject(anyString(), anyString(), anyInt(), anyString(), nullable(ByteRange.class))
+        ).thenReturn(response);
 
         when(
-            accessInternalClient.getObject(anyString(), ArgumentMatchers.eq("unavailable"), anyInt(), anyString())
+            accessInternalClient.getObject(
+                anyString(),
+                ArgumentMatchers.eq("unavailable"),
+                anyInt(),
+                anyString(),
+                nullable(ByteRange.class)
+            )
         ).thenThrow(new AccessInternalClientUnavailableDataFromAsyncOfferException("unavailable"));
 
         given()
@@ -1902,7 +1912,9 @@ public class AccessExternalResourceTest extends ResteasyTestApplication {
             headers
         );
 
-        when(accessInternalClient.getObject(anyString(), anyString(), anyInt(), anyString())).thenReturn(response);
+        when(
+            accessInternalClient.getObject(anyString(), anyString(), anyInt(), anyString(), nullable(ByteRange.class))
+        ).thenReturn(response);
         String objectnode = "{\"$query\": {\"$eq\": {\"aa\" : \"vv\" }}, \"$projection\": {}, \"$filter\": {}}";
         JsonNode objectGroup = JsonHandler.getFromString(
             "{\"$hint\":{\"total\":1},\"$context\":{\"$query\":{\"$eq\":{\"id\":\"1\"}},\"$projection\":{},\"$filter\":{}},\"$result\":[{\"#id\":\"1\",\"#object\":\"goodResult\",\"Title\":\"Archive 1\",\"DescriptionLevel\":\"Archive Mock\"}]}"
@@ -1976,14 +1988,80 @@ public class AccessExternalResourceTest extends ResteasyTestApplication {
     }
 
     @Test
-    public void testErrorsGetObjects() throws Exception {
+    public void getObjectUnitWithRange() throws Exception {
+        reset(accessInternalClient);
+
         JsonNode objectGroup = JsonHandler.getFromString(
             "{\"$hint\":{\"total\":1},\"$context\":{\"$query\":{\"$eq\":{\"id\":\"1\"}},\"$projection\":{},\"$filter\":{}},\"$result\":[{\"#id\":\"1\",\"#object\":\"goodResult\",\"Title\":\"Archive 1\",\"DescriptionLevel\":\"Archive Mock\"}]}"
         );
+        when(accessInternalClient.selectUnits(any())).thenReturn(
+            new RequestResponseOK<JsonNode>().addResult(objectGroup)
+        );
+
+        final Map<String, String> headers = new HashMap<>();
+        headers.put(GlobalDataRest.CONTENT_RANGE, "bytes 1-2/4");
+        final Response partialResponse = ResponseHelper.getOutboundResponse(
+            Status.PARTIAL_CONTENT,
+            new ByteArrayInputStream("es".getBytes()),
+            MediaType.APPLICATION_OCTET_STREAM,
+            headers
+        );
+        when(
+            accessInternalClient.getObject(
+                anyString(),
+                anyString(),
+                anyInt(),
+                anyString(),
+                ArgumentMatchers.eq(ByteRange.of(1, 2))
+            )
+        ).thenReturn(partialResponse);
+        when(
+            accessInternalClient.getObject(
+                anyString(),
+                anyString(),
+                anyInt(),
+                anyString(),
+                ArgumentMatchers.eq(ByteRange.of(10, 20))
+            )
+        ).thenReturn(
+            Response.status(Status.REQUESTED_RANGE_NOT_SATISFIABLE)
+                .header(GlobalDataRest.CONTENT_RANGE, "bytes */4")
+                .build()
+        );
+
+        given()
+            .contentType(MediaType.APPLICATION_JSON)
+            .accept(MediaType.APPLICATION_OCTET_STREAM)
+            .headers(getStreamHeaders())
+            .header(GlobalDataRest.RANGE, "bytes=1-2")
+            .when()
+            .get(ACCESS_UNITS_URI + "/goodId/objects")
+            .then()
+            .statusCode(Status.PARTIAL_CONTENT.getStatusCode())
+            .header(GlobalDataRest.CONTENT_RANGE, "bytes 1-2/4")
+            .header(GlobalDataRest.ACCEPT_RANGES, "bytes");
 
-        when(accessInternalClient.getObject(anyString(), anyString(), anyInt(), anyString())).thenThrow(
-            new InvalidParseOperationException("")
+        given()
+            .contentType(MediaType.APPLICATION_JSON)
+            .accept(MediaType.APPLICATION_OCTET_STREAM)
+            .headers(getStreamHeaders())
+            .header(GlobalDataRest.RANGE, "bytes=10-20")
+            .when()
+            .get(ACCESS_UNITS_URI + "/goodId/objects")
+            .then()
+            .statusCode(Status.REQUESTED_RANGE_NOT_SATISFIABLE.getStatusCode())
+            .header(GlobalDataRest.CONTENT_RANGE, "bytes */4");
+    }
+
+    @Test
+    public void testErrorsGetObjects() throws Exception {
+        JsonNode objectGroup = JsonHandler.getFromString(
+            "{\"$hint\":{\"total\":1},\"$context\":{\"$query\":{\"$eq\":{\"id\":\"1\"}},\"$projection\":{},\"$filter\":{}},\"$result\":[{\"#id\":\"1\",\"#object\":\"goodResult\",\"Title\":\"Archive 1\",\"DescriptionLevel\":\"Archive Mock\"}]}"
         );
+
+        when(
+            accessInternalClient.getObject(anyString(), anyString(), anyInt(), anyString(), nullable(ByteRange.class))
+        ).thenThrow(new InvalidParseOperationException(""));
         when(accessInternalClient.selectUnits(any())).thenReturn(
             new RequestResponseOK<JsonNode>().addResult(objectGroup)
         );
@@ -34,6 +34,7 @@ import fr.gouv.vitam.access.internal.common.exception.AccessInternalUnavailableD
 import fr.gouv.vitam.common.exception.InvalidParseOperationException;
 import fr.gouv.vitam.common.exception.UpdatePermissionException;
 import fr.gouv.vitam.common.exception.VitamDBException;
+import fr.gouv.vitam.common.model.ByteRange;
 import fr.gouv.vitam.common.model.storage.AccessRequestReference;
 import fr.gouv.vitam.common.model.storage.StatusByAccessRequest;
 import fr.gouv.vitam.metadata.api.exception.MetaDataNotFoundException;
@@ -121,6 +122,31 @@ public interface AccessInternalModule {
     Response getOneObjectFromObjectGroup(String idObjectGroup, String qualifier, int version, String idUnit)
         throws StorageNotFoundException, InvalidParseOperationException, MetaDataNotFoundException, AccessInternalExecutionException, AccessInternalUnavailableDataFromAsyncOfferException;
 
+    /**
+     * Retrieve a byte range of an object as InputStream based on the associated ObjectGroupId and qualifier + version
+     * requested. The response status is 206 (partial content) with a Content-Range header when the range is honored,
+     * or 416 (with a Content-Range header giving the object size) when the range is not satisfiable.
+     *
+     * @param idObjectGroup The Object Group Id
+     * @param qualifier the qualifier to be retrieve (ie: Dissemination etc.)
+     * @param version the version number to get
+     * @param idUnit identifier of the parent archiveunit used to have access to the object
+     * @param range the byte range to read, or null to read the whole object
+     * @return response
+     * @throws StorageNotFoundException If the object is not found in storage
+     * @throws InvalidParseOperationException when a query is badly structured
+     * @throws AccessInternalExecutionException For other technical errors
+     * @throws MetaDataNotFoundException
+     */
+    Response getOneObjectFromObjectGroup(
+        String idObjectGroup,
+        String qualifier,
+        int version,
+        String idUnit,
+        ByteRange range
+    )
+        throws StorageNotFoundException, InvalidParseOperationException, MetaDataNotFoundException, AccessInternalExecutionException, AccessInternalUnavailableDataFromAsyncOfferException;
+
     /**
      * Retrieve all accessLog by the concatenation of all accesslog files as InputStream
      *
@@ -39,6 +39,7 @@ import fr.gouv.vitam.common.exception.BadRequestException;
 import fr.gouv.vitam.common.exception.ExpectationFailedClientException;
 import fr.gouv.vitam.common.exception.InvalidParseOperationException;
 import fr.gouv.vitam.common.exception.NoWritingPermissionException;
+import fr.gouv.vitam.common.model.ByteRange;
 import fr.gouv.vitam.common.model.DeleteGotVersionsRequest;
 import fr.gouv.vitam.common.model.PreservationRequest;
 import fr.gouv.vitam.common.model.RequestResponse;
@@ -179,6 +180,25 @@ public interface AccessInternalClient extends MockOrRestClient {
     Response getObject(String objectGroupId, String usage, int version, String unitId)
         throws InvalidParseOperationException, AccessInternalClientServerException, AccessInternalClientNotFoundException, AccessUnauthorizedException, AccessInternalClientUnavailableDataFromAsyncOfferException;
 
+    /**
+     * Retrieve a byte range of an Object data as an input stream. The response status is 206 (partial content) with a
+     * Content-Range header when the range is honored, or 416 when the range is not satisfiable.
+     *
+     * @param objectGroupId the Id of the ObjectGroup
+     * @param usage the requested usage
+     * @param version the requested version of the usage
+     * @param unitId the id used by the user to have access to the object
+     * @param range the byte range to read, or null to read the whole object
+     * @return Response containing InputStream for the object data
+     * @throws InvalidParseOperationException if the query is not well formatted
+     * @throws AccessInternalClientServerException if the server encountered an exception
+     * @throws AccessInternalClientNotFoundException if the requested object does not exist
+     * @throws AccessUnauthorizedException
+     * @throws AccessInternalClientUnavailableDataFromAsyncOfferException if access to the requested object requires an Access Request.
+     */
+    Response getObject(String objectGroupId, String usage, int version, String unitId, ByteRange range)
+        throws InvalidParseOperationException, AccessInternalClientServerException, AccessInternalClientNotFoundException, AccessUnauthorizedException, AccessInternalClientUnavailableDataFromAsyncOfferException;
+
     /**
      * selectOperation
      *
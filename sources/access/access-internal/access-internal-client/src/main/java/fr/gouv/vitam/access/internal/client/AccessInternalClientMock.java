@@ -36,6 +36,7 @@ import fr.gouv.vitam.common.exception.ExpectationFailedClientException;
 import fr.gouv.vitam.common.exception.InvalidParseOperationException;
 import fr.gouv.vitam.common.exception.VitamRuntimeException;
 import fr.gouv.vitam.common.json.JsonHandler;
+import fr.gouv.vitam.common.model.ByteRange;
 import fr.gouv.vitam.common.model.DeleteGotVersionsRequest;
 import fr.gouv.vitam.common.model.PreservationRequest;
 import fr.gouv.vitam.common.model.RequestResponse;
@@ -154,6 +155,11 @@ class AccessInternalClientMock extends AbstractMockClient implements AccessInter
         );
     }
 
+    @Override
+    public Response getObject(String objectGroupId, String usage, int version, String unitId, ByteRange range) {
+        return getObject(objectGroupId, usage, version, unitId);
+    }
+
     @Override
     public RequestResponse<JsonNode> selectOperation(JsonNode select, boolean isSliced, boolean isCrossTenant)
         throws InvalidParseOperationException {
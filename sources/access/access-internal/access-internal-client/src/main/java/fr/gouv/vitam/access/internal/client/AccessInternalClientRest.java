@@ -44,6 +44,7 @@ import fr.gouv.vitam.common.exception.InvalidParseOperationException;
 import fr.gouv.vitam.common.exception.NoWritingPermissionException;
 import fr.gouv.vitam.common.exception.PreconditionFailedClientException;
 import fr.gouv.vitam.common.exception.VitamClientInternalException;
+import fr.gouv.vitam.common.model.ByteRange;
 import fr.gouv.vitam.common.model.DeleteGotVersionsRequest;
 import fr.gouv.vitam.common.model.PreservationRequest;
 import fr.gouv.vitam.common.model.RequestResponse;
@@ -66,6 +67,7 @@ import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Optional;
 
+import static fr.gouv.vitam.common.GlobalDataRest.RANGE;
 import static fr.gouv.vitam.common.GlobalDataRest.X_ACCESS_CONTRAT_ID;
 import static fr.gouv.vitam.common.GlobalDataRest.X_QUALIFIER;
 import static fr.gouv.vitam.common.GlobalDataRest.X_VERSION;
@@ -338,6 +340,12 @@ class AccessInternalClientRest extends DefaultClient implements AccessInternalCl
 
     @Override
     public Response getObject(String objectGroupId, String usage, int version, String unitId)
+        throws InvalidParseOperationException, AccessInternalClientServerException, AccessInternalClientNotFoundException, AccessUnauthorizedException, AccessInternalClientUnavailableDataFromAsyncOfferException {
+        return getObject(objectGroupId, usage, version, unitId, null);
+    }
+
+    @Override
+    public Response getObject(String objectGroupId, String usage, int version, String unitId, ByteRange range)
         throws InvalidParseOperationException, AccessInternalClientServerException, AccessInternalClientNotFoundException, AccessUnauthorizedException, AccessInternalClientUnavailableDataFromAsyncOfferException {
         ParametersChecker.checkParameter(BLANK_OBJECT_GROUP_ID, objectGroupId);
         ParametersChecker.checkParameter(BLANK_UNIT_ID, unitId);
@@ -345,6 +353,7 @@ class AccessInternalClientRest extends DefaultClient implements AccessInternalCl
             .withPath(OBJECTS + objectGroupId + "/" + unitId)
             .withHeader(X_QUALIFIER, usage)
             .withHeader(X_VERSION, version)
+            .withHeaderIgnoreNull(RANGE, range)
             .withJsonOctet()
             .withBefore(CHECK_REQUEST_ID);
         Response response = null;
@@ -356,6 +365,9 @@ class AccessInternalClientRest extends DefaultClient implements AccessInternalCl
                     "Access to async offer requires valid access request"
                 );
             }
+            if (isRangeNotSatisfiable(range, response)) {
+                return response;
+            }
             check(response);
             return response;
         } catch (PreconditionFailedClientException e) {
@@ -370,12 +382,20 @@ class AccessInternalClientRest extends DefaultClient implements AccessInternalCl
         } catch (BadRequestException e) {
             throw new InvalidParseOperationException(e);
         } finally {
-            if (response != null && !SUCCESSFUL.equals(response.getStatusInfo().getFamily())) {
+            if (
+                response != null &&
+                !SUCCESSFUL.equals(response.getStatusInfo().getFamily()) &&
+                !isRangeNotSatisfiable(range, response)
+            ) {
                 response.close();
             }
         }
     }
 
+    private static boolean isRangeNotSatisfiable(ByteRange range, Response response) {
+        return range != null && response.getStatus() == Status.REQUESTED_RANGE_NOT_SATISFIABLE.getStatusCode();
+    }
+
     @Override
     public RequestResponse<JsonNode> selectOperation(JsonNode select, boolean isSliced, boolean isCrossTenant)
         throws LogbookClientException, InvalidParseOperationException, AccessUnauthorizedException {
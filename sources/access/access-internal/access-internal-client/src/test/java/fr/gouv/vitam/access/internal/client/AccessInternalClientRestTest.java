@@ -42,6 +42,7 @@ import fr.gouv.vitam.common.exception.AccessUnauthorizedException;
 import fr.gouv.vitam.common.exception.BadRequestException;
 import fr.gouv.vitam.common.exception.InvalidParseOperationException;
 import fr.gouv.vitam.common.json.JsonHandler;
+import fr.gouv.vitam.common.model.ByteRange;
 import fr.gouv.vitam.common.model.ItemStatus;
 import fr.gouv.vitam.common.model.RequestResponse;
 import fr.gouv.vitam.common.model.RequestResponseOK;
@@ -89,6 +90,7 @@ import java.util.stream.Collectors;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
@@ -696,6 +698,36 @@ public class AccessInternalClientRestTest extends ResteasyTestApplication {
         assertTrue(StreamUtils.contentEquals(stream, stream2));
     }
 
+    @RunWithCustomExecutor
+    @Test
+    public void givenRangeWhenGetObjectAsInputStreamThenPartialContent() throws Exception {
+        VitamThreadUtils.getVitamSession().setRequestId(DUMMY_REQUEST_ID);
+        when(mock.get()).thenReturn(
+            Response.status(Status.PARTIAL_CONTENT)
+                .header(GlobalDataRest.CONTENT_RANGE, "bytes 6-9/10")
+                .entity(StreamUtils.toInputStream("test"))
+                .build()
+        );
+        final Response response = client.getObject(ID, USAGE, VERSION, UNIT_ID, ByteRange.of(6, 9));
+        assertEquals(Status.PARTIAL_CONTENT.getStatusCode(), response.getStatus());
+        assertEquals("bytes 6-9/10", response.getHeaderString(GlobalDataRest.CONTENT_RANGE));
+        assertTrue(StreamUtils.contentEquals(response.readEntity(InputStream.class), StreamUtils.toInputStream("test")));
+    }
+
+    @RunWithCustomExecutor
+    @Test
+    public void givenUnsatisfiableRangeWhenGetObjectThenResponseReturned() throws Exception {
+        VitamThreadUtils.getVitamSession().setRequestId(DUMMY_REQUEST_ID);
+        when(mock.get()).thenReturn(
+            Response.status(Status.REQUESTED_RANGE_NOT_SATISFIABLE)
+                .header(GlobalDataRest.CONTENT_RANGE, "bytes */10")
+                .build()
+        );
+        final Response response = client.getObject(ID, USAGE, VERSION, UNIT_ID, ByteRange.of(20, 30));
+        assertEquals(Status.REQUESTED_RANGE_NOT_SATISFIABLE.getStatusCode(), response.getStatus());
+        assertEquals("bytes */10", response.getHeaderString(GlobalDataRest.CONTENT_RANGE));
+    }
+
     @Test
     public void statusExecutionWithoutBody() throws Exception {
         when(mock.get()).thenReturn(Response.status(Response.Status.OK).build());
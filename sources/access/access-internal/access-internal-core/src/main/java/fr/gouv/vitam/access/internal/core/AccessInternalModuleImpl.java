@@ -73,6 +73,7 @@ import fr.gouv.vitam.common.json.JsonHandler;
 import fr.gouv.vitam.common.logging.VitamLogger;
 import fr.gouv.vitam.common.logging.VitamLoggerFactory;
 import fr.gouv.vitam.common.metrics.VitamCommonMetrics;
+import fr.gouv.vitam.common.model.ByteRange;
 import fr.gouv.vitam.common.model.IngestWorkflowConstants;
 import fr.gouv.vitam.common.model.LifeCycleStatusCode;
 import fr.gouv.vitam.common.model.MetadataStorageHelper;
@@ -442,6 +443,18 @@ public class AccessInternalModuleImpl implements AccessInternalModule {
 
     @Override
     public Response getOneObjectFromObjectGroup(String idObjectGroup, String qualifier, int version, String idUnit)
+        throws StorageNotFoundException, AccessInternalExecutionException, MetaDataNotFoundException, InvalidParseOperationException, AccessInternalUnavailableDataFromAsyncOfferException {
+        return getOneObjectFromObjectGroup(idObjectGroup, qualifier, version, idUnit, null);
+    }
+
+    @Override
+    public Response getOneObjectFromObjectGroup(
+        String idObjectGroup,
+        String qualifier,
+        int version,
+        String idUnit,
+        ByteRange range
+    )
         throws StorageNotFoundException, AccessInternalExecutionException, MetaDataNotFoundException, InvalidParseOperationException, AccessInternalUnavailableDataFromAsyncOfferException {
         VersionsModel finalversionsResponse = getObjectVersionsModel(idObjectGroup, qualifier, version);
 
@@ -474,25 +487,51 @@ public class AccessInternalModuleImpl implements AccessInternalModule {
             filename = objectId;
         }
 
+        // Resolve the range against the known object size, so that offers are queried with a bounded range and
+        // access logs record the number of bytes actually served
+        ByteRange resolvedRange = range;
+        if (range != null && size != null) {
+            if (!range.isSatisfiable(size)) {
+                return Response.status(Status.REQUESTED_RANGE_NOT_SATISFIABLE)
+                    .header(GlobalDataRest.CONTENT_RANGE, ByteRange.toUnsatisfiedContentRange(size))
+                    .build();
+            }
+            resolvedRange = range.resolve(size);
+        }
+
         AccessLogInfoModel logInfo = AccessLogUtils.getInfoForAccessLog(
             qualifier,
             version,
             VitamThreadUtils.getVitamSession(),
             size,
-            idUnit
+            idUnit,
+            resolvedRange
         );
         try (StorageClient storageClient = storageClientFactory.getClient()) {
             final Response response = storageClient.getContainerAsync(
                 strategyId,
                 objectId,
                 DataCategory.OBJECT,
-                logInfo
+                logInfo,
+                resolvedRange
             );
+            if (response.getStatus() == Status.REQUESTED_RANGE_NOT_SATISFIABLE.getStatusCode()) {
+                String contentRange = response.getHeaderString(GlobalDataRest.CONTENT_RANGE);
+                response.close();
+                return Response.status(Status.REQUESTED_RANGE_NOT_SATISFIABLE)
+                    .header(GlobalDataRest.CONTENT_RANGE, contentRange)
+                    .build();
+            }
             Map<String, String> headers = new HashMap<>();
             headers.put(HttpHeaders.CONTENT_TYPE, mimetype);
             headers.put(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"");
             headers.put(GlobalDataRest.X_QUALIFIER, qualifier);
             headers.put(GlobalDataRest.X_VERSION, Integer.toString(version));
+            headers.put(GlobalDataRest.ACCEPT_RANGES, "bytes");
+            if (response.getStatus() == Status.PARTIAL_CONTENT.getStatusCode()) {
+                headers.put(GlobalDataRest.CONTENT_RANGE, response.getHeaderString(GlobalDataRest.CONTENT_RANGE));
+                return new VitamAsyncInputStreamResponse(response, Status.PARTIAL_CONTENT, headers);
+            }
             return new VitamAsyncInputStreamResponse(response, Status.OK, headers);
         } catch (StorageUnavailableDataFromAsyncOfferClientException e) {
             throw new AccessInternalUnavailableDataFromAsyncOfferException(
@@ -34,8 +34,10 @@ import fr.gouv.vitam.access.internal.common.exception.AccessInternalExecutionExc
 import fr.gouv.vitam.access.internal.common.exception.AccessInternalIllegalOperationException;
 import fr.gouv.vitam.access.internal.common.exception.AccessInternalRuleExecutionException;
 import fr.gouv.vitam.access.internal.common.exception.AccessInternalUnavailableDataFromAsyncOfferException;
+import fr.gouv.vitam.common.GlobalDataRest;
 import fr.gouv.vitam.common.PropertiesUtils;
 import fr.gouv.vitam.common.VitamConfiguration;
+import fr.gouv.vitam.common.accesslog.AccessLogInfoModel;
 import fr.gouv.vitam.common.client.VitamClientFactory;
 import fr.gouv.vitam.common.collection.CloseableIterator;
 import fr.gouv.vitam.common.collection.CloseableIteratorUtils;
@@ -51,6 +53,7 @@ import fr.gouv.vitam.common.exception.InvalidParseOperationException;
 import fr.gouv.vitam.common.exception.UpdatePermissionException;
 import fr.gouv.vitam.common.json.JsonHandler;
 import fr.gouv.vitam.common.junit.JunitHelper;
+import fr.gouv.vitam.common.model.ByteRange;
 import fr.gouv.vitam.common.model.RequestResponse;
 import fr.gouv.vitam.common.model.RequestResponseOK;
 import fr.gouv.vitam.common.model.administration.AccessContractModel;
@@ -130,6 +133,7 @@ import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.ArgumentMatchers.nullable;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
@@ -1059,9 +1063,15 @@ public class AccessInternalModuleImplTest {
         when(responseMock.readEntity(InputStream.class)).thenReturn(
             new ByteArrayInputStream(FAKE_METADATA_RESULT.getBytes())
         );
-        when(storageClient.getContainerAsync(eq(idStrategy), eq(idObject), eq(DataCategory.OBJECT), any())).thenReturn(
-            responseMock
-        );
+        when(
+            storageClient.getContainerAsync(
+                eq(idStrategy),
+                eq(idObject),
+                eq(DataCategory.OBJECT),
+                any(),
+                nullable(ByteRange.class)
+            )
+        ).thenReturn(responseMock);
 
         // When
         Response reponseFinal = accessModuleImpl.getOneObjectFromObjectGroup(idObjectGroup, "BinaryMaster", 1, idUnit);
@@ -1076,6 +1086,73 @@ public class AccessInternalModuleImplTest {
         assertArrayEquals(output.toByteArray(), IOUtils.toByteArray(stream2));
     }
 
+    @Test
+    @RunWithCustomExecutor
+    public void testGetOneObjectRangeFromObjectGroup_OK() throws Exception {
+        // Given
+        String idStrategy = VitamConfiguration.getDefaultStrategy();
+        String idObjectGroup = "aebaaaaaaabgthlqabqgsalltyqvytqaaaaq";
+        String idObject = "aeaaaaaaaabgthlqabqgsalltyqvyuaaaaaq";
+
+        VitamThreadUtils.getVitamSession().setTenantId(TENANT_ID);
+        setAccessLogInfoInVitamSession();
+        when(metaDataClient.selectObjectGrouptbyId(any(), any())).thenReturn(metadataObjectGroupResponse);
+
+        final Response responseMock = mock(Response.class);
+        when(responseMock.getStatus()).thenReturn(Status.PARTIAL_CONTENT.getStatusCode());
+        when(responseMock.getHeaderString(GlobalDataRest.CONTENT_RANGE)).thenReturn("bytes 100546-100645/100646");
+        when(responseMock.readEntity(InputStream.class)).thenReturn(new ByteArrayInputStream(new byte[100]));
+        ArgumentCaptor<AccessLogInfoModel> logInfoCaptor = ArgumentCaptor.forClass(AccessLogInfoModel.class);
+        when(
+            storageClient.getContainerAsync(
+                eq(idStrategy),
+                eq(idObject),
+                eq(DataCategory.OBJECT),
+                logInfoCaptor.capture(),
+                eq(ByteRange.of(100546, 100645))
+            )
+        ).thenReturn(responseMock);
+
+        // When
+        Response reponseFinal = accessModuleImpl.getOneObjectFromObjectGroup(
+            idObjectGroup,
+            "BinaryMaster",
+            1,
+            "unit0",
+            ByteRange.suffix(100)
+        );
+
+        // Then
+        assertThat(reponseFinal.getStatus()).isEqualTo(Status.PARTIAL_CONTENT.getStatusCode());
+        assertThat(reponseFinal.getHeaderString(GlobalDataRest.CONTENT_RANGE)).isEqualTo("bytes 100546-100645/100646");
+        assertThat(reponseFinal.getHeaderString(GlobalDataRest.ACCEPT_RANGES)).isEqualTo("bytes");
+        assertThat(logInfoCaptor.getValue().getSize()).isEqualTo(100L);
+        assertThat(logInfoCaptor.getValue().getRange()).isEqualTo("bytes=100546-100645");
+    }
+
+    @Test
+    @RunWithCustomExecutor
+    public void testGetOneObjectRangeFromObjectGroupNotSatisfiable() throws Exception {
+        // Given
+        VitamThreadUtils.getVitamSession().setTenantId(TENANT_ID);
+        setAccessLogInfoInVitamSession();
+        when(metaDataClient.selectObjectGrouptbyId(any(), any())).thenReturn(metadataObjectGroupResponse);
+
+        // When
+        Response reponseFinal = accessModuleImpl.getOneObjectFromObjectGroup(
+            "aebaaaaaaabgthlqabqgsalltyqvytqaaaaq",
+            "BinaryMaster",
+            1,
+            "unit0",
+            ByteRange.from(100646)
+        );
+
+        // Then
+        assertThat(reponseFinal.getStatus()).isEqualTo(Status.REQUESTED_RANGE_NOT_SATISFIABLE.getStatusCode());
+        assertThat(reponseFinal.getHeaderString(GlobalDataRest.CONTENT_RANGE)).isEqualTo("bytes */100646");
+        verifyNoMoreInteractions(storageClient);
+    }
+
     @Test
     @RunWithCustomExecutor
     public void testGetOneObjectFromObjectGroupOfUnavailableObjectFromAsynContainerThenException() throws Exception {
@@ -1091,7 +1168,13 @@ public class AccessInternalModuleImplTest {
 
         doThrow(new StorageUnavailableDataFromAsyncOfferClientException("unavailable"))
             .when(storageClient)
-            .getContainerAsync(eq(idStrategy), eq(idObject), eq(DataCategory.OBJECT), any());
+            .getContainerAsync(
+                eq(idStrategy),
+                eq(idObject),
+                eq(DataCategory.OBJECT),
+                any(),
+                nullable(ByteRange.class)
+            );
 
         // When / Then
         assertThatThrownBy(
@@ -1116,9 +1199,15 @@ public class AccessInternalModuleImplTest {
         when(responseMock.readEntity(InputStream.class)).thenReturn(
             new ByteArrayInputStream(FAKE_METADATA_RESULT.getBytes())
         );
-        when(storageClient.getContainerAsync(eq(idStrategy), eq(idObject), eq(DataCategory.OBJECT), any())).thenReturn(
-            responseMock
-        );
+        when(
+            storageClient.getContainerAsync(
+                eq(idStrategy),
+                eq(idObject),
+                eq(DataCategory.OBJECT),
+                any(),
+                nullable(ByteRange.class)
+            )
+        ).thenReturn(responseMock);
 
         // When
         Response reponseFinal = accessModuleImpl.getOneObjectFromObjectGroup(idObjectGroup, "Dissemination", 1, idUnit);
@@ -1146,7 +1235,15 @@ public class AccessInternalModuleImplTest {
         setAccessLogInfoInVitamSession();
         when(metaDataClient.selectObjectGrouptbyId(any(), any())).thenReturn(metadataObjectGroupResponse);
 
-        when(storageClient.getContainerAsync(eq(idStrategy), eq(idObject), eq(DataCategory.OBJECT), any())).thenThrow(
+        when(
+            storageClient.getContainerAsync(
+                eq(idStrategy),
+                eq(idObject),
+                eq(DataCategory.OBJECT),
+                any(),
+                nullable(ByteRange.class)
+            )
+        ).thenThrow(
             new StorageNotFoundException("strategy invalid")
         );
 
@@ -1168,7 +1265,9 @@ public class AccessInternalModuleImplTest {
         when(responseMock.readEntity(InputStream.class)).thenReturn(
             PropertiesUtils.getResourceAsStream(REAL_DATA_RESULT_PATH)
         );
-        when(storageClient.getContainerAsync(any(), any(), any(), any())).thenReturn(responseMock);
+        when(storageClient.getContainerAsync(any(), any(), any(), any(), nullable(ByteRange.class))).thenReturn(
+            responseMock
+        );
         Response reponseFinal = accessModuleImpl.getOneObjectFromObjectGroup(ID, "BinaryMaster", 0, "unit0");
 
         assertNotNull(reponseFinal);
@@ -1220,7 +1319,9 @@ public class AccessInternalModuleImplTest {
         when(responseMock.readEntity(InputStream.class)).thenReturn(
             PropertiesUtils.getResourceAsStream(REAL_DATA_RESULT_MULTI_PATH)
         );
-        when(storageClient.getContainerAsync(isNull(), any(), any(), any())).thenReturn(responseMock);
+        when(storageClient.getContainerAsync(isNull(), any(), any(), any(), nullable(ByteRange.class))).thenReturn(
+            responseMock
+        );
         Response reponseFinal = accessModuleImpl.getOneObjectFromObjectGroup(ID, "Thumbnail", 0, "unit0");
         assertNotNull(reponseFinal);
 
@@ -1275,7 +1376,9 @@ public class AccessInternalModuleImplTest {
         when(responseMock.readEntity(InputStream.class)).thenReturn(
             new ByteArrayInputStream(FAKE_METADATA_RESULT.getBytes())
         );
-        when(storageClient.getContainerAsync(any(), any(), any(), any())).thenReturn(responseMock);
+        when(storageClient.getContainerAsync(any(), any(), any(), any(), nullable(ByteRange.class))).thenReturn(
+            responseMock
+        );
         Response response = accessModuleImpl.getOneObjectFromObjectGroup(ID, "BinaryMaster", 0, "unit0");
         assertNotNull(response);
     }
@@ -1292,7 +1395,9 @@ public class AccessInternalModuleImplTest {
         when(responseMock.readEntity(InputStream.class)).thenReturn(
             new ByteArrayInputStream(FAKE_METADATA_MULTIPLE_RESULT.getBytes())
         );
-        when(storageClient.getContainerAsync(any(), any(), any(), any())).thenReturn(responseMock);
+        when(storageClient.getContainerAsync(any(), any(), any(), any(), nullable(ByteRange.class))).thenReturn(
+            responseMock
+        );
         Response response = accessModuleImpl.getOneObjectFromObjectGroup(ID, "BinaryMaster", 0, "unit0");
         assertNotNull(response);
     }
@@ -1313,7 +1418,7 @@ public class AccessInternalModuleImplTest {
         VitamThreadUtils.getVitamSession().setTenantId(TENANT_ID);
         setAccessLogInfoInVitamSession();
         when(metaDataClient.selectObjectGrouptbyId(any(), any())).thenReturn(fromStringToJson(FAKE_METADATA_RESULT));
-        when(storageClient.getContainerAsync(any(), any(), any(), any())).thenThrow(
+        when(storageClient.getContainerAsync(any(), any(), any(), any(), nullable(ByteRange.class))).thenThrow(
             new StorageServerClientException("Test wanted exception")
         );
         assertThatThrownBy(
@@ -76,6 +76,7 @@ import fr.gouv.vitam.common.mapping.dip.ArchiveUnitMapper;
 import fr.gouv.vitam.common.mapping.dip.DipService;
 import fr.gouv.vitam.common.mapping.dip.ObjectGroupMapper;
 import fr.gouv.vitam.common.mapping.dip.UnitDipServiceImpl;
+import fr.gouv.vitam.common.model.ByteRange;
 import fr.gouv.vitam.common.model.DeleteGotVersionsRequest;
 import fr.gouv.vitam.common.model.ItemStatus;
 import fr.gouv.vitam.common.model.PreservationRequest;
@@ -1194,9 +1195,10 @@ public class AccessInternalResourceImpl extends ApplicationStatusResource implem
         final String xQualifier = multipleMap.get(GlobalDataRest.X_QUALIFIER).get(0);
         final String xVersion = multipleMap.get(GlobalDataRest.X_VERSION).get(0);
         final int version = Integer.parseInt(xVersion);
+        final ByteRange range = ByteRange.parse(multipleMap.getFirst(GlobalDataRest.RANGE)).orElse(null);
 
         try {
-            return accessModule.getOneObjectFromObjectGroup(idObjectGroup, xQualifier, version, idUnit);
+            return accessModule.getOneObjectFromObjectGroup(idObjectGroup, xQualifier, version, idUnit, range);
         } catch (final InvalidParseOperationException | IllegalArgumentException exc) {
             LOGGER.error(exc);
             return Response.status(Status.PRECONDITION_FAILED)
@@ -53,6 +53,7 @@ import fr.gouv.vitam.common.mapping.deserializer.IdentifierTypeDeserializer;
 import fr.gouv.vitam.common.mapping.deserializer.LevelTypeDeserializer;
 import fr.gouv.vitam.common.mapping.deserializer.OrganizationDescriptiveMetadataTypeDeserializer;
 import fr.gouv.vitam.common.mapping.deserializer.TextByLangDeserializer;
+import fr.gouv.vitam.common.model.ByteRange;
 import fr.gouv.vitam.common.model.RequestResponseOK;
 import fr.gouv.vitam.common.model.administration.AccessContractModel;
 import fr.gouv.vitam.common.model.storage.AccessRequestReference;
@@ -122,6 +123,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.ArgumentMatchers.nullable;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
@@ -770,7 +772,7 @@ public class AccessInternalResourceImplTest extends ResteasyTestApplication {
         when(metaDataClient.selectObjectGrouptbyId(any(), anyString())).thenReturn(
             new MetaDataClientMock().selectObjectGrouptbyId(JsonHandler.createObjectNode(), "id")
         );
-        when(storageClient.getContainerAsync(isNull(), isNull(), any(), any())).thenThrow(
+        when(storageClient.getContainerAsync(isNull(), isNull(), any(), any(), nullable(ByteRange.class))).thenThrow(
             new StorageNotFoundException("test")
         );
 
@@ -794,7 +796,7 @@ public class AccessInternalResourceImplTest extends ResteasyTestApplication {
         when(metaDataClient.selectObjectGrouptbyId(any(), anyString())).thenReturn(
             new MetaDataClientMock().selectObjectGrouptbyId(JsonHandler.createObjectNode(), "id")
         );
-        when(storageClient.getContainerAsync(isNull(), isNull(), any(), any())).thenThrow(
+        when(storageClient.getContainerAsync(isNull(), isNull(), any(), any(), nullable(ByteRange.class))).thenThrow(
             new StorageUnavailableDataFromAsyncOfferClientException("test")
         );
 
@@ -279,7 +279,7 @@ public class BatchReportResource extends ApplicationStatusResource {
         try {
             batchReportServiceImpl.storeFileToWorkspace(reportInfo);
             return Response.status(OK).build();
-        } catch (InvalidParseOperationException | IllegalArgumentException | IllegalPathException e) {
+        } catch (InvalidParseOperationException | IllegalArgumentException e) {
             return Response.status(Response.Status.BAD_REQUEST).entity(e.getMessage()).build();
         } catch (ContentAddressableStorageServerException | IOException e) {
             return Response.status(Response.Status.INTERNAL_SERVER_ERROR).entity(e.getMessage()).build();
@@ -42,6 +42,7 @@ import fr.gouv.vitam.batch.report.model.Report;
 import fr.gouv.vitam.batch.report.model.ReportExportRequest;
 import fr.gouv.vitam.batch.report.model.ReportResults;
 import fr.gouv.vitam.batch.report.model.ReportSummary;
+import fr.gouv.vitam.batch.report.model.ReportType;
 import fr.gouv.vitam.batch.report.model.TraceabilityObjectModel;
 import fr.gouv.vitam.batch.report.model.TransferReplyUnitModel;
 import fr.gouv.vitam.batch.report.model.UnitComputedInheritedRulesInvalidationModel;
@@ -84,12 +85,15 @@ import fr.gouv.vitam.common.logging.VitamLoggerFactory;
 import fr.gouv.vitam.common.model.ExtractedMetadata;
 import fr.gouv.vitam.common.security.IllegalPathException;
 import fr.gouv.vitam.common.security.SafeFileChecker;
+import fr.gouv.vitam.common.thread.VitamThreadPoolExecutor;
 import fr.gouv.vitam.worker.core.distribution.JsonLineModel;
 import fr.gouv.vitam.worker.core.distribution.JsonLineWriter;
 import fr.gouv.vitam.workspace.api.exception.ContentAddressableStorageServerException;
 import fr.gouv.vitam.workspace.client.WorkspaceClient;
 import fr.gouv.vitam.workspace.client.WorkspaceClientFactory;
 import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.io.input.ProxyInputStream;
 import org.apache.commons.lang3.StringUtils;
 import org.bson.Document;
 
@@ -99,12 +103,18 @@ import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
 import java.io.OutputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import java.util.function.BiFunction;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import static fr.gouv.vitam.batch.report.model.PurgeAccessionRegisterModel.OPI;
@@ -388,14 +398,6 @@ public class BatchReportServiceImpl {
         }
     }
 
-    private void writeDocumentsInFile(JsonLineWriter reportWriter, MongoCursor<Document> documentsIterator)
-        throws IOException {
-        while (documentsIterator.hasNext()) {
-            Document document = documentsIterator.next();
-            reportWriter.addEntry(document);
-        }
-    }
-
     private JsonNode getExtendedInfo(Report reportInfo) throws InvalidParseOperationException {
         switch (reportInfo.getReportSummary().getReportType()) {
             case PRESERVATION:
@@ -459,7 +461,7 @@ public class BatchReportServiceImpl {
     }
 
     public void storeFileToWorkspace(Report reportInfo)
-        throws IOException, ContentAddressableStorageServerException, InvalidParseOperationException, IllegalPathException {
+        throws IOException, ContentAddressableStorageServerException, InvalidParseOperationException {
         OperationSummary operationSummary = reportInfo.getOperationSummary();
         String processId = operationSummary.getEvId();
         int tenantId = operationSummary.getTenant();
@@ -468,117 +470,150 @@ public class BatchReportServiceImpl {
         reportSummary.setExtendedInfo(getExtendedInfo(reportInfo));
         reportSummary.setVitamResults(getReportResults(reportInfo));
 
-        File tempReport = createTemporaryFile(processId, REPORT_JSONL);
+        List<Supplier<MongoCursor<Document>>> reportSections = getReportSections(
+            reportSummary.getReportType(),
+            processId,
+            tenantId
+        );
 
-        try (JsonLineWriter reportWriter = new JsonLineWriter(new FileOutputStream(tempReport))) {
+        streamToWorkspace(processId, REPORT_JSONL, VitamConfiguration.isBatchReportCompression(), reportWriter -> {
             reportWriter.addEntry(operationSummary);
             reportWriter.addEntry(reportSummary);
             reportWriter.addEntry(reportInfo.getContext());
 
-            switch (reportSummary.getReportType()) {
-                case ELIMINATION_ACTION: {
-                    // ELIMINATION_ACTION report will contain :
-                    // - ELIMINATION_ACTION_UNIT entries
-                    // - PURGE_UNIT entries
-                    // - PURGE_OBJECTGROUP entries
-                    MongoCursor<Document> eliminationArchiveUnitIterator =
-                        eliminationActionUnitRepository.findCollectionByProcessIdTenant(processId, tenantId);
-                    writeDocumentsInFile(reportWriter, eliminationArchiveUnitIterator);
-
-                    MongoCursor<Document> purgeUnitIterator = purgeUnitRepository.findCollectionByProcessIdTenant(
-                        processId,
-                        tenantId
-                    );
-                    writeDocumentsInFile(reportWriter, purgeUnitIterator);
-
-                    MongoCursor<Document> objectGroupIterator =
-                        purgeObjectGroupRepository.findCollectionByProcessIdTenant(processId, tenantId);
-                    writeDocumentsInFile(reportWriter, objectGroupIterator);
-                    break;
-                }
-                case TRANSFER_REPLY: {
-                    // TRANSFER_REPLY report will contain :
-                    // - TRANSFER_REPLY_UNIT entries
-                    // - PURGE_UNIT entries
-                    // - PURGE_OBJECTGROUP entries
-                    MongoCursor<Document> transferReplyUnitIterator =
-                        transferReplyUnitRepository.findCollectionByProcessIdTenant(processId, tenantId);
-                    writeDocumentsInFile(reportWriter, transferReplyUnitIterator);
-
-                    MongoCursor<Document> purgeUnitIterator = purgeUnitRepository.findCollectionByProcessIdTenant(
-                        processId,
-                        tenantId
-                    );
-                    writeDocumentsInFile(reportWriter, purgeUnitIterator);
+            try (
+                ParallelReportSectionReader sectionReader = new ParallelReportSectionReader(
+                    reportSections,
+                    VitamThreadPoolExecutor.getDefaultExecutor(),
+                    VitamConfiguration.getBatchSize()
+                )
+            ) {
+                sectionReader.writeTo(reportWriter);
+            }
+        });
+    }
 
-                    MongoCursor<Document> objectGroupIterator =
-                        purgeObjectGroupRepository.findCollectionByProcessIdTenant(processId, tenantId);
-                    writeDocumentsInFile(reportWriter, objectGroupIterator);
-                    break;
-                }
-                case PRESERVATION:
-                    MongoCursor<Document> preservationIterator =
-                        preservationReportRepository.findCollectionByProcessIdTenant(processId, tenantId);
-                    writeDocumentsInFile(reportWriter, preservationIterator);
-                    break;
-                case AUDIT:
-                    MongoCursor<Document> auditIterator =
+    private List<Supplier<MongoCursor<Document>>> getReportSections(
+        ReportType reportType,
+        String processId,
+        int tenantId
+    ) {
+        switch (reportType) {
+            case ELIMINATION_ACTION:
+                // ELIMINATION_ACTION report will contain :
+                // - ELIMINATION_ACTION_UNIT entries
+                // - PURGE_UNIT entries
+                // - PURGE_OBJECTGROUP entries
+                return List.of(
+                    () -> eliminationActionUnitRepository.findCollectionByProcessIdTenant(processId, tenantId),
+                    () -> purgeUnitRepository.findCollectionByProcessIdTenant(processId, tenantId),
+                    () -> purgeObjectGroupRepository.findCollectionByProcessIdTenant(processId, tenantId)
+                );
+            case TRANSFER_REPLY:
+                // TRANSFER_REPLY report will contain :
+                // - TRANSFER_REPLY_UNIT entries
+                // - PURGE_UNIT entries
+                // - PURGE_OBJECTGROUP entries
+                return List.of(
+                    () -> transferReplyUnitRepository.findCollectionByProcessIdTenant(processId, tenantId),
+                    () -> purgeUnitRepository.findCollectionByProcessIdTenant(processId, tenantId),
+                    () -> purgeObjectGroupRepository.findCollectionByProcessIdTenant(processId, tenantId)
+                );
+            case PRESERVATION:
+                return List.of(() -> preservationReportRepository.findCollectionByProcessIdTenant(processId, tenantId));
+            case AUDIT:
+                return List.of(
+                    () ->
                         auditReportRepository.findCollectionByProcessIdTenantAndStatus(
                             processId,
                             tenantId,
                             "WARNING",
                             "KO"
-                        );
-                    writeDocumentsInFile(reportWriter, auditIterator);
-                    break;
-                case EVIDENCE_AUDIT:
-                    MongoCursor<Document> evidenceAuditIterator =
+                        )
+                );
+            case EVIDENCE_AUDIT:
+                return List.of(
+                    () ->
                         evidenceAuditReportRepository.findCollectionByProcessIdTenantAndStatus(
                             processId,
                             tenantId,
                             EvidenceStatus.WARN.name(),
                             EvidenceStatus.KO.name()
-                        );
-                    writeDocumentsInFile(reportWriter, evidenceAuditIterator);
-                    break;
-                case TRACEABILITY:
-                    MongoCursor<Document> traceabilityIterator = traceabilityReportRepository.findCollection(
-                        processId,
-                        tenantId
-                    );
-                    writeDocumentsInFile(reportWriter, traceabilityIterator);
-                    break;
-                case UPDATE_UNIT:
-                    MongoCursor<Document> updates = updateUnitReportRepository.findCollectionByProcessIdTenant(
-                        processId,
-                        tenantId
-                    );
-                    writeDocumentsInFile(reportWriter, updates);
-                    break;
-                case BULK_UPDATE_UNIT:
-                    MongoCursor<Document> bulkUpdates =
-                        bulkUpdateUnitMetadataReportRepository.findCollectionByProcessIdTenant(processId, tenantId);
-                    writeDocumentsInFile(reportWriter, bulkUpdates);
-                    break;
-                case DELETE_GOT_VERSIONS:
-                    MongoCursor<Document> deleteGotVersionsIterator =
-                        deleteGotVersionsReportRepository.findCollectionByProcessIdTenant(processId, tenantId);
-                    writeDocumentsInFile(reportWriter, deleteGotVersionsIterator);
-                    break;
-                default:
-                    throw new UnsupportedOperationException(
-                        String.format("Unsupported report type : '%s'.", reportSummary.getReportType())
-                    );
+                        )
+                );
+            case TRACEABILITY:
+                return List.of(() -> traceabilityReportRepository.findCollection(processId, tenantId));
+            case UPDATE_UNIT:
+                return List.of(() -> updateUnitReportRepository.findCollectionByProcessIdTenant(processId, tenantId));
+            case BULK_UPDATE_UNIT:
+                return List.of(
+                    () -> bulkUpdateUnitMetadataReportRepository.findCollectionByProcessIdTenant(processId, tenantId)
+                );
+            case DELETE_GOT_VERSIONS:
+                return List.of(
+                    () -> deleteGotVersionsReportRepository.findCollectionByProcessIdTenant(processId, tenantId)
+                );
+            default:
+                throw new UnsupportedOperationException(String.format("Unsupported report type : '%s'.", reportType));
+        }
+    }
+
+    /**
+     * Writes content generated by a dedicated thread straight to an atomic workspace object, without temporary file.
+     * The workspace object is only committed if the whole content has been successfully generated.
+     */
+    private void streamToWorkspace(String processId, String name, boolean compress, ReportContent reportContent)
+        throws IOException, ContentAddressableStorageServerException {
+        try (
+            WorkspaceClient workspaceClient = workspaceClientFactory.getClient();
+            PipedInputStream pipedInputStream = new PipedInputStream(VitamConfiguration.getChunkSize())
+        ) {
+            PipedOutputStream pipedOutputStream = new PipedOutputStream(pipedInputStream);
+            Future<Void> contentWriter = VitamThreadPoolExecutor.getDefaultExecutor()
+                .submit(() -> {
+                    try (ReportStreamWriter reportWriter = new ReportStreamWriter(pipedOutputStream, compress)) {
+                        reportContent.writeTo(reportWriter);
+                    }
+                    return null;
+                });
+            try {
+                workspaceClient.putAtomicObject(
+                    processId,
+                    name,
+                    new ProxyInputStream(pipedInputStream) {
+                        @Override
+                        protected void afterRead(int n) throws IOException {
+                            // Aborts the upload (and the atomic write) if content generation failed
+                            if (n == IOUtils.EOF) {
+                                awaitContentWriter(contentWriter);
+                            }
+                        }
+                    }
+                );
+            } finally {
+                // Stops the writer if the workspace did not read the whole content
+                pipedInputStream.close();
             }
+            awaitContentWriter(contentWriter);
         }
+    }
 
+    private static void awaitContentWriter(Future<Void> contentWriter) throws IOException {
         try {
-            storeFileToWorkspace(processId, REPORT_JSONL, tempReport);
-        } finally {
-            deleteQuietly(tempReport.getParentFile());
+            contentWriter.get();
+        } catch (ExecutionException e) {
+            throw new IOException("Could not generate report", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while generating report");
         }
     }
 
+    @FunctionalInterface
+    private interface ReportContent {
+        void writeTo(ReportStreamWriter reportWriter) throws IOException;
+    }
+
     public List<DeleteGotVersionsComputedDetails> readDeletedGotVersionsComputedDetailsFromReport(
         String processId,
         int tenantId
@@ -0,0 +1,143 @@
+/*
+ * Copyright French Prime minister Office/SGMAP/DINSIC/Vitam Program (2015-2022)
+ *
+ * contact.vitam@culture.gouv.fr
+ *
+ * This software is a computer program whose purpose is to implement a digital archiving back-office system managing
+ * high volumetry securely and efficiently.
+ *
+ * This software is governed by the CeCILL 2.1 license under French law and abiding by the rules of distribution of free
+ * software. You can use, modify and/ or redistribute the software under the terms of the CeCILL 2.1 license as
+ * circulated by CEA, CNRS and INRIA at the following URL "https://cecill.info".
+ *
+ * As a counterpart to the access to the source code and rights to copy, modify and redistribute granted by the license,
+ * users are provided only with a limited warranty and the software's author, the holder of the economic rights, and the
+ * successive licensors have only limited liability.
+ *
+ * In this respect, the user's attention is drawn to the risks associated with loading, using, modifying and/or
+ * developing or reproducing the software by the user in light of its specific status of free software, that may mean
+ * that it is complicated to manipulate, and that also therefore means that it is reserved for developers and
+ * experienced professionals having in-depth computer knowledge. Users are therefore encouraged to load and test the
+ * software's suitability as regards their requirements in conditions enabling the security of their systems and/or data
+ * to be ensured and, more generally, to use and operate it in the same conditions as regards security.
+ *
+ * The fact that you are presently reading this means that you have had knowledge of the CeCILL 2.1 license and that you
+ * accept its terms.
+ */
+package fr.gouv.vitam.batch.report.rest.service;
+
+import com.mongodb.client.MongoCursor;
+import fr.gouv.vitam.common.database.server.mongodb.BsonHelper;
+import org.bson.Document;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Reads the sections (mongo cursors) of a batch report concurrently, and writes their json encoded documents in the
+ * declared section order. Each section is prefetched into a bounded queue, so that a slow section does not stall the
+ * others, while keeping memory usage bounded.
+ */
+class ParallelReportSectionReader implements AutoCloseable {
+
+    private static final byte[] END_OF_SECTION = new byte[0];
+    private static final long POLL_TIMEOUT_IN_MILLIS = 1000L;
+
+    private final List<Section> sections = new ArrayList<>();
+
+    ParallelReportSectionReader(
+        List<Supplier<MongoCursor<Document>>> cursorSuppliers,
+        ExecutorService executorService,
+        int prefetchSize
+    ) {
+        for (Supplier<MongoCursor<Document>> cursorSupplier : cursorSuppliers) {
+            BlockingQueue<byte[]> queue = new ArrayBlockingQueue<>(prefetchSize);
+            Future<Void> future = executorService.submit(() -> fill(cursorSupplier, queue));
+            sections.add(new Section(queue, future));
+        }
+    }
+
+    private static Void fill(Supplier<MongoCursor<Document>> cursorSupplier, BlockingQueue<byte[]> queue)
+        throws InterruptedException {
+        try (MongoCursor<Document> cursor = cursorSupplier.get()) {
+            while (cursor.hasNext()) {
+                queue.put(BsonHelper.toJsonBytes(cursor.next()));
+            }
+        }
+        queue.put(END_OF_SECTION);
+        return null;
+    }
+
+    /**
+     * Writes all entries of all sections, in section order
+     *
+     * @param reportWriter target writer
+     * @throws IOException on write error, or if a section could not be read
+     */
+    void writeTo(ReportStreamWriter reportWriter) throws IOException {
+        for (Section section : sections) {
+            byte[] entry;
+            while ((entry = section.take()) != END_OF_SECTION) {
+                reportWriter.addEntry(entry);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        // Stops prefetching of unread sections (no-op on completed ones)
+        for (Section section : sections) {
+            section.future.cancel(true);
+        }
+    }
+
+    private static class Section {
+
+        private final BlockingQueue<byte[]> queue;
+        private final Future<Void> future;
+
+        private Section(BlockingQueue<byte[]> queue, Future<Void> future) {
+            this.queue = queue;
+            this.future = future;
+        }
+
+        private byte[] take() throws IOException {
+            try {
+                while (true) {
+                    byte[] entry = queue.poll(POLL_TIMEOUT_IN_MILLIS, TimeUnit.MILLISECONDS);
+                    if (entry != null) {
+                        return entry;
+                    }
+                    // Section task ended without end of section marker : cursor failure
+                    if (future.isDone() && queue.isEmpty()) {
+                        throw new IOException("Could not read report section", getFailure());
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while reading report section");
+            }
+        }
+
+        private Throwable getFailure() throws InterruptedException {
+            try {
+                future.get();
+                return null;
+            } catch (ExecutionException e) {
+                return e.getCause();
+            } catch (CancellationException e) {
+                return e;
+            }
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright French Prime minister Office/SGMAP/DINSIC/Vitam Program (2015-2022)
+ *
+ * contact.vitam@culture.gouv.fr
+ *
+ * This software is a computer program whose purpose is to implement a digital archiving back-office system managing
+ * high volumetry securely and efficiently.
+ *
+ * This software is governed by the CeCILL 2.1 license under French law and abiding by the rules of distribution of free
+ * software. You can use, modify and/ or redistribute the software under the terms of the CeCILL 2.1 license as
+ * circulated by CEA, CNRS and INRIA at the following URL "https://cecill.info".
+ *
+ * As a counterpart to the access to the source code and rights to copy, modify and redistribute granted by the license,
+ * users are provided only with a limited warranty and the software's author, the holder of the economic rights, and the
+ * successive licensors have only limited liability.
+ *
+ * In this respect, the user's attention is drawn to the risks associated with loading, using, modifying and/or
+ * developing or reproducing the software by the user in light of its specific status of free software, that may mean
+ * that it is complicated to manipulate, and that also therefore means that it is reserved for developers and
+ * experienced professionals having in-depth computer knowledge. Users are therefore encouraged to load and test the
+ * software's suitability as regards their requirements in conditions enabling the security of their systems and/or data
+ * to be ensured and, more generally, to use and operate it in the same conditions as regards security.
+ *
+ * The fact that you are presently reading this means that you have had knowledge of the CeCILL 2.1 license and that you
+ * accept its terms.
+ */
+package fr.gouv.vitam.batch.report.rest.service;
+
+import fr.gouv.vitam.common.json.JsonHandler;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Json line writer of batch reports, writing UTF-8 encoded entries straight to an output stream (optionally gzip
+ * compressed). Entries are separated by a line feed, without trailing line feed (same as JsonLineWriter).
+ */
+class ReportStreamWriter implements AutoCloseable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int LINE_FEED = '\n';
+
+    private final OutputStream outputStream;
+    private boolean isEmpty = true;
+
+    ReportStreamWriter(OutputStream outputStream, boolean compress) throws IOException {
+        this.outputStream = new BufferedOutputStream(
+            compress ? new GZIPOutputStream(outputStream, BUFFER_SIZE) : outputStream,
+            BUFFER_SIZE
+        );
+    }
+
+    void addEntry(Object entry) throws IOException {
+        addEntry(JsonHandler.unprettyPrint(entry).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param jsonEntry already serialized (unpretty printed) json entry
+     */
+    void addEntry(byte[] jsonEntry) throws IOException {
+        if (!isEmpty) {
+            outputStream.write(LINE_FEED);
+        }
+        isEmpty = false;
+        outputStream.write(jsonEntry);
+    }
+
+    @Override
+    public void close() throws IOException {
+        outputStream.close();
+    }
+}
@@ -66,6 +66,7 @@ import fr.gouv.vitam.batch.report.rest.repository.TransferReplyUnitRepository;
 import fr.gouv.vitam.batch.report.rest.repository.UnitComputedInheritedRulesInvalidationRepository;
 import fr.gouv.vitam.batch.report.rest.repository.UpdateUnitReportRepository;
 import fr.gouv.vitam.common.PropertiesUtils;
+import fr.gouv.vitam.common.VitamConfiguration;
 import fr.gouv.vitam.common.collection.CloseableIteratorUtils;
 import fr.gouv.vitam.common.database.server.mongodb.BsonHelper;
 import fr.gouv.vitam.common.database.server.mongodb.EmptyMongoCursor;
@@ -92,6 +93,7 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
+import org.mockito.stubbing.Answer;
 
 import java.io.BufferedReader;
 import java.io.File;
@@ -109,6 +111,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
 
 import static fr.gouv.vitam.batch.report.model.entry.PreservationReportEntry.ACTION;
 import static fr.gouv.vitam.batch.report.model.entry.PreservationReportEntry.ANALYSE_RESULT;
@@ -129,10 +132,12 @@ import static fr.gouv.vitam.common.model.StatusCode.WARNING;
 import static fr.gouv.vitam.common.model.administration.ActionTypePreservation.ANALYSE;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
@@ -529,6 +534,106 @@ public class BatchReportServiceImplTest {
         );
     }
 
+    @Test
+    public void should_store_compressed_elimination_report() throws Exception {
+        // Given
+        when(workspaceClientFactory.getClient()).thenReturn(workspaceClient);
+
+        Path report = initialisePathWithFileName("report.jsonl");
+        initialiseMockWhenPutAtomicObjectInWorkspace(report);
+
+        when(eliminationActionUnitRepository.findCollectionByProcessIdTenant(PROCESS_ID, TENANT_ID)).thenReturn(
+            new FakeMongoCursor<>(getDocuments("eliminationAction_nonEliminableUnits.json"))
+        );
+        when(purgeUnitRepository.findCollectionByProcessIdTenant(PROCESS_ID, TENANT_ID)).thenReturn(
+            new FakeMongoCursor<>(getDocuments("eliminationAction_unitPurge.json"))
+        );
+        when(purgeObjectGroupRepository.findCollectionByProcessIdTenant(PROCESS_ID, TENANT_ID)).thenReturn(
+            new FakeMongoCursor<>(getDocuments("eliminationAction_objectGroupPurge.json"))
+        );
+
+        Report reportInfo = new Report(
+            new OperationSummary(
+                TENANT_ID,
+                PROCESS_ID,
+                "",
+                "",
+                "",
+                "",
+                JsonHandler.createObjectNode(),
+                JsonHandler.createObjectNode()
+            ),
+            new ReportSummary(
+                null,
+                null,
+                ReportType.ELIMINATION_ACTION,
+                new ReportResults(1, 0, 0),
+                JsonHandler.createObjectNode()
+            ),
+            JsonHandler.createObjectNode()
+        );
+
+        // When
+        VitamConfiguration.setBatchReportCompression(true);
+        try {
+            batchReportServiceImpl.storeFileToWorkspace(reportInfo);
+        } finally {
+            VitamConfiguration.setBatchReportCompression(false);
+        }
+
+        // Then
+        verify(workspaceClient).putAtomicObject(eq(PROCESS_ID), eq("report.jsonl"), any(InputStream.class));
+        assertJsonlReportsEqual(
+            new GZIPInputStream(new FileInputStream(report.toFile())),
+            PropertiesUtils.getResourceAsStream("eliminationAction_expectedReport.jsonl")
+        );
+    }
+
+    @Test
+    public void should_not_store_report_when_section_cannot_be_read() throws Exception {
+        // Given
+        when(workspaceClientFactory.getClient()).thenReturn(workspaceClient);
+
+        Path report = initialisePathWithFileName("report.jsonl");
+        initialiseMockWhenPutAtomicObjectInWorkspace(report);
+
+        when(eliminationActionUnitRepository.findCollectionByProcessIdTenant(PROCESS_ID, TENANT_ID)).thenReturn(
+            new FakeMongoCursor<>(getDocuments("eliminationAction_nonEliminableUnits.json"))
+        );
+        when(purgeUnitRepository.findCollectionByProcessIdTenant(PROCESS_ID, TENANT_ID)).thenThrow(
+            new IllegalStateException("mongo error")
+        );
+        when(purgeObjectGroupRepository.findCollectionByProcessIdTenant(PROCESS_ID, TENANT_ID)).thenReturn(
+            new FakeMongoCursor<>(getDocuments("eliminationAction_objectGroupPurge.json"))
+        );
+
+        Report reportInfo = new Report(
+            new OperationSummary(
+                TENANT_ID,
+                PROCESS_ID,
+                "",
+                "",
+                "",
+                "",
+                JsonHandler.createObjectNode(),
+                JsonHandler.createObjectNode()
+            ),
+            new ReportSummary(
+                null,
+                null,
+                ReportType.ELIMINATION_ACTION,
+                new ReportResults(1, 0, 0),
+                JsonHandler.createObjectNode()
+            ),
+            JsonHandler.createObjectNode()
+        );
+
+        // When / Then : the upload is aborted, so that no truncated report is committed
+        assertThatThrownBy(() -> batchReportServiceImpl.storeFileToWorkspace(reportInfo))
+            .isInstanceOf(IOException.class)
+            .hasStackTraceContaining("mongo error");
+    }
+
     @Test
     public void should_store_transfer_reply_report() throws Exception {
         // Given
@@ -897,12 +1002,14 @@ public class BatchReportServiceImplTest {
 
     private void initialiseMockWhenPutAtomicObjectInWorkspace(Path report)
         throws ContentAddressableStorageServerException {
-        doAnswer(invocation -> {
+        Answer<Void> copyToReport = invocation -> {
             InputStream argumentAt = invocation.getArgument(2);
             Files.copy(argumentAt, report);
             return null;
-        })
+        };
+        doAnswer(copyToReport)
             .when(workspaceClient)
             .putAtomicObject(anyString(), anyString(), any(InputStream.class), anyLong());
+        doAnswer(copyToReport).when(workspaceClient).putAtomicObject(anyString(), anyString(), any(InputStream.class));
     }
 }
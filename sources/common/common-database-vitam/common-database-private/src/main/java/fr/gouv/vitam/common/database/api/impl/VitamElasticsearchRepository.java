@@ -77,8 +77,11 @@ import org.elasticsearch.search.sort.SortOrder;
 import org.elasticsearch.xcontent.XContentType;
 
 import java.io.IOException;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -230,6 +233,27 @@ public class VitamElasticsearchRepository {
 
     public void save(ElasticsearchCollections elasticsearchCollections, List<Document> documents)
         throws DatabaseException {
+        save(elasticsearchCollections, documents, WriteRequest.RefreshPolicy.IMMEDIATE);
+    }
+
+    /**
+     * Bulk index documents without forcing an index refresh. Intended for mass loading (reindexation) of an index
+     * that is not yet searched.
+     *
+     * @param elasticsearchCollections the collection of the documents
+     * @param documents the documents to index
+     * @throws DatabaseException if the bulk request fails
+     */
+    public void saveWithoutRefresh(ElasticsearchCollections elasticsearchCollections, List<Document> documents)
+        throws DatabaseException {
+        save(elasticsearchCollections, documents, WriteRequest.RefreshPolicy.NONE);
+    }
+
+    private void save(
+        ElasticsearchCollections elasticsearchCollections,
+        List<Document> documents,
+        WriteRequest.RefreshPolicy refreshPolicy
+    ) throws DatabaseException {
         ParametersChecker.checkParameter(ALL_PARAMS_REQUIRED, documents);
         BulkRequest bulkRequest = new BulkRequest();
 
@@ -256,7 +280,7 @@ public class VitamElasticsearchRepository {
         if (bulkRequest.numberOfActions() != 0) {
             final BulkResponse bulkResponse;
             try {
-                bulkRequest.setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE);
+                bulkRequest.setRefreshPolicy(refreshPolicy);
                 bulkResponse = client.bulk(bulkRequest, RequestOptions.DEFAULT);
             } catch (IOException e) {
                 throw new DatabaseException(e);
@@ -507,6 +531,46 @@ public class VitamElasticsearchRepository {
         return Optional.empty();
     }
 
+    /**
+     * Multi-get version of {@link #getDocumentById(String)} : looks up a batch of documents in a single request.
+     *
+     * @param ids ids of the documents (at most max_result_window ids)
+     * @return the found documents by id, with their _id field set
+     * @throws DatabaseException
+     */
+    public Map<String, Document> getDocumentsByIds(Collection<String> ids) throws DatabaseException {
+        ParametersChecker.checkParameter(ALL_PARAMS_REQUIRED, ids);
+        Map<String, Document> documents = new HashMap<>();
+        if (ids.isEmpty()) {
+            return documents;
+        }
+
+        SearchSourceBuilder sourceBuilder = new SearchSourceBuilder();
+        sourceBuilder.query(QueryBuilders.termsQuery(ID, ids));
+        sourceBuilder.from(0);
+        sourceBuilder.size(ids.size());
+
+        SearchRequest searchRequest = new SearchRequest();
+        searchRequest.source(sourceBuilder);
+
+        SearchResponse searchResponse;
+        try {
+            searchResponse = client.search(searchRequest, RequestOptions.DEFAULT);
+        } catch (IOException e) {
+            throw new DatabaseException(e);
+        }
+        for (SearchHit hit : searchResponse.getHits().getHits()) {
+            try {
+                Document document = JsonHandler.getFromString(hit.getSourceAsString(), Document.class);
+                document.put(ID, hit.getId());
+                documents.put(hit.getId(), document);
+            } catch (InvalidParseOperationException e) {
+                throw new DatabaseException(e);
+            }
+        }
+        return documents;
+    }
+
     public Optional<Document> findByIdentifierAndTenant(String identifier, Integer tenant) throws DatabaseException {
         ParametersChecker.checkParameter(ALL_PARAMS_REQUIRED, tenant);
 
@@ -31,6 +31,7 @@ import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoCursor;
 import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
 import fr.gouv.vitam.common.logging.VitamLogger;
 import fr.gouv.vitam.common.logging.VitamLoggerFactory;
 import org.bson.BsonTimestamp;
@@ -39,11 +40,10 @@ import org.bson.conversions.Bson;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.function.Predicate;
 
 public class OplogReader {
 
@@ -72,19 +72,78 @@ public class OplogReader {
         this.dataMaxSize = dataMaxSize;
     }
 
-    public Map<String, Document> readDocumentsFromOplogByShardAndCollections(
+    /**
+     * Streams the ids of the documents touched since maxTimeStamp, without keeping the oplog in memory.
+     * Ids are handed to batchConsumer by batches of at most batchSize distinct ids (document id -> collection
+     * namespace). Deduplication is done per batch only, so a document touched in several batches is reported several
+     * times.
+     *
+     * @param collectionsToReadOplog namespaces of the collections to scan
+     * @param maxTimeStamp timestamp of the last oplog entry already scanned, null to scan from the beginning
+     * @param batchSize max number of ids per batch
+     * @param batchConsumer consumer of the batches of touched ids, returning false to stop reading the oplog
+     * @return the timestamp of the most recent oplog entry read, or null if no entry was read
+     */
+    public BsonTimestamp readTouchedDocumentIdsFromOplogByShardAndCollections(
         List<String> collectionsToReadOplog,
-        BsonTimestamp maxTimeStamp
+        BsonTimestamp maxTimeStamp,
+        int batchSize,
+        Predicate<Map<String, String>> batchConsumer
     ) {
-        Map<String, Document> recentlyTouchedDocuments = readOplog(collectionsToReadOplog, maxTimeStamp);
-        mongoClient.close();
-        return recentlyTouchedDocuments;
+        try {
+            return streamOplog(collectionsToReadOplog, maxTimeStamp, batchSize, batchConsumer);
+        } finally {
+            mongoClient.close();
+        }
+    }
+
+    private BsonTimestamp streamOplog(
+        List<String> collectionsToReadOplog,
+        BsonTimestamp maxTimeStamp,
+        int batchSize,
+        Predicate<Map<String, String>> batchConsumer
+    ) {
+        LOGGER.info("Start streaming Oplog");
+        BsonTimestamp maxTimeStampScanned = null;
+        Map<String, String> touchedDocumentIds = new LinkedHashMap<>();
+        MongoCollection<Document> oplogCollection = mongoClient.getDatabase(LOCALDB).getCollection(OPLOG);
+        try (
+            MongoCursor<Document> cursor = oplogCollection
+                .find(getOplogFilter(collectionsToReadOplog, maxTimeStamp))
+                .projection(
+                    Projections.include(
+                        OPERATION_TYPE,
+                        COLLECTION_NAME,
+                        OPERATION_TIME,
+                        FIELD_O + "." + FIELD_ID,
+                        FIELD_O_2 + "." + FIELD_ID
+                    )
+                )
+                .sort(new Document(NATURAL, 1))
+                .limit(dataMaxSize) // use limit(0) to have no limit
+                .batchSize(batchSize)
+                .iterator()
+        ) {
+            while (cursor.hasNext()) {
+                Document document = cursor.next();
+                touchedDocumentIds.put(extractFieldId(document), document.get(COLLECTION_NAME).toString());
+                maxTimeStampScanned = extractFieldTimeStamp(document);
+                if (touchedDocumentIds.size() >= batchSize) {
+                    if (!batchConsumer.test(touchedDocumentIds)) {
+                        LOGGER.info("Oplog streaming stopped by consumer");
+                        return maxTimeStampScanned;
+                    }
+                    touchedDocumentIds = new LinkedHashMap<>();
+                }
+            }
+        }
+        if (!touchedDocumentIds.isEmpty()) {
+            batchConsumer.test(touchedDocumentIds);
+        }
+        return maxTimeStampScanned;
     }
 
-    private Map<String, Document> readOplog(List<String> collectionsToReadOplog, BsonTimestamp maxTimeStamp) {
-        LOGGER.info("Start reading Oplog");
-        Map<String, Document> touchedDocumentsByRecentTime = new HashMap<>();
-        List<Document> opLogList = new ArrayList<>();
+    private static Bson getOplogFilter(List<String> collectionsToReadOplog, BsonTimestamp maxTimeStamp) {
         List<Bson> bsonsFilters = new ArrayList<>();
         bsonsFilters.add(
             Filters.in(OPERATION_TYPE, Arrays.asList(INSERT_OPERATION, UPDATE_OPERATION, DELETE_OPERATION))
@@ -93,38 +152,7 @@ public class OplogReader {
         if (maxTimeStamp != null) {
             bsonsFilters.add(Filters.gt(OPERATION_TIME, maxTimeStamp));
         }
-        Document sort = new Document(NATURAL, 1);
-        Bson filter = Filters.and(bsonsFilters);
-        MongoCollection oplogCollection = mongoClient.getDatabase(LOCALDB).getCollection(OPLOG);
-        MongoCursor<Document> cursor = oplogCollection
-            .find(filter)
-            .sort(sort)
-            .limit(dataMaxSize) // use limit(0) to have no limit
-            .iterator();
-        while (cursor.hasNext()) {
-            populateOplogList(opLogList, cursor.next());
-        }
-
-        touchedDocumentsByRecentTime.putAll(
-            opLogList.stream().collect(Collectors.toMap(OplogReader::extractFieldId, elmt -> elmt))
-        );
-        return touchedDocumentsByRecentTime;
-    }
-
-    private static void populateOplogList(List<Document> opLogList, Document document) {
-        Optional<Document> isAlreadyScannedDoc = opLogList
-            .stream()
-            .filter(elmt -> extractFieldId(elmt).equals(extractFieldId(document)))
-            .findFirst();
-        if (isAlreadyScannedDoc.isPresent()) {
-            if ((extractFieldTimeStamp(document)).compareTo((extractFieldTimeStamp(isAlreadyScannedDoc.get()))) > 0) {
-                // REPLACE WITH RECENT
-                opLogList.remove(isAlreadyScannedDoc.get());
-                opLogList.add(document);
-            }
-        } else {
-            opLogList.add(document);
-        }
+        return Filters.and(bsonsFilters);
     }
 
     private static String extractFieldId(Document elmt) {
@@ -56,6 +56,7 @@ import org.elasticsearch.action.admin.indices.alias.get.GetAliasesRequest;
 import org.elasticsearch.action.admin.indices.delete.DeleteIndexRequest;
 import org.elasticsearch.action.admin.indices.refresh.RefreshRequest;
 import org.elasticsearch.action.admin.indices.refresh.RefreshResponse;
+import org.elasticsearch.action.admin.indices.settings.put.UpdateSettingsRequest;
 import org.elasticsearch.action.bulk.BulkItemResponse;
 import org.elasticsearch.action.bulk.BulkRequest;
 import org.elasticsearch.action.bulk.BulkResponse;
@@ -129,6 +130,8 @@ public class ElasticsearchAccess implements DatabaseConnection {
     public static final String SCROLL_ACTIVATE_KEYWORD = "START";
     private static final String NUMBER_OF_SHARDS = "number_of_shards";
     private static final String NUMBER_OF_REPLICAS = "number_of_replicas";
+    private static final String INDEX_NUMBER_OF_REPLICAS = "index.number_of_replicas";
+    private static final String INDEX_REFRESH_INTERVAL = "index.refresh_interval";
 
     private static final String ES_CONFIGURATION_FILE = "/elasticsearch-configuration.json";
     private final AtomicReference<RestHighLevelClient> esClient = new AtomicReference<>();
@@ -283,6 +286,36 @@ public class ElasticsearchAccess implements DatabaseConnection {
         }
     }
 
+    /**
+     * Update the dynamic replica & refresh settings of an index (typically relaxed during a mass load).
+     *
+     * @param index the index to update
+     * @param replicas the number of replicas
+     * @param refreshInterval the refresh interval ("-1" disables refresh), or null to restore the default one
+     * @throws DatabaseException if the settings could not be updated
+     */
+    public final void updateIndexSettings(ElasticsearchIndexAlias index, int replicas, String refreshInterval)
+        throws DatabaseException {
+        Settings.Builder settings = Settings.builder().put(INDEX_NUMBER_OF_REPLICAS, replicas);
+        if (refreshInterval == null) {
+            settings.putNull(INDEX_REFRESH_INTERVAL);
+        } else {
+            settings.put(INDEX_REFRESH_INTERVAL, refreshInterval);
+        }
+        UpdateSettingsRequest request = new UpdateSettingsRequest(index.getName()).settings(settings);
+        request.timeout(
+            TimeValue.timeValueMillis(VitamConfiguration.getElasticSearchTimeoutWaitRequestInMilliseconds())
+        );
+        try {
+            AcknowledgedResponse response = getClient().indices().putSettings(request, RequestOptions.DEFAULT);
+            if (!response.isAcknowledged()) {
+                throw new DatabaseException("Settings update of index " + index.getName() + " not acknowledged");
+            }
+        } catch (IOException | ElasticsearchException e) {
+            throw new DatabaseException("Could not update settings of index " + index.getName(), e);
+        }
+    }
+
     @VisibleForTesting
     protected void purgeIndexForTesting(ElasticsearchIndexAlias indexAlias, Integer tenantId) throws DatabaseException {
         TermQueryBuilder query = QueryBuilders.termQuery(VitamDocument.TENANT_ID, tenantId);
@@ -377,7 +410,7 @@ public class ElasticsearchAccess implements DatabaseConnection {
         vitamDocument.remove(VitamDocument.ID);
         vitamDocument.remove(VitamDocument.SCORE);
 
-        String source = BsonHelper.stringify(vitamDocument);
+        byte[] source = BsonHelper.toJsonBytes(vitamDocument);
 
         IndexRequest request = new IndexRequest(indexAlias.getName())
             .id(id)
@@ -409,6 +442,22 @@ public class ElasticsearchAccess implements DatabaseConnection {
 
     public void indexEntries(ElasticsearchIndexAlias indexAlias, final Collection<? extends Document> documents)
         throws DatabaseException {
+        indexEntries(indexAlias, documents, ElasticsearchIndexationMode.IMMEDIATE);
+    }
+
+    /**
+     * Index documents using bulk requests
+     *
+     * @param indexAlias the index alias
+     * @param documents the documents to index
+     * @param indexationMode the refresh behaviour of bulk requests
+     * @throws DatabaseException if a bulk request fails
+     */
+    public void indexEntries(
+        ElasticsearchIndexAlias indexAlias,
+        final Collection<? extends Document> documents,
+        ElasticsearchIndexationMode indexationMode
+    ) throws DatabaseException {
         UnmodifiableIterator<? extends List<? extends Document>> idIterator = Iterators.partition(
             documents.iterator(),
             VitamConfiguration.getMaxElasticsearchBulk()
@@ -420,7 +469,7 @@ public class ElasticsearchAccess implements DatabaseConnection {
             docs.forEach(document -> {
                 String id = (String) document.remove(VitamDocument.ID);
                 try {
-                    String source = BsonHelper.stringify(document);
+                    byte[] source = BsonHelper.toJsonBytes(document);
                     bulkRequest.add(
                         new IndexRequest(indexAlias.getName())
                             .id(id)
@@ -435,7 +484,7 @@ public class ElasticsearchAccess implements DatabaseConnection {
             if (bulkRequest.numberOfActions() != 0) {
                 final BulkResponse bulkResponse;
                 try {
-                    bulkRequest.setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE);
+                    bulkRequest.setRefreshPolicy(indexationMode.getRefreshPolicy());
                     bulkResponse = getClient().bulk(bulkRequest, RequestOptions.DEFAULT);
                 } catch (IOException | ElasticsearchException e) {
                     throw new DatabaseException(e);
@@ -456,41 +505,97 @@ public class ElasticsearchAccess implements DatabaseConnection {
      */
     public <T> void updateEntry(ElasticsearchIndexAlias indexAlias, String id, VitamDocument<T> vitamDocument)
         throws DatabaseException {
+        IndexRequest request = createUpdateRequest(indexAlias, id, vitamDocument)
+            .setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE)
+            .timeout(TimeValue.timeValueMillis(VitamConfiguration.getElasticSearchTimeoutWaitRequestInMilliseconds()));
+
+        IndexResponse indexResponse;
         try {
-            vitamDocument.remove(VitamDocument.ID);
-            final String document = BsonHelper.stringify(vitamDocument);
+            indexResponse = getClient().index(request, RequestOptions.DEFAULT);
+        } catch (IOException | ElasticsearchException e) {
+            throw new DatabaseException(e);
+        }
 
-            IndexRequest request = new IndexRequest(indexAlias.getName())
-                .id(id)
-                .source(document, XContentType.JSON)
+        checkUpdated(indexAlias, id, indexResponse.getResult(), indexResponse.status());
+    }
+
+    /**
+     * Update several elements fully, using bulk requests.<br>
+     * Documents are indexed exactly as by {@link #updateEntry}, and every one of them must already exist.
+     *
+     * @param indexAlias the index alias
+     * @param documents the full documents to update
+     * @throws DatabaseException if a bulk request fails, or a document was not updated
+     */
+    public void updateEntries(ElasticsearchIndexAlias indexAlias, Collection<? extends VitamDocument<?>> documents)
+        throws DatabaseException {
+        UnmodifiableIterator<? extends List<? extends VitamDocument<?>>> iterator = Iterators.partition(
+            documents.iterator(),
+            VitamConfiguration.getMaxElasticsearchBulk()
+        );
+
+        while (iterator.hasNext()) {
+            BulkRequest bulkRequest = new BulkRequest()
                 .setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE)
                 .timeout(
                     TimeValue.timeValueMillis(VitamConfiguration.getElasticSearchTimeoutWaitRequestInMilliseconds())
-                )
-                .opType(DocWriteRequest.OpType.INDEX);
+                );
+            for (VitamDocument<?> document : iterator.next()) {
+                bulkRequest.add(createUpdateRequest(indexAlias, document.getId(), document));
+            }
 
-            IndexResponse indexResponse;
+            final BulkResponse bulkResponse;
             try {
-                indexResponse = getClient().index(request, RequestOptions.DEFAULT);
+                bulkResponse = getClient().bulk(bulkRequest, RequestOptions.DEFAULT);
             } catch (IOException | ElasticsearchException e) {
                 throw new DatabaseException(e);
             }
 
-            if (indexResponse.getResult() != DocWriteResponse.Result.UPDATED) {
-                throw new DatabaseException(
-                    String.format(
-                        "Could not update document on ES. Id=%s, aliasName=%s, status=%s",
-                        id,
-                        indexAlias.getName(),
-                        indexResponse.status()
-                    )
-                );
+            if (bulkResponse.hasFailures()) {
+                throw new DatabaseException("Bulk Request failure with error: " + bulkResponse.buildFailureMessage());
+            }
+            for (BulkItemResponse item : bulkResponse.getItems()) {
+                checkUpdated(indexAlias, item.getId(), item.getResponse().getResult(), item.status());
             }
+        }
+    }
+
+    private <T> IndexRequest createUpdateRequest(
+        ElasticsearchIndexAlias indexAlias,
+        String id,
+        VitamDocument<T> vitamDocument
+    ) {
+        try {
+            vitamDocument.remove(VitamDocument.ID);
+            final byte[] document = BsonHelper.toJsonBytes(vitamDocument);
+
+            return new IndexRequest(indexAlias.getName())
+                .id(id)
+                .source(document, XContentType.JSON)
+                .opType(DocWriteRequest.OpType.INDEX);
         } finally {
             vitamDocument.put(VitamDocument.ID, id);
         }
     }
 
+    private void checkUpdated(
+        ElasticsearchIndexAlias indexAlias,
+        String id,
+        DocWriteResponse.Result result,
+        RestStatus status
+    ) throws DatabaseException {
+        if (result != DocWriteResponse.Result.UPDATED) {
+            throw new DatabaseException(
+                String.format(
+                    "Could not update document on ES. Id=%s, aliasName=%s, status=%s",
+                    id,
+                    indexAlias.getName(),
+                    status
+                )
+            );
+        }
+    }
+
     public final SearchResponse search(
         ElasticsearchIndexAlias indexAlias,
         final QueryBuilder query,
@@ -29,7 +29,9 @@ package fr.gouv.vitam.common.database.server.elasticsearch;
 import com.google.common.collect.Iterators;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoCursor;
+import com.mongodb.client.model.Aggregates;
 import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
 import fr.gouv.vitam.common.VitamConfiguration;
 import fr.gouv.vitam.common.database.api.impl.VitamElasticsearchRepository;
 import fr.gouv.vitam.common.database.api.impl.VitamMongoRepository;
@@ -45,13 +47,23 @@ import fr.gouv.vitam.common.exception.DatabaseException;
 import fr.gouv.vitam.common.logging.VitamLogger;
 import fr.gouv.vitam.common.logging.VitamLoggerFactory;
 import fr.gouv.vitam.common.model.StatusCode;
+import fr.gouv.vitam.common.thread.ExecutorUtils;
+import fr.gouv.vitam.common.thread.VitamThreadUtils;
 import org.apache.commons.collections4.CollectionUtils;
 import org.bson.Document;
+import org.bson.conversions.Bson;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
 
 /**
  * IndexationHelper useful method for indexation
@@ -62,6 +74,10 @@ public class IndexationHelper {
 
     private static final IndexationHelper instance = new IndexationHelper();
 
+    private static final String DISABLED_REFRESH_INTERVAL = "-1";
+
+    private static final int SAMPLED_IDS_PER_SLICE = 100;
+
     public static IndexationHelper getInstance() {
         return instance;
     }
@@ -69,6 +85,10 @@ public class IndexationHelper {
     /**
      * reindex a collection on a tenant list with a esmapping file
      *
+     * The collection is split into _id range slices, loaded in parallel by reindexThreadPoolSize workers (each worker
+     * has at most one bulk in flight). Replicas and refresh are disabled on the new index during the load, and restored
+     * before returning. A failed reindexation is not resumed: the next one loads a new index from scratch.
+     *
      * @param collection the collection to be reindexed
      * @param esClient the elastic client to be used to reindex
      * @param indexAlias the elastic index alias information
@@ -83,30 +103,28 @@ public class IndexationHelper {
         List<Integer> tenantIds,
         String tenantGroupName
     ) throws DatabaseException {
-        MongoCursor<Document> cursor = null;
-        long numberOfDocumentsToIndex;
         try {
             // Select data from mongo
             VitamMongoRepository vitamMongoRepository = new VitamMongoRepository(collection);
 
+            Bson filter;
+            long numberOfDocumentsToIndex;
             if (CollectionUtils.isNotEmpty(tenantIds)) {
                 LOGGER.warn("Reindexation started on index {} in tenants {}", indexAlias.getName(), tenantIds);
-                cursor = vitamMongoRepository
-                    .findDocuments(
-                        Filters.in(VitamDocument.TENANT_ID, tenantIds),
-                        VitamConfiguration.getMaxElasticsearchBulk()
-                    )
-                    .iterator();
-                numberOfDocumentsToIndex = vitamMongoRepository.count(Filters.in(VitamDocument.TENANT_ID, tenantIds));
+                filter = Filters.in(VitamDocument.TENANT_ID, tenantIds);
+                numberOfDocumentsToIndex = vitamMongoRepository.count(filter);
             } else {
                 LOGGER.warn("Reindexation started on index {} in all tenants", indexAlias.getName());
-                cursor = vitamMongoRepository.findDocuments(VitamConfiguration.getMaxElasticsearchBulk()).iterator();
+                filter = null;
                 numberOfDocumentsToIndex = vitamMongoRepository.count();
             }
 
             // Create ElasticSearch new index for a given collection
             ElasticsearchIndexAlias newIndexWithoutAlias = esClient.createIndexWithoutAlias(indexAlias, indexSettings);
 
+            // No replication nor refresh while loading the new index
+            esClient.updateIndexSettings(newIndexWithoutAlias, 0, DISABLED_REFRESH_INTERVAL);
+
             // Create repository for the given indexName
             VitamElasticsearchRepository vitamElasticsearchRepository = new VitamElasticsearchRepository(
                 esClient.getClient(),
@@ -114,7 +132,127 @@ public class IndexationHelper {
             );
 
             LOGGER.warn("number of documents to index = {}", numberOfDocumentsToIndex);
-            long numberOfDocumentsIndexed = 0;
+            loadSlices(
+                collection,
+                filter,
+                computeSlices(collection, filter, numberOfDocumentsToIndex),
+                vitamElasticsearchRepository,
+                elasticsearchCollection,
+                numberOfDocumentsToIndex
+            );
+
+            esClient.updateIndexSettings(newIndexWithoutAlias, indexSettings.getReplicas(), null);
+            esClient.refreshIndex(newIndexWithoutAlias);
+
+            LOGGER.warn("Reindexation ended successfully");
+            return new ReindexationOK(indexAlias.getName(), newIndexWithoutAlias.getName(), tenantIds, tenantGroupName);
+        } catch (DatabaseException | RuntimeException e) {
+            LOGGER.error("Reindexation failed", e);
+            throw e;
+        }
+    }
+
+    private List<ReindexSlice> computeSlices(MongoCollection<Document> collection, Bson filter, long count) {
+        int sliceCount = VitamConfiguration.getReindexSliceCount();
+        if (sliceCount <= 1 || count <= sliceCount) {
+            return Collections.singletonList(new ReindexSlice(null, null));
+        }
+
+        // Sample ids to find _id range boundaries splitting the collection in slices of similar size
+        List<Bson> pipeline = new ArrayList<>();
+        if (filter != null) {
+            pipeline.add(Aggregates.match(filter));
+        }
+        pipeline.add(Aggregates.sample(sliceCount * SAMPLED_IDS_PER_SLICE));
+        pipeline.add(Aggregates.project(Projections.include(VitamDocument.ID)));
+        List<String> sampledIds = new ArrayList<>();
+        collection.aggregate(pipeline).forEach(document -> sampledIds.add(document.getString(VitamDocument.ID)));
+        Collections.sort(sampledIds);
+
+        TreeSet<String> boundaries = new TreeSet<>();
+        for (int i = 1; i < sliceCount && !sampledIds.isEmpty(); i++) {
+            boundaries.add(sampledIds.get(i * sampledIds.size() / sliceCount));
+        }
+
+        List<ReindexSlice> slices = new ArrayList<>();
+        String lowerBound = null;
+        for (String boundary : boundaries) {
+            slices.add(new ReindexSlice(lowerBound, boundary));
+            lowerBound = boundary;
+        }
+        slices.add(new ReindexSlice(lowerBound, null));
+        return slices;
+    }
+
+    private void loadSlices(
+        MongoCollection<Document> collection,
+        Bson filter,
+        List<ReindexSlice> slices,
+        VitamElasticsearchRepository vitamElasticsearchRepository,
+        ElasticsearchCollections elasticsearchCollection,
+        long numberOfDocumentsToIndex
+    ) throws DatabaseException {
+        ExecutorService executor = ExecutorUtils.createScalableBatchExecutorService(
+            VitamConfiguration.getReindexThreadPoolSize()
+        );
+        try {
+            final Integer tenantId = VitamThreadUtils.getVitamSession().getTenantId();
+            final String requestId = VitamThreadUtils.getVitamSession().getRequestId();
+            AtomicLong numberOfDocumentsIndexed = new AtomicLong();
+            List<CompletableFuture<Void>> futures = slices
+                .stream()
+                .map(slice ->
+                    CompletableFuture.runAsync(
+                        () -> {
+                            VitamThreadUtils.getVitamSession().setTenantId(tenantId);
+                            VitamThreadUtils.getVitamSession().setRequestId(requestId);
+                            try {
+                                loadSlice(
+                                    collection,
+                                    slice.toFilter(filter),
+                                    vitamElasticsearchRepository,
+                                    elasticsearchCollection,
+                                    numberOfDocumentsIndexed,
+                                    numberOfDocumentsToIndex
+                                );
+                            } catch (DatabaseException e) {
+                                throw new CompletionException(e);
+                            }
+                            LOGGER.warn("Reindexation of slice {} completed", slice);
+                        },
+                        executor
+                    ))
+                .collect(Collectors.toList());
+
+            try {
+                CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof DatabaseException) {
+                    throw (DatabaseException) e.getCause();
+                }
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw new DatabaseException(e.getCause());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private void loadSlice(
+        MongoCollection<Document> collection,
+        Bson sliceFilter,
+        VitamElasticsearchRepository vitamElasticsearchRepository,
+        ElasticsearchCollections elasticsearchCollection,
+        AtomicLong numberOfDocumentsIndexed,
+        long numberOfDocumentsToIndex
+    ) throws DatabaseException {
+        try (
+            MongoCursor<Document> cursor = new VitamMongoRepository(collection)
+                .findDocuments(sliceFilter, VitamConfiguration.getMaxElasticsearchBulk())
+                .iterator()
+        ) {
             // Reindex document with bulk
             Iterator<List<Document>> bulkDocumentIterator = Iterators.partition(
                 cursor,
@@ -122,31 +260,18 @@ public class IndexationHelper {
             );
             while (bulkDocumentIterator.hasNext()) {
                 List<Document> documents = bulkDocumentIterator.next();
-                if (elasticsearchCollection == ElasticsearchCollections.OPERATION) {
-                    vitamElasticsearchRepository.save(ElasticsearchCollections.OPERATION, documents);
-                } else {
-                    vitamElasticsearchRepository.save(documents);
-                }
-                numberOfDocumentsIndexed += documents.size();
+                vitamElasticsearchRepository.saveWithoutRefresh(elasticsearchCollection, documents);
+                long indexed = numberOfDocumentsIndexed.addAndGet(documents.size());
                 LOGGER.warn(
                     "Reindexation in progress {}%",
-                    0.01 * ((int) (((float) numberOfDocumentsIndexed / numberOfDocumentsToIndex) * 10000))
+                    0.01 * ((int) (((float) indexed / numberOfDocumentsToIndex) * 10000))
                 );
                 LOGGER.warn(
                     "number of indexed documents = {}\t number of remaining documents = {}",
-                    numberOfDocumentsIndexed,
-                    numberOfDocumentsToIndex - numberOfDocumentsIndexed
+                    indexed,
+                    numberOfDocumentsToIndex - indexed
                 );
             }
-            LOGGER.warn("Reindexation ended successfully");
-            return new ReindexationOK(indexAlias.getName(), newIndexWithoutAlias.getName(), tenantIds, tenantGroupName);
-        } catch (DatabaseException | RuntimeException e) {
-            LOGGER.error("Reindexation failed", e);
-            throw e;
-        } finally {
-            if (cursor != null) {
-                cursor.close();
-            }
         }
     }
 
@@ -207,4 +332,34 @@ public class IndexationHelper {
             .setStatusCode(StatusCode.KO)
             .setMessage(message);
     }
+
+    private static final class ReindexSlice {
+
+        private final String lowerBound;
+        private final String upperBound;
+
+        private ReindexSlice(String lowerBound, String upperBound) {
+            this.lowerBound = lowerBound;
+            this.upperBound = upperBound;
+        }
+
+        private Bson toFilter(Bson filter) {
+            List<Bson> filters = new ArrayList<>();
+            if (filter != null) {
+                filters.add(filter);
+            }
+            if (lowerBound != null) {
+                filters.add(Filters.gte(VitamDocument.ID, lowerBound));
+            }
+            if (upperBound != null) {
+                filters.add(Filters.lt(VitamDocument.ID, upperBound));
+            }
+            return filters.isEmpty() ? new Document() : Filters.and(filters);
+        }
+
+        @Override
+        public String toString() {
+            return "[" + lowerBound + ", " + upperBound + "[";
+        }
+    }
 }
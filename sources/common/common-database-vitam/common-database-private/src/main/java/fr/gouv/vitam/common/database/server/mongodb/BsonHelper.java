@@ -89,6 +89,20 @@ public class BsonHelper {
         }
     }
 
+    /**
+     * Serialize mongo document as UTF-8 encoded json, without intermediate String
+     *
+     * @param document
+     * @return Unpretty print object bytes
+     */
+    public static byte[] toJsonBytes(Document document) {
+        try {
+            return OBJECT_MAPPER.writeValueAsBytes(document);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     /**
      * Convert bson document to JsonNode
      */
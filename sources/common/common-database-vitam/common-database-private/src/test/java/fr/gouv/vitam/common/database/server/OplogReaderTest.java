@@ -44,7 +44,9 @@ import org.mockito.MockitoAnnotations;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 
 import static org.junit.Assert.assertEquals;
@@ -52,6 +54,8 @@ import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 public class OplogReaderTest {
 
@@ -98,9 +102,6 @@ public class OplogReaderTest {
         "{\"ts\": {\"$timestamp\": {\"t\": 1601480262, \"i\": 1}}, \"t\": {\"$numberLong\": \"16\"}, \"h\": {\"$numberLong\": \"0\"}, \"v\": 2, \"op\": \"s\", \"ns\": \"metadata.Unit\", \"ui\": {\"$binary\": \"yURgEL/TmodlCIIXLe3dog==\", \"$type\": \"03\"}, \"o2\": {\"_id\": \"aeaqaaaaaah2skkzabq7waluf4i34jiaaaaq\"}, \"wall\": {\"$date\": 1601480262149}, \"o\": {\"_id\": \"aeaqaaaaaah2skkzabq7waluf4i33eiaaaaq\", \"DescriptionLevel\": \"Item\", \"Title\": \"Image de lac - 1\", \"Description\": \"L'objet rattaché à cette unité archivistique a un usage de master (BinaryMaster) test 20\", \"TransactedDate\": \"2016-06-03T15:28:00\", \"_og\": \"aebaaaaaaah2skkzabq7waluf4i3z7aaaaaq\", \"_mgt\": {}, \"_sedaVersion\": \"2.1\", \"_unitType\": \"INGEST\", \"_opi\": \"aeeaaaaaach2skkzabsacaluf4i2pmiaaaaq\", \"_ops\": [\"aeeaaaaaach2skkzabsacaluf4i2pmiaaaaq\"], \"_storage\": {\"strategyId\": \"default\"}, \"_sps\": [\"Identifier4\"], \"_sp\": \"Identifier4\", \"_up\": [\"aeaqaaaaaah2skkzabq7waluf4i32fyaaaaq\"], \"_us\": [\"aeaqaaaaaah2skkzabq7waluf4i32fyaaaaq\"], \"_graph\": [\"aeaqaaaaaah2skkzabq7waluf4i33eiaaaaq/aeaqaaaaaah2skkzabq7waluf4i32fyaaaaq\"], \"_uds\": {\"1\": [\"aeaqaaaaaah2skkzabq7waluf4i32fyaaaaq\"]}, \"_min\": 1, \"_max\": 2, \"_glpd\": \"2020-08-27T08:38:51.614\", \"_v\": 0, \"_av\": 0, \"_tenant\": 0}}";
     Document docWithSelectOperation = Document.parse(docFromOplogSelectOperation);
 
-    final String description3 =
-        "L'objet rattaché à cette unité archivistique a un usage de master (BinaryMaster) test 20";
-
     @Before
     public void setUp() throws Exception {
         MockitoAnnotations.initMocks(this);
@@ -112,26 +113,35 @@ public class OplogReaderTest {
     @Test
     public void givenOplogThenGenerateData() {
         doReturn(mockIterable).when(mockCollection).find(any(Bson.class));
+        doReturn(mockIterable).when(mockIterable).projection(any());
         doReturn(mockIterable).when(mockIterable).sort(any());
         doReturn(mockIterable).when(mockIterable).limit(100);
+        doReturn(mockIterable).when(mockIterable).batchSize(100);
         doReturn(mockCursor).when(mockIterable).iterator();
         doReturn(true).doReturn(true).doReturn(false).when(mockCursor).hasNext();
         doReturn(docWithSameId1).doReturn(docWithDifferentId).doReturn(null).when(mockCursor).next();
 
-        Map<String, Document> stringDocumentMap = oplogReader.readDocumentsFromOplogByShardAndCollections(
+        List<Map<String, String>> batches = new ArrayList<>();
+        BsonTimestamp maxTimeStamp = oplogReader.readTouchedDocumentIdsFromOplogByShardAndCollections(
             Collections.emptyList(),
-            new BsonTimestamp()
+            new BsonTimestamp(),
+            100,
+            batches::add
         );
-        assertEquals(2, stringDocumentMap.size());
-        assertTrue(stringDocumentMap.containsKey("aeaqaaaaaah2skkzabq7waluf4i33eiaaaaq"));
-        assertTrue(stringDocumentMap.containsKey("aeaqaaaaaah2skkzabq7waluf4i34jiaaaaq"));
+        assertEquals(1, batches.size());
+        Map<String, String> touchedDocumentIds = batches.get(0);
+        assertEquals(2, touchedDocumentIds.size());
+        assertTrue(touchedDocumentIds.containsKey("aeaqaaaaaah2skkzabq7waluf4i33eiaaaaq"));
+        assertTrue(touchedDocumentIds.containsKey("aeaqaaaaaah2skkzabq7waluf4i34jiaaaaq"));
     }
 
     @Test
     public void givenOplogThenGenerateRecentData() {
         doReturn(mockIterable).when(mockCollection).find(any(Bson.class));
+        doReturn(mockIterable).when(mockIterable).projection(any());
         doReturn(mockIterable).when(mockIterable).sort(any());
         doReturn(mockIterable).when(mockIterable).limit(100);
+        doReturn(mockIterable).when(mockIterable).batchSize(100);
         doReturn(mockCursor).when(mockIterable).iterator();
         doReturn(true).doReturn(true).doReturn(true).doReturn(false).when(mockCursor).hasNext();
         doReturn(docWithSameId1)
@@ -141,24 +151,28 @@ public class OplogReaderTest {
             .when(mockCursor)
             .next();
 
-        Map<String, Document> stringDocumentMap = oplogReader.readDocumentsFromOplogByShardAndCollections(
+        List<Map<String, String>> batches = new ArrayList<>();
+        BsonTimestamp maxTimeStamp = oplogReader.readTouchedDocumentIdsFromOplogByShardAndCollections(
             Collections.emptyList(),
-            new BsonTimestamp()
-        );
-        assertEquals(1, stringDocumentMap.size());
-        assertTrue(stringDocumentMap.containsKey("aeaqaaaaaah2skkzabq7waluf4i33eiaaaaq"));
-        // get recent value of description
-        assertEquals(
-            description3,
-            ((Document) stringDocumentMap.get("aeaqaaaaaah2skkzabq7waluf4i33eiaaaaq").get("o")).get("Description")
+            new BsonTimestamp(),
+            100,
+            batches::add
         );
+        assertEquals(1, batches.size());
+        Map<String, String> touchedDocumentIds = batches.get(0);
+        assertEquals(1, touchedDocumentIds.size());
+        assertTrue(touchedDocumentIds.containsKey("aeaqaaaaaah2skkzabq7waluf4i33eiaaaaq"));
+        // most recent operation time
+        assertEquals(docWithSameId3.get("ts"), maxTimeStamp);
     }
 
     @Test
     public void givenOplogThenGenerateOnlyFilteredData() {
         doReturn(mockIterable).when(mockCollection).find(any(Bson.class));
+        doReturn(mockIterable).when(mockIterable).projection(any());
         doReturn(mockIterable).when(mockIterable).sort(any());
         doReturn(mockIterable).when(mockIterable).limit(100);
+        doReturn(mockIterable).when(mockIterable).batchSize(100);
         doReturn(mockCursor).when(mockIterable).iterator();
         doReturn(true).doReturn(true).doReturn(true).doReturn(true).doReturn(false).when(mockCursor).hasNext();
         doReturn(docWithSameId1)
@@ -169,12 +183,78 @@ public class OplogReaderTest {
             .when(mockCursor)
             .next();
 
-        Map<String, Document> stringDocumentMap = oplogReader.readDocumentsFromOplogByShardAndCollections(
+        List<Map<String, String>> batches = new ArrayList<>();
+        BsonTimestamp maxTimeStamp = oplogReader.readTouchedDocumentIdsFromOplogByShardAndCollections(
+            Collections.emptyList(),
+            new BsonTimestamp(),
+            100,
+            batches::add
+        );
+        assertEquals(1, batches.size());
+        Map<String, String> touchedDocumentIds = batches.get(0);
+        assertEquals(2, touchedDocumentIds.size());
+        assertTrue(touchedDocumentIds.containsKey("aeaqaaaaaah2skkzabq7waluf4i33eiaaaaq"));
+        assertTrue(touchedDocumentIds.containsKey("aeaqaaaaaah2skkzabq7waluf4i34jiaaaaq"));
+    }
+
+    @Test
+    public void givenConsumerStopsThenOplogStreamingStopped() {
+        doReturn(mockIterable).when(mockCollection).find(any(Bson.class));
+        doReturn(mockIterable).when(mockIterable).projection(any());
+        doReturn(mockIterable).when(mockIterable).sort(any());
+        doReturn(mockIterable).when(mockIterable).limit(100);
+        doReturn(mockIterable).when(mockIterable).batchSize(1);
+        doReturn(mockCursor).when(mockIterable).iterator();
+        doReturn(true).when(mockCursor).hasNext();
+        doReturn(docWithSameId1).doReturn(docWithDifferentId).when(mockCursor).next();
+
+        List<Map<String, String>> batches = new ArrayList<>();
+        BsonTimestamp maxTimeStamp = oplogReader.readTouchedDocumentIdsFromOplogByShardAndCollections(
             Collections.emptyList(),
-            new BsonTimestamp()
+            new BsonTimestamp(),
+            1,
+            batch -> {
+                batches.add(batch);
+                return false;
+            }
         );
-        assertEquals(2, stringDocumentMap.size());
-        assertTrue(stringDocumentMap.containsKey("aeaqaaaaaah2skkzabq7waluf4i33eiaaaaq"));
-        assertTrue(stringDocumentMap.containsKey("aeaqaaaaaah2skkzabq7waluf4i34jiaaaaq"));
+
+        assertEquals(1, batches.size());
+        assertEquals(docWithSameId1.get("ts"), maxTimeStamp);
+        verify(mockCursor, times(1)).next();
+        verify(mockCursor).close();
+        verify(mockClient).close();
+    }
+
+    @Test
+    public void givenOplogThenStreamTouchedIdsByBatches() {
+        doReturn(mockIterable).when(mockCollection).find(any(Bson.class));
+        doReturn(mockIterable).when(mockIterable).projection(any());
+        doReturn(mockIterable).when(mockIterable).sort(any());
+        doReturn(mockIterable).when(mockIterable).limit(100);
+        doReturn(mockIterable).when(mockIterable).batchSize(1);
+        doReturn(mockCursor).when(mockIterable).iterator();
+        doReturn(true).doReturn(true).doReturn(true).doReturn(false).when(mockCursor).hasNext();
+        doReturn(docWithSameId1)
+            .doReturn(docWithDifferentId)
+            .doReturn(docWithSameId3)
+            .doReturn(null)
+            .when(mockCursor)
+            .next();
+
+        List<Map<String, String>> batches = new ArrayList<>();
+        BsonTimestamp maxTimeStamp = oplogReader.readTouchedDocumentIdsFromOplogByShardAndCollections(
+            Collections.emptyList(),
+            new BsonTimestamp(),
+            1,
+            batches::add
+        );
+
+        assertEquals(3, batches.size());
+        assertEquals(Map.of("aeaqaaaaaah2skkzabq7waluf4i33eiaaaaq", "metadata.Unit"), batches.get(0));
+        assertEquals(Map.of("aeaqaaaaaah2skkzabq7waluf4i34jiaaaaq", "metadata.Unit"), batches.get(1));
+        assertEquals(docWithSameId3.get("ts"), maxTimeStamp);
+        verify(mockCursor).close();
+        verify(mockClient).close();
     }
 }
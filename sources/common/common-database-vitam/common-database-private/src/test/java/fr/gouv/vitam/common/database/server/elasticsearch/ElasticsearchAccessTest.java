@@ -34,6 +34,7 @@ import fr.gouv.vitam.common.exception.DatabaseException;
 import fr.gouv.vitam.common.exception.VitamException;
 import fr.gouv.vitam.common.guid.GUIDFactory;
 import fr.gouv.vitam.common.json.JsonHandler;
+import fr.gouv.vitam.common.performance.PerformanceLogger;
 import org.apache.commons.collections4.IteratorUtils;
 import org.apache.commons.collections4.SetUtils;
 import org.apache.commons.io.FileUtils;
@@ -57,6 +58,7 @@ import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import static java.util.Collections.singleton;
 import static java.util.Collections.singletonList;
@@ -65,6 +67,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.fail;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assume.assumeTrue;
 
 public class ElasticsearchAccessTest {
 
@@ -180,6 +183,56 @@ public class ElasticsearchAccessTest {
         }
     }
 
+    @Test
+    public void testIndexEntriesWithoutRefreshAreSearchableAfterExplicitRefresh() throws Exception {
+        Map<String, VitamDocument<?>> documents = createDataSet(15);
+        elasticsearchAccess.createIndexAndAliasIfAliasNotExists(
+            myalias,
+            new ElasticsearchIndexSettings(2, 1, () -> "{}")
+        );
+
+        elasticsearchAccess.indexEntries(myalias, documents.values(), ElasticsearchIndexationMode.NONE);
+        elasticsearchAccess.refreshIndex(myalias);
+
+        SearchResponse searchResponseAfter = elasticsearchAccess.search(
+            myalias,
+            QueryBuilders.matchAllQuery(),
+            null,
+            null,
+            null,
+            0,
+            100
+        );
+        assertThat(searchResponseAfter.getHits().getTotalHits().value).isEqualTo(documents.size());
+    }
+
+    /**
+     * Bulk indexation benchmark of each indexation mode (NONE being followed by an explicit refresh).
+     * Run with -DelasticsearchIndexationBenchmark=true (and optionally -DelasticsearchIndexationBenchmarkBulks=N).
+     */
+    @Test
+    public void benchmark_index_entries_by_indexation_mode() throws Exception {
+        assumeTrue(Boolean.getBoolean("elasticsearchIndexationBenchmark"));
+        int nbBulks = Integer.getInteger("elasticsearchIndexationBenchmarkBulks", 200);
+        elasticsearchAccess.createIndexAndAliasIfAliasNotExists(
+            myalias,
+            new ElasticsearchIndexSettings(2, 1, () -> "{}")
+        );
+
+        for (ElasticsearchIndexationMode indexationMode : ElasticsearchIndexationMode.values()) {
+            long start = System.nanoTime();
+            for (int i = 0; i < nbBulks; i++) {
+                elasticsearchAccess.indexEntries(myalias, createDataSet(100).values(), indexationMode);
+            }
+            elasticsearchAccess.refreshIndex(myalias);
+            long wallTime = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            // Reported as : ES_INDEXATION_BENCHMARK,<mode>,<bulks>,<documents>,<wall time>
+            PerformanceLogger.getInstance()
+                .log("ES_INDEXATION_BENCHMARK", indexationMode.name(), nbBulks + " bulks", nbBulks * 100L, wallTime);
+        }
+    }
+
     @Test
     public void updateIndexEntry() throws Exception {
         Map<String, VitamDocument<?>> documents = insertDataSet();
@@ -357,8 +410,25 @@ public class ElasticsearchAccessTest {
     }
 
     private Map<String, VitamDocument<?>> insertDataSet() throws IOException, DatabaseException {
+        Map<String, VitamDocument<?>> documents = createDataSet(15);
+        String mapping = FileUtils.readFileToString(
+            PropertiesUtils.findFile("test-es-mapping.json"),
+            StandardCharsets.UTF_8
+        );
+
+        elasticsearchAccess.createIndexAndAliasIfAliasNotExists(
+            myalias,
+            new ElasticsearchIndexSettings(2, 1, () -> mapping)
+        );
+
+        elasticsearchAccess.indexEntries(myalias, documents.values());
+
+        return documents;
+    }
+
+    private Map<String, VitamDocument<?>> createDataSet(int nbDocuments) {
         Map<String, VitamDocument<?>> documents = new HashMap<>();
-        for (int i = 0; i < 15; i++) {
+        for (int i = 0; i < nbDocuments; i++) {
             String id = GUIDFactory.newGUID().getId();
             documents.put(
                 id,
@@ -371,18 +441,6 @@ public class ElasticsearchAccessTest {
                 )
             );
         }
-        String mapping = FileUtils.readFileToString(
-            PropertiesUtils.findFile("test-es-mapping.json"),
-            StandardCharsets.UTF_8
-        );
-
-        elasticsearchAccess.createIndexAndAliasIfAliasNotExists(
-            myalias,
-            new ElasticsearchIndexSettings(2, 1, () -> mapping)
-        );
-
-        elasticsearchAccess.indexEntries(myalias, documents.values());
-
         return documents;
     }
 
@@ -28,6 +28,7 @@ package fr.gouv.vitam.common.database.server.elasticsearch;
 
 import com.mongodb.client.MongoCollection;
 import fr.gouv.vitam.common.PropertiesUtils;
+import fr.gouv.vitam.common.VitamConfiguration;
 import fr.gouv.vitam.common.database.api.impl.VitamElasticsearchRepository;
 import fr.gouv.vitam.common.database.api.impl.VitamMongoRepository;
 import fr.gouv.vitam.common.database.index.model.ReindexationOK;
@@ -352,6 +353,70 @@ public class IndexationHelperTest {
         elasticsearchRule.purgeIndex(elasticsearchRule.getClient(), newIndex.getName());
     }
 
+    @Test
+    public void should_reindex_collection_in_parallel_slices() throws IOException, DatabaseException {
+        // Given
+        final MongoCollection<Document> collection = mongoRule.getMongoCollection(ALIAS);
+        VitamMongoRepository vitamMongoRepository = new VitamMongoRepository(collection);
+        int tenant = 3;
+        List<Document> documents = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            XContentBuilder builder = jsonBuilder()
+                .startObject()
+                .field("_id", GUIDFactory.newGUID().toString())
+                .field("_tenant", tenant)
+                .field("Identifier", "Identifier_" + tenant)
+                .field("Name", "Description_" + tenant + "_" + i)
+                .endObject();
+            documents.add(Document.parse(Strings.toString(builder)));
+        }
+        vitamMongoRepository.save(documents);
+
+        String mapping = FileUtils.readFileToString(
+            PropertiesUtils.findFile(TEST_ES_MAPPING_JSON),
+            StandardCharsets.UTF_8
+        );
+        ElasticsearchIndexAlias indexAlias = ElasticsearchIndexAlias.ofMultiTenantCollection(ALIAS, tenant);
+        ElasticsearchIndexSettings indexSettings = new ElasticsearchIndexSettings(2, 1, () -> mapping);
+
+        Integer sliceCount = VitamConfiguration.getReindexSliceCount();
+        Integer threadPoolSize = VitamConfiguration.getReindexThreadPoolSize();
+        VitamConfiguration.setReindexSliceCount(4);
+        VitamConfiguration.setReindexThreadPoolSize(2);
+        try {
+            // When
+            ReindexationOK reindexationResult = indexationHelper.reindex(
+                collection,
+                elasticsearchAccess,
+                indexAlias,
+                indexSettings,
+                ElasticsearchCollections.OBJECTGROUP,
+                singletonList(tenant),
+                null
+            );
+
+            // Then
+            ElasticsearchIndexAlias newIndex = ElasticsearchIndexAlias.ofFullIndexName(
+                reindexationResult.getIndexName()
+            );
+            assertThat(indexAlias.isValidAliasOfIndex(newIndex)).isTrue();
+
+            VitamElasticsearchRepository vitamElasticsearchRepository = new VitamElasticsearchRepository(
+                elasticsearchAccess.getClient(),
+                tenantId -> newIndex
+            );
+            assertThat(countDocumentsByQuery(newIndex, vitamElasticsearchRepository, matchAllQuery())).isEqualTo(50);
+            for (Document document : documents) {
+                assertThat(vitamElasticsearchRepository.getByID(document.getString("_id"), tenant)).isPresent();
+            }
+
+            elasticsearchAccess.deleteIndexForTesting(newIndex);
+        } finally {
+            VitamConfiguration.setReindexSliceCount(sliceCount);
+            VitamConfiguration.setReindexThreadPoolSize(threadPoolSize);
+        }
+    }
+
     private Map<String, Integer> populating(
         MongoCollection<Document> collection,
         ElasticsearchIndexAliasResolver indexAliasResolver
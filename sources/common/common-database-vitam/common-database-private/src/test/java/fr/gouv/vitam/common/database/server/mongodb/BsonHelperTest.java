@@ -0,0 +1,138 @@
+/*
+ * Copyright French Prime minister Office/SGMAP/DINSIC/Vitam Program (2015-2022)
+ *
+ * contact.vitam@culture.gouv.fr
+ *
+ * This software is a computer program whose purpose is to implement a digital archiving back-office system managing
+ * high volumetry securely and efficiently.
+ *
+ * This software is governed by the CeCILL 2.1 license under French law and abiding by the rules of distribution of free
+ * software. You can use, modify and/ or redistribute the software under the terms of the CeCILL 2.1 license as
+ * circulated by CEA, CNRS and INRIA at the following URL "https://cecill.info".
+ *
+ * As a counterpart to the access to the source code and rights to copy, modify and redistribute granted by the license,
+ * users are provided only with a limited warranty and the software's author, the holder of the economic rights, and the
+ * successive licensors have only limited liability.
+ *
+ * In this respect, the user's attention is drawn to the risks associated with loading, using, modifying and/or
+ * developing or reproducing the software by the user in light of its specific status of free software, that may mean
+ * that it is complicated to manipulate, and that also therefore means that it is reserved for developers and
+ * experienced professionals having in-depth computer knowledge. Users are therefore encouraged to load and test the
+ * software's suitability as regards their requirements in conditions enabling the security of their systems and/or data
+ * to be ensured and, more generally, to use and operate it in the same conditions as regards security.
+ *
+ * The fact that you are presently reading this means that you have had knowledge of the CeCILL 2.1 license and that you
+ * accept its terms.
+ */
+package fr.gouv.vitam.common.database.server.mongodb;
+
+import fr.gouv.vitam.common.performance.PerformanceLogger;
+import org.bson.Document;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assume.assumeTrue;
+
+public class BsonHelperTest {
+
+    @Test
+    public void should_serialize_document_to_same_json_bytes_as_stringified_document() {
+        Document document = createDocument(1);
+
+        byte[] jsonBytes = BsonHelper.toJsonBytes(document);
+
+        assertThat(new String(jsonBytes, StandardCharsets.UTF_8)).isEqualTo(BsonHelper.stringify(document));
+    }
+
+    @Test
+    public void should_escape_non_ascii_characters_in_json_bytes() {
+        Document document = new Document("Title", "Été à Noël");
+
+        byte[] jsonBytes = BsonHelper.toJsonBytes(document);
+
+        assertThat(new String(jsonBytes, StandardCharsets.UTF_8)).isEqualTo(BsonHelper.stringify(document));
+    }
+
+    /**
+     * Serialization benchmark of String based vs byte[] based json serialization of unit like documents.
+     * Run with -DbsonHelperBenchmark=true (and optionally -DbsonHelperBenchmarkDocuments=N).
+     */
+    @Test
+    public void benchmark_json_serialization() {
+        assumeTrue(Boolean.getBoolean("bsonHelperBenchmark"));
+        int nbDocuments = Integer.getInteger("bsonHelperBenchmarkDocuments", 200_000);
+        List<Document> documents = new ArrayList<>();
+        for (int i = 0; i < nbDocuments; i++) {
+            documents.add(createDocument(i));
+        }
+
+        for (int run = 0; run < 3; run++) {
+            runBenchmark(
+                "stringify",
+                documents,
+                document -> BsonHelper.stringify(document).getBytes(StandardCharsets.UTF_8)
+            );
+            runBenchmark("toJsonBytes", documents, BsonHelper::toJsonBytes);
+        }
+    }
+
+    private void runBenchmark(String name, List<Document> documents, Serializer serializer) {
+        com.sun.management.ThreadMXBean threadMXBean =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long allocatedBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        long size = 0;
+        for (Document document : documents) {
+            size += serializer.serialize(document).length;
+        }
+        long wallTime = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        long allocated = threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        // Reported as : BSON_SERIALIZATION_BENCHMARK,<serializer>,<documents / allocated bytes>,<json size>,<wall time>
+        PerformanceLogger.getInstance()
+            .log(
+                "BSON_SERIALIZATION_BENCHMARK",
+                name,
+                documents.size() + " documents / allocated " + allocated / 1024 / 1024 + " MB",
+                size,
+                wallTime
+            );
+    }
+
+    private static Document createDocument(int i) {
+        List<String> parents = Arrays.asList(
+            "aeaqaaaaaahgotryaaqmqalqyvzqxkqaaaap" + i,
+            "aeaqaaaaaahgotryaaqmqalqyvzqxkqaaaao"
+        );
+        return new Document("_id", "aeaqaaaaaahgotryaaqmqalqyvzqxkqaaaaq" + i)
+            .append("_tenant", 0)
+            .append("DescriptionLevel", "Item")
+            .append("Title", "Titre de l'unité archivistique numéro " + i)
+            .append(
+                "Description",
+                "Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore"
+            )
+            .append("_up", parents)
+            .append("_us", parents)
+            .append("_sps", Arrays.asList("FRAN_NP_009913", "FRAN_NP_050056"))
+            .append("_sp", "FRAN_NP_009913")
+            .append("_opi", "aeeaaaaaachgotryaaqmqalqyvzqxkqaaaaq")
+            .append("_v", 3)
+            .append(
+                "_mgt",
+                new Document("AppraisalRule", new Document("Rules", Arrays.asList(new Document("Rule", "APP-00001"))))
+            );
+    }
+
+    private interface Serializer {
+        byte[] serialize(Document document);
+    }
+}
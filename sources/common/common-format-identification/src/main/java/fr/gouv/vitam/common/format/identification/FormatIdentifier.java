@@ -33,8 +33,15 @@ import fr.gouv.vitam.common.format.identification.exception.FormatIdentifierTech
 import fr.gouv.vitam.common.format.identification.model.FormatIdentifierInfo;
 import fr.gouv.vitam.common.format.identification.model.FormatIdentifierResponse;
 
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Format identifier interface
@@ -61,4 +68,34 @@ public interface FormatIdentifier {
      */
     List<FormatIdentifierResponse> analysePath(Path pathToFile)
         throws FileFormatNotFoundException, FormatIdentifierTechnicalException, FormatIdentifierBadRequestException, FormatIdentifierNotFoundException;
+
+    /**
+     * Identify the format of every file of a directory (sub directories are not analysed).<br>
+     * Default implementation identifies files one by one. Implementations able to scan a whole directory at once
+     * should override it to avoid one round-trip per file.
+     *
+     * @param directory the directory containing the files to be identified
+     * @return the matched formats by file path, an empty list meaning no format has been found for the file
+     * @throws FormatIdentifierBadRequestException if the given path dont match a directory
+     * @throws FormatIdentifierNotFoundException if the given identifier could not responds
+     * @throws FormatIdentifierTechnicalException for any other technical exception
+     */
+    default Map<Path, List<FormatIdentifierResponse>> analyseDirectory(Path directory)
+        throws FormatIdentifierTechnicalException, FormatIdentifierBadRequestException, FormatIdentifierNotFoundException {
+        final List<Path> files;
+        try (Stream<Path> paths = Files.list(directory)) {
+            files = paths.filter(Files::isRegularFile).collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new FormatIdentifierBadRequestException(e);
+        }
+        final Map<Path, List<FormatIdentifierResponse>> formats = new HashMap<>();
+        for (final Path file : files) {
+            try {
+                formats.put(file, analysePath(file));
+            } catch (FileFormatNotFoundException e) {
+                formats.put(file, Collections.emptyList());
+            }
+        }
+        return formats;
+    }
 }
@@ -47,6 +47,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -151,19 +152,67 @@ public class FormatIdentifierSiegfried implements FormatIdentifier {
         }
     }
 
+    /**
+     * Identify every file of the directory with a single Siegfried scan instead of one call per file.
+     */
+    @Override
+    public Map<Path, List<FormatIdentifierResponse>> analyseDirectory(Path directory)
+        throws FormatIdentifierBadRequestException, FormatIdentifierTechnicalException, FormatIdentifierNotFoundException {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("identify formats for files of " + directory);
+        }
+        try (SiegfriedClient siegfriedClient = siegfriedClientFactory.getClient()) {
+            final RequestResponse<JsonNode> response = siegfriedClient.analysePath(directory);
+            return extractFormats(response.toJsonNode().get("$results").get(0), directory);
+        }
+    }
+
     private List<FormatIdentifierResponse> extractFormat(JsonNode siegfriedResponse, Path path)
         throws FileFormatNotFoundException, FormatIdentifierBadRequestException {
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug("extract format from siegfried response");
         }
 
-        final List<FormatIdentifierResponse> matchesFormats = new ArrayList<>();
-
         final ArrayNode files = (ArrayNode) siegfriedResponse.get("files");
         if (files == null || files.size() != 1) {
             throw new FormatIdentifierBadRequestException("The given path is not link to an unique file");
         }
-        final JsonNode file = files.get(0);
+        final List<FormatIdentifierResponse> matchesFormats = extractMatches(files.get(0));
+
+        if (matchesFormats.isEmpty()) {
+            LOGGER.warn("No format match found for file " + path);
+            throw new FileFormatNotFoundException("No match found");
+        }
+
+        return matchesFormats;
+    }
+
+    private Map<Path, List<FormatIdentifierResponse>> extractFormats(JsonNode siegfriedResponse, Path directory)
+        throws FormatIdentifierBadRequestException {
+        final ArrayNode files = (ArrayNode) siegfriedResponse.get("files");
+        if (files == null) {
+            throw new FormatIdentifierBadRequestException("The given path is not link to a directory");
+        }
+
+        final Map<Path, List<FormatIdentifierResponse>> formats = new HashMap<>();
+        for (final JsonNode file : files) {
+            final JsonNode filename = file.get("filename");
+            if (filename == null) {
+                throw new FormatIdentifierBadRequestException("Siegfried response entry without filename");
+            }
+            // Siegfried reports the scanned path, only keep the name of the file within the analysed directory
+            final Path path = directory.resolve(Paths.get(filename.asText()).getFileName());
+            final List<FormatIdentifierResponse> matchesFormats = extractMatches(file);
+            if (matchesFormats.isEmpty()) {
+                LOGGER.warn("No format match found for file " + path);
+            }
+            formats.put(path, matchesFormats);
+        }
+        return formats;
+    }
+
+    private List<FormatIdentifierResponse> extractMatches(JsonNode file) {
+        final List<FormatIdentifierResponse> matchesFormats = new ArrayList<>();
 
         final ArrayNode matches = (ArrayNode) file.get("matches");
         for (final JsonNode match : matches) {
@@ -221,12 +270,6 @@ public class FormatIdentifierSiegfried implements FormatIdentifier {
                 }
             }
         }
-
-        if (matchesFormats.isEmpty()) {
-            LOGGER.warn("No format match found for file " + path);
-            throw new FileFormatNotFoundException("No match found");
-        }
-
         return matchesFormats;
     }
 
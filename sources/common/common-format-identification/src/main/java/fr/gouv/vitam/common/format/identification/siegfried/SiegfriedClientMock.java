@@ -27,6 +27,8 @@
 package fr.gouv.vitam.common.format.identification.siegfried;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import fr.gouv.vitam.common.client.AbstractMockClient;
 import fr.gouv.vitam.common.format.identification.exception.FormatIdentifierNotFoundException;
 import fr.gouv.vitam.common.format.identification.exception.FormatIdentifierTechnicalException;
@@ -34,7 +36,11 @@ import fr.gouv.vitam.common.json.JsonHandler;
 import fr.gouv.vitam.common.model.RequestResponse;
 import fr.gouv.vitam.common.model.RequestResponseOK;
 
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Mock client implementation for siegfried
@@ -50,9 +56,26 @@ class SiegfriedClientMock extends AbstractMockClient implements SiegfriedClient
     @Override
     public RequestResponse<JsonNode> analysePath(Path filePath)
         throws FormatIdentifierTechnicalException, FormatIdentifierNotFoundException {
+        if (Files.isDirectory(filePath)) {
+            return new RequestResponseOK().addResult(getDirectoryFormatJson(filePath));
+        }
         return new RequestResponseOK().addResult(getFormatJson(filePath));
     }
 
+    private JsonNode getDirectoryFormatJson(Path directory) throws FormatIdentifierTechnicalException {
+        final ArrayNode files = JsonHandler.createArrayNode();
+        try (Stream<Path> paths = Files.list(directory)) {
+            for (final Path file : paths.filter(Files::isRegularFile).collect(Collectors.toList())) {
+                final ObjectNode fileFormat = (ObjectNode) getFormatJson(file).get("files").get(0);
+                fileFormat.put("filename", file.toString());
+                files.add(fileFormat);
+            }
+        } catch (final IOException e) {
+            throw new FormatIdentifierTechnicalException(e);
+        }
+        return JsonHandler.createObjectNode().set("files", files);
+    }
+
     private JsonNode getVersionJson() {
         final String versionResponse = "{\"siegfried\":\"mock-1.0\"}";
         return getJsonNode(versionResponse);
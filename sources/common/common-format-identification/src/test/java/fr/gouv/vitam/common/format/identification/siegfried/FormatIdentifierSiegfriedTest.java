@@ -42,13 +42,16 @@ import org.junit.Test;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class FormatIdentifierSiegfriedTest {
@@ -58,15 +61,18 @@ public class FormatIdentifierSiegfriedTest {
     private static final String SAMPLE_UNKNOW_RESPONSE = "unknown-response.json";
     private static final String SAMPLE_UNKNOW_NOWARN_RESPONSE = "unknown-nowarn-response.json";
     private static final String SAMPLE_BAD_REQUEST_RESPONSE = "bad-request-response.json";
+    private static final String SAMPLE_DIRECTORY_RESPONSE = "directory-response.json";
 
     private static final JsonNode JSON_NODE_VERSION = getJsonNode(SAMPLE_VERSION_RESPONSE);
     private static final JsonNode JSON_NODE_RESPONSE_OK = getJsonNode(SAMPLE_OK_RESPONSE);
     private static final JsonNode JSON_NODE_RESPONSE_UNKNOW = getJsonNode(SAMPLE_UNKNOW_RESPONSE);
     private static final JsonNode JSON_NODE_RESPONSE_UNKNOW_NOWARN = getJsonNode(SAMPLE_UNKNOW_NOWARN_RESPONSE);
     private static final JsonNode JSON_NODE_RESPONSE_BAD = getJsonNode(SAMPLE_BAD_REQUEST_RESPONSE);
+    private static final JsonNode JSON_NODE_RESPONSE_DIRECTORY = getJsonNode(SAMPLE_DIRECTORY_RESPONSE);
 
     private static final Path VERSION_PATH = Paths.get("version/path");
     private static final Path FILE_PATH = Paths.get("file/path");
+    private static final Path DIRECTORY_PATH = Paths.get("/local/directory");
     private static SiegfriedClientFactory siegfriedClientFactory;
     private static SiegfriedClientRest siegfriedClientRest;
 
@@ -174,4 +180,29 @@ public class FormatIdentifierSiegfriedTest {
         when(siegfriedClientRest.analysePath(any())).thenThrow(FormatIdentifierNotFoundException.class);
         siegfried.analysePath(FILE_PATH);
     }
+
+    @Test
+    public void testSiegfriedIdentifyDirectory() throws Exception {
+        reset(siegfriedClientRest);
+        when(siegfriedClientRest.analysePath(DIRECTORY_PATH)).thenReturn(
+            new RequestResponseOK().addResult(JSON_NODE_RESPONSE_DIRECTORY)
+        );
+
+        final Map<Path, List<FormatIdentifierResponse>> response = siegfried.analyseDirectory(DIRECTORY_PATH);
+        assertEquals(2, response.size());
+        final List<FormatIdentifierResponse> zipFormats = response.get(DIRECTORY_PATH.resolve("test.zip"));
+        assertEquals(1, zipFormats.size());
+        assertEquals("x-fmt/263", zipFormats.get(0).getPuid());
+        assertTrue(response.get(DIRECTORY_PATH.resolve("test.pom")).isEmpty());
+        verify(siegfriedClientRest).analysePath(DIRECTORY_PATH);
+    }
+
+    @Test(expected = FormatIdentifierBadRequestException.class)
+    public void testSiegfriedIdentifyDirectoryBadPath() throws Exception {
+        reset(siegfriedClientRest);
+        when(siegfriedClientRest.analysePath(any())).thenReturn(
+            new RequestResponseOK().addResult(JsonHandler.createObjectNode())
+        );
+        siegfried.analyseDirectory(DIRECTORY_PATH);
+    }
 }
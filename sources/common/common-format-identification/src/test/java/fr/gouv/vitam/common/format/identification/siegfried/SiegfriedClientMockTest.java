@@ -28,8 +28,12 @@ package fr.gouv.vitam.common.format.identification.siegfried;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import fr.gouv.vitam.common.model.RequestResponse;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 
 import static org.junit.Assert.assertEquals;
@@ -38,6 +42,9 @@ import static org.junit.Assert.assertNotNull;
 
 public class SiegfriedClientMockTest {
 
+    @Rule
+    public TemporaryFolder tempFolder = new TemporaryFolder();
+
     @Test
     public void statusTest() {
         SiegfriedClientFactory.changeMode(null);
@@ -75,4 +82,22 @@ public class SiegfriedClientMockTest {
         assertNotNull(response);
         assertEquals(1, response.toJsonNode().get("$results").get(0).get("files").size());
     }
+
+    @Test
+    public void analyseDirectoryTest() throws Exception {
+        SiegfriedClientFactory.changeMode(null);
+
+        final SiegfriedClient client = SiegfriedClientFactory.getInstance().getClient();
+        final Path directory = tempFolder.newFolder().toPath();
+        Files.createFile(directory.resolve("file.pdf"));
+        Files.createFile(directory.resolve("file.png"));
+
+        final RequestResponse<JsonNode> response = client.analysePath(directory);
+        final JsonNode files = response.toJsonNode().get("$results").get(0).get("files");
+        assertEquals(2, files.size());
+        for (final JsonNode file : files) {
+            assertEquals(directory, Paths.get(file.get("filename").asText()).getParent());
+            assertEquals(1, file.get("matches").size());
+        }
+    }
 }
@@ -41,6 +41,7 @@ public class AccessLogInfoModel {
     private String qualifier;
     private Integer version;
     private Long size;
+    private String range;
 
     public Boolean getMustLog() {
         return mustLog;
@@ -130,6 +131,14 @@ public class AccessLogInfoModel {
         this.size = size;
     }
 
+    public String getRange() {
+        return range;
+    }
+
+    public void setRange(String range) {
+        this.range = range;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (super.equals(o)) {
@@ -158,7 +167,8 @@ public class AccessLogInfoModel {
             Objects.equals(this.archiveId, other.archiveId) &&
             Objects.equals(this.qualifier, other.qualifier) &&
             Objects.equals(this.version, other.version) &&
-            Objects.equals(this.size, other.size)
+            Objects.equals(this.size, other.size) &&
+            Objects.equals(this.range, other.range)
         );
     }
 }
@@ -32,6 +32,7 @@ import com.fasterxml.jackson.databind.node.LongNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.databind.node.TextNode;
 import fr.gouv.vitam.common.json.JsonHandler;
+import fr.gouv.vitam.common.model.ByteRange;
 import fr.gouv.vitam.common.model.VitamSession;
 import fr.gouv.vitam.common.model.administration.ActivationStatus;
 
@@ -118,6 +119,33 @@ public class AccessLogUtils {
         return logInfo;
     }
 
+    /**
+     * Access log information of a partial (byte range) object read. Logged size is the number of bytes served.
+     */
+    public static AccessLogInfoModel getInfoForAccessLog(
+        String qualifier,
+        Integer version,
+        VitamSession session,
+        Long size,
+        String archiveUnitId,
+        ByteRange range
+    ) {
+        if (range == null) {
+            return getInfoForAccessLog(qualifier, version, session, size, archiveUnitId);
+        }
+        AccessLogInfoModel logInfo = getInfoForAccessLog(
+            qualifier,
+            version,
+            session,
+            range.isBounded() ? range.getLength() : size,
+            archiveUnitId
+        );
+        if (logInfo.getMustLog()) {
+            logInfo.setRange(range.toHeaderValue());
+        }
+        return logInfo;
+    }
+
     public static Boolean checkFileInRequestedDates(String fileName, Date startDate, Date endDate) {
         if (startDate == null && endDate == null) {
             return true;
@@ -67,6 +67,27 @@ public final class VitamMetricsNames {
      */
     public static final String VITAM_STORAGE_DOWNLOAD_SIZE_BYTES = "vitam_storage_download_size_bytes";
 
+    /**
+     * Number of entries appended to storage write / access logs
+     * Type: Counter
+     * Labels: "log_type"
+     */
+    public static final String VITAM_STORAGE_LOG_APPENDED_ENTRIES_TOTAL = "vitam_storage_log_appended_entries_total";
+
+    /**
+     * Duration of storage log appends, from submission until the entry is written with requested durability
+     * Type: Histogram
+     * Labels: "log_type"
+     */
+    public static final String VITAM_STORAGE_LOG_APPEND_DURATION = "vitam_storage_log_append_duration";
+
+    /**
+     * Number of storage log entries written per batch by the storage log batch writer
+     * Type: Histogram
+     * Labels: None
+     */
+    public static final String VITAM_STORAGE_LOG_BATCH_SIZE = "vitam_storage_log_batch_size";
+
     /**
      * Vitam alert service counter per log_level
      * Type: Counter
@@ -81,6 +102,26 @@ public final class VitamMetricsNames {
      */
     public static final String VITAM_CONSISTENCY_ERRORS_COUNT = "vitam_consistency_errors_count";
 
+    /*
+     * =================================
+     *            Security
+     * ==================================
+     */
+
+    /**
+     * Number of security context cache lookups (client certificate identity & context resolution)
+     * Type: Counter
+     * Labels: "result" (hit / miss)
+     */
+    public static final String VITAM_SECURITY_CONTEXT_CACHE_REQUESTS_TOTAL =
+        "vitam_security_context_cache_requests_total";
+
+    /**
+     * Security context cache hit rate
+     * Type: Gauge
+     */
+    public static final String VITAM_SECURITY_CONTEXT_CACHE_HIT_RATE = "vitam_security_context_cache_hit_rate";
+
     /*
      * =================================
      *            Processing
@@ -141,6 +182,29 @@ public final class VitamMetricsNames {
     public static final String VITAM_PROCESSING_WORKFLOW_STEP_EXECUTION_DURATION_SECONDS =
         "vitam_processing_workflow_step_execution_duration_seconds";
 
+    /**
+     * Total size of distribution file chunks downloaded in background from workspace
+     * Type: Counter
+     * Labels: "buffer" (memory / disk)
+     */
+    public static final String VITAM_PROCESSING_DISTRIBUTION_PREFETCHED_BYTES_TOTAL =
+        "vitam_processing_distribution_prefetched_bytes_total";
+
+    /**
+     * Time spent by distributor waiting for next distribution file chunk
+     * Type: Histogram
+     */
+    public static final String VITAM_PROCESSING_DISTRIBUTION_CHUNK_STALL_DURATION_SECONDS =
+        "vitam_processing_distribution_chunk_stall_duration_seconds";
+
+    /**
+     * Number of binary objects checked by batched integrity audits, per offer and check result
+     * Type: Counter
+     * Labels: "offer_id", "status"
+     */
+    public static final String VITAM_PROCESSING_INTEGRITY_AUDIT_CHECKED_OBJECTS_TOTAL =
+        "vitam_processing_integrity_audit_checked_objects_total";
+
     /*
      * =================================
      *            Metadata
@@ -223,6 +287,35 @@ public final class VitamMetricsNames {
     public static final String VITAM_LOGBOOK_OPERATION_RECONSTRUCTION_LATENCY_SECONDS =
         "vitam_logbook_reconstruction_operation_latency_seconds";
 
+    /*
+     * =================================
+     *            Offer
+     * ==================================
+     */
+    /**
+     * Number of objects whose digest was recomputed by batch metadata requests (without cache)
+     * Type: Counter
+     * Labels: "container"
+     */
+    public static final String VITAM_OFFER_DIGEST_COMPUTATION_OBJECTS_TOTAL =
+        "vitam_offer_digest_computation_objects_total";
+
+    /**
+     * Total size in bytes of objects read to recompute digests of batch metadata requests (without cache)
+     * Type: Counter
+     * Labels: "container"
+     */
+    public static final String VITAM_OFFER_DIGEST_COMPUTATION_READ_BYTES_TOTAL =
+        "vitam_offer_digest_computation_read_bytes_total";
+
+    /**
+     * Time spent waiting for the read bandwidth cap of batch digest computation
+     * Type: Counter
+     * Labels: "container"
+     */
+    public static final String VITAM_OFFER_DIGEST_COMPUTATION_THROTTLED_SECONDS_TOTAL =
+        "vitam_offer_digest_computation_throttled_seconds_total";
+
     /*
      * =================================
      *            Tape Offer
@@ -384,6 +477,22 @@ public final class VitamMetricsNames {
     public static final String VITAM_TAPE_OFFER_WRITE_ORDER_EXECUTION_DURATION =
         "vitam_offer_tape_write_order_execution_duration";
 
+    /**
+     * Number of tape seeks (forward / backward file moves) required by read orders of a Vitam tape storage offer
+     * Type: Counter
+     * Labels: "library", "drive", "direction"
+     */
+    public static final String VITAM_TAPE_OFFER_READ_ORDER_TAPE_SEEKS_TOTAL =
+        "vitam_offer_tape_read_order_tape_seeks_total";
+
+    /**
+     * Total size in bytes of archives read from tapes by read orders of a Vitam tape storage offer
+     * Type: Counter
+     * Labels: "library", "drive"
+     */
+    public static final String VITAM_TAPE_OFFER_READ_ORDER_READ_BYTES_TOTAL =
+        "vitam_offer_tape_read_order_read_bytes_total";
+
     /**
      * Total size in bytes of input files queued for archival
      * Type: Gauge
@@ -0,0 +1,354 @@
+/*
+ * Copyright French Prime minister Office/SGMAP/DINSIC/Vitam Program (2015-2022)
+ *
+ * contact.vitam@culture.gouv.fr
+ *
+ * This software is a computer program whose purpose is to implement a digital archiving back-office system managing
+ * high volumetry securely and efficiently.
+ *
+ * This software is governed by the CeCILL 2.1 license under French law and abiding by the rules of distribution of free
+ * software. You can use, modify and/ or redistribute the software under the terms of the CeCILL 2.1 license as
+ * circulated by CEA, CNRS and INRIA at the following URL "https://cecill.info".
+ *
+ * As a counterpart to the access to the source code and rights to copy, modify and redistribute granted by the license,
+ * users are provided only with a limited warranty and the software's author, the holder of the economic rights, and the
+ * successive licensors have only limited liability.
+ *
+ * In this respect, the user's attention is drawn to the risks associated with loading, using, modifying and/or
+ * developing or reproducing the software by the user in light of its specific status of free software, that may mean
+ * that it is complicated to manipulate, and that also therefore means that it is reserved for developers and
+ * experienced professionals having in-depth computer knowledge. Users are therefore encouraged to load and test the
+ * software's suitability as regards their requirements in conditions enabling the security of their systems and/or data
+ * to be ensured and, more generally, to use and operate it in the same conditions as regards security.
+ *
+ * The fact that you are presently reading this means that you have had knowledge of the CeCILL 2.1 license and that you
+ * accept its terms.
+ */
+package fr.gouv.vitam.common.security.merkletree;
+
+import fr.gouv.vitam.common.BaseXx;
+import fr.gouv.vitam.common.digest.Digest;
+import fr.gouv.vitam.common.digest.DigestType;
+import fr.gouv.vitam.common.exception.VitamRuntimeException;
+import fr.gouv.vitam.common.thread.VitamThreadFactory;
+import org.apache.commons.io.output.CloseShieldOutputStream;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.RandomAccessFile;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Streaming MerkleTreeAlgo.
+ *
+ * Computes the same Merkle tree (same root hash, same padding with {@link MerkleTree#EMPTY_LEAF}) as
+ * {@link MerkleTreeAlgo}, without keeping the tree in memory : only the roots of pending complete subtrees (at most one
+ * per tree level) are kept. Leaves are hashed in parallel, by ordered chunks.
+ *
+ * When a node file is given, node hashes are spilled to it (in post-order) so that the full tree can be serialized
+ * afterwards with {@link #writeMerkleTree(OutputStream)}, with the same json format as the {@link MerkleTree}.
+ */
+public class StreamingMerkleTreeAlgo extends MerkleTreeAlgo implements AutoCloseable {
+
+    private static final int LEAF_CHUNK_SIZE = 256;
+    private static final int SUBTREE_BLOCK_HEIGHT = 10;
+    private static final byte[] EMPTY_HASH = MerkleTree.EMPTY_LEAF.getRoot();
+
+    private final DigestType digestType;
+    private final int recordSize;
+    private final ExecutorService executor;
+    private final int maxChunksInFlight;
+    private final File nodeFile;
+    private final DataOutputStream nodeOutputStream;
+
+    /**
+     * Pending subtree roots, the highest subtree being at the bottom of the stack
+     */
+    private final Deque<PendingNode> pendingNodes = new ArrayDeque<>();
+    private final Deque<Future<byte[][]>> chunksInFlight = new ArrayDeque<>();
+    private List<byte[]> currentChunk = new ArrayList<>(LEAF_CHUNK_SIZE);
+    private long numberOfLeaves = 0;
+    private MerkleTree merkleTree;
+    private boolean generated = false;
+
+    /**
+     * Compute the root hash only, hashing leaves in the caller thread
+     *
+     * @param digestType the digest type
+     */
+    public StreamingMerkleTreeAlgo(DigestType digestType) {
+        this(digestType, 1, null);
+    }
+
+    /**
+     * @param digestType the digest type
+     * @param parallelism number of threads used to hash leaves
+     * @param nodeFile file used to store node hashes for later serialization, or null to compute the root hash only
+     */
+    public StreamingMerkleTreeAlgo(DigestType digestType, int parallelism, File nodeFile) {
+        super(digestType);
+        this.digestType = digestType;
+        this.recordSize = 1 + new Digest(digestType).digest().length;
+        this.executor = parallelism > 1
+            ? Executors.newFixedThreadPool(parallelism, VitamThreadFactory.getInstance())
+            : null;
+        this.maxChunksInFlight = 2 * parallelism;
+        this.nodeFile = nodeFile;
+        try {
+            this.nodeOutputStream = nodeFile != null
+                ? new DataOutputStream(new BufferedOutputStream(new FileOutputStream(nodeFile)))
+                : null;
+        } catch (IOException e) {
+            throw new VitamRuntimeException("Could not create merkle tree node file " + nodeFile, e);
+        }
+    }
+
+    /**
+     * adds leaf to the MerkleTree
+     *
+     * @param data
+     */
+    @Override
+    public void addLeaf(byte[] data) {
+        if (generated) {
+            throw new IllegalStateException("Merkle tree already generated");
+        }
+        currentChunk.add(data);
+        if (currentChunk.size() == LEAF_CHUNK_SIZE) {
+            submitCurrentChunk();
+        }
+    }
+
+    /**
+     * Finish the computation of the Merkle tree.
+     *
+     * @return a MerkleTree holding the root hash only (without child nodes), or null if no leaf has been added
+     */
+    @Override
+    public MerkleTree generateMerkle() {
+        if (generated) {
+            return merkleTree;
+        }
+        submitCurrentChunk();
+        while (!chunksInFlight.isEmpty()) {
+            appendLeafHashes(await(chunksInFlight.poll()));
+        }
+        shutdownExecutor();
+
+        // Padding up to the next power of 2
+        while (pendingNodes.size() > 1) {
+            appendNode(EMPTY_HASH);
+        }
+        flushNodeFile();
+        generated = true;
+        merkleTree = pendingNodes.isEmpty() ? null : new MerkleTree(pendingNodes.peek().hash, null, null);
+        return merkleTree;
+    }
+
+    /**
+     * Write the full Merkle tree, serialized in json (same format as a serialized {@link MerkleTree}).
+     *
+     * @param outputStream the target stream (not closed)
+     * @throws IOException if the tree cannot be written
+     */
+    public void writeMerkleTree(OutputStream outputStream) throws IOException {
+        if (nodeFile == null) {
+            throw new IllegalStateException("Merkle tree nodes are not stored");
+        }
+        generateMerkle();
+        if (numberOfLeaves == 0) {
+            throw new IllegalStateException("Empty merkle tree");
+        }
+        int height = Long.numberOfTrailingZeros(pendingNodes.peek().size);
+        try (
+            RandomAccessFile nodes = new RandomAccessFile(nodeFile, "r");
+            Writer writer = new OutputStreamWriter(
+                new BufferedOutputStream(new CloseShieldOutputStream(outputStream)),
+                StandardCharsets.UTF_8
+            )
+        ) {
+            writeNode(nodes, writer, 0, height);
+        }
+    }
+
+    /**
+     * Nodes are stored in post-order : the node of height h at index i has its left subtree starting at i, its right
+     * subtree starting at i + 2^h - 1, and is itself at i + 2^(h+1) - 2.
+     */
+    private void writeNode(RandomAccessFile nodes, Writer writer, long index, int height) throws IOException {
+        if (height <= SUBTREE_BLOCK_HEIGHT) {
+            // Small subtrees are read at once
+            byte[] subtree = new byte[((2 << height) - 1) * recordSize];
+            nodes.seek(index * recordSize);
+            nodes.readFully(subtree);
+            writeNode(subtree, writer, 0, height);
+            return;
+        }
+        long subtreeSize = (1L << height) - 1;
+        byte[] record = new byte[recordSize];
+        nodes.seek((index + 2 * subtreeSize) * recordSize);
+        nodes.readFully(record);
+        writeRoot(writer, record, 0);
+        writer.write(",\"l\":");
+        writeNode(nodes, writer, index, height - 1);
+        writer.write(",\"r\":");
+        writeNode(nodes, writer, index + subtreeSize, height - 1);
+        writer.write('}');
+    }
+
+    private void writeNode(byte[] subtree, Writer writer, int index, int height) throws IOException {
+        int subtreeSize = (1 << height) - 1;
+        writeRoot(writer, subtree, (index + 2 * subtreeSize) * recordSize);
+        if (height > 0) {
+            writer.write(",\"l\":");
+            writeNode(subtree, writer, index, height - 1);
+            writer.write(",\"r\":");
+            writeNode(subtree, writer, index + subtreeSize, height - 1);
+        }
+        writer.write('}');
+    }
+
+    private void writeRoot(Writer writer, byte[] records, int offset) throws IOException {
+        int hashLength = Byte.toUnsignedInt(records[offset]);
+        writer.write("{\"Root\":\"");
+        writer.write(BaseXx.getBase64(Arrays.copyOfRange(records, offset + 1, offset + 1 + hashLength)));
+        writer.write('"');
+    }
+
+    private void submitCurrentChunk() {
+        if (currentChunk.isEmpty()) {
+            return;
+        }
+        List<byte[]> chunk = currentChunk;
+        currentChunk = new ArrayList<>(LEAF_CHUNK_SIZE);
+        if (executor == null) {
+            appendLeafHashes(hashLeaves(chunk));
+            return;
+        }
+        if (chunksInFlight.size() >= maxChunksInFlight) {
+            appendLeafHashes(await(chunksInFlight.poll()));
+        }
+        chunksInFlight.add(executor.submit(() -> hashLeaves(chunk)));
+    }
+
+    private byte[][] hashLeaves(List<byte[]> chunk) {
+        byte[][] hashes = new byte[chunk.size()][];
+        for (int i = 0; i < hashes.length; i++) {
+            hashes[i] = new Digest(digestType).update(chunk.get(i)).digest();
+        }
+        return hashes;
+    }
+
+    private byte[][] await(Future<byte[][]> chunkHashes) {
+        try {
+            return chunkHashes.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new VitamRuntimeException(e);
+        } catch (ExecutionException e) {
+            throw new VitamRuntimeException(e.getCause());
+        }
+    }
+
+    private void appendLeafHashes(byte[][] hashes) {
+        for (byte[] hash : hashes) {
+            numberOfLeaves++;
+            appendNode(hash);
+        }
+    }
+
+    /**
+     * Push a leaf, merging it with the pending subtrees of the same size
+     */
+    private void appendNode(byte[] hash) {
+        PendingNode node = new PendingNode(hash, 1);
+        storeNode(node.hash);
+        while (!pendingNodes.isEmpty() && pendingNodes.peek().size == node.size) {
+            PendingNode left = pendingNodes.pop();
+            node = new PendingNode(concat(left.hash, node.hash), 2 * node.size);
+            storeNode(node.hash);
+        }
+        pendingNodes.push(node);
+    }
+
+    private byte[] concat(byte[] left, byte[] right) {
+        final Digest digest = new Digest(digestType);
+        digest.update(left);
+        digest.update(right);
+        return digest.digest();
+    }
+
+    private void storeNode(byte[] hash) {
+        if (nodeOutputStream == null) {
+            return;
+        }
+        try {
+            nodeOutputStream.writeByte(hash.length);
+            nodeOutputStream.write(hash);
+            nodeOutputStream.write(new byte[recordSize - 1 - hash.length]);
+        } catch (IOException e) {
+            throw new VitamRuntimeException("Could not store merkle tree node", e);
+        }
+    }
+
+    private void flushNodeFile() {
+        if (nodeOutputStream == null) {
+            return;
+        }
+        try {
+            nodeOutputStream.close();
+        } catch (IOException e) {
+            throw new VitamRuntimeException("Could not store merkle tree nodes", e);
+        }
+    }
+
+    private void shutdownExecutor() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Release threads and delete the node file
+     */
+    @Override
+    public void close() {
+        shutdownExecutor();
+        if (nodeFile != null) {
+            try {
+                nodeOutputStream.close();
+            } catch (IOException e) {
+                // Nothing to do
+            }
+            if (nodeFile.exists() && !nodeFile.delete()) {
+                nodeFile.deleteOnExit();
+            }
+        }
+    }
+
+    private static class PendingNode {
+
+        private final byte[] hash;
+        private final long size;
+
+        private PendingNode(byte[] hash, long size) {
+            this.hash = hash;
+            this.size = size;
+        }
+    }
+}
@@ -28,10 +28,15 @@ package fr.gouv.vitam.common.server.application.configuration;
 
 public class DataConsistencyAuditConfig {
 
+    public static final int DEFAULT_BATCH_SIZE = 1000;
+    public static final int DEFAULT_THREAD_POOL_SIZE = 4;
+
     private Boolean isDataConsistencyAuditRunnable;
     private Integer dataConsistencyAuditOplogMaxSize;
     private Boolean dbAuthentication = false;
     private MongoDbShardConf mongodShardsConf;
+    private int batchSize = DEFAULT_BATCH_SIZE;
+    private int threadPoolSize = DEFAULT_THREAD_POOL_SIZE;
 
     public DataConsistencyAuditConfig() {}
 
@@ -47,6 +52,19 @@ public class DataConsistencyAuditConfig {
         this.dbAuthentication = dbAuthentication;
     }
 
+    public DataConsistencyAuditConfig(
+        Boolean isDataConsistencyAuditRunnable,
+        Integer dataConsistencyAuditOplogMaxSize,
+        MongoDbShardConf mongodShardsConf,
+        Boolean dbAuthentication,
+        int batchSize,
+        int threadPoolSize
+    ) {
+        this(isDataConsistencyAuditRunnable, dataConsistencyAuditOplogMaxSize, mongodShardsConf, dbAuthentication);
+        this.batchSize = batchSize;
+        this.threadPoolSize = threadPoolSize;
+    }
+
     public Boolean getIsDataConsistencyAuditRunnable() {
         return isDataConsistencyAuditRunnable;
     }
@@ -78,4 +96,20 @@ public class DataConsistencyAuditConfig {
     public void setDbAuthentication(Boolean dbAuthentication) {
         this.dbAuthentication = dbAuthentication;
     }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public int getThreadPoolSize() {
+        return threadPoolSize;
+    }
+
+    public void setThreadPoolSize(int threadPoolSize) {
+        this.threadPoolSize = threadPoolSize;
+    }
 }
@@ -0,0 +1,206 @@
+/*
+ * Copyright French Prime minister Office/SGMAP/DINSIC/Vitam Program (2015-2022)
+ *
+ * contact.vitam@culture.gouv.fr
+ *
+ * This software is a computer program whose purpose is to implement a digital archiving back-office system managing
+ * high volumetry securely and efficiently.
+ *
+ * This software is governed by the CeCILL 2.1 license under French law and abiding by the rules of distribution of free
+ * software. You can use, modify and/ or redistribute the software under the terms of the CeCILL 2.1 license as
+ * circulated by CEA, CNRS and INRIA at the following URL "https://cecill.info".
+ *
+ * As a counterpart to the access to the source code and rights to copy, modify and redistribute granted by the license,
+ * users are provided only with a limited warranty and the software's author, the holder of the economic rights, and the
+ * successive licensors have only limited liability.
+ *
+ * In this respect, the user's attention is drawn to the risks associated with loading, using, modifying and/or
+ * developing or reproducing the software by the user in light of its specific status of free software, that may mean
+ * that it is complicated to manipulate, and that also therefore means that it is reserved for developers and
+ * experienced professionals having in-depth computer knowledge. Users are therefore encouraged to load and test the
+ * software's suitability as regards their requirements in conditions enabling the security of their systems and/or data
+ * to be ensured and, more generally, to use and operate it in the same conditions as regards security.
+ *
+ * The fact that you are presently reading this means that you have had knowledge of the CeCILL 2.1 license and that you
+ * accept its terms.
+ */
+package fr.gouv.vitam.common.thread;
+
+import fr.gouv.vitam.common.logging.VitamLogger;
+import fr.gouv.vitam.common.logging.VitamLoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.ToIntFunction;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Single consumer thread processing queued entries by batches (group commit).
+ *
+ * The consumer thread :
+ * - waits for a first entry
+ * - lingers at most maxWaitTimeInMillis for more entries, while batch weight does not exceed maxBatchWeight
+ * - hands the batch to the batch handler
+ *
+ * An entry that would exceed the max batch weight is carried over to the next batch, so entries are always processed
+ * in enqueue order. Once closed, no more entries are accepted, and pending ones are processed before thread termination.
+ * Entries that could not be processed (consumer thread interrupted, or unexpected batch handler failure) are handed to
+ * the unprocessed entry handler.
+ *
+ * @param <T> entry type
+ */
+public class BatchingQueueConsumer<T> implements AutoCloseable {
+
+    private static final VitamLogger LOGGER = VitamLoggerFactory.getInstance(BatchingQueueConsumer.class);
+
+    private static final long POLL_TIMEOUT_IN_MILLIS = 500L;
+
+    private final BlockingQueue<T> queue;
+    private final int maxBatchWeight;
+    private final long maxWaitTimeInNanos;
+    private final ToIntFunction<T> weigher;
+    private final Consumer<List<T>> batchHandler;
+    private final Consumer<T> unprocessedEntryHandler;
+    private final Thread consumerThread;
+    // Enqueuing (read lock) & shutdown (write lock) are exclusive, so that no entry is enqueued after thread termination
+    private final ReadWriteLock lifecycleLock = new ReentrantReadWriteLock();
+    private volatile boolean shutdown = false;
+
+    /**
+     * @param threadName consumer thread name
+     * @param queue queue of pending entries. A bounded queue blocks producers when full.
+     * @param maxBatchWeight max weight of a batch. A single entry heavier than maxBatchWeight is processed alone.
+     * @param maxWaitTimeInMillis max time to wait for more entries once a first entry is polled
+     * @param weigher weight of an entry (1 to limit batch size by entry count)
+     * @param batchHandler processes a batch of entries. Should handle its own failures.
+     * @param unprocessedEntryHandler invoked for every entry that could not be processed
+     */
+    public BatchingQueueConsumer(
+        String threadName,
+        BlockingQueue<T> queue,
+        int maxBatchWeight,
+        long maxWaitTimeInMillis,
+        ToIntFunction<T> weigher,
+        Consumer<List<T>> batchHandler,
+        Consumer<T> unprocessedEntryHandler
+    ) {
+        this.queue = queue;
+        this.maxBatchWeight = maxBatchWeight;
+        this.maxWaitTimeInNanos = MILLISECONDS.toNanos(maxWaitTimeInMillis);
+        this.weigher = weigher;
+        this.batchHandler = batchHandler;
+        this.unprocessedEntryHandler = unprocessedEntryHandler;
+        this.consumerThread = VitamThreadFactory.getInstance().newThread(this::consumeLoop);
+        this.consumerThread.setName(threadName);
+        this.consumerThread.setDaemon(true);
+        this.consumerThread.start();
+    }
+
+    /**
+     * Enqueues an entry, blocking while a bounded queue is full.
+     *
+     * @return false if consumer is closed (entry not enqueued)
+     * @throws InterruptedException if interrupted while waiting for queue space
+     */
+    public boolean submit(T entry) throws InterruptedException {
+        lifecycleLock.readLock().lock();
+        try {
+            if (shutdown) {
+                return false;
+            }
+            queue.put(entry);
+            return true;
+        } finally {
+            lifecycleLock.readLock().unlock();
+        }
+    }
+
+    private void consumeLoop() {
+        T carryOver = null;
+        while (!shutdown || carryOver != null || !queue.isEmpty()) {
+            try {
+                T first = carryOver != null ? carryOver : queue.poll(POLL_TIMEOUT_IN_MILLIS, MILLISECONDS);
+                carryOver = null;
+                if (first == null) {
+                    continue;
+                }
+
+                List<T> batch = new ArrayList<>();
+                batch.add(first);
+                int batchWeight = weigher.applyAsInt(first);
+
+                long deadline = System.nanoTime() + maxWaitTimeInNanos;
+                while (batchWeight < maxBatchWeight) {
+                    long remainingNanos = deadline - System.nanoTime();
+                    T next = remainingNanos > 0 ? queue.poll(remainingNanos, TimeUnit.NANOSECONDS) : queue.poll();
+                    if (next == null) {
+                        break;
+                    }
+                    int weight = weigher.applyAsInt(next);
+                    if (batchWeight + weight > maxBatchWeight) {
+                        carryOver = next;
+                        break;
+                    }
+                    batch.add(next);
+                    batchWeight += weight;
+                }
+
+                process(batch);
+            } catch (InterruptedException e) {
+                LOGGER.warn("Batching queue consumer thread interrupted", e);
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+
+        if (carryOver != null) {
+            unprocessedEntryHandler.accept(carryOver);
+        }
+        T remaining;
+        while ((remaining = queue.poll()) != null) {
+            unprocessedEntryHandler.accept(remaining);
+        }
+    }
+
+    private void process(List<T> batch) {
+        try {
+            batchHandler.accept(batch);
+        } catch (RuntimeException e) {
+            LOGGER.error("Could not process batch of " + batch.size() + " entries", e);
+            batch.forEach(unprocessedEntryHandler);
+        }
+    }
+
+    /**
+     * Stops accepting new entries, and waits for pending ones to be processed.
+     *
+     * @param timeoutInMillis max time to wait for consumer thread termination (0 to wait forever)
+     * @return true if consumer thread terminated
+     */
+    public boolean close(long timeoutInMillis) {
+        lifecycleLock.writeLock().lock();
+        try {
+            shutdown = true;
+        } finally {
+            lifecycleLock.writeLock().unlock();
+        }
+        try {
+            consumerThread.join(timeoutInMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.warn("Interrupted while waiting for batching queue consumer thread termination", e);
+        }
+        return !consumerThread.isAlive();
+    }
+
+    @Override
+    public void close() {
+        close(0L);
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright French Prime minister Office/SGMAP/DINSIC/Vitam Program (2015-2022)
+ *
+ * contact.vitam@culture.gouv.fr
+ *
+ * This software is a computer program whose purpose is to implement a digital archiving back-office system managing
+ * high volumetry securely and efficiently.
+ *
+ * This software is governed by the CeCILL 2.1 license under French law and abiding by the rules of distribution of free
+ * software. You can use, modify and/ or redistribute the software under the terms of the CeCILL 2.1 license as
+ * circulated by CEA, CNRS and INRIA at the following URL "https://cecill.info".
+ *
+ * As a counterpart to the access to the source code and rights to copy, modify and redistribute granted by the license,
+ * users are provided only with a limited warranty and the software's author, the holder of the economic rights, and the
+ * successive licensors have only limited liability.
+ *
+ * In this respect, the user's attention is drawn to the risks associated with loading, using, modifying and/or
+ * developing or reproducing the software by the user in light of its specific status of free software, that may mean
+ * that it is complicated to manipulate, and that also therefore means that it is reserved for developers and
+ * experienced professionals having in-depth computer knowledge. Users are therefore encouraged to load and test the
+ * software's suitability as regards their requirements in conditions enabling the security of their systems and/or data
+ * to be ensured and, more generally, to use and operate it in the same conditions as regards security.
+ *
+ * The fact that you are presently reading this means that you have had knowledge of the CeCILL 2.1 license and that you
+ * accept its terms.
+ */
+package fr.gouv.vitam.common.security.merkletree;
+
+import fr.gouv.vitam.common.json.JsonHandler;
+import fr.gouv.vitam.common.performance.PerformanceLogger;
+import org.apache.commons.io.output.CountingOutputStream;
+import org.apache.commons.io.output.NullOutputStream;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+
+import static fr.gouv.vitam.common.digest.DigestType.SHA512;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assume.assumeTrue;
+
+public class StreamingMerkleTreeAlgoTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void should_compute_same_root_hash_as_merkle_tree_algo() {
+        for (int numberOfLeaves = 1; numberOfLeaves <= 1100; numberOfLeaves++) {
+            // Given
+            MerkleTreeAlgo merkleTreeAlgo = new MerkleTreeAlgo(SHA512);
+            try (StreamingMerkleTreeAlgo streamingMerkleTreeAlgo = new StreamingMerkleTreeAlgo(SHA512, 4, null)) {
+                for (int i = 0; i < numberOfLeaves; i++) {
+                    merkleTreeAlgo.addLeaf("leaf" + i);
+                    streamingMerkleTreeAlgo.addLeaf("leaf" + i);
+                }
+
+                // When
+                MerkleTree streamingMerkleTree = streamingMerkleTreeAlgo.generateMerkle();
+
+                // Then
+                assertThat(streamingMerkleTree.getRoot()).isEqualTo(merkleTreeAlgo.generateMerkle().getRoot());
+            }
+        }
+    }
+
+    @Test
+    public void should_serialize_same_tree_as_merkle_tree_algo() throws Exception {
+        for (int numberOfLeaves : new int[] { 1, 2, 3, 5, 8, 13, 300, 513 }) {
+            // Given
+            MerkleTreeAlgo merkleTreeAlgo = new MerkleTreeAlgo(SHA512);
+            try (
+                StreamingMerkleTreeAlgo streamingMerkleTreeAlgo = new StreamingMerkleTreeAlgo(
+                    SHA512,
+                    2,
+                    temporaryFolder.newFile()
+                )
+            ) {
+                for (int i = 0; i < numberOfLeaves; i++) {
+                    merkleTreeAlgo.addLeaf("leaf" + i);
+                    streamingMerkleTreeAlgo.addLeaf("leaf" + i);
+                }
+
+                // When
+                ByteArrayOutputStream serializedTree = new ByteArrayOutputStream();
+                streamingMerkleTreeAlgo.writeMerkleTree(serializedTree);
+
+                // Then
+                assertThat(serializedTree.toString(StandardCharsets.UTF_8)).isEqualTo(
+                    JsonHandler.unprettyPrint(merkleTreeAlgo.generateMerkle())
+                );
+            }
+        }
+    }
+
+    @Test
+    public void should_return_null_when_no_leaf() {
+        try (StreamingMerkleTreeAlgo streamingMerkleTreeAlgo = new StreamingMerkleTreeAlgo(SHA512)) {
+            assertThat(streamingMerkleTreeAlgo.generateMerkle()).isNull();
+        }
+    }
+
+    @Test
+    public void should_delete_node_file_on_close() throws Exception {
+        // Given
+        File nodeFile = temporaryFolder.newFile();
+        StreamingMerkleTreeAlgo streamingMerkleTreeAlgo = new StreamingMerkleTreeAlgo(SHA512, 2, nodeFile);
+        streamingMerkleTreeAlgo.addLeaf("leaf");
+        streamingMerkleTreeAlgo.generateMerkle();
+
+        // When
+        streamingMerkleTreeAlgo.close();
+
+        // Then
+        assertThat(nodeFile).doesNotExist();
+    }
+
+    @Test
+    public void benchmark_streaming_merkle_tree() throws Exception {
+        assumeTrue(Boolean.getBoolean("merkleTreeBenchmark"));
+
+        int numberOfLeaves = 1_000_000;
+        byte[][] leaves = new byte[1000][];
+        for (int i = 0; i < leaves.length; i++) {
+            String leaf = "{\"_id\":\"aeaqaaaaaaftu7s5aasbcalrwmt5ktqaaaa" + i + "\",\"evType\":\"LFC.CHECK\"}";
+            leaves[i] = leaf.getBytes(StandardCharsets.UTF_8);
+        }
+
+        System.gc();
+        long usedMemoryBefore = Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory();
+        long start = System.currentTimeMillis();
+        MerkleTreeAlgo merkleTreeAlgo = new MerkleTreeAlgo(SHA512);
+        for (int i = 0; i < numberOfLeaves; i++) {
+            merkleTreeAlgo.addLeaf(leaves[i % leaves.length]);
+        }
+        MerkleTree merkleTree = merkleTreeAlgo.generateMerkle();
+        System.gc();
+        long usedMemory = Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory() - usedMemoryBefore;
+        int serializedTreeSize = JsonHandler.unprettyPrint(merkleTree).length();
+        PerformanceLogger.getInstance()
+            .log(
+                "MERKLE_TREE",
+                "MerkleTreeAlgo",
+                "usedMemory=" + usedMemory,
+                numberOfLeaves,
+                System.currentTimeMillis() - start
+            );
+        merkleTree = null;
+        merkleTreeAlgo = null;
+
+        System.gc();
+        usedMemoryBefore = Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory();
+        start = System.currentTimeMillis();
+        CountingOutputStream streamedTree = new CountingOutputStream(NullOutputStream.NULL_OUTPUT_STREAM);
+        try (
+            StreamingMerkleTreeAlgo streamingMerkleTreeAlgo = new StreamingMerkleTreeAlgo(
+                SHA512,
+                Runtime.getRuntime().availableProcessors(),
+                temporaryFolder.newFile()
+            )
+        ) {
+            for (int i = 0; i < numberOfLeaves; i++) {
+                streamingMerkleTreeAlgo.addLeaf(leaves[i % leaves.length]);
+            }
+            streamingMerkleTreeAlgo.generateMerkle();
+            System.gc();
+            usedMemory = Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory() - usedMemoryBefore;
+            PerformanceLogger.getInstance()
+                .log(
+                    "MERKLE_TREE",
+                    "StreamingMerkleTreeAlgo",
+                    "usedMemory=" + usedMemory,
+                    numberOfLeaves,
+                    System.currentTimeMillis() - start
+                );
+            start = System.currentTimeMillis();
+            streamingMerkleTreeAlgo.writeMerkleTree(streamedTree);
+            PerformanceLogger.getInstance()
+                .log("MERKLE_TREE", "StreamingMerkleTreeAlgo", "writeMerkleTree", System.currentTimeMillis() - start);
+        }
+
+        assertThat(streamedTree.getByteCount()).isEqualTo(serializedTreeSize);
+    }
+}
@@ -31,9 +31,13 @@ import fr.gouv.vitam.common.junit.JunitHelper;
 import org.junit.Test;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.fail;
 
@@ -87,4 +91,23 @@ public class StreamUtilsTest {
         assertEquals(0, inputStream.available());
         assertEquals(size, inputStream.readCount());
     }
+
+    @Test
+    public void testDecompressIfGzipped() throws IOException {
+        final byte[] data = "{\"a\":1}\n{\"b\":2}".getBytes(StandardCharsets.UTF_8);
+        final ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(compressed)) {
+            gzipOutputStream.write(data);
+        }
+
+        try (InputStream is = StreamUtils.decompressIfGzipped(new ByteArrayInputStream(compressed.toByteArray()))) {
+            assertArrayEquals(data, is.readAllBytes());
+        }
+        try (InputStream is = StreamUtils.decompressIfGzipped(new ByteArrayInputStream(data))) {
+            assertArrayEquals(data, is.readAllBytes());
+        }
+        try (InputStream is = StreamUtils.decompressIfGzipped(new ByteArrayInputStream(new byte[0]))) {
+            assertEquals(-1, is.read());
+        }
+    }
 }
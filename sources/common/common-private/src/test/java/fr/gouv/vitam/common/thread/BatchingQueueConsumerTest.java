@@ -0,0 +1,165 @@
+/*
+ * Copyright French Prime minister Office/SGMAP/DINSIC/Vitam Program (2015-2022)
+ *
+ * contact.vitam@culture.gouv.fr
+ *
+ * This software is a computer program whose purpose is to implement a digital archiving back-office system managing
+ * high volumetry securely and efficiently.
+ *
+ * This software is governed by the CeCILL 2.1 license under French law and abiding by the rules of distribution of free
+ * software. You can use, modify and/ or redistribute the software under the terms of the CeCILL 2.1 license as
+ * circulated by CEA, CNRS and INRIA at the following URL "https://cecill.info".
+ *
+ * As a counterpart to the access to the source code and rights to copy, modify and redistribute granted by the license,
+ * users are provided only with a limited warranty and the software's author, the holder of the economic rights, and the
+ * successive licensors have only limited liability.
+ *
+ * In this respect, the user's attention is drawn to the risks associated with loading, using, modifying and/or
+ * developing or reproducing the software by the user in light of its specific status of free software, that may mean
+ * that it is complicated to manipulate, and that also therefore means that it is reserved for developers and
+ * experienced professionals having in-depth computer knowledge. Users are therefore encouraged to load and test the
+ * software's suitability as regards their requirements in conditions enabling the security of their systems and/or data
+ * to be ensured and, more generally, to use and operate it in the same conditions as regards security.
+ *
+ * The fact that you are presently reading this means that you have had knowledge of the CeCILL 2.1 license and that you
+ * accept its terms.
+ */
+package fr.gouv.vitam.common.thread;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BatchingQueueConsumerTest {
+
+    private final List<List<Integer>> processedBatches = Collections.synchronizedList(new ArrayList<>());
+    private final List<Integer> unprocessedEntries = Collections.synchronizedList(new ArrayList<>());
+
+    private BatchingQueueConsumer<Integer> instance;
+
+    @After
+    public void after() {
+        if (instance != null) {
+            instance.close();
+        }
+    }
+
+    @Test
+    public void should_process_entries_by_batches_in_enqueue_order() throws Exception {
+        // Given
+        CountDownLatch firstBatchLatch = new CountDownLatch(1);
+        instance = new BatchingQueueConsumer<>(
+            "test",
+            new LinkedBlockingQueue<>(),
+            10,
+            0L,
+            entry -> 1,
+            batch -> {
+                awaitUninterruptibly(firstBatchLatch);
+                processedBatches.add(new ArrayList<>(batch));
+            },
+            unprocessedEntries::add
+        );
+
+        // When
+        for (int i = 0; i < 25; i++) {
+            assertThat(instance.submit(i)).isTrue();
+        }
+        firstBatchLatch.countDown();
+        assertThat(instance.close(10_000L)).isTrue();
+
+        // Then
+        assertThat(processedBatches.stream().flatMap(List::stream).collect(Collectors.toList()))
+            .containsExactlyElementsOf(IntStream.range(0, 25).boxed().collect(Collectors.toList()));
+        assertThat(processedBatches).allMatch(batch -> batch.size() <= 10);
+        assertThat(processedBatches.size()).isLessThan(25);
+        assertThat(unprocessedEntries).isEmpty();
+    }
+
+    @Test
+    public void should_carry_over_entry_exceeding_max_batch_weight() throws Exception {
+        // Given
+        instance = new BatchingQueueConsumer<>(
+            "test",
+            new LinkedBlockingQueue<>(),
+            10,
+            1_000L,
+            entry -> entry,
+            batch -> processedBatches.add(new ArrayList<>(batch)),
+            unprocessedEntries::add
+        );
+
+        // When
+        instance.submit(1);
+        instance.submit(6);
+        instance.submit(5);
+        instance.submit(20);
+        instance.submit(2);
+        instance.close(10_000L);
+
+        // Then
+        assertThat(processedBatches).containsExactly(List.of(1, 6), List.of(5), List.of(20), List.of(2));
+    }
+
+    @Test
+    public void should_reject_entries_after_close() throws Exception {
+        // Given
+        instance = new BatchingQueueConsumer<>(
+            "test",
+            new LinkedBlockingQueue<>(),
+            10,
+            0L,
+            entry -> 1,
+            processedBatches::add,
+            unprocessedEntries::add
+        );
+        instance.close();
+
+        // When
+        boolean submitted = instance.submit(1);
+
+        // Then
+        assertThat(submitted).isFalse();
+        assertThat(processedBatches).isEmpty();
+    }
+
+    @Test
+    public void should_report_entries_of_failed_batch_as_unprocessed() throws Exception {
+        // Given
+        instance = new BatchingQueueConsumer<>(
+            "test",
+            new LinkedBlockingQueue<>(),
+            10,
+            0L,
+            entry -> 1,
+            batch -> {
+                throw new IllegalStateException("error");
+            },
+            unprocessedEntries::add
+        );
+
+        // When
+        instance.submit(1);
+        instance.close(10_000L);
+
+        // Then
+        assertThat(unprocessedEntries).containsExactly(1);
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -199,6 +199,21 @@ public class GlobalDataRest {
      */
     public static final String TRANSFER_ENCODING_HEADER = "Transfer-Encoding";
 
+    /**
+     * Range Header, used to request a single byte range of an object
+     */
+    public static final String RANGE = "Range";
+
+    /**
+     * Content-Range Header, returned with partial (206) or unsatisfiable range (416) responses
+     */
+    public static final String CONTENT_RANGE = "Content-Range";
+
+    /**
+     * Accept-Ranges Header, advertises byte range support on object download endpoints
+     */
+    public static final String ACCEPT_RANGES = "Accept-Ranges";
+
     /**
      * Units Count Header
      */
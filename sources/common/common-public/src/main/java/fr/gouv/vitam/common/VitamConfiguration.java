@@ -188,6 +188,33 @@ public class VitamConfiguration {
 
     private static Integer elasticSearchScrollLimit = 10_000;
 
+    /**
+     * Number of workers loading slices of a collection in parallel during Elasticsearch reindexation
+     */
+    private static Integer reindexThreadPoolSize = 4;
+
+    /**
+     * Number of _id range slices a collection is split into during Elasticsearch reindexation
+     */
+    private static Integer reindexSliceCount = 16;
+
+    /**
+     * Max number of security contexts (identity & context resolved from a client certificate) kept in cache by
+     * external services. 0 to disable cache.
+     */
+    private static Integer securityContextCacheMaxEntries = 1_000;
+
+    /**
+     * Time to live of security contexts kept in cache by external services (in seconds). 0 to disable cache.
+     */
+    private static Integer securityContextCacheTimeoutInSeconds = 60;
+
+    /**
+     * Minimum delay between two checks of the identity & context referentials version by external services (in
+     * seconds). Cached security contexts are invalidated as soon as a new version is detected.
+     */
+    private static Integer securityContextCacheVersionCheckIntervalInSeconds = 5;
+
     /**
      * Default Chunk Size
      */
@@ -375,6 +402,17 @@ public class VitamConfiguration {
      */
     private static int migrationBulkSize = 10000;
 
+    /**
+     * Build symbolic accession registers from per originating agency counters maintained by metadata updates,
+     * instead of full aggregations over all units and object groups
+     */
+    private static boolean accessionRegisterSymbolicDeltaMode = false;
+
+    /**
+     * Delay in days between two full recounts of symbolic accession registers, when delta mode is enabled
+     */
+    private static int accessionRegisterSymbolicFullRecountDelayInDays = 7;
+
     /**
      * The time in seconds 60*60*24*30 (default 30 days) to wait before deleting reconstructed with only graph data
      * units The unit should contains only graph data and the graph last persisted date should be 30 day older
@@ -454,6 +492,34 @@ public class VitamConfiguration {
      * Number of jobs that can be queued before blocking for bulk atomic update (limits workload memory usage)
      */
     private static int bulkAtomicUpdateThreadPoolQueueSize = 16;
+    /**
+     * Use compact (dictionary encoded, disk spilling) ingest session during SIP manifest extraction
+     */
+    private static boolean ingestSessionCompactStore = false;
+    /**
+     * Max number of identifiers kept on heap by compact ingest sessions before spilling them to disk
+     */
+    private static int ingestSessionMaxInMemoryIds = 1_000_000;
+    /**
+     * Identify formats of all binaries of a worker bulk with a single format identifier call
+     */
+    private static boolean formatIdentificationBatchMode = false;
+    /**
+     * Reuse format identification of binaries with the same digest within an operation
+     */
+    private static boolean formatIdentificationReuseByDigest = false;
+    /**
+     * Build DIP / transfer archives by streaming binaries from storage, instead of copying them into the workspace
+     */
+    private static boolean exportArchiveStreamingMode = false;
+    /**
+     * Check binary object integrity during audits with one bulk digest request per storage strategy
+     */
+    private static boolean integrityAuditBatchMode = false;
+    /**
+     * Gzip-compress batch reports (report.jsonl) written to the workspace and stored in offers
+     */
+    private static boolean batchReportCompression = false;
     /**
      * Threshold for elimination analysis
      */
@@ -1017,6 +1083,27 @@ public class VitamConfiguration {
         if (null != parameters.getBulkAtomicUpdateThreadPoolQueueSize()) {
             setBulkAtomicUpdateThreadPoolQueueSize(parameters.getBulkAtomicUpdateThreadPoolQueueSize());
         }
+        if (null != parameters.getIngestSessionCompactStore()) {
+            setIngestSessionCompactStore(parameters.getIngestSessionCompactStore());
+        }
+        if (null != parameters.getIngestSessionMaxInMemoryIds()) {
+            setIngestSessionMaxInMemoryIds(parameters.getIngestSessionMaxInMemoryIds());
+        }
+        if (null != parameters.getFormatIdentificationBatchMode()) {
+            setFormatIdentificationBatchMode(parameters.getFormatIdentificationBatchMode());
+        }
+        if (null != parameters.getFormatIdentificationReuseByDigest()) {
+            setFormatIdentificationReuseByDigest(parameters.getFormatIdentificationReuseByDigest());
+        }
+        if (null != parameters.getExportArchiveStreamingMode()) {
+            setExportArchiveStreamingMode(parameters.getExportArchiveStreamingMode());
+        }
+        if (null != parameters.getIntegrityAuditBatchMode()) {
+            setIntegrityAuditBatchMode(parameters.getIntegrityAuditBatchMode());
+        }
+        if (null != parameters.getBatchReportCompression()) {
+            setBatchReportCompression(parameters.getBatchReportCompression());
+        }
         if (null != parameters.getQueriesThreshold()) {
             setQueriesThreshold(parameters.getQueriesThreshold());
         }
@@ -1077,6 +1164,16 @@ public class VitamConfiguration {
             setMigrationBulkSize(parameters.getMigrationBulkSize());
         }
 
+        if (null != parameters.getAccessionRegisterSymbolicDeltaMode()) {
+            setAccessionRegisterSymbolicDeltaMode(parameters.getAccessionRegisterSymbolicDeltaMode());
+        }
+
+        if (null != parameters.getAccessionRegisterSymbolicFullRecountDelayInDays()) {
+            setAccessionRegisterSymbolicFullRecountDelayInDays(
+                parameters.getAccessionRegisterSymbolicFullRecountDelayInDays()
+            );
+        }
+
         if (null != parameters.getDeleteIncompleteReconstructedUnitDelay()) {
             setDeleteIncompleteReconstructedUnitDelay(parameters.getDeleteIncompleteReconstructedUnitDelay());
         }
@@ -1174,6 +1271,23 @@ public class VitamConfiguration {
         if (null != parameters.getElasticSearchScrollLimit()) {
             setElasticSearchScrollLimit(parameters.getElasticSearchScrollLimit());
         }
+        if (null != parameters.getReindexThreadPoolSize()) {
+            setReindexThreadPoolSize(parameters.getReindexThreadPoolSize());
+        }
+        if (null != parameters.getReindexSliceCount()) {
+            setReindexSliceCount(parameters.getReindexSliceCount());
+        }
+        if (null != parameters.getSecurityContextCacheMaxEntries()) {
+            setSecurityContextCacheMaxEntries(parameters.getSecurityContextCacheMaxEntries());
+        }
+        if (null != parameters.getSecurityContextCacheTimeoutInSeconds()) {
+            setSecurityContextCacheTimeoutInSeconds(parameters.getSecurityContextCacheTimeoutInSeconds());
+        }
+        if (null != parameters.getSecurityContextCacheVersionCheckIntervalInSeconds()) {
+            setSecurityContextCacheVersionCheckIntervalInSeconds(
+                parameters.getSecurityContextCacheVersionCheckIntervalInSeconds()
+            );
+        }
         if (null != parameters.getProcessEngineWaitForStepTimeout()) {
             setProcessEngineWaitForStepTimeout(parameters.getProcessEngineWaitForStepTimeout());
         }
@@ -2209,6 +2323,62 @@ public class VitamConfiguration {
         VitamConfiguration.bulkAtomicUpdateThreadPoolQueueSize = bulkAtomicUpdateThreadPoolQueueSize;
     }
 
+    public static boolean isIngestSessionCompactStore() {
+        return ingestSessionCompactStore;
+    }
+
+    public static void setIngestSessionCompactStore(boolean ingestSessionCompactStore) {
+        VitamConfiguration.ingestSessionCompactStore = ingestSessionCompactStore;
+    }
+
+    public static int getIngestSessionMaxInMemoryIds() {
+        return ingestSessionMaxInMemoryIds;
+    }
+
+    public static void setIngestSessionMaxInMemoryIds(int ingestSessionMaxInMemoryIds) {
+        VitamConfiguration.ingestSessionMaxInMemoryIds = ingestSessionMaxInMemoryIds;
+    }
+
+    public static boolean isFormatIdentificationBatchMode() {
+        return formatIdentificationBatchMode;
+    }
+
+    public static void setFormatIdentificationBatchMode(boolean formatIdentificationBatchMode) {
+        VitamConfiguration.formatIdentificationBatchMode = formatIdentificationBatchMode;
+    }
+
+    public static boolean isFormatIdentificationReuseByDigest() {
+        return formatIdentificationReuseByDigest;
+    }
+
+    public static void setFormatIdentificationReuseByDigest(boolean formatIdentificationReuseByDigest) {
+        VitamConfiguration.formatIdentificationReuseByDigest = formatIdentificationReuseByDigest;
+    }
+
+    public static boolean isExportArchiveStreamingMode() {
+        return exportArchiveStreamingMode;
+    }
+
+    public static void setExportArchiveStreamingMode(boolean exportArchiveStreamingMode) {
+        VitamConfiguration.exportArchiveStreamingMode = exportArchiveStreamingMode;
+    }
+
+    public static boolean isIntegrityAuditBatchMode() {
+        return integrityAuditBatchMode;
+    }
+
+    public static void setIntegrityAuditBatchMode(boolean integrityAuditBatchMode) {
+        VitamConfiguration.integrityAuditBatchMode = integrityAuditBatchMode;
+    }
+
+    public static boolean isBatchReportCompression() {
+        return batchReportCompression;
+    }
+
+    public static void setBatchReportCompression(boolean batchReportCompression) {
+        VitamConfiguration.batchReportCompression = batchReportCompression;
+    }
+
     public static long getEliminationAnalysisThreshold() {
         return eliminationAnalysisThreshold;
     }
@@ -2480,6 +2650,25 @@ public class VitamConfiguration {
         VitamConfiguration.migrationBulkSize = migrationBulkSize;
     }
 
+    public static boolean isAccessionRegisterSymbolicDeltaMode() {
+        return accessionRegisterSymbolicDeltaMode;
+    }
+
+    public static void setAccessionRegisterSymbolicDeltaMode(boolean accessionRegisterSymbolicDeltaMode) {
+        VitamConfiguration.accessionRegisterSymbolicDeltaMode = accessionRegisterSymbolicDeltaMode;
+    }
+
+    public static int getAccessionRegisterSymbolicFullRecountDelayInDays() {
+        return accessionRegisterSymbolicFullRecountDelayInDays;
+    }
+
+    public static void setAccessionRegisterSymbolicFullRecountDelayInDays(
+        int accessionRegisterSymbolicFullRecountDelayInDays
+    ) {
+        VitamConfiguration.accessionRegisterSymbolicFullRecountDelayInDays =
+            accessionRegisterSymbolicFullRecountDelayInDays;
+    }
+
     public static String getWorkspaceWorkflowsFolder() {
         return workspaceWorkflowsFolder;
     }
@@ -2634,6 +2823,49 @@ public class VitamConfiguration {
         VitamConfiguration.elasticSearchScrollLimit = elasticSearchScrollLimit;
     }
 
+    public static Integer getReindexThreadPoolSize() {
+        return reindexThreadPoolSize;
+    }
+
+    public static void setReindexThreadPoolSize(Integer reindexThreadPoolSize) {
+        VitamConfiguration.reindexThreadPoolSize = reindexThreadPoolSize;
+    }
+
+    public static Integer getReindexSliceCount() {
+        return reindexSliceCount;
+    }
+
+    public static void setReindexSliceCount(Integer reindexSliceCount) {
+        VitamConfiguration.reindexSliceCount = reindexSliceCount;
+    }
+
+    public static Integer getSecurityContextCacheMaxEntries() {
+        return securityContextCacheMaxEntries;
+    }
+
+    public static void setSecurityContextCacheMaxEntries(Integer securityContextCacheMaxEntries) {
+        VitamConfiguration.securityContextCacheMaxEntries = securityContextCacheMaxEntries;
+    }
+
+    public static Integer getSecurityContextCacheTimeoutInSeconds() {
+        return securityContextCacheTimeoutInSeconds;
+    }
+
+    public static void setSecurityContextCacheTimeoutInSeconds(Integer securityContextCacheTimeoutInSeconds) {
+        VitamConfiguration.securityContextCacheTimeoutInSeconds = securityContextCacheTimeoutInSeconds;
+    }
+
+    public static Integer getSecurityContextCacheVersionCheckIntervalInSeconds() {
+        return securityContextCacheVersionCheckIntervalInSeconds;
+    }
+
+    public static void setSecurityContextCacheVersionCheckIntervalInSeconds(
+        Integer securityContextCacheVersionCheckIntervalInSeconds
+    ) {
+        VitamConfiguration.securityContextCacheVersionCheckIntervalInSeconds =
+            securityContextCacheVersionCheckIntervalInSeconds;
+    }
+
     public static short getDiffVersion() {
         return DIFF_VERSION;
     }
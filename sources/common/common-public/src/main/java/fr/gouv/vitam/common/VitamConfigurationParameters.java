@@ -81,6 +81,16 @@ public class VitamConfigurationParameters {
      */
     private Integer migrationBulkSize;
 
+    /**
+     * Build symbolic accession registers from counters maintained by metadata updates
+     */
+    private Boolean accessionRegisterSymbolicDeltaMode;
+
+    /**
+     * Delay in days between two full recounts of symbolic accession registers
+     */
+    private Integer accessionRegisterSymbolicFullRecountDelayInDays;
+
     /**
      * The time in seconds 60*60*24*30 (default 30 days) to wait before deleting reconstructed with only graph data
      * units The unit should contains only graph data and the graph last persisted date should be 30 day older
@@ -142,6 +152,34 @@ public class VitamConfigurationParameters {
      * Number of jobs that can be queued before blocking for bulk atomic update (limits workload memory usage)
      */
     private Integer bulkAtomicUpdateThreadPoolQueueSize;
+    /**
+     * Use compact (dictionary encoded, disk spilling) ingest session during SIP manifest extraction
+     */
+    private Boolean ingestSessionCompactStore;
+    /**
+     * Max number of identifiers kept on heap by compact ingest sessions before spilling them to disk
+     */
+    private Integer ingestSessionMaxInMemoryIds;
+    /**
+     * Identify formats of all binaries of a worker bulk with a single format identifier call
+     */
+    private Boolean formatIdentificationBatchMode;
+    /**
+     * Reuse format identification of binaries with the same digest within an operation
+     */
+    private Boolean formatIdentificationReuseByDigest;
+    /**
+     * Build DIP / transfer archives by streaming binaries from storage, instead of copying them into the workspace
+     */
+    private Boolean exportArchiveStreamingMode;
+    /**
+     * Check binary object integrity during audits with one bulk digest request per storage strategy
+     */
+    private Boolean integrityAuditBatchMode;
+    /**
+     * Gzip-compress batch reports (report.jsonl) written to the workspace and stored in offers
+     */
+    private Boolean batchReportCompression;
 
     /**
      * Max entries allowed for elimination analysis
@@ -398,6 +436,16 @@ public class VitamConfigurationParameters {
 
     private Integer elasticSearchScrollLimit;
 
+    private Integer reindexThreadPoolSize;
+
+    private Integer reindexSliceCount;
+
+    private Integer securityContextCacheMaxEntries;
+
+    private Integer securityContextCacheTimeoutInSeconds;
+
+    private Integer securityContextCacheVersionCheckIntervalInSeconds;
+
     /**
      * VitamData empty constructor for YAMLFactory
      */
@@ -1016,6 +1064,28 @@ public class VitamConfigurationParameters {
         this.migrationBulkSize = migrationBulkSize;
     }
 
+    public Boolean getAccessionRegisterSymbolicDeltaMode() {
+        return accessionRegisterSymbolicDeltaMode;
+    }
+
+    public VitamConfigurationParameters setAccessionRegisterSymbolicDeltaMode(
+        Boolean accessionRegisterSymbolicDeltaMode
+    ) {
+        this.accessionRegisterSymbolicDeltaMode = accessionRegisterSymbolicDeltaMode;
+        return this;
+    }
+
+    public Integer getAccessionRegisterSymbolicFullRecountDelayInDays() {
+        return accessionRegisterSymbolicFullRecountDelayInDays;
+    }
+
+    public VitamConfigurationParameters setAccessionRegisterSymbolicFullRecountDelayInDays(
+        Integer accessionRegisterSymbolicFullRecountDelayInDays
+    ) {
+        this.accessionRegisterSymbolicFullRecountDelayInDays = accessionRegisterSymbolicFullRecountDelayInDays;
+        return this;
+    }
+
     /**
      * Get the delay of deleting incomplete reconstructed units
      *
@@ -1229,6 +1299,71 @@ public class VitamConfigurationParameters {
         return this;
     }
 
+    public Boolean getIngestSessionCompactStore() {
+        return ingestSessionCompactStore;
+    }
+
+    public VitamConfigurationParameters setIngestSessionCompactStore(Boolean ingestSessionCompactStore) {
+        this.ingestSessionCompactStore = ingestSessionCompactStore;
+        return this;
+    }
+
+    public Integer getIngestSessionMaxInMemoryIds() {
+        return ingestSessionMaxInMemoryIds;
+    }
+
+    public VitamConfigurationParameters setIngestSessionMaxInMemoryIds(Integer ingestSessionMaxInMemoryIds) {
+        this.ingestSessionMaxInMemoryIds = ingestSessionMaxInMemoryIds;
+        return this;
+    }
+
+    public Boolean getFormatIdentificationBatchMode() {
+        return formatIdentificationBatchMode;
+    }
+
+    public VitamConfigurationParameters setFormatIdentificationBatchMode(Boolean formatIdentificationBatchMode) {
+        this.formatIdentificationBatchMode = formatIdentificationBatchMode;
+        return this;
+    }
+
+    public Boolean getFormatIdentificationReuseByDigest() {
+        return formatIdentificationReuseByDigest;
+    }
+
+    public VitamConfigurationParameters setFormatIdentificationReuseByDigest(
+        Boolean formatIdentificationReuseByDigest
+    ) {
+        this.formatIdentificationReuseByDigest = formatIdentificationReuseByDigest;
+        return this;
+    }
+
+    public Boolean getExportArchiveStreamingMode() {
+        return exportArchiveStreamingMode;
+    }
+
+    public VitamConfigurationParameters setExportArchiveStreamingMode(Boolean exportArchiveStreamingMode) {
+        this.exportArchiveStreamingMode = exportArchiveStreamingMode;
+        return this;
+    }
+
+    public Boolean getIntegrityAuditBatchMode() {
+        return integrityAuditBatchMode;
+    }
+
+    public VitamConfigurationParameters setIntegrityAuditBatchMode(Boolean integrityAuditBatchMode) {
+        this.integrityAuditBatchMode = integrityAuditBatchMode;
+        return this;
+    }
+
+    public Boolean getBatchReportCompression() {
+        return batchReportCompression;
+    }
+
+    public VitamConfigurationParameters setBatchReportCompression(Boolean batchReportCompression) {
+        this.batchReportCompression = batchReportCompression;
+        return this;
+    }
+
     public Long getEliminationAnalysisThreshold() {
         return eliminationAnalysisThreshold;
     }
@@ -1520,6 +1655,48 @@ public class VitamConfigurationParameters {
         this.elasticSearchScrollLimit = elasticSearchScrollLimit;
     }
 
+    public Integer getReindexThreadPoolSize() {
+        return reindexThreadPoolSize;
+    }
+
+    public void setReindexThreadPoolSize(Integer reindexThreadPoolSize) {
+        this.reindexThreadPoolSize = reindexThreadPoolSize;
+    }
+
+    public Integer getReindexSliceCount() {
+        return reindexSliceCount;
+    }
+
+    public void setReindexSliceCount(Integer reindexSliceCount) {
+        this.reindexSliceCount = reindexSliceCount;
+    }
+
+    public Integer getSecurityContextCacheMaxEntries() {
+        return securityContextCacheMaxEntries;
+    }
+
+    public void setSecurityContextCacheMaxEntries(Integer securityContextCacheMaxEntries) {
+        this.securityContextCacheMaxEntries = securityContextCacheMaxEntries;
+    }
+
+    public Integer getSecurityContextCacheTimeoutInSeconds() {
+        return securityContextCacheTimeoutInSeconds;
+    }
+
+    public void setSecurityContextCacheTimeoutInSeconds(Integer securityContextCacheTimeoutInSeconds) {
+        this.securityContextCacheTimeoutInSeconds = securityContextCacheTimeoutInSeconds;
+    }
+
+    public Integer getSecurityContextCacheVersionCheckIntervalInSeconds() {
+        return securityContextCacheVersionCheckIntervalInSeconds;
+    }
+
+    public void setSecurityContextCacheVersionCheckIntervalInSeconds(
+        Integer securityContextCacheVersionCheckIntervalInSeconds
+    ) {
+        this.securityContextCacheVersionCheckIntervalInSeconds = securityContextCacheVersionCheckIntervalInSeconds;
+    }
+
     public Integer getHttpClientRetry() {
         return httpClientRetry;
     }
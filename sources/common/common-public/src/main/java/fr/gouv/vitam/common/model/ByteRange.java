@@ -0,0 +1,263 @@
+/*
+ * Copyright French Prime minister Office/SGMAP/DINSIC/Vitam Program (2015-2022)
+ *
+ * contact.vitam@culture.gouv.fr
+ *
+ * This software is a computer program whose purpose is to implement a digital archiving back-office system managing
+ * high volumetry securely and efficiently.
+ *
+ * This software is governed by the CeCILL-C license under French law and abiding by the rules of distribution of free
+ * software. You can use, modify and/ or redistribute the software under the terms of the CeCILL-C license as
+ * circulated by CEA, CNRS and INRIA at the following URL "https://cecill.info".
+ *
+ * As a counterpart to the access to the source code and rights to copy, modify and redistribute granted by the license,
+ * users are provided only with a limited warranty and the software's author, the holder of the economic rights, and the
+ * successive licensors have only limited liability.
+ *
+ * In this respect, the user's attention is drawn to the risks associated with loading, using, modifying and/or
+ * developing or reproducing the software by the user in light of its specific status of free software, that may mean
+ * that it is complicated to manipulate, and that also therefore means that it is reserved for developers and
+ * experienced professionals having in-depth computer knowledge. Users are therefore encouraged to load and test the
+ * software's suitability as regards their requirements in conditions enabling the security of their systems and/or data
+ * to be ensured and, more generally, to use and operate it in the same conditions as regards security.
+ *
+ * The fact that you are presently reading this means that you have had knowledge of the CeCILL-C license and that you
+ * accept its terms.
+ */
+package fr.gouv.vitam.common.model;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A single HTTP byte range (RFC 7233), as sent in a {@code Range} request header.
+ * <p>
+ * A range is either bounded ({@code bytes=first-last}), open-ended ({@code bytes=first-}) or a suffix range
+ * ({@code bytes=-length}). Once the object size is known, {@link #resolve(long)} turns any of them into a bounded
+ * range.
+ * Multiple ranges ({@code bytes=0-9,20-29}) are not supported.
+ */
+public final class ByteRange {
+
+    /**
+     * The only supported range unit
+     */
+    public static final String BYTES_UNIT = "bytes";
+
+    private static final Pattern RANGE_PATTERN = Pattern.compile(
+        "^\\s*bytes\\s*=\\s*(\\d*)\\s*-\\s*(\\d*)\\s*$",
+        Pattern.CASE_INSENSITIVE
+    );
+
+    private final Long first;
+    private final Long last;
+    private final Long suffixLength;
+
+    private ByteRange(Long first, Long last, Long suffixLength) {
+        this.first = first;
+        this.last = last;
+        this.suffixLength = suffixLength;
+    }
+
+    /**
+     * @param first first byte position (inclusive)
+     * @param last last byte position (inclusive)
+     * @return the bounded range
+     */
+    public static ByteRange of(long first, long last) {
+        if (first < 0 || last < first) {
+            throw new IllegalArgumentException("Invalid byte range " + first + "-" + last);
+        }
+        return new ByteRange(first, last, null);
+    }
+
+    /**
+     * @param first first byte position (inclusive)
+     * @return the range from first to the end of the object
+     */
+    public static ByteRange from(long first) {
+        if (first < 0) {
+            throw new IllegalArgumentException("Invalid byte range " + first + "-");
+        }
+        return new ByteRange(first, null, null);
+    }
+
+    /**
+     * @param length number of bytes to read at the end of the object
+     * @return the suffix range
+     */
+    public static ByteRange suffix(long length) {
+        if (length <= 0) {
+            throw new IllegalArgumentException("Invalid suffix byte range -" + length);
+        }
+        return new ByteRange(null, null, length);
+    }
+
+    /**
+     * Parses a {@code Range} header value.<br>
+     * As allowed by RFC 7233, malformed values, unknown units and multiple ranges are ignored, in which case the whole
+     * object is expected to be served.
+     *
+     * @param headerValue the Range header value, may be null
+     * @return the requested range, or empty if the header is absent or ignored
+     */
+    public static Optional<ByteRange> parse(String headerValue) {
+        if (headerValue == null) {
+            return Optional.empty();
+        }
+        Matcher matcher = RANGE_PATTERN.matcher(headerValue);
+        if (!matcher.matches()) {
+            return Optional.empty();
+        }
+        String firstValue = matcher.group(1);
+        String lastValue = matcher.group(2);
+        try {
+            if (firstValue.isEmpty()) {
+                if (lastValue.isEmpty() || Long.parseLong(lastValue) == 0L) {
+                    return Optional.empty();
+                }
+                return Optional.of(suffix(Long.parseLong(lastValue)));
+            }
+            long firstPos = Long.parseLong(firstValue);
+            if (lastValue.isEmpty()) {
+                return Optional.of(from(firstPos));
+            }
+            long lastPos = Long.parseLong(lastValue);
+            if (lastPos < firstPos) {
+                return Optional.empty();
+            }
+            return Optional.of(of(firstPos, lastPos));
+        } catch (NumberFormatException e) {
+            // Overflow
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * @param size the object size
+     * @return true if at least one byte of the object is covered by this range
+     */
+    public boolean isSatisfiable(long size) {
+        if (suffixLength != null) {
+            return size > 0;
+        }
+        return first < size;
+    }
+
+    /**
+     * Computes the bounded range actually served for an object of the given size. The last position is truncated to
+     * the object end.
+     *
+     * @param size the object size
+     * @return the bounded range
+     * @throws IllegalArgumentException if the range is not satisfiable
+     */
+    public ByteRange resolve(long size) {
+        if (!isSatisfiable(size)) {
+            throw new IllegalArgumentException("Range " + this + " not satisfiable for size " + size);
+        }
+        if (suffixLength != null) {
+            return of(Math.max(0L, size - suffixLength), size - 1);
+        }
+        return of(first, last == null ? size - 1 : Math.min(last, size - 1));
+    }
+
+    /**
+     * @return true if both first and last positions are known
+     */
+    public boolean isBounded() {
+        return first != null && last != null;
+    }
+
+    /**
+     * @return the first byte position, or null for a suffix range
+     */
+    public Long getFirst() {
+        return first;
+    }
+
+    /**
+     * @return the last byte position, or null for open-ended and suffix ranges
+     */
+    public Long getLast() {
+        return last;
+    }
+
+    /**
+     * @return the suffix length, or null if not a suffix range
+     */
+    public Long getSuffixLength() {
+        return suffixLength;
+    }
+
+    /**
+     * @return the number of bytes of a bounded range
+     * @throws IllegalStateException if the range is not bounded
+     */
+    public long getLength() {
+        checkBounded();
+        return last - first + 1;
+    }
+
+    /**
+     * @return the Range header value
+     */
+    public String toHeaderValue() {
+        if (suffixLength != null) {
+            return BYTES_UNIT + "=-" + suffixLength;
+        }
+        return BYTES_UNIT + "=" + first + "-" + (last == null ? "" : last);
+    }
+
+    /**
+     * @param size the object size
+     * @return the Content-Range header value of a bounded range
+     * @throws IllegalStateException if the range is not bounded
+     */
+    public String toContentRange(long size) {
+        checkBounded();
+        return BYTES_UNIT + " " + first + "-" + last + "/" + size;
+    }
+
+    /**
+     * @param size the object size
+     * @return the Content-Range header value returned with a 416 (Range Not Satisfiable) response
+     */
+    public static String toUnsatisfiedContentRange(long size) {
+        return BYTES_UNIT + " */" + size;
+    }
+
+    private void checkBounded() {
+        if (!isBounded()) {
+            throw new IllegalStateException("Range " + this + " is not bounded");
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        ByteRange byteRange = (ByteRange) o;
+        return (
+            Objects.equals(first, byteRange.first) &&
+            Objects.equals(last, byteRange.last) &&
+            Objects.equals(suffixLength, byteRange.suffixLength)
+        );
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(first, last, suffixLength);
+    }
+
+    @Override
+    public String toString() {
+        return toHeaderValue();
+    }
+}
@@ -35,6 +35,7 @@ import fr.gouv.vitam.common.logging.VitamLogger;
 import fr.gouv.vitam.common.logging.VitamLoggerFactory;
 
 import javax.ws.rs.core.Response;
+import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
@@ -46,6 +47,7 @@ import java.nio.channels.Channels;
 import java.nio.channels.ReadableByteChannel;
 import java.nio.channels.WritableByteChannel;
 import java.util.Arrays;
+import java.util.zip.GZIPInputStream;
 
 /**
  * This class supports Helpers on streams.
@@ -242,6 +244,25 @@ public class StreamUtils {
         }
     }
 
+    /**
+     * Transparently decompresses a gzip compressed stream (detected using its magic header). Other streams are
+     * returned as is.
+     *
+     * @param inputStream
+     * @return a stream of the uncompressed content
+     * @throws IOException
+     */
+    public static InputStream decompressIfGzipped(InputStream inputStream) throws IOException {
+        final BufferedInputStream bufferedInputStream = new BufferedInputStream(inputStream, BUFFER_SIZE);
+        bufferedInputStream.mark(2);
+        final int magic = bufferedInputStream.read() | (bufferedInputStream.read() << 8);
+        bufferedInputStream.reset();
+        if (magic == GZIPInputStream.GZIP_MAGIC) {
+            return new GZIPInputStream(bufferedInputStream, BUFFER_SIZE);
+        }
+        return bufferedInputStream;
+    }
+
     /**
      * @param source
      * @return the corresponding InputStream
@@ -0,0 +1,84 @@
+/*
+ * Copyright French Prime minister Office/SGMAP/DINSIC/Vitam Program (2015-2022)
+ *
+ * contact.vitam@culture.gouv.fr
+ *
+ * This software is a computer program whose purpose is to implement a digital archiving back-office system managing
+ * high volumetry securely and efficiently.
+ *
+ * This software is governed by the CeCILL-C license under French law and abiding by the rules of distribution of free
+ * software. You can use, modify and/ or redistribute the software under the terms of the CeCILL-C license as
+ * circulated by CEA, CNRS and INRIA at the following URL "https://cecill.info".
+ *
+ * As a counterpart to the access to the source code and rights to copy, modify and redistribute granted by the license,
+ * users are provided only with a limited warranty and the software's author, the holder of the economic rights, and the
+ * successive licensors have only limited liability.
+ *
+ * In this respect, the user's attention is drawn to the risks associated with loading, using, modifying and/or
+ * developing or reproducing the software by the user in light of its specific status of free software, that may mean
+ * that it is complicated to manipulate, and that also therefore means that it is reserved for developers and
+ * experienced professionals having in-depth computer knowledge. Users are therefore encouraged to load and test the
+ * software's suitability as regards their requirements in conditions enabling the security of their systems and/or data
+ * to be ensured and, more generally, to use and operate it in the same conditions as regards security.
+ *
+ * The fact that you are presently reading this means that you have had knowledge of the CeCILL-C license and that you
+ * accept its terms.
+ */
+package fr.gouv.vitam.common.model;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ByteRangeTest {
+
+    @Test
+    public void should_parse_single_byte_ranges() {
+        assertThat(ByteRange.parse("bytes=0-99")).contains(ByteRange.of(0, 99));
+        assertThat(ByteRange.parse("bytes=100-")).contains(ByteRange.from(100));
+        assertThat(ByteRange.parse("bytes=-500")).contains(ByteRange.suffix(500));
+        assertThat(ByteRange.parse(" Bytes = 5 - 5 ")).contains(ByteRange.of(5, 5));
+    }
+
+    @Test
+    public void should_ignore_unsupported_or_invalid_ranges() {
+        assertThat(ByteRange.parse(null)).isEmpty();
+        assertThat(ByteRange.parse("")).isEmpty();
+        assertThat(ByteRange.parse("bytes=0-9,20-29")).isEmpty();
+        assertThat(ByteRange.parse("items=0-9")).isEmpty();
+        assertThat(ByteRange.parse("bytes=9-0")).isEmpty();
+        assertThat(ByteRange.parse("bytes=-")).isEmpty();
+        assertThat(ByteRange.parse("bytes=-0")).isEmpty();
+        assertThat(ByteRange.parse("bytes=a-b")).isEmpty();
+        assertThat(ByteRange.parse("bytes=99999999999999999999-")).isEmpty();
+    }
+
+    @Test
+    public void should_resolve_ranges_against_object_size() {
+        assertThat(ByteRange.of(0, 99).resolve(1000)).isEqualTo(ByteRange.of(0, 99));
+        assertThat(ByteRange.of(900, 2000).resolve(1000)).isEqualTo(ByteRange.of(900, 999));
+        assertThat(ByteRange.from(100).resolve(1000)).isEqualTo(ByteRange.of(100, 999));
+        assertThat(ByteRange.suffix(500).resolve(1000)).isEqualTo(ByteRange.of(500, 999));
+        assertThat(ByteRange.suffix(5000).resolve(1000)).isEqualTo(ByteRange.of(0, 999));
+        assertThat(ByteRange.of(900, 2000).resolve(1000).getLength()).isEqualTo(100L);
+    }
+
+    @Test
+    public void should_detect_unsatisfiable_ranges() {
+        assertThat(ByteRange.from(1000).isSatisfiable(1000)).isFalse();
+        assertThat(ByteRange.of(999, 1500).isSatisfiable(1000)).isTrue();
+        assertThat(ByteRange.suffix(10).isSatisfiable(0)).isFalse();
+        assertThatThrownBy(() -> ByteRange.from(1000).resolve(1000)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void should_format_headers() {
+        assertThat(ByteRange.of(0, 99).toHeaderValue()).isEqualTo("bytes=0-99");
+        assertThat(ByteRange.from(100).toHeaderValue()).isEqualTo("bytes=100-");
+        assertThat(ByteRange.suffix(500).toHeaderValue()).isEqualTo("bytes=-500");
+        assertThat(ByteRange.of(0, 99).toContentRange(1000)).isEqualTo("bytes 0-99/1000");
+        assertThat(ByteRange.toUnsatisfiedContentRange(1000)).isEqualTo("bytes */1000");
+        assertThatThrownBy(() -> ByteRange.from(100).toContentRange(1000)).isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -34,6 +34,10 @@ import fr.gouv.vitam.common.ServerIdentity;
 import fr.gouv.vitam.common.StringUtils;
 import fr.gouv.vitam.common.VitamConfiguration;
 import fr.gouv.vitam.common.auth.web.filter.CertUtils;
+import fr.gouv.vitam.common.database.builder.query.VitamFieldsHelper;
+import fr.gouv.vitam.common.database.builder.request.single.Select;
+import fr.gouv.vitam.common.digest.Digest;
+import fr.gouv.vitam.common.digest.DigestType;
 import fr.gouv.vitam.common.error.VitamCode;
 import fr.gouv.vitam.common.error.VitamCodeHelper;
 import fr.gouv.vitam.common.error.VitamError;
@@ -67,6 +71,7 @@ import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import java.security.cert.CertificateEncodingException;
 import java.security.cert.X509Certificate;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 
@@ -91,11 +96,14 @@ public class InternalSecurityFilter implements ContainerRequestFilter {
 
     private AdminManagementClientFactory adminManagementClientFactory;
 
+    private final SecurityContextCache securityContextCache;
+
     public InternalSecurityFilter(boolean allowSslClientHeader) {
         super();
         this.allowSslClientHeader = allowSslClientHeader;
         this.internalSecurityClientFactory = InternalSecurityClientFactory.getInstance();
         this.adminManagementClientFactory = AdminManagementClientFactory.getInstance();
+        this.securityContextCache = SecurityContextCache.getInstance();
     }
 
     @VisibleForTesting
@@ -104,11 +112,29 @@ public class InternalSecurityFilter implements ContainerRequestFilter {
         InternalSecurityClientFactory internalSecurityClientFactory,
         AdminManagementClientFactory adminManagementClientFactory,
         boolean allowSslClientHeader
+    ) {
+        this(
+            httpServletRequest,
+            internalSecurityClientFactory,
+            adminManagementClientFactory,
+            allowSslClientHeader,
+            new SecurityContextCache(0, 0, 0)
+        );
+    }
+
+    @VisibleForTesting
+    InternalSecurityFilter(
+        HttpServletRequest httpServletRequest,
+        InternalSecurityClientFactory internalSecurityClientFactory,
+        AdminManagementClientFactory adminManagementClientFactory,
+        boolean allowSslClientHeader,
+        SecurityContextCache securityContextCache
     ) {
         this.httpServletRequest = httpServletRequest;
         this.internalSecurityClientFactory = internalSecurityClientFactory;
         this.adminManagementClientFactory = adminManagementClientFactory;
         this.allowSslClientHeader = allowSslClientHeader;
+        this.securityContextCache = securityContextCache;
     }
 
     @Override
@@ -133,14 +159,8 @@ public class InternalSecurityFilter implements ContainerRequestFilter {
 
         final X509Certificate cert = clientCertChain[0];
 
-        try (InternalSecurityClient internalSecurityClient = internalSecurityClientFactory.getClient()) {
-            Optional<IdentityModel> result = internalSecurityClient.findIdentity(cert.getEncoded());
-
-            IdentityModel identityModel = result.orElseThrow(
-                () -> new VitamSecurityException("Certificate revoked or not found in database.")
-            );
-
-            final ContextModel contextModel = getContext(identityModel);
+        try {
+            final ContextModel contextModel = resolveContext(cert);
             String uri = requestContext.getUriInfo().getPath();
 
             if (null == uri) {
@@ -184,6 +204,61 @@ public class InternalSecurityFilter implements ContainerRequestFilter {
         }
     }
 
+    /**
+     * Get the context of a certificate, from cache or from identity and context referentials
+     *
+     * @param cert the client certificate
+     * @return the active context of the certificate
+     */
+    private ContextModel resolveContext(X509Certificate cert)
+        throws VitamClientInternalException, InternalSecurityException, CertificateEncodingException {
+        securityContextCache.checkReferentialsVersion(this::getReferentialsVersion);
+        Optional<SecurityContextCache.SecurityContext> cachedSecurityContext = securityContextCache.get(cert);
+        if (cachedSecurityContext.isPresent()) {
+            return cachedSecurityContext.get().getContext();
+        }
+
+        try (InternalSecurityClient internalSecurityClient = internalSecurityClientFactory.getClient()) {
+            Optional<IdentityModel> result = internalSecurityClient.findIdentity(cert.getEncoded());
+
+            IdentityModel identityModel = result.orElseThrow(
+                () -> new VitamSecurityException("Certificate revoked or not found in database.")
+            );
+
+            final ContextModel contextModel = getContext(identityModel);
+            securityContextCache.put(cert, identityModel, contextModel);
+            return contextModel;
+        }
+    }
+
+    /**
+     * Get the version of identity & context referentials, which changes whenever an identity or a context is added,
+     * updated or revoked
+     *
+     * @return the version of identity & context referentials
+     */
+    private String getReferentialsVersion() throws Exception {
+        Digest digest = new Digest(DigestType.SHA256);
+        try (InternalSecurityClient internalSecurityClient = internalSecurityClientFactory.getClient()) {
+            digest.update(internalSecurityClient.getIdentitiesVersion());
+        }
+        try (AdminManagementClient adminManagementClient = adminManagementClientFactory.getClient()) {
+            Select select = new Select();
+            select.addUsedProjection(VitamFieldsHelper.id(), VitamFieldsHelper.version());
+            RequestResponse<ContextModel> contextResponse = adminManagementClient.findContexts(
+                select.getFinalSelect()
+            );
+            if (!contextResponse.isOk()) {
+                throw new VitamSecurityException("Could not list contexts");
+            }
+            ((RequestResponseOK<ContextModel>) contextResponse).getResults()
+                .stream()
+                .sorted(Comparator.comparing(ContextModel::getId))
+                .forEach(context -> digest.update(context.getId() + ":" + context.getVersion()));
+        }
+        return digest.digestHex();
+    }
+
     /**
      * Generate Vitam Error
      *
@@ -0,0 +1,221 @@
+/*
+ * Copyright French Prime minister Office/SGMAP/DINSIC/Vitam Program (2015-2022)
+ *
+ * contact.vitam@culture.gouv.fr
+ *
+ * This software is a computer program whose purpose is to implement a digital archiving back-office system managing
+ * high volumetry securely and efficiently.
+ *
+ * This software is governed by the CeCILL 2.1 license under French law and abiding by the rules of distribution of free
+ * software. You can use, modify and/ or redistribute the software under the terms of the CeCILL 2.1 license as
+ * circulated by CEA, CNRS and INRIA at the following URL "https://cecill.info".
+ *
+ * As a counterpart to the access to the source code and rights to copy, modify and redistribute granted by the license,
+ * users are provided only with a limited warranty and the software's author, the holder of the economic rights, and the
+ * successive licensors have only limited liability.
+ *
+ * In this respect, the user's attention is drawn to the risks associated with loading, using, modifying and/or
+ * developing or reproducing the software by the user in light of its specific status of free software, that may mean
+ * that it is complicated to manipulate, and that also therefore means that it is reserved for developers and
+ * experienced professionals having in-depth computer knowledge. Users are therefore encouraged to load and test the
+ * software's suitability as regards their requirements in conditions enabling the security of their systems and/or data
+ * to be ensured and, more generally, to use and operate it in the same conditions as regards security.
+ *
+ * The fact that you are presently reading this means that you have had knowledge of the CeCILL 2.1 license and that you
+ * accept its terms.
+ */
+package fr.gouv.vitam.security.internal.filter;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import fr.gouv.vitam.common.VitamConfiguration;
+import fr.gouv.vitam.common.digest.Digest;
+import fr.gouv.vitam.common.digest.DigestType;
+import fr.gouv.vitam.common.logging.VitamLogger;
+import fr.gouv.vitam.common.logging.VitamLoggerFactory;
+import fr.gouv.vitam.common.metrics.GaugeUtils;
+import fr.gouv.vitam.common.metrics.VitamMetricsNames;
+import fr.gouv.vitam.common.model.administration.ContextModel;
+import fr.gouv.vitam.security.internal.common.model.IdentityModel;
+import io.prometheus.client.Counter;
+
+import java.security.cert.CertificateEncodingException;
+import java.security.cert.X509Certificate;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cache of security contexts (identity & context, with its permissions) resolved from client certificates, keyed by
+ * certificate fingerprint.
+ *
+ * Entries expire after a fixed delay. Besides, the whole cache is invalidated as soon as a new version of the identity
+ * & context referentials is detected (identity added or linked to another context, certificate revoked by a CRL
+ * import, context added or updated), so that changes done through other components are taken into account within the
+ * version check interval. Local updates of contexts and contracts invalidate the cache immediately.
+ */
+public class SecurityContextCache {
+
+    private static final VitamLogger LOGGER = VitamLoggerFactory.getInstance(SecurityContextCache.class);
+
+    private static final Counter CACHE_REQUESTS = Counter.build()
+        .name(VitamMetricsNames.VITAM_SECURITY_CONTEXT_CACHE_REQUESTS_TOTAL)
+        .labelNames("result")
+        .help("Number of security context cache lookups")
+        .register();
+
+    private static SecurityContextCache instance;
+
+    private final Cache<String, SecurityContext> cache;
+
+    private final long versionCheckIntervalInNanos;
+
+    private final Object versionLock = new Object();
+
+    // Guarded by versionLock
+    private String referentialsVersion;
+
+    private volatile long nextVersionCheckNanos;
+
+    @VisibleForTesting
+    SecurityContextCache(int maxEntries, int timeoutInSeconds, int versionCheckIntervalInSeconds) {
+        this.versionCheckIntervalInNanos = TimeUnit.SECONDS.toNanos(versionCheckIntervalInSeconds);
+        this.nextVersionCheckNanos = System.nanoTime();
+        if (maxEntries <= 0 || timeoutInSeconds <= 0) {
+            this.cache = null;
+            return;
+        }
+        this.cache = CacheBuilder.newBuilder()
+            .maximumSize(maxEntries)
+            .expireAfterWrite(timeoutInSeconds, TimeUnit.SECONDS)
+            .recordStats()
+            .build();
+    }
+
+    /**
+     * @return the security context cache of the component, configured from VitamConfiguration
+     */
+    public static synchronized SecurityContextCache getInstance() {
+        if (instance == null) {
+            instance = new SecurityContextCache(
+                VitamConfiguration.getSecurityContextCacheMaxEntries(),
+                VitamConfiguration.getSecurityContextCacheTimeoutInSeconds(),
+                VitamConfiguration.getSecurityContextCacheVersionCheckIntervalInSeconds()
+            );
+            instance.registerMetrics();
+        }
+        return instance;
+    }
+
+    /**
+     * Invalidate all cached security contexts if the version of identity & context referentials changed since last
+     * check. The version is checked at most once per version check interval. If the version cannot be retrieved, all
+     * cached security contexts are invalidated.
+     *
+     * @param versionSupplier supplier of the current version of identity & context referentials
+     */
+    public void checkReferentialsVersion(Callable<String> versionSupplier) {
+        if (cache == null || System.nanoTime() - nextVersionCheckNanos < 0) {
+            return;
+        }
+        synchronized (versionLock) {
+            if (System.nanoTime() - nextVersionCheckNanos < 0) {
+                return;
+            }
+            String currentVersion;
+            try {
+                currentVersion = versionSupplier.call();
+            } catch (Exception e) {
+                LOGGER.warn("Could not check security referentials version. Invalidating security context cache", e);
+                currentVersion = null;
+            }
+            if (currentVersion == null || !Objects.equals(currentVersion, referentialsVersion)) {
+                cache.invalidateAll();
+            }
+            referentialsVersion = currentVersion;
+            nextVersionCheckNanos = System.nanoTime() + versionCheckIntervalInNanos;
+        }
+    }
+
+    /**
+     * @param certificate the client certificate
+     * @return the cached security context of the certificate, if any
+     * @throws CertificateEncodingException if the certificate cannot be encoded
+     */
+    public Optional<SecurityContext> get(X509Certificate certificate) throws CertificateEncodingException {
+        if (cache == null) {
+            return Optional.empty();
+        }
+        SecurityContext securityContext = cache.getIfPresent(fingerprint(certificate));
+        CACHE_REQUESTS.labels(securityContext == null ? "miss" : "hit").inc();
+        return Optional.ofNullable(securityContext);
+    }
+
+    /**
+     * @param certificate the client certificate
+     * @param identity the identity resolved for the certificate
+     * @param context the (active) context of the identity
+     * @throws CertificateEncodingException if the certificate cannot be encoded
+     */
+    public void put(X509Certificate certificate, IdentityModel identity, ContextModel context)
+        throws CertificateEncodingException {
+        if (cache == null) {
+            return;
+        }
+        cache.put(fingerprint(certificate), new SecurityContext(identity, context));
+    }
+
+    /**
+     * Invalidate all cached security contexts (eg. when contexts or contracts are updated)
+     */
+    public void invalidateAll() {
+        if (cache != null) {
+            cache.invalidateAll();
+        }
+    }
+
+    @VisibleForTesting
+    CacheStats getStats() {
+        return cache == null ? new CacheStats(0, 0, 0, 0, 0, 0) : cache.stats();
+    }
+
+    private void registerMetrics() {
+        if (cache == null) {
+            return;
+        }
+        GaugeUtils.createCustomGauge(
+            VitamMetricsNames.VITAM_SECURITY_CONTEXT_CACHE_HIT_RATE,
+            "Security context cache hit rate",
+            () -> cache.stats().hitRate()
+        ).register();
+    }
+
+    private static String fingerprint(X509Certificate certificate) throws CertificateEncodingException {
+        return new Digest(DigestType.SHA256).update(certificate.getEncoded()).digestHex();
+    }
+
+    /**
+     * Security context resolved from a client certificate
+     */
+    public static class SecurityContext {
+
+        private final IdentityModel identity;
+        private final ContextModel context;
+
+        private SecurityContext(IdentityModel identity, ContextModel context) {
+            this.identity = identity;
+            this.context = context;
+        }
+
+        public IdentityModel getIdentity() {
+            return identity;
+        }
+
+        public ContextModel getContext() {
+            return context;
+        }
+    }
+}
@@ -42,6 +42,7 @@ import fr.gouv.vitam.functional.administration.client.AdminManagementClient;
 import fr.gouv.vitam.functional.administration.client.AdminManagementClientFactory;
 import fr.gouv.vitam.security.internal.client.InternalSecurityClient;
 import fr.gouv.vitam.security.internal.client.InternalSecurityClientFactory;
+import fr.gouv.vitam.security.internal.common.exception.InternalSecurityException;
 import fr.gouv.vitam.security.internal.common.model.IdentityModel;
 import fr.gouv.vitam.security.internal.exception.VitamSecurityException;
 import org.bouncycastle.asn1.x500.X500Name;
@@ -87,12 +88,15 @@ import java.util.Base64;
 import java.util.Date;
 import java.util.Optional;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -312,6 +316,122 @@ public class InternalSecurityFilterTest {
         assertThatCode(() -> internalSecurityFilter.filter(containerRequestContext)).doesNotThrowAnyException();
     }
 
+    /**
+     * When the security context of the certificate is cached, identity and context are not resolved again
+     *
+     * @throws Exception
+     */
+    @Test
+    @RunWithCustomExecutor
+    public void whenSecurityContextCachedThenNoRemoteCall() throws Exception {
+        SecurityContextCache securityContextCache = new SecurityContextCache(10, 60, 60);
+        InternalSecurityFilter internalSecurityFilter = initializeFilter(false, securityContextCache);
+        when(httpServletRequest.getAttribute("javax.servlet.request.X509Certificate")).thenReturn(
+            new X509Certificate[] { cert }
+        );
+        when(httpServletRequest.getHeader(GlobalDataRest.X_TENANT_ID)).thenReturn(TENANT_ID.toString());
+
+        when(internalSecurityClient.findIdentity(any())).thenReturn(getIdentityModel(cert));
+        when(uriInfo.getPath()).thenReturn("/otherUri");
+        when(adminManagementClient.findContextById(anyString())).thenReturn(
+            getTestContext(ContextStatus.ACTIVE, true, "fakeAccessContract", null)
+        );
+
+        internalSecurityFilter.filter(containerRequestContext);
+        internalSecurityFilter.filter(containerRequestContext);
+        internalSecurityFilter.filter(containerRequestContext);
+
+        verify(internalSecurityClient, times(1)).findIdentity(any());
+        verify(adminManagementClient, times(1)).findContextById(anyString());
+        assertThat(securityContextCache.getStats().hitCount()).isEqualTo(2);
+        assertThat(securityContextCache.getStats().missCount()).isEqualTo(1);
+
+        // Permissions are still checked on each request
+        when(httpServletRequest.getHeader(GlobalDataRest.X_TENANT_ID)).thenReturn("1");
+        assertThatThrownBy(() -> internalSecurityFilter.filter(containerRequestContext)).isInstanceOf(
+            VitamSecurityException.class
+        );
+
+        // Invalidated security contexts are resolved again
+        securityContextCache.invalidateAll();
+        when(httpServletRequest.getHeader(GlobalDataRest.X_TENANT_ID)).thenReturn(TENANT_ID.toString());
+        internalSecurityFilter.filter(containerRequestContext);
+        verify(internalSecurityClient, times(2)).findIdentity(any());
+        verify(adminManagementClient, times(2)).findContextById(anyString());
+    }
+
+    /**
+     * When identities or contexts are updated, cached security contexts are invalidated
+     *
+     * @throws Exception
+     */
+    @Test
+    @RunWithCustomExecutor
+    public void whenReferentialsVersionChangedThenSecurityContextCacheInvalidated() throws Exception {
+        SecurityContextCache securityContextCache = new SecurityContextCache(10, 60, 0);
+        InternalSecurityFilter internalSecurityFilter = initializeFilter(false, securityContextCache);
+        when(httpServletRequest.getAttribute("javax.servlet.request.X509Certificate")).thenReturn(
+            new X509Certificate[] { cert }
+        );
+        when(httpServletRequest.getHeader(GlobalDataRest.X_TENANT_ID)).thenReturn(TENANT_ID.toString());
+
+        when(internalSecurityClient.findIdentity(any())).thenReturn(getIdentityModel(cert));
+        when(uriInfo.getPath()).thenReturn("/otherUri");
+        when(adminManagementClient.findContextById(anyString())).thenReturn(
+            getTestContext(ContextStatus.ACTIVE, true, "fakeAccessContract", null)
+        );
+        when(internalSecurityClient.getIdentitiesVersion()).thenReturn("1");
+        when(adminManagementClient.findContexts(any())).thenReturn(getContextVersions(1));
+
+        internalSecurityFilter.filter(containerRequestContext);
+        internalSecurityFilter.filter(containerRequestContext);
+        verify(internalSecurityClient, times(1)).findIdentity(any());
+
+        // Identity revoked (CRL import)
+        when(internalSecurityClient.getIdentitiesVersion()).thenReturn("2");
+        internalSecurityFilter.filter(containerRequestContext);
+        internalSecurityFilter.filter(containerRequestContext);
+        verify(internalSecurityClient, times(2)).findIdentity(any());
+
+        // Context updated
+        when(adminManagementClient.findContexts(any())).thenReturn(getContextVersions(2));
+        internalSecurityFilter.filter(containerRequestContext);
+        verify(internalSecurityClient, times(3)).findIdentity(any());
+
+        // Version cannot be checked
+        when(internalSecurityClient.getIdentitiesVersion()).thenThrow(new InternalSecurityException("error"));
+        internalSecurityFilter.filter(containerRequestContext);
+        verify(internalSecurityClient, times(4)).findIdentity(any());
+        verify(adminManagementClient, times(4)).findContextById(anyString());
+    }
+
+    /**
+     * When the context is not active, it is not cached
+     *
+     * @throws Exception
+     */
+    @Test
+    @RunWithCustomExecutor
+    public void whenContextInactivatedThenNotCached() throws Exception {
+        SecurityContextCache securityContextCache = new SecurityContextCache(10, 60, 60);
+        InternalSecurityFilter internalSecurityFilter = initializeFilter(false, securityContextCache);
+        when(httpServletRequest.getAttribute("javax.servlet.request.X509Certificate")).thenReturn(
+            new X509Certificate[] { cert }
+        );
+        when(httpServletRequest.getHeader(GlobalDataRest.X_TENANT_ID)).thenReturn(TENANT_ID.toString());
+
+        when(internalSecurityClient.findIdentity(any())).thenReturn(getIdentityModel(cert));
+        when(uriInfo.getPath()).thenReturn("/otherUri");
+        when(adminManagementClient.findContextById(anyString())).thenReturn(
+            getTestContext(ContextStatus.INACTIVE, true, null, null)
+        );
+
+        assertThatThrownBy(() -> internalSecurityFilter.filter(containerRequestContext)).isInstanceOf(
+            VitamSecurityException.class
+        );
+        assertThat(securityContextCache.get(cert)).isEmpty();
+    }
+
     /**
      * when other uri then verify tenant KO
      *
@@ -541,6 +661,13 @@ public class InternalSecurityFilterTest {
         return new RequestResponseOK<ContextModel>().addResult(contextModel);
     }
 
+    private RequestResponse<ContextModel> getContextVersions(int version) {
+        ContextModel contextModel = new ContextModel();
+        contextModel.setId(FAKE_CONTEXT_ID);
+        contextModel.setVersion(version);
+        return new RequestResponseOK<ContextModel>().addResult(contextModel);
+    }
+
     /**
      * Get Fake IdentityModel for test
      *
@@ -560,6 +687,13 @@ public class InternalSecurityFilterTest {
     }
 
     private InternalSecurityFilter initializeFilter(boolean allowSslClientHeader) {
+        return initializeFilter(allowSslClientHeader, new SecurityContextCache(0, 0, 0));
+    }
+
+    private InternalSecurityFilter initializeFilter(
+        boolean allowSslClientHeader,
+        SecurityContextCache securityContextCache
+    ) {
         InternalSecurityClientFactory internalSecurityClientFactory = mock(InternalSecurityClientFactory.class);
         AdminManagementClientFactory adminManagementClientFactory = mock(AdminManagementClientFactory.class);
 
@@ -569,7 +703,8 @@ public class InternalSecurityFilterTest {
             httpServletRequest,
             internalSecurityClientFactory,
             adminManagementClientFactory,
-            allowSslClientHeader
+            allowSslClientHeader,
+            securityContextCache
         );
     }
 }
@@ -131,6 +131,16 @@ public class StorageConfiguration extends DefaultVitamApplicationConfiguration {
     private int swiftWaitingTimeInMilliseconds = 10_000;
     private int swiftRandomRangeSleepInMilliseconds = 10_000;
 
+    /**
+     * Enable / Disable persistent digest index of filesystem-hash offers
+     */
+    private boolean digestIndexEnabled = false;
+
+    /**
+     * Max number of digest index shards (per container & 3 hex digits hash prefix) loaded in memory
+     */
+    private int digestIndexMaxLoadedShards = 1024;
+
     /**
      * @return the swiftUrl
      */
@@ -501,6 +511,24 @@ public class StorageConfiguration extends DefaultVitamApplicationConfiguration {
         return this;
     }
 
+    public boolean isDigestIndexEnabled() {
+        return digestIndexEnabled;
+    }
+
+    public StorageConfiguration setDigestIndexEnabled(boolean digestIndexEnabled) {
+        this.digestIndexEnabled = digestIndexEnabled;
+        return this;
+    }
+
+    public int getDigestIndexMaxLoadedShards() {
+        return digestIndexMaxLoadedShards;
+    }
+
+    public StorageConfiguration setDigestIndexMaxLoadedShards(int digestIndexMaxLoadedShards) {
+        this.digestIndexMaxLoadedShards = digestIndexMaxLoadedShards;
+        return this;
+    }
+
     public Boolean getEnableCustomHeaders() {
         return enableCustomHeaders;
     }
@@ -29,6 +29,7 @@ package fr.gouv.vitam.common.storage.cas.container.api;
 import com.google.common.annotations.VisibleForTesting;
 import fr.gouv.vitam.common.digest.Digest;
 import fr.gouv.vitam.common.digest.DigestType;
+import fr.gouv.vitam.common.model.ByteRange;
 import fr.gouv.vitam.common.model.MetadatasObject;
 import fr.gouv.vitam.common.model.VitamAutoCloseable;
 import fr.gouv.vitam.common.model.storage.AccessRequestStatus;
@@ -36,11 +37,13 @@ import fr.gouv.vitam.common.storage.ContainerInformation;
 import fr.gouv.vitam.workspace.api.exception.ContentAddressableStorageAlreadyExistException;
 import fr.gouv.vitam.workspace.api.exception.ContentAddressableStorageException;
 import fr.gouv.vitam.workspace.api.exception.ContentAddressableStorageNotFoundException;
+import fr.gouv.vitam.workspace.api.exception.ContentAddressableStorageRangeNotSatisfiableException;
 import fr.gouv.vitam.workspace.api.exception.ContentAddressableStorageServerException;
 import fr.gouv.vitam.workspace.api.exception.ContentAddressableStorageUnavailableDataFromAsyncOfferException;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -133,6 +136,30 @@ public interface ContentAddressableStorage extends VitamAutoCloseable {
     ObjectContent getObject(String containerName, String objectName)
         throws ContentAddressableStorageNotFoundException, ContentAddressableStorageException, ContentAddressableStorageUnavailableDataFromAsyncOfferException;
 
+    /**
+     * Retrieves a byte range of the object at location containerName/objectName
+     * <p>
+     * Default implementation reads and discards leading bytes of the whole object. Providers able to seek or to issue
+     * ranged reads should override it.
+     *
+     * @param containerName container where this exists.
+     * @param objectName fully qualified name relative to the container.
+     * @param range the requested range, or null to retrieve the whole object
+     * @return the object content, restricted to the resolved range if any
+     * @throws ContentAddressableStorageNotFoundException Thrown when the container cannot be located.
+     * @throws ContentAddressableStorageRangeNotSatisfiableException Thrown when the range does not overlap the object
+     * @throws ContentAddressableStorageUnavailableDataFromAsyncOfferException Thrown when object cannot be read due to missing access request on AsyncRead ContentAddressableStorage
+     * @throws ContentAddressableStorageException Thrown when get action failed due some other failure
+     */
+    default ObjectContent getObject(String containerName, String objectName, ByteRange range)
+        throws ContentAddressableStorageException {
+        ObjectContent objectContent = getObject(containerName, objectName);
+        if (range == null) {
+            return objectContent;
+        }
+        return ObjectContent.slice(objectContent, range, containerName, objectName);
+    }
+
     /**
      * Create an access request for objects (asynchronous read from tape to local FS).
      * Return access request identifier
@@ -247,6 +274,31 @@ public interface ContentAddressableStorage extends VitamAutoCloseable {
     MetadatasObject getObjectMetadata(String containerName, String objectId, boolean noCache)
         throws ContentAddressableStorageException;
 
+    /**
+     * get metadata of a set of objects of a container
+     *
+     * @param containerName the container name
+     * @param objectIds the objectIds to check
+     * @param noCache forces full digest computation
+     * @return metadata by object id. Missing objects are absent from returned map.
+     * @throws ContentAddressableStorageException Thrown when get action failed due some other failure
+     */
+    default Map<String, MetadatasObject> getObjectsMetadata(
+        String containerName,
+        List<String> objectIds,
+        boolean noCache
+    ) throws ContentAddressableStorageException {
+        Map<String, MetadatasObject> result = new HashMap<>();
+        for (String objectId : objectIds) {
+            try {
+                result.put(objectId, getObjectMetadata(containerName, objectId, noCache));
+            } catch (ContentAddressableStorageNotFoundException e) {
+                // NOSONAR : missing object => absent from result
+            }
+        }
+        return result;
+    }
+
     /**
      * List container objects
      *
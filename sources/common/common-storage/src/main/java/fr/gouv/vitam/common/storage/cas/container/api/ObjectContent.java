@@ -26,23 +26,126 @@
  */
 package fr.gouv.vitam.common.storage.cas.container.api;
 
+import fr.gouv.vitam.common.model.ByteRange;
+import fr.gouv.vitam.common.stream.StreamUtils;
+import fr.gouv.vitam.workspace.api.exception.ContentAddressableStorageRangeNotSatisfiableException;
+import fr.gouv.vitam.workspace.api.exception.ContentAddressableStorageServerException;
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.io.input.BoundedInputStream;
+
+import java.io.IOException;
 import java.io.InputStream;
 
 public class ObjectContent {
 
     private final InputStream inputStream;
     private final long size;
+    private final ByteRange range;
+    private final long totalSize;
 
     public ObjectContent(InputStream inputStream, long size) {
         this.inputStream = inputStream;
         this.size = size;
+        this.range = null;
+        this.totalSize = size;
+    }
+
+    /**
+     * Partial object content
+     *
+     * @param inputStream the content of the range
+     * @param range the bounded range served
+     * @param totalSize the whole object size
+     */
+    public ObjectContent(InputStream inputStream, ByteRange range, long totalSize) {
+        this.inputStream = inputStream;
+        this.size = range.getLength();
+        this.range = range;
+        this.totalSize = totalSize;
     }
 
     public InputStream getInputStream() {
         return inputStream;
     }
 
+    /**
+     * @return the size of the returned content (range length for partial content)
+     */
     public long getSize() {
         return size;
     }
+
+    /**
+     * @return the bounded range served, or null when the whole object is returned
+     */
+    public ByteRange getRange() {
+        return range;
+    }
+
+    /**
+     * @return the whole object size
+     */
+    public long getTotalSize() {
+        return totalSize;
+    }
+
+    /**
+     * Resolves a requested range against the actual object size.
+     *
+     * @param range the requested range
+     * @param size the object size
+     * @param containerName the container name
+     * @param objectName the object name
+     * @return the bounded range to serve
+     * @throws ContentAddressableStorageRangeNotSatisfiableException if the range does not overlap the object
+     */
+    public static ByteRange resolveRange(ByteRange range, long size, String containerName, String objectName)
+        throws ContentAddressableStorageRangeNotSatisfiableException {
+        if (!range.isSatisfiable(size)) {
+            throw new ContentAddressableStorageRangeNotSatisfiableException(
+                "Range " + range + " not satisfiable for object " + containerName + "/" + objectName,
+                size
+            );
+        }
+        return range.resolve(size);
+    }
+
+    /**
+     * Narrows a whole object content to the requested range by discarding leading bytes. Used by storage providers
+     * that cannot seek.
+     *
+     * @param objectContent the whole object content
+     * @param range the requested range
+     * @param containerName the container name
+     * @param objectName the object name
+     * @return the partial object content
+     * @throws ContentAddressableStorageRangeNotSatisfiableException if the range does not overlap the object
+     * @throws ContentAddressableStorageServerException on I/O error while skipping leading bytes
+     */
+    public static ObjectContent slice(
+        ObjectContent objectContent,
+        ByteRange range,
+        String containerName,
+        String objectName
+    ) throws ContentAddressableStorageRangeNotSatisfiableException, ContentAddressableStorageServerException {
+        InputStream inputStream = objectContent.getInputStream();
+        try {
+            ByteRange resolvedRange = resolveRange(range, objectContent.getSize(), containerName, objectName);
+            IOUtils.skipFully(inputStream, resolvedRange.getFirst());
+            return new ObjectContent(
+                new BoundedInputStream(inputStream, resolvedRange.getLength()),
+                resolvedRange,
+                objectContent.getSize()
+            );
+        } catch (ContentAddressableStorageRangeNotSatisfiableException e) {
+            StreamUtils.closeSilently(inputStream);
+            throw e;
+        } catch (IOException e) {
+            StreamUtils.closeSilently(inputStream);
+            throw new ContentAddressableStorageServerException(
+                "Could not read range " + range + " of object " + containerName + "/" + objectName,
+                e
+            );
+        }
+    }
 }
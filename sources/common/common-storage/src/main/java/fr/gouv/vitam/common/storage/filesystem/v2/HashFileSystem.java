@@ -33,6 +33,7 @@ import fr.gouv.vitam.common.VitamConfiguration;
 import fr.gouv.vitam.common.digest.DigestType;
 import fr.gouv.vitam.common.logging.VitamLogger;
 import fr.gouv.vitam.common.logging.VitamLoggerFactory;
+import fr.gouv.vitam.common.model.ByteRange;
 import fr.gouv.vitam.common.model.MetadatasObject;
 import fr.gouv.vitam.common.model.storage.ObjectEntry;
 import fr.gouv.vitam.common.performance.PerformanceLogger;
@@ -44,10 +45,14 @@ import fr.gouv.vitam.common.storage.cas.container.api.ObjectContent;
 import fr.gouv.vitam.common.storage.cas.container.api.ObjectListingListener;
 import fr.gouv.vitam.common.storage.constants.ErrorMessage;
 import fr.gouv.vitam.common.storage.constants.ExtendedAttributes;
+import fr.gouv.vitam.common.storage.filesystem.v2.HashFileSystemDigestIndex.DigestIndexEntry;
 import fr.gouv.vitam.workspace.api.exception.ContentAddressableStorageAlreadyExistException;
 import fr.gouv.vitam.workspace.api.exception.ContentAddressableStorageException;
 import fr.gouv.vitam.workspace.api.exception.ContentAddressableStorageNotFoundException;
+import fr.gouv.vitam.workspace.api.exception.ContentAddressableStorageRangeNotSatisfiableException;
 import fr.gouv.vitam.workspace.api.exception.ContentAddressableStorageServerException;
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.io.input.BoundedInputStream;
 
 import java.io.File;
 import java.io.FileNotFoundException;
@@ -55,6 +60,8 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.ByteBuffer;
 import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.SeekableByteChannel;
 import java.nio.charset.Charset;
 import java.nio.file.DirectoryNotEmptyException;
 import java.nio.file.FileAlreadyExistsException;
@@ -69,6 +76,9 @@ import java.nio.file.StandardCopyOption;
 import java.nio.file.attribute.BasicFileAttributeView;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.nio.file.attribute.UserDefinedFileAttributeView;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -80,6 +90,7 @@ public class HashFileSystem extends ContentAddressableStorageAbstract {
     private static final String ERROR_MSG_NOT_SUPPORTED =
         "Extended attribute not supported. You should consider to use XFS filesystem.";
     private final HashFileSystemHelper fsHelper;
+    private final HashFileSystemDigestIndex digestIndex;
 
     /**
      * @param configuration
@@ -96,6 +107,9 @@ public class HashFileSystem extends ContentAddressableStorageAbstract {
         } else if (!f.isDirectory()) {
             throw new IllegalArgumentException("The storage path is not a directory");
         }
+        digestIndex = configuration.isDigestIndexEnabled()
+            ? new HashFileSystemDigestIndex(fsHelper, storagePath, configuration.getDigestIndexMaxLoadedShards())
+            : null;
     }
 
     @Override
@@ -187,16 +201,7 @@ public class HashFileSystem extends ContentAddressableStorageAbstract {
 
     @Override
     public ObjectContent getObject(String containerName, String objectName) throws ContentAddressableStorageException {
-        ParametersChecker.checkParameter(
-            ErrorMessage.CONTAINER_NAME_IS_A_MANDATORY_PARAMETER.getMessage(),
-            containerName
-        );
-        Path filePath = fsHelper.getPathObject(containerName, objectName);
-        if (!filePath.toFile().isFile()) {
-            throw new ContentAddressableStorageNotFoundException(
-                objectName + " in container " + containerName + " not found"
-            );
-        }
+        Path filePath = getExistingObjectPath(containerName, objectName);
         try {
             long size = Files.size(filePath);
             InputStream inputStream = Files.newInputStream(filePath);
@@ -209,6 +214,53 @@ public class HashFileSystem extends ContentAddressableStorageAbstract {
         }
     }
 
+    @Override
+    public ObjectContent getObject(String containerName, String objectName, ByteRange range)
+        throws ContentAddressableStorageException {
+        if (range == null) {
+            return getObject(containerName, objectName);
+        }
+        Path filePath = getExistingObjectPath(containerName, objectName);
+        SeekableByteChannel channel = null;
+        try {
+            // Seek to the range start instead of reading leading bytes
+            channel = Files.newByteChannel(filePath);
+            long size = channel.size();
+            ByteRange resolvedRange = ObjectContent.resolveRange(range, size, containerName, objectName);
+            channel.position(resolvedRange.getFirst());
+            InputStream inputStream = new BoundedInputStream(
+                Channels.newInputStream(channel),
+                resolvedRange.getLength()
+            );
+            return new ObjectContent(inputStream, resolvedRange, size);
+        } catch (ContentAddressableStorageRangeNotSatisfiableException e) {
+            IOUtils.closeQuietly(channel);
+            throw e;
+        } catch (IOException e) {
+            IOUtils.closeQuietly(channel);
+            throw new ContentAddressableStorageException(
+                "I/O error on retrieving range " + range + " of object " + objectName + " in the container " +
+                containerName,
+                e
+            );
+        }
+    }
+
+    private Path getExistingObjectPath(String containerName, String objectName)
+        throws ContentAddressableStorageNotFoundException, ContentAddressableStorageServerException {
+        ParametersChecker.checkParameter(
+            ErrorMessage.CONTAINER_NAME_IS_A_MANDATORY_PARAMETER.getMessage(),
+            containerName
+        );
+        Path filePath = fsHelper.getPathObject(containerName, objectName);
+        if (!filePath.toFile().isFile()) {
+            throw new ContentAddressableStorageNotFoundException(
+                objectName + " in container " + containerName + " not found"
+            );
+        }
+        return filePath;
+    }
+
     @Override
     public void deleteObject(String containerName, String objectName) throws ContentAddressableStorageException {
         ParametersChecker.checkParameter(
@@ -224,6 +276,9 @@ public class HashFileSystem extends ContentAddressableStorageAbstract {
         } catch (IOException e) {
             throw new ContentAddressableStorageServerException("I/O error on removing " + filePath, e);
         }
+        if (digestIndex != null) {
+            digestIndex.remove(containerName, objectName);
+        }
 
         // Delete parent directory if parents directories are empty
         try {
@@ -258,12 +313,40 @@ public class HashFileSystem extends ContentAddressableStorageAbstract {
     public String getObjectDigest(String containerName, String objectName, DigestType algo, boolean noCache)
         throws ContentAddressableStorageException {
         ParametersChecker.checkParameter(ErrorMessage.ALGO_IS_A_MANDATORY_PARAMETER.getMessage(), algo);
+        BasicFileAttributes attributes = digestIndex != null ? readFileAttributes(containerName, objectName) : null;
+        return getObjectDigest(containerName, objectName, algo, noCache, attributes);
+    }
+
+    /**
+     * @param attributes object file attributes, required to lookup / update digest index. null if index is disabled.
+     */
+    private String getObjectDigest(
+        String containerName,
+        String objectName,
+        DigestType algo,
+        boolean noCache,
+        BasicFileAttributes attributes
+    ) throws ContentAddressableStorageException {
+        // Get digest from index
+        if (!noCache && attributes != null) {
+            String digestFromIndex = digestIndex.getDigest(
+                containerName,
+                objectName,
+                algo,
+                attributes.size(),
+                attributes.lastModifiedTime().toMillis()
+            );
+            if (digestFromIndex != null) {
+                return digestFromIndex;
+            }
+        }
 
         // Get digest from XATTR
         String digestFromMD = getObjectDigestFromMD(containerName, objectName, algo);
 
         if (!noCache) {
             if (digestFromMD != null) {
+                indexDigest(containerName, objectName, algo, digestFromMD, attributes);
                 return digestFromMD;
             }
 
@@ -280,11 +363,45 @@ public class HashFileSystem extends ContentAddressableStorageAbstract {
 
         if (digestFromMD == null || !digestFromMD.equals(digest)) {
             storeDigest(containerName, objectName, algo, digest);
+        } else {
+            indexDigest(containerName, objectName, algo, digest, attributes);
         }
 
         return digest;
     }
 
+    private void indexDigest(
+        String containerName,
+        String objectName,
+        DigestType algo,
+        String digest,
+        BasicFileAttributes attributes
+    ) throws ContentAddressableStorageServerException {
+        if (digestIndex == null || attributes == null) {
+            return;
+        }
+        digestIndex.put(
+            containerName,
+            objectName,
+            algo,
+            digest,
+            attributes.size(),
+            attributes.lastModifiedTime().toMillis()
+        );
+    }
+
+    private BasicFileAttributes readFileAttributes(String containerName, String objectName)
+        throws ContentAddressableStorageNotFoundException, ContentAddressableStorageServerException {
+        Path filePath = fsHelper.getPathObject(containerName, objectName);
+        try {
+            return Files.readAttributes(filePath, BasicFileAttributes.class);
+        } catch (NoSuchFileException e) {
+            throw new ContentAddressableStorageNotFoundException(ErrorMessage.OBJECT_NOT_FOUND + objectName, e);
+        } catch (IOException e) {
+            throw new ContentAddressableStorageServerException("I/O error on reading attributes of " + filePath, e);
+        }
+    }
+
     /**
      * @param containerName the container name
      * @param objectName the object name
@@ -368,6 +485,9 @@ public class HashFileSystem extends ContentAddressableStorageAbstract {
                 e
             );
         }
+        if (digestIndex != null) {
+            indexDigest(containerName, objectName, algo, digest, readFileAttributes(containerName, objectName));
+        }
     }
 
     // TODO : manage used information per container
@@ -399,22 +519,18 @@ public class HashFileSystem extends ContentAddressableStorageAbstract {
                 containerName,
                 objectId
             );
-            MetadatasStorageObject result = new MetadatasStorageObject();
             Path filePath = fsHelper.getPathObject(containerName, objectId);
             File file = filePath.toFile();
             BasicFileAttributes basicAttribs = getFileAttributes(file);
-            long size = Files.size(Paths.get(file.getPath()));
-            result.setObjectName(objectId);
             // TODO To be reviewed with the X-DIGEST-ALGORITHM parameter
-            result.setDigest(
-                getObjectDigest(containerName, objectId, VitamConfiguration.getDefaultDigestType(), noCache)
+            String digest = getObjectDigest(
+                containerName,
+                objectId,
+                VitamConfiguration.getDefaultDigestType(),
+                noCache,
+                digestIndex != null ? basicAttribs : null
             );
-            result.setFileSize(size);
-            // TODO see how to retrieve metadatas
-            result.setType(containerName.split("_")[1]);
-            result.setLastAccessDate(basicAttribs.lastAccessTime().toString());
-            result.setLastModifiedDate(basicAttribs.lastModifiedTime().toString());
-            return result;
+            return toMetadatasObject(containerName, objectId, basicAttribs, digest);
         } catch (FileNotFoundException | NoSuchFileException fnfe) {
             throw new ContentAddressableStorageNotFoundException(
                 "Object " + objectId + "for container " + containerName + " is not found",
@@ -428,6 +544,69 @@ public class HashFileSystem extends ContentAddressableStorageAbstract {
         }
     }
 
+    /**
+     * Bulk metadata lookup. When digest index is enabled, required index shards are loaded once for all objects, and
+     * each object only requires a single file attributes read (unless digest is missing from index).
+     */
+    @Override
+    public Map<String, MetadatasObject> getObjectsMetadata(
+        String containerName,
+        List<String> objectIds,
+        boolean noCache
+    ) throws ContentAddressableStorageException {
+        if (digestIndex == null || noCache) {
+            return super.getObjectsMetadata(containerName, objectIds, noCache);
+        }
+
+        Stopwatch stopwatch = Stopwatch.createStarted();
+        DigestType digestType = VitamConfiguration.getDefaultDigestType();
+        Map<String, DigestIndexEntry> indexEntries = digestIndex.getEntries(containerName, objectIds);
+
+        Map<String, MetadatasObject> result = new HashMap<>();
+        for (String objectId : objectIds) {
+            BasicFileAttributes attributes;
+            try {
+                attributes = readFileAttributes(containerName, objectId);
+            } catch (ContentAddressableStorageNotFoundException e) {
+                // NOSONAR : missing object => absent from result
+                continue;
+            }
+
+            DigestIndexEntry indexEntry = indexEntries.get(objectId);
+            String digest = indexEntry != null &&
+                indexEntry.matches(digestType, attributes.size(), attributes.lastModifiedTime().toMillis())
+                ? indexEntry.getDigest()
+                : getObjectDigest(containerName, objectId, digestType, false, attributes);
+            result.put(objectId, toMetadatasObject(containerName, objectId, attributes, digest));
+        }
+
+        PerformanceLogger.getInstance()
+            .log(
+                "STP_Offer_" + getConfiguration().getProvider(),
+                containerName,
+                "READ_BULK_METADATA_FROM_INDEX",
+                stopwatch.elapsed(TimeUnit.MILLISECONDS)
+            );
+        return result;
+    }
+
+    private MetadatasObject toMetadatasObject(
+        String containerName,
+        String objectId,
+        BasicFileAttributes basicAttribs,
+        String digest
+    ) {
+        MetadatasStorageObject result = new MetadatasStorageObject();
+        result.setObjectName(objectId);
+        result.setDigest(digest);
+        result.setFileSize(basicAttribs.size());
+        // TODO see how to retrieve metadatas
+        result.setType(containerName.split("_")[1]);
+        result.setLastAccessDate(basicAttribs.lastAccessTime().toString());
+        result.setLastModifiedDate(basicAttribs.lastModifiedTime().toString());
+        return result;
+    }
+
     @Override
     public void listContainer(String containerName, ObjectListingListener objectListingListener)
         throws ContentAddressableStorageNotFoundException, ContentAddressableStorageServerException, IOException {
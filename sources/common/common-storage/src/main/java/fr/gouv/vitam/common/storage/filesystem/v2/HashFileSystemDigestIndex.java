@@ -0,0 +1,410 @@
+/*
+ * Copyright French Prime minister Office/SGMAP/DINSIC/Vitam Program (2015-2022)
+ *
+ * contact.vitam@culture.gouv.fr
+ *
+ * This software is a computer program whose purpose is to implement a digital archiving back-office system managing
+ * high volumetry securely and efficiently.
+ *
+ * This software is governed by the CeCILL 2.1 license under French law and abiding by the rules of distribution of free
+ * software. You can use, modify and/ or redistribute the software under the terms of the CeCILL 2.1 license as
+ * circulated by CEA, CNRS and INRIA at the following URL "https://cecill.info".
+ *
+ * As a counterpart to the access to the source code and rights to copy, modify and redistribute granted by the license,
+ * users are provided only with a limited warranty and the software's author, the holder of the economic rights, and the
+ * successive licensors have only limited liability.
+ *
+ * In this respect, the user's attention is drawn to the risks associated with loading, using, modifying and/or
+ * developing or reproducing the software by the user in light of its specific status of free software, that may mean
+ * that it is complicated to manipulate, and that also therefore means that it is reserved for developers and
+ * experienced professionals having in-depth computer knowledge. Users are therefore encouraged to load and test the
+ * software's suitability as regards their requirements in conditions enabling the security of their systems and/or data
+ * to be ensured and, more generally, to use and operate it in the same conditions as regards security.
+ *
+ * The fact that you are presently reading this means that you have had knowledge of the CeCILL 2.1 license and that you
+ * accept its terms.
+ */
+package fr.gouv.vitam.common.storage.filesystem.v2;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.util.concurrent.Striped;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import fr.gouv.vitam.common.digest.DigestType;
+import fr.gouv.vitam.common.logging.VitamLogger;
+import fr.gouv.vitam.common.logging.VitamLoggerFactory;
+import fr.gouv.vitam.workspace.api.exception.ContentAddressableStorageServerException;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.locks.Lock;
+
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.CREATE;
+
+/**
+ * Persistent digest index of a {@link HashFileSystem} storage.
+ *
+ * For each container, object entries (name, size, last modified date & digest) are appended to shard files
+ * ({rootPath}/digest-index/{container}/{shard}.idx, where shard is the 3 first hexadecimal digits of the object path
+ * hash). Object deletions are appended as tombstone entries.
+ *
+ * Shards are loaded lazily in memory (least recently used shards are evicted), and compacted on load when most of their
+ * entries are superseded. Since index writes are not atomic with object writes, index entries are only trusted if
+ * object size & last modified date still match. Otherwise, callers should fall back to the digest extended attribute.
+ *
+ * Shard file writes (appends and load-time compaction) are serialized by a lock per shard key rather than per loaded
+ * shard instance, since an evicted shard may still be written to while a new instance of the same shard is loaded.
+ */
+public class HashFileSystemDigestIndex {
+
+    private static final VitamLogger LOGGER = VitamLoggerFactory.getInstance(HashFileSystemDigestIndex.class);
+
+    private static final String DIGEST_INDEX_SUBDIRECTORY = "digest-index";
+    private static final String SHARD_FILE_EXTENSION = ".idx";
+    private static final int SHARD_PREFIX_LENGTH = 3;
+    private static final String FIELD_SEPARATOR = "\t";
+    private static final String TOMBSTONE = "-";
+    private static final int MIN_RECORDS_FOR_COMPACTION = 1000;
+    private static final int SHARD_LOCK_STRIPES = 256;
+
+    private final HashFileSystemHelper fsHelper;
+    private final Path indexRootPath;
+    private final LoadingCache<ShardKey, Shard> loadedShards;
+    private final Striped<Lock> shardLocks = Striped.lock(SHARD_LOCK_STRIPES);
+
+    public HashFileSystemDigestIndex(HashFileSystemHelper fsHelper, String rootPath, int maxLoadedShards) {
+        this.fsHelper = fsHelper;
+        this.indexRootPath = Paths.get(rootPath, DIGEST_INDEX_SUBDIRECTORY);
+        this.loadedShards = CacheBuilder.newBuilder()
+            .maximumSize(maxLoadedShards)
+            .build(
+                new CacheLoader<>() {
+                    @Override
+                    public Shard load(ShardKey shardKey) throws IOException {
+                        return loadShard(shardKey);
+                    }
+                }
+            );
+    }
+
+    /**
+     * @return the digest of the object if indexed with the same digest type, size & last modified date, null otherwise
+     */
+    public String getDigest(
+        String containerName,
+        String objectName,
+        DigestType digestType,
+        long size,
+        long lastModifiedMillis
+    ) throws ContentAddressableStorageServerException {
+        DigestIndexEntry entry = getShard(containerName, objectName).entries.get(objectName);
+        return entry != null && entry.matches(digestType, size, lastModifiedMillis) ? entry.getDigest() : null;
+    }
+
+    /**
+     * Retrieves index entries of a set of objects of a container, loading each required shard once.
+     * Returned entries must be checked using {@link DigestIndexEntry#matches(DigestType, long, long)}.
+     *
+     * @return indexed entries by object name. Non indexed objects are absent from returned map.
+     */
+    public Map<String, DigestIndexEntry> getEntries(String containerName, Collection<String> objectNames)
+        throws ContentAddressableStorageServerException {
+        Map<ShardKey, Shard> shards = new HashMap<>();
+        Map<String, DigestIndexEntry> result = new HashMap<>();
+        for (String objectName : objectNames) {
+            ShardKey shardKey = getShardKey(containerName, objectName);
+            Shard shard = shards.get(shardKey);
+            if (shard == null) {
+                shard = getShard(shardKey);
+                shards.put(shardKey, shard);
+            }
+            DigestIndexEntry entry = shard.entries.get(objectName);
+            if (entry != null) {
+                result.put(objectName, entry);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Indexes the digest of an object.
+     */
+    public void put(
+        String containerName,
+        String objectName,
+        DigestType digestType,
+        String digest,
+        long size,
+        long lastModifiedMillis
+    ) throws ContentAddressableStorageServerException {
+        if (!isIndexable(objectName)) {
+            return;
+        }
+        DigestIndexEntry entry = new DigestIndexEntry(digestType, digest, size, lastModifiedMillis);
+        ShardKey shardKey = getShardKey(containerName, objectName);
+        Lock lock = shardLocks.get(shardKey);
+        lock.lock();
+        try {
+            Shard shard = getShard(shardKey);
+            if (entry.equals(shard.entries.get(objectName))) {
+                return;
+            }
+            appendRecord(shard, objectName + FIELD_SEPARATOR + entry.toRecord());
+            shard.entries.put(objectName, entry);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes an object from index.
+     */
+    public void remove(String containerName, String objectName) throws ContentAddressableStorageServerException {
+        if (!isIndexable(objectName)) {
+            return;
+        }
+        ShardKey shardKey = getShardKey(containerName, objectName);
+        Lock lock = shardLocks.get(shardKey);
+        lock.lock();
+        try {
+            Shard shard = getShard(shardKey);
+            if (shard.entries.remove(objectName) == null) {
+                return;
+            }
+            appendRecord(shard, objectName + FIELD_SEPARATOR + TOMBSTONE);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static boolean isIndexable(String objectName) {
+        return !objectName.contains(FIELD_SEPARATOR) && objectName.indexOf('\n') < 0 && objectName.indexOf('\r') < 0;
+    }
+
+    private void appendRecord(Shard shard, String record) {
+        try {
+            Files.createDirectories(shard.path.getParent());
+            Files.write(shard.path, (record + "\n").getBytes(StandardCharsets.UTF_8), CREATE, APPEND);
+            shard.recordCount++;
+        } catch (IOException e) {
+            // Index is a best effort cache. Missing entries will be recovered from extended attributes.
+            LOGGER.warn("Could not write digest index entry to " + shard.path, e);
+        }
+    }
+
+    private Shard getShard(String containerName, String objectName) throws ContentAddressableStorageServerException {
+        return getShard(getShardKey(containerName, objectName));
+    }
+
+    private Shard getShard(ShardKey shardKey) throws ContentAddressableStorageServerException {
+        Shard shard = loadedShards.getIfPresent(shardKey);
+        if (shard != null) {
+            return shard;
+        }
+        // Shards are only loaded (and compacted) while holding the shard lock, so that loading never races with
+        // appends to the same shard file. Locks are reentrant, for callers already holding the shard lock.
+        Lock lock = shardLocks.get(shardKey);
+        lock.lock();
+        try {
+            return loadedShards.get(shardKey);
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            throw new ContentAddressableStorageServerException("Could not load digest index shard " + shardKey, e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private ShardKey getShardKey(String containerName, String objectName)
+        throws ContentAddressableStorageServerException {
+        List<String> tokens = fsHelper.splitObjectId(objectName);
+        return new ShardKey(containerName, String.join("", tokens.subList(0, SHARD_PREFIX_LENGTH)));
+    }
+
+    private Shard loadShard(ShardKey shardKey) throws IOException {
+        Path shardPath = indexRootPath.resolve(shardKey.containerName).resolve(shardKey.prefix + SHARD_FILE_EXTENSION);
+        Shard shard = new Shard(shardPath);
+
+        try (BufferedReader reader = Files.newBufferedReader(shardPath, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                shard.recordCount++;
+                String[] fields = line.split(FIELD_SEPARATOR);
+                if (fields.length == 2 && TOMBSTONE.equals(fields[1])) {
+                    shard.entries.remove(fields[0]);
+                    continue;
+                }
+                DigestIndexEntry entry = DigestIndexEntry.fromRecord(fields);
+                if (entry == null) {
+                    // Partially written record (crash)
+                    LOGGER.warn("Ignoring invalid digest index record in " + shardPath);
+                    continue;
+                }
+                shard.entries.put(fields[0], entry);
+            }
+        } catch (NoSuchFileException e) {
+            return shard;
+        }
+
+        if (shard.recordCount >= MIN_RECORDS_FOR_COMPACTION && shard.recordCount > 2L * shard.entries.size()) {
+            compact(shard);
+        }
+        return shard;
+    }
+
+    private void compact(Shard shard) {
+        Path tmpPath = shard.path.resolveSibling(shard.path.getFileName() + ".tmp");
+        try {
+            try (BufferedWriter writer = Files.newBufferedWriter(tmpPath, StandardCharsets.UTF_8)) {
+                for (Map.Entry<String, DigestIndexEntry> entry : shard.entries.entrySet()) {
+                    writer.write(entry.getKey() + FIELD_SEPARATOR + entry.getValue().toRecord());
+                    writer.newLine();
+                }
+            }
+            Files.move(tmpPath, shard.path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            LOGGER.debug(
+                "Compacted digest index shard " +
+                shard.path +
+                " from " +
+                shard.recordCount +
+                " to " +
+                shard.entries.size() +
+                " records"
+            );
+            shard.recordCount = shard.entries.size();
+        } catch (IOException e) {
+            LOGGER.warn("Could not compact digest index shard " + shard.path, e);
+        }
+    }
+
+    /**
+     * Digest index entry of an object
+     */
+    public static class DigestIndexEntry {
+
+        private final DigestType digestType;
+        private final String digest;
+        private final long size;
+        private final long lastModifiedMillis;
+
+        DigestIndexEntry(DigestType digestType, String digest, long size, long lastModifiedMillis) {
+            this.digestType = digestType;
+            this.digest = digest;
+            this.size = size;
+            this.lastModifiedMillis = lastModifiedMillis;
+        }
+
+        public boolean matches(DigestType digestType, long size, long lastModifiedMillis) {
+            return (
+                this.digestType == digestType && this.size == size && this.lastModifiedMillis == lastModifiedMillis
+            );
+        }
+
+        public String getDigest() {
+            return digest;
+        }
+
+        public long getSize() {
+            return size;
+        }
+
+        private String toRecord() {
+            return String.join(
+                FIELD_SEPARATOR,
+                Long.toString(size),
+                Long.toString(lastModifiedMillis),
+                digestType.getName(),
+                digest
+            );
+        }
+
+        private static DigestIndexEntry fromRecord(String[] fields) {
+            if (fields.length != 5) {
+                return null;
+            }
+            try {
+                return new DigestIndexEntry(
+                    DigestType.fromValue(fields[3]),
+                    fields[4],
+                    Long.parseLong(fields[1]),
+                    Long.parseLong(fields[2])
+                );
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            DigestIndexEntry that = (DigestIndexEntry) o;
+            return (
+                size == that.size &&
+                lastModifiedMillis == that.lastModifiedMillis &&
+                digestType == that.digestType &&
+                digest.equals(that.digest)
+            );
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(digestType, digest, size, lastModifiedMillis);
+        }
+    }
+
+    private static class Shard {
+
+        private final Path path;
+        private final Map<String, DigestIndexEntry> entries = new ConcurrentHashMap<>();
+        private long recordCount = 0L;
+
+        private Shard(Path path) {
+            this.path = path;
+        }
+    }
+
+    private static class ShardKey {
+
+        private final String containerName;
+        private final String prefix;
+
+        private ShardKey(String containerName, String prefix) {
+            this.containerName = containerName;
+            this.prefix = prefix;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            ShardKey shardKey = (ShardKey) o;
+            return containerName.equals(shardKey.containerName) && prefix.equals(shardKey.prefix);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(containerName, prefix);
+        }
+
+        @Override
+        public String toString() {
+            return containerName + "/" + prefix;
+        }
+    }
+}
@@ -54,6 +54,7 @@ import fr.gouv.vitam.common.VitamConfiguration;
 import fr.gouv.vitam.common.digest.DigestType;
 import fr.gouv.vitam.common.logging.VitamLogger;
 import fr.gouv.vitam.common.logging.VitamLoggerFactory;
+import fr.gouv.vitam.common.model.ByteRange;
 import fr.gouv.vitam.common.model.MetadatasObject;
 import fr.gouv.vitam.common.model.storage.ObjectEntry;
 import fr.gouv.vitam.common.performance.PerformanceLogger;
@@ -379,6 +380,12 @@ public class AmazonS3V1 extends ContentAddressableStorageAbstract {
 
     @Override
     public ObjectContent getObject(String containerName, String objectName) throws ContentAddressableStorageException {
+        return getObject(containerName, objectName, null);
+    }
+
+    @Override
+    public ObjectContent getObject(String containerName, String objectName, ByteRange range)
+        throws ContentAddressableStorageException {
         LOGGER.debug(String.format("Download object %s from container %s", objectName, containerName));
         ParametersChecker.checkParameter(
             ErrorMessage.CONTAINER_OBJECT_NAMES_ARE_A_MANDATORY_PARAMETER.getMessage(),
@@ -388,10 +395,24 @@ public class AmazonS3V1 extends ContentAddressableStorageAbstract {
         String bucketName = generateBucketName(containerName);
         GetObjectRequest getObjectRequest = new GetObjectRequest(bucketName, objectName);
         try {
+            if (range == null) {
+                S3Object object = client.getObject(getObjectRequest);
+                long size = object.getObjectMetadata().getContentLength();
+                InputStream inputStream = object.getObjectContent().getDelegateStream();
+                return new ObjectContent(inputStream, size);
+            }
+
+            // Resolve range against actual object size (HEAD), then issue a ranged GET
+            long totalSize = client.getObjectMetadata(bucketName, objectName).getContentLength();
+            ByteRange resolvedRange = ObjectContent.resolveRange(range, totalSize, containerName, objectName);
+            getObjectRequest.setRange(resolvedRange.getFirst(), resolvedRange.getLast());
             S3Object object = client.getObject(getObjectRequest);
-            long size = object.getObjectMetadata().getContentLength();
             InputStream inputStream = object.getObjectContent().getDelegateStream();
-            return new ObjectContent(inputStream, size);
+            if (object.getObjectMetadata().getContentRange() == null) {
+                // Range not honored by the S3 provider, whole object returned
+                return ObjectContent.slice(new ObjectContent(inputStream, totalSize), range, containerName, objectName);
+            }
+            return new ObjectContent(inputStream, resolvedRange, totalSize);
         } catch (AmazonServiceException e) {
             LOGGER.debug(
                 String.format(
@@ -404,7 +425,11 @@ public class AmazonS3V1 extends ContentAddressableStorageAbstract {
                 ),
                 e
             );
-            if (AmazonS3APIErrorCodes.NO_SUCH_KEY.getErrorCode().equals(e.getErrorCode())) {
+            if (
+                AmazonS3APIErrorCodes.NO_SUCH_KEY.getErrorCode().equals(e.getErrorCode()) ||
+                AmazonS3APIErrorCodes.NOT_FOUND.getErrorCode().equals(e.getErrorCode())
+            ) {
+                // NOT_FOUND is returned by the HEAD request of ranged reads
                 throw new ContentAddressableStorageNotFoundException(
                     ErrorMessage.OBJECT_NOT_FOUND.getMessage() + objectName,
                     e
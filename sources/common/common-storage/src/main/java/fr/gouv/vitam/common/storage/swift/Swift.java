@@ -35,6 +35,7 @@ import fr.gouv.vitam.common.digest.DigestType;
 import fr.gouv.vitam.common.logging.VitamLogLevel;
 import fr.gouv.vitam.common.logging.VitamLogger;
 import fr.gouv.vitam.common.logging.VitamLoggerFactory;
+import fr.gouv.vitam.common.model.ByteRange;
 import fr.gouv.vitam.common.model.MetadatasObject;
 import fr.gouv.vitam.common.model.storage.ObjectEntry;
 import fr.gouv.vitam.common.performance.PerformanceLogger;
@@ -51,6 +52,7 @@ import fr.gouv.vitam.common.stream.ExactSizeInputStream;
 import fr.gouv.vitam.common.stream.StreamUtils;
 import fr.gouv.vitam.workspace.api.exception.ContentAddressableStorageException;
 import fr.gouv.vitam.workspace.api.exception.ContentAddressableStorageNotFoundException;
+import fr.gouv.vitam.workspace.api.exception.ContentAddressableStorageRangeNotSatisfiableException;
 import fr.gouv.vitam.workspace.api.exception.ContentAddressableStorageServerException;
 import org.apache.commons.io.input.BoundedInputStream;
 import org.apache.commons.io.input.NullInputStream;
@@ -428,6 +430,29 @@ public class Swift extends ContentAddressableStorageAbstract {
         );
     }
 
+    @Override
+    public ObjectContent getObject(String containerName, String objectName, ByteRange range)
+        throws ContentAddressableStorageException {
+        if (range == null) {
+            return getObject(containerName, objectName);
+        }
+        ParametersChecker.checkParameter(
+            ErrorMessage.CONTAINER_OBJECT_NAMES_ARE_A_MANDATORY_PARAMETER.getMessage(),
+            containerName,
+            objectName
+        );
+        RetryableOnException<ObjectContent, ContentAddressableStorageException> retryableOnException =
+            new RetryableOnException<>(
+                getRetryableParameters(),
+                e -> !(e instanceof ContentAddressableStorageRangeNotSatisfiableException)
+            );
+        return retryableOnException.exec(
+            () ->
+                getObjectStorageService()
+                    .download(containerName, objectName, range, enrichHeadersRequestWithVitamCookie(new HashMap<>()))
+        );
+    }
+
     @Override
     public void deleteObject(String containerName, String objectName) throws ContentAddressableStorageException {
         ParametersChecker.checkParameter(
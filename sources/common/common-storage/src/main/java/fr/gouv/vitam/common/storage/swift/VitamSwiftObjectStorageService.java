@@ -29,9 +29,11 @@ package fr.gouv.vitam.common.storage.swift;
 
 import fr.gouv.vitam.common.logging.VitamLogger;
 import fr.gouv.vitam.common.logging.VitamLoggerFactory;
+import fr.gouv.vitam.common.model.ByteRange;
 import fr.gouv.vitam.common.storage.cas.container.api.ObjectContent;
 import fr.gouv.vitam.workspace.api.exception.ContentAddressableStorageException;
 import fr.gouv.vitam.workspace.api.exception.ContentAddressableStorageNotFoundException;
+import fr.gouv.vitam.workspace.api.exception.ContentAddressableStorageRangeNotSatisfiableException;
 import org.apache.commons.io.input.ProxyInputStream;
 import org.openstack4j.api.OSClient;
 import org.openstack4j.core.transport.HttpResponse;
@@ -49,11 +51,14 @@ import javax.annotation.concurrent.NotThreadSafe;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.TreeMap;
 import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import static org.openstack4j.core.transport.HttpEntityHandler.closeQuietly;
@@ -69,6 +74,12 @@ public class VitamSwiftObjectStorageService extends BaseObjectStorageService {
     private static final VitamLogger LOGGER = VitamLoggerFactory.getInstance(VitamSwiftObjectStorageService.class);
 
     private static final String CONTENT_LENGTH = "Content-Length";
+    private static final String CONTENT_RANGE = "Content-Range";
+    private static final String RANGE = "Range";
+    private static final int PARTIAL_CONTENT_STATUS = 206;
+    private static final int RANGE_NOT_SATISFIABLE_STATUS = 416;
+    private static final Pattern CONTENT_RANGE_PATTERN = Pattern.compile("^bytes (\\d+)-(\\d+)/(\\d+)$");
+    private static final Pattern UNSATISFIED_CONTENT_RANGE_PATTERN = Pattern.compile("^bytes \\*/(\\d+)$");
 
     public VitamSwiftObjectStorageService(Supplier<OSClient> osClientFactory) {
         initializeClient(osClientFactory);
@@ -158,6 +169,25 @@ public class VitamSwiftObjectStorageService extends BaseObjectStorageService {
 
     public ObjectContent download(String containerName, String objectName, Map<String, String> headers)
         throws ContentAddressableStorageException {
+        return download(containerName, objectName, null, headers);
+    }
+
+    /**
+     * Downloads an object, or a byte range of it using a ranged GET.
+     *
+     * @param containerName the container name
+     * @param objectName the object name
+     * @param range the requested range, or null for the whole object
+     * @param headers additional request headers
+     * @return the object content
+     * @throws ContentAddressableStorageException on error
+     */
+    public ObjectContent download(
+        String containerName,
+        String objectName,
+        ByteRange range,
+        Map<String, String> headers
+    ) throws ContentAddressableStorageException {
         checkNotNull(containerName);
         checkNotNull(objectName);
 
@@ -165,7 +195,13 @@ public class VitamSwiftObjectStorageService extends BaseObjectStorageService {
 
         LOGGER.debug("Getting object {}/{}", location.getContainerName(), location.getObjectName());
 
-        HttpResponse resp = get(Void.class, location.getURI()).headers(headers).executeWithResponse();
+        Map<String, String> requestHeaders = headers;
+        if (range != null) {
+            requestHeaders = new HashMap<>(headers);
+            requestHeaders.put(RANGE, range.toHeaderValue());
+        }
+
+        HttpResponse resp = get(Void.class, location.getURI()).headers(requestHeaders).executeWithResponse();
 
         boolean keepResponseOpen = false;
 
@@ -190,7 +226,24 @@ public class VitamSwiftObjectStorageService extends BaseObjectStorageService {
 
                 // Wrapper around response input stream to ensure response is not closed / garbage collected.
                 InputStream inputStream = new AutoCloseResponseInputStream(resp);
-                return new ObjectContent(inputStream, contentLength);
+                if (range == null) {
+                    return new ObjectContent(inputStream, contentLength);
+                }
+                if (resp.getStatus() != PARTIAL_CONTENT_STATUS) {
+                    // Range ignored by the server, whole object returned
+                    return ObjectContent.slice(
+                        new ObjectContent(inputStream, contentLength),
+                        range,
+                        containerName,
+                        objectName
+                    );
+                }
+                Matcher contentRange = parseContentRange(resp, location);
+                return new ObjectContent(
+                    inputStream,
+                    ByteRange.of(Long.parseLong(contentRange.group(1)), Long.parseLong(contentRange.group(2))),
+                    Long.parseLong(contentRange.group(3))
+                );
             }
 
             if (isNotFoundResponse(resp)) {
@@ -199,6 +252,15 @@ public class VitamSwiftObjectStorageService extends BaseObjectStorageService {
                 );
             }
 
+            if (resp.getStatus() == RANGE_NOT_SATISFIABLE_STATUS) {
+                String contentRange = resp.header(CONTENT_RANGE);
+                Matcher matcher = contentRange == null ? null : UNSATISFIED_CONTENT_RANGE_PATTERN.matcher(contentRange);
+                throw new ContentAddressableStorageRangeNotSatisfiableException(
+                    "Range " + range + " not satisfiable for object " + containerName + "/" + objectName,
+                    matcher != null && matcher.matches() ? Long.parseLong(matcher.group(1)) : -1L
+                );
+            }
+
             throw new ContentAddressableStorageException(
                 "Get object " +
                 location.getContainerName() +
@@ -420,6 +482,18 @@ public class VitamSwiftObjectStorageService extends BaseObjectStorageService {
         return resp.getStatus() == 404;
     }
 
+    private Matcher parseContentRange(HttpResponse resp, ObjectLocation location)
+        throws ContentAddressableStorageException {
+        String contentRange = resp.header(CONTENT_RANGE);
+        Matcher matcher = contentRange == null ? null : CONTENT_RANGE_PATTERN.matcher(contentRange);
+        if (matcher == null || !matcher.matches()) {
+            throw new ContentAddressableStorageException(
+                "Could not read content range for " + location.getContainerName() + "/" + location.getObjectName()
+            );
+        }
+        return matcher;
+    }
+
     private static final class AutoCloseResponseInputStream extends ProxyInputStream {
 
         private final HttpResponse resp;
@@ -33,6 +33,7 @@ public class TapeLibraryConf {
     private List<TapeRobotConf> robots;
     private List<TapeDriveConf> drives;
     private Integer fullCartridgeDetectionThresholdInMB;
+    private Integer maxParallelDrivesPerBucket = 1;
 
     public List<TapeRobotConf> getRobots() {
         return robots;
@@ -58,4 +59,13 @@ public class TapeLibraryConf {
         this.fullCartridgeDetectionThresholdInMB = fullCartridgeDetectionThresholdInMB;
         return this;
     }
+
+    public Integer getMaxParallelDrivesPerBucket() {
+        return maxParallelDrivesPerBucket;
+    }
+
+    public TapeLibraryConf setMaxParallelDrivesPerBucket(Integer maxParallelDrivesPerBucket) {
+        this.maxParallelDrivesPerBucket = maxParallelDrivesPerBucket;
+        return this;
+    }
 }
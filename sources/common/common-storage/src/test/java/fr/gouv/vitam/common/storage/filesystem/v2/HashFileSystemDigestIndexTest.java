@@ -0,0 +1,217 @@
+/*
+ * Copyright French Prime minister Office/SGMAP/DINSIC/Vitam Program (2015-2022)
+ *
+ * contact.vitam@culture.gouv.fr
+ *
+ * This software is a computer program whose purpose is to implement a digital archiving back-office system managing
+ * high volumetry securely and efficiently.
+ *
+ * This software is governed by the CeCILL 2.1 license under French law and abiding by the rules of distribution of free
+ * software. You can use, modify and/ or redistribute the software under the terms of the CeCILL 2.1 license as
+ * circulated by CEA, CNRS and INRIA at the following URL "https://cecill.info".
+ *
+ * As a counterpart to the access to the source code and rights to copy, modify and redistribute granted by the license,
+ * users are provided only with a limited warranty and the software's author, the holder of the economic rights, and the
+ * successive licensors have only limited liability.
+ *
+ * In this respect, the user's attention is drawn to the risks associated with loading, using, modifying and/or
+ * developing or reproducing the software by the user in light of its specific status of free software, that may mean
+ * that it is complicated to manipulate, and that also therefore means that it is reserved for developers and
+ * experienced professionals having in-depth computer knowledge. Users are therefore encouraged to load and test the
+ * software's suitability as regards their requirements in conditions enabling the security of their systems and/or data
+ * to be ensured and, more generally, to use and operate it in the same conditions as regards security.
+ *
+ * The fact that you are presently reading this means that you have had knowledge of the CeCILL 2.1 license and that you
+ * accept its terms.
+ */
+package fr.gouv.vitam.common.storage.filesystem.v2;
+
+import fr.gouv.vitam.common.digest.DigestType;
+import fr.gouv.vitam.common.storage.filesystem.v2.HashFileSystemDigestIndex.DigestIndexEntry;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static java.nio.file.StandardOpenOption.APPEND;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class HashFileSystemDigestIndexTest {
+
+    private static final String CONTAINER = "0_object";
+
+    @Rule
+    public TemporaryFolder tempFolder = new TemporaryFolder();
+
+    private String rootPath;
+    private HashFileSystemHelper fsHelper;
+
+    @Before
+    public void setUp() throws IOException {
+        rootPath = tempFolder.getRoot().getAbsolutePath();
+        fsHelper = new HashFileSystemHelper(rootPath);
+    }
+
+    @Test
+    public void givenIndexedDigestWhenGetDigestThenReturnDigestIfAttributesMatch() throws Exception {
+        // Given
+        HashFileSystemDigestIndex index = new HashFileSystemDigestIndex(fsHelper, rootPath, 10);
+        index.put(CONTAINER, "obj1", DigestType.SHA512, "digest1", 10L, 1000L);
+
+        // When / Then
+        assertThat(index.getDigest(CONTAINER, "obj1", DigestType.SHA512, 10L, 1000L)).isEqualTo("digest1");
+        assertThat(index.getDigest(CONTAINER, "obj1", DigestType.SHA512, 11L, 1000L)).isNull();
+        assertThat(index.getDigest(CONTAINER, "obj1", DigestType.SHA512, 10L, 1001L)).isNull();
+        assertThat(index.getDigest(CONTAINER, "obj1", DigestType.SHA256, 10L, 1000L)).isNull();
+        assertThat(index.getDigest(CONTAINER, "obj2", DigestType.SHA512, 10L, 1000L)).isNull();
+        assertThat(index.getDigest("1_object", "obj1", DigestType.SHA512, 10L, 1000L)).isNull();
+    }
+
+    @Test
+    public void givenPersistedIndexWhenReloadedThenEntriesRestored() throws Exception {
+        // Given
+        HashFileSystemDigestIndex index = new HashFileSystemDigestIndex(fsHelper, rootPath, 10);
+        index.put(CONTAINER, "obj1", DigestType.SHA512, "digest1", 10L, 1000L);
+        index.put(CONTAINER, "obj2", DigestType.SHA512, "digest2", 20L, 2000L);
+        index.put(CONTAINER, "obj2", DigestType.SHA512, "digest2bis", 21L, 2001L);
+        index.put(CONTAINER, "obj3", DigestType.SHA512, "digest3", 30L, 3000L);
+        index.remove(CONTAINER, "obj3");
+
+        // When
+        HashFileSystemDigestIndex reloadedIndex = new HashFileSystemDigestIndex(fsHelper, rootPath, 10);
+
+        // Then
+        assertThat(reloadedIndex.getDigest(CONTAINER, "obj1", DigestType.SHA512, 10L, 1000L)).isEqualTo("digest1");
+        assertThat(reloadedIndex.getDigest(CONTAINER, "obj2", DigestType.SHA512, 20L, 2000L)).isNull();
+        assertThat(reloadedIndex.getDigest(CONTAINER, "obj2", DigestType.SHA512, 21L, 2001L)).isEqualTo(
+            "digest2bis"
+        );
+        assertThat(reloadedIndex.getDigest(CONTAINER, "obj3", DigestType.SHA512, 30L, 3000L)).isNull();
+    }
+
+    @Test
+    public void givenManyObjectsWhenGetEntriesThenAllShardsLoadedInOnePass() throws Exception {
+        // Given
+        HashFileSystemDigestIndex index = new HashFileSystemDigestIndex(fsHelper, rootPath, 10_000);
+        List<String> objectNames = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            String objectName = "obj" + i;
+            objectNames.add(objectName);
+            if (i % 2 == 0) {
+                index.put(CONTAINER, objectName, DigestType.SHA512, "digest" + i, i, i * 1000L);
+            }
+        }
+
+        // When
+        Map<String, DigestIndexEntry> entries = new HashFileSystemDigestIndex(fsHelper, rootPath, 10).getEntries(
+            CONTAINER,
+            objectNames
+        );
+
+        // Then
+        assertThat(entries).hasSize(500);
+        for (int i = 0; i < 1000; i += 2) {
+            DigestIndexEntry entry = entries.get("obj" + i);
+            assertThat(entry.matches(DigestType.SHA512, i, i * 1000L)).isTrue();
+            assertThat(entry.getDigest()).isEqualTo("digest" + i);
+            assertThat(entry.getSize()).isEqualTo(i);
+        }
+    }
+
+    @Test
+    public void givenMostlySupersededShardWhenLoadedThenShardCompacted() throws Exception {
+        // Given
+        HashFileSystemDigestIndex index = new HashFileSystemDigestIndex(fsHelper, rootPath, 10);
+        for (int i = 0; i < 2000; i++) {
+            index.put(CONTAINER, "obj1", DigestType.SHA512, "digest" + i, 10L, i);
+        }
+        Path shardFile = getShardFiles().get(0);
+        assertThat(Files.readAllLines(shardFile)).hasSize(2000);
+
+        // When
+        HashFileSystemDigestIndex reloadedIndex = new HashFileSystemDigestIndex(fsHelper, rootPath, 10);
+
+        // Then
+        assertThat(reloadedIndex.getDigest(CONTAINER, "obj1", DigestType.SHA512, 10L, 1999L)).isEqualTo("digest1999");
+        assertThat(Files.readAllLines(shardFile)).hasSize(1);
+    }
+
+    @Test
+    public void givenPartiallyWrittenRecordWhenLoadedThenRecordIgnored() throws Exception {
+        // Given
+        HashFileSystemDigestIndex index = new HashFileSystemDigestIndex(fsHelper, rootPath, 10);
+        index.put(CONTAINER, "obj1", DigestType.SHA512, "digest1", 10L, 1000L);
+        Path shardFile = getShardFiles().get(0);
+        Files.write(shardFile, "obj1\t10\t20".getBytes(StandardCharsets.UTF_8), APPEND);
+
+        // When
+        HashFileSystemDigestIndex reloadedIndex = new HashFileSystemDigestIndex(fsHelper, rootPath, 10);
+
+        // Then
+        assertThat(reloadedIndex.getDigest(CONTAINER, "obj1", DigestType.SHA512, 10L, 1000L)).isEqualTo("digest1");
+    }
+
+    @Test
+    public void givenConcurrentWritesWithShardEvictionsWhenReloadedThenNoEntryLost() throws Exception {
+        // Given : a single loaded shard, so that shards are evicted and reloaded while being written to
+        HashFileSystemDigestIndex index = new HashFileSystemDigestIndex(fsHelper, rootPath, 1);
+        int nbObjects = 2000;
+        ExecutorService executorService = Executors.newFixedThreadPool(16);
+
+        // When
+        try {
+            CompletableFuture.allOf(
+                IntStream.range(0, nbObjects)
+                    .mapToObj(i ->
+                        CompletableFuture.runAsync(
+                            () -> {
+                                try {
+                                    index.put(CONTAINER, "obj" + i, DigestType.SHA512, "digest" + i, i, i * 1000L);
+                                    if (i % 2 == 1) {
+                                        index.remove(CONTAINER, "obj" + i);
+                                    }
+                                } catch (Exception e) {
+                                    throw new RuntimeException(e);
+                                }
+                            },
+                            executorService
+                        )
+                    )
+                    .toArray(CompletableFuture[]::new)
+            ).join();
+        } finally {
+            executorService.shutdown();
+        }
+
+        // Then
+        List<String> objectNames = IntStream.range(0, nbObjects).mapToObj(i -> "obj" + i).collect(Collectors.toList());
+        Map<String, DigestIndexEntry> entries = new HashFileSystemDigestIndex(fsHelper, rootPath, 10_000).getEntries(
+            CONTAINER,
+            objectNames
+        );
+        assertThat(entries).hasSize(nbObjects / 2);
+        for (int i = 0; i < nbObjects; i += 2) {
+            assertThat(entries.get("obj" + i).getDigest()).isEqualTo("digest" + i);
+        }
+    }
+
+    private List<Path> getShardFiles() throws IOException {
+        try (Stream<Path> files = Files.walk(tempFolder.getRoot().toPath().resolve("digest-index"))) {
+            return files.filter(Files::isRegularFile).collect(Collectors.toList());
+        }
+    }
+}
@@ -30,26 +30,37 @@ import fr.gouv.vitam.common.PropertiesUtils;
 import fr.gouv.vitam.common.digest.DigestType;
 import fr.gouv.vitam.common.logging.VitamLogger;
 import fr.gouv.vitam.common.logging.VitamLoggerFactory;
+import fr.gouv.vitam.common.model.ByteRange;
 import fr.gouv.vitam.common.model.MetadatasObject;
 import fr.gouv.vitam.common.storage.StorageConfiguration;
 import fr.gouv.vitam.common.storage.cas.container.api.ContentAddressableStorageAbstract;
 import fr.gouv.vitam.common.storage.cas.container.api.ContentAddressableStorageTestAbstract;
+import fr.gouv.vitam.common.storage.cas.container.api.ObjectContent;
 import fr.gouv.vitam.common.storage.constants.ExtendedAttributes;
 import fr.gouv.vitam.workspace.api.exception.ContentAddressableStorageNotFoundException;
+import fr.gouv.vitam.workspace.api.exception.ContentAddressableStorageRangeNotSatisfiableException;
+import org.apache.commons.io.IOUtils;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assume.assumeTrue;
 
 public class HashFileSystemTest extends ContentAddressableStorageTestAbstract {
 
@@ -143,6 +154,148 @@ public class HashFileSystemTest extends ContentAddressableStorageTestAbstract {
         );
     }
 
+    @Test
+    public void should_get_objects_metadata_from_digest_index() throws Exception {
+        // Given
+        final StorageConfiguration configuration = new StorageConfiguration()
+            .setStoragePath(tempDir.getCanonicalPath())
+            .setDigestIndexEnabled(true);
+        storage = new HashFileSystem(configuration);
+        String containerName = TENANT_ID + "_" + TYPE;
+        storage.createContainer(containerName);
+        storage.putObject(containerName, OBJECT_ID, getInputStream("file1.pdf"), DigestType.SHA512, 6906L);
+        storage.putObject(
+            containerName,
+            OBJECT_ID2,
+            new ByteArrayInputStream(new byte[] { 1, 2, 3, 4 }),
+            DigestType.SHA512,
+            4L
+        );
+
+        // When
+        Map<String, MetadatasObject> result = storage.getObjectsMetadata(
+            containerName,
+            List.of(OBJECT_ID, OBJECT_ID2, "missing"),
+            false
+        );
+
+        // Then
+        assertThat(result).containsOnlyKeys(OBJECT_ID, OBJECT_ID2);
+        assertThat(result.get(OBJECT_ID).getDigest()).isEqualTo(HASH);
+        assertThat(result.get(OBJECT_ID).getFileSize()).isEqualTo(6906L);
+        assertThat(result.get(OBJECT_ID2).getDigest()).isEqualTo(DIGEST_EXTENDED_ATTRIBUTE.substring(8));
+        assertThat(result.get(OBJECT_ID2).getFileSize()).isEqualTo(4L);
+        assertThat(tempDir.toPath().resolve("digest-index").resolve(containerName)).isDirectory();
+
+        // Digest index survives restart
+        storage = new HashFileSystem(configuration);
+        assertThat(storage.getObjectDigest(containerName, OBJECT_ID, DigestType.SHA512, false)).isEqualTo(HASH);
+
+        // Overwritten / deleted objects are not served from stale index entries
+        storage.putObject(containerName, OBJECT_ID, getInputStream("file1.pdf"), DigestType.SHA512, 6906L);
+        storage.deleteObject(containerName, OBJECT_ID2);
+        result = storage.getObjectsMetadata(containerName, List.of(OBJECT_ID, OBJECT_ID2), false);
+        assertThat(result).containsOnlyKeys(OBJECT_ID);
+        assertThat(result.get(OBJECT_ID).getDigest()).isEqualTo(HASH);
+    }
+
+    /**
+     * Compares bulk metadata retrieval of 10k objects with the digest index against the extended attribute only path.
+     * Run with -DdigestIndexBenchmark=true (and optionally -DdigestIndexBenchmarkObjects=N).
+     */
+    @Test
+    public void benchmark_get_objects_metadata_with_digest_index() throws Exception {
+        assumeTrue(Boolean.getBoolean("digestIndexBenchmark"));
+
+        // Given
+        int nbObjects = Integer.getInteger("digestIndexBenchmarkObjects", 10_000);
+        int nbIterations = 5;
+        final StorageConfiguration configuration = new StorageConfiguration()
+            .setStoragePath(tempDir.getCanonicalPath())
+            .setDigestIndexEnabled(true);
+        storage = new HashFileSystem(configuration);
+        String containerName = TENANT_ID + "_" + TYPE;
+        storage.createContainer(containerName);
+        List<String> objectIds = new ArrayList<>(nbObjects);
+        for (int i = 0; i < nbObjects; i++) {
+            String objectId = "benchmarkObject" + i;
+            byte[] data = objectId.getBytes(StandardCharsets.UTF_8);
+            storage.putObject(containerName, objectId, new ByteArrayInputStream(data), DigestType.SHA512, data.length);
+            objectIds.add(objectId);
+        }
+        HashFileSystem indexedStorage = new HashFileSystem(configuration);
+        HashFileSystem xattrStorage = new HashFileSystem(
+            new StorageConfiguration().setStoragePath(tempDir.getCanonicalPath())
+        );
+
+        // When
+        // First pass warms up the JVM, the page cache and loads index shards
+        Map<String, MetadatasObject> indexedResult = indexedStorage.getObjectsMetadata(containerName, objectIds, false);
+        Map<String, MetadatasObject> xattrResult = xattrStorage.getObjectsMetadata(containerName, objectIds, false);
+        long indexedStart = System.nanoTime();
+        for (int i = 0; i < nbIterations; i++) {
+            indexedStorage.getObjectsMetadata(containerName, objectIds, false);
+        }
+        long indexedDurationInMillis = (System.nanoTime() - indexedStart) / 1_000_000L / nbIterations;
+        long xattrStart = System.nanoTime();
+        for (int i = 0; i < nbIterations; i++) {
+            xattrStorage.getObjectsMetadata(containerName, objectIds, false);
+        }
+        long xattrDurationInMillis = (System.nanoTime() - xattrStart) / 1_000_000L / nbIterations;
+
+        // Then
+        LOGGER.info(
+            String.format(
+                "Bulk metadata of %d objects (average of %d runs): digest index=%d ms, extended attributes=%d ms",
+                nbObjects,
+                nbIterations,
+                indexedDurationInMillis,
+                xattrDurationInMillis
+            )
+        );
+        assertThat(indexedResult).hasSize(nbObjects);
+        for (String objectId : objectIds) {
+            assertThat(indexedResult.get(objectId).getDigest()).isEqualTo(xattrResult.get(objectId).getDigest());
+        }
+    }
+
+    @Test
+    public void should_read_object_byte_range() throws Exception {
+        // Given
+        String containerName = TENANT_ID + "_" + TYPE;
+        storage.createContainer(containerName);
+        storage.putObject(containerName, OBJECT_ID, getInputStream("file1.pdf"), DigestType.SHA512, 6906L);
+        byte[] content;
+        try (InputStream inputStream = getInputStream("file1.pdf")) {
+            content = IOUtils.toByteArray(inputStream);
+        }
+
+        // When / Then
+        ObjectContent objectContent = storage.getObject(containerName, OBJECT_ID, ByteRange.of(100, 199));
+        assertThat(objectContent.getRange()).isEqualTo(ByteRange.of(100, 199));
+        assertThat(objectContent.getSize()).isEqualTo(100L);
+        assertThat(objectContent.getTotalSize()).isEqualTo(6906L);
+        try (InputStream inputStream = objectContent.getInputStream()) {
+            assertThat(IOUtils.toByteArray(inputStream)).isEqualTo(Arrays.copyOfRange(content, 100, 200));
+        }
+
+        objectContent = storage.getObject(containerName, OBJECT_ID, ByteRange.suffix(6));
+        assertThat(objectContent.getRange()).isEqualTo(ByteRange.of(6900, 6905));
+        try (InputStream inputStream = objectContent.getInputStream()) {
+            assertThat(IOUtils.toByteArray(inputStream)).isEqualTo(Arrays.copyOfRange(content, 6900, 6906));
+        }
+
+        objectContent = storage.getObject(containerName, OBJECT_ID, null);
+        assertThat(objectContent.getRange()).isNull();
+        assertThat(objectContent.getSize()).isEqualTo(6906L);
+        objectContent.getInputStream().close();
+
+        assertThatThrownBy(() -> storage.getObject(containerName, OBJECT_ID, ByteRange.from(6906)))
+            .isInstanceOf(ContentAddressableStorageRangeNotSatisfiableException.class)
+            .extracting(e -> ((ContentAddressableStorageRangeNotSatisfiableException) e).getObjectSize())
+            .isEqualTo(6906L);
+    }
+
     private InputStream getInputStream(String file) throws IOException {
         return PropertiesUtils.getResourceAsStream(file);
     }
@@ -421,7 +421,11 @@ public class FakeDriverImpl extends AbstractDriver {
         }
 
         @Override
-        public StorageBulkMetadataResult getBulkMetadata(StorageGetBulkMetadataRequest request) {
+        public StorageBulkMetadataResult getBulkMetadata(StorageGetBulkMetadataRequest request)
+            throws StorageDriverException {
+            if (this.offerId.equals("default2") && request.getGuids().contains("MyUnavailableBulkMetadataObjectId")) {
+                throw new StorageDriverException("driverInfo", "ExceptionTest", false);
+            }
             return new StorageBulkMetadataResult(
                 request
                     .getGuids()
@@ -40,6 +40,8 @@ import fr.gouv.vitam.common.ParametersChecker;
 import fr.gouv.vitam.common.VitamConfiguration;
 import fr.gouv.vitam.common.alert.AlertService;
 import fr.gouv.vitam.common.alert.AlertServiceImpl;
+import fr.gouv.vitam.common.database.builder.facet.FacetHelper;
+import fr.gouv.vitam.common.database.builder.query.BooleanQuery;
 import fr.gouv.vitam.common.database.builder.query.VitamFieldsHelper;
 import fr.gouv.vitam.common.database.builder.query.action.Action;
 import fr.gouv.vitam.common.database.builder.query.action.SetAction;
@@ -49,6 +51,7 @@ import fr.gouv.vitam.common.database.builder.request.multiple.SelectMultiQuery;
 import fr.gouv.vitam.common.database.builder.request.single.Delete;
 import fr.gouv.vitam.common.database.builder.request.single.Select;
 import fr.gouv.vitam.common.database.builder.request.single.Update;
+import fr.gouv.vitam.common.database.facet.model.FacetOrder;
 import fr.gouv.vitam.common.database.parser.request.adapter.VarNameAdapter;
 import fr.gouv.vitam.common.database.parser.request.single.UpdateParserSingle;
 import fr.gouv.vitam.common.database.server.DbRequestResult;
@@ -68,6 +71,8 @@ import fr.gouv.vitam.common.i18n.VitamErrorMessages;
 import fr.gouv.vitam.common.json.JsonHandler;
 import fr.gouv.vitam.common.logging.VitamLogger;
 import fr.gouv.vitam.common.logging.VitamLoggerFactory;
+import fr.gouv.vitam.common.model.FacetBucket;
+import fr.gouv.vitam.common.model.FacetResult;
 import fr.gouv.vitam.common.model.ItemStatus;
 import fr.gouv.vitam.common.model.ProcessAction;
 import fr.gouv.vitam.common.model.RequestResponse;
@@ -121,7 +126,6 @@ import fr.gouv.vitam.workspace.client.WorkspaceClient;
 import fr.gouv.vitam.workspace.client.WorkspaceClientFactory;
 import org.apache.commons.compress.utils.IOUtils;
 import org.apache.commons.lang3.StringUtils;
-import org.apache.shiro.util.CollectionUtils;
 
 import javax.annotation.Nonnull;
 import javax.ws.rs.core.Response.Status;
@@ -136,16 +140,20 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.stream.Collectors;
 
 import static fr.gouv.vitam.common.database.builder.query.QueryHelper.eq;
+import static fr.gouv.vitam.common.database.builder.query.QueryHelper.in;
+import static fr.gouv.vitam.common.database.builder.query.QueryHelper.or;
 import static fr.gouv.vitam.common.json.JsonHandler.writeToInpustream;
 import static fr.gouv.vitam.common.parameter.ParameterHelper.getTenantParameter;
 import static fr.gouv.vitam.functional.administration.common.ReportConstants.ADDITIONAL_INFORMATION;
@@ -652,14 +660,22 @@ public class RulesManagerFileImpl implements ReferentialFile<FileRules> {
         Map<String, FileRulesModel> rulesInDatabase = getAllRulesInDB();
         RuleImportDiff ruleImportDiff = new RuleImportDiff(rulesToImport, rulesInDatabase);
 
-        List<FileRulesModel> usedRulesToDelete = getUsedRules(ruleImportDiff.getRulesToDelete());
+        List<FileRulesModel> rulesToCheck = new ArrayList<>();
+        rulesToCheck.addAll(ruleImportDiff.getRulesToDelete());
+        rulesToCheck.addAll(ruleImportDiff.getRulesWithDurationModeUpdate());
+        rulesToCheck.addAll(ruleImportDiff.getRulesToUpdate());
+        rulesToCheck.addAll(ruleImportDiff.getRulesToUpdateUnsafely());
+        Set<String> usedRuleKeys = findUsedRuleKeys(rulesToCheck, rulesInDatabase.size() + rulesToImport.size());
+
+        List<FileRulesModel> usedRulesToDelete = getUsedRules(ruleImportDiff.getRulesToDelete(), usedRuleKeys);
 
         if (!usedRulesToDelete.isEmpty()) {
             throw new FileRulesDeleteException("used Rules want to be deleted", usedRulesToDelete);
         }
 
         List<FileRulesModel> usedRulesWithDurationModeUpdate = getUsedRules(
-            ruleImportDiff.getRulesWithDurationModeUpdate()
+            ruleImportDiff.getRulesWithDurationModeUpdate(),
+            usedRuleKeys
         );
 
         if (!usedRulesWithDurationModeUpdate.isEmpty()) {
@@ -669,8 +685,11 @@ public class RulesManagerFileImpl implements ReferentialFile<FileRules> {
             );
         }
 
-        List<FileRulesModel> usedUpdatedRules = getUsedRules(ruleImportDiff.getRulesToUpdate());
-        List<FileRulesModel> usedUpdateRulesForUpdateUnit = getUsedRules(ruleImportDiff.getRulesToUpdateUnsafely());
+        List<FileRulesModel> usedUpdatedRules = getUsedRules(ruleImportDiff.getRulesToUpdate(), usedRuleKeys);
+        List<FileRulesModel> usedUpdateRulesForUpdateUnit = getUsedRules(
+            ruleImportDiff.getRulesToUpdateUnsafely(),
+            usedRuleKeys
+        );
 
         return new RuleImportResultSet(
             ruleImportDiff.getRulesToInsert(),
@@ -784,16 +803,34 @@ public class RulesManagerFileImpl implements ReferentialFile<FileRules> {
         return fileRulesModel;
     }
 
-    private List<FileRulesModel> getUsedRules(List<FileRulesModel> rules) {
-        return rules.stream().filter(this::isRuleUsedByUnit).collect(Collectors.toList());
+    private List<FileRulesModel> getUsedRules(List<FileRulesModel> rules, Set<String> usedRuleKeys) {
+        return rules.stream().filter(rule -> usedRuleKeys.contains(ruleKey(rule))).collect(Collectors.toList());
     }
 
-    private boolean isRuleUsedByUnit(FileRulesModel rule) {
+    /**
+     * Finds, in a single metadata request, which of the given rules are referenced by at least one unit.
+     * A terms facet is computed per rule type over the units referencing any of the candidate rules, so that
+     * the import cost does not depend on the number of rules to check.
+     *
+     * @param rules the candidate rules
+     * @param maxRulesCount upper bound of distinct rule identifiers (used as facet size)
+     * @return the keys (rule type and rule id) of the used rules
+     */
+    private Set<String> findUsedRuleKeys(List<FileRulesModel> rules, int maxRulesCount) {
+        if (rules.isEmpty()) {
+            return Collections.emptySet();
+        }
         try {
-            List<JsonNode> unitsUsedByRule = checkRuleReferencedByUnitInDatabase(
-                fileRulesLinkedToUnitQueryBuilder(rule)
+            List<FacetResult> facetResults = checkRulesReferencedByUnitInDatabase(
+                fileRulesLinkedToUnitFacetQueryBuilder(rules, maxRulesCount)
             );
-            return !CollectionUtils.isEmpty(unitsUsedByRule);
+            Set<String> usedRuleKeys = new HashSet<>();
+            for (FacetResult facetResult : facetResults) {
+                for (FacetBucket bucket : facetResult.getBuckets()) {
+                    usedRuleKeys.add(facetResult.getName() + "/" + bucket.getValue());
+                }
+            }
+            return usedRuleKeys;
         } catch (
             MetaDataDocumentSizeException
             | MetaDataExecutionException
@@ -804,6 +841,10 @@ public class RulesManagerFileImpl implements ReferentialFile<FileRules> {
         }
     }
 
+    private static String ruleKey(FileRulesModel rule) {
+        return rule.getRuleType() + "/" + rule.getRuleId();
+    }
+
     private void generateReport(
         StatusCode statusCode,
         Map<Integer, List<ErrorReport>> errors,
@@ -891,11 +932,26 @@ public class RulesManagerFileImpl implements ReferentialFile<FileRules> {
         }
     }
 
-    private JsonNode fileRulesLinkedToUnitQueryBuilder(FileRulesModel fileRulesModels) {
+    private JsonNode fileRulesLinkedToUnitFacetQueryBuilder(List<FileRulesModel> rules, int maxRulesCount) {
+        Map<RuleType, Set<String>> ruleIdsByType = rules
+            .stream()
+            .collect(
+                Collectors.groupingBy(
+                    FileRulesModel::getRuleType,
+                    Collectors.mapping(FileRulesModel::getRuleId, Collectors.toCollection(TreeSet::new))
+                )
+            );
         final SelectMultiQuery selectMultiple = new SelectMultiQuery();
         try {
-            String ruleFieldName = "#management." + fileRulesModels.getRuleType() + ".Rules.Rule";
-            selectMultiple.setQuery(eq(ruleFieldName, fileRulesModels.getRuleId()));
+            BooleanQuery query = or();
+            for (Map.Entry<RuleType, Set<String>> entry : ruleIdsByType.entrySet()) {
+                String ruleFieldName = "#management." + entry.getKey() + ".Rules.Rule";
+                query.add(in(ruleFieldName, entry.getValue().toArray(new String[0])));
+                selectMultiple.addFacets(
+                    FacetHelper.terms(entry.getKey().name(), ruleFieldName, Math.max(maxRulesCount, 1), FacetOrder.ASC)
+                );
+            }
+            selectMultiple.setQuery(query);
             selectMultiple.addUsedProjection(VitamFieldsHelper.id());
             selectMultiple.setLimitFilter(0, 1);
         } catch (InvalidCreateOperationException | InvalidParseOperationException e) {
@@ -1052,11 +1108,11 @@ public class RulesManagerFileImpl implements ReferentialFile<FileRules> {
         }
     }
 
-    private List<JsonNode> checkRuleReferencedByUnitInDatabase(JsonNode select)
+    private List<FacetResult> checkRulesReferencedByUnitInDatabase(JsonNode select)
         throws MetaDataDocumentSizeException, MetaDataExecutionException, InvalidParseOperationException, MetaDataClientServerException {
         try (MetaDataClient metaDataClient = metaDataClientFactory.getClient()) {
             final JsonNode unitsResultNode = metaDataClient.selectUnits(select);
-            return RequestResponseOK.getFromJsonNode(unitsResultNode).getResults();
+            return RequestResponseOK.getFromJsonNode(unitsResultNode).getFacetResults();
         }
     }
 
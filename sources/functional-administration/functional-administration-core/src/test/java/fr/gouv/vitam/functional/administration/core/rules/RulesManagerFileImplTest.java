@@ -44,10 +44,13 @@ import fr.gouv.vitam.common.exception.SchemaValidationException;
 import fr.gouv.vitam.common.guid.GUID;
 import fr.gouv.vitam.common.guid.GUIDFactory;
 import fr.gouv.vitam.common.json.JsonHandler;
+import fr.gouv.vitam.common.model.FacetBucket;
+import fr.gouv.vitam.common.model.FacetResult;
 import fr.gouv.vitam.common.model.ItemStatus;
 import fr.gouv.vitam.common.model.RequestResponseOK;
 import fr.gouv.vitam.common.model.StatusCode;
 import fr.gouv.vitam.common.model.administration.FileRulesModel;
+import fr.gouv.vitam.common.model.administration.RuleType;
 import fr.gouv.vitam.common.mongo.MongoRule;
 import fr.gouv.vitam.common.server.application.configuration.DbConfigurationImpl;
 import fr.gouv.vitam.common.server.application.configuration.MongoDbNode;
@@ -737,6 +740,13 @@ public class RulesManagerFileImplTest {
         }
     }
 
+    private JsonNode unitsReferencingRule(RuleType ruleType, String ruleId) {
+        return new RequestResponseOK<JsonNode>()
+            .addResult(JsonHandler.createObjectNode().put("_id", "some_unit"))
+            .addFacetResult(new FacetResult(ruleType.name(), List.of(new FacetBucket(ruleId, 1))))
+            .toJsonNode();
+    }
+
     @Test
     @RunWithCustomExecutor
     public void should_retrieve_FileRulesCsvException_when_csv_with_bad_format_is_upload() throws Exception {
@@ -1089,12 +1099,11 @@ public class RulesManagerFileImplTest {
 
         // Given units referencing rule ACC-00003
         doAnswer(args -> {
-            RequestResponseOK<JsonNode> response = new RequestResponseOK<>();
             if (args.getArgument(0).toString().contains(ACC_00003)) {
-                // Return some dummy unit if rule ACC-00003 queried
-                response.addResult(JsonHandler.createObjectNode().put("_id", "some_unit"));
+                // Return some dummy unit facet if rule ACC-00003 queried
+                return unitsReferencingRule(AccessRule, ACC_00003);
             }
-            return response.toJsonNode();
+            return new RequestResponseOK<JsonNode>().toJsonNode();
         })
             .when(metaDataClient)
             .selectUnits(any());
@@ -1232,11 +1241,7 @@ public class RulesManagerFileImplTest {
         getInputStreamAndInitialiseMockWhenImportFileRules(reportAfterUpdate);
 
         // prepare for import ko with linked deleted rule
-        when(metaDataClient.selectUnits(any())).thenReturn(
-            new RequestResponseOK<JsonNode>()
-                .addResult(JsonHandler.createObjectNode().put("_id", "some_unit"))
-                .toJsonNode()
-        );
+        when(metaDataClient.selectUnits(any())).thenReturn(unitsReferencingRule(AccessRule, "ACC-00007"));
         final ArgumentCaptor<LogbookOperationParameters> logOpParamsCaptor = ArgumentCaptor.forClass(
             LogbookOperationParameters.class
         );
@@ -1289,12 +1294,11 @@ public class RulesManagerFileImplTest {
 
         // Given units referencing rule HOL-00001
         doAnswer(args -> {
-            RequestResponseOK<JsonNode> response = new RequestResponseOK<>();
             if (args.getArgument(0).toString().contains(HOL_00001)) {
-                // Return some dummy unit if rule HOL-00001 queried
-                response.addResult(JsonHandler.createObjectNode().put("_id", "some_unit"));
+                // Return some dummy unit facet if rule HOL-00001 queried
+                return unitsReferencingRule(HoldRule, HOL_00001);
             }
-            return response.toJsonNode();
+            return new RequestResponseOK<JsonNode>().toJsonNode();
         })
             .when(metaDataClient)
             .selectUnits(any());
@@ -1351,12 +1355,11 @@ public class RulesManagerFileImplTest {
 
         // Given units referencing rule HOL-00002
         doAnswer(args -> {
-            RequestResponseOK<JsonNode> response = new RequestResponseOK<>();
             if (args.getArgument(0).toString().contains(HOL_00002)) {
-                // Return some dummy unit if rule HOL-00002 queried
-                response.addResult(JsonHandler.createObjectNode().put("_id", "some_unit"));
+                // Return some dummy unit facet if rule HOL-00002 queried
+                return unitsReferencingRule(HoldRule, HOL_00002);
             }
-            return response.toJsonNode();
+            return new RequestResponseOK<JsonNode>().toJsonNode();
         })
             .when(metaDataClient)
             .selectUnits(any());
@@ -58,6 +58,7 @@ import fr.gouv.vitam.common.model.processing.WorkFlow;
 import fr.gouv.vitam.common.security.SanityChecker;
 import fr.gouv.vitam.common.server.application.resources.ApplicationStatusResource;
 import fr.gouv.vitam.common.stream.StreamUtils;
+import fr.gouv.vitam.common.stream.VitamAsyncInputStream;
 import fr.gouv.vitam.common.stream.VitamAsyncInputStreamResponse;
 import fr.gouv.vitam.common.thread.VitamThreadUtils;
 import fr.gouv.vitam.ingest.internal.common.exception.IngestInternalException;
@@ -105,6 +106,7 @@ import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.Response.Status;
 import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.util.Optional;
 import java.util.Queue;
@@ -465,6 +467,7 @@ public class IngestInternalResource extends ApplicationStatusResource {
     private Response downloadObjectAsync(String objectId, String type) {
         try (StorageClient storageClient = StorageClientFactory.getInstance().getClient()) {
             DataCategory documentType = DataCategory.getByCollectionName(type);
+            boolean batchReport = DataCategory.BATCH_REPORT.equals(documentType);
 
             switch (documentType) {
                 case MANIFEST:
@@ -504,6 +507,13 @@ public class IngestInternalResource extends ApplicationStatusResource {
                 documentType,
                 AccessLogUtils.getNoLogAccessLog()
             );
+            if (batchReport) {
+                // Batch reports may be stored gzip compressed
+                return Response.status(Status.OK)
+                    .type(MediaType.APPLICATION_OCTET_STREAM_TYPE)
+                    .entity(StreamUtils.decompressIfGzipped(new VitamAsyncInputStream(response)))
+                    .build();
+            }
             return new VitamAsyncInputStreamResponse(response, Status.OK, MediaType.APPLICATION_OCTET_STREAM_TYPE);
         } catch (IllegalArgumentException e) {
             LOGGER.error("IllegalArgumentException was thrown : ", e);
@@ -513,7 +523,7 @@ public class IngestInternalResource extends ApplicationStatusResource {
         } catch (StorageNotFoundException e) {
             LOGGER.error("Storage error was thrown : ", e);
             return Response.status(Status.NOT_FOUND).entity(getErrorStream(Status.NOT_FOUND, e.getMessage())).build();
-        } catch (StorageServerClientException | StorageUnavailableDataFromAsyncOfferClientException e) {
+        } catch (StorageServerClientException | StorageUnavailableDataFromAsyncOfferClientException | IOException e) {
             LOGGER.error("Storage error was thrown : ", e);
             return Response.status(Status.INTERNAL_SERVER_ERROR)
                 .entity(getErrorStream(Status.INTERNAL_SERVER_ERROR, e.getMessage()))
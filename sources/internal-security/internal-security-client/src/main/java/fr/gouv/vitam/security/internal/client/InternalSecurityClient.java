@@ -49,6 +49,15 @@ public interface InternalSecurityClient extends BasicClient {
     Optional<IdentityModel> findIdentity(byte[] certificate)
         throws VitamClientInternalException, InternalSecurityException;
 
+    /**
+     * Get the version of identities, which changes whenever an identity is added, linked to another context or revoked
+     *
+     * @return the version of identities
+     * @throws VitamClientInternalException in case of client exception
+     * @throws InternalSecurityException in case of internal security exception
+     */
+    String getIdentitiesVersion() throws VitamClientInternalException, InternalSecurityException;
+
     /**
      * Check if a personal certificate is required for this permission
      *
@@ -60,6 +60,11 @@ class InternalSecurityClientMock extends AbstractMockClient implements InternalS
         return Optional.of(value);
     }
 
+    @Override
+    public String getIdentitiesVersion() {
+        return "0";
+    }
+
     @Override
     public IsPersonalCertificateRequiredModel isPersonalCertificateRequiredByPermission(String permission)
         throws VitamClientInternalException, InternalSecurityException {
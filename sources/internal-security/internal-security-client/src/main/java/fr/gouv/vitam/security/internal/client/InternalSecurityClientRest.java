@@ -42,6 +42,7 @@ import javax.ws.rs.core.Response.Status;
 import java.util.Optional;
 
 import static javax.ws.rs.core.MediaType.APPLICATION_OCTET_STREAM_TYPE;
+import static javax.ws.rs.core.MediaType.TEXT_PLAIN_TYPE;
 import static javax.ws.rs.core.Response.Status.Family.SUCCESSFUL;
 
 public class InternalSecurityClientRest extends DefaultClient implements InternalSecurityClient {
@@ -76,6 +77,18 @@ public class InternalSecurityClientRest extends DefaultClient implements Interna
         }
     }
 
+    @Override
+    public String getIdentitiesVersion() throws VitamClientInternalException, InternalSecurityException {
+        try (
+            Response response = make(
+                VitamRequestBuilder.get().withPath("/identity/version").withAccept(TEXT_PLAIN_TYPE)
+            )
+        ) {
+            check(response);
+            return response.readEntity(String.class);
+        }
+    }
+
     @Override
     public void checkIdentityExpiration() throws VitamClientInternalException, InternalSecurityException {
         try (
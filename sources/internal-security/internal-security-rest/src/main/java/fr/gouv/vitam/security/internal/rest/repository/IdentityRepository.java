@@ -30,8 +30,11 @@ import com.google.common.annotations.VisibleForTesting;
 import com.mongodb.client.FindIterable;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.Sorts;
 import fr.gouv.vitam.common.database.server.mongodb.BsonHelper;
 import fr.gouv.vitam.common.database.server.mongodb.MongoDbAccess;
+import fr.gouv.vitam.common.digest.Digest;
+import fr.gouv.vitam.common.digest.DigestType;
 import fr.gouv.vitam.common.exception.InvalidParseOperationException;
 import fr.gouv.vitam.common.json.JsonHandler;
 import fr.gouv.vitam.security.internal.common.model.CertificateBaseModel;
@@ -131,6 +134,24 @@ public class IdentityRepository implements CertificateRepository, CertificateCRL
         );
     }
 
+    /**
+     * Compute the version of identities : a digest of the context and status of each identity certificate, which
+     * changes whenever an identity is added, linked to another context, or revoked (CRL import).
+     *
+     * @return the version of identities
+     */
+    public String computeIdentitiesVersion() {
+        Digest digest = new Digest(DigestType.SHA256);
+        FindIterable<Document> identities = identityCollection
+            .find()
+            .projection(Projections.include(IdentityModel.CONTEXT_ID, CertificateBaseModel.STATUS_TAG))
+            .sort(Sorts.ascending("_id"));
+        for (Document identity : identities) {
+            digest.update(identity.toJson());
+        }
+        return digest.digestHex();
+    }
+
     /**
      * Check if a context is used
      *
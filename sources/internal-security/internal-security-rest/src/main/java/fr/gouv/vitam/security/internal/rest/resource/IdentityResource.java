@@ -84,6 +84,16 @@ public class IdentityResource {
         return Response.ok().entity(identityService.contextIsUsed(contextId)).build();
     }
 
+    /**
+     * @return the version of identities, which changes whenever an identity is added, updated or revoked
+     */
+    @GET
+    @Path("version")
+    @Produces(MediaType.TEXT_PLAIN)
+    public Response getIdentitiesVersion() {
+        return Response.ok().entity(identityService.getIdentitiesVersion()).build();
+    }
+
     @GET
     @Path("/check-expiration")
     @Produces(MediaType.APPLICATION_JSON)
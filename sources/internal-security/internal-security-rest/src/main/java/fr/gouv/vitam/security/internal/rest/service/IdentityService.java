@@ -144,6 +144,13 @@ public class IdentityService extends SecurityService {
         return identityRepository.contextIsUsed(contextId);
     }
 
+    /**
+     * @return the version of identities, which changes whenever an identity is added, updated or revoked
+     */
+    public String getIdentitiesVersion() {
+        return identityRepository.computeIdentitiesVersion();
+    }
+
     @Override
     public CertificateRepository getRepository() {
         return identityRepository;
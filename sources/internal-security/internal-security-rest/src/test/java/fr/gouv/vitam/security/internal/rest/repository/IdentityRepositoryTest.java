@@ -33,6 +33,7 @@ import fr.gouv.vitam.common.exception.InvalidParseOperationException;
 import fr.gouv.vitam.common.guid.GUID;
 import fr.gouv.vitam.common.guid.GUIDFactory;
 import fr.gouv.vitam.common.mongo.MongoRule;
+import fr.gouv.vitam.security.internal.common.model.CertificateStatus;
 import fr.gouv.vitam.security.internal.common.model.IdentityModel;
 import org.bson.Document;
 import org.junit.Before;
@@ -40,9 +41,11 @@ import org.junit.Rule;
 import org.junit.Test;
 
 import java.math.BigInteger;
+import java.util.List;
 import java.util.Optional;
 
 import static com.mongodb.client.model.Filters.eq;
+import static com.mongodb.client.model.Updates.set;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertTrue;
 
@@ -178,6 +181,35 @@ public class IdentityRepositoryTest {
         assertTrue(identityRepository.contextIsUsed(CONTEXT_ID));
     }
 
+    @Test
+    public void should_change_identities_version_when_identity_created_linked_or_revoked()
+        throws InvalidParseOperationException {
+        // Given
+        GUID id = GUIDFactory.newGUID();
+
+        IdentityModel identityModel = new IdentityModel();
+        identityModel.setContextId("1");
+        identityModel.setIssuerDN("issuerDN");
+        identityModel.setSubjectDN("distinguishedName");
+        identityModel.setSerialNumber(String.valueOf(BigInteger.TEN));
+        identityModel.setId(id.toString());
+
+        String initialVersion = identityRepository.computeIdentitiesVersion();
+
+        // When / Then
+        identityRepository.createIdentity(identityModel);
+        String createdVersion = identityRepository.computeIdentitiesVersion();
+        assertThat(createdVersion).isNotEqualTo(initialVersion);
+        assertThat(identityRepository.computeIdentitiesVersion()).isEqualTo(createdVersion);
+
+        certificateCollection.updateOne(eq("_id", id.toString()), set("ContextId", "2"));
+        String linkedVersion = identityRepository.computeIdentitiesVersion();
+        assertThat(linkedVersion).isNotEqualTo(createdVersion);
+
+        identityRepository.updateCertificateState(List.of(id.toString()), CertificateStatus.REVOKED);
+        assertThat(identityRepository.computeIdentitiesVersion()).isNotEqualTo(linkedVersion);
+    }
+
     @Test
     public void should_store_certificate_with_big_serial_number() throws InvalidParseOperationException {
         // Given
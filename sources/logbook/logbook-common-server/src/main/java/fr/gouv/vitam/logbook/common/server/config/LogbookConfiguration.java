@@ -97,6 +97,12 @@ public final class LogbookConfiguration extends DbConfigurationImpl {
 
     private int reconstructionMetricsCacheDurationInMinutes = 15;
 
+    /**
+     * Delay during which logbook operation updates are coalesced before being indexed in elasticsearch.
+     * Operations are always indexed as soon as their final event is received. 0 to index each update synchronously.
+     */
+    private int operationIndexationDelayInMilliseconds = 0;
+
     /**
      * List of events that are generated in a wf-operation but are not declared in the wf itself
      */
@@ -415,4 +421,12 @@ public final class LogbookConfiguration extends DbConfigurationImpl {
     public void setReconstructionMetricsCacheDurationInMinutes(int reconstructionMetricsCacheDurationInMinutes) {
         this.reconstructionMetricsCacheDurationInMinutes = reconstructionMetricsCacheDurationInMinutes;
     }
+
+    public int getOperationIndexationDelayInMilliseconds() {
+        return operationIndexationDelayInMilliseconds;
+    }
+
+    public void setOperationIndexationDelayInMilliseconds(int operationIndexationDelayInMilliseconds) {
+        this.operationIndexationDelayInMilliseconds = operationIndexationDelayInMilliseconds;
+    }
 }
@@ -76,7 +76,8 @@ public final class LogbookMongoDbAccessFactory {
             false,
             esClient,
             new LogbookTransformData(),
-            ontologyLoader
+            ontologyLoader,
+            configuration.getOperationIndexationDelayInMilliseconds()
         );
     }
 }
@@ -44,6 +44,7 @@ import com.mongodb.client.model.BulkWriteOptions;
 import com.mongodb.client.model.Filters;
 import com.mongodb.client.model.FindOneAndUpdateOptions;
 import com.mongodb.client.model.InsertOneModel;
+import com.mongodb.client.model.Projections;
 import com.mongodb.client.model.ReturnDocument;
 import com.mongodb.client.model.UpdateOneModel;
 import com.mongodb.client.model.Updates;
@@ -76,6 +77,7 @@ import fr.gouv.vitam.common.exception.VitamRuntimeException;
 import fr.gouv.vitam.common.json.JsonHandler;
 import fr.gouv.vitam.common.logging.VitamLogger;
 import fr.gouv.vitam.common.logging.VitamLoggerFactory;
+import fr.gouv.vitam.common.model.StatusCode;
 import fr.gouv.vitam.common.model.logbook.LogbookEvent;
 import fr.gouv.vitam.common.parameter.ParameterHelper;
 import fr.gouv.vitam.common.thread.VitamThreadUtils;
@@ -151,6 +153,12 @@ public final class LogbookMongoDbAccessImpl extends MongoDbAccess implements Log
     private static final BasicDBObject ID_PROJECTION = new BasicDBObject(LogbookDocument.ID, 1);
     private static final ObjectNode DEFAULT_SLICE_WITH_ALL_EVENTS = JsonHandler.createObjectNode().put("events", 1);
     private static final ObjectNode DEFAULT_ALLKEYS = JsonHandler.createObjectNode();
+    /**
+     * Projection for the event type of an operation only (used to detect operation completion)
+     */
+    private static final Bson OPERATION_EVENT_TYPE_PROJECTION = Projections.include(
+        LogbookMongoDbName.eventType.getDbname()
+    );
 
     private static final int LAST_EVENT_SLICE = -1;
     private static final int TWO_LAST_EVENTS_SLICE = -2;
@@ -168,6 +176,7 @@ public final class LogbookMongoDbAccessImpl extends MongoDbAccess implements Log
     private final LogbookElasticsearchAccess esClient;
     private final LogbookTransformData logbookTransformData;
     private final OntologyLoader ontologyLoader;
+    private final LogbookOperationIndexationBuffer operationIndexationBuffer;
 
     /**
      * Constructor
@@ -186,11 +195,38 @@ public final class LogbookMongoDbAccessImpl extends MongoDbAccess implements Log
         LogbookElasticsearchAccess esClient,
         LogbookTransformData logbookTransformData,
         OntologyLoader ontologyLoader
+    ) {
+        this(mongoClient, dbname, recreate, esClient, logbookTransformData, ontologyLoader, 0);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param mongoClient MongoClient
+     * @param dbname MongoDB database name
+     * @param recreate True to recreate the index
+     * @param esClient elastic search client
+     * @param ontologyLoader
+     * @param operationIndexationDelayInMilliseconds delay during which logbook operation updates are coalesced before
+     * being indexed (0 to index each update synchronously)
+     * @throws IllegalArgumentException if mongoClient or dbname is null
+     */
+    public LogbookMongoDbAccessImpl(
+        MongoClient mongoClient,
+        final String dbname,
+        final boolean recreate,
+        LogbookElasticsearchAccess esClient,
+        LogbookTransformData logbookTransformData,
+        OntologyLoader ontologyLoader,
+        long operationIndexationDelayInMilliseconds
     ) {
         super(mongoClient, dbname);
         this.esClient = esClient;
         this.logbookTransformData = logbookTransformData;
         this.ontologyLoader = ontologyLoader;
+        this.operationIndexationBuffer = operationIndexationDelayInMilliseconds > 0
+            ? new LogbookOperationIndexationBuffer(this::indexOperation, operationIndexationDelayInMilliseconds)
+            : null;
 
         // FIXME : externalize initialization of collections to avoid being dependant of current class instanciation
         // when using the static LogbookCollections
@@ -211,6 +247,9 @@ public final class LogbookMongoDbAccessImpl extends MongoDbAccess implements Log
      */
     @Override
     public void close() {
+        if (operationIndexationBuffer != null) {
+            operationIndexationBuffer.close();
+        }
         getMongoClient().close();
     }
 
@@ -746,6 +785,12 @@ public final class LogbookMongoDbAccessImpl extends MongoDbAccess implements Log
             // Remove _id and events fields
             removeDuplicatedInformation(event);
 
+            if (operationIndexationBuffer != null) {
+                // Append only : the updated operation is indexed later, from its latest state
+                appendToLogbookOperation(mainLogbookDocumentId, combine(listUpdates), item);
+                return;
+            }
+
             final LogbookOperation result = LogbookCollections.OPERATION.<LogbookOperation>getCollection()
                 .findOneAndUpdate(
                     eq(LogbookDocument.ID, mainLogbookDocumentId),
@@ -755,7 +800,7 @@ public final class LogbookMongoDbAccessImpl extends MongoDbAccess implements Log
             if (result == null) {
                 throw new LogbookNotFoundException(UPDATE_NOT_FOUND_ITEM + mainLogbookDocumentId);
             }
-            updateIntoElasticsearch(LogbookCollections.OPERATION, result);
+            updateIntoElasticsearch(LogbookCollections.OPERATION, result, ParameterHelper.getTenantParameter());
         } catch (final MongoException e) {
             switch (getErrorCategory(e)) {
                 case EXECUTION_TIMEOUT:
@@ -772,6 +817,57 @@ public final class LogbookMongoDbAccessImpl extends MongoDbAccess implements Log
         }
     }
 
+    /**
+     * Apply an update (events append) to an operation without returning it, and index the operation : immediately if
+     * the update completes the operation, after the indexation delay otherwise.
+     */
+    private void appendToLogbookOperation(String operationId, Bson update, LogbookParameters... items)
+        throws LogbookNotFoundException, LogbookExecutionException {
+        final Integer tenantId = ParameterHelper.getTenantParameter();
+        final Document operation = LogbookCollections.OPERATION.<LogbookOperation>getCollection()
+            .findOneAndUpdate(
+                eq(LogbookDocument.ID, operationId),
+                update,
+                new FindOneAndUpdateOptions().projection(OPERATION_EVENT_TYPE_PROJECTION)
+            );
+        if (operation == null) {
+            throw new LogbookNotFoundException(UPDATE_NOT_FOUND_ITEM + operationId);
+        }
+        if (isOperationCompleted(operation, items)) {
+            operationIndexationBuffer.flush(operationId, tenantId);
+        } else {
+            operationIndexationBuffer.markUpdated(operationId, tenantId);
+        }
+    }
+
+    /**
+     * An operation is completed by a final (not STARTED) event having the event type of the operation itself
+     */
+    private boolean isOperationCompleted(Document operation, LogbookParameters... items) {
+        String operationEventType = operation.getString(LogbookMongoDbName.eventType.getDbname());
+        for (LogbookParameters item : items) {
+            if (
+                operationEventType != null &&
+                operationEventType.equals(item.getParameterValue(LogbookParameterName.eventType)) &&
+                !StatusCode.STARTED.name().equals(item.getParameterValue(LogbookParameterName.outcome))
+            ) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void indexOperation(String operationId, Integer tenantId) throws LogbookExecutionException {
+        final LogbookOperation operation = LogbookCollections.OPERATION.<LogbookOperation>getCollection()
+            .find(eq(LogbookDocument.ID, operationId))
+            .first();
+        if (operation == null) {
+            LOGGER.warn("Logbook operation {} not found, cannot be indexed", operationId);
+            return;
+        }
+        updateIntoElasticsearch(LogbookCollections.OPERATION, operation, tenantId);
+    }
+
     private LogbookCollections fromInProcessToProdCollection(LogbookCollections collection) {
         if (LogbookCollections.LIFECYCLE_UNIT_IN_PROCESS.equals(collection)) {
             return LogbookCollections.LIFECYCLE_UNIT;
@@ -1093,6 +1189,12 @@ public final class LogbookMongoDbAccessImpl extends MongoDbAccess implements Log
         // Update last persisted date
         listMaster.add(Updates.set(LAST_PERSISTED_DATE, lastPersistedDate));
         try {
+            if (LogbookCollections.OPERATION.equals(collection) && operationIndexationBuffer != null) {
+                // Append only : the updated operation is indexed later, from its latest state
+                appendToLogbookOperation(mainLogbookDocumentId, combine(listMaster), items);
+                return;
+            }
+
             final VitamDocument<?> result = (VitamDocument<?>) collection
                 .getCollection()
                 .findOneAndUpdate(
@@ -1105,7 +1207,7 @@ public final class LogbookMongoDbAccessImpl extends MongoDbAccess implements Log
             }
             // FIXME : to be refactor when other collection are indexed in ES
             if (LogbookCollections.OPERATION.equals(collection)) {
-                updateIntoElasticsearch(collection, result);
+                updateIntoElasticsearch(collection, result, ParameterHelper.getTenantParameter());
             }
         } catch (final MongoException e) {
             switch (getErrorCategory(e)) {
@@ -1595,9 +1697,11 @@ public final class LogbookMongoDbAccessImpl extends MongoDbAccess implements Log
         collection.getEsClient().indexEntry(collection, tenantId, id, vitamDocument);
     }
 
-    private <T> void updateIntoElasticsearch(LogbookCollections collection, VitamDocument<T> existingDocument)
-        throws LogbookExecutionException {
-        Integer tenantId = ParameterHelper.getTenantParameter();
+    private <T> void updateIntoElasticsearch(
+        LogbookCollections collection,
+        VitamDocument<T> existingDocument,
+        Integer tenantId
+    ) throws LogbookExecutionException {
         LOGGER.debug("updateIntoElasticsearch");
         String id = (String) existingDocument.remove(VitamDocument.ID);
         existingDocument.remove(VitamDocument.SCORE);
@@ -0,0 +1,153 @@
+/*
+ * Copyright French Prime minister Office/SGMAP/DINSIC/Vitam Program (2015-2022)
+ *
+ * contact.vitam@culture.gouv.fr
+ *
+ * This software is a computer program whose purpose is to implement a digital archiving back-office system managing
+ * high volumetry securely and efficiently.
+ *
+ * This software is governed by the CeCILL 2.1 license under French law and abiding by the rules of distribution of free
+ * software. You can use, modify and/ or redistribute the software under the terms of the CeCILL 2.1 license as
+ * circulated by CEA, CNRS and INRIA at the following URL "https://cecill.info".
+ *
+ * As a counterpart to the access to the source code and rights to copy, modify and redistribute granted by the license,
+ * users are provided only with a limited warranty and the software's author, the holder of the economic rights, and the
+ * successive licensors have only limited liability.
+ *
+ * In this respect, the user's attention is drawn to the risks associated with loading, using, modifying and/or
+ * developing or reproducing the software by the user in light of its specific status of free software, that may mean
+ * that it is complicated to manipulate, and that also therefore means that it is reserved for developers and
+ * experienced professionals having in-depth computer knowledge. Users are therefore encouraged to load and test the
+ * software's suitability as regards their requirements in conditions enabling the security of their systems and/or data
+ * to be ensured and, more generally, to use and operate it in the same conditions as regards security.
+ *
+ * The fact that you are presently reading this means that you have had knowledge of the CeCILL 2.1 license and that you
+ * accept its terms.
+ */
+package fr.gouv.vitam.logbook.common.server.database.collections;
+
+import fr.gouv.vitam.common.logging.VitamLogger;
+import fr.gouv.vitam.common.logging.VitamLoggerFactory;
+import fr.gouv.vitam.common.thread.VitamThreadFactory;
+import fr.gouv.vitam.logbook.common.server.exception.LogbookExecutionException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Debounced Elasticsearch synchronization of logbook operations.
+ *
+ * Operations updated in Mongo are marked as pending, and indexed (from their latest Mongo state) once the
+ * indexation delay has elapsed : all events appended within the delay are indexed at once. An operation can be
+ * flushed synchronously (eg. when its final event is appended), so that reads are consistent once it is completed.
+ */
+public class LogbookOperationIndexationBuffer implements AutoCloseable {
+
+    private static final VitamLogger LOGGER = VitamLoggerFactory.getInstance(LogbookOperationIndexationBuffer.class);
+
+    private static final int LOCK_STRIPES = 64;
+
+    /**
+     * Indexes the current (Mongo) state of an operation
+     */
+    @FunctionalInterface
+    public interface OperationIndexer {
+        void index(String operationId, Integer tenantId) throws LogbookExecutionException;
+    }
+
+    private final OperationIndexer operationIndexer;
+    private final long indexationDelayInMilliseconds;
+    private final ScheduledExecutorService scheduler;
+    private final Map<String, Integer> pendingOperations = new ConcurrentHashMap<>();
+    private final Object[] locks = new Object[LOCK_STRIPES];
+
+    public LogbookOperationIndexationBuffer(OperationIndexer operationIndexer, long indexationDelayInMilliseconds) {
+        this.operationIndexer = operationIndexer;
+        this.indexationDelayInMilliseconds = indexationDelayInMilliseconds;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(VitamThreadFactory.getInstance());
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    /**
+     * Mark an operation as updated : it will be indexed once the indexation delay has elapsed
+     *
+     * @param operationId the operation id
+     * @param tenantId the operation tenant
+     */
+    public void markUpdated(String operationId, Integer tenantId) {
+        if (pendingOperations.putIfAbsent(operationId, tenantId) == null) {
+            scheduler.schedule(() -> flushPending(operationId), indexationDelayInMilliseconds, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Index an operation now, whether it is pending or not
+     *
+     * @param operationId the operation id
+     * @param tenantId the operation tenant
+     * @throws LogbookExecutionException if the indexation fails
+     */
+    public void flush(String operationId, Integer tenantId) throws LogbookExecutionException {
+        synchronized (lockOf(operationId)) {
+            pendingOperations.remove(operationId);
+            operationIndexer.index(operationId, tenantId);
+        }
+    }
+
+    /**
+     * @return the number of operations waiting for indexation
+     */
+    public int getPendingOperationCount() {
+        return pendingOperations.size();
+    }
+
+    private void flushPending(String operationId) {
+        Integer tenantId = null;
+        try {
+            synchronized (lockOf(operationId)) {
+                tenantId = pendingOperations.remove(operationId);
+                if (tenantId == null) {
+                    // Already flushed
+                    return;
+                }
+                operationIndexer.index(operationId, tenantId);
+            }
+        } catch (LogbookExecutionException | RuntimeException e) {
+            LOGGER.error("Could not index logbook operation " + operationId + ". Will retry later", e);
+            if (tenantId != null) {
+                markUpdated(operationId, tenantId);
+            }
+        }
+    }
+
+    private Object lockOf(String operationId) {
+        return locks[Math.floorMod(operationId.hashCode(), LOCK_STRIPES)];
+    }
+
+    /**
+     * Flush all pending operations, and stop the scheduler
+     */
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+        List<String> operationIds = new ArrayList<>(pendingOperations.keySet());
+        for (String operationId : operationIds) {
+            Integer tenantId = pendingOperations.get(operationId);
+            if (tenantId == null) {
+                continue;
+            }
+            try {
+                flush(operationId, tenantId);
+            } catch (LogbookExecutionException | RuntimeException e) {
+                LOGGER.error("Could not index logbook operation " + operationId, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright French Prime minister Office/SGMAP/DINSIC/Vitam Program (2015-2022)
+ *
+ * contact.vitam@culture.gouv.fr
+ *
+ * This software is a computer program whose purpose is to implement a digital archiving back-office system managing
+ * high volumetry securely and efficiently.
+ *
+ * This software is governed by the CeCILL 2.1 license under French law and abiding by the rules of distribution of free
+ * software. You can use, modify and/ or redistribute the software under the terms of the CeCILL 2.1 license as
+ * circulated by CEA, CNRS and INRIA at the following URL "https://cecill.info".
+ *
+ * As a counterpart to the access to the source code and rights to copy, modify and redistribute granted by the license,
+ * users are provided only with a limited warranty and the software's author, the holder of the economic rights, and the
+ * successive licensors have only limited liability.
+ *
+ * In this respect, the user's attention is drawn to the risks associated with loading, using, modifying and/or
+ * developing or reproducing the software by the user in light of its specific status of free software, that may mean
+ * that it is complicated to manipulate, and that also therefore means that it is reserved for developers and
+ * experienced professionals having in-depth computer knowledge. Users are therefore encouraged to load and test the
+ * software's suitability as regards their requirements in conditions enabling the security of their systems and/or data
+ * to be ensured and, more generally, to use and operate it in the same conditions as regards security.
+ *
+ * The fact that you are presently reading this means that you have had knowledge of the CeCILL 2.1 license and that you
+ * accept its terms.
+ */
+package fr.gouv.vitam.logbook.common.server.database.collections;
+
+import fr.gouv.vitam.logbook.common.server.exception.LogbookExecutionException;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LogbookOperationIndexationBufferTest {
+
+    private static final int TENANT_ID = 0;
+
+    private final List<String> indexedOperations = new CopyOnWriteArrayList<>();
+
+    @Test
+    public void should_coalesce_updates_of_an_operation_within_delay() throws Exception {
+        // Given
+        CountDownLatch indexed = new CountDownLatch(2);
+        try (
+            LogbookOperationIndexationBuffer buffer = new LogbookOperationIndexationBuffer(
+                (operationId, tenantId) -> {
+                    indexedOperations.add(operationId);
+                    indexed.countDown();
+                },
+                200
+            )
+        ) {
+            // When
+            for (int i = 0; i < 10; i++) {
+                buffer.markUpdated("op1", TENANT_ID);
+                buffer.markUpdated("op2", TENANT_ID);
+            }
+
+            // Then
+            assertThat(indexed.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(indexedOperations).containsExactlyInAnyOrder("op1", "op2");
+            assertThat(buffer.getPendingOperationCount()).isZero();
+        }
+    }
+
+    @Test
+    public void should_index_operation_immediately_on_flush() throws Exception {
+        // Given
+        try (
+            LogbookOperationIndexationBuffer buffer = new LogbookOperationIndexationBuffer(
+                (operationId, tenantId) -> indexedOperations.add(operationId),
+                60_000
+            )
+        ) {
+            buffer.markUpdated("op1", TENANT_ID);
+            assertThat(indexedOperations).isEmpty();
+
+            // When
+            buffer.flush("op1", TENANT_ID);
+
+            // Then
+            assertThat(indexedOperations).containsExactly("op1");
+            assertThat(buffer.getPendingOperationCount()).isZero();
+        }
+        assertThat(indexedOperations).containsExactly("op1");
+    }
+
+    @Test
+    public void should_index_pending_operations_on_close() {
+        // Given
+        LogbookOperationIndexationBuffer buffer = new LogbookOperationIndexationBuffer(
+            (operationId, tenantId) -> indexedOperations.add(operationId),
+            60_000
+        );
+        buffer.markUpdated("op1", TENANT_ID);
+        buffer.markUpdated("op2", TENANT_ID);
+
+        // When
+        buffer.close();
+
+        // Then
+        assertThat(indexedOperations).containsExactlyInAnyOrder("op1", "op2");
+    }
+
+    @Test
+    public void should_retry_indexation_after_failure() throws Exception {
+        // Given
+        CountDownLatch indexed = new CountDownLatch(1);
+        try (
+            LogbookOperationIndexationBuffer buffer = new LogbookOperationIndexationBuffer(
+                (operationId, tenantId) -> {
+                    if (indexedOperations.isEmpty()) {
+                        indexedOperations.add("failure");
+                        throw new LogbookExecutionException("ES unavailable");
+                    }
+                    indexedOperations.add(operationId);
+                    indexed.countDown();
+                },
+                50
+            )
+        ) {
+            // When
+            buffer.markUpdated("op1", TENANT_ID);
+
+            // Then
+            assertThat(indexed.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(indexedOperations).containsExactly("failure", "op1");
+        }
+    }
+}
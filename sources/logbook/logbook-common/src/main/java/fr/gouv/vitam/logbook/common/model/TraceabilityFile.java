@@ -28,6 +28,7 @@ package fr.gouv.vitam.logbook.common.model;
 
 import fr.gouv.vitam.common.json.JsonHandler;
 import fr.gouv.vitam.common.security.merkletree.MerkleTree;
+import fr.gouv.vitam.common.security.merkletree.StreamingMerkleTreeAlgo;
 import org.apache.commons.codec.binary.Base64;
 import org.apache.commons.compress.archivers.ArchiveException;
 import org.apache.commons.compress.archivers.ArchiveStreamFactory;
@@ -95,6 +96,19 @@ public class TraceabilityFile implements AutoCloseable {
         archive.closeArchiveEntry();
     }
 
+    /**
+     * Add a merkleTree file with the computed merkleTree in the zipFile, serialized incrementally
+     *
+     * @param merkleTreeAlgo the algo used to compute the tree that should be store in zip
+     * @throws IOException if any error occurs while attempting to write in zip
+     */
+    public void storeMerkleTree(StreamingMerkleTreeAlgo merkleTreeAlgo) throws IOException {
+        final ZipArchiveEntry entry = new ZipArchiveEntry(MEKLE_TREE_FILENAME);
+        archive.putArchiveEntry(entry);
+        merkleTreeAlgo.writeMerkleTree(archive);
+        archive.closeArchiveEntry();
+    }
+
     /**
      * Add a timestampToken file with the computed token of the traceability operation in the zipFile
      *
@@ -36,7 +36,7 @@ import fr.gouv.vitam.common.logging.VitamLogger;
 import fr.gouv.vitam.common.logging.VitamLoggerFactory;
 import fr.gouv.vitam.common.model.StatusCode;
 import fr.gouv.vitam.common.security.merkletree.MerkleTree;
-import fr.gouv.vitam.common.security.merkletree.MerkleTreeAlgo;
+import fr.gouv.vitam.common.security.merkletree.StreamingMerkleTreeAlgo;
 import fr.gouv.vitam.common.timestamp.TimestampGenerator;
 import fr.gouv.vitam.logbook.common.exception.TraceabilityException;
 import fr.gouv.vitam.logbook.common.model.TraceabilityEvent;
@@ -62,6 +62,8 @@ public class TraceabilityService {
     private final File tmpFolder;
     private final DateTimeFormatter formatter;
     private static final String SECURISATION_VERSION = "V1";
+    private static final String MERKLE_TREE_NODES_FILE_EXTENSION = ".merkle";
+    private static final int MERKLE_TREE_THREAD_POOL_SIZE = Math.min(4, Runtime.getRuntime().availableProcessors());
 
     private File zipFile = null;
 
@@ -103,18 +105,23 @@ public class TraceabilityService {
             LocalDateUtil.parseMongoFormattedDate(helper.getTraceabilityEndDate())
         );
 
-        try (TraceabilityFile traceabilityFile = new TraceabilityFile(zipFile)) {
+        try (
+            TraceabilityFile traceabilityFile = new TraceabilityFile(zipFile);
             // Create new merkleTreeAlgo
-            final MerkleTreeAlgo merkleAlgo = new MerkleTreeAlgo(VitamConfiguration.getDefaultDigestType());
-
+            StreamingMerkleTreeAlgo merkleAlgo = new StreamingMerkleTreeAlgo(
+                VitamConfiguration.getDefaultDigestType(),
+                MERKLE_TREE_THREAD_POOL_SIZE,
+                new File(tmpFolder, fileName + MERKLE_TREE_NODES_FILE_EXTENSION)
+            )
+        ) {
             // Call storeExtractedData
             helper.saveDataInZip(merkleAlgo, traceabilityFile);
 
-            // Get MerkleTree with given MerkleTreeAlgo
+            // Get MerkleTree root with given MerkleTreeAlgo
             final MerkleTree merkleTree = merkleAlgo.generateMerkle();
 
             if (merkleTree != null) {
-                traceabilityFile.storeMerkleTree(merkleTree);
+                traceabilityFile.storeMerkleTree(merkleAlgo);
                 byte[] merkleRootHash = merkleTree.getRoot();
                 String rootHash = BaseXx.getBase64(merkleRootHash);
 
@@ -31,6 +31,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.github.fge.jsonpatch.diff.JsonDiff;
 import com.google.common.annotations.VisibleForTesting;
+import com.mongodb.MongoException;
 import com.mongodb.client.MongoClient;
 import fr.gouv.vitam.common.VitamConfiguration;
 import fr.gouv.vitam.common.alert.AlertService;
@@ -61,6 +62,7 @@ import fr.gouv.vitam.common.server.application.configuration.DbConfigurationImpl
 import fr.gouv.vitam.common.server.application.configuration.MongoDbNode;
 import fr.gouv.vitam.common.server.application.configuration.MongoDbShard;
 import fr.gouv.vitam.common.server.application.configuration.MongoDbShardConf;
+import fr.gouv.vitam.common.thread.ExecutorUtils;
 import fr.gouv.vitam.common.thread.VitamThreadUtils;
 import fr.gouv.vitam.logbook.common.exception.LogbookClientAlreadyExistsException;
 import fr.gouv.vitam.logbook.common.exception.LogbookClientBadRequestException;
@@ -94,22 +96,22 @@ import java.io.InputStream;
 import java.util.AbstractMap.SimpleEntry;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import static fr.gouv.vitam.common.CharsetUtils.UTF_8;
-import static fr.gouv.vitam.common.database.server.OplogReader.COLLECTION_NAME;
 import static fr.gouv.vitam.common.database.server.OplogReader.FIELD_ID;
 import static fr.gouv.vitam.common.database.server.OplogReader.FIELD_INCREMENT;
 import static fr.gouv.vitam.common.database.server.OplogReader.FIELD_TIME;
-import static fr.gouv.vitam.common.database.server.OplogReader.OPERATION_TIME;
 import static fr.gouv.vitam.common.model.VitamConstants.JSON_EXTENSION;
 import static fr.gouv.vitam.common.model.WorkspaceConstants.TMP_FILE_NAME_FOR_SHARDS_CONFIG;
-import static java.util.Map.Entry;
 
 public class MetadataAuditService {
 
@@ -145,7 +147,9 @@ public class MetadataAuditService {
         Boolean isDataConsistencyAuditRunnable,
         Integer dataConsistencyAuditOplogMaxSize,
         MongoDbShardConf mongodShardsConf,
-        boolean dbAuthentication
+        boolean dbAuthentication,
+        int dataConsistencyAuditBatchSize,
+        int dataConsistencyAuditThreadPoolSize
     ) {
         this.workspaceClientFactory = workspaceClientFactory;
         this.logbookOperationsClientFactory = logbookOperationsClientFactory;
@@ -155,7 +159,9 @@ public class MetadataAuditService {
             isDataConsistencyAuditRunnable,
             dataConsistencyAuditOplogMaxSize,
             mongodShardsConf,
-            dbAuthentication
+            dbAuthentication,
+            dataConsistencyAuditBatchSize,
+            dataConsistencyAuditThreadPoolSize
         );
     }
 
@@ -212,19 +218,13 @@ public class MetadataAuditService {
             startLogbookForAudit(logbookClient);
             getShardsConfig(shardsTimeStampConfigMap, workspaceClient);
 
-            LOGGER.debug("Audit data consistency : Start Reading Oplog");
+            LOGGER.debug("Audit data consistency : Start streaming Oplog");
             mongoRepositoryForUnits = vitamRepositoryProvider.getVitamMongoRepository(
                 MetadataCollections.UNIT.getVitamCollection()
             );
             mongoRepositoryForGot = vitamRepositoryProvider.getVitamMongoRepository(
                 MetadataCollections.OBJECTGROUP.getVitamCollection()
             );
-            Map<String, ? extends MetadataDocument<?>> metadataOplogFromMongo = getOplogDocumentsFromShards(
-                shardsTimeStampConfigMap,
-                workspaceClient
-            );
-
-            LOGGER.debug("Audit data consistency : Start Reading indexes from ES");
             elasticsearchUnitsRepository = vitamRepositoryProvider.getVitamESRepository(
                 MetadataCollections.UNIT.getVitamCollection(),
                 indexManager.getElasticsearchIndexAliasResolver(MetadataCollections.UNIT)
@@ -233,28 +233,31 @@ public class MetadataAuditService {
                 MetadataCollections.OBJECTGROUP.getVitamCollection(),
                 indexManager.getElasticsearchIndexAliasResolver(MetadataCollections.OBJECTGROUP)
             );
-            Map<String, ? extends MetadataDocument<?>> metadataOpLogFromEs = metadataOplogFromMongo
-                .entrySet()
-                .stream()
-                .map(elmt -> new SimpleEntry<>(elmt.getKey(), getDocumentFromEs(elmt)))
-                .collect(Collectors.toMap(Entry::getKey, Entry::getValue));
-            Map<String, String> incoherantData = generateIncoherantDocuments(
-                metadataOplogFromMongo,
-                metadataOpLogFromEs
+            AtomicInteger incoherantDocuments = new AtomicInteger();
+            AtomicInteger unrectifiedDocuments = new AtomicInteger();
+            auditOplogDocumentsFromShards(
+                shardsTimeStampConfigMap,
+                workspaceClient,
+                incoherantDocuments,
+                unrectifiedDocuments
             );
 
-            LOGGER.debug("Audit data consistency : Update Logbook with {} resulted data", incoherantData.size());
-            if (incoherantData.isEmpty()) {
+            LOGGER.debug("Audit data consistency : Update Logbook with {} resulted data", incoherantDocuments.get());
+            if (incoherantDocuments.get() == 0) {
                 successLogbookForAudit(logbookClient);
             } else {
-                rectifyDataInElasticsearch(logbookClient, metadataOplogFromMongo, metadataOpLogFromEs, incoherantData);
+                reportRectifiedDataInElasticsearch(
+                    logbookClient,
+                    incoherantDocuments.get(),
+                    unrectifiedDocuments.get()
+                );
             }
 
             Map<String, Object> responseResults = Map.of(
                 "requestId",
                 eip.getId(),
                 "IncoherantDataSize",
-                incoherantData.size()
+                incoherantDocuments.get()
             );
             entityResponse = JsonHandler.toJsonNode(responseResults);
             LOGGER.debug("Audit data consistency : End of audit");
@@ -303,33 +306,18 @@ public class MetadataAuditService {
         return Response.status(responseStatus).entity(entityResponse).build();
     }
 
-    private void rectifyDataInElasticsearch(
+    private void reportRectifiedDataInElasticsearch(
         LogbookOperationsClient logbookClient,
-        Map<String, ? extends MetadataDocument<?>> metadataOplogFromMongo,
-        Map<String, ? extends MetadataDocument<?>> metadataOpLogFromEs,
-        Map<String, String> incoherantData
-    )
-        throws DatabaseException, InvalidParseOperationException, LogbookClientNotFoundException, LogbookClientBadRequestException, LogbookClientServerException {
-        LOGGER.debug("Audit data consistency : Start updating incoherants documents in ES");
+        int incoherantDataSize,
+        int unrectifiedDataSize
+    ) throws LogbookClientNotFoundException, LogbookClientBadRequestException, LogbookClientServerException {
         alertService.createAlert(
-            incoherantData.size() + " incoherant documents detected when running data consistency audit"
-        );
-        updateIncoherantDataFromEs(metadataOplogFromMongo, incoherantData);
-        deleteIncoherantDataFromEs(metadataOplogFromMongo, metadataOpLogFromEs, incoherantData);
-
-        Map<String, ? extends MetadataDocument<?>> metadataOpLogFromEsAfterUpdate = metadataOplogFromMongo
-            .entrySet()
-            .stream()
-            .map(elmt -> new SimpleEntry<>(elmt.getKey(), getDocumentFromEs(elmt)))
-            .collect(Collectors.toMap(Entry::getKey, Entry::getValue));
-        Map<String, String> incoherantDataAfterUpdate = generateIncoherantDocuments(
-            metadataOplogFromMongo,
-            metadataOpLogFromEsAfterUpdate
+            incoherantDataSize + " incoherant documents detected when running data consistency audit"
         );
-        if (incoherantDataAfterUpdate.isEmpty()) {
+        if (unrectifiedDataSize == 0) {
             final String msgWarnToDisplay = String.format(
                 "Audit data consistency : %s document(s) have been updated in ES",
-                incoherantData.size()
+                incoherantDataSize
             );
             LOGGER.warn(msgWarnToDisplay);
             warningLogbookForAudit(logbookClient, msgWarnToDisplay);
@@ -340,58 +328,84 @@ public class MetadataAuditService {
         }
     }
 
+    /**
+     * Audits then rectifies a batch of touched documents : Mongo and ES documents are fetched with one multi-get per
+     * collection, incoherant documents are re-indexed or deleted in ES with bulk requests, then checked again.
+     */
+    private void auditBatch(
+        Map<String, String> touchedDocumentIds,
+        AtomicInteger incoherantDocuments,
+        AtomicInteger unrectifiedDocuments
+    ) throws DatabaseException, InvalidParseOperationException {
+        final String unitCollectionName = MetadataCollections.UNIT.getCollection().getNamespace().getFullName();
+        List<String> unitIds = new ArrayList<>();
+        List<String> objectGroupIds = new ArrayList<>();
+        touchedDocumentIds.forEach(
+            (id, collectionName) -> (unitCollectionName.equals(collectionName) ? unitIds : objectGroupIds).add(id)
+        );
+
+        Map<String, MetadataDocument<?>> documentsFromMongo = getDocumentsFromMongo(unitIds, objectGroupIds);
+        Map<String, MetadataDocument<?>> documentsFromEs = getDocumentsFromEs(unitIds, objectGroupIds);
+        Map<String, String> incoherantData = generateIncoherantDocuments(
+            touchedDocumentIds.keySet(),
+            documentsFromMongo,
+            documentsFromEs
+        );
+        if (incoherantData.isEmpty()) {
+            return;
+        }
+        incoherantDocuments.addAndGet(incoherantData.size());
+        incoherantData.forEach((id, detail) -> LOGGER.debug("Audit data consistency : {} {}", id, detail));
+
+        updateIncoherantDataFromEs(documentsFromMongo, incoherantData);
+        deleteIncoherantDataFromEs(documentsFromMongo, documentsFromEs, incoherantData);
+
+        Map<String, MetadataDocument<?>> documentsFromEsAfterUpdate = getDocumentsFromEs(
+            unitIds.stream().filter(incoherantData::containsKey).collect(Collectors.toList()),
+            objectGroupIds.stream().filter(incoherantData::containsKey).collect(Collectors.toList())
+        );
+        unrectifiedDocuments.addAndGet(
+            generateIncoherantDocuments(incoherantData.keySet(), documentsFromMongo, documentsFromEsAfterUpdate).size()
+        );
+    }
+
     private void deleteIncoherantDataFromEs(
-        Map<String, ? extends MetadataDocument<?>> metadataOplogFromMongo,
-        Map<String, ? extends MetadataDocument<?>> metadataOpLogFromEs,
+        Map<String, MetadataDocument<?>> documentsFromMongo,
+        Map<String, MetadataDocument<?>> documentsFromEs,
         Map<String, String> incoherantData
     ) {
-        Set<String> documentIdsToDeleteInES = incoherantData
+        Map<Pair<Integer, Boolean>, List<String>> documentsToDeleteByTenant = incoherantData
             .keySet()
             .stream()
-            .filter(elmt -> metadataOplogFromMongo.get(elmt).isEmpty())
-            .collect(Collectors.toSet());
-        if (!documentIdsToDeleteInES.isEmpty()) {
-            List<? extends MetadataDocument> documentsToDelete = metadataOpLogFromEs
-                .values()
-                .stream()
-                .filter(elmt -> documentIdsToDeleteInES.contains(elmt.getId()))
-                .collect(Collectors.toList());
-            Map<Pair<Integer, Boolean>, List<String>> documentsToDeleteByTenant = documentsToDelete
-                .stream()
-                .collect(
-                    Collectors.toMap(
-                        elmt -> Pair.of(elmt.getTenantId(), elmt instanceof Unit),
-                        elmt -> new ArrayList<>(Collections.singleton(elmt.getId())),
-                        (oldElmt, newElmt) -> {
-                            oldElmt.addAll(newElmt);
-                            return oldElmt;
-                        }
-                    )
-                );
-            documentsToDeleteByTenant
-                .keySet()
-                .forEach(key -> {
-                    try {
-                        if (key.getRight()) {
-                            elasticsearchUnitsRepository.delete(documentsToDeleteByTenant.get(key), key.getLeft());
-                        } else {
-                            elasticsearchGotRepository.delete(documentsToDeleteByTenant.get(key), key.getLeft());
-                        }
-                    } catch (DatabaseException e) {
-                        LOGGER.error(e.getMessage());
-                    }
-                });
-        }
+            .filter(elmt -> !documentsFromMongo.containsKey(elmt))
+            .map(documentsFromEs::get)
+            .collect(
+                Collectors.groupingBy(
+                    elmt -> Pair.of(elmt.getTenantId(), elmt instanceof Unit),
+                    Collectors.mapping(MetadataDocument::getId, Collectors.toList())
+                )
+            );
+        documentsToDeleteByTenant.forEach((key, ids) -> {
+            try {
+                if (key.getRight()) {
+                    elasticsearchUnitsRepository.delete(ids, key.getLeft());
+                } else {
+                    elasticsearchGotRepository.delete(ids, key.getLeft());
+                }
+            } catch (DatabaseException e) {
+                LOGGER.error(e.getMessage());
+            }
+        });
     }
 
     private void updateIncoherantDataFromEs(
-        Map<String, ? extends MetadataDocument<?>> metadataOplogFromMongo,
+        Map<String, MetadataDocument<?>> documentsFromMongo,
         Map<String, String> incoherantData
     ) throws DatabaseException {
-        List<Document> documentsToUpdateInES = metadataOplogFromMongo
+        List<Document> documentsToUpdateInES = documentsFromMongo
             .values()
             .stream()
-            .filter(elmt -> incoherantData.containsKey(elmt.get(FIELD_ID)))
+            .filter(elmt -> incoherantData.containsKey(elmt.getId()))
             .collect(Collectors.toList());
         elasticsearchUnitsRepository.save(
             documentsToUpdateInES.stream().filter(elmt -> elmt instanceof Unit).collect(Collectors.toList())
@@ -419,48 +433,51 @@ public class MetadataAuditService {
         return false;
     }
 
-    private MetadataDocument<?> getDocumentFromEs(Entry<String, ? extends MetadataDocument<?>> entrySet) {
-        return entrySet.getValue() instanceof Unit
-            ? new Unit(getIndexByDocument(elasticsearchUnitsRepository, entrySet))
-            : new ObjectGroup(getIndexByDocument(elasticsearchGotRepository, entrySet));
+    private Map<String, MetadataDocument<?>> getDocumentsFromEs(List<String> unitIds, List<String> objectGroupIds)
+        throws DatabaseException {
+        Map<String, MetadataDocument<?>> documentsFromEs = new HashMap<>();
+        if (!unitIds.isEmpty()) {
+            elasticsearchUnitsRepository
+                .getDocumentsByIds(unitIds)
+                .forEach((id, document) -> documentsFromEs.put(id, new Unit(document)));
+        }
+        if (!objectGroupIds.isEmpty()) {
+            elasticsearchGotRepository
+                .getDocumentsByIds(objectGroupIds)
+                .forEach((id, document) -> documentsFromEs.put(id, new ObjectGroup(document)));
+        }
+        return documentsFromEs;
     }
 
     private Map<String, String> generateIncoherantDocuments(
-        Map<String, ? extends MetadataDocument<?>> metadataOplogFromMongo,
-        Map<String, ? extends MetadataDocument<?>> metadataOpLogFromEs
+        Collection<String> documentIds,
+        Map<String, MetadataDocument<?>> documentsFromMongo,
+        Map<String, MetadataDocument<?>> documentsFromEs
     ) throws InvalidParseOperationException {
         Map<String, String> incoherantData = new HashMap<>();
-        for (String documentId : metadataOplogFromMongo.keySet()) {
-            if (metadataOpLogFromEs.containsKey(documentId)) {
-                JsonNode documentFromMongoJsonNode = JsonHandler.toJsonNode(metadataOplogFromMongo.get(documentId));
-                JsonNode documentFromEsJsonNode = JsonHandler.toJsonNode(metadataOpLogFromEs.get(documentId));
+        for (String documentId : documentIds) {
+            MetadataDocument<?> documentFromMongo = documentsFromMongo.get(documentId);
+            MetadataDocument<?> documentFromEs = documentsFromEs.get(documentId);
+            if (documentFromMongo == null && documentFromEs == null) {
+                // Deleted from both databases
+                continue;
+            }
+            if (documentFromEs == null) {
+                incoherantData.put(documentId, "The key dont exist in ES");
+            } else if (documentFromMongo == null) {
+                incoherantData.put(documentId, "The key dont exist in Mongo");
+            } else {
+                JsonNode documentFromMongoJsonNode = JsonHandler.toJsonNode(documentFromMongo);
+                JsonNode documentFromEsJsonNode = JsonHandler.toJsonNode(documentFromEs);
                 JsonNode patch = JsonDiff.asJson(documentFromMongoJsonNode, documentFromEsJsonNode);
                 if (!patch.isEmpty()) {
                     incoherantData.put(documentId, "Incoherant Data detected : " + patch.toString());
                 }
-            } else {
-                incoherantData.put(documentId, "The key dont exist in ES");
             }
         }
         return incoherantData;
     }
 
-    private Document getIndexByDocument(
-        VitamElasticsearchRepository elasticsearchRepository,
-        Map.Entry<String, ? extends MetadataDocument<?>> elmt
-    ) {
-        try {
-            Document result = elasticsearchRepository.getDocumentById(elmt.getKey()).orElse(new Document());
-            if (!result.isEmpty()) {
-                result.put(FIELD_ID, elmt.getKey());
-            }
-            return result;
-        } catch (DatabaseException e) {
-            LOGGER.info("{} does not exist in ES", elmt.getKey());
-            return new Document();
-        }
-    }
-
     private void getShardsConfig(Map<String, BsonTimestamp> shardsTimeStampConfigMap, WorkspaceClient workspaceClient)
         throws ContentAddressableStorageServerException, ContentAddressableStorageNotFoundException, InvalidParseOperationException, IOException {
         if (workspaceClient.isExistingContainer(AUDIT_CONTAINER_NAME)) {
@@ -493,79 +510,108 @@ public class MetadataAuditService {
         }
     }
 
-    private Map<String, ? extends MetadataDocument<?>> getOplogDocumentsFromShards(
+    /**
+     * Streams the documents touched in the oplog of each shard node to a pool of batch auditors.
+     * The oplog reader is blocked while the queue of pending batches is full, so that memory does not depend on the
+     * oplog size.
+     */
+    private void auditOplogDocumentsFromShards(
         Map<String, BsonTimestamp> shardsTimeStampConfigMap,
-        WorkspaceClient workspaceClient
-    ) {
+        WorkspaceClient workspaceClient,
+        AtomicInteger incoherantDocuments,
+        AtomicInteger unrectifiedDocuments
+    ) throws DatabaseException {
         boolean isShardsTimeStampConfigMapTouched = false;
         final String dbUserName = dataConsistencyAuditConfig.getMongodShardsConf().getDbUserName();
         final String dbUserPassword = dataConsistencyAuditConfig.getMongodShardsConf().getDbPassword();
         final List<String> collectionsToScan = Arrays.stream(MetadataCollections.values())
             .map(collection -> collection.getCollection().getNamespace().getFullName())
             .collect(Collectors.toList());
-        Map<String, MetadataDocument<?>> metadataOplogDocuments = new HashMap<>();
-        for (MongoDbShard mongoDbShard : dataConsistencyAuditConfig.getMongodShardsConf().getMongoDbShards()) {
-            for (MongoDbNode dbNode : mongoDbShard.getMongoDbNodes()) {
-                // Create OplogInstance
-                OplogReader oplogReader = createOplogReaderInstance(
-                    dbUserName,
-                    dbUserPassword,
-                    dbNode,
-                    dataConsistencyAuditConfig.isDbAuthentication(),
-                    dataConsistencyAuditConfig.getDataConsistencyAuditOplogMaxSize()
-                );
-                // Read Oplog from node
-                final String shardNameForMapConfig =
-                    mongoDbShard.getShardName() + ":" + dbNode.getDbHost() + ":" + dbNode.getDbPort();
-                Map<String, Document> oplogByShard = oplogReader.readDocumentsFromOplogByShardAndCollections(
-                    collectionsToScan,
-                    shardsTimeStampConfigMap.get(shardNameForMapConfig)
-                );
-                if (!oplogByShard.isEmpty()) {
-                    if (metadataOplogDocuments.isEmpty()) {
-                        LOGGER.info(
-                            oplogByShard.size() +
-                            " operations will be added for data consistency audit from " +
-                            shardNameForMapConfig
-                        );
-                        metadataOplogDocuments.putAll(getDocumentsFromMongo(oplogByShard));
-                    } else {
-                        Map<String, Document> oplogByShardToAdd = oplogByShard
-                            .entrySet()
-                            .stream()
-                            .filter(elmt -> !metadataOplogDocuments.keySet().contains(elmt.getKey()))
-                            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
-                        LOGGER.info(
-                            oplogByShardToAdd.size() +
-                            " operations will be added for data consistency audit from " +
-                            shardNameForMapConfig
-                        );
-                        metadataOplogDocuments.putAll(getDocumentsFromMongo(oplogByShardToAdd));
+        final int threadPoolSize = dataConsistencyAuditConfig.getThreadPoolSize();
+
+        // Process in thread pool. Any error aborts execution, oplog reading included
+        AtomicBoolean errorOccurred = new AtomicBoolean(false);
+        ThreadPoolExecutor executor = ExecutorUtils.createScalableBatchExecutorService(threadPoolSize, threadPoolSize);
+        try {
+            for (MongoDbShard mongoDbShard : dataConsistencyAuditConfig.getMongodShardsConf().getMongoDbShards()) {
+                for (MongoDbNode dbNode : mongoDbShard.getMongoDbNodes()) {
+                    if (errorOccurred.get()) {
+                        break;
                     }
-                    BsonTimestamp maxTimeStampScanned = oplogByShard
-                        .values()
-                        .stream()
-                        .map(elmt -> ((BsonTimestamp) elmt.get(OPERATION_TIME)))
-                        .max(BsonTimestamp::compareTo)
-                        .get();
+                    // Create OplogInstance
+                    OplogReader oplogReader = createOplogReaderInstance(
+                        dbUserName,
+                        dbUserPassword,
+                        dbNode,
+                        dataConsistencyAuditConfig.isDbAuthentication(),
+                        dataConsistencyAuditConfig.getDataConsistencyAuditOplogMaxSize()
+                    );
+                    // Stream Oplog from node
+                    final String shardNameForMapConfig =
+                        mongoDbShard.getShardName() + ":" + dbNode.getDbHost() + ":" + dbNode.getDbPort();
+                    LOGGER.info("Streaming operations for data consistency audit from " + shardNameForMapConfig);
+                    BsonTimestamp maxTimeStampScanned =
+                        oplogReader.readTouchedDocumentIdsFromOplogByShardAndCollections(
+                            collectionsToScan,
+                            shardsTimeStampConfigMap.get(shardNameForMapConfig),
+                            dataConsistencyAuditConfig.getBatchSize(),
+                            touchedDocumentIds -> {
+                                if (errorOccurred.get()) {
+                                    return false;
+                                }
+                                executor.submit(() -> {
+                                    if (errorOccurred.get()) {
+                                        return;
+                                    }
+                                    try {
+                                        auditBatch(touchedDocumentIds, incoherantDocuments, unrectifiedDocuments);
+                                    } catch (DatabaseException | InvalidParseOperationException | RuntimeException e) {
+                                        errorOccurred.set(true);
+                                        LOGGER.error("An error occurred during data consistency audit of a batch", e);
+                                    }
+                                });
+                                return true;
+                            }
+                        );
                     if (
-                        shardsTimeStampConfigMap.get(shardNameForMapConfig) == null ||
-                        maxTimeStampScanned.compareTo(shardsTimeStampConfigMap.get(shardNameForMapConfig)) > 0
+                        maxTimeStampScanned != null &&
+                        (shardsTimeStampConfigMap.get(shardNameForMapConfig) == null ||
+                            maxTimeStampScanned.compareTo(shardsTimeStampConfigMap.get(shardNameForMapConfig)) > 0)
                     ) {
                         isShardsTimeStampConfigMapTouched = true;
                         shardsTimeStampConfigMap.put(shardNameForMapConfig, maxTimeStampScanned);
                     }
                 }
             }
+        } catch (RuntimeException e) {
+            // Pending batches are skipped
+            errorOccurred.set(true);
+            throw e;
+        } finally {
+            awaitExecutorTermination(executor);
+        }
+
+        if (errorOccurred.get()) {
+            throw new DatabaseException("One or more errors occurred during data consistency audit");
         }
         // Store map in file in workspace if there is changes
         if (isShardsTimeStampConfigMapTouched) {
             storeDbShardsConfig(shardsTimeStampConfigMap, workspaceClient);
         }
-        return metadataOplogDocuments;
     }
 
-    private OplogReader createOplogReaderInstance(
+    private void awaitExecutorTermination(ThreadPoolExecutor executor) throws DatabaseException {
+        try {
+            executor.shutdown();
+            executor.awaitTermination(Long.MAX_VALUE, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DatabaseException("Awaiting data consistency audit jobs interrupted", e);
+        }
+    }
+
+    @VisibleForTesting
+    OplogReader createOplogReaderInstance(
         String dbUserName,
         String dbUserPassword,
         MongoDbNode dbNode,
@@ -586,50 +632,24 @@ public class MetadataAuditService {
         return new OplogReader(mongoClient, dataConsistencyAuditOplogMaxSize);
     }
 
-    private Map<String, MetadataDocument<?>> getDocumentsFromMongo(Map<String, Document> documentsToScan) {
-        return documentsToScan
-            .entrySet()
-            .stream()
-            .map(
-                elmt ->
-                    new SimpleEntry<>(
-                        elmt.getKey(),
-                        elmt
-                                .getValue()
-                                .get(COLLECTION_NAME)
-                                .toString()
-                                .equals(MetadataCollections.UNIT.getCollection().getNamespace().getFullName())
-                            ? getDocumentFromMongo(Unit.class, elmt)
-                            : getDocumentFromMongo(ObjectGroup.class, elmt)
-                    )
-            )
-            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
-    }
-
-    private MetadataDocument<?> getDocumentFromMongo(
-        Class<? extends MetadataDocument> clasz,
-        Entry<String, Document> elmt
-    ) {
+    private Map<String, MetadataDocument<?>> getDocumentsFromMongo(List<String> unitIds, List<String> objectGroupIds)
+        throws DatabaseException {
+        Map<String, MetadataDocument<?>> documentsFromMongo = new HashMap<>();
         try {
-            if (clasz == Unit.class) {
-                Document unitDoc = mongoRepositoryForUnits.getByID(elmt.getKey(), null).orElse(new Document());
-                if (!unitDoc.isEmpty()) {
-                    return (Unit) unitDoc;
-                } else {
-                    return new Unit();
+            if (!unitIds.isEmpty()) {
+                for (Document unitDoc : mongoRepositoryForUnits.findDocuments(unitIds, null)) {
+                    documentsFromMongo.put(unitDoc.getString(FIELD_ID), (Unit) unitDoc);
                 }
-            } else {
-                Document gotDoc = mongoRepositoryForGot.getByID(elmt.getKey(), null).orElse(new Document());
-                if (!gotDoc.isEmpty()) {
-                    return (ObjectGroup) gotDoc;
-                } else {
-                    return new ObjectGroup();
+            }
+            if (!objectGroupIds.isEmpty()) {
+                for (Document gotDoc : mongoRepositoryForGot.findDocuments(objectGroupIds, null)) {
+                    documentsFromMongo.put(gotDoc.getString(FIELD_ID), (ObjectGroup) gotDoc);
                 }
             }
-        } catch (DatabaseException e) {
-            LOGGER.info("{} does not exist in Mongo", elmt.getKey());
-            return null;
+        } catch (MongoException e) {
+            throw new DatabaseException("DatabaseException while getting documents from Mongo", e);
         }
+        return documentsFromMongo;
     }
 
     private void startLogbookForAudit(LogbookOperationsClient logbookClient)
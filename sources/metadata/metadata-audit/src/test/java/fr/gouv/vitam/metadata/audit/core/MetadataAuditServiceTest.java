@@ -0,0 +1,284 @@
+/*
+ * Copyright French Prime minister Office/SGMAP/DINSIC/Vitam Program (2015-2022)
+ *
+ * contact.vitam@culture.gouv.fr
+ *
+ * This software is a computer program whose purpose is to implement a digital archiving back-office system managing
+ * high volumetry securely and efficiently.
+ *
+ * This software is governed by the CeCILL 2.1 license under French law and abiding by the rules of distribution of free
+ * software. You can use, modify and/ or redistribute the software under the terms of the CeCILL 2.1 license as
+ * circulated by CEA, CNRS and INRIA at the following URL "https://cecill.info".
+ *
+ * As a counterpart to the access to the source code and rights to copy, modify and redistribute granted by the license,
+ * users are provided only with a limited warranty and the software's author, the holder of the economic rights, and the
+ * successive licensors have only limited liability.
+ *
+ * In this respect, the user's attention is drawn to the risks associated with loading, using, modifying and/or
+ * developing or reproducing the software by the user in light of its specific status of free software, that may mean
+ * that it is complicated to manipulate, and that also therefore means that it is reserved for developers and
+ * experienced professionals having in-depth computer knowledge. Users are therefore encouraged to load and test the
+ * software's suitability as regards their requirements in conditions enabling the security of their systems and/or data
+ * to be ensured and, more generally, to use and operate it in the same conditions as regards security.
+ *
+ * The fact that you are presently reading this means that you have had knowledge of the CeCILL 2.1 license and that you
+ * accept its terms.
+ */
+package fr.gouv.vitam.metadata.audit.core;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.mongodb.MongoException;
+import com.mongodb.MongoNamespace;
+import com.mongodb.client.FindIterable;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.MongoDatabase;
+import fr.gouv.vitam.common.database.api.VitamRepositoryProvider;
+import fr.gouv.vitam.common.database.api.impl.VitamElasticsearchRepository;
+import fr.gouv.vitam.common.database.api.impl.VitamMongoRepository;
+import fr.gouv.vitam.common.database.server.OplogReader;
+import fr.gouv.vitam.common.guid.GUIDFactory;
+import fr.gouv.vitam.common.model.RequestResponseOK;
+import fr.gouv.vitam.common.server.application.configuration.MongoDbNode;
+import fr.gouv.vitam.common.server.application.configuration.MongoDbShard;
+import fr.gouv.vitam.common.server.application.configuration.MongoDbShardConf;
+import fr.gouv.vitam.common.thread.RunWithCustomExecutor;
+import fr.gouv.vitam.common.thread.RunWithCustomExecutorRule;
+import fr.gouv.vitam.common.thread.VitamThreadPoolExecutor;
+import fr.gouv.vitam.common.thread.VitamThreadUtils;
+import fr.gouv.vitam.logbook.operations.client.LogbookOperationsClient;
+import fr.gouv.vitam.logbook.operations.client.LogbookOperationsClientFactory;
+import fr.gouv.vitam.metadata.core.config.ElasticsearchMetadataIndexManager;
+import fr.gouv.vitam.metadata.core.database.collections.MetadataCollections;
+import fr.gouv.vitam.metadata.core.database.collections.ObjectGroup;
+import fr.gouv.vitam.metadata.core.database.collections.Unit;
+import fr.gouv.vitam.workspace.client.WorkspaceClient;
+import fr.gouv.vitam.workspace.client.WorkspaceClientFactory;
+import org.bson.BsonTimestamp;
+import org.bson.Document;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+import javax.ws.rs.core.Response;
+import java.io.File;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class MetadataAuditServiceTest {
+
+    private static final String AUDIT_CONTAINER_NAME = "dataConsistencyAuditContainer";
+    private static final String UNIT_NAMESPACE = "metadata.Unit";
+    private static final String OBJECTGROUP_NAMESPACE = "metadata.ObjectGroup";
+    private static final String UNIT_ID = "aeaqaaaaaah2skkzabq7waluf4i33eiaaaaq";
+    private static final String OBJECTGROUP_ID = "aebaaaaaaah2skkzabq7waluf4i3z7aaaaaq";
+    private static final int TENANT_ID = 0;
+
+    @Rule
+    public MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Rule
+    public RunWithCustomExecutorRule runInThread = new RunWithCustomExecutorRule(
+        VitamThreadPoolExecutor.getDefaultExecutor()
+    );
+
+    @Mock
+    private WorkspaceClientFactory workspaceClientFactory;
+
+    @Mock
+    private WorkspaceClient workspaceClient;
+
+    @Mock
+    private LogbookOperationsClientFactory logbookOperationsClientFactory;
+
+    @Mock
+    private LogbookOperationsClient logbookOperationsClient;
+
+    @Mock
+    private VitamRepositoryProvider vitamRepositoryProvider;
+
+    @Mock
+    private ElasticsearchMetadataIndexManager indexManager;
+
+    @Mock
+    private VitamMongoRepository mongoUnitRepository;
+
+    @Mock
+    private VitamMongoRepository mongoObjectGroupRepository;
+
+    @Mock
+    private VitamElasticsearchRepository esUnitRepository;
+
+    @Mock
+    private VitamElasticsearchRepository esObjectGroupRepository;
+
+    @Mock
+    private OplogReader oplogReader;
+
+    private MetadataAuditService metadataAuditService;
+
+    @BeforeClass
+    public static void setUpBeforeClass() {
+        MongoDatabase mongoDatabase = mock(MongoDatabase.class);
+        MongoCollection<Unit> unitCollection = mock(MongoCollection.class);
+        MongoCollection<ObjectGroup> objectGroupCollection = mock(MongoCollection.class);
+        when(unitCollection.getNamespace()).thenReturn(new MongoNamespace(UNIT_NAMESPACE));
+        when(objectGroupCollection.getNamespace()).thenReturn(new MongoNamespace(OBJECTGROUP_NAMESPACE));
+        doReturn(unitCollection).when(mongoDatabase).getCollection(anyString(), eq(Unit.class));
+        doReturn(objectGroupCollection).when(mongoDatabase).getCollection(anyString(), eq(ObjectGroup.class));
+        MetadataCollections.UNIT.getVitamCollection().initialize(mongoDatabase, false);
+        MetadataCollections.OBJECTGROUP.getVitamCollection().initialize(mongoDatabase, false);
+    }
+
+    @Before
+    public void setUp() throws Exception {
+        when(workspaceClientFactory.getClient()).thenReturn(workspaceClient);
+        when(logbookOperationsClientFactory.getClient()).thenReturn(logbookOperationsClient);
+        when(logbookOperationsClient.getLastOperationByType(anyString())).thenReturn(
+            new RequestResponseOK<JsonNode>()
+        );
+        when(vitamRepositoryProvider.getVitamMongoRepository(MetadataCollections.UNIT.getVitamCollection())).thenReturn(
+            mongoUnitRepository
+        );
+        when(
+            vitamRepositoryProvider.getVitamMongoRepository(MetadataCollections.OBJECTGROUP.getVitamCollection())
+        ).thenReturn(mongoObjectGroupRepository);
+        when(
+            vitamRepositoryProvider.getVitamESRepository(eq(MetadataCollections.UNIT.getVitamCollection()), any())
+        ).thenReturn(esUnitRepository);
+        when(
+            vitamRepositoryProvider.getVitamESRepository(
+                eq(MetadataCollections.OBJECTGROUP.getVitamCollection()),
+                any()
+            )
+        ).thenReturn(esObjectGroupRepository);
+
+        MongoDbShardConf mongoDbShardConf = new MongoDbShardConf(
+            "user",
+            "password",
+            List.of(new MongoDbShard("shard0", List.of(new MongoDbNode("localhost", 27017))))
+        );
+        metadataAuditService = spy(
+            new MetadataAuditService(
+                workspaceClientFactory,
+                logbookOperationsClientFactory,
+                vitamRepositoryProvider,
+                indexManager,
+                true,
+                100,
+                mongoDbShardConf,
+                false,
+                10,
+                1
+            )
+        );
+        doReturn(oplogReader).when(metadataAuditService).createOplogReaderInstance(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @RunWithCustomExecutor
+    public void givenUnitMissingInEsWhenAuditThenUnitReindexed() throws Exception {
+        // Given
+        VitamThreadUtils.getVitamSession().setRequestId(GUIDFactory.newRequestIdGUID(TENANT_ID));
+        givenTouchedDocumentInOplog(UNIT_ID, UNIT_NAMESPACE);
+        Unit unit = new Unit(new Document("_id", UNIT_ID).append("_tenant", TENANT_ID));
+        when(mongoUnitRepository.findDocuments(List.of(UNIT_ID), null)).thenReturn(findIterableOf(unit));
+        when(esUnitRepository.getDocumentsByIds(List.of(UNIT_ID)))
+            .thenReturn(Collections.emptyMap())
+            .thenReturn(Map.of(UNIT_ID, new Document("_id", UNIT_ID).append("_tenant", TENANT_ID)));
+
+        // When
+        Response response = metadataAuditService.auditDataConsistencyMongoEs();
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(Response.Status.OK.getStatusCode());
+        ArgumentCaptor<List<Document>> savedDocuments = ArgumentCaptor.forClass(List.class);
+        verify(esUnitRepository).save(savedDocuments.capture());
+        assertThat(savedDocuments.getValue()).containsExactly(unit);
+        verify(esUnitRepository, never()).delete(any(), anyInt());
+        // Initial shards config, then the shard timestamp after the audit
+        verify(workspaceClient, times(2)).putObject(eq(AUDIT_CONTAINER_NAME), anyString(), any(File.class));
+    }
+
+    @Test
+    @RunWithCustomExecutor
+    public void givenObjectGroupMissingInMongoWhenAuditThenObjectGroupDeletedFromEs() throws Exception {
+        // Given
+        VitamThreadUtils.getVitamSession().setRequestId(GUIDFactory.newRequestIdGUID(TENANT_ID));
+        givenTouchedDocumentInOplog(OBJECTGROUP_ID, OBJECTGROUP_NAMESPACE);
+        when(mongoObjectGroupRepository.findDocuments(List.of(OBJECTGROUP_ID), null)).thenReturn(findIterableOf());
+        when(esObjectGroupRepository.getDocumentsByIds(List.of(OBJECTGROUP_ID)))
+            .thenReturn(Map.of(OBJECTGROUP_ID, new Document("_id", OBJECTGROUP_ID).append("_tenant", TENANT_ID)))
+            .thenReturn(Collections.emptyMap());
+
+        // When
+        Response response = metadataAuditService.auditDataConsistencyMongoEs();
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(Response.Status.OK.getStatusCode());
+        verify(esObjectGroupRepository).delete(List.of(OBJECTGROUP_ID), TENANT_ID);
+        verify(workspaceClient, times(2)).putObject(eq(AUDIT_CONTAINER_NAME), anyString(), any(File.class));
+    }
+
+    @Test
+    @RunWithCustomExecutor
+    public void givenBatchFailureWhenAuditThenShardTimestampsNotStored() throws Exception {
+        // Given
+        VitamThreadUtils.getVitamSession().setRequestId(GUIDFactory.newRequestIdGUID(TENANT_ID));
+        givenTouchedDocumentInOplog(UNIT_ID, UNIT_NAMESPACE);
+        when(mongoUnitRepository.findDocuments(List.of(UNIT_ID), null)).thenThrow(new MongoException("prb"));
+
+        // When
+        Response response = metadataAuditService.auditDataConsistencyMongoEs();
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(Response.Status.BAD_REQUEST.getStatusCode());
+        verify(esUnitRepository, never()).save(any());
+        verify(esUnitRepository, never()).delete(any(), anyInt());
+        // Initial shards config only
+        verify(workspaceClient, times(1)).putObject(eq(AUDIT_CONTAINER_NAME), anyString(), any(File.class));
+    }
+
+    private void givenTouchedDocumentInOplog(String documentId, String namespace) {
+        doAnswer(args -> {
+            Predicate<Map<String, String>> batchConsumer = args.getArgument(3);
+            batchConsumer.test(Map.of(documentId, namespace));
+            return new BsonTimestamp(1601480262, 1);
+        })
+            .when(oplogReader)
+            .readTouchedDocumentIdsFromOplogByShardAndCollections(any(), any(), anyInt(), any());
+    }
+
+    @SafeVarargs
+    private static <T extends Document> FindIterable<Document> findIterableOf(T... documents) {
+        Iterator<T> iterator = List.of(documents).iterator();
+        MongoCursor<Document> cursor = mock(MongoCursor.class);
+        when(cursor.hasNext()).thenAnswer(args -> iterator.hasNext());
+        when(cursor.next()).thenAnswer(args -> iterator.next());
+        FindIterable<Document> findIterable = mock(FindIterable.class);
+        when(findIterable.iterator()).thenReturn(cursor);
+        return findIterable;
+    }
+}
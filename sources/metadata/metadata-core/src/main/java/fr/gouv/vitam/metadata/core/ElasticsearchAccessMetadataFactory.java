@@ -32,6 +32,9 @@ import fr.gouv.vitam.metadata.api.exception.MetaDataException;
 import fr.gouv.vitam.metadata.core.config.ElasticsearchMetadataIndexManager;
 import fr.gouv.vitam.metadata.core.config.MetaDataConfiguration;
 import fr.gouv.vitam.metadata.core.database.collections.ElasticsearchAccessMetadata;
+import fr.gouv.vitam.metadata.core.database.collections.MetadataCollections;
+
+import java.util.Map;
 
 /**
  * ElasticsearchAccess Factory
@@ -54,7 +57,13 @@ public class ElasticsearchAccessMetadataFactory {
             return new ElasticsearchAccessMetadata(
                 configuration.getClusterName(),
                 configuration.getElasticsearchNodes(),
-                elasticsearchMetadataIndexManager
+                elasticsearchMetadataIndexManager,
+                Map.of(
+                    MetadataCollections.UNIT,
+                    configuration.getUnitIndexationMode(),
+                    MetadataCollections.OBJECTGROUP,
+                    configuration.getObjectGroupIndexationMode()
+                )
             );
         } catch (final VitamException e) {
             throw new MetaDataException(e);
@@ -30,11 +30,13 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.Iterables;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.model.Filters;
 import com.mongodb.client.model.UpdateOptions;
 import com.mongodb.client.model.Updates;
 import fr.gouv.vitam.common.LocalDateUtil;
+import fr.gouv.vitam.common.VitamConfiguration;
 import fr.gouv.vitam.common.client.OntologyLoader;
 import fr.gouv.vitam.common.database.builder.facet.Facet;
 import fr.gouv.vitam.common.database.builder.facet.FacetHelper;
@@ -92,6 +94,8 @@ import fr.gouv.vitam.metadata.api.exception.MetaDataException;
 import fr.gouv.vitam.metadata.api.exception.MetaDataExecutionException;
 import fr.gouv.vitam.metadata.api.exception.MetaDataNotFoundException;
 import fr.gouv.vitam.metadata.api.model.ObjectGroupPerOriginatingAgency;
+import fr.gouv.vitam.metadata.core.accession.AccessionRegisterSymbolicCounterService;
+import fr.gouv.vitam.metadata.core.accession.AccessionRegisterSymbolicDeltas;
 import fr.gouv.vitam.metadata.core.config.ElasticsearchMetadataIndexManager;
 import fr.gouv.vitam.metadata.core.database.collections.DbRequest;
 import fr.gouv.vitam.metadata.core.database.collections.MetadataCollections;
@@ -100,6 +104,7 @@ import fr.gouv.vitam.metadata.core.database.collections.MetadataSnapshot;
 import fr.gouv.vitam.metadata.core.database.collections.MongoDbAccessMetadataImpl;
 import fr.gouv.vitam.metadata.core.database.collections.MongoDbVarNameAdapter;
 import fr.gouv.vitam.metadata.core.database.collections.Result;
+import fr.gouv.vitam.metadata.core.model.BulkUpdatedDocuments;
 import fr.gouv.vitam.metadata.core.model.MetadataResult;
 import fr.gouv.vitam.metadata.core.model.UpdateUnit;
 import fr.gouv.vitam.metadata.core.model.UpdateUnitKey;
@@ -185,6 +190,7 @@ public class MetaDataImpl {
     private final OntologyLoader unitOntologyLoader;
     private final OntologyLoader objectGroupOntologyLoader;
     private final ElasticsearchMetadataIndexManager indexManager;
+    private final AccessionRegisterSymbolicCounterService accessionRegisterSymbolicCounterService;
 
     public MetaDataImpl(
         MongoDbAccessMetadataImpl mongoDbAccess,
@@ -200,7 +206,7 @@ public class MetaDataImpl {
             mongoDbAccess,
             AdminManagementClientFactory.getInstance(),
             IndexationHelper.getInstance(),
-            new DbRequest(),
+            new DbRequest(newAccessionRegisterSymbolicCounterService(mongoDbAccess)),
             ontologyCacheMaxEntries,
             ontologyCacheTimeoutInSeconds,
             archiveUnitProfileCacheMaxEntries,
@@ -229,6 +235,7 @@ public class MetaDataImpl {
         this.indexationHelper = indexationHelper;
         this.dbRequest = dbRequest;
         this.indexManager = indexManager;
+        this.accessionRegisterSymbolicCounterService = newAccessionRegisterSymbolicCounterService(mongoDbAccess);
 
         this.unitOntologyLoader = new CachedOntologyLoader(
             ontologyCacheMaxEntries,
@@ -297,6 +304,24 @@ public class MetaDataImpl {
         return mongoDbAccess;
     }
 
+    /**
+     * @return the counters of symbolic accession registers
+     */
+    public AccessionRegisterSymbolicCounterService getAccessionRegisterSymbolicCounterService() {
+        return accessionRegisterSymbolicCounterService;
+    }
+
+    private static AccessionRegisterSymbolicCounterService newAccessionRegisterSymbolicCounterService(
+        MongoDbAccessMetadataImpl mongoDbAccess
+    ) {
+        return new AccessionRegisterSymbolicCounterService(
+            () ->
+                mongoDbAccess
+                    .getMongoDatabase()
+                    .getCollection(AccessionRegisterSymbolicCounterService.COLLECTION_NAME)
+        );
+    }
+
     public void insertUnits(List<JsonNode> unitRequest)
         throws InvalidParseOperationException, MetaDataExecutionException, MetaDataNotFoundException {
         try {
@@ -418,15 +443,103 @@ public class MetaDataImpl {
         return new ArrayList<>();
     }
 
+    /**
+     * Computes the symbolic accession registers of a tenant.<br>
+     * When accessionRegisterSymbolicDeltaMode is enabled, registers are built from the counters maintained on metadata
+     * updates, and a full recount (aggregations over all units and object groups) is only done every
+     * accessionRegisterSymbolicFullRecountDelayInDays days to check and reset these counters.
+     *
+     * @param tenant the tenant
+     * @return the symbolic accession registers
+     * @throws MetaDataExecutionException
+     */
     public List<Document> createAccessionRegisterSymbolic(Integer tenant) throws MetaDataExecutionException {
+        String creationDate = LocalDateUtil.nowFormatted();
+
+        if (!accessionRegisterSymbolicCounterService.isEnabled()) {
+            // Counters are not maintained : force a full recount once delta mode is enabled again
+            accessionRegisterSymbolicCounterService.invalidate(tenant);
+            return createAccessionRegisterSymbolicWithFullRecount(creationDate, tenant);
+        }
+
+        if (accessionRegisterSymbolicCounterService.isFullRecountRequired(tenant)) {
+            // Snapshot taken before the recount, so that counters updated while it runs are not reset
+            Map<String, AccessionRegisterSymbolicDeltas.Counter> countersBeforeRecount =
+                accessionRegisterSymbolicCounterService.findCounters(tenant);
+            List<Document> accessionRegisterSymbolics = createAccessionRegisterSymbolicWithFullRecount(
+                creationDate,
+                tenant
+            );
+            accessionRegisterSymbolicCounterService.reset(
+                tenant,
+                countersBeforeRecount,
+                toCounters(accessionRegisterSymbolics)
+            );
+            return accessionRegisterSymbolics;
+        }
+
+        return createWithCounters(accessionRegisterSymbolicCounterService.findCounters(tenant), creationDate, tenant);
+    }
+
+    private List<Document> createAccessionRegisterSymbolicWithFullRecount(String creationDate, Integer tenant)
+        throws MetaDataExecutionException {
         Aggregations aUAccessionRegisterInfo = selectArchiveUnitAccessionRegisterInformation(tenant);
         Aggregations oGAccessionRegisterInfo = selectObjectGroupAccessionRegisterInformation(tenant);
 
-        String creationDate = LocalDateUtil.nowFormatted();
-
         return createWithInformations(aUAccessionRegisterInfo, oGAccessionRegisterInfo, creationDate, tenant);
     }
 
+    private List<Document> createWithCounters(
+        Map<String, AccessionRegisterSymbolicDeltas.Counter> counters,
+        String creationDate,
+        Integer tenant
+    ) {
+        List<Document> accessionRegisterSymbolics = new ArrayList<>();
+        for (Map.Entry<String, AccessionRegisterSymbolicDeltas.Counter> entry : counters.entrySet()) {
+            AccessionRegisterSymbolicDeltas.Counter counter = entry.getValue();
+            if (counter.getArchiveUnit() <= 0 && counter.getObjectGroup() <= 0) {
+                continue;
+            }
+            AccessionRegisterSymbolic accessionRegisterSymbolic = new AccessionRegisterSymbolic()
+                .setId(GUIDFactory.newAccessionRegisterSymbolicGUID(tenant).getId())
+                .setCreationDate(creationDate)
+                .setTenant(tenant)
+                .setOriginatingAgency(entry.getKey())
+                .setArchiveUnit(Math.max(counter.getArchiveUnit(), 0L));
+            if (counter.getObjectGroup() > 0) {
+                accessionRegisterSymbolic
+                    .setObjectGroup(counter.getObjectGroup())
+                    .setBinaryObject(counter.getBinaryObject())
+                    .setBinaryObjectSize(counter.getBinaryObjectSize());
+            } else {
+                accessionRegisterSymbolic.setObjectGroup(0).setBinaryObject(0L).setBinaryObjectSize(0D);
+            }
+            accessionRegisterSymbolics.add(accessionRegisterSymbolic);
+        }
+        return accessionRegisterSymbolics;
+    }
+
+    private Map<String, AccessionRegisterSymbolicDeltas.Counter> toCounters(List<Document> accessionRegisterSymbolics) {
+        Map<String, AccessionRegisterSymbolicDeltas.Counter> counters = new HashMap<>();
+        for (Document accessionRegisterSymbolic : accessionRegisterSymbolics) {
+            counters.put(
+                accessionRegisterSymbolic.getString(AccessionRegisterSymbolic.ORIGINATING_AGENCY),
+                new AccessionRegisterSymbolicDeltas.Counter(
+                    getNumber(accessionRegisterSymbolic, AccessionRegisterSymbolic.ARCHIVE_UNIT).longValue(),
+                    getNumber(accessionRegisterSymbolic, AccessionRegisterSymbolic.OBJECT_GROUP).longValue(),
+                    getNumber(accessionRegisterSymbolic, AccessionRegisterSymbolic.BINARY_OBJECT).longValue(),
+                    getNumber(accessionRegisterSymbolic, AccessionRegisterSymbolic.BINARY_OBJECTS_SIZE).doubleValue()
+                )
+            );
+        }
+        return counters;
+    }
+
+    private static Number getNumber(Document document, String key) {
+        Object value = document.get(key);
+        return value instanceof Number ? (Number) value : 0;
+    }
+
     private List<Document> createWithInformations(
         Aggregations archiveUnitAccessionRegisterInformation,
         Aggregations objectGroupAccessionRegisterInformation,
@@ -817,69 +930,79 @@ public class MetaDataImpl {
         final RequestMultiple request = updateRequest.getRequest();
         unitIds = request.getRoots();
 
-        List<UpdateUnit> updatedUnits = unitIds
-            .stream()
-            .map(unitId -> updateAndTransformUnit(updateRequest, unitId, forceUpdate))
-            .collect(Collectors.toList());
-
-        return new RequestResponseOK<UpdateUnit>(updateQuery).addAllResults(updatedUnits).setTotal(updatedUnits.size());
-    }
+        List<OntologyModel> ontologies = this.unitOntologyLoader.loadOntologies();
 
-    private UpdateUnit updateAndTransformUnit(UpdateParserMultiple updateRequest, String unitId, boolean forceUpdate) {
-        try {
-            UpdatedDocument updatedDocument = dbRequest.execUpdateRequest(
+        List<UpdateUnit> updatedUnits = new ArrayList<>();
+        for (List<String> unitIdsBatch : Iterables.partition(unitIds, VitamConfiguration.getBatchSize())) {
+            BulkUpdatedDocuments bulkUpdatedDocuments = dbRequest.execUpdateRequests(
                 updateRequest,
-                unitId,
+                unitIdsBatch,
                 MetadataCollections.UNIT,
                 this.unitOntologyValidator,
                 this.unitValidator,
-                this.unitOntologyLoader.loadOntologies(),
+                ontologies,
                 forceUpdate
             );
+            for (String unitId : unitIdsBatch) {
+                Exception error = bulkUpdatedDocuments.getError(unitId);
+                if (error != null) {
+                    updatedUnits.add(toUpdateUnitError(unitId, error));
+                } else {
+                    updatedUnits.add(toUpdateUnit(unitId, bulkUpdatedDocuments.getUpdatedDocument(unitId)));
+                }
+            }
+        }
 
-            String diffs = String.join(
-                "\n",
-                VitamDocument.getConcernedDiffLines(
-                    VitamDocument.getUnifiedDiff(
-                        JsonHandler.prettyPrint(updatedDocument.getBeforeUpdate()),
-                        JsonHandler.prettyPrint(updatedDocument.getAfterUpdate())
-                    )
+        return new RequestResponseOK<UpdateUnit>(updateQuery).addAllResults(updatedUnits).setTotal(updatedUnits.size());
+    }
+
+    private UpdateUnit toUpdateUnit(String unitId, UpdatedDocument updatedDocument) {
+        String diffs = String.join(
+            "\n",
+            VitamDocument.getConcernedDiffLines(
+                VitamDocument.getUnifiedDiff(
+                    JsonHandler.prettyPrint(updatedDocument.getBeforeUpdate()),
+                    JsonHandler.prettyPrint(updatedDocument.getAfterUpdate())
                 )
-            );
+            )
+        );
 
-            if (diffs.isEmpty()) {
-                if (!updatedDocument.isUpdated()) {
-                    LOGGER.info(String.format("No new data updates for unit update %s.", unitId));
-                    return new UpdateUnit(
-                        unitId,
-                        StatusCode.OK,
-                        UNIT_METADATA_NO_NEW_DATA,
-                        "Unit not updated.",
-                        "No diff, there are no new changes."
-                    );
-                } else {
-                    LOGGER.warn(String.format("UNKNOWN updates for unit update %s.", unitId));
-                    return new UpdateUnit(
-                        unitId,
-                        StatusCode.OK,
-                        UNIT_METADATA_NO_CHANGES,
-                        "Unit updated with UNKNOWN changes.",
-                        "UNKNOWN diff, there are some changes but they cannot be trace."
-                    );
-                }
+        if (diffs.isEmpty()) {
+            if (!updatedDocument.isUpdated()) {
+                LOGGER.info(String.format("No new data updates for unit update %s.", unitId));
+                return new UpdateUnit(
+                    unitId,
+                    StatusCode.OK,
+                    UNIT_METADATA_NO_NEW_DATA,
+                    "Unit not updated.",
+                    "No diff, there are no new changes."
+                );
+            } else {
+                LOGGER.warn(String.format("UNKNOWN updates for unit update %s.", unitId));
+                return new UpdateUnit(
+                    unitId,
+                    StatusCode.OK,
+                    UNIT_METADATA_NO_CHANGES,
+                    "Unit updated with UNKNOWN changes.",
+                    "UNKNOWN diff, there are some changes but they cannot be trace."
+                );
             }
+        }
 
-            return new UpdateUnit(unitId, StatusCode.OK, UNIT_METADATA_UPDATE, "Update unit OK.", diffs);
-        } catch (MetadataValidationException e) {
+        return new UpdateUnit(unitId, StatusCode.OK, UNIT_METADATA_UPDATE, "Update unit OK.", diffs);
+    }
+
+    private UpdateUnit toUpdateUnitError(String unitId, Exception e) {
+        if (e instanceof MetadataValidationException) {
             LOGGER.error("An error occurred during unit update " + unitId, e);
             return error(unitId, KO, CHECK_UNIT_SCHEMA, e.getMessage());
-        } catch (MetaDataNotFoundException e) {
+        }
+        if (e instanceof MetaDataNotFoundException) {
             LOGGER.error("Unit not found during unit update " + unitId, e);
             return error(unitId, KO, UNIT_UNKNOWN_OR_FORBIDDEN, e.getMessage());
-        } catch (Exception e) {
-            LOGGER.error("An error occurred during unit update " + unitId, e);
-            return error(unitId, FATAL, UNIT_METADATA_UPDATE, e.getMessage());
         }
+        LOGGER.error("An error occurred during unit update " + unitId, e);
+        return error(unitId, FATAL, UNIT_METADATA_UPDATE, e.getMessage());
     }
 
     public RequestResponse<UpdateUnit> updateUnitsRules(
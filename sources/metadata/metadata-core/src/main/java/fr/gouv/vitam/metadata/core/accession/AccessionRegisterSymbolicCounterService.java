@@ -0,0 +1,325 @@
+/*
+ * Copyright French Prime minister Office/SGMAP/DINSIC/Vitam Program (2015-2022)
+ *
+ * contact.vitam@culture.gouv.fr
+ *
+ * This software is a computer program whose purpose is to implement a digital archiving back-office system managing
+ * high volumetry securely and efficiently.
+ *
+ * This software is governed by the CeCILL 2.1 license under French law and abiding by the rules of distribution of free
+ * software. You can use, modify and/ or redistribute the software under the terms of the CeCILL 2.1 license as
+ * circulated by CEA, CNRS and INRIA at the following URL "https://cecill.info".
+ *
+ * As a counterpart to the access to the source code and rights to copy, modify and redistribute granted by the license,
+ * users are provided only with a limited warranty and the software's author, the holder of the economic rights, and the
+ * successive licensors have only limited liability.
+ *
+ * In this respect, the user's attention is drawn to the risks associated with loading, using, modifying and/or
+ * developing or reproducing the software by the user in light of its specific status of free software, that may mean
+ * that it is complicated to manipulate, and that also therefore means that it is reserved for developers and
+ * experienced professionals having in-depth computer knowledge. Users are therefore encouraged to load and test the
+ * software's suitability as regards their requirements in conditions enabling the security of their systems and/or data
+ * to be ensured and, more generally, to use and operate it in the same conditions as regards security.
+ *
+ * The fact that you are presently reading this means that you have had knowledge of the CeCILL 2.1 license and that you
+ * accept its terms.
+ */
+package fr.gouv.vitam.metadata.core.accession;
+
+import com.mongodb.ErrorCategory;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.DeleteOneModel;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.ReplaceOneModel;
+import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.UpdateOptions;
+import com.mongodb.client.model.Updates;
+import com.mongodb.client.model.WriteModel;
+import fr.gouv.vitam.common.LocalDateUtil;
+import fr.gouv.vitam.common.VitamConfiguration;
+import fr.gouv.vitam.common.logging.VitamLogger;
+import fr.gouv.vitam.common.logging.VitamLoggerFactory;
+import fr.gouv.vitam.metadata.core.accession.AccessionRegisterSymbolicDeltas.Counter;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Maintains, per tenant and originating agency, the counters of symbolic accession registers.
+ *
+ * Counters are initialized by a full recount of units and object groups, then updated with the deltas emitted on
+ * metadata updates. A tenant is flagged for a full recount when no recount was done within
+ * accessionRegisterSymbolicFullRecountDelayInDays.
+ */
+public class AccessionRegisterSymbolicCounterService {
+
+    private static final VitamLogger LOGGER = VitamLoggerFactory.getInstance(
+        AccessionRegisterSymbolicCounterService.class
+    );
+
+    public static final String COLLECTION_NAME = "AccessionRegisterSymbolicCounter";
+
+    private static final String ID = "_id";
+    private static final String TENANT = "_tenant";
+    private static final String ORIGINATING_AGENCY = "OriginatingAgency";
+    private static final String ARCHIVE_UNIT = "ArchiveUnit";
+    private static final String OBJECT_GROUP = "ObjectGroup";
+    private static final String BINARY_OBJECT = "BinaryObject";
+    private static final String BINARY_OBJECT_SIZE = "BinaryObjectSize";
+    private static final String LAST_FULL_RECOUNT_DATE = "LastFullRecountDate";
+
+    private final Supplier<MongoCollection<Document>> collectionSupplier;
+
+    public AccessionRegisterSymbolicCounterService(Supplier<MongoCollection<Document>> collectionSupplier) {
+        this.collectionSupplier = collectionSupplier;
+    }
+
+    public boolean isEnabled() {
+        return VitamConfiguration.isAccessionRegisterSymbolicDeltaMode();
+    }
+
+    /**
+     * Applies deltas to the counters of the tenant. Does nothing when delta mode is disabled.
+     */
+    public void apply(Integer tenant, AccessionRegisterSymbolicDeltas deltas) {
+        if (!isEnabled() || deltas.isEmpty()) {
+            return;
+        }
+
+        List<WriteModel<Document>> updates = new ArrayList<>();
+        for (Map.Entry<String, Counter> entry : deltas.getCounters().entrySet()) {
+            Counter counter = entry.getValue();
+            if (counter.isEmpty()) {
+                continue;
+            }
+            updates.add(
+                new UpdateOneModel<>(
+                    Filters.eq(ID, counterId(tenant, entry.getKey())),
+                    Updates.combine(
+                        Updates.setOnInsert(TENANT, tenant),
+                        Updates.setOnInsert(ORIGINATING_AGENCY, entry.getKey()),
+                        Updates.inc(ARCHIVE_UNIT, counter.getArchiveUnit()),
+                        Updates.inc(OBJECT_GROUP, counter.getObjectGroup()),
+                        Updates.inc(BINARY_OBJECT, counter.getBinaryObject()),
+                        Updates.inc(BINARY_OBJECT_SIZE, counter.getBinaryObjectSize())
+                    ),
+                    new UpdateOptions().upsert(true)
+                )
+            );
+        }
+        collectionSupplier.get().bulkWrite(updates, new BulkWriteOptions().ordered(false));
+    }
+
+    /**
+     * @return true when counters of the tenant were never initialized, or when the last full recount is older than
+     * accessionRegisterSymbolicFullRecountDelayInDays
+     */
+    public boolean isFullRecountRequired(Integer tenant) {
+        Document status = collectionSupplier.get().find(Filters.eq(ID, statusId(tenant))).first();
+        if (status == null || status.getString(LAST_FULL_RECOUNT_DATE) == null) {
+            return true;
+        }
+        LocalDateTime lastFullRecountDate = LocalDateUtil.parseMongoFormattedDate(
+            status.getString(LAST_FULL_RECOUNT_DATE)
+        );
+        return lastFullRecountDate
+            .plusDays(VitamConfiguration.getAccessionRegisterSymbolicFullRecountDelayInDays())
+            .isBefore(LocalDateUtil.now());
+    }
+
+    /**
+     * @return the counters of the tenant, by originating agency
+     */
+    public Map<String, Counter> findCounters(Integer tenant) {
+        Map<String, Counter> counters = new HashMap<>();
+        for (Document document : collectionSupplier
+            .get()
+            .find(Filters.and(Filters.eq(TENANT, tenant), Filters.exists(ORIGINATING_AGENCY)))) {
+            counters.put(
+                document.getString(ORIGINATING_AGENCY),
+                new Counter(
+                    getLong(document, ARCHIVE_UNIT),
+                    getLong(document, OBJECT_GROUP),
+                    getLong(document, BINARY_OBJECT),
+                    getDouble(document, BINARY_OBJECT_SIZE)
+                )
+            );
+        }
+        return counters;
+    }
+
+    /**
+     * Replaces the counters of the tenant by the result of a full recount, logging any drift from the previous
+     * counters.<br>
+     * Deltas applied while the recount runs may or may not be seen by it. So each counter is only replaced (or deleted
+     * when missing from the recount) if it still equals the snapshot taken before the recount. Concurrently updated
+     * counters are kept as is, and the full recount date is left unchanged so that the recount is retried on next
+     * computation.
+     *
+     * @param countersBeforeRecount counters of the tenant read before the recount
+     * @param recount counters of the tenant computed by the full recount
+     * @return true if every counter was reset
+     */
+    public boolean reset(
+        Integer tenant,
+        Map<String, Counter> countersBeforeRecount,
+        Map<String, Counter> recount
+    ) {
+        MongoCollection<Document> collection = collectionSupplier.get();
+        if (collection.countDocuments(statusFilter(tenant)) > 0) {
+            logDrift(tenant, countersBeforeRecount, recount);
+        }
+
+        List<WriteModel<Document>> writes = new ArrayList<>();
+        for (Map.Entry<String, Counter> entry : recount.entrySet()) {
+            Counter counter = entry.getValue();
+            Document document = new Document(ID, counterId(tenant, entry.getKey()))
+                .append(TENANT, tenant)
+                .append(ORIGINATING_AGENCY, entry.getKey())
+                .append(ARCHIVE_UNIT, counter.getArchiveUnit())
+                .append(OBJECT_GROUP, counter.getObjectGroup())
+                .append(BINARY_OBJECT, counter.getBinaryObject())
+                .append(BINARY_OBJECT_SIZE, counter.getBinaryObjectSize());
+            Counter previous = countersBeforeRecount.get(entry.getKey());
+            if (previous != null) {
+                writes.add(new ReplaceOneModel<>(unchangedCounterFilter(tenant, entry.getKey(), previous), document));
+            } else {
+                // A counter created concurrently makes the upsert fail with a duplicate key error
+                writes.add(
+                    new ReplaceOneModel<>(
+                        Filters.and(
+                            Filters.eq(ID, counterId(tenant, entry.getKey())),
+                            Filters.exists(ORIGINATING_AGENCY, false)
+                        ),
+                        document,
+                        new ReplaceOptions().upsert(true)
+                    )
+                );
+            }
+        }
+        for (Map.Entry<String, Counter> entry : countersBeforeRecount.entrySet()) {
+            if (!recount.containsKey(entry.getKey())) {
+                writes.add(new DeleteOneModel<>(unchangedCounterFilter(tenant, entry.getKey(), entry.getValue())));
+            }
+        }
+
+        int resetCount = writes.isEmpty() ? 0 : bulkWriteIgnoringDuplicates(collection, writes);
+        if (resetCount < writes.size()) {
+            LOGGER.warn(
+                "Symbolic accession register counters of tenant {} updated during full recount : {} / {} reset, " +
+                "full recount will be retried",
+                tenant,
+                resetCount,
+                writes.size()
+            );
+            return false;
+        }
+
+        collection.replaceOne(
+            statusFilter(tenant),
+            new Document(ID, statusId(tenant))
+                .append(TENANT, tenant)
+                .append(LAST_FULL_RECOUNT_DATE, LocalDateUtil.nowFormatted()),
+            new ReplaceOptions().upsert(true)
+        );
+        return true;
+    }
+
+    /**
+     * @return the number of matched writes
+     */
+    private static int bulkWriteIgnoringDuplicates(
+        MongoCollection<Document> collection,
+        List<WriteModel<Document>> writes
+    ) {
+        BulkWriteResult result;
+        try {
+            result = collection.bulkWrite(writes, new BulkWriteOptions().ordered(false));
+        } catch (MongoBulkWriteException e) {
+            for (BulkWriteError writeError : e.getWriteErrors()) {
+                if (ErrorCategory.fromErrorCode(writeError.getCode()) != ErrorCategory.DUPLICATE_KEY) {
+                    throw e;
+                }
+            }
+            result = e.getWriteResult();
+        }
+        return result.getMatchedCount() + result.getDeletedCount() + result.getUpserts().size();
+    }
+
+    private static Bson unchangedCounterFilter(Integer tenant, String originatingAgency, Counter counter) {
+        return Filters.and(
+            Filters.eq(ID, counterId(tenant, originatingAgency)),
+            Filters.eq(ARCHIVE_UNIT, counter.getArchiveUnit()),
+            Filters.eq(OBJECT_GROUP, counter.getObjectGroup()),
+            Filters.eq(BINARY_OBJECT, counter.getBinaryObject()),
+            Filters.eq(BINARY_OBJECT_SIZE, counter.getBinaryObjectSize())
+        );
+    }
+
+    /**
+     * Forgets the counters status of the tenant, so that a full recount is done once delta mode is (re)enabled
+     */
+    public void invalidate(Integer tenant) {
+        collectionSupplier.get().deleteOne(statusFilter(tenant));
+    }
+
+    private void logDrift(Integer tenant, Map<String, Counter> counters, Map<String, Counter> recount) {
+        Map<String, Counter> all = new HashMap<>(counters);
+        recount.forEach(all::putIfAbsent);
+        for (String originatingAgency : all.keySet()) {
+            Counter counter = counters.getOrDefault(originatingAgency, new Counter());
+            Counter expected = recount.getOrDefault(originatingAgency, new Counter());
+            if (
+                counter.getArchiveUnit() != expected.getArchiveUnit() ||
+                counter.getObjectGroup() != expected.getObjectGroup() ||
+                counter.getBinaryObject() != expected.getBinaryObject()
+            ) {
+                LOGGER.warn(
+                    "[Consistency WARN] Symbolic accession register counters of {} (tenant {}) drifted : " +
+                    "archive units {} / {}, object groups {} / {}, binary objects {} / {}",
+                    originatingAgency,
+                    tenant,
+                    counter.getArchiveUnit(),
+                    expected.getArchiveUnit(),
+                    counter.getObjectGroup(),
+                    expected.getObjectGroup(),
+                    counter.getBinaryObject(),
+                    expected.getBinaryObject()
+                );
+            }
+        }
+    }
+
+    private static Bson statusFilter(Integer tenant) {
+        return Filters.eq(ID, statusId(tenant));
+    }
+
+    private static String statusId(Integer tenant) {
+        return String.valueOf(tenant);
+    }
+
+    private static String counterId(Integer tenant, String originatingAgency) {
+        return tenant + "_" + originatingAgency;
+    }
+
+    private static long getLong(Document document, String key) {
+        Object value = document.get(key);
+        return value instanceof Number ? ((Number) value).longValue() : 0L;
+    }
+
+    private static double getDouble(Document document, String key) {
+        Object value = document.get(key);
+        return value instanceof Number ? ((Number) value).doubleValue() : 0D;
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright French Prime minister Office/SGMAP/DINSIC/Vitam Program (2015-2022)
+ *
+ * contact.vitam@culture.gouv.fr
+ *
+ * This software is a computer program whose purpose is to implement a digital archiving back-office system managing
+ * high volumetry securely and efficiently.
+ *
+ * This software is governed by the CeCILL 2.1 license under French law and abiding by the rules of distribution of free
+ * software. You can use, modify and/ or redistribute the software under the terms of the CeCILL 2.1 license as
+ * circulated by CEA, CNRS and INRIA at the following URL "https://cecill.info".
+ *
+ * As a counterpart to the access to the source code and rights to copy, modify and redistribute granted by the license,
+ * users are provided only with a limited warranty and the software's author, the holder of the economic rights, and the
+ * successive licensors have only limited liability.
+ *
+ * In this respect, the user's attention is drawn to the risks associated with loading, using, modifying and/or
+ * developing or reproducing the software by the user in light of its specific status of free software, that may mean
+ * that it is complicated to manipulate, and that also therefore means that it is reserved for developers and
+ * experienced professionals having in-depth computer knowledge. Users are therefore encouraged to load and test the
+ * software's suitability as regards their requirements in conditions enabling the security of their systems and/or data
+ * to be ensured and, more generally, to use and operate it in the same conditions as regards security.
+ *
+ * The fact that you are presently reading this means that you have had knowledge of the CeCILL 2.1 license and that you
+ * accept its terms.
+ */
+package fr.gouv.vitam.metadata.core.accession;
+
+import fr.gouv.vitam.metadata.core.database.collections.MetadataDocument;
+import org.apache.commons.collections4.CollectionUtils;
+import org.bson.Document;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Per originating agency deltas of symbolic accession registers, accumulated while units and object groups are
+ * inserted, attached / detached or deleted.
+ *
+ * A unit (resp. object group) is accounted in the symbolic register of every originating agency of its _sps but its
+ * own _sp, so only changes of this set are tracked.
+ */
+public class AccessionRegisterSymbolicDeltas {
+
+    private static final String VERSIONS = "versions";
+    private static final String SIZE = "Size";
+
+    private final Map<String, Counter> counters = new HashMap<>();
+
+    /**
+     * Accounts a unit whose originating agencies changed from previousSps to currentSps (empty on insert / delete)
+     */
+    public void addUnit(String originatingAgency, Collection<String> previousSps, Collection<String> currentSps) {
+        forEachChange(originatingAgency, previousSps, currentSps, (counter, sign) -> counter.archiveUnit += sign);
+    }
+
+    /**
+     * Accounts an object group whose originating agencies changed from previousSps to currentSps (empty on
+     * insert / delete)
+     */
+    public void addObjectGroup(
+        String originatingAgency,
+        Collection<String> previousSps,
+        Collection<String> currentSps,
+        long binaryObject,
+        double binaryObjectSize
+    ) {
+        forEachChange(
+            originatingAgency,
+            previousSps,
+            currentSps,
+            (counter, sign) -> {
+                counter.objectGroup += sign;
+                counter.binaryObject += sign * binaryObject;
+                counter.binaryObjectSize += sign * binaryObjectSize;
+            }
+        );
+    }
+
+    /**
+     * Accounts an object group document, loaded with its _sp, and its _qualifiers.versions sizes
+     */
+    public void addObjectGroup(Document objectGroup, Collection<String> previousSps, Collection<String> currentSps) {
+        long binaryObject = 0L;
+        double binaryObjectSize = 0D;
+        for (Document qualifier : getDocuments(objectGroup, MetadataDocument.QUALIFIERS)) {
+            for (Document version : getDocuments(qualifier, VERSIONS)) {
+                binaryObject++;
+                Object size = version.get(SIZE);
+                if (size instanceof Number) {
+                    binaryObjectSize += ((Number) size).doubleValue();
+                }
+            }
+        }
+        addObjectGroup(
+            objectGroup.getString(MetadataDocument.ORIGINATING_AGENCY),
+            previousSps,
+            currentSps,
+            binaryObject,
+            binaryObjectSize
+        );
+    }
+
+    public boolean isEmpty() {
+        return counters.values().stream().allMatch(Counter::isEmpty);
+    }
+
+    public Map<String, Counter> getCounters() {
+        return Collections.unmodifiableMap(counters);
+    }
+
+    private void forEachChange(
+        String originatingAgency,
+        Collection<String> previousSps,
+        Collection<String> currentSps,
+        CounterUpdate update
+    ) {
+        Set<String> previous = toSymbolicSet(originatingAgency, previousSps);
+        Set<String> current = toSymbolicSet(originatingAgency, currentSps);
+        for (String agency : current) {
+            if (!previous.contains(agency)) {
+                update.apply(counters.computeIfAbsent(agency, a -> new Counter()), 1);
+            }
+        }
+        for (String agency : previous) {
+            if (!current.contains(agency)) {
+                update.apply(counters.computeIfAbsent(agency, a -> new Counter()), -1);
+            }
+        }
+    }
+
+    private static Set<String> toSymbolicSet(String originatingAgency, Collection<String> sps) {
+        if (CollectionUtils.isEmpty(sps)) {
+            return Collections.emptySet();
+        }
+        Set<String> symbolic = new HashSet<>(sps);
+        symbolic.remove(originatingAgency);
+        return symbolic;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Document> getDocuments(Document document, String key) {
+        Object value = document.get(key);
+        return value instanceof List ? (List<Document>) value : Collections.emptyList();
+    }
+
+    @FunctionalInterface
+    private interface CounterUpdate {
+        void apply(Counter counter, int sign);
+    }
+
+    /**
+     * Symbolic accession register counters of an originating agency
+     */
+    public static class Counter {
+
+        private long archiveUnit;
+        private long objectGroup;
+        private long binaryObject;
+        private double binaryObjectSize;
+
+        public Counter() {}
+
+        public Counter(long archiveUnit, long objectGroup, long binaryObject, double binaryObjectSize) {
+            this.archiveUnit = archiveUnit;
+            this.objectGroup = objectGroup;
+            this.binaryObject = binaryObject;
+            this.binaryObjectSize = binaryObjectSize;
+        }
+
+        public long getArchiveUnit() {
+            return archiveUnit;
+        }
+
+        public long getObjectGroup() {
+            return objectGroup;
+        }
+
+        public long getBinaryObject() {
+            return binaryObject;
+        }
+
+        public double getBinaryObjectSize() {
+            return binaryObjectSize;
+        }
+
+        public boolean isEmpty() {
+            return archiveUnit == 0 && objectGroup == 0 && binaryObject == 0 && binaryObjectSize == 0;
+        }
+    }
+}
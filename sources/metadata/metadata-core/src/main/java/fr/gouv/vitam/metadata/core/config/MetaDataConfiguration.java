@@ -29,7 +29,9 @@ package fr.gouv.vitam.metadata.core.config;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import fr.gouv.vitam.common.ParametersChecker;
+import fr.gouv.vitam.common.database.server.elasticsearch.ElasticsearchIndexationMode;
 import fr.gouv.vitam.common.database.server.elasticsearch.ElasticsearchNode;
+import fr.gouv.vitam.common.server.application.configuration.DataConsistencyAuditConfig;
 import fr.gouv.vitam.common.server.application.configuration.DbConfigurationImpl;
 import fr.gouv.vitam.common.server.application.configuration.MongoDbNode;
 import fr.gouv.vitam.common.server.application.configuration.MongoDbShardConf;
@@ -68,6 +70,18 @@ public class MetaDataConfiguration extends DbConfigurationImpl {
     @JsonProperty("streamExecutionLimit")
     private short streamExecutionLimit = 3;
 
+    @JsonProperty("incrementalGraphComputeEnabled")
+    private boolean incrementalGraphComputeEnabled = false;
+
+    @JsonProperty("graphClosureCacheMaxEntries")
+    private int graphClosureCacheMaxEntries = 1_000_000;
+
+    @JsonProperty("unitIndexationMode")
+    private ElasticsearchIndexationMode unitIndexationMode = ElasticsearchIndexationMode.IMMEDIATE;
+
+    @JsonProperty("objectGroupIndexationMode")
+    private ElasticsearchIndexationMode objectGroupIndexationMode = ElasticsearchIndexationMode.IMMEDIATE;
+
     @JsonProperty("elasticsearchTenantIndexation")
     private MetadataIndexationConfiguration indexationConfiguration;
 
@@ -77,6 +91,12 @@ public class MetaDataConfiguration extends DbConfigurationImpl {
     @JsonProperty("dataConsistencyAuditOplogMaxSize")
     private Integer dataConsistencyAuditOplogMaxSize;
 
+    @JsonProperty("dataConsistencyAuditBatchSize")
+    private int dataConsistencyAuditBatchSize = DataConsistencyAuditConfig.DEFAULT_BATCH_SIZE;
+
+    @JsonProperty("dataConsistencyAuditThreadPoolSize")
+    private int dataConsistencyAuditThreadPoolSize = DataConsistencyAuditConfig.DEFAULT_THREAD_POOL_SIZE;
+
     @JsonProperty("mongodShardsConf")
     private MongoDbShardConf mongodShardsConf;
 
@@ -290,6 +310,38 @@ public class MetaDataConfiguration extends DbConfigurationImpl {
         this.unitsStreamThreshold = unitsStreamThreshold;
     }
 
+    public boolean isIncrementalGraphComputeEnabled() {
+        return incrementalGraphComputeEnabled;
+    }
+
+    public void setIncrementalGraphComputeEnabled(boolean incrementalGraphComputeEnabled) {
+        this.incrementalGraphComputeEnabled = incrementalGraphComputeEnabled;
+    }
+
+    public int getGraphClosureCacheMaxEntries() {
+        return graphClosureCacheMaxEntries;
+    }
+
+    public void setGraphClosureCacheMaxEntries(int graphClosureCacheMaxEntries) {
+        this.graphClosureCacheMaxEntries = graphClosureCacheMaxEntries;
+    }
+
+    public ElasticsearchIndexationMode getUnitIndexationMode() {
+        return unitIndexationMode;
+    }
+
+    public void setUnitIndexationMode(ElasticsearchIndexationMode unitIndexationMode) {
+        this.unitIndexationMode = unitIndexationMode;
+    }
+
+    public ElasticsearchIndexationMode getObjectGroupIndexationMode() {
+        return objectGroupIndexationMode;
+    }
+
+    public void setObjectGroupIndexationMode(ElasticsearchIndexationMode objectGroupIndexationMode) {
+        this.objectGroupIndexationMode = objectGroupIndexationMode;
+    }
+
     public short getStreamExecutionLimit() {
         return streamExecutionLimit;
     }
@@ -323,6 +375,22 @@ public class MetaDataConfiguration extends DbConfigurationImpl {
         this.dataConsistencyAuditOplogMaxSize = dataConsistencyAuditOplogMaxSize;
     }
 
+    public int getDataConsistencyAuditBatchSize() {
+        return dataConsistencyAuditBatchSize;
+    }
+
+    public void setDataConsistencyAuditBatchSize(int dataConsistencyAuditBatchSize) {
+        this.dataConsistencyAuditBatchSize = dataConsistencyAuditBatchSize;
+    }
+
+    public int getDataConsistencyAuditThreadPoolSize() {
+        return dataConsistencyAuditThreadPoolSize;
+    }
+
+    public void setDataConsistencyAuditThreadPoolSize(int dataConsistencyAuditThreadPoolSize) {
+        this.dataConsistencyAuditThreadPoolSize = dataConsistencyAuditThreadPoolSize;
+    }
+
     public MongoDbShardConf getMongodShardsConf() {
         return mongodShardsConf;
     }
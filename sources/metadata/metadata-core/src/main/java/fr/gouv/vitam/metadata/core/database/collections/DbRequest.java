@@ -33,11 +33,15 @@ import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Stopwatch;
 import com.google.common.collect.Lists;
 import com.mongodb.BasicDBObject;
+import com.mongodb.MongoBulkWriteException;
 import com.mongodb.MongoException;
+import com.mongodb.bulk.BulkWriteError;
 import com.mongodb.client.AggregateIterable;
 import com.mongodb.client.FindIterable;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoCursor;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.ReplaceOneModel;
 import com.mongodb.client.result.DeleteResult;
 import com.mongodb.client.result.UpdateResult;
 import fr.gouv.vitam.common.LocalDateUtil;
@@ -85,11 +89,15 @@ import fr.gouv.vitam.common.model.administration.OntologyModel;
 import fr.gouv.vitam.common.model.massupdate.RuleActions;
 import fr.gouv.vitam.common.parameter.ParameterHelper;
 import fr.gouv.vitam.common.performance.PerformanceLogger;
+import fr.gouv.vitam.common.thread.VitamThreadPoolExecutor;
 import fr.gouv.vitam.common.thread.VitamThreadUtils;
 import fr.gouv.vitam.metadata.api.exception.MetaDataAlreadyExistException;
 import fr.gouv.vitam.metadata.api.exception.MetaDataExecutionException;
 import fr.gouv.vitam.metadata.api.exception.MetaDataNotFoundException;
+import fr.gouv.vitam.metadata.core.accession.AccessionRegisterSymbolicCounterService;
+import fr.gouv.vitam.metadata.core.accession.AccessionRegisterSymbolicDeltas;
 import fr.gouv.vitam.metadata.core.graph.GraphLoader;
+import fr.gouv.vitam.metadata.core.model.BulkUpdatedDocuments;
 import fr.gouv.vitam.metadata.core.model.UpdatedDocument;
 import fr.gouv.vitam.metadata.core.trigger.FieldHistoryManager;
 import fr.gouv.vitam.metadata.core.validation.MetadataValidationErrorCode;
@@ -111,10 +119,13 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
@@ -146,29 +157,60 @@ public class DbRequest {
     private static final String FROM = " from ";
     private static final String NO_RESULT_AT_RANK = "No result at rank: ";
     private static final String DEPTH_ARRAY = "deptharray";
+    private static final BasicDBObject ACCESSION_REGISTER_UNIT_PROJECTION = new BasicDBObject(
+        MetadataDocument.ORIGINATING_AGENCY,
+        1
+    ).append(MetadataDocument.ORIGINATING_AGENCIES, 1);
+    private static final BasicDBObject ACCESSION_REGISTER_OBJECT_GROUP_PROJECTION = new BasicDBObject(
+        MetadataDocument.ORIGINATING_AGENCY,
+        1
+    )
+        .append(MetadataDocument.ORIGINATING_AGENCIES, 1)
+        .append(ObjectGroup.OBJECTID, 1)
+        .append(ObjectGroup.OBJECTSIZE, 1);
     private static final String CONSISTENCY_ERROR_THE_DOCUMENT_GUID_S_IN_ES_IS_NOT_IN_MONGO_DB_ANYMORE_TENANT_S_REQUEST_ID_S =
         "[Consistency Error] : The document guid=%s in ES is not in MongoDB anymore, tenant : %s, requestId : %s";
 
     private final MongoDbMetadataRepository<Unit> mongoDbUnitRepository;
     private final MongoDbMetadataRepository<ObjectGroup> mongoDbObjectGroupRepository;
     private final FieldHistoryManager fieldHistoryManager;
+    private final AccessionRegisterSymbolicCounterService accessionRegisterSymbolicCounterService;
 
     @VisibleForTesting
     DbRequest(
         MongoDbMetadataRepository<Unit> mongoDbUnitRepository,
         MongoDbMetadataRepository<ObjectGroup> mongoDbObjectGroupRepository,
         FieldHistoryManager fieldHistoryManager
+    ) {
+        this(mongoDbUnitRepository, mongoDbObjectGroupRepository, fieldHistoryManager, null);
+    }
+
+    private DbRequest(
+        MongoDbMetadataRepository<Unit> mongoDbUnitRepository,
+        MongoDbMetadataRepository<ObjectGroup> mongoDbObjectGroupRepository,
+        FieldHistoryManager fieldHistoryManager,
+        AccessionRegisterSymbolicCounterService accessionRegisterSymbolicCounterService
     ) {
         this.mongoDbUnitRepository = mongoDbUnitRepository;
         this.mongoDbObjectGroupRepository = mongoDbObjectGroupRepository;
         this.fieldHistoryManager = fieldHistoryManager;
+        this.accessionRegisterSymbolicCounterService = accessionRegisterSymbolicCounterService;
     }
 
     public DbRequest() {
+        this(null);
+    }
+
+    /**
+     * @param accessionRegisterSymbolicCounterService counters of symbolic accession registers, updated on unit and
+     * object group inserts and deletes (may be null)
+     */
+    public DbRequest(AccessionRegisterSymbolicCounterService accessionRegisterSymbolicCounterService) {
         this(
             new MongoDbMetadataRepository<>(MetadataCollections.UNIT::getCollection),
             new MongoDbMetadataRepository<>(MetadataCollections.OBJECTGROUP::getCollection),
-            new FieldHistoryManager(HISTORY_TRIGGER_NAME)
+            new FieldHistoryManager(HISTORY_TRIGGER_NAME),
+            accessionRegisterSymbolicCounterService
         );
     }
 
@@ -1168,79 +1210,427 @@ public class DbRequest {
                 throw new MetaDataNotFoundException("Document not found by id " + documentId);
             }
 
-            final Integer documentVersion = document.getVersion();
+            PreparedUpdate preparedUpdate = prepareUpdate(
+                document,
+                requestParser,
+                metadataCollection,
+                ontologyValidator,
+                unitValidator,
+                ontologyModels,
+                forceUpdate
+            );
+            if (!preparedUpdate.requiresWrite()) {
+                return preparedUpdate.updatedDocument;
+            }
+
+            UpdateResult result = collection.replaceOne(preparedUpdate.condition, preparedUpdate.finalDocument);
+            if (result.getModifiedCount() == 1) {
+                if (metadataCollection == MetadataCollections.UNIT) {
+                    indexFieldsUpdated(preparedUpdate.finalDocument, tenantId);
+                } else {
+                    indexFieldsOGUpdated(preparedUpdate.finalDocument, tenantId);
+                }
 
-            final JsonNode jsonDocument = JsonHandler.toJsonNode(document);
-            if (noChangesAndOpsAlreadyContainingOperation(requestParser, document)) {
-                return new UpdatedDocument(documentId, jsonDocument, jsonDocument, true);
+                return preparedUpdate.updatedDocument;
             }
+            tries++;
+        }
 
-            DynamicParserTokens parserTokens = new DynamicParserTokens(
-                metadataCollection.getVitamDescriptionResolver(),
-                ontologyModels
-            );
-            final MongoDbInMemory mongoInMemory = new MongoDbInMemory(jsonDocument, parserTokens);
-            final ObjectNode updatedJsonDocument = (ObjectNode) mongoInMemory.getUpdateJson(requestParser);
+        throw new MetaDataExecutionException("Can not modify document " + documentId);
+    }
+
+    /**
+     * Batched variant of {@link #execUpdateRequest} applying the same update request to several documents.<br>
+     * Documents are loaded with a single query, updated in memory in parallel, persisted with a single unordered
+     * bulk write of conditional replaces, and indexed with a single Elasticsearch bulk request. Only documents whose
+     * atomic version changed concurrently are retried.<br>
+     * Per document outcomes are the same as {@link #execUpdateRequest}, exceptions being reported per document
+     * instead of being thrown.
+     *
+     * @param requestParser the update request to apply to every document
+     * @param documentIds ids of the documents to update
+     * @return the update outcome of each document
+     */
+    public BulkUpdatedDocuments execUpdateRequests(
+        final RequestParserMultiple requestParser,
+        Collection<String> documentIds,
+        MetadataCollections metadataCollection,
+        OntologyValidator ontologyValidator,
+        UnitValidator unitValidator,
+        List<OntologyModel> ontologyModels,
+        boolean forceUpdate
+    ) {
+        final BulkUpdatedDocuments bulkUpdatedDocuments = new BulkUpdatedDocuments();
 
-            if (metadataCollection == MetadataCollections.UNIT) {
-                fieldHistoryManager.trigger(jsonDocument, updatedJsonDocument);
+        Set<String> pendingIds = new LinkedHashSet<>(documentIds);
+        int tries = 0;
+        while (tries < 3 && !pendingIds.isEmpty()) {
+            try {
+                pendingIds = updateDocumentsBatch(
+                    pendingIds,
+                    requestParser,
+                    metadataCollection,
+                    ontologyValidator,
+                    unitValidator,
+                    ontologyModels,
+                    forceUpdate,
+                    bulkUpdatedDocuments
+                );
+            } catch (MongoException e) {
+                LOGGER.error("Could not update documents " + pendingIds, e);
+                for (String documentId : pendingIds) {
+                    bulkUpdatedDocuments.addError(documentId, new MetaDataExecutionException(e));
+                }
+                pendingIds = Collections.emptySet();
             }
+            tries++;
+        }
 
-            int newDocumentVersion = incrementDocumentVersionIfRequired(
-                metadataCollection,
-                mongoInMemory,
-                documentVersion
+        for (String documentId : pendingIds) {
+            bulkUpdatedDocuments.addError(
+                documentId,
+                new MetaDataExecutionException("Can not modify document " + documentId)
             );
-            updatedJsonDocument.put(VitamDocument.VERSION, newDocumentVersion);
+        }
+        LOGGER.debug("Results: {}", bulkUpdatedDocuments.getUpdatedDocuments().keySet());
+        return bulkUpdatedDocuments;
+    }
 
-            Integer atomicVersion = document.getAtomicVersion();
-            int newAtomicVersion = atomicVersion == null ? newDocumentVersion : atomicVersion + 1;
-            updatedJsonDocument.put(MetadataDocument.ATOMIC_VERSION, newAtomicVersion);
+    /**
+     * Runs a single update round over a batch of documents
+     *
+     * @return ids of documents that were concurrently modified and must be retried
+     */
+    private Set<String> updateDocumentsBatch(
+        Set<String> documentIds,
+        RequestParserMultiple requestParser,
+        MetadataCollections metadataCollection,
+        OntologyValidator ontologyValidator,
+        UnitValidator unitValidator,
+        List<OntologyModel> ontologyModels,
+        boolean forceUpdate,
+        BulkUpdatedDocuments bulkUpdatedDocuments
+    ) {
+        final Integer tenantId = ParameterHelper.getTenantParameter();
+        MongoCollection<MetadataDocument<?>> collection = metadataCollection.getCollection();
+
+        Map<String, MetadataDocument<?>> documents = findDocumentsByIds(collection, documentIds);
+        for (String documentId : documentIds) {
+            if (!documents.containsKey(documentId)) {
+                bulkUpdatedDocuments.addError(
+                    documentId,
+                    new MetaDataNotFoundException("Document not found by id " + documentId)
+                );
+            }
+        }
 
-            // Ontology checks & format transformation
-            final ObjectNode transformedUpdatedDocument = ontologyValidator.verifyAndReplaceFields(updatedJsonDocument);
+        // In memory updates & validations are CPU bound : run them in parallel, one task per available processor
+        final String scopedXRequestId = VitamThreadUtils.getVitamSession().getRequestId();
+        int parallelism = Runtime.getRuntime().availableProcessors();
+        int partitionSize = Math.max(1, (documents.size() + parallelism - 1) / parallelism);
+        List<CompletableFuture<List<PreparedUpdate>>> futures = Lists.partition(
+            new ArrayList<>(documents.values()),
+            partitionSize
+        )
+            .stream()
+            .map(partition ->
+                CompletableFuture.supplyAsync(
+                    () -> {
+                        VitamThreadUtils.getVitamSession().setTenantId(tenantId);
+                        VitamThreadUtils.getVitamSession().setRequestId(scopedXRequestId);
+                        List<PreparedUpdate> partitionUpdates = new ArrayList<>();
+                        for (MetadataDocument<?> document : partition) {
+                            try {
+                                partitionUpdates.add(
+                                    prepareUpdate(
+                                        document,
+                                        requestParser,
+                                        metadataCollection,
+                                        ontologyValidator,
+                                        unitValidator,
+                                        ontologyModels,
+                                        forceUpdate
+                                    )
+                                );
+                            } catch (
+                                InvalidParseOperationException | MetadataValidationException | RuntimeException e
+                            ) {
+                                partitionUpdates.add(PreparedUpdate.failed(document.getId(), e));
+                            }
+                        }
+                        return partitionUpdates;
+                    },
+                    VitamThreadPoolExecutor.getDefaultExecutor()
+                ))
+            .collect(Collectors.toList());
 
-            if (newDocumentVersion != documentVersion) {
-                transformedUpdatedDocument.put(MetadataDocument.APPROXIMATE_UPDATE_DATE, LocalDateUtil.nowFormatted());
+        List<PreparedUpdate> preparedUpdates = futures
+            .stream()
+            .map(CompletableFuture::join)
+            .flatMap(List::stream)
+            .collect(Collectors.toList());
+
+        List<PreparedUpdate> writes = new ArrayList<>();
+        for (PreparedUpdate preparedUpdate : preparedUpdates) {
+            if (preparedUpdate.error != null) {
+                bulkUpdatedDocuments.addError(preparedUpdate.documentId, preparedUpdate.error);
+            } else if (!preparedUpdate.requiresWrite()) {
+                bulkUpdatedDocuments.addUpdatedDocument(preparedUpdate.updatedDocument);
+            } else {
+                writes.add(preparedUpdate);
             }
+        }
+        if (writes.isEmpty()) {
+            return Collections.emptySet();
+        }
 
-            if (metadataCollection == MetadataCollections.UNIT) {
-                if (
-                    !forceUpdate && !hasModificationOfUnitDescriptiveMetadata(jsonDocument, transformedUpdatedDocument)
-                ) {
-                    return new UpdatedDocument(documentId, jsonDocument, jsonDocument, false);
-                }
-                // Unit validation
-                unitValidator.validateUnit(transformedUpdatedDocument);
+        List<PreparedUpdate> persisted = new ArrayList<>();
+        Set<String> conflictedIds = new LinkedHashSet<>();
+        bulkReplace(collection, writes, persisted, conflictedIds, bulkUpdatedDocuments);
+
+        if (!persisted.isEmpty()) {
+            List<MetadataDocument<?>> persistedDocuments = persisted
+                .stream()
+                .map(preparedUpdate -> preparedUpdate.finalDocument)
+                .collect(Collectors.toList());
+            try {
+                metadataCollection.getEsClient().updateFullDocuments(metadataCollection, tenantId, persistedDocuments);
+                persisted.forEach(preparedUpdate ->
+                    bulkUpdatedDocuments.addUpdatedDocument(preparedUpdate.updatedDocument)
+                );
+            } catch (MetaDataExecutionException e) {
+                LOGGER.error("Could not index updated documents", e);
+                persisted.forEach(preparedUpdate -> bulkUpdatedDocuments.addError(preparedUpdate.documentId, e));
             }
+        }
+        return conflictedIds;
+    }
 
-            // Make Update
-            final Bson condition;
-            if (atomicVersion == null) {
-                condition = and(eq(MetadataDocument.ID, documentId), exists(MetadataDocument.ATOMIC_VERSION, false));
-            } else {
-                condition = and(
-                    eq(MetadataDocument.ID, documentId),
-                    eq(MetadataDocument.ATOMIC_VERSION, atomicVersion)
+    private Map<String, MetadataDocument<?>> findDocumentsByIds(
+        MongoCollection<MetadataDocument<?>> collection,
+        Collection<String> documentIds
+    ) {
+        Map<String, MetadataDocument<?>> documents = new HashMap<>();
+        try (
+            MongoCursor<MetadataDocument<?>> cursor = collection
+                .find(
+                    and(
+                        in(MetadataDocument.ID, documentIds),
+                        eq(MetadataDocument.TENANT_ID, VitamThreadUtils.getVitamSession().getTenantId())
+                    )
+                )
+                .iterator()
+        ) {
+            while (cursor.hasNext()) {
+                MetadataDocument<?> document = cursor.next();
+                documents.put(document.getId(), document);
+            }
+        }
+        return documents;
+    }
+
+    /**
+     * Writes prepared updates with a single unordered bulk of conditional replaces.<br>
+     * Bulk write results only report aggregated counts. When some replaces did not match, documents are reloaded to
+     * find out which ones were actually persisted and which ones were concurrently modified.
+     */
+    private void bulkReplace(
+        MongoCollection<MetadataDocument<?>> collection,
+        List<PreparedUpdate> writes,
+        List<PreparedUpdate> persisted,
+        Set<String> conflictedIds,
+        BulkUpdatedDocuments bulkUpdatedDocuments
+    ) {
+        List<ReplaceOneModel<MetadataDocument<?>>> replaceModels = writes
+            .stream()
+            .map(preparedUpdate ->
+                new ReplaceOneModel<MetadataDocument<?>>(preparedUpdate.condition, preparedUpdate.finalDocument)
+            )
+            .collect(Collectors.toList());
+
+        Set<Integer> failedIndexes = new HashSet<>();
+        int modifiedCount;
+        try {
+            modifiedCount = collection
+                .bulkWrite(replaceModels, new BulkWriteOptions().ordered(false))
+                .getModifiedCount();
+        } catch (MongoBulkWriteException e) {
+            modifiedCount = e.getWriteResult().getModifiedCount();
+            for (BulkWriteError writeError : e.getWriteErrors()) {
+                failedIndexes.add(writeError.getIndex());
+                bulkUpdatedDocuments.addError(
+                    writes.get(writeError.getIndex()).documentId,
+                    new MetaDataExecutionException(writeError.getMessage())
                 );
             }
-            LOGGER.debug("DEBUG update {}", transformedUpdatedDocument);
-            MetadataDocument<?> finalDocument = (MetadataDocument<?>) document.newInstance(transformedUpdatedDocument);
+        }
 
-            UpdateResult result = collection.replaceOne(condition, finalDocument);
-            if (result.getModifiedCount() == 1) {
-                if (metadataCollection == MetadataCollections.UNIT) {
-                    indexFieldsUpdated(finalDocument, tenantId);
-                } else {
-                    indexFieldsOGUpdated(finalDocument, tenantId);
-                }
+        List<PreparedUpdate> attempted = new ArrayList<>();
+        for (int i = 0; i < writes.size(); i++) {
+            if (!failedIndexes.contains(i)) {
+                attempted.add(writes.get(i));
+            }
+        }
 
-                return new UpdatedDocument(documentId, jsonDocument, transformedUpdatedDocument, true);
+        if (modifiedCount == attempted.size()) {
+            persisted.addAll(attempted);
+            return;
+        }
+
+        // A replace is conditioned on the atomic version it was computed from, and sets the next one : a document
+        // still at that next version was either persisted by this bulk, or by a concurrent writer starting from the
+        // same version (content tells them apart). A document at a later version was modified afterwards : whether
+        // this bulk persisted it cannot be told, and retrying could apply the update twice.
+        Map<String, MetadataDocument<?>> currentDocuments = findDocumentsByIds(
+            collection,
+            attempted.stream().map(preparedUpdate -> preparedUpdate.documentId).collect(Collectors.toList())
+        );
+        for (PreparedUpdate preparedUpdate : attempted) {
+            MetadataDocument<?> currentDocument = currentDocuments.get(preparedUpdate.documentId);
+            if (currentDocument == null) {
+                bulkUpdatedDocuments.addError(
+                    preparedUpdate.documentId,
+                    new MetaDataNotFoundException("Document not found by id " + preparedUpdate.documentId)
+                );
+                continue;
+            }
+            int currentAtomicVersion = Objects.requireNonNullElse(currentDocument.getAtomicVersion(), 0);
+            int writtenAtomicVersion = preparedUpdate.finalDocument.getAtomicVersion();
+            if (currentAtomicVersion < writtenAtomicVersion) {
+                conflictedIds.add(preparedUpdate.documentId);
+            } else if (currentAtomicVersion > writtenAtomicVersion) {
+                bulkUpdatedDocuments.addError(
+                    preparedUpdate.documentId,
+                    new MetaDataExecutionException(
+                        "Document " + preparedUpdate.documentId + " concurrently modified, update status unknown"
+                    )
+                );
+            } else if (isSameContent(currentDocument, preparedUpdate.finalDocument)) {
+                persisted.add(preparedUpdate);
+            } else {
+                conflictedIds.add(preparedUpdate.documentId);
             }
-            tries++;
         }
+    }
 
-        throw new MetaDataExecutionException("Can not modify document " + documentId);
+    private boolean isSameContent(MetadataDocument<?> currentDocument, MetadataDocument<?> finalDocument) {
+        try {
+            return JsonHandler.toJsonNode(currentDocument).equals(JsonHandler.toJsonNode(finalDocument));
+        } catch (InvalidParseOperationException e) {
+            // Cannot tell : retry the update (at the same atomic version, a retry is conditioned on it)
+            LOGGER.warn("Could not compare document " + currentDocument.getId(), e);
+            return false;
+        }
+    }
+
+    /**
+     * Applies the update request in memory and computes the conditional replace to run, if any.
+     */
+    private PreparedUpdate prepareUpdate(
+        MetadataDocument<?> document,
+        RequestParserMultiple requestParser,
+        MetadataCollections metadataCollection,
+        OntologyValidator ontologyValidator,
+        UnitValidator unitValidator,
+        List<OntologyModel> ontologyModels,
+        boolean forceUpdate
+    ) throws InvalidParseOperationException, MetadataValidationException {
+        final String documentId = document.getId();
+        final Integer documentVersion = document.getVersion();
+
+        final JsonNode jsonDocument = JsonHandler.toJsonNode(document);
+        if (noChangesAndOpsAlreadyContainingOperation(requestParser, document)) {
+            return PreparedUpdate.noWrite(new UpdatedDocument(documentId, jsonDocument, jsonDocument, true));
+        }
+
+        DynamicParserTokens parserTokens = new DynamicParserTokens(
+            metadataCollection.getVitamDescriptionResolver(),
+            ontologyModels
+        );
+        final MongoDbInMemory mongoInMemory = new MongoDbInMemory(jsonDocument, parserTokens);
+        final ObjectNode updatedJsonDocument = (ObjectNode) mongoInMemory.getUpdateJson(requestParser);
+
+        if (metadataCollection == MetadataCollections.UNIT) {
+            fieldHistoryManager.trigger(jsonDocument, updatedJsonDocument);
+        }
+
+        int newDocumentVersion = incrementDocumentVersionIfRequired(metadataCollection, mongoInMemory, documentVersion);
+        updatedJsonDocument.put(VitamDocument.VERSION, newDocumentVersion);
+
+        Integer atomicVersion = document.getAtomicVersion();
+        int newAtomicVersion = atomicVersion == null ? newDocumentVersion : atomicVersion + 1;
+        updatedJsonDocument.put(MetadataDocument.ATOMIC_VERSION, newAtomicVersion);
+
+        // Ontology checks & format transformation
+        final ObjectNode transformedUpdatedDocument = ontologyValidator.verifyAndReplaceFields(updatedJsonDocument);
+
+        if (newDocumentVersion != documentVersion) {
+            transformedUpdatedDocument.put(MetadataDocument.APPROXIMATE_UPDATE_DATE, LocalDateUtil.nowFormatted());
+        }
+
+        if (metadataCollection == MetadataCollections.UNIT) {
+            if (!forceUpdate && !hasModificationOfUnitDescriptiveMetadata(jsonDocument, transformedUpdatedDocument)) {
+                return PreparedUpdate.noWrite(new UpdatedDocument(documentId, jsonDocument, jsonDocument, false));
+            }
+            // Unit validation
+            unitValidator.validateUnit(transformedUpdatedDocument);
+        }
+
+        // Make Update
+        final Bson condition;
+        if (atomicVersion == null) {
+            condition = and(eq(MetadataDocument.ID, documentId), exists(MetadataDocument.ATOMIC_VERSION, false));
+        } else {
+            condition = and(eq(MetadataDocument.ID, documentId), eq(MetadataDocument.ATOMIC_VERSION, atomicVersion));
+        }
+        LOGGER.debug("DEBUG update {}", transformedUpdatedDocument);
+        MetadataDocument<?> finalDocument = (MetadataDocument<?>) document.newInstance(transformedUpdatedDocument);
+
+        return new PreparedUpdate(
+            documentId,
+            new UpdatedDocument(documentId, jsonDocument, transformedUpdatedDocument, true),
+            condition,
+            finalDocument,
+            null
+        );
+    }
+
+    /**
+     * In memory update of a document, and the conditional replace required to persist it (if any)
+     */
+    private static final class PreparedUpdate {
+
+        private final String documentId;
+        private final UpdatedDocument updatedDocument;
+        private final Bson condition;
+        private final MetadataDocument<?> finalDocument;
+        private final Exception error;
+
+        private PreparedUpdate(
+            String documentId,
+            UpdatedDocument updatedDocument,
+            Bson condition,
+            MetadataDocument<?> finalDocument,
+            Exception error
+        ) {
+            this.documentId = documentId;
+            this.updatedDocument = updatedDocument;
+            this.condition = condition;
+            this.finalDocument = finalDocument;
+            this.error = error;
+        }
+
+        private static PreparedUpdate noWrite(UpdatedDocument updatedDocument) {
+            return new PreparedUpdate(updatedDocument.getDocumentId(), updatedDocument, null, null, null);
+        }
+
+        private static PreparedUpdate failed(String documentId, Exception error) {
+            return new PreparedUpdate(documentId, null, null, null, error);
+        }
+
+        private boolean requiresWrite() {
+            return finalDocument != null;
+        }
     }
 
     /**
@@ -1410,6 +1800,17 @@ public class DbRequest {
 
         Stopwatch mongoWatch = Stopwatch.createStarted();
         mongoDbObjectGroupRepository.insert(objectGroups);
+        if (isAccessionRegisterSymbolicDeltaModeEnabled()) {
+            AccessionRegisterSymbolicDeltas deltas = new AccessionRegisterSymbolicDeltas();
+            for (ObjectGroup objectGroup : objectGroups) {
+                deltas.addObjectGroup(
+                    objectGroup,
+                    Collections.emptyList(),
+                    objectGroup.getCollectionOrEmpty(ObjectGroup.ORIGINATING_AGENCIES)
+                );
+            }
+            accessionRegisterSymbolicCounterService.apply(tenantId, deltas);
+        }
         PerformanceLogger.getInstance()
             .log("STP_OBJ_STORING", "OG_METADATA_INDEXATION", "storeMongo", mongoWatch.elapsed(TimeUnit.MILLISECONDS));
 
@@ -1558,9 +1959,19 @@ public class DbRequest {
                     computeAU.elapsed(TimeUnit.MILLISECONDS)
                 );
 
+            AccessionRegisterSymbolicDeltas deltas = new AccessionRegisterSymbolicDeltas();
             if (!unitToSave.isEmpty()) {
                 Stopwatch saveAU = Stopwatch.createStarted();
                 mongoDbUnitRepository.insert(unitToSave);
+                if (isAccessionRegisterSymbolicDeltaModeEnabled()) {
+                    for (Unit unit : unitToSave) {
+                        deltas.addUnit(
+                            unit.getString(MetadataDocument.ORIGINATING_AGENCY),
+                            Collections.emptyList(),
+                            unit.getCollectionOrEmpty(Unit.ORIGINATING_AGENCIES)
+                        );
+                    }
+                }
                 PerformanceLogger.getInstance()
                     .log(
                         "STP_UNIT_METADATA",
@@ -1584,6 +1995,8 @@ public class DbRequest {
                     .entrySet()
                     .stream()
                     .collect(Collectors.toMap(Map.Entry::getKey, item -> item.getValue().toBsonUpdate()));
+                Map<String, Collection<String>> previousObjectGroupOriginatingAgencies =
+                    loadObjectGroupOriginatingAgencies(updates.keySet());
                 mongoDbObjectGroupRepository.update(updates);
                 PerformanceLogger.getInstance()
                     .log(
@@ -1604,6 +2017,23 @@ public class DbRequest {
                         "saveGOTInElastic",
                         saveGOT.elapsed(TimeUnit.MILLISECONDS)
                     );
+
+                if (isAccessionRegisterSymbolicDeltaModeEnabled()) {
+                    for (ObjectGroup objectGroup : objectGroups) {
+                        deltas.addObjectGroup(
+                            objectGroup,
+                            previousObjectGroupOriginatingAgencies.getOrDefault(
+                                objectGroup.getId(),
+                                objectGroup.getCollectionOrEmpty(ObjectGroup.ORIGINATING_AGENCIES)
+                            ),
+                            objectGroup.getCollectionOrEmpty(ObjectGroup.ORIGINATING_AGENCIES)
+                        );
+                    }
+                }
+            }
+
+            if (isAccessionRegisterSymbolicDeltaModeEnabled()) {
+                accessionRegisterSymbolicCounterService.apply(tenantId, deltas);
             }
         } catch (final MongoException e) {
             throw new MetaDataExecutionException("Insert concern", e);
@@ -1626,6 +2056,10 @@ public class DbRequest {
 
         Integer tenantId = ParameterHelper.getTenantParameter();
 
+        List<Unit> deletedUnits = isAccessionRegisterSymbolicDeltaModeEnabled()
+            ? mongoDbUnitRepository.selectByIds(documentsToDelete, ACCESSION_REGISTER_UNIT_PROJECTION)
+            : Collections.emptyList();
+
         MetadataCollections.UNIT.getEsClient().deleteBulkUnitsEntriesIndexes(documentsToDelete, tenantId);
 
         List<Unit> documents = new ArrayList<>();
@@ -1635,6 +2069,18 @@ public class DbRequest {
             );
         }
         mongoDbUnitRepository.delete(documents);
+
+        if (!deletedUnits.isEmpty()) {
+            AccessionRegisterSymbolicDeltas deltas = new AccessionRegisterSymbolicDeltas();
+            for (Unit unit : deletedUnits) {
+                deltas.addUnit(
+                    unit.getString(MetadataDocument.ORIGINATING_AGENCY),
+                    unit.getCollectionOrEmpty(Unit.ORIGINATING_AGENCIES),
+                    Collections.emptyList()
+                );
+            }
+            accessionRegisterSymbolicCounterService.apply(tenantId, deltas);
+        }
     }
 
     /**
@@ -1647,6 +2093,10 @@ public class DbRequest {
 
         Integer tenantId = ParameterHelper.getTenantParameter();
 
+        List<ObjectGroup> deletedObjectGroups = isAccessionRegisterSymbolicDeltaModeEnabled()
+            ? mongoDbObjectGroupRepository.selectByIds(documentsToDelete, ACCESSION_REGISTER_OBJECT_GROUP_PROJECTION)
+            : Collections.emptyList();
+
         MetadataCollections.OBJECTGROUP.getEsClient().deleteBulkOGEntriesIndexes(documentsToDelete, tenantId);
 
         List<ObjectGroup> documents = new ArrayList<>();
@@ -1659,5 +2109,39 @@ public class DbRequest {
         }
 
         mongoDbObjectGroupRepository.delete(documents);
+
+        if (!deletedObjectGroups.isEmpty()) {
+            AccessionRegisterSymbolicDeltas deltas = new AccessionRegisterSymbolicDeltas();
+            for (ObjectGroup objectGroup : deletedObjectGroups) {
+                deltas.addObjectGroup(
+                    objectGroup,
+                    objectGroup.getCollectionOrEmpty(ObjectGroup.ORIGINATING_AGENCIES),
+                    Collections.emptyList()
+                );
+            }
+            accessionRegisterSymbolicCounterService.apply(tenantId, deltas);
+        }
+    }
+
+    private boolean isAccessionRegisterSymbolicDeltaModeEnabled() {
+        return accessionRegisterSymbolicCounterService != null && accessionRegisterSymbolicCounterService.isEnabled();
+    }
+
+    private Map<String, Collection<String>> loadObjectGroupOriginatingAgencies(Set<String> objectGroupIds) {
+        if (!isAccessionRegisterSymbolicDeltaModeEnabled()) {
+            return Collections.emptyMap();
+        }
+        Map<String, Collection<String>> originatingAgencies = new HashMap<>();
+        List<ObjectGroup> objectGroups = mongoDbObjectGroupRepository.selectByIds(
+            objectGroupIds,
+            new BasicDBObject(MetadataDocument.ORIGINATING_AGENCIES, 1)
+        );
+        for (ObjectGroup objectGroup : objectGroups) {
+            originatingAgencies.put(
+                objectGroup.getId(),
+                objectGroup.getCollectionOrEmpty(ObjectGroup.ORIGINATING_AGENCIES)
+            );
+        }
+        return originatingAgencies;
     }
 }
@@ -34,6 +34,7 @@ import fr.gouv.vitam.common.database.server.elasticsearch.ElasticsearchAccess;
 import fr.gouv.vitam.common.database.server.elasticsearch.ElasticsearchFacetResultHelper;
 import fr.gouv.vitam.common.database.server.elasticsearch.ElasticsearchIndexAlias;
 import fr.gouv.vitam.common.database.server.elasticsearch.ElasticsearchIndexSettings;
+import fr.gouv.vitam.common.database.server.elasticsearch.ElasticsearchIndexationMode;
 import fr.gouv.vitam.common.database.server.elasticsearch.ElasticsearchNode;
 import fr.gouv.vitam.common.database.server.mongodb.VitamDocument;
 import fr.gouv.vitam.common.exception.BadRequestException;
@@ -59,7 +60,9 @@ import org.elasticsearch.search.sort.SortBuilders;
 import org.elasticsearch.search.sort.SortOrder;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 /**
  * ElasticSearch model with MongoDB as main database
@@ -70,6 +73,8 @@ public class ElasticsearchAccessMetadata extends ElasticsearchAccess {
 
     private final ElasticsearchMetadataIndexManager indexManager;
 
+    private final Map<MetadataCollections, ElasticsearchIndexationMode> indexationModes;
+
     /**
      * @param clusterName cluster name
      * @param nodes list of elasticsearch node
@@ -80,9 +85,26 @@ public class ElasticsearchAccessMetadata extends ElasticsearchAccess {
         final String clusterName,
         List<ElasticsearchNode> nodes,
         ElasticsearchMetadataIndexManager indexManager
+    ) throws VitamException {
+        this(clusterName, nodes, indexManager, Collections.emptyMap());
+    }
+
+    /**
+     * @param clusterName cluster name
+     * @param nodes list of elasticsearch node
+     * @param indexManager
+     * @param indexationModes bulk indexation refresh behaviour by collection (IMMEDIATE if not set)
+     * @throws VitamException if nodes list is empty
+     */
+    public ElasticsearchAccessMetadata(
+        final String clusterName,
+        List<ElasticsearchNode> nodes,
+        ElasticsearchMetadataIndexManager indexManager,
+        Map<MetadataCollections, ElasticsearchIndexationMode> indexationModes
     ) throws VitamException {
         super(clusterName, nodes);
         this.indexManager = indexManager;
+        this.indexationModes = indexationModes;
     }
 
     public void createIndexesAndAliases(MetadataCollections... collections) {
@@ -318,7 +340,11 @@ public class ElasticsearchAccessMetadata extends ElasticsearchAccess {
         try {
             ElasticsearchIndexAlias indexAlias =
                 this.indexManager.getElasticsearchIndexAliasResolver(collection).resolveIndexName(tenantId);
-            super.indexEntries(indexAlias, documents);
+            super.indexEntries(
+                indexAlias,
+                documents,
+                indexationModes.getOrDefault(collection, ElasticsearchIndexationMode.IMMEDIATE)
+            );
         } catch (DatabaseException e) {
             throw new MetaDataExecutionException(e);
         }
@@ -347,6 +373,27 @@ public class ElasticsearchAccessMetadata extends ElasticsearchAccess {
         }
     }
 
+    /**
+     * Update several elements fully, using bulk requests
+     *
+     * @param collection
+     * @param tenantId
+     * @param documents full documents to update
+     */
+    public void updateFullDocuments(
+        MetadataCollections collection,
+        Integer tenantId,
+        Collection<? extends MetadataDocument<?>> documents
+    ) throws MetaDataExecutionException {
+        try {
+            ElasticsearchIndexAlias indexAlias =
+                this.indexManager.getElasticsearchIndexAliasResolver(collection).resolveIndexName(tenantId);
+            super.updateEntries(indexAlias, documents);
+        } catch (DatabaseException e) {
+            throw new MetaDataExecutionException(e);
+        }
+    }
+
     public void deleteBulkOGEntriesIndexes(List<String> ids, final Integer tenantId) throws MetaDataExecutionException {
         bulkDelete(ids, tenantId, MetadataCollections.OBJECTGROUP);
     }
@@ -0,0 +1,381 @@
+/*
+ * Copyright French Prime minister Office/SGMAP/DINSIC/Vitam Program (2015-2022)
+ *
+ * contact.vitam@culture.gouv.fr
+ *
+ * This software is a computer program whose purpose is to implement a digital archiving back-office system managing
+ * high volumetry securely and efficiently.
+ *
+ * This software is governed by the CeCILL 2.1 license under French law and abiding by the rules of distribution of free
+ * software. You can use, modify and/ or redistribute the software under the terms of the CeCILL 2.1 license as
+ * circulated by CEA, CNRS and INRIA at the following URL "https://cecill.info".
+ *
+ * As a counterpart to the access to the source code and rights to copy, modify and redistribute granted by the license,
+ * users are provided only with a limited warranty and the software's author, the holder of the economic rights, and the
+ * successive licensors have only limited liability.
+ *
+ * In this respect, the user's attention is drawn to the risks associated with loading, using, modifying and/or
+ * developing or reproducing the software by the user in light of its specific status of free software, that may mean
+ * that it is complicated to manipulate, and that also therefore means that it is reserved for developers and
+ * experienced professionals having in-depth computer knowledge. Users are therefore encouraged to load and test the
+ * software's suitability as regards their requirements in conditions enabling the security of their systems and/or data
+ * to be ensured and, more generally, to use and operate it in the same conditions as regards security.
+ *
+ * The fact that you are presently reading this means that you have had knowledge of the CeCILL 2.1 license and that you
+ * accept its terms.
+ */
+package fr.gouv.vitam.metadata.core.graph;
+
+import fr.gouv.vitam.common.graph.GraphUtils;
+import fr.gouv.vitam.metadata.core.database.collections.MetadataDocument;
+import fr.gouv.vitam.metadata.core.database.collections.Unit;
+import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.lang.StringUtils;
+import org.bson.Document;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In memory cache of unit ancestor closures (_us, _uds, _graph, _sps) used by incremental graph computation.
+ *
+ * Unit ids and originating agencies are interned as ints, and closures are stored as sorted int / long arrays to
+ * keep memory footprint low. A unit closure is derived from the closures of its direct parents.
+ */
+public class GraphClosureCache {
+
+    private static final char GRAPH_RELATION_SEPARATOR = '/';
+
+    private final int maxEntries;
+    private final Map<String, Integer> ids = new ConcurrentHashMap<>();
+    private final Map<Integer, String> values = new ConcurrentHashMap<>();
+    private final AtomicInteger sequence = new AtomicInteger();
+    private final Map<String, UnitClosure> closures = new ConcurrentHashMap<>();
+
+    public GraphClosureCache(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Clears closures and interned ids. Should only be called with exclusive access to the cache : closures being
+     * derived concurrently would otherwise resolve ids against a cleared table
+     */
+    public void invalidateAll() {
+        closures.clear();
+        ids.clear();
+        values.clear();
+        sequence.set(0);
+    }
+
+    /**
+     * Invalidates the cache once max entries is reached. Should only be called with exclusive access to the cache
+     */
+    public void trimIfFull() {
+        if (isFull()) {
+            invalidateAll();
+        }
+    }
+
+    public boolean isFull() {
+        return closures.size() >= maxEntries;
+    }
+
+    public UnitClosure get(String unitId) {
+        return closures.get(unitId);
+    }
+
+    public void put(String unitId, UnitClosure closure) {
+        closures.put(unitId, closure);
+    }
+
+    public int size() {
+        return closures.size();
+    }
+
+    /**
+     * Builds the closure persisted in a unit document.
+     *
+     * @param unit unit document with _up, _originatingAgency, _us, _uds, _graph, _sps & _glpd fields
+     * @return the persisted closure, or null if it is missing or obviously stale
+     */
+    public UnitClosure fromPersisted(Document unit) {
+        String originatingAgency = unit.getString(Unit.ORIGINATING_AGENCY);
+        List<String> up = unit.getList(Unit.UP, String.class);
+        if (CollectionUtils.isEmpty(up)) {
+            return fromSets(
+                new HashSet<>(),
+                new HashMap<>(),
+                new HashSet<>(),
+                StringUtils.isNotEmpty(originatingAgency) ? Set.of(originatingAgency) : Set.of()
+            );
+        }
+
+        List<String> us = unit.getList(Unit.UNITUPS, String.class);
+        List<String> graph = unit.getList(Unit.GRAPH, String.class);
+        List<String> sps = unit.getList(Unit.ORIGINATING_AGENCIES, String.class);
+        Document uds = unit.get(Unit.UNITDEPTHS, Document.class);
+        if (
+            unit.get(MetadataDocument.GRAPH_LAST_PERSISTED_DATE) == null ||
+            us == null ||
+            graph == null ||
+            sps == null ||
+            uds == null ||
+            !us.containsAll(up)
+        ) {
+            return null;
+        }
+
+        Map<String, Collection<String>> parentsDepths = new HashMap<>();
+        for (String depth : uds.keySet()) {
+            parentsDepths.put(depth, uds.getList(depth, String.class));
+        }
+        return fromSets(us, parentsDepths, graph, sps);
+    }
+
+    /**
+     * Builds a closure from its expanded representation
+     */
+    public UnitClosure fromSets(
+        Collection<String> us,
+        Map<String, Collection<String>> parentsDepths,
+        Collection<String> graph,
+        Collection<String> sps
+    ) {
+        int maxDepth = 0;
+        for (String depth : parentsDepths.keySet()) {
+            maxDepth = Math.max(maxDepth, Integer.parseInt(depth));
+        }
+        int[][] ancestorsByDepth = new int[maxDepth][];
+        for (int depth = 1; depth <= maxDepth; depth++) {
+            Collection<String> ancestors = parentsDepths.get(String.valueOf(depth));
+            ancestorsByDepth[depth - 1] = ancestors == null ? new int[0] : internAll(ancestors);
+        }
+
+        long[] relations = new long[graph.size()];
+        int count = 0;
+        for (String relation : graph) {
+            int separator = relation.indexOf(GRAPH_RELATION_SEPARATOR);
+            relations[count++] = relation(
+                intern(relation.substring(0, separator)),
+                intern(relation.substring(separator + 1))
+            );
+        }
+
+        return new UnitClosure(internAll(us), ancestorsByDepth, sortedUnique(relations, count), internAll(sps));
+    }
+
+    /**
+     * Derives a unit closure from the closures of its direct parents
+     *
+     * @param unitId the unit id
+     * @param originatingAgency the unit originating agency
+     * @param up the unit direct parents
+     * @param parentClosures closures of direct parents, in the same order
+     * @return the unit closure
+     */
+    public UnitClosure derive(
+        String unitId,
+        String originatingAgency,
+        List<String> up,
+        List<UnitClosure> parentClosures
+    ) {
+        int unit = intern(unitId);
+        int[] parents = internAll(up);
+
+        int ancestorsLength = parents.length;
+        int relationsLength = parents.length;
+        int spsLength = 1;
+        int maxDepth = parents.length == 0 ? 0 : 1;
+        for (UnitClosure parentClosure : parentClosures) {
+            ancestorsLength += parentClosure.ancestors.length;
+            relationsLength += parentClosure.relations.length;
+            spsLength += parentClosure.originatingAgencies.length;
+            maxDepth = Math.max(maxDepth, parentClosure.ancestorsByDepth.length + 1);
+        }
+
+        int[] ancestors = Arrays.copyOf(parents, ancestorsLength);
+        long[] relations = new long[relationsLength];
+        int[] sps = new int[spsLength];
+        int ancestorsCount = parents.length;
+        int relationsCount = 0;
+        int spsCount = 0;
+
+        for (int parent : parents) {
+            relations[relationsCount++] = relation(unit, parent);
+        }
+        if (StringUtils.isNotEmpty(originatingAgency)) {
+            sps[spsCount++] = intern(originatingAgency);
+        }
+        for (UnitClosure parentClosure : parentClosures) {
+            System.arraycopy(parentClosure.ancestors, 0, ancestors, ancestorsCount, parentClosure.ancestors.length);
+            ancestorsCount += parentClosure.ancestors.length;
+            System.arraycopy(parentClosure.relations, 0, relations, relationsCount, parentClosure.relations.length);
+            relationsCount += parentClosure.relations.length;
+            System.arraycopy(
+                parentClosure.originatingAgencies,
+                0,
+                sps,
+                spsCount,
+                parentClosure.originatingAgencies.length
+            );
+            spsCount += parentClosure.originatingAgencies.length;
+        }
+
+        // Depth 1 ancestors are direct parents. Depth n+1 ancestors are parents depth n ancestors.
+        int[][] ancestorsByDepth = new int[maxDepth][];
+        if (maxDepth > 0) {
+            ancestorsByDepth[0] = sortedUnique(parents.clone(), parents.length);
+        }
+        for (int depth = 2; depth <= maxDepth; depth++) {
+            int length = 0;
+            for (UnitClosure parentClosure : parentClosures) {
+                if (parentClosure.ancestorsByDepth.length >= depth - 1) {
+                    length += parentClosure.ancestorsByDepth[depth - 2].length;
+                }
+            }
+            int[] depthAncestors = new int[length];
+            int count = 0;
+            for (UnitClosure parentClosure : parentClosures) {
+                if (parentClosure.ancestorsByDepth.length >= depth - 1) {
+                    int[] parentDepthAncestors = parentClosure.ancestorsByDepth[depth - 2];
+                    System.arraycopy(parentDepthAncestors, 0, depthAncestors, count, parentDepthAncestors.length);
+                    count += parentDepthAncestors.length;
+                }
+            }
+            ancestorsByDepth[depth - 1] = sortedUnique(depthAncestors, count);
+        }
+
+        return new UnitClosure(
+            sortedUnique(ancestors, ancestorsCount),
+            ancestorsByDepth,
+            sortedUnique(relations, relationsCount),
+            sortedUnique(sps, spsCount)
+        );
+    }
+
+    public Set<String> getUnitUps(UnitClosure closure) {
+        return resolveAll(closure.ancestors);
+    }
+
+    /**
+     * @return the _uds map (MongoDB do not accept number as key of map, so depths are converted to String)
+     */
+    public Map<String, Collection<String>> getUnitDepths(UnitClosure closure) {
+        Map<String, Collection<String>> parentsDepths = new HashMap<>();
+        for (int depth = 1; depth <= closure.ancestorsByDepth.length; depth++) {
+            if (closure.ancestorsByDepth[depth - 1].length > 0) {
+                parentsDepths.put(String.valueOf(depth), resolveAll(closure.ancestorsByDepth[depth - 1]));
+            }
+        }
+        return parentsDepths;
+    }
+
+    public Set<String> getGraph(UnitClosure closure) {
+        Set<String> graph = new HashSet<>();
+        for (long relation : closure.relations) {
+            graph.add(GraphUtils.createGraphRelation(resolve((int) (relation >>> 32)), resolve((int) relation)));
+        }
+        return graph;
+    }
+
+    public Set<String> getOriginatingAgencies(UnitClosure closure) {
+        return resolveAll(closure.originatingAgencies);
+    }
+
+    private int intern(String value) {
+        Integer id = ids.get(value);
+        if (id != null) {
+            return id;
+        }
+        return ids.computeIfAbsent(value, key -> {
+            int newId = sequence.getAndIncrement();
+            values.put(newId, key);
+            return newId;
+        });
+    }
+
+    private int[] internAll(Collection<String> collection) {
+        int[] result = new int[collection.size()];
+        int count = 0;
+        for (String value : collection) {
+            result[count++] = intern(value);
+        }
+        return sortedUnique(result, count);
+    }
+
+    private String resolve(int id) {
+        return values.get(id);
+    }
+
+    private Set<String> resolveAll(int[] interned) {
+        Set<String> result = new HashSet<>(interned.length * 2);
+        for (int id : interned) {
+            result.add(resolve(id));
+        }
+        return result;
+    }
+
+    private static long relation(int unit, int parent) {
+        return ((long) unit << 32) | (parent & 0xFFFFFFFFL);
+    }
+
+    private static int[] sortedUnique(int[] array, int length) {
+        Arrays.sort(array, 0, length);
+        int count = 0;
+        for (int i = 0; i < length; i++) {
+            if (count == 0 || array[count - 1] != array[i]) {
+                array[count++] = array[i];
+            }
+        }
+        return count == array.length ? array : Arrays.copyOf(array, count);
+    }
+
+    private static long[] sortedUnique(long[] array, int length) {
+        Arrays.sort(array, 0, length);
+        int count = 0;
+        for (int i = 0; i < length; i++) {
+            if (count == 0 || array[count - 1] != array[i]) {
+                array[count++] = array[i];
+            }
+        }
+        return count == array.length ? array : Arrays.copyOf(array, count);
+    }
+
+    /**
+     * Compact unit ancestor closure. Fields hold ids interned by the owning {@link GraphClosureCache}.
+     */
+    public static final class UnitClosure {
+
+        private final int[] ancestors;
+        private final int[][] ancestorsByDepth;
+        private final long[] relations;
+        private final int[] originatingAgencies;
+
+        private UnitClosure(int[] ancestors, int[][] ancestorsByDepth, long[] relations, int[] originatingAgencies) {
+            this.ancestors = ancestors;
+            this.ancestorsByDepth = ancestorsByDepth;
+            this.relations = relations;
+            this.originatingAgencies = originatingAgencies;
+        }
+
+        /**
+         * @return the _max value (1 if no parent, 2 if only one level of parents...)
+         */
+        public int getMaxDepth() {
+            int maxDepth = 0;
+            for (int depth = 1; depth <= ancestorsByDepth.length; depth++) {
+                if (ancestorsByDepth[depth - 1].length > 0) {
+                    maxDepth = depth;
+                }
+            }
+            return maxDepth + 1;
+        }
+    }
+}
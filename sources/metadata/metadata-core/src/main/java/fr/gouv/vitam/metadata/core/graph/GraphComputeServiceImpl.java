@@ -28,9 +28,11 @@ package fr.gouv.vitam.metadata.core.graph;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.cache.LoadingCache;
 import com.google.common.collect.Iterators;
 import com.mongodb.Function;
+import com.mongodb.MongoClientSettings;
 import com.mongodb.client.FindIterable;
 import com.mongodb.client.MongoCursor;
 import com.mongodb.client.model.UpdateOneModel;
@@ -65,6 +67,8 @@ import fr.gouv.vitam.metadata.api.exception.MetaDataException;
 import fr.gouv.vitam.metadata.api.exception.MetaDataExecutionException;
 import fr.gouv.vitam.metadata.api.exception.MetaDataNotFoundException;
 import fr.gouv.vitam.metadata.core.MetaDataImpl;
+import fr.gouv.vitam.metadata.core.accession.AccessionRegisterSymbolicCounterService;
+import fr.gouv.vitam.metadata.core.accession.AccessionRegisterSymbolicDeltas;
 import fr.gouv.vitam.metadata.core.config.ElasticsearchMetadataIndexManager;
 import fr.gouv.vitam.metadata.core.database.collections.MetadataCollections;
 import fr.gouv.vitam.metadata.core.database.collections.MetadataDocument;
@@ -85,6 +89,7 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -94,6 +99,8 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -126,20 +133,29 @@ public class GraphComputeServiceImpl implements GraphComputeService, VitamAutoCl
     private final VitamRepositoryProvider vitamRepositoryProvider;
     private final MetaDataImpl metaData;
     private final ElasticsearchMetadataIndexManager indexManager;
+    private final GraphClosureCache closureCache;
+    /**
+     * Closure cache is shared by concurrent computations : they derive closures under the read lock, while
+     * invalidation (which clears interned ids) requires the write lock
+     */
+    private final ReadWriteLock closureCacheLock = new ReentrantReadWriteLock();
 
-    private String currentOperation = null;
+    private volatile String currentOperation = null;
 
-    private GraphComputeServiceImpl(
+    @VisibleForTesting
+    GraphComputeServiceImpl(
         VitamRepositoryProvider vitamRepositoryProvider,
         MetaDataImpl metaData,
         VitamCache<String, Document> cache,
         ElasticsearchMetadataIndexManager indexManager,
-        List<Integer> tenants
+        List<Integer> tenants,
+        GraphClosureCache closureCache
     ) {
         this.vitamRepositoryProvider = vitamRepositoryProvider;
         this.metaData = metaData;
         this.cache = cache;
         this.indexManager = indexManager;
+        this.closureCache = closureCache;
         tenants.forEach(tenant -> lockers.put(tenant, new AtomicBoolean(false)));
     }
 
@@ -147,6 +163,18 @@ public class GraphComputeServiceImpl implements GraphComputeService, VitamAutoCl
         VitamRepositoryProvider vitamRepositoryProvider,
         MetaDataImpl metaData,
         ElasticsearchMetadataIndexManager indexManager
+    ) {
+        return initialize(vitamRepositoryProvider, metaData, indexManager, null);
+    }
+
+    /**
+     * @param closureCache if not null, unit graphs are computed incrementally from parent closures
+     */
+    public static synchronized GraphComputeService initialize(
+        VitamRepositoryProvider vitamRepositoryProvider,
+        MetaDataImpl metaData,
+        ElasticsearchMetadataIndexManager indexManager,
+        GraphClosureCache closureCache
     ) {
         if (instance == null) {
             instance = new GraphComputeServiceImpl(
@@ -154,7 +182,8 @@ public class GraphComputeServiceImpl implements GraphComputeService, VitamAutoCl
                 metaData,
                 GraphComputeCache.getInstance(),
                 indexManager,
-                VitamConfiguration.getTenants()
+                VitamConfiguration.getTenants(),
+                closureCache
             );
         }
         return instance;
@@ -273,18 +302,11 @@ public class GraphComputeServiceImpl implements GraphComputeService, VitamAutoCl
             final MongoCursor<Document> cursor = vitamRepositoryProvider
                 .getVitamMongoRepository(metadataCollections.getVitamCollection())
                 .findDocuments(in(Unit.ID, documentsId), VitamConfiguration.getBatchSize())
-                .projection(
-                    include(
-                        Unit.UP,
-                        Unit.OG,
-                        Unit.ORIGINATING_AGENCY,
-                        Unit.ORIGINATING_AGENCIES,
-                        Unit.VALID_COMPUTED_INHERITED_RULES
-                    )
-                )
+                .projection(include(getGraphProjection(metadataCollections)))
                 .iterator();
 
             List<Document> documents = new ArrayList<>();
+            Set<String> pendingUnitIds = new HashSet<>(documentsId);
 
             while (cursor.hasNext()) {
                 response.increment(GraphComputeAction.valueOf(metadataCollections.name()), 1);
@@ -297,7 +319,8 @@ public class GraphComputeServiceImpl implements GraphComputeService, VitamAutoCl
 
                 documents.add(doc);
                 if (!cursor.hasNext() || documents.size() >= VitamConfiguration.getBatchSize()) {
-                    computeGraph(metadataCollections, documents, invalidateComputedInheritedRules);
+                    computeGraph(metadataCollections, documents, pendingUnitIds, invalidateComputedInheritedRules);
+                    documents.forEach(document -> pendingUnitIds.remove(document.getString(Unit.ID)));
                     documents = new ArrayList<>();
                 }
             }
@@ -327,6 +350,24 @@ public class GraphComputeServiceImpl implements GraphComputeService, VitamAutoCl
         return response;
     }
 
+    private List<String> getGraphProjection(MetadataCollections metadataCollections) {
+        List<String> projection = new ArrayList<>(
+            List.of(
+                Unit.UP,
+                Unit.OG,
+                Unit.ORIGINATING_AGENCY,
+                Unit.ORIGINATING_AGENCIES,
+                Unit.VALID_COMPUTED_INHERITED_RULES
+            )
+        );
+        if (metadataCollections == MetadataCollections.OBJECTGROUP && isAccessionRegisterSymbolicDeltaModeEnabled()) {
+            // Binary objects are accounted in symbolic accession registers
+            projection.add(ObjectGroup.OBJECTID);
+            projection.add(ObjectGroup.OBJECTSIZE);
+        }
+        return projection;
+    }
+
     private void tryInvalidateCache() {
         String operation = VitamThreadUtils.getVitamSession().getRequestId();
         // Invalidate cache if operation change
@@ -336,6 +377,14 @@ public class GraphComputeServiceImpl implements GraphComputeService, VitamAutoCl
                 "[Graph compute] cache before invalidate : " + GraphComputeCache.getInstance().getCache().stats()
             );
             getCache().invalidateAll();
+            if (closureCache != null) {
+                closureCacheLock.writeLock().lock();
+                try {
+                    closureCache.invalidateAll();
+                } finally {
+                    closureCacheLock.writeLock().unlock();
+                }
+            }
         } else if (RandomUtils.nextInt(1, 20) % 2 == 0) {
             // If we want to see randomly cache stats. To be removed when stats not needed
             LOGGER.info("[Graph compute] cache : " + GraphComputeCache.getInstance().getCache().stats());
@@ -411,14 +460,21 @@ public class GraphComputeServiceImpl implements GraphComputeService, VitamAutoCl
      *
      * @param metadataCollections the type the collection (Unit or ObjectGroup)
      * @param documents the concerning collection of documents
+     * @param pendingUnitIds ids of units to compute, and not yet computed
      * @param invalidateComputedInheritedRules
      * @throws MetaDataException
      */
     private void computeGraph(
         MetadataCollections metadataCollections,
         List<Document> documents,
+        Set<String> pendingUnitIds,
         boolean invalidateComputedInheritedRules
     ) throws MetaDataException {
+        if (metadataCollections == MetadataCollections.UNIT && closureCache != null) {
+            computeUnitGraphByLevel(documents, pendingUnitIds, invalidateComputedInheritedRules);
+            return;
+        }
+
         preLoadCache(documents);
 
         Function<Document, WriteModel<Document>> func;
@@ -434,48 +490,246 @@ public class GraphComputeServiceImpl implements GraphComputeService, VitamAutoCl
                     throw new MetaDataException("Collection (" + metadataCollections + ") not supported");
             }
 
-            final Integer scopedTenant = VitamThreadUtils.getVitamSession().getTenantId();
-            final String scopedXRequestId = VitamThreadUtils.getVitamSession().getRequestId();
+            List<WriteModel<Document>> updateOneModels = computeUpdates(documents, func);
+            persistGraphUpdates(metadataCollections, documents, updateOneModels);
+        } catch (VitamRuntimeException e) {
+            throw new MetaDataException(e.getCause());
+        }
+    }
 
-            // Create a batch of CompletableFuture.
-            CompletableFuture<WriteModel<Document>>[] features = documents
+    /**
+     * Incremental unit graph computation.<br>
+     * Units are computed level by level (parents before children), and each unit closure is derived from its direct
+     * parents closures : freshly computed ones (kept in the closure cache), or persisted ones. The full graph walk is
+     * only used when a parent closure is stale (parent to be computed later, or missing / inconsistent graph fields).
+     */
+    private void computeUnitGraphByLevel(
+        List<Document> documents,
+        Set<String> pendingUnitIds,
+        boolean invalidateComputedInheritedRules
+    ) throws MetaDataException {
+        if (closureCache.isFull()) {
+            closureCacheLock.writeLock().lock();
+            try {
+                closureCache.trimIfFull();
+            } finally {
+                closureCacheLock.writeLock().unlock();
+            }
+        }
+
+        Set<String> notComputedUnitIds = new HashSet<>(pendingUnitIds);
+        Map<String, Document> remainingDocuments = new LinkedHashMap<>();
+        documents.forEach(document -> remainingDocuments.put(document.getString(Unit.ID), document));
+
+        List<WriteModel<Document>> updateOneModels = new ArrayList<>();
+        try {
+            closureCacheLock.readLock().lock();
+            try {
+                computeUnitGraphUpdatesByLevel(
+                    remainingDocuments,
+                    notComputedUnitIds,
+                    invalidateComputedInheritedRules,
+                    updateOneModels
+                );
+            } finally {
+                closureCacheLock.readLock().unlock();
+            }
+
+            persistGraphUpdates(MetadataCollections.UNIT, documents, updateOneModels);
+        } catch (VitamRuntimeException e) {
+            throw new MetaDataException(e.getCause());
+        }
+    }
+
+    /**
+     * Should be called holding the closure cache read lock
+     */
+    private void computeUnitGraphUpdatesByLevel(
+        Map<String, Document> remainingDocuments,
+        Set<String> notComputedUnitIds,
+        boolean invalidateComputedInheritedRules,
+        List<WriteModel<Document>> updateOneModels
+    ) throws MetaDataException {
+        while (!remainingDocuments.isEmpty()) {
+            List<Document> level = remainingDocuments
+                .values()
                 .stream()
-                .map(o ->
-                    CompletableFuture.supplyAsync(
-                        () -> {
-                            VitamThreadUtils.getVitamSession().setTenantId(scopedTenant);
-                            VitamThreadUtils.getVitamSession().setRequestId(scopedXRequestId);
-                            return func.apply(o);
-                        },
-                        executor
-                    ))
-                .toArray(CompletableFuture[]::new);
-
-            CompletableFuture<List<WriteModel<Document>>> result = CompletableFuture.allOf(features).thenApply(
-                v -> Stream.of(features).map(CompletableFuture::join).collect(Collectors.toList())
+                .filter(document -> !hasParentIn(document, remainingDocuments.keySet()))
+                .collect(Collectors.toList());
+            if (level.isEmpty()) {
+                // Cycle : parent closures are stale, so remaining units fall back to full graph walk
+                level = new ArrayList<>(remainingDocuments.values());
+            }
+
+            loadPersistedClosures(level, notComputedUnitIds);
+
+            final Set<String> staleUnitIds = Set.copyOf(notComputedUnitIds);
+            updateOneModels.addAll(
+                computeUpdates(
+                    level,
+                    document ->
+                        computeUnitGraphFromParentClosures(document, staleUnitIds, invalidateComputedInheritedRules)
+                )
             );
-            List<WriteModel<Document>> updateOneModels = result.get();
 
-            if (!updateOneModels.isEmpty()) {
-                try {
-                    this.bulkUpdateMongo(metadataCollections, updateOneModels);
-                    // Re-Index all documents
-                    this.bulkElasticsearch(
-                            metadataCollections,
-                            documents.stream().map(o -> o.getString(Unit.ID)).collect(Collectors.toSet())
-                        );
-                } catch (DatabaseException e) {
-                    // Rollback in MongoDB and Elasticsearch
-                    throw new MetaDataException(e);
+            for (Document document : level) {
+                remainingDocuments.remove(document.getString(Unit.ID));
+                notComputedUnitIds.remove(document.getString(Unit.ID));
+            }
+        }
+    }
+
+    private boolean hasParentIn(Document document, Set<String> unitIds) {
+        List<String> up = document.getList(Unit.UP, String.class);
+        return up != null && up.stream().anyMatch(unitIds::contains);
+    }
+
+    /**
+     * Loads into the closure cache the persisted closures of level parents that are neither cached nor pending
+     */
+    private void loadPersistedClosures(List<Document> level, Set<String> notComputedUnitIds) {
+        Set<String> parentIds = level
+            .stream()
+            .map(document -> document.getList(Unit.UP, String.class))
+            .filter(CollectionUtils::isNotEmpty)
+            .flatMap(Collection::stream)
+            .filter(parentId -> !notComputedUnitIds.contains(parentId) && closureCache.get(parentId) == null)
+            .collect(Collectors.toSet());
+        if (parentIds.isEmpty()) {
+            return;
+        }
+
+        try (
+            MongoCursor<Document> cursor = vitamRepositoryProvider
+                .getVitamMongoRepository(MetadataCollections.UNIT.getVitamCollection())
+                .findDocuments(in(Unit.ID, parentIds), VitamConfiguration.getBatchSize())
+                .projection(
+                    include(
+                        Unit.UP,
+                        Unit.ORIGINATING_AGENCY,
+                        Unit.UNITUPS,
+                        Unit.UNITDEPTHS,
+                        Unit.GRAPH,
+                        Unit.ORIGINATING_AGENCIES,
+                        Unit.GRAPH_LAST_PERSISTED_DATE
+                    )
+                )
+                .iterator()
+        ) {
+            while (cursor.hasNext()) {
+                Document parent = cursor.next();
+                GraphClosureCache.UnitClosure closure = closureCache.fromPersisted(parent);
+                if (closure != null) {
+                    closureCache.put(parent.getString(Unit.ID), closure);
                 }
             }
-        } catch (VitamRuntimeException e) {
-            throw new MetaDataException(e.getCause());
+        }
+    }
+
+    private List<WriteModel<Document>> computeUpdates(
+        List<Document> documents,
+        Function<Document, WriteModel<Document>> func
+    ) throws MetaDataException {
+        final Integer scopedTenant = VitamThreadUtils.getVitamSession().getTenantId();
+        final String scopedXRequestId = VitamThreadUtils.getVitamSession().getRequestId();
+
+        // Create a batch of CompletableFuture.
+        CompletableFuture<WriteModel<Document>>[] features = documents
+            .stream()
+            .map(o ->
+                CompletableFuture.supplyAsync(
+                    () -> {
+                        VitamThreadUtils.getVitamSession().setTenantId(scopedTenant);
+                        VitamThreadUtils.getVitamSession().setRequestId(scopedXRequestId);
+                        return func.apply(o);
+                    },
+                    executor
+                ))
+            .toArray(CompletableFuture[]::new);
+
+        CompletableFuture<List<WriteModel<Document>>> result = CompletableFuture.allOf(features).thenApply(
+            v -> Stream.of(features).map(CompletableFuture::join).collect(Collectors.toList())
+        );
+        try {
+            return result.get();
         } catch (InterruptedException | ExecutionException e) {
             throw new MetaDataException(e);
         }
     }
 
+    private void persistGraphUpdates(
+        MetadataCollections metadataCollections,
+        List<Document> documents,
+        List<WriteModel<Document>> updateOneModels
+    ) throws MetaDataException {
+        if (!updateOneModels.isEmpty()) {
+            try {
+                this.bulkUpdateMongo(metadataCollections, updateOneModels);
+                // Re-Index all documents
+                this.bulkElasticsearch(
+                        metadataCollections,
+                        documents.stream().map(o -> o.getString(Unit.ID)).collect(Collectors.toSet())
+                    );
+            } catch (DatabaseException e) {
+                // Rollback in MongoDB and Elasticsearch
+                throw new MetaDataException(e);
+            }
+            applyAccessionRegisterSymbolicDeltas(metadataCollections, documents, updateOneModels);
+        }
+    }
+
+    private boolean isAccessionRegisterSymbolicDeltaModeEnabled() {
+        if (metaData == null) {
+            return false;
+        }
+        AccessionRegisterSymbolicCounterService counterService = metaData.getAccessionRegisterSymbolicCounterService();
+        return counterService != null && counterService.isEnabled();
+    }
+
+    /**
+     * Accounts _sps changes in symbolic accession register counters. Documents hold the previous _sps, and updates
+     * the new ones.
+     */
+    @SuppressWarnings("unchecked")
+    private void applyAccessionRegisterSymbolicDeltas(
+        MetadataCollections metadataCollections,
+        List<Document> documents,
+        List<WriteModel<Document>> updateOneModels
+    ) {
+        if (!isAccessionRegisterSymbolicDeltaModeEnabled()) {
+            return;
+        }
+
+        Map<String, Document> documentsById = new HashMap<>();
+        documents.forEach(document -> documentsById.put(document.getString(Unit.ID), document));
+
+        AccessionRegisterSymbolicDeltas deltas = new AccessionRegisterSymbolicDeltas();
+        for (WriteModel<Document> writeModel : updateOneModels) {
+            UpdateOneModel<Document> updateOneModel = (UpdateOneModel<Document>) writeModel;
+            String id = updateOneModel
+                .getFilter()
+                .toBsonDocument(Document.class, MongoClientSettings.getDefaultCodecRegistry())
+                .getString(Unit.ID)
+                .getValue();
+            Document document = documentsById.get(id);
+            Document update = ((Document) updateOneModel.getUpdate()).get($_SET, Document.class);
+            if (document == null || update == null) {
+                continue;
+            }
+
+            Collection<String> previousSps = document.getList(Unit.ORIGINATING_AGENCIES, String.class);
+            Collection<String> currentSps = (Collection<String>) update.get(Unit.ORIGINATING_AGENCIES);
+            if (metadataCollections == MetadataCollections.UNIT) {
+                deltas.addUnit(document.getString(Unit.ORIGINATING_AGENCY), previousSps, currentSps);
+            } else {
+                deltas.addObjectGroup(document, previousSps, currentSps);
+            }
+        }
+        metaData
+            .getAccessionRegisterSymbolicCounterService()
+            .apply(VitamThreadUtils.getVitamSession().getTenantId(), deltas);
+    }
+
     /**
      * Create update model for Unit
      *
@@ -485,6 +739,76 @@ public class GraphComputeServiceImpl implements GraphComputeService, VitamAutoCl
      */
     private UpdateOneModel<Document> computeUnitGraph(Document document, boolean invalidateComputedInheritedRules)
         throws VitamRuntimeException {
+        return createUnitGraphUpdate(document, computeUnitGraphFields(document), invalidateComputedInheritedRules);
+    }
+
+    /**
+     * Create update model for Unit, deriving its graph from its direct parents closures
+     *
+     * @param document
+     * @param staleUnitIds ids of units whose closure is not up to date yet
+     * @return UpdateOneModel for Unit
+     */
+    @SuppressWarnings("unchecked")
+    private UpdateOneModel<Document> computeUnitGraphFromParentClosures(
+        Document document,
+        Set<String> staleUnitIds,
+        boolean invalidateComputedInheritedRules
+    ) throws VitamRuntimeException {
+        String unitId = document.getString(Unit.ID);
+        List<String> up = document.getList(Unit.UP, String.class);
+
+        List<GraphClosureCache.UnitClosure> parentClosures = new ArrayList<>();
+        if (up != null) {
+            for (String parentId : up) {
+                GraphClosureCache.UnitClosure parentClosure = staleUnitIds.contains(parentId)
+                    ? null
+                    : closureCache.get(parentId);
+                if (parentClosure == null) {
+                    parentClosures = null;
+                    break;
+                }
+                parentClosures.add(parentClosure);
+            }
+        }
+
+        if (parentClosures == null) {
+            // Stale parent closure : full graph walk
+            Document update = computeUnitGraphFields(document);
+            closureCache.put(
+                unitId,
+                closureCache.fromSets(
+                    (Collection<String>) update.get(Unit.UNITUPS),
+                    (Map<String, Collection<String>>) update.get(Unit.UNITDEPTHS),
+                    (Collection<String>) update.get(Unit.GRAPH),
+                    (Collection<String>) update.get(Unit.ORIGINATING_AGENCIES)
+                )
+            );
+            return createUnitGraphUpdate(document, update, invalidateComputedInheritedRules);
+        }
+
+        GraphClosureCache.UnitClosure closure = closureCache.derive(
+            unitId,
+            document.getString(Unit.ORIGINATING_AGENCY),
+            up == null ? List.of() : up,
+            parentClosures
+        );
+        closureCache.put(unitId, closure);
+
+        Document update = new Document(Unit.ID, unitId)
+            .append(Unit.UNITUPS, closureCache.getUnitUps(closure))
+            .append(Unit.UNITDEPTHS, closureCache.getUnitDepths(closure))
+            .append(Unit.ORIGINATING_AGENCIES, closureCache.getOriginatingAgencies(closure))
+            .append(Unit.MINDEPTH, 1)
+            .append(Unit.MAXDEPTH, closure.getMaxDepth())
+            .append(Unit.GRAPH, closureCache.getGraph(closure));
+        return createUnitGraphUpdate(document, update, invalidateComputedInheritedRules);
+    }
+
+    /**
+     * Compute unit graph fields (_graph, _us, _uds, _max, _min, _sps) walking through all ancestors
+     */
+    private Document computeUnitGraphFields(Document document) throws VitamRuntimeException {
         List<GraphRelation> stackOrderedGraphRels = new ArrayList<>();
         List<String> up = document.getList(Unit.UP, String.class);
         String unitId = document.getString(Unit.ID);
@@ -534,14 +858,22 @@ public class GraphComputeServiceImpl implements GraphComputeService, VitamAutoCl
         // +1 because if no parent _max==1 if one parent _max==2
         Integer max = max_minus_one + 1;
 
-        Document update = new Document(Unit.ID, unitId)
+        return new Document(Unit.ID, unitId)
             .append(Unit.UNITUPS, us)
             .append(Unit.UNITDEPTHS, parentsDepths)
             .append(Unit.ORIGINATING_AGENCIES, sps)
             .append(Unit.MINDEPTH, min)
             .append(Unit.MAXDEPTH, max)
-            .append(Unit.GRAPH, graph)
-            .append(Unit.GRAPH_LAST_PERSISTED_DATE, LocalDateUtil.nowFormatted());
+            .append(Unit.GRAPH, graph);
+    }
+
+    private UpdateOneModel<Document> createUnitGraphUpdate(
+        Document document,
+        Document update,
+        boolean invalidateComputedInheritedRules
+    ) {
+        String unitId = document.getString(Unit.ID);
+        update.append(Unit.GRAPH_LAST_PERSISTED_DATE, LocalDateUtil.nowFormatted());
 
         Document data = new Document($_SET, update).append($_INC, new Document(MetadataDocument.ATOMIC_VERSION, 1));
 
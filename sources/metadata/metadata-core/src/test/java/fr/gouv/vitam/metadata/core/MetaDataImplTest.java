@@ -29,8 +29,10 @@ package fr.gouv.vitam.metadata.core;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.mongodb.client.MongoDatabase;
 import fr.gouv.vitam.common.PropertiesUtils;
+import fr.gouv.vitam.common.database.builder.query.action.SetAction;
 import fr.gouv.vitam.common.database.builder.request.configuration.BuilderToken.FILTERARGS;
 import fr.gouv.vitam.common.database.builder.request.multiple.InsertMultiQuery;
+import fr.gouv.vitam.common.database.builder.request.multiple.UpdateMultiQuery;
 import fr.gouv.vitam.common.database.index.model.ReindexationResult;
 import fr.gouv.vitam.common.database.index.model.SwitchIndexResult;
 import fr.gouv.vitam.common.database.parameter.IndexParameters;
@@ -53,6 +55,7 @@ import fr.gouv.vitam.common.thread.VitamThreadUtils;
 import fr.gouv.vitam.functional.administration.client.AdminManagementClient;
 import fr.gouv.vitam.functional.administration.client.AdminManagementClientFactory;
 import fr.gouv.vitam.metadata.api.exception.MetaDataExecutionException;
+import fr.gouv.vitam.metadata.api.exception.MetaDataNotFoundException;
 import fr.gouv.vitam.metadata.core.config.ElasticsearchMetadataIndexManager;
 import fr.gouv.vitam.metadata.core.database.collections.DbRequest;
 import fr.gouv.vitam.metadata.core.database.collections.MetadataCollections;
@@ -63,10 +66,13 @@ import fr.gouv.vitam.metadata.core.database.collections.ObjectGroup;
 import fr.gouv.vitam.metadata.core.database.collections.Result;
 import fr.gouv.vitam.metadata.core.database.collections.ResultDefault;
 import fr.gouv.vitam.metadata.core.database.collections.Unit;
+import fr.gouv.vitam.metadata.core.model.BulkUpdatedDocuments;
 import fr.gouv.vitam.metadata.core.model.MetadataResult;
 import fr.gouv.vitam.metadata.core.model.UpdateUnit;
 import fr.gouv.vitam.metadata.core.model.UpdatedDocument;
 import fr.gouv.vitam.metadata.core.utils.MappingLoaderTestUtils;
+import fr.gouv.vitam.metadata.core.validation.MetadataValidationErrorCode;
+import fr.gouv.vitam.metadata.core.validation.MetadataValidationException;
 import fr.gouv.vitam.metadata.core.validation.OntologyValidator;
 import fr.gouv.vitam.metadata.core.validation.UnitValidator;
 import org.junit.Before;
@@ -81,8 +87,11 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map.Entry;
 
+import static fr.gouv.vitam.common.model.StatusCode.KO;
 import static fr.gouv.vitam.common.model.StatusCode.OK;
+import static fr.gouv.vitam.metadata.core.model.UpdateUnitKey.CHECK_UNIT_SCHEMA;
 import static fr.gouv.vitam.metadata.core.model.UpdateUnitKey.UNIT_METADATA_UPDATE;
+import static fr.gouv.vitam.metadata.core.model.UpdateUnitKey.UNIT_UNKNOWN_OR_FORBIDDEN;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -93,12 +102,14 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -273,6 +284,59 @@ public class MetaDataImplTest {
         assertThat(result.getMessage()).isEqualTo("Update unit OK.");
     }
 
+    @Test
+    public void given_mass_update_query_When_UpdateUnits_Then_report_each_unit() throws Exception {
+        UpdateMultiQuery updateQuery = new UpdateMultiQuery();
+        updateQuery.addActions(new SetAction("title", "v2"));
+        updateQuery.addRoots("unit1", "unit2", "unit3");
+
+        BulkUpdatedDocuments bulkUpdatedDocuments = new BulkUpdatedDocuments();
+        bulkUpdatedDocuments.addUpdatedDocument(
+            new UpdatedDocument(
+                "unit1",
+                JsonHandler.createObjectNode().put("x", "v1"),
+                JsonHandler.createObjectNode().put("x", "v2"),
+                true
+            )
+        );
+        bulkUpdatedDocuments.addError("unit2", new MetaDataNotFoundException("Document not found by id unit2"));
+        bulkUpdatedDocuments.addError(
+            "unit3",
+            new MetadataValidationException(MetadataValidationErrorCode.SCHEMA_VALIDATION_FAILURE, "invalid")
+        );
+        when(
+            request.execUpdateRequests(
+                any(),
+                anyCollection(),
+                eq(MetadataCollections.UNIT),
+                any(OntologyValidator.class),
+                any(UnitValidator.class),
+                anyList(),
+                anyBoolean()
+            )
+        ).thenReturn(bulkUpdatedDocuments);
+
+        RequestResponseOK<UpdateUnit> response = (RequestResponseOK<UpdateUnit>) metaDataImpl.updateUnits(
+            updateQuery.getFinalUpdate(),
+            false
+        );
+
+        assertThat(response.getResults()).extracting(UpdateUnit::getUnitId).containsExactly("unit1", "unit2", "unit3");
+        assertThat(response.getResults()).extracting(UpdateUnit::getStatus).containsExactly(OK, KO, KO);
+        assertThat(response.getResults())
+            .extracting(UpdateUnit::getKey)
+            .containsExactly(UNIT_METADATA_UPDATE, UNIT_UNKNOWN_OR_FORBIDDEN, CHECK_UNIT_SCHEMA);
+        verify(request, times(1)).execUpdateRequests(
+            any(),
+            anyCollection(),
+            eq(MetadataCollections.UNIT),
+            any(OntologyValidator.class),
+            any(UnitValidator.class),
+            anyList(),
+            eq(false)
+        );
+    }
+
     @Test(expected = MetaDataExecutionException.class)
     public void given_selectUnits_ThenThrow_MetaDataExecutionException() throws Exception {
         when(request.execRequest(any(), anyList())).thenThrow(new MetaDataExecutionException(""));
@@ -494,20 +558,24 @@ public class MetaDataImplTest {
             new ResultDefault<MetadataDocument<?>>(FILTERARGS.UNITS).addFinal(unit2Before)
         );
 
+        BulkUpdatedDocuments bulkUpdatedDocuments = new BulkUpdatedDocuments();
+        bulkUpdatedDocuments.addUpdatedDocument(
+            new UpdatedDocument("unitId1", JsonHandler.toJsonNode(unit1Before), JsonHandler.toJsonNode(unit1After), true)
+        );
+        bulkUpdatedDocuments.addUpdatedDocument(
+            new UpdatedDocument("unitId2", JsonHandler.toJsonNode(unit2Before), JsonHandler.toJsonNode(unit2After), true)
+        );
         when(
-            request.execUpdateRequest(
-                any(),
+            request.execUpdateRequests(
                 any(),
+                anyCollection(),
                 eq(MetadataCollections.UNIT),
                 any(OntologyValidator.class),
                 any(UnitValidator.class),
                 anyList(),
                 anyBoolean()
             )
-        ).thenReturn(
-            new UpdatedDocument("unit1", JsonHandler.toJsonNode(unit1Before), JsonHandler.toJsonNode(unit1After), true),
-            new UpdatedDocument("unit2", JsonHandler.toJsonNode(unit2Before), JsonHandler.toJsonNode(unit2After), true)
-        );
+        ).thenReturn(bulkUpdatedDocuments);
 
         // When
         final JsonNode updateRequest = JsonHandler.getFromFile(PropertiesUtils.findFile("updateUnits.json"));
@@ -0,0 +1,170 @@
+/*
+ * Copyright French Prime minister Office/SGMAP/DINSIC/Vitam Program (2015-2022)
+ *
+ * contact.vitam@culture.gouv.fr
+ *
+ * This software is a computer program whose purpose is to implement a digital archiving back-office system managing
+ * high volumetry securely and efficiently.
+ *
+ * This software is governed by the CeCILL 2.1 license under French law and abiding by the rules of distribution of free
+ * software. You can use, modify and/ or redistribute the software under the terms of the CeCILL 2.1 license as
+ * circulated by CEA, CNRS and INRIA at the following URL "https://cecill.info".
+ *
+ * As a counterpart to the access to the source code and rights to copy, modify and redistribute granted by the license,
+ * users are provided only with a limited warranty and the software's author, the holder of the economic rights, and the
+ * successive licensors have only limited liability.
+ *
+ * In this respect, the user's attention is drawn to the risks associated with loading, using, modifying and/or
+ * developing or reproducing the software by the user in light of its specific status of free software, that may mean
+ * that it is complicated to manipulate, and that also therefore means that it is reserved for developers and
+ * experienced professionals having in-depth computer knowledge. Users are therefore encouraged to load and test the
+ * software's suitability as regards their requirements in conditions enabling the security of their systems and/or data
+ * to be ensured and, more generally, to use and operate it in the same conditions as regards security.
+ *
+ * The fact that you are presently reading this means that you have had knowledge of the CeCILL 2.1 license and that you
+ * accept its terms.
+ */
+package fr.gouv.vitam.metadata.core.accession;
+
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.UpdateOptions;
+import com.mongodb.client.model.Updates;
+import fr.gouv.vitam.common.database.server.mongodb.MongoDbAccess;
+import fr.gouv.vitam.common.guid.GUIDFactory;
+import fr.gouv.vitam.common.mongo.MongoRule;
+import fr.gouv.vitam.metadata.core.accession.AccessionRegisterSymbolicDeltas.Counter;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AccessionRegisterSymbolicCounterServiceTest {
+
+    private static final int TENANT_ID = 0;
+
+    private static final String PREFIX = GUIDFactory.newGUID().getId();
+    private static final String COLLECTION_NAME = PREFIX + AccessionRegisterSymbolicCounterService.COLLECTION_NAME;
+
+    @Rule
+    public MongoRule mongoRule = new MongoRule(MongoDbAccess.getMongoClientSettingsBuilder(), COLLECTION_NAME);
+
+    private AccessionRegisterSymbolicCounterService counterService;
+
+    @Before
+    public void setUp() {
+        counterService = new AccessionRegisterSymbolicCounterService(
+            () -> mongoRule.getMongoCollection(COLLECTION_NAME)
+        );
+    }
+
+    @Test
+    public void givenNoCountersWhenResetThenCountersCreated() {
+        // Given
+        Map<String, Counter> recount = Map.of("SP1", new Counter(2, 1, 3, 30.0), "SP2", new Counter(1, 1, 1, 10.0));
+
+        // When
+        boolean reset = counterService.reset(TENANT_ID, Map.of(), recount);
+
+        // Then
+        assertThat(reset).isTrue();
+        assertThat(counterService.isFullRecountRequired(TENANT_ID)).isFalse();
+        assertThat(counterService.findCounters(TENANT_ID)).containsOnlyKeys("SP1", "SP2");
+        assertCounter(counterService.findCounters(TENANT_ID).get("SP1"), 2, 1, 3, 30.0);
+    }
+
+    @Test
+    public void givenUnchangedCountersWhenResetThenCountersReplacedAndMissingAgenciesDeleted() {
+        // Given
+        counterService.reset(
+            TENANT_ID,
+            Map.of(),
+            Map.of("SP1", new Counter(2, 1, 3, 30.0), "SP2", new Counter(1, 1, 1, 10.0))
+        );
+        Map<String, Counter> countersBeforeRecount = counterService.findCounters(TENANT_ID);
+
+        // When
+        boolean reset = counterService.reset(
+            TENANT_ID,
+            countersBeforeRecount,
+            Map.of("SP1", new Counter(5, 2, 6, 60.0))
+        );
+
+        // Then
+        assertThat(reset).isTrue();
+        Map<String, Counter> counters = counterService.findCounters(TENANT_ID);
+        assertThat(counters).containsOnlyKeys("SP1");
+        assertCounter(counters.get("SP1"), 5, 2, 6, 60.0);
+    }
+
+    @Test
+    public void givenCounterUpdatedDuringRecountWhenResetThenCounterKeptAndRecountRetried() {
+        // Given
+        counterService.reset(
+            TENANT_ID,
+            Map.of(),
+            Map.of("SP1", new Counter(2, 1, 3, 30.0), "SP2", new Counter(1, 1, 1, 10.0))
+        );
+        Map<String, Counter> countersBeforeRecount = counterService.findCounters(TENANT_ID);
+        counterService.invalidate(TENANT_ID);
+        mongoRule
+            .getMongoCollection(COLLECTION_NAME)
+            .updateOne(Filters.eq("_id", TENANT_ID + "_SP2"), Updates.inc("ArchiveUnit", 1L));
+
+        // When
+        boolean reset = counterService.reset(
+            TENANT_ID,
+            countersBeforeRecount,
+            Map.of("SP1", new Counter(5, 2, 6, 60.0), "SP2", new Counter(1, 1, 1, 10.0))
+        );
+
+        // Then
+        assertThat(reset).isFalse();
+        assertThat(counterService.isFullRecountRequired(TENANT_ID)).isTrue();
+        Map<String, Counter> counters = counterService.findCounters(TENANT_ID);
+        assertCounter(counters.get("SP1"), 5, 2, 6, 60.0);
+        assertCounter(counters.get("SP2"), 2, 1, 1, 10.0);
+    }
+
+    @Test
+    public void givenCounterCreatedDuringRecountWhenResetThenCounterKeptAndRecountRetried() {
+        // Given
+        mongoRule
+            .getMongoCollection(COLLECTION_NAME)
+            .updateOne(
+                Filters.eq("_id", TENANT_ID + "_SP1"),
+                Updates.combine(
+                    Updates.setOnInsert("_tenant", TENANT_ID),
+                    Updates.setOnInsert("OriginatingAgency", "SP1"),
+                    Updates.inc("ArchiveUnit", 1L)
+                ),
+                new UpdateOptions().upsert(true)
+            );
+
+        // When
+        boolean reset = counterService.reset(TENANT_ID, Map.of(), Map.of("SP1", new Counter(2, 1, 3, 30.0)));
+
+        // Then
+        assertThat(reset).isFalse();
+        assertThat(counterService.findCounters(TENANT_ID).get("SP1").getArchiveUnit()).isEqualTo(1L);
+    }
+
+    private static void assertCounter(
+        Counter counter,
+        long archiveUnit,
+        long objectGroup,
+        long binaryObject,
+        double binaryObjectSize
+    ) {
+        assertThat(counter)
+            .extracting(
+                Counter::getArchiveUnit,
+                Counter::getObjectGroup,
+                Counter::getBinaryObject,
+                Counter::getBinaryObjectSize
+            )
+            .containsExactly(archiveUnit, objectGroup, binaryObject, binaryObjectSize);
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright French Prime minister Office/SGMAP/DINSIC/Vitam Program (2015-2022)
+ *
+ * contact.vitam@culture.gouv.fr
+ *
+ * This software is a computer program whose purpose is to implement a digital archiving back-office system managing
+ * high volumetry securely and efficiently.
+ *
+ * This software is governed by the CeCILL 2.1 license under French law and abiding by the rules of distribution of free
+ * software. You can use, modify and/ or redistribute the software under the terms of the CeCILL 2.1 license as
+ * circulated by CEA, CNRS and INRIA at the following URL "https://cecill.info".
+ *
+ * As a counterpart to the access to the source code and rights to copy, modify and redistribute granted by the license,
+ * users are provided only with a limited warranty and the software's author, the holder of the economic rights, and the
+ * successive licensors have only limited liability.
+ *
+ * In this respect, the user's attention is drawn to the risks associated with loading, using, modifying and/or
+ * developing or reproducing the software by the user in light of its specific status of free software, that may mean
+ * that it is complicated to manipulate, and that also therefore means that it is reserved for developers and
+ * experienced professionals having in-depth computer knowledge. Users are therefore encouraged to load and test the
+ * software's suitability as regards their requirements in conditions enabling the security of their systems and/or data
+ * to be ensured and, more generally, to use and operate it in the same conditions as regards security.
+ *
+ * The fact that you are presently reading this means that you have had knowledge of the CeCILL 2.1 license and that you
+ * accept its terms.
+ */
+package fr.gouv.vitam.metadata.core.accession;
+
+import org.bson.Document;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AccessionRegisterSymbolicDeltasTest {
+
+    @Test
+    public void should_account_unit_for_other_originating_agencies_only() {
+        AccessionRegisterSymbolicDeltas deltas = new AccessionRegisterSymbolicDeltas();
+
+        deltas.addUnit("SP1", List.of(), List.of("SP1", "SP2", "SP3"));
+
+        assertThat(deltas.getCounters().keySet()).containsExactlyInAnyOrder("SP2", "SP3");
+        assertThat(deltas.getCounters().get("SP2").getArchiveUnit()).isEqualTo(1L);
+        assertThat(deltas.getCounters().get("SP3").getObjectGroup()).isEqualTo(0L);
+    }
+
+    @Test
+    public void should_account_only_changed_originating_agencies_on_graph_update() {
+        AccessionRegisterSymbolicDeltas deltas = new AccessionRegisterSymbolicDeltas();
+
+        deltas.addUnit("SP1", List.of("SP1", "SP2", "SP3"), List.of("SP1", "SP3", "SP4"));
+
+        assertThat(deltas.getCounters().get("SP2").getArchiveUnit()).isEqualTo(-1L);
+        assertThat(deltas.getCounters().get("SP4").getArchiveUnit()).isEqualTo(1L);
+        assertThat(deltas.getCounters()).doesNotContainKey("SP3");
+    }
+
+    @Test
+    public void should_account_object_group_binary_objects() {
+        AccessionRegisterSymbolicDeltas deltas = new AccessionRegisterSymbolicDeltas();
+        Document objectGroup = new Document("_sp", "SP1").append(
+            "_qualifiers",
+            List.of(
+                new Document("versions", List.of(new Document("Size", 10), new Document("Size", 20L))),
+                new Document("versions", List.of(new Document("Size", 5.5)))
+            )
+        );
+
+        deltas.addObjectGroup(objectGroup, List.of(), List.of("SP1", "SP2"));
+
+        AccessionRegisterSymbolicDeltas.Counter counter = deltas.getCounters().get("SP2");
+        assertThat(counter.getObjectGroup()).isEqualTo(1L);
+        assertThat(counter.getBinaryObject()).isEqualTo(3L);
+        assertThat(counter.getBinaryObjectSize()).isEqualTo(35.5);
+    }
+
+    @Test
+    public void should_cancel_out_deltas_of_deleted_object_group() {
+        AccessionRegisterSymbolicDeltas deltas = new AccessionRegisterSymbolicDeltas();
+
+        deltas.addObjectGroup("SP1", List.of(), List.of("SP1", "SP2"), 2L, 100D);
+        deltas.addObjectGroup("SP1", List.of("SP1", "SP2"), List.of(), 2L, 100D);
+
+        assertThat(deltas.isEmpty()).isTrue();
+    }
+}
@@ -96,6 +96,7 @@ import fr.gouv.vitam.metadata.api.exception.MetaDataNotFoundException;
 import fr.gouv.vitam.metadata.core.config.ElasticsearchExternalMetadataMapping;
 import fr.gouv.vitam.metadata.core.config.ElasticsearchMetadataIndexManager;
 import fr.gouv.vitam.metadata.core.mapping.MappingLoader;
+import fr.gouv.vitam.metadata.core.model.BulkUpdatedDocuments;
 import fr.gouv.vitam.metadata.core.model.UpdatedDocument;
 import fr.gouv.vitam.metadata.core.trigger.FieldHistoryManager;
 import fr.gouv.vitam.metadata.core.trigger.History;
@@ -2550,6 +2551,68 @@ public class DbRequestTest {
         );
     }
 
+    @Test
+    @RunWithCustomExecutor
+    public void testBulkUpdateUnitsReportsEachDocument() throws Exception {
+        VitamThreadUtils.getVitamSession().setTenantId(TENANT_ID_0);
+        final DbRequest dbRequest = new DbRequest();
+        final InsertParserMultiple insertParser = new InsertParserMultiple(mongoDbVarNameAdapter);
+        final InsertMultiQuery insert = new InsertMultiQuery();
+        String requestInsertTestEsUpdate = IOUtils.toString(
+            PropertiesUtils.getResourceAsStream(REQUEST_INSERT_TEST_ES_UPDATE),
+            StandardCharsets.UTF_8
+        );
+        insert.parseData(requestInsertTestEsUpdate);
+        insertParser.parse(insert.getFinalInsert());
+        dbRequest.execInsertUnitRequest(insertParser);
+        UNIT.getEsClient().refreshIndex(UNIT, TENANT_ID_0);
+
+        final UpdateParserMultiple updateParser = new UpdateParserMultiple(mongoDbVarNameAdapter);
+        updateParser.parse(JsonHandler.getFromString(REQUEST_UPDATE_INDEX_TEST));
+
+        OntologyValidator dummyOntologyValidator = mock(OntologyValidator.class);
+        doAnswer(args -> args.getArgument(0)).when(dummyOntologyValidator).verifyAndReplaceFields(any());
+
+        String unknownId = GUIDFactory.newUnitGUID(TENANT_ID_0).toString();
+        BulkUpdatedDocuments bulkUpdatedDocuments = dbRequest.execUpdateRequests(
+            updateParser,
+            Arrays.asList(UUID1, unknownId),
+            UNIT,
+            dummyOntologyValidator,
+            mock(UnitValidator.class),
+            Collections.emptyList(),
+            false
+        );
+        UNIT.getEsClient().refreshIndex(UNIT, TENANT_ID_0);
+
+        UpdatedDocument updatedDocument = bulkUpdatedDocuments.getUpdatedDocument(UUID1);
+        assertThat(updatedDocument.isUpdated()).isTrue();
+        assertNotEquals(updatedDocument.getBeforeUpdate(), updatedDocument.getAfterUpdate());
+        assertThat(bulkUpdatedDocuments.getError(UUID1)).isNull();
+        assertThat(bulkUpdatedDocuments.getError(unknownId)).isInstanceOf(MetaDataNotFoundException.class);
+
+        // Updated document is persisted & indexed
+        SelectParserMultiple selectParser = new SelectParserMultiple(mongoDbVarNameAdapter);
+        SelectMultiQuery select = new SelectMultiQuery();
+        select.addQueries(match("Title", "ArchiveDoubleTest").setDepthLimit(0)).addRoots(UUID1);
+        selectParser.parse(select.getFinalSelect());
+        Result result = dbRequest.execRequest(selectParser, Collections.emptyList());
+        assertEquals(1, result.nbResult);
+        assertEquals(1, ((Unit) result.getListFiltered().get(0)).getInteger(VitamFieldsHelper.version()).intValue());
+
+        // Same update again is a no-op
+        BulkUpdatedDocuments secondUpdate = dbRequest.execUpdateRequests(
+            updateParser,
+            Collections.singletonList(UUID1),
+            UNIT,
+            dummyOntologyValidator,
+            mock(UnitValidator.class),
+            Collections.emptyList(),
+            false
+        );
+        assertFalse(secondUpdate.getUpdatedDocument(UUID1).isUpdated());
+    }
+
     @Test
     @RunWithCustomExecutor
     public void testUpdateKOSchemaUnitResultThrowsException() throws Exception {
@@ -0,0 +1,142 @@
+/*
+ * Copyright French Prime minister Office/SGMAP/DINSIC/Vitam Program (2015-2022)
+ *
+ * contact.vitam@culture.gouv.fr
+ *
+ * This software is a computer program whose purpose is to implement a digital archiving back-office system managing
+ * high volumetry securely and efficiently.
+ *
+ * This software is governed by the CeCILL 2.1 license under French law and abiding by the rules of distribution of free
+ * software. You can use, modify and/ or redistribute the software under the terms of the CeCILL 2.1 license as
+ * circulated by CEA, CNRS and INRIA at the following URL "https://cecill.info".
+ *
+ * As a counterpart to the access to the source code and rights to copy, modify and redistribute granted by the license,
+ * users are provided only with a limited warranty and the software's author, the holder of the economic rights, and the
+ * successive licensors have only limited liability.
+ *
+ * In this respect, the user's attention is drawn to the risks associated with loading, using, modifying and/or
+ * developing or reproducing the software by the user in light of its specific status of free software, that may mean
+ * that it is complicated to manipulate, and that also therefore means that it is reserved for developers and
+ * experienced professionals having in-depth computer knowledge. Users are therefore encouraged to load and test the
+ * software's suitability as regards their requirements in conditions enabling the security of their systems and/or data
+ * to be ensured and, more generally, to use and operate it in the same conditions as regards security.
+ *
+ * The fact that you are presently reading this means that you have had knowledge of the CeCILL 2.1 license and that you
+ * accept its terms.
+ */
+package fr.gouv.vitam.metadata.core.graph;
+
+import fr.gouv.vitam.common.LocalDateUtil;
+import org.bson.Document;
+import org.junit.Test;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class GraphClosureCacheTest {
+
+    @Test
+    public void should_derive_closure_from_parent_closures() {
+        // Given : root1 <- unit1 <- unit3, root2 <- unit2 <- unit3, root1 <- unit3
+        GraphClosureCache closureCache = new GraphClosureCache(100);
+        GraphClosureCache.UnitClosure root1 = closureCache.derive("root1", "SP1", List.of(), List.of());
+        GraphClosureCache.UnitClosure root2 = closureCache.derive("root2", "SP2", List.of(), List.of());
+        GraphClosureCache.UnitClosure unit1 = closureCache.derive("unit1", "SP3", List.of("root1"), List.of(root1));
+        GraphClosureCache.UnitClosure unit2 = closureCache.derive("unit2", null, List.of("root2"), List.of(root2));
+
+        // When
+        GraphClosureCache.UnitClosure unit3 = closureCache.derive(
+            "unit3",
+            "SP1",
+            List.of("unit1", "unit2", "root1"),
+            List.of(unit1, unit2, root1)
+        );
+
+        // Then
+        assertThat(closureCache.getUnitUps(unit3)).containsExactlyInAnyOrder(
+            "unit1",
+            "unit2",
+            "root1",
+            "root2"
+        );
+        Map<String, Collection<String>> unitDepths = closureCache.getUnitDepths(unit3);
+        assertThat(unitDepths.keySet()).containsExactlyInAnyOrder("1", "2");
+        assertThat(unitDepths.get("1")).containsExactlyInAnyOrder("unit1", "unit2", "root1");
+        assertThat(unitDepths.get("2")).containsExactlyInAnyOrder("root1", "root2");
+        assertThat(closureCache.getGraph(unit3)).containsExactlyInAnyOrder(
+            "unit3/unit1",
+            "unit3/unit2",
+            "unit3/root1",
+            "unit1/root1",
+            "unit2/root2"
+        );
+        assertThat(closureCache.getOriginatingAgencies(unit3)).containsExactlyInAnyOrder("SP1", "SP2", "SP3");
+        assertThat(unit3.getMaxDepth()).isEqualTo(3);
+        assertThat(root1.getMaxDepth()).isEqualTo(1);
+    }
+
+    @Test
+    public void should_load_persisted_closure() {
+        // Given
+        GraphClosureCache closureCache = new GraphClosureCache(100);
+        Document unit = new Document("_id", "unit1")
+            .append("_up", List.of("root1"))
+            .append("_us", List.of("root1", "root0"))
+            .append("_uds", new Document("1", List.of("root1")).append("2", List.of("root0")))
+            .append("_graph", List.of("unit1/root1", "root1/root0"))
+            .append("_sps", List.of("SP1"))
+            .append("_glpd", LocalDateUtil.nowFormatted());
+
+        // When
+        GraphClosureCache.UnitClosure closure = closureCache.fromPersisted(unit);
+
+        // Then
+        assertThat(closure).isNotNull();
+        assertThat(closureCache.getUnitUps(closure)).containsExactlyInAnyOrder("root1", "root0");
+        assertThat(closureCache.getUnitDepths(closure).get("2")).containsExactly("root0");
+        assertThat(closureCache.getGraph(closure)).containsExactlyInAnyOrder("unit1/root1", "root1/root0");
+        assertThat(closure.getMaxDepth()).isEqualTo(3);
+    }
+
+    @Test
+    public void should_detect_stale_persisted_closure() {
+        GraphClosureCache closureCache = new GraphClosureCache(100);
+
+        // Graph never computed
+        Document notComputed = new Document("_id", "unit1").append("_up", List.of("root1"));
+        assertThat(closureCache.fromPersisted(notComputed)).isNull();
+
+        // Parent added after last graph computation
+        Document newParent = new Document("_id", "unit2")
+            .append("_up", List.of("root1", "root2"))
+            .append("_us", List.of("root1"))
+            .append("_uds", new Document("1", List.of("root1")))
+            .append("_graph", List.of("unit2/root1"))
+            .append("_sps", List.of())
+            .append("_glpd", LocalDateUtil.nowFormatted());
+        assertThat(closureCache.fromPersisted(newParent)).isNull();
+
+        // Root units closure only depends on the unit itself
+        Document root = new Document("_id", "root1").append("_sp", "SP1");
+        GraphClosureCache.UnitClosure rootClosure = closureCache.fromPersisted(root);
+        assertThat(closureCache.getUnitUps(rootClosure)).isEmpty();
+        assertThat(closureCache.getOriginatingAgencies(rootClosure)).isEqualTo(Set.of("SP1"));
+    }
+
+    @Test
+    public void should_invalidate_when_full() {
+        GraphClosureCache closureCache = new GraphClosureCache(2);
+        closureCache.put("root1", closureCache.derive("root1", null, List.of(), List.of()));
+        closureCache.trimIfFull();
+        assertThat(closureCache.size()).isEqualTo(1);
+
+        closureCache.put("root2", closureCache.derive("root2", null, List.of(), List.of()));
+        closureCache.trimIfFull();
+        assertThat(closureCache.size()).isEqualTo(0);
+        assertThat(closureCache.get("root1")).isNull();
+    }
+}
@@ -26,9 +26,15 @@
  */
 package fr.gouv.vitam.metadata.core.graph;
 
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
 import com.google.common.collect.Sets;
+import com.mongodb.MongoClientSettings;
 import com.mongodb.client.FindIterable;
 import com.mongodb.client.MongoCursor;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.WriteModel;
 import fr.gouv.vitam.common.LocalDateUtil;
 import fr.gouv.vitam.common.cache.VitamCache;
 import fr.gouv.vitam.common.database.api.VitamRepositoryProvider;
@@ -37,12 +43,15 @@ import fr.gouv.vitam.common.database.api.impl.VitamMongoRepository;
 import fr.gouv.vitam.common.exception.DatabaseException;
 import fr.gouv.vitam.common.guid.GUIDFactory;
 import fr.gouv.vitam.common.model.GraphComputeResponse;
+import fr.gouv.vitam.common.mongo.FakeMongoCursor;
 import fr.gouv.vitam.common.thread.RunWithCustomExecutor;
 import fr.gouv.vitam.common.thread.RunWithCustomExecutorRule;
 import fr.gouv.vitam.common.thread.VitamThreadPoolExecutor;
 import fr.gouv.vitam.metadata.core.database.collections.MetadataCollections;
 import org.assertj.core.util.Lists;
+import org.bson.BsonValue;
 import org.bson.Document;
+import org.bson.conversions.Bson;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -53,12 +62,24 @@ import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
 import org.mockito.stubbing.Answer;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 public class GraphComputeServiceImplTest {
@@ -225,4 +246,152 @@ public class GraphComputeServiceImplTest {
         response = graphBuilderService.computeGraph(MetadataCollections.OBJECTGROUP, Sets.newHashSet(), false, true);
         assertThat(response.getGotCount()).isEqualTo(0);
     }
+
+    @Test
+    @RunWithCustomExecutor
+    @SuppressWarnings("unchecked")
+    public void should_compute_same_unit_graph_incrementally_as_full_parent_walk() throws DatabaseException {
+        // Given : layered random graph (all paths between two units have the same length)
+        Map<String, Document> units = createLayeredGraph(new Random(42), 5, 6);
+        given(unitRepository.findDocuments(any(Bson.class), anyInt())).willAnswer(
+            args -> findUnits(units, args.getArgument(0))
+        );
+        Map<String, Document> updates = new HashMap<>();
+        doAnswer(args -> {
+            List<WriteModel<Document>> writeModels = args.getArgument(0);
+            writeModels.forEach(writeModel -> {
+                UpdateOneModel<Document> updateOneModel = (UpdateOneModel<Document>) writeModel;
+                Document update = ((Document) updateOneModel.getUpdate()).get("$set", Document.class);
+                updates.put(update.getString("_id"), update);
+            });
+            return null;
+        })
+            .when(unitRepository)
+            .update(any());
+        LoadingCache<String, Document> unitCache = CacheBuilder.newBuilder().build(CacheLoader.from(units::get));
+        VitamCache<String, Document> graphCache = () -> unitCache;
+
+        // When
+        new GraphComputeServiceImpl(vitamRepositoryProvider, null, graphCache, null, tenants, null).computeGraph(
+            MetadataCollections.UNIT,
+            units.keySet(),
+            false,
+            false
+        );
+        Map<String, Document> fullWalkUpdates = new HashMap<>(updates);
+        updates.clear();
+        GraphComputeResponse response = new GraphComputeServiceImpl(
+            vitamRepositoryProvider,
+            null,
+            graphCache,
+            null,
+            tenants,
+            new GraphClosureCache(1000)
+        ).computeGraph(MetadataCollections.UNIT, units.keySet(), false, false);
+
+        // Then
+        assertThat(response.getErrorMessage()).isNull();
+        assertThat(updates.keySet()).isEqualTo(units.keySet());
+        for (String unitId : units.keySet()) {
+            assertThat(graphFields(updates.get(unitId))).isEqualTo(graphFields(fullWalkUpdates.get(unitId)));
+        }
+
+        // When : leaves computed again from persisted parents closures
+        fullWalkUpdates.forEach((unitId, update) -> persistGraphFields(units.get(unitId), update));
+        Set<String> leaves = units.keySet().stream().filter(id -> id.startsWith("unit_4_")).collect(Collectors.toSet());
+        updates.clear();
+        response = new GraphComputeServiceImpl(
+            vitamRepositoryProvider,
+            null,
+            graphCache,
+            null,
+            tenants,
+            new GraphClosureCache(1000)
+        ).computeGraph(MetadataCollections.UNIT, leaves, false, false);
+
+        // Then
+        assertThat(response.getErrorMessage()).isNull();
+        assertThat(updates.keySet()).isEqualTo(leaves);
+        for (String unitId : leaves) {
+            assertThat(graphFields(updates.get(unitId))).isEqualTo(graphFields(fullWalkUpdates.get(unitId)));
+        }
+    }
+
+    private Map<String, Document> createLayeredGraph(Random random, int layers, int width) {
+        Map<String, Document> units = new HashMap<>();
+        for (int layer = 0; layer < layers; layer++) {
+            for (int i = 0; i < width; i++) {
+                Document unit = new Document("_id", "unit_" + layer + "_" + i);
+                if (random.nextBoolean()) {
+                    unit.append("_sp", "SP" + random.nextInt(3));
+                }
+                if (layer > 0) {
+                    Set<String> up = new HashSet<>();
+                    int parents = 1 + random.nextInt(3);
+                    for (int parent = 0; parent < parents; parent++) {
+                        up.add("unit_" + (layer - 1) + "_" + random.nextInt(width));
+                    }
+                    unit.append("_up", new ArrayList<>(up));
+                }
+                units.put(unit.getString("_id"), unit);
+            }
+        }
+        return units;
+    }
+
+    @SuppressWarnings("unchecked")
+    private FindIterable<Document> findUnits(Map<String, Document> units, Bson filter) {
+        List<Document> result = filter
+            .toBsonDocument(Document.class, MongoClientSettings.getDefaultCodecRegistry())
+            .getDocument("_id")
+            .getArray("$in")
+            .stream()
+            .map(BsonValue::asString)
+            .map(id -> units.get(id.getValue()))
+            .filter(Objects::nonNull)
+            .map(Document::new)
+            .collect(Collectors.toList());
+        FindIterable<Document> findIterable = mock(FindIterable.class);
+        given(findIterable.projection(any())).willReturn(findIterable);
+        given(findIterable.iterator()).willReturn(new FakeMongoCursor<>(result));
+        return findIterable;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void persistGraphFields(Document unit, Document update) {
+        Document unitDepths = new Document();
+        update
+            .get("_uds", Map.class)
+            .forEach(
+                (depth, unitIds) -> unitDepths.append((String) depth, new ArrayList<>((Collection<String>) unitIds))
+            );
+        unit
+            .append("_us", new ArrayList<>(update.get("_us", Collection.class)))
+            .append("_uds", unitDepths)
+            .append("_graph", new ArrayList<>(update.get("_graph", Collection.class)))
+            .append("_sps", new ArrayList<>(update.get("_sps", Collection.class)))
+            .append("_glpd", update.get("_glpd"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> graphFields(Document update) {
+        Map<String, Set<String>> unitDepths = new TreeMap<>();
+        update
+            .get("_uds", Map.class)
+            .forEach((depth, unitIds) -> unitDepths.put((String) depth, new HashSet<>((Collection<String>) unitIds)));
+        return Map.of(
+            "_us",
+            new HashSet<>(update.get("_us", Collection.class)),
+            "_uds",
+            unitDepths,
+            "_graph",
+            new HashSet<>(update.get("_graph", Collection.class)),
+            "_sps",
+            new HashSet<>(update.get("_sps", Collection.class)),
+            "_min",
+            update.get("_min"),
+            "_max",
+            update.get("_max")
+        );
+    }
 }
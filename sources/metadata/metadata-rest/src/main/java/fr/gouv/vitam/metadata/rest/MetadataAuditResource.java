@@ -71,7 +71,9 @@ public class MetadataAuditResource {
             metaDataConfiguration.getIsDataConsistencyAuditRunnable(),
             metaDataConfiguration.getDataConsistencyAuditOplogMaxSize(),
             metaDataConfiguration.getMongodShardsConf(),
-            metaDataConfiguration.isDbAuthentication()
+            metaDataConfiguration.isDbAuthentication(),
+            metaDataConfiguration.getDataConsistencyAuditBatchSize(),
+            metaDataConfiguration.getDataConsistencyAuditThreadPoolSize()
         );
         LOGGER.info("init MetaData Audit Resource server");
         ProcessingManagementClientFactory.changeConfigurationUrl(metaDataConfiguration.getUrlProcessing());
@@ -73,6 +73,7 @@ import fr.gouv.vitam.metadata.core.MetaDataImpl;
 import fr.gouv.vitam.metadata.core.config.ElasticsearchMetadataIndexManager;
 import fr.gouv.vitam.metadata.core.config.MetaDataConfiguration;
 import fr.gouv.vitam.metadata.core.database.collections.MetadataCollections;
+import fr.gouv.vitam.metadata.core.graph.GraphClosureCache;
 import fr.gouv.vitam.metadata.core.graph.GraphComputeServiceImpl;
 import fr.gouv.vitam.metadata.core.graph.ReclassificationDistributionService;
 import fr.gouv.vitam.metadata.core.graph.api.GraphComputeService;
@@ -156,7 +157,14 @@ public class MetadataManagementResource {
         ElasticsearchMetadataIndexManager indexManager
     ) {
         this(
-            GraphComputeServiceImpl.initialize(vitamRepositoryProvider, metadata, indexManager),
+            GraphComputeServiceImpl.initialize(
+                vitamRepositoryProvider,
+                metadata,
+                indexManager,
+                configuration.isIncrementalGraphComputeEnabled()
+                    ? new GraphClosureCache(configuration.getGraphClosureCacheMaxEntries())
+                    : null
+            ),
             new ReclassificationDistributionService(metadata),
             ProcessingManagementClientFactory.getInstance(),
             LogbookOperationsClientFactory.getInstance(),
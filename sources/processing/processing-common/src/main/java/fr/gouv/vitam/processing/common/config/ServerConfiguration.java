@@ -46,6 +46,20 @@ public class ServerConfiguration extends DefaultVitamApplicationConfiguration {
     private Integer maxDistributionInMemoryBufferSize = 100_000;
     private Integer maxDistributionOnDiskBufferSize = 100_000_000;
 
+    /**
+     * Max number of worker tasks kept in flight per step in sliding window distribution mode.
+     * 0 (default) means batch distribution mode (distribution waits for all tasks of a batch before the next one).
+     */
+    private Integer distributionWindowSize = 0;
+
+    /**
+     * Number of distribution file chunks downloaded in background ahead of the distributor. 0 (default) to disable.
+     * Prefetched chunks are bounded by global in-memory & on-disk prefetch budgets.
+     */
+    private Integer distributionPrefetchDepth = 0;
+    private Long maxDistributionPrefetchInMemorySize = 10_000_000L;
+    private Long maxDistributionPrefetchOnDiskSize = 1_000_000_000L;
+
     private Integer delayAsyncResourceMonitor = 300; // five minutes
     private Integer delayAsyncResourceCleaner = 300; // five minutes
 
@@ -143,6 +157,42 @@ public class ServerConfiguration extends DefaultVitamApplicationConfiguration {
         return this;
     }
 
+    public Integer getDistributionWindowSize() {
+        return distributionWindowSize;
+    }
+
+    public ServerConfiguration setDistributionWindowSize(Integer distributionWindowSize) {
+        this.distributionWindowSize = distributionWindowSize;
+        return this;
+    }
+
+    public Integer getDistributionPrefetchDepth() {
+        return distributionPrefetchDepth;
+    }
+
+    public ServerConfiguration setDistributionPrefetchDepth(Integer distributionPrefetchDepth) {
+        this.distributionPrefetchDepth = distributionPrefetchDepth;
+        return this;
+    }
+
+    public Long getMaxDistributionPrefetchInMemorySize() {
+        return maxDistributionPrefetchInMemorySize;
+    }
+
+    public ServerConfiguration setMaxDistributionPrefetchInMemorySize(Long maxDistributionPrefetchInMemorySize) {
+        this.maxDistributionPrefetchInMemorySize = maxDistributionPrefetchInMemorySize;
+        return this;
+    }
+
+    public Long getMaxDistributionPrefetchOnDiskSize() {
+        return maxDistributionPrefetchOnDiskSize;
+    }
+
+    public ServerConfiguration setMaxDistributionPrefetchOnDiskSize(Long maxDistributionPrefetchOnDiskSize) {
+        this.maxDistributionPrefetchOnDiskSize = maxDistributionPrefetchOnDiskSize;
+        return this;
+    }
+
     public Integer getDelayAsyncResourceMonitor() {
         return delayAsyncResourceMonitor;
     }
@@ -28,6 +28,7 @@
 package fr.gouv.vitam.processing.common.metrics;
 
 import fr.gouv.vitam.common.metrics.VitamMetricsNames;
+import io.prometheus.client.Counter;
 import io.prometheus.client.Gauge;
 import io.prometheus.client.Histogram;
 
@@ -128,4 +129,33 @@ public class CommonProcessingMetrics {
         .labelNames("workflow", "step_name")
         .buckets(.1, .25, .5, .75, 1, 2.5, 5, 7.5, 10, 30, 60, 120, 180, 300, 600, 1800, 3600)
         .register();
+
+    /**
+     * Size of distribution file chunks prefetched from workspace, in memory or on disk
+     */
+    public static final Counter DISTRIBUTION_PREFETCHED_BYTES = Counter.build()
+        .name(VitamMetricsNames.VITAM_PROCESSING_DISTRIBUTION_PREFETCHED_BYTES_TOTAL)
+        .labelNames("buffer")
+        .help("Total size of distribution file chunks downloaded in background from workspace")
+        .register();
+
+    /**
+     * Distributor waiting time for next distribution file chunk.
+     * Long durations means that chunk prefetching is disabled, too shallow or out of budget
+     */
+    public static final Histogram DISTRIBUTION_CHUNK_STALL_DURATION = Histogram.build()
+        .name(VitamMetricsNames.VITAM_PROCESSING_DISTRIBUTION_CHUNK_STALL_DURATION_SECONDS)
+        .help("Time spent by distributor waiting for next distribution file chunk")
+        .buckets(.001, .005, .01, .025, .05, .1, .25, .5, 1, 2.5, 5, 10, 30, 60)
+        .register();
+
+    /**
+     * Binary objects checked by batched integrity audits, per offer and check result.
+     * The rate gives the audit throughput of each offer
+     */
+    public static final Counter INTEGRITY_AUDIT_CHECKED_OBJECTS = Counter.build()
+        .name(VitamMetricsNames.VITAM_PROCESSING_INTEGRITY_AUDIT_CHECKED_OBJECTS_TOTAL)
+        .labelNames("offer_id", "status")
+        .help("Number of binary objects checked by batched integrity audits, per offer and check result")
+        .register();
 }
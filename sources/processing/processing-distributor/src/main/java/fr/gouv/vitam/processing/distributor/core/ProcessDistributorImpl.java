@@ -46,6 +46,7 @@ import fr.gouv.vitam.common.model.processing.DistributionType;
 import fr.gouv.vitam.common.model.processing.PauseOrCancelAction;
 import fr.gouv.vitam.common.model.processing.Step;
 import fr.gouv.vitam.common.stream.StreamUtils;
+import fr.gouv.vitam.common.thread.VitamThreadPoolExecutor;
 import fr.gouv.vitam.common.thread.VitamThreadUtils;
 import fr.gouv.vitam.logbook.common.parameters.LogbookTypeProcess;
 import fr.gouv.vitam.metadata.api.exception.MetaDataClientServerException;
@@ -72,6 +73,7 @@ import fr.gouv.vitam.worker.client.exception.WorkerUnreachableException;
 import fr.gouv.vitam.worker.common.DescriptionStep;
 import fr.gouv.vitam.worker.core.distribution.JsonLineModel;
 import fr.gouv.vitam.workspace.client.WorkspaceBufferingInputStream;
+import fr.gouv.vitam.workspace.client.WorkspaceChunkPrefetcher;
 import fr.gouv.vitam.workspace.client.WorkspaceClient;
 import fr.gouv.vitam.workspace.client.WorkspaceClientFactory;
 import org.apache.commons.collections4.iterators.PeekingIterator;
@@ -84,17 +86,22 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Queue;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.stream.Collectors;
 
 import static com.google.common.base.MoreObjects.firstNonNull;
@@ -131,6 +138,7 @@ public class ProcessDistributorImpl implements ProcessDistributor {
     private final MetaDataClientFactory metaDataClientFactory;
     private final WorkerClientFactory workerClientFactory;
     private final ServerConfiguration serverConfiguration;
+    private final WorkspaceChunkPrefetcher workspaceChunkPrefetcher;
 
     /**
      * Empty constructor
@@ -185,6 +193,37 @@ public class ProcessDistributorImpl implements ProcessDistributor {
             metaDataClientFactory,
             workspaceClientFactory
         );
+        this.workspaceChunkPrefetcher = createWorkspaceChunkPrefetcher(serverConfiguration);
+    }
+
+    private static WorkspaceChunkPrefetcher createWorkspaceChunkPrefetcher(ServerConfiguration serverConfiguration) {
+        if (
+            serverConfiguration.getDistributionPrefetchDepth() == null ||
+            serverConfiguration.getDistributionPrefetchDepth() <= 0
+        ) {
+            return null;
+        }
+
+        // Prefetch budget is shared by all distributions of the JVM
+        return new WorkspaceChunkPrefetcher(
+            serverConfiguration.getDistributionPrefetchDepth(),
+            serverConfiguration.getMaxDistributionPrefetchInMemorySize(),
+            serverConfiguration.getMaxDistributionPrefetchOnDiskSize(),
+            VitamThreadPoolExecutor.getDefaultExecutor(),
+            new WorkspaceChunkPrefetcher.Listener() {
+                @Override
+                public void chunkPrefetched(long sizeInBytes, boolean inMemory) {
+                    CommonProcessingMetrics.DISTRIBUTION_PREFETCHED_BYTES.labels(inMemory ? "memory" : "disk").inc(
+                        sizeInBytes
+                    );
+                }
+
+                @Override
+                public void consumerStalled(long durationInNanos) {
+                    CommonProcessingMetrics.DISTRIBUTION_CHUNK_STALL_DURATION.observe(durationInNanos / 1.0e9);
+                }
+            }
+        );
     }
 
     /**
@@ -337,7 +376,8 @@ public class ProcessDistributorImpl implements ProcessDistributor {
                         step.getDistribution().getElement(),
                         serverConfiguration.getMaxDistributionOnDiskBufferSize(),
                         serverConfiguration.getMaxDistributionInMemoryBufferSize(),
-                        tmpDirectory
+                        tmpDirectory,
+                        workspaceChunkPrefetcher
                     );
                     BufferedReader br = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))
                 ) {
@@ -485,6 +525,19 @@ public class ProcessDistributorImpl implements ProcessDistributor {
             processStep.getElementToProcess().addAndGet(sizeList);
         }
 
+        if (isSlidingWindowDistribution()) {
+            distributeOnListInSlidingWindow(
+                workerParameters,
+                step,
+                level,
+                objectsList,
+                offset,
+                remainingElementsFromRecover,
+                tenantId
+            );
+            return true;
+        }
+
         while (offset < sizeList) {
             int bulkSize = findBulkSize(step.getDistribution());
             int batchSize = VitamConfiguration.getDistributeurBatchSize() * bulkSize;
@@ -702,6 +755,19 @@ public class ProcessDistributorImpl implements ProcessDistributor {
             return;
         }
 
+        if (isSlidingWindowDistribution()) {
+            distributeOnStreamInSlidingWindow(
+                workerParameters,
+                step,
+                linesPeekIterator,
+                offset,
+                remainingElementsFromRecover,
+                updateElementToProcess,
+                tenantId
+            );
+            return;
+        }
+
         while (linesPeekIterator.hasNext()) {
             int maxOffset = offset + globalBatchSize;
             List<JsonLineModel> distributionList = new ArrayList<>();
@@ -812,6 +878,325 @@ public class ProcessDistributorImpl implements ProcessDistributor {
         }
     }
 
+    private boolean isSlidingWindowDistribution() {
+        return serverConfiguration.getDistributionWindowSize() != null &&
+            serverConfiguration.getDistributionWindowSize() > 0;
+    }
+
+    /**
+     * Sliding window distribution on list.
+     * Elements of the first batch that are not listed in remaining elements of a recovered DistributorIndex (if any)
+     * are considered as already processed and are skipped.
+     */
+    private void distributeOnListInSlidingWindow(
+        WorkerParameters workerParameters,
+        Step step,
+        String level,
+        List<String> objectsList,
+        int initialOffset,
+        List<String> remainingElementsFromRecover,
+        Integer tenantId
+    ) throws ProcessingException {
+        final String requestId = VitamThreadUtils.getVitamSession().getRequestId();
+        final String contractId = VitamThreadUtils.getVitamSession().getContractId();
+        final String contextId = VitamThreadUtils.getVitamSession().getContextId();
+        final String applicationId = VitamThreadUtils.getVitamSession().getApplicationSessionId();
+
+        int bulkSize = findBulkSize(step.getDistribution());
+        int sizeList = objectsList.size();
+
+        int recoveryBatchEnd = remainingElementsFromRecover.isEmpty()
+            ? initialOffset
+            : Math.min(sizeList, initialOffset + VitamConfiguration.getDistributeurBatchSize() * bulkSize);
+        List<String> recoveryBatchElements = new ArrayList<>(objectsList.subList(initialOffset, recoveryBatchEnd));
+        recoveryBatchElements.retainAll(remainingElementsFromRecover);
+        Iterator<List<String>> recoveryBatchBulkIterator = Iterators.partition(
+            recoveryBatchElements.iterator(),
+            bulkSize
+        );
+
+        int[] nextOffset = { recoveryBatchEnd };
+        WindowedBulkSupplier bulkSupplier = () -> {
+            List<String> objectNames;
+            int endOffset;
+            if (recoveryBatchBulkIterator.hasNext()) {
+                objectNames = recoveryBatchBulkIterator.next();
+                // Offset can only be moved once all remaining elements of the recovered batch are processed
+                endOffset = recoveryBatchBulkIterator.hasNext() ? initialOffset : recoveryBatchEnd;
+            } else if (nextOffset[0] < sizeList) {
+                endOffset = Math.min(sizeList, nextOffset[0] + bulkSize);
+                objectNames = objectsList.subList(nextOffset[0], endOffset);
+                nextOffset[0] = endOffset;
+            } else {
+                return null;
+            }
+            WorkerTask workerTask = createWorkerTask(
+                workerParameters,
+                step,
+                tenantId,
+                requestId,
+                contractId,
+                contextId,
+                applicationId,
+                objectNames,
+                null
+            );
+            return new WindowedBulk(workerTask, null, endOffset);
+        };
+
+        executeWorkerTasksInSlidingWindow(step, workerParameters, level, initialOffset, bulkSupplier);
+    }
+
+    /**
+     * Sliding window distribution on stream.
+     * Entries of distinct distribution groups are never distributed concurrently (distribution group barrier).
+     * Entries of the first batch that are not listed in remaining elements of a recovered DistributorIndex (if any)
+     * are considered as already processed and are skipped.
+     */
+    private void distributeOnStreamInSlidingWindow(
+        WorkerParameters workerParameters,
+        Step step,
+        PeekingIterator<String> linesPeekIterator,
+        int initialOffset,
+        List<String> remainingElementsFromRecover,
+        boolean updateElementToProcess,
+        Integer tenantId
+    ) throws ProcessingException {
+        final String requestId = VitamThreadUtils.getVitamSession().getRequestId();
+        final String contractId = VitamThreadUtils.getVitamSession().getContractId();
+        final String contextId = VitamThreadUtils.getVitamSession().getContextId();
+        final String applicationId = VitamThreadUtils.getVitamSession().getApplicationSessionId();
+
+        int bulkSize = findBulkSize(step.getDistribution());
+        int recoveryBatchEnd = initialOffset + VitamConfiguration.getDistributeurBatchSize() * bulkSize;
+
+        JsonLineStreamReader reader = new JsonLineStreamReader(linesPeekIterator, initialOffset);
+        boolean[] inRecoveryBatch = { !remainingElementsFromRecover.isEmpty() };
+
+        WindowedBulkSupplier bulkSupplier = () -> {
+            List<JsonLineModel> entries = new ArrayList<>();
+            JsonLineModel previousEntry = null;
+            int consumedLines = 0;
+            while (entries.size() < bulkSize && reader.peek() != null) {
+                if (!entries.isEmpty() && isDistribGroupChange(previousEntry, reader.peek())) {
+                    break;
+                }
+                JsonLineModel entry = reader.next();
+                consumedLines++;
+                previousEntry = entry;
+
+                if (inRecoveryBatch[0]) {
+                    // The recovered batch ends on batch size or distribution group change (as in batch mode)
+                    if (
+                        reader.getOffset() >= recoveryBatchEnd ||
+                        reader.peek() == null ||
+                        isDistribGroupChange(entry, reader.peek())
+                    ) {
+                        inRecoveryBatch[0] = false;
+                    }
+                    if (!remainingElementsFromRecover.contains(entry.getId())) {
+                        continue;
+                    }
+                }
+                entries.add(entry);
+            }
+
+            if (consumedLines == 0) {
+                return null;
+            }
+
+            if (updateElementToProcess) {
+                ((ProcessStep) step).getElementToProcess().addAndGet(consumedLines);
+            }
+
+            if (entries.isEmpty()) {
+                // Only already processed entries
+                return new WindowedBulk(null, null, reader.getOffset());
+            }
+
+            WorkerTask workerTask = createWorkerTask(
+                workerParameters,
+                step,
+                tenantId,
+                requestId,
+                contractId,
+                contextId,
+                applicationId,
+                entries.stream().map(JsonLineModel::getId).collect(Collectors.toList()),
+                entries.stream().map(JsonLineModel::getParams).collect(Collectors.toList())
+            );
+            return new WindowedBulk(workerTask, entries.get(0).getDistribGroup(), reader.getOffset());
+        };
+
+        executeWorkerTasksInSlidingWindow(step, workerParameters, NOLEVEL, initialOffset, bulkSupplier);
+    }
+
+    private static boolean isDistribGroupChange(JsonLineModel currentEntry, JsonLineModel nextEntry) {
+        return isDistribGroupChange(currentEntry.getDistribGroup(), nextEntry.getDistribGroup());
+    }
+
+    private static boolean isDistribGroupChange(Integer currentDistribGroup, Integer nextDistribGroup) {
+        return (
+            currentDistribGroup != null && nextDistribGroup != null && !currentDistribGroup.equals(nextDistribGroup)
+        );
+    }
+
+    /**
+     * Executes worker tasks in a sliding window : up to distributionWindowSize tasks are kept in flight, and a new task
+     * is scheduled as soon as a task result is received (no batch barrier).
+     * <p>
+     * Task results are reported to the step in distribution order, and the DistributorIndex offset is the offset of
+     * the first element whose task is not completed yet (all previous elements are processed). So after a restart,
+     * tasks completed after that offset are re-executed.
+     * <p>
+     * Distribution stops (and in-flight tasks are awaited) as soon as a FATAL result is received or workflow is paused
+     * or canceled.
+     */
+    private void executeWorkerTasksInSlidingWindow(
+        Step step,
+        WorkerParameters workerParameters,
+        String level,
+        int initialOffset,
+        WindowedBulkSupplier bulkSupplier
+    ) throws ProcessingException {
+        final String operationId = workerParameters.getContainerName();
+        final String requestId = VitamThreadUtils.getVitamSession().getRequestId();
+        final int windowSize = serverConfiguration.getDistributionWindowSize();
+        final int checkpointInterval =
+            VitamConfiguration.getDistributeurBatchSize() * findBulkSize(step.getDistribution());
+
+        BlockingQueue<WorkerTaskResult> resultQueue = new LinkedBlockingQueue<>();
+        Map<WorkerTask, WindowedBulk> inFlightBulks = new IdentityHashMap<>();
+        Deque<WindowedBulk> uncompletedBulks = new ArrayDeque<>();
+
+        int committedOffset = initialOffset;
+        int lastPersistedOffset = initialOffset;
+        Integer lastDistribGroup = null;
+        boolean interrupted = false;
+        WindowedBulk nextBulk = bulkSupplier.next();
+        if (nextBulk == null) {
+            // Nothing to distribute
+            return;
+        }
+
+        while (true) {
+            // Fill the window
+            while (!interrupted && nextBulk != null && inFlightBulks.size() < windowSize) {
+                if (isCanceledOrPaused(step)) {
+                    interrupted = true;
+                    break;
+                }
+                // Distribution group barrier : await all tasks of previous distribution group
+                if (!inFlightBulks.isEmpty() && isDistribGroupChange(lastDistribGroup, nextBulk.distribGroup)) {
+                    break;
+                }
+                uncompletedBulks.add(nextBulk);
+                if (nextBulk.workerTask != null) {
+                    inFlightBulks.put(nextBulk.workerTask, nextBulk);
+                    if (nextBulk.distribGroup != null) {
+                        lastDistribGroup = nextBulk.distribGroup;
+                    }
+                    scheduleTaskInExecutionBlockingQueue(
+                        nextBulk.workerTask,
+                        workerParameters.getLogbookTypeProcess(),
+                        resultQueue
+                    );
+                }
+                nextBulk = bulkSupplier.next();
+            }
+
+            // Report completed tasks in distribution order & move offset
+            while (!uncompletedBulks.isEmpty() && uncompletedBulks.peekFirst().isSuccessfullyCompleted()) {
+                WindowedBulk completedBulk = uncompletedBulks.pollFirst();
+                if (completedBulk.workerTaskResult != null) {
+                    updateStepWithTaskResults(Collections.singletonList(completedBulk.workerTaskResult), step);
+                }
+                committedOffset = completedBulk.endOffset;
+            }
+
+            if (committedOffset - lastPersistedOffset >= checkpointInterval) {
+                persistSlidingWindowDistributorIndex(operationId, requestId, step, level, committedOffset, false);
+                lastPersistedOffset = committedOffset;
+            }
+
+            if (inFlightBulks.isEmpty()) {
+                if (interrupted || nextBulk == null) {
+                    break;
+                }
+                // Window drained on distribution group barrier
+                continue;
+            }
+
+            WorkerTaskResult workerTaskResult = awaitNextResult(resultQueue);
+            WindowedBulk bulk = inFlightBulks.remove(workerTaskResult.getWorkerTask());
+            bulk.workerTaskResult = workerTaskResult;
+            if (!bulk.isSuccessfullyCompleted()) {
+                // FATAL, paused or canceled task : stop distribution
+                interrupted = true;
+            }
+        }
+
+        boolean fatalTaskResult = uncompletedBulks
+            .stream()
+            .anyMatch(bulk -> !bulk.isSuccessfullyCompleted() && !bulk.workerTaskResult.isPausedOrCanceled());
+        if (fatalTaskResult) {
+            // As in batch mode, report all task results of the window (FATAL status included)
+            updateStepWithTaskResults(
+                uncompletedBulks
+                    .stream()
+                    .map(bulk -> bulk.workerTaskResult)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toList()),
+                step
+            );
+        }
+
+        boolean levelFinished =
+            nextBulk == null &&
+            uncompletedBulks.isEmpty() &&
+            !step.getStepResponses().getGlobalStatus().isGreaterOrEqualToFatal();
+        persistSlidingWindowDistributorIndex(operationId, requestId, step, level, committedOffset, levelFinished);
+
+        checkCancelledOrPaused(step);
+    }
+
+    private void persistSlidingWindowDistributorIndex(
+        String operationId,
+        String requestId,
+        Step step,
+        String level,
+        int offset,
+        boolean levelFinished
+    ) throws ProcessingException {
+        ItemStatus itemStatus = step.getStepResponses();
+        DistributorIndex distributorIndex = new DistributorIndex(
+            level,
+            offset,
+            itemStatus,
+            requestId,
+            step.getId(),
+            Collections.emptyList()
+        );
+        distributorIndex.setLevelFinished(levelFinished);
+        updatePersistedDistributorIndexIfNotFatal(
+            operationId,
+            offset,
+            distributorIndex,
+            itemStatus,
+            AN_EXCEPTION_HAS_BEEN_THROWN_WHEN_TRYING_TO_PERSIST_DISTRIBUTOR_INDEX
+        );
+    }
+
+    private static WorkerTaskResult awaitNextResult(BlockingQueue<WorkerTaskResult> resultQueue)
+        throws ProcessingException {
+        try {
+            return resultQueue.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ProcessingException(e);
+        }
+    }
+
     private void skipOffsetLines(BufferedReader bufferedReader, int offset) throws ProcessingException {
         try {
             for (int i = 0; i < offset; i++) {
@@ -822,7 +1207,7 @@ public class ProcessDistributorImpl implements ProcessDistributor {
         }
     }
 
-    private JsonLineModel readJsonLineModelFromBufferFromString(String value) throws ProcessingException {
+    private static JsonLineModel readJsonLineModelFromBufferFromString(String value) throws ProcessingException {
         try {
             return JsonHandler.getFromString(value, JsonLineModel.class);
         } catch (InvalidParseOperationException e) {
@@ -846,21 +1231,21 @@ public class ProcessDistributorImpl implements ProcessDistributor {
 
         // Create a worker task for each bulk
         List<WorkerTask> workerTaskList = new ArrayList<>();
-        distributionSubListBulkIterator.forEachRemaining(objectNames -> {
-            WorkerParameters taskWorkerParams = ((DefaultWorkerParameters) workerParameters).newInstance();
-            taskWorkerParams.setObjectNameList(objectNames);
+        distributionSubListBulkIterator.forEachRemaining(objectNames ->
             workerTaskList.add(
-                new WorkerTask(
-                    new DescriptionStep(step, taskWorkerParams),
+                createWorkerTask(
+                    workerParameters,
+                    step,
                     tenantId,
                     requestId,
                     contractId,
                     contextId,
                     applicationId,
-                    workerClientFactory
+                    objectNames,
+                    null
                 )
-            );
-        });
+            )
+        );
         return workerTaskList;
     }
 
@@ -880,30 +1265,51 @@ public class ProcessDistributorImpl implements ProcessDistributor {
 
         // Create a worker task for each bulk
         List<WorkerTask> workerTaskList = new ArrayList<>();
-        batchIterator.forEachRemaining(entryList -> {
-            WorkerParameters taskWorkerParams = ((DefaultWorkerParameters) workerParameters).newInstance();
-            taskWorkerParams.setObjectNameList(
-                entryList.stream().map(JsonLineModel::getId).collect(Collectors.toList())
-            );
-            taskWorkerParams.setObjectMetadataList(
-                entryList.stream().map(JsonLineModel::getParams).collect(Collectors.toList())
-            );
-
+        batchIterator.forEachRemaining(entryList ->
             workerTaskList.add(
-                new WorkerTask(
-                    new DescriptionStep(step, taskWorkerParams),
+                createWorkerTask(
+                    workerParameters,
+                    step,
                     tenantId,
                     requestId,
                     contractId,
                     contextId,
                     applicationId,
-                    workerClientFactory
+                    entryList.stream().map(JsonLineModel::getId).collect(Collectors.toList()),
+                    entryList.stream().map(JsonLineModel::getParams).collect(Collectors.toList())
                 )
-            );
-        });
+            )
+        );
         return workerTaskList;
     }
 
+    private WorkerTask createWorkerTask(
+        WorkerParameters workerParameters,
+        Step step,
+        Integer tenantId,
+        String requestId,
+        String contractId,
+        String contextId,
+        String applicationId,
+        List<String> objectNames,
+        List<JsonNode> objectMetadataList
+    ) {
+        WorkerParameters taskWorkerParams = ((DefaultWorkerParameters) workerParameters).newInstance();
+        taskWorkerParams.setObjectNameList(objectNames);
+        if (objectMetadataList != null) {
+            taskWorkerParams.setObjectMetadataList(objectMetadataList);
+        }
+        return new WorkerTask(
+            new DescriptionStep(step, taskWorkerParams),
+            tenantId,
+            requestId,
+            contractId,
+            contextId,
+            applicationId,
+            workerClientFactory
+        );
+    }
+
     private List<WorkerTaskResult> executeWorkerTasks(
         Step step,
         WorkerParameters workerParameters,
@@ -1135,4 +1541,83 @@ public class ProcessDistributorImpl implements ProcessDistributor {
     public ProcessDataManagement getProcessDataManagement() {
         return processDataManagement;
     }
+
+    @FunctionalInterface
+    private interface WindowedBulkSupplier {
+        /**
+         * @return the next bulk to distribute, or null if no more bulk
+         */
+        WindowedBulk next() throws ProcessingException;
+    }
+
+    /**
+     * A bulk distributed in sliding window mode
+     */
+    private static class WindowedBulk {
+
+        /**
+         * Task to execute. Null if no task is required (only already processed elements)
+         */
+        private final WorkerTask workerTask;
+        private final Integer distribGroup;
+        /**
+         * Offset of distribution once this bulk (and all previous ones) is processed
+         */
+        private final int endOffset;
+        private WorkerTaskResult workerTaskResult;
+
+        private WindowedBulk(WorkerTask workerTask, Integer distribGroup, int endOffset) {
+            this.workerTask = workerTask;
+            this.distribGroup = distribGroup;
+            this.endOffset = endOffset;
+        }
+
+        private boolean isSuccessfullyCompleted() {
+            if (workerTask == null) {
+                return true;
+            }
+            return (
+                workerTaskResult != null &&
+                workerTaskResult.isProcessed() &&
+                !workerTaskResult.isPausedOrCanceled() &&
+                !StatusCode.FATAL.equals(workerTaskResult.getItemStatus().getGlobalStatus())
+            );
+        }
+    }
+
+    /**
+     * Json line reader with single entry look-ahead
+     */
+    private static class JsonLineStreamReader {
+
+        private final Iterator<String> linesIterator;
+        private JsonLineModel peekedEntry;
+        private int offset;
+
+        private JsonLineStreamReader(Iterator<String> linesIterator, int offset) {
+            this.linesIterator = linesIterator;
+            this.offset = offset;
+        }
+
+        private JsonLineModel peek() throws ProcessingException {
+            if (peekedEntry == null && linesIterator.hasNext()) {
+                peekedEntry = readJsonLineModelFromBufferFromString(linesIterator.next());
+            }
+            return peekedEntry;
+        }
+
+        private JsonLineModel next() throws ProcessingException {
+            JsonLineModel entry = peek();
+            peekedEntry = null;
+            offset++;
+            return entry;
+        }
+
+        /**
+         * @return the offset of the next entry to read
+         */
+        private int getOffset() {
+            return offset;
+        }
+    }
 }
@@ -27,6 +27,7 @@
 package fr.gouv.vitam.processing.distributor.core;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.collect.Iterables;
 import fr.gouv.vitam.common.PropertiesUtils;
 import fr.gouv.vitam.common.VitamConfiguration;
 import fr.gouv.vitam.common.client.AbstractMockClient;
@@ -118,6 +119,9 @@ import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.atMost;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
@@ -1658,6 +1662,151 @@ public class ProcessDistributorImplTest {
         assertThat(processedElements.get()).isEqualTo(170L);
     }
 
+    @Test
+    @RunWithCustomExecutor
+    public void whenDistributeDistributionKindListWithLevelInSlidingWindowOK() throws Exception {
+        serverConfiguration.setDistributionWindowSize(4);
+        int numberOfObjectInIngestLevelStack = 170;
+        final File fileContracts = PropertiesUtils.getResourceFile("ingestLevelStack.json");
+
+        givenWorkspaceClientReturnsFileContent(fileContracts, any(), any());
+
+        ProcessStep step = getStep(DistributionKind.LIST_ORDERING_IN_FILE, ProcessDistributor.ELEMENT_UNITS);
+        ItemStatus itemStatus = processDistributor.distribute(workerParameters, step, operationId);
+
+        assertThat(itemStatus.getGlobalStatus()).isEqualTo(StatusCode.OK);
+        assertThat(itemStatus.getItemsStatus().get("ItemId").getStatusMeter().get(StatusCode.OK.getStatusLevel()))
+            .isEqualTo(numberOfObjectInIngestLevelStack);
+        assertThat(step.getElementProcessed().get()).isEqualTo(numberOfObjectInIngestLevelStack);
+        verify(workerClient, times(numberOfObjectInIngestLevelStack)).submitStep(any());
+    }
+
+    @Test
+    @RunWithCustomExecutor
+    public void whenDistributeDistributionKindListWithLevelInSlidingWindowFATAL() throws Exception {
+        serverConfiguration.setDistributionWindowSize(4);
+        when(workerClient.submitStep(any())).thenAnswer(invocation -> getMockedItemStatus(StatusCode.FATAL));
+        final File fileContracts = PropertiesUtils.getResourceFile("ingestLevelStack.json");
+
+        givenWorkspaceClientReturnsFileContent(fileContracts, any(), any());
+
+        ProcessStep step = getStep(DistributionKind.LIST_ORDERING_IN_FILE, ProcessDistributor.ELEMENT_UNITS);
+        ItemStatus itemStatus = processDistributor.distribute(workerParameters, step, operationId);
+
+        assertThat(itemStatus.getGlobalStatus()).isEqualTo(StatusCode.FATAL);
+        // Distribution stops on first FATAL result (at most a window of tasks is executed)
+        verify(workerClient, atMost(4)).submitStep(any());
+    }
+
+    @Test
+    @RunWithCustomExecutor
+    public void shouldDistributeOnStreamInSlidingWindow() throws Exception {
+        serverConfiguration.setDistributionWindowSize(4);
+        AtomicInteger actualLevel = new AtomicInteger(0);
+
+        File file = createRandomDataSetInfo();
+
+        givenWorkspaceClientReturnsFileContent(file, "FakeOperationId", file.getAbsolutePath());
+
+        when(workerClient.submitStep(any())).thenAnswer(invocation -> {
+            Map<WorkerParameterName, String> mapParameters =
+                ((DescriptionStep) invocation.getArguments()[0]).getWorkParams().getMapParameters();
+
+            JsonNode objectMetadataList = JsonHandler.getFromString(
+                mapParameters.get(WorkerParameterName.objectMetadataList)
+            );
+
+            String level = objectMetadataList.get(0).get("distributionNumber").textValue();
+
+            synchronized (this) {
+                if (!String.valueOf(actualLevel.get()).equals(level)) {
+                    int newLevel = actualLevel.incrementAndGet();
+
+                    // Distribution groups are never processed concurrently
+                    assertThat(level).isEqualTo(String.valueOf(newLevel));
+                }
+            }
+
+            return getMockedItemStatus(StatusCode.OK);
+        });
+
+        ProcessStep step = getStep(DistributionKind.LIST_IN_JSONL_FILE, file.getAbsolutePath());
+        ItemStatus itemStatus = processDistributor.distribute(workerParameters, step, operationId);
+
+        verify(workerClient, times(750)).submitStep(any());
+        assertThat(itemStatus.getGlobalStatus()).isEqualTo(StatusCode.OK);
+        assertThat(step.getElementToProcess().get()).isEqualTo(750L);
+        assertThat(step.getElementProcessed().get()).isEqualTo(750L);
+
+        ArgumentCaptor<DistributorIndex> distributorIndexCaptor = ArgumentCaptor.forClass(DistributorIndex.class);
+        verify(processDataManagement, atLeastOnce()).persistDistributorIndex(
+            eq(operationId),
+            distributorIndexCaptor.capture()
+        );
+        DistributorIndex lastDistributorIndex = Iterables.getLast(distributorIndexCaptor.getAllValues());
+        assertThat(lastDistributorIndex.getOffset()).isEqualTo(750);
+        assertThat(lastDistributorIndex.isLevelFinished()).isTrue();
+    }
+
+    @Test
+    @RunWithCustomExecutor
+    public void whenDistributeOnStreamInSlidingWindowPauseThenResumeWithIndexOffsetOK() throws Exception {
+        serverConfiguration.setDistributionWindowSize(4);
+        CountDownLatch countDownLatch = new CountDownLatch(1);
+        AtomicReference<DistributorIndex> distributorIndex = new AtomicReference<>();
+
+        File file = createRandomDataSetInfo();
+
+        ProcessStep step = getStep(DistributionKind.LIST_IN_JSONL_FILE, file.getAbsolutePath());
+
+        givenWorkspaceClientReturnsFileContent(file, "FakeOperationId", file.getAbsolutePath());
+
+        when(workerClient.submitStep(argThat(stepDescription -> matcher(stepDescription, FAKE_UUID)))).thenAnswer(
+            invocation -> {
+                step.setPauseOrCancelAction(PauseOrCancelAction.ACTION_PAUSE);
+                countDownLatch.countDown();
+                return getMockedItemStatus(StatusCode.OK);
+            }
+        );
+
+        doAnswer(invocation -> {
+            DistributorIndex myDistributorIndex = invocation.getArgument(1);
+            distributorIndex.set(myDistributorIndex);
+            return myDistributorIndex;
+        })
+            .when(processDataManagement)
+            .persistDistributorIndex(eq(operationId), any(DistributorIndex.class));
+
+        ItemStatus is = processDistributor.distribute(workerParameters, step, operationId);
+
+        int treatedElements = is.getStatusMeter().stream().mapToInt(o -> o).sum();
+        assertThat(treatedElements).isEqualTo(step.getElementProcessed().get());
+        assertThat(treatedElements).isLessThan(750);
+        assertThat(distributorIndex.get().getOffset()).isEqualTo(treatedElements);
+        assertThat(distributorIndex.get().getRemainingElements()).isEmpty();
+        assertThat(distributorIndex.get().isLevelFinished()).isFalse();
+
+        countDownLatch.await();
+
+        doReturn(Optional.of(distributorIndex.get())).when(processDataManagement).getDistributorIndex(eq(operationId));
+
+        when(workerClient.submitStep(argThat(stepDescription -> matcher(stepDescription, FAKE_UUID)))).thenAnswer(
+            invocation -> getMockedItemStatus(StatusCode.OK)
+        );
+
+        // simulate resume action
+        step.setPauseOrCancelAction(PauseOrCancelAction.ACTION_RECOVER);
+        is = processDistributor.distribute(workerParameters, step, operationId);
+
+        treatedElements = is.getStatusMeter().stream().mapToInt(o -> o).sum();
+        assertThat(treatedElements).isEqualTo(step.getElementProcessed().get());
+        assertThat(step.getElementProcessed().get()).isEqualTo(750L);
+        assertThat(distributorIndex.get().getOffset()).isEqualTo(750);
+        assertThat(distributorIndex.get().isLevelFinished()).isTrue();
+        // Tasks completed beyond the committed offset at pause time are re-executed
+        verify(workerClient, atLeast(750)).submitStep(any());
+    }
+
     private boolean matcher(DescriptionStep descriptionStep, String elementName) {
         if (Objects.nonNull(descriptionStep)) return descriptionStep
             .getWorkParams()
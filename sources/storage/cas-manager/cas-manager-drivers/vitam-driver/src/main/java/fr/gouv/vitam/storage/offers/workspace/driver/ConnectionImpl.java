@@ -158,6 +158,12 @@ public class ConnectionImpl extends AbstractConnection {
         }
     }
 
+    private static boolean isRangeNotSatisfiable(StorageObjectRequest request, Response response) {
+        return (
+            request.getRange() != null && response.getStatus() == Status.REQUESTED_RANGE_NOT_SATISFIABLE.getStatusCode()
+        );
+    }
+
     private void checkCustomResponseStatusForUnavailableDataFromAsyncOffer(Response response)
         throws StorageDriverException {
         CustomVitamHttpStatusCode customStatusCode = CustomVitamHttpStatusCode.fromStatusCode(response.getStatus());
@@ -221,18 +227,26 @@ public class ConnectionImpl extends AbstractConnection {
         VitamRequestBuilder requestbuilder = get()
             .withPath(OBJECTS_PATH + "/" + DataCategory.getByFolder(request.getType()) + "/" + request.getGuid())
             .withHeader(GlobalDataRest.X_TENANT_ID, request.getTenantId())
+            .withHeaderIgnoreNull(GlobalDataRest.RANGE, request.getRange())
             .withOctetAccept();
 
         Response response = null;
         try {
             response = make(requestbuilder);
             checkCustomResponseStatusForUnavailableDataFromAsyncOffer(response);
-            checkStorageException(response);
+            if (!isRangeNotSatisfiable(request, response)) {
+                // An unsatisfiable range is returned as is : other offers would answer the same
+                checkStorageException(response);
+            }
             return new StorageGetResult(request.getTenantId(), request.getType(), request.getGuid(), response);
         } catch (final VitamClientInternalException e) {
             throw new StorageDriverException(getDriverName(), true, e);
         } finally {
-            if (response != null && response.getStatus() != Status.OK.getStatusCode()) {
+            if (
+                response != null &&
+                !SUCCESSFUL.equals(response.getStatusInfo().getFamily()) &&
+                !isRangeNotSatisfiable(request, response)
+            ) {
                 consumeAnyEntityAndClose(response);
             }
         }
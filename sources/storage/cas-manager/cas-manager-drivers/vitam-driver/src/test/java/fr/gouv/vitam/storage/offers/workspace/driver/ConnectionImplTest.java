@@ -40,6 +40,7 @@ import fr.gouv.vitam.common.guid.GUIDFactory;
 import fr.gouv.vitam.common.json.JsonHandler;
 import fr.gouv.vitam.common.junit.FakeInputStream;
 import fr.gouv.vitam.common.logging.SysErrLogger;
+import fr.gouv.vitam.common.model.ByteRange;
 import fr.gouv.vitam.common.model.RequestResponse;
 import fr.gouv.vitam.common.model.RequestResponseOK;
 import fr.gouv.vitam.common.model.storage.AccessRequestStatus;
@@ -667,6 +668,49 @@ public class ConnectionImplTest extends ResteasyTestApplication {
         }
     }
 
+    @Test
+    public void getObjectRangeOK() throws Exception {
+        final InputStream stream = new ByteArrayInputStream("es".getBytes());
+        when(mock.get()).thenReturn(
+            Response.status(Status.PARTIAL_CONTENT)
+                .entity(stream)
+                .header(GlobalDataRest.CONTENT_RANGE, "bytes 1-2/4")
+                .build()
+        );
+        final StorageObjectRequest request = new StorageObjectRequest(
+            tenant,
+            DataCategory.OBJECT.getFolder(),
+            "guid",
+            ByteRange.of(1, 2)
+        );
+        try (Connection connection = driver.connect(offer.getId())) {
+            final StorageGetResult result = connection.getObject(request);
+            assertEquals(Status.PARTIAL_CONTENT.getStatusCode(), result.getObject().getStatus());
+            assertEquals("bytes 1-2/4", result.getObject().getHeaderString(GlobalDataRest.CONTENT_RANGE));
+            assertThat(result.getObject().readEntity(InputStream.class)).hasContent("es");
+        }
+    }
+
+    @Test
+    public void getObjectRangeNotSatisfiable() throws Exception {
+        when(mock.get()).thenReturn(
+            Response.status(Status.REQUESTED_RANGE_NOT_SATISFIABLE)
+                .header(GlobalDataRest.CONTENT_RANGE, "bytes */4")
+                .build()
+        );
+        final StorageObjectRequest request = new StorageObjectRequest(
+            tenant,
+            DataCategory.OBJECT.getFolder(),
+            "guid",
+            ByteRange.from(4)
+        );
+        try (Connection connection = driver.connect(offer.getId())) {
+            final StorageGetResult result = connection.getObject(request);
+            assertEquals(Status.REQUESTED_RANGE_NOT_SATISFIABLE.getStatusCode(), result.getObject().getStatus());
+            result.getObject().close();
+        }
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void objectExistInOfferWithEmptyParameterThrowsException() throws Exception {
         try (Connection connection = driver.connect(offer.getId())) {
@@ -290,7 +290,8 @@ public class TapeLibraryFactory {
                 configuration.isForceOverrideNonEmptyCartridges(),
                 archiveCacheStorage,
                 tapeCatalogService,
-                tapeLibraryConf.getFullCartridgeDetectionThresholdInMB()
+                tapeLibraryConf.getFullCartridgeDetectionThresholdInMB(),
+                tapeLibraryConf.getMaxParallelDrivesPerBucket()
             );
 
             // Initialize drives on bootstrap
@@ -36,6 +36,7 @@ import fr.gouv.vitam.common.digest.Digest;
 import fr.gouv.vitam.common.digest.DigestType;
 import fr.gouv.vitam.common.logging.VitamLogger;
 import fr.gouv.vitam.common.logging.VitamLoggerFactory;
+import fr.gouv.vitam.common.model.ByteRange;
 import fr.gouv.vitam.common.model.MetadatasObject;
 import fr.gouv.vitam.common.model.storage.AccessRequestStatus;
 import fr.gouv.vitam.common.model.storage.ObjectEntry;
@@ -61,15 +62,19 @@ import fr.gouv.vitam.storage.offers.tape.exception.ArchiveReferentialException;
 import fr.gouv.vitam.storage.offers.tape.exception.ObjectReferentialException;
 import fr.gouv.vitam.workspace.api.exception.ContentAddressableStorageException;
 import fr.gouv.vitam.workspace.api.exception.ContentAddressableStorageNotFoundException;
+import fr.gouv.vitam.workspace.api.exception.ContentAddressableStorageRangeNotSatisfiableException;
 import fr.gouv.vitam.workspace.api.exception.ContentAddressableStorageServerException;
 import fr.gouv.vitam.workspace.api.exception.ContentAddressableStorageUnavailableDataFromAsyncOfferException;
 import org.apache.commons.collections4.SetUtils;
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.io.input.BoundedInputStream;
 
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.NoSuchFileException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
@@ -206,10 +211,16 @@ public class TapeLibraryContentAddressableStorage implements ContentAddressableS
 
     @Override
     public ObjectContent getObject(String containerName, String objectName) throws ContentAddressableStorageException {
+        return getObject(containerName, objectName, null);
+    }
+
+    @Override
+    public ObjectContent getObject(String containerName, String objectName, ByteRange range)
+        throws ContentAddressableStorageException {
         LOGGER.debug(String.format("Download object %s from container %s", objectName, containerName));
 
         for (int nbTry = 0; nbTry < NB_GET_OBJECT_RETRIES_ON_CONCURRENT_UPDATE; nbTry++) {
-            Optional<ObjectContent> objectContent = tryReadObject(containerName, objectName);
+            Optional<ObjectContent> objectContent = tryReadObject(containerName, objectName, range);
             if (objectContent.isPresent()) {
                 return objectContent.get();
             }
@@ -223,15 +234,21 @@ public class TapeLibraryContentAddressableStorage implements ContentAddressableS
         throw new ContentAddressableStorageServerException("Could not read object " + containerName + "/" + objectName);
     }
 
-    private Optional<ObjectContent> tryReadObject(String containerName, String objectName)
-        throws ContentAddressableStorageServerException, ContentAddressableStorageNotFoundException, ContentAddressableStorageUnavailableDataFromAsyncOfferException {
+    private Optional<ObjectContent> tryReadObject(String containerName, String objectName, ByteRange range)
+        throws ContentAddressableStorageServerException, ContentAddressableStorageNotFoundException, ContentAddressableStorageUnavailableDataFromAsyncOfferException, ContentAddressableStorageRangeNotSatisfiableException {
         TapeObjectReferentialEntity objectReferentialEntity = getTapeObjectReferentialEntity(containerName, objectName);
+        ByteRange resolvedRange = range == null
+            ? null
+            : ObjectContent.resolveRange(range, objectReferentialEntity.getSize(), containerName, objectName);
 
         TapeLibraryObjectStorageLocation location = objectReferentialEntity.getLocation();
         if (location instanceof TapeLibraryInputFileObjectStorageLocation) {
             Optional<InputStream> inputStream = tryReadObjectFromInputFile(containerName, objectReferentialEntity);
             if (inputStream.isPresent()) {
-                return Optional.of(toObjectContent(inputStream.get(), objectReferentialEntity));
+                if (resolvedRange != null) {
+                    skipInputFileBytes(containerName, objectReferentialEntity, inputStream.get(), resolvedRange);
+                }
+                return Optional.of(toObjectContent(inputStream.get(), objectReferentialEntity, resolvedRange));
             }
             return Optional.empty();
         }
@@ -240,9 +257,10 @@ public class TapeLibraryContentAddressableStorage implements ContentAddressableS
             InputStream inputStream = readFromTarFiles(
                 containerName,
                 objectName,
-                ((TapeLibraryTarObjectStorageLocation) objectReferentialEntity.getLocation()).getTarEntries()
+                ((TapeLibraryTarObjectStorageLocation) objectReferentialEntity.getLocation()).getTarEntries(),
+                resolvedRange
             );
-            return Optional.of(toObjectContent(inputStream, objectReferentialEntity));
+            return Optional.of(toObjectContent(inputStream, objectReferentialEntity, resolvedRange));
         }
 
         throw new IllegalStateException("Unknown object storage location: " + location.getClass());
@@ -297,11 +315,55 @@ public class TapeLibraryContentAddressableStorage implements ContentAddressableS
         }
     }
 
-    private InputStream readFromTarFiles(String containerName, String objectName, List<TarEntryDescription> tarEntries)
-        throws ContentAddressableStorageServerException, ContentAddressableStorageUnavailableDataFromAsyncOfferException {
+    private void skipInputFileBytes(
+        String containerName,
+        TapeObjectReferentialEntity tapeObjectReferentialEntity,
+        InputStream inputStream,
+        ByteRange resolvedRange
+    ) throws ContentAddressableStorageServerException {
+        try {
+            IOUtils.skipFully(inputStream, resolvedRange.getFirst());
+        } catch (IOException ex) {
+            IOUtils.closeQuietly(inputStream);
+            throw new ContentAddressableStorageServerException(
+                "An error occurred during reading inputFile '" +
+                containerName +
+                "/" +
+                tapeObjectReferentialEntity.getStorageId() +
+                "'",
+                ex
+            );
+        }
+    }
+
+    private InputStream readFromTarFiles(
+        String containerName,
+        String objectName,
+        List<TarEntryDescription> tarEntries,
+        ByteRange resolvedRange
+    ) throws ContentAddressableStorageServerException, ContentAddressableStorageUnavailableDataFromAsyncOfferException {
         if (tarEntries == null || tarEntries.isEmpty()) {
             throw new IllegalStateException("empty TAR description for object : " + containerName + "/" + objectName);
         }
+
+        long firstEntryOffset = 0L;
+        if (resolvedRange != null) {
+            // Only load TAR entries overlapping the requested range, starting at the range offset in the first one
+            List<TarEntryDescription> overlappingTarEntries = new ArrayList<>();
+            long entryStartPos = 0L;
+            for (TarEntryDescription tarEntry : tarEntries) {
+                long entryEndPos = entryStartPos + tarEntry.getSize();
+                if (entryEndPos > resolvedRange.getFirst() && entryStartPos <= resolvedRange.getLast()) {
+                    if (overlappingTarEntries.isEmpty()) {
+                        firstEntryOffset = resolvedRange.getFirst() - entryStartPos;
+                    }
+                    overlappingTarEntries.add(tarEntry);
+                }
+                entryStartPos = entryEndPos;
+            }
+            tarEntries = overlappingTarEntries;
+        }
+
         String fileBucketId = this.bucketTopologyHelper.getFileBucketFromContainerName(containerName);
 
         Set<String> tarIds = getTarIds(tarEntries);
@@ -311,13 +373,14 @@ public class TapeLibraryContentAddressableStorage implements ContentAddressableS
         if (tarEntries.size() == 1) {
             // Just load / return TAR entry content.
             TarEntryDescription tarEntry = tarEntries.get(0);
-            return loadTarFileInputStream(containerName, objectName, tarEntry);
+            return loadTarFileInputStream(containerName, objectName, tarEntry, firstEntryOffset);
         }
 
         return loadLargeObjectInputStream(
             containerName,
             objectName,
             tarEntries,
+            firstEntryOffset,
             fileBucketId,
             tarIds,
             tapeArchiveReferentialEntityMap
@@ -363,6 +426,7 @@ public class TapeLibraryContentAddressableStorage implements ContentAddressableS
         String containerName,
         String objectName,
         List<TarEntryDescription> tarEntries,
+        long firstEntryOffset,
         String fileBucketId,
         Set<String> tarIds,
         Map<String, TapeArchiveReferentialEntity> tapeArchiveReferentialEntityMap
@@ -381,7 +445,8 @@ public class TapeLibraryContentAddressableStorage implements ContentAddressableS
                 .stream()
                 .map(tarEntry -> {
                     try {
-                        return loadTarFileInputStream(containerName, objectName, tarEntry);
+                        long offset = tarEntry == tarEntries.get(0) ? firstEntryOffset : 0L;
+                        return loadTarFileInputStream(containerName, objectName, tarEntry, offset);
                     } catch (
                         ContentAddressableStorageUnavailableDataFromAsyncOfferException
                         | ContentAddressableStorageServerException e
@@ -440,11 +505,15 @@ public class TapeLibraryContentAddressableStorage implements ContentAddressableS
         );
     }
 
-    private InputStream loadTarFileInputStream(String containerName, String objectName, TarEntryDescription tarEntry)
-        throws ContentAddressableStorageUnavailableDataFromAsyncOfferException, ContentAddressableStorageServerException {
+    private InputStream loadTarFileInputStream(
+        String containerName,
+        String objectName,
+        TarEntryDescription tarEntry,
+        long offset
+    ) throws ContentAddressableStorageUnavailableDataFromAsyncOfferException, ContentAddressableStorageServerException {
         try {
             FileInputStream fileInputStream = locateAndOpenTarFileInputStream(containerName, objectName, tarEntry);
-            return TarHelper.readEntryAtPos(fileInputStream, tarEntry);
+            return TarHelper.readEntryAtPos(fileInputStream, tarEntry, offset);
         } catch (IOException e) {
             throw new ContentAddressableStorageServerException("Could not load tar file", e);
         }
@@ -490,9 +559,21 @@ public class TapeLibraryContentAddressableStorage implements ContentAddressableS
 
     private ObjectContent toObjectContent(
         InputStream inputStream,
-        TapeObjectReferentialEntity tapeObjectReferentialEntity
+        TapeObjectReferentialEntity tapeObjectReferentialEntity,
+        ByteRange resolvedRange
     ) throws ContentAddressableStorageServerException {
         try {
+            if (resolvedRange != null) {
+                // Whole object digest cannot be validated on partial reads
+                return new ObjectContent(
+                    new ExactSizeInputStream(
+                        new BoundedInputStream(inputStream, resolvedRange.getLength()),
+                        resolvedRange.getLength()
+                    ),
+                    resolvedRange,
+                    tapeObjectReferentialEntity.getSize()
+                );
+            }
             return new ObjectContent(
                 new ExactDigestValidatorInputStream(
                     new ExactSizeInputStream(inputStream, tapeObjectReferentialEntity.getSize()),
@@ -32,6 +32,7 @@ import fr.gouv.vitam.common.stream.ExactSizeInputStream;
 import fr.gouv.vitam.storage.engine.common.model.TarEntryDescription;
 import org.apache.commons.compress.archivers.ArchiveEntry;
 import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
+import org.apache.commons.io.IOUtils;
 import org.apache.commons.io.input.CloseShieldInputStream;
 
 import java.io.FileInputStream;
@@ -51,6 +52,43 @@ public final class TarHelper {
      */
     public static InputStream readEntryAtPos(FileInputStream fileInputStream, TarEntryDescription entryDescription)
         throws IOException {
+        TarArchiveInputStream tarArchiveInputStream = openEntryAtPos(fileInputStream, entryDescription);
+
+        return new ExactDigestValidatorInputStream(
+            new ExactSizeInputStream(tarArchiveInputStream, entryDescription.getSize()),
+            VitamConfiguration.getDefaultDigestType(),
+            entryDescription.getDigestValue()
+        );
+    }
+
+    /**
+     * Gets an input stream for a specific tar entry, starting at the given offset of the entry content.
+     * Entry size & entry name are validated. Digest cannot be validated when the entry is partially read.
+     *
+     * @param fileInputStream file input stream of the tar file to read from. It is NOT closed by this method and must closed by caller.
+     * @param entryDescription the tar entry description (file position, size, digest...)
+     * @param offset the position in the entry content to start reading from
+     * @return Tar entry input stream. Closing this input streams does NOT close inner fileInputStream.
+     * @throws IOException if any IO error occurs
+     */
+    public static InputStream readEntryAtPos(
+        FileInputStream fileInputStream,
+        TarEntryDescription entryDescription,
+        long offset
+    ) throws IOException {
+        if (offset == 0L) {
+            return readEntryAtPos(fileInputStream, entryDescription);
+        }
+        TarArchiveInputStream tarArchiveInputStream = openEntryAtPos(fileInputStream, entryDescription);
+        // Entry content is contiguous : skipping seeks within the underlying file
+        IOUtils.skipFully(tarArchiveInputStream, offset);
+        return new ExactSizeInputStream(tarArchiveInputStream, entryDescription.getSize() - offset);
+    }
+
+    private static TarArchiveInputStream openEntryAtPos(
+        FileInputStream fileInputStream,
+        TarEntryDescription entryDescription
+    ) throws IOException {
         // Seek to entry start position. Do not close channel since it will close the FileInputStream
         fileInputStream.getChannel().position(entryDescription.getStartPos());
 
@@ -77,11 +115,6 @@ public final class TarHelper {
                 "'"
             );
         }
-
-        return new ExactDigestValidatorInputStream(
-            new ExactSizeInputStream(tarArchiveInputStream, entryDescription.getSize()),
-            VitamConfiguration.getDefaultDigestType(),
-            entryDescription.getDigestValue()
-        );
+        return tarArchiveInputStream;
     }
 }
@@ -204,6 +204,14 @@ public class QueueRepositoryImpl implements QueueRepository {
     @Override
     public <T> Optional<T> receive(Bson inQuery, QueueMessageType messageType, boolean usePriority)
         throws QueueException {
+        Bson sort = usePriority
+            ? Sorts.ascending(QueueMessageEntity.PRIORITY, QueueMessageEntity.TAG_CREATION_DATE)
+            : Sorts.ascending(QueueMessageEntity.TAG_CREATION_DATE);
+        return receive(inQuery, messageType, sort);
+    }
+
+    @Override
+    public <T> Optional<T> receive(Bson inQuery, QueueMessageType messageType, Bson sort) throws QueueException {
         Bson query = inQuery != null
             ? and(
                 eq(QueueMessageEntity.STATE, QueueState.READY.getState()),
@@ -217,11 +225,7 @@ public class QueueRepositoryImpl implements QueueRepository {
 
         FindOneAndUpdateOptions option = new FindOneAndUpdateOptions();
         option.returnDocument(ReturnDocument.AFTER);
-        if (usePriority) {
-            option.sort(Sorts.ascending(QueueMessageEntity.PRIORITY, QueueMessageEntity.TAG_CREATION_DATE));
-        } else {
-            option.sort(Sorts.ascending(QueueMessageEntity.TAG_CREATION_DATE));
-        }
+        option.sort(sort);
         option.upsert(false);
 
         Bson update = Updates.combine(
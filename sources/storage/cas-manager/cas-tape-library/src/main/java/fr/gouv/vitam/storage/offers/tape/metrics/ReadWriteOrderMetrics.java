@@ -27,6 +27,7 @@
 package fr.gouv.vitam.storage.offers.tape.metrics;
 
 import fr.gouv.vitam.common.metrics.VitamMetricsNames;
+import io.prometheus.client.Counter;
 import io.prometheus.client.Histogram;
 
 public class ReadWriteOrderMetrics {
@@ -112,4 +113,16 @@ public class ReadWriteOrderMetrics {
         .labelNames("bucket")
         .buckets(.01, .025, .05, .075, .1, .25, .5, .75, 1, 2.5, 5, 7.5, 10, 30, 60, 120, 180, 300, 600, 1800, 3600)
         .register();
+
+    public static final Counter READ_ORDER_TAPE_SEEKS = Counter.build()
+        .name(VitamMetricsNames.VITAM_TAPE_OFFER_READ_ORDER_TAPE_SEEKS_TOTAL)
+        .help("Number of tape seeks required by read orders of a Vitam tape storage offer")
+        .labelNames("library", "drive", "direction")
+        .register();
+
+    public static final Counter READ_ORDER_READ_BYTES = Counter.build()
+        .name(VitamMetricsNames.VITAM_TAPE_OFFER_READ_ORDER_READ_BYTES_TOTAL)
+        .help("Total size in bytes of archives read from tapes by read orders of a Vitam tape storage offer")
+        .labelNames("library", "drive")
+        .register();
 }
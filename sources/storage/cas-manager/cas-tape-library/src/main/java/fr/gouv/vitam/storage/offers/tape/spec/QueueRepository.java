@@ -83,4 +83,15 @@ public interface QueueRepository {
     <T> Optional<T> receive(Bson inQuery, QueueMessageType messageType) throws QueueException;
 
     <T> Optional<T> receive(Bson inQuery, QueueMessageType messageType, boolean usePriority) throws QueueException;
+
+    /**
+     * Receive the first READY message matching query, using the specified sort order
+     *
+     * @param inQuery the message query
+     * @param messageType the message type
+     * @param sort the sort order of candidate messages
+     * @return the received message (marked as RUNNING) if any
+     * @throws QueueException
+     */
+    <T> Optional<T> receive(Bson inQuery, QueueMessageType messageType, Bson sort) throws QueueException;
 }
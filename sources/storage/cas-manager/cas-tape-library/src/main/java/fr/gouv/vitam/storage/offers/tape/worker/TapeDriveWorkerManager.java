@@ -26,6 +26,7 @@
  */
 package fr.gouv.vitam.storage.offers.tape.worker;
 
+import com.mongodb.client.model.Sorts;
 import fr.gouv.vitam.common.ParametersChecker;
 import fr.gouv.vitam.common.logging.VitamLogger;
 import fr.gouv.vitam.common.logging.VitamLoggerFactory;
@@ -45,6 +46,7 @@ import fr.gouv.vitam.storage.offers.tape.spec.QueueRepository;
 import fr.gouv.vitam.storage.offers.tape.spec.TapeCatalogService;
 import fr.gouv.vitam.storage.offers.tape.spec.TapeDriveService;
 import fr.gouv.vitam.storage.offers.tape.spec.TapeLibraryPool;
+import org.bson.conversions.Bson;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -60,7 +62,10 @@ import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import static com.mongodb.client.model.Filters.and;
 import static com.mongodb.client.model.Filters.eq;
+import static com.mongodb.client.model.Filters.gte;
+import static com.mongodb.client.model.Filters.lt;
 import static com.mongodb.client.model.Filters.nin;
 import static java.util.function.Predicate.not;
 
@@ -70,6 +75,7 @@ public class TapeDriveWorkerManager implements TapeDriveOrderConsumer, TapeDrive
     private static final String TAPE_DRIVE_WORKER = "TapeDriveWorker_";
     private final QueueRepository readWriteQueue;
     private final List<TapeDriveWorker> workers;
+    private final int maxParallelDrivesPerBucket;
 
     private final Map<Integer, OptimisticDriveResourceStatus> optimisticDriveResourceStatusMap =
         new ConcurrentHashMap<>();
@@ -85,6 +91,34 @@ public class TapeDriveWorkerManager implements TapeDriveOrderConsumer, TapeDrive
         ArchiveCacheStorage archiveCacheStorage,
         TapeCatalogService tapeCatalogService,
         Integer fullCartridgeDetectionThresholdInMB
+    ) {
+        this(
+            readWriteQueue,
+            archiveReferentialRepository,
+            accessRequestManager,
+            tapeLibraryPool,
+            driveTape,
+            inputTarPath,
+            forceOverrideNonEmptyCartridges,
+            archiveCacheStorage,
+            tapeCatalogService,
+            fullCartridgeDetectionThresholdInMB,
+            1
+        );
+    }
+
+    public TapeDriveWorkerManager(
+        QueueRepository readWriteQueue,
+        ArchiveReferentialRepository archiveReferentialRepository,
+        AccessRequestManager accessRequestManager,
+        TapeLibraryPool tapeLibraryPool,
+        Map<Integer, TapeCatalog> driveTape,
+        String inputTarPath,
+        boolean forceOverrideNonEmptyCartridges,
+        ArchiveCacheStorage archiveCacheStorage,
+        TapeCatalogService tapeCatalogService,
+        Integer fullCartridgeDetectionThresholdInMB,
+        Integer maxParallelDrivesPerBucket
     ) {
         ParametersChecker.checkParameter(
             "All params is required required",
@@ -105,7 +139,12 @@ public class TapeDriveWorkerManager implements TapeDriveOrderConsumer, TapeDrive
             throw new IllegalArgumentException("Invalid fullCartridgeDetectionThresholdInMB param");
         }
 
+        if (maxParallelDrivesPerBucket != null && maxParallelDrivesPerBucket <= 0) {
+            throw new IllegalArgumentException("Invalid maxParallelDrivesPerBucket param");
+        }
+
         this.readWriteQueue = readWriteQueue;
+        this.maxParallelDrivesPerBucket = maxParallelDrivesPerBucket == null ? 1 : maxParallelDrivesPerBucket;
         this.workers = new ArrayList<>();
 
         for (Map.Entry<Integer, TapeDriveService> driveEntry : tapeLibraryPool.drives()) {
@@ -240,7 +279,7 @@ public class TapeDriveWorkerManager implements TapeDriveOrderConsumer, TapeDrive
             order = selectWriteOrderByBucket(driveWorker.getCurrentTape().getBucket());
 
             if (order.isEmpty()) {
-                order = selectReadOrderByTapeCode(driveWorker.getCurrentTape().getCode());
+                order = selectReadOrderByTapeCode(driveWorker.getCurrentTape());
             }
         }
 
@@ -276,7 +315,7 @@ public class TapeDriveWorkerManager implements TapeDriveOrderConsumer, TapeDrive
         Optional<? extends ReadWriteOrder> order = Optional.empty();
 
         if (driveWorker.getCurrentTape() != null) {
-            order = selectReadOrderByTapeCode(driveWorker.getCurrentTape().getCode());
+            order = selectReadOrderByTapeCode(driveWorker.getCurrentTape());
 
             if (order.isEmpty()) {
                 order = selectWriteOrderByBucket(driveWorker.getCurrentTape().getBucket());
@@ -306,21 +345,68 @@ public class TapeDriveWorkerManager implements TapeDriveOrderConsumer, TapeDrive
         return readWriteQueue.receive(queueMessageType);
     }
 
-    private Optional<? extends ReadWriteOrder> selectReadOrderByTapeCode(String tapeCode) throws QueueException {
-        return readWriteQueue.receive(eq(ReadOrder.TAPE_CODE, tapeCode), QueueMessageType.ReadOrder);
+    /**
+     * Selects read orders of the current tape in a single forward pass : next order is the one with the lowest file
+     * position after current tape position. Once no more order is found ahead, a new pass starts from the lowest file
+     * position. This avoids back and forth seeks when many read orders target the same tape.
+     * Priority always prevails over file position : a pass only covers the most urgent pending orders, and a more
+     * urgent order behind current position starts a new pass.
+     */
+    private Optional<? extends ReadWriteOrder> selectReadOrderByTapeCode(TapeCatalog currentTape)
+        throws QueueException {
+        int currentPosition = Objects.requireNonNullElse(currentTape.getCurrentPosition(), 0);
+        Bson sort = Sorts.ascending(ReadOrder.PRIORITY, ReadOrder.FILE_POSITION);
+
+        Optional<ReadOrder> orderAhead = readWriteQueue.receive(
+            and(eq(ReadOrder.TAPE_CODE, currentTape.getCode()), gte(ReadOrder.FILE_POSITION, currentPosition)),
+            QueueMessageType.ReadOrder,
+            sort
+        );
+
+        if (orderAhead.isEmpty()) {
+            return readWriteQueue.receive(
+                eq(ReadOrder.TAPE_CODE, currentTape.getCode()),
+                QueueMessageType.ReadOrder,
+                sort
+            );
+        }
+
+        Optional<ReadOrder> urgentOrderBehind = readWriteQueue.receive(
+            and(
+                eq(ReadOrder.TAPE_CODE, currentTape.getCode()),
+                lt(ReadOrder.FILE_POSITION, currentPosition),
+                lt(ReadOrder.PRIORITY, orderAhead.get().getPriority())
+            ),
+            QueueMessageType.ReadOrder,
+            sort
+        );
+
+        if (urgentOrderBehind.isEmpty()) {
+            return orderAhead;
+        }
+
+        readWriteQueue.markReady(orderAhead.get().getId());
+        return urgentOrderBehind;
     }
 
     private Optional<? extends ReadWriteOrder> selectWriteOrderExcludingActiveBuckets() throws QueueException {
-        // TODO: 28/03/19 parallelism (parallel drive by bucket)
-        Set<String> activeBuckets = Stream.concat(
-            this.optimisticDriveResourceStatusMap.values()
-                .stream()
-                .map(optimisticDriveResourceStatus -> optimisticDriveResourceStatus.targetBucket),
-            this.optimisticDriveResourceStatusMap.values()
-                .stream()
-                .map(optimisticDriveResourceStatus -> optimisticDriveResourceStatus.lastBucket)
-        )
-            .filter(Objects::nonNull)
+        // A bucket is active once it is used by maxParallelDrivesPerBucket drives. Parallel writers of a same bucket
+        // never share a tape since tape catalog receive is exclusive : each drive loads its own bucket tape.
+        Map<String, Long> drivesPerBucket = this.optimisticDriveResourceStatusMap.values()
+            .stream()
+            .flatMap(
+                optimisticDriveResourceStatus ->
+                    Stream.of(optimisticDriveResourceStatus.targetBucket, optimisticDriveResourceStatus.lastBucket)
+                        .filter(Objects::nonNull)
+                        .distinct()
+            )
+            .collect(Collectors.groupingBy(bucket -> bucket, Collectors.counting()));
+
+        Set<String> activeBuckets = drivesPerBucket
+            .entrySet()
+            .stream()
+            .filter(entry -> entry.getValue() >= maxParallelDrivesPerBucket)
+            .map(Map.Entry::getKey)
             .collect(Collectors.toSet());
 
         return readWriteQueue.receive(nin(WriteOrder.BUCKET, activeBuckets), QueueMessageType.WriteOrder);
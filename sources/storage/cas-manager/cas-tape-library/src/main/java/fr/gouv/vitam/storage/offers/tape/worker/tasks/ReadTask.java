@@ -62,6 +62,7 @@ import java.time.temporal.ChronoUnit;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
@@ -77,6 +78,8 @@ import static fr.gouv.vitam.common.model.StatusCode.FATAL;
 import static fr.gouv.vitam.common.model.StatusCode.KO;
 import static fr.gouv.vitam.common.model.StatusCode.OK;
 import static fr.gouv.vitam.storage.offers.tape.metrics.ReadWriteOrderMetrics.READ_ORDER_EXECUTION_DURATION;
+import static fr.gouv.vitam.storage.offers.tape.metrics.ReadWriteOrderMetrics.READ_ORDER_READ_BYTES;
+import static fr.gouv.vitam.storage.offers.tape.metrics.ReadWriteOrderMetrics.READ_ORDER_TAPE_SEEKS;
 import static fr.gouv.vitam.storage.offers.tape.metrics.ReadWriteOrderMetrics.READ_ORDER_WAIT_TIME_BEFORE_EXECUTION;
 
 public class ReadTask implements Future<ReadWriteResult> {
@@ -271,7 +274,10 @@ public class ReadTask implements Future<ReadWriteResult> {
 
         try {
             // Read file from tape
+            int seekOffset =
+                readOrder.getFilePosition() - Objects.requireNonNullElse(workerCurrentTape.getCurrentPosition(), 0);
             tapeLibraryService.read(workerCurrentTape, readOrder.getFilePosition(), readOrder.getFileName() + TEMP_EXT);
+            reportReadMetrics(seekOffset);
 
             // Move file to cache
             archiveCacheStorage.moveArchiveToCache(
@@ -438,4 +444,13 @@ public class ReadTask implements Future<ReadWriteResult> {
 
         READ_ORDER_WAIT_TIME_BEFORE_EXECUTION.labels(readOrder.getBucket()).observe(waitTimeInSeconds);
     }
+
+    private void reportReadMetrics(int seekOffset) {
+        String library = String.valueOf(tapeLibraryService.getLibraryIdentifier());
+        String drive = String.valueOf(tapeLibraryService.getDriveIndex());
+        if (seekOffset != 0) {
+            READ_ORDER_TAPE_SEEKS.labels(library, drive, seekOffset > 0 ? "forward" : "backward").inc();
+        }
+        READ_ORDER_READ_BYTES.labels(library, drive).inc(readOrder.getSize());
+    }
 }
@@ -34,6 +34,7 @@ import fr.gouv.vitam.common.collection.CloseableIteratorUtils;
 import fr.gouv.vitam.common.collection.EmptyCloseableIterator;
 import fr.gouv.vitam.common.digest.Digest;
 import fr.gouv.vitam.common.digest.DigestType;
+import fr.gouv.vitam.common.model.ByteRange;
 import fr.gouv.vitam.common.model.MetadatasObject;
 import fr.gouv.vitam.common.model.storage.AccessRequestStatus;
 import fr.gouv.vitam.common.model.storage.ObjectEntry;
@@ -51,6 +52,7 @@ import fr.gouv.vitam.storage.engine.common.model.TapeObjectReferentialEntity;
 import fr.gouv.vitam.storage.engine.common.model.TarEntryDescription;
 import fr.gouv.vitam.storage.offers.tape.exception.ObjectReferentialException;
 import fr.gouv.vitam.workspace.api.exception.ContentAddressableStorageNotFoundException;
+import fr.gouv.vitam.workspace.api.exception.ContentAddressableStorageRangeNotSatisfiableException;
 import fr.gouv.vitam.workspace.api.exception.ContentAddressableStorageServerException;
 import fr.gouv.vitam.workspace.api.exception.ContentAddressableStorageUnavailableDataFromAsyncOfferException;
 import org.apache.commons.io.IOUtils;
@@ -94,11 +96,15 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 public class TapeLibraryContentAddressableStorageTest {
 
+    private static final String TAR_ID_1 = "20211020221332998-37386fe7-2b05-492d-81f5-8c6b6ab6aa81.tar";
+    private static final String TAR_ID_2 = "20211020221632650-d1f1a746-b1e5-4d65-bc35-8a92ae22c3f2.tar";
+
     @Rule
     public TemporaryFolder temporaryFolder = new TemporaryFolder();
 
@@ -1158,6 +1164,141 @@ public class TapeLibraryContentAddressableStorageTest {
         );
     }
 
+    @Test
+    public void getObjectRangeWith2SegmentsInMultipleCachedTarsOK() throws Exception {
+        // Given
+        givenObjectWith2SegmentsInMultipleCachedTars();
+        LockHandle lockHandle = mock(LockHandle.class);
+        doReturn(lockHandle)
+            .when(archiveCacheEvictionController)
+            .createLock(
+                Set.of(new ArchiveCacheEntry("test-objects", TAR_ID_1), new ArchiveCacheEntry("test-objects", TAR_ID_2))
+            );
+
+        // When
+        ObjectContent response = tapeLibraryContentAddressableStorage.getObject(
+            "0_object",
+            "aeaaaaaaaafklihzablkmallwljiqoiaaaaq",
+            ByteRange.of(2, 4)
+        );
+
+        // Then
+        assertThat(response.getSize()).isEqualTo(3L);
+        assertThat(response.getTotalSize()).isEqualTo(6L);
+        assertThat(response.getRange()).isEqualTo(ByteRange.of(2, 4));
+        assertThat(response.getInputStream()).hasSameContentAs(new ByteArrayInputStream("st ".getBytes()));
+        verify(lockHandle).release();
+        verify(bucketTopologyHelper, atLeastOnce()).getFileBucketFromContainerName("0_object");
+    }
+
+    @Test
+    public void getObjectSuffixRangeThenOnlyLastSegmentLoaded() throws Exception {
+        // Given
+        givenObjectWith2SegmentsInMultipleCachedTars();
+
+        // When
+        ObjectContent response = tapeLibraryContentAddressableStorage.getObject(
+            "0_object",
+            "aeaaaaaaaafklihzablkmallwljiqoiaaaaq",
+            ByteRange.suffix(2)
+        );
+
+        // Then
+        assertThat(response.getRange()).isEqualTo(ByteRange.of(4, 5));
+        assertThat(response.getInputStream()).hasSameContentAs(new ByteArrayInputStream(" 2".getBytes()));
+
+        verify(bucketTopologyHelper, atLeastOnce()).getFileBucketFromContainerName("0_object");
+        verify(archiveCacheStorage).tryReadArchive("test-objects", TAR_ID_2);
+        verify(archiveCacheStorage, never()).tryReadArchive("test-objects", TAR_ID_1);
+        verifyZeroInteractions(archiveCacheEvictionController);
+    }
+
+    @Test
+    public void getObjectWithUnsatisfiableRangeThenKO() throws Exception {
+        // Given
+        givenObjectWith2SegmentsInMultipleCachedTars();
+
+        // When / Then
+        assertThatThrownBy(
+            () ->
+                tapeLibraryContentAddressableStorage.getObject(
+                    "0_object",
+                    "aeaaaaaaaafklihzablkmallwljiqoiaaaaq",
+                    ByteRange.from(6)
+                )
+        ).isInstanceOf(ContentAddressableStorageRangeNotSatisfiableException.class);
+
+        verifyZeroInteractions(archiveCacheStorage, fileBucketTarCreatorManager, archiveCacheEvictionController);
+    }
+
+    private void givenObjectWith2SegmentsInMultipleCachedTars() throws Exception {
+        TapeLibraryObjectReferentialId objectReferentialId = new TapeLibraryObjectReferentialId(
+            "0_object",
+            "aeaaaaaaaafklihzablkmallwljiqoiaaaaq"
+        );
+        TapeLibraryTarObjectStorageLocation tarObjectStorageLocation = new TapeLibraryTarObjectStorageLocation(
+            Arrays.asList(
+                new TarEntryDescription(
+                    TAR_ID_1,
+                    "0_object/aeaaaaaaaafklihzablkmallwljiqoiaaaaq-aeaaaaaaaafklihzabqb2allwljjpiaaaaaq-0",
+                    0,
+                    3,
+                    "b551ea951724d66921f7e4991ee3b86e883921abf6a14552c73a4032cc87fa4900b2faa27d1cca5139d71a12937797cd29b589561fcc7fbb60dca460141afa65"
+                ),
+                new TarEntryDescription(
+                    TAR_ID_2,
+                    "0_object/aeaaaaaaaafklihzablkmallwljiqoiaaaaq-aeaaaaaaaafklihzabqb2allwljjpiaaaaaq-1",
+                    0,
+                    3,
+                    "2da4d0d9a4a1b2c0a27d10d6d7e92dd3e6db3b1b187e2419a044c21d5b20256cc8d87d438873837063d18ec7b6fe05a3050532611b21071ed3b736f09db905c4"
+                )
+            )
+        );
+        when(objectReferentialRepository.find("0_object", "aeaaaaaaaafklihzablkmallwljiqoiaaaaq")).thenReturn(
+            Optional.of(
+                new TapeObjectReferentialEntity(
+                    objectReferentialId,
+                    6,
+                    "SHA-512",
+                    "664ac614a819df2a97d2a5df57dcad91d6ec38b0fffc793e80c56b4553a14ac7a5f0bce3bb71af419b0bb8f151ad3d512867454eeb818e01818a31989c13319b",
+                    "aeaaaaaaaafklihzablkmallwljiqoiaaaaq-aeaaaaaaaafklihzabqb2allwljjpiaaaaaq",
+                    tarObjectStorageLocation,
+                    null,
+                    null
+                )
+            )
+        );
+
+        TapeArchiveReferentialEntity tar1ReferentialEntity = new TapeArchiveReferentialEntity(
+            TAR_ID_1,
+            new TapeLibraryOnTapeArchiveStorageLocation("VIT002L6", 249),
+            2048L,
+            "c658ba37a44f5e42b4d13cde06c51911f2e8b8afd0768ba18c6be1a831a4c008c04d01a50809683735fe09190df729d7f0f996cd090a26b3d418693a982103e9",
+            null
+        );
+        TapeArchiveReferentialEntity tar2ReferentialEntity = new TapeArchiveReferentialEntity(
+            TAR_ID_2,
+            new TapeLibraryOnTapeArchiveStorageLocation("VIT002L6", 250),
+            2048L,
+            "0dccee7a7d82c0c3ace856e9feaf1656b86d555830e3825c656d2cf63b893865444767d1ce1fbec81c5795bd7d5bf29b6ce191562ebad251705898c0a803a818",
+            null
+        );
+        when(archiveReferentialRepository.bulkFind(Set.of(TAR_ID_1, TAR_ID_2))).thenReturn(
+            List.of(tar1ReferentialEntity, tar2ReferentialEntity)
+        );
+        when(archiveReferentialRepository.bulkFind(Set.of(TAR_ID_2))).thenReturn(List.of(tar2ReferentialEntity));
+
+        doReturn("test-objects").when(bucketTopologyHelper).getFileBucketFromContainerName("0_object");
+        for (String tarId : List.of(TAR_ID_1, TAR_ID_2)) {
+            doReturn(Optional.empty()).when(fileBucketTarCreatorManager).tryReadTar("test-objects", tarId);
+            doAnswer(args -> Optional.of(new FileInputStream(PropertiesUtils.getResourcePath("tar/" + tarId).toFile())))
+                .when(archiveCacheStorage)
+                .tryReadArchive("test-objects", tarId);
+            doReturn(false).when(fileBucketTarCreatorManager).containsTar("test-objects", tarId);
+            doReturn(true).when(archiveCacheStorage).containsArchive("test-objects", tarId);
+        }
+    }
+
     @Test
     public void getObjectWithInvalidTarEntryDigestThenKO() throws Exception {
         // Given
@@ -27,6 +27,7 @@
 package fr.gouv.vitam.storage.offers.tape.impl.queue;
 
 import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Sorts;
 import fr.gouv.vitam.common.database.server.mongodb.MongoDbAccess;
 import fr.gouv.vitam.common.guid.GUIDFactory;
 import fr.gouv.vitam.common.mongo.MongoRule;
@@ -373,6 +374,45 @@ public class QueueRepositoryImplTest {
         assertThat(found.get().getArchiveId()).isEqualTo("myArchiveId2");
     }
 
+    @Test
+    public void testPeekWithQueryAndSort() throws QueueException {
+        // Given read orders of the same tape, inserted in random file position order
+        for (int filePosition : new int[] { 7, 2, 9, 4 }) {
+            queueRepositoryImpl.add(
+                new ReadOrder(
+                    "VIT0001",
+                    filePosition,
+                    "tarId" + filePosition + ".tar",
+                    "myBucket",
+                    "myFileBucketId",
+                    10L
+                )
+            );
+        }
+        queueRepositoryImpl.add(new ReadOrder("VIT0002", 3, "tarId.tar", "myBucket", "myFileBucketId", 10L));
+
+        Bson query = Filters.and(Filters.eq(ReadOrder.TAPE_CODE, "VIT0001"), Filters.gte(ReadOrder.FILE_POSITION, 3));
+
+        Bson filePositionSort = Sorts.ascending(ReadOrder.FILE_POSITION);
+
+        // Then get read orders in file position order
+        Optional<ReadOrder> found = queueRepositoryImpl.receive(query, QueueMessageType.ReadOrder, filePositionSort);
+        assertThat(found).isPresent();
+        assertThat(found.get().getState()).isEqualTo(QueueState.RUNNING);
+        assertThat(found.get().getFilePosition()).isEqualTo(4);
+
+        found = queueRepositoryImpl.receive(query, QueueMessageType.ReadOrder, filePositionSort);
+        assertThat(found).isPresent();
+        assertThat(found.get().getFilePosition()).isEqualTo(7);
+
+        found = queueRepositoryImpl.receive(query, QueueMessageType.ReadOrder, filePositionSort);
+        assertThat(found).isPresent();
+        assertThat(found.get().getFilePosition()).isEqualTo(9);
+
+        found = queueRepositoryImpl.receive(query, QueueMessageType.ReadOrder, filePositionSort);
+        assertThat(found).isNotPresent();
+    }
+
     @Test
     public void testCountByStateAndType() throws QueueException {
         // Given
@@ -26,6 +26,8 @@
  */
 package fr.gouv.vitam.storage.offers.tape.worker;
 
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Sorts;
 import fr.gouv.vitam.common.storage.tapelibrary.ReadWritePriority;
 import fr.gouv.vitam.common.storage.tapelibrary.TapeDriveConf;
 import fr.gouv.vitam.storage.engine.common.model.QueueMessageType;
@@ -44,11 +46,13 @@ import fr.gouv.vitam.storage.offers.tape.spec.TapeCatalogService;
 import fr.gouv.vitam.storage.offers.tape.spec.TapeDriveCommandService;
 import fr.gouv.vitam.storage.offers.tape.spec.TapeDriveService;
 import fr.gouv.vitam.storage.offers.tape.spec.TapeLibraryPool;
+import org.bson.conversions.Bson;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.internal.verification.Times;
 import org.mockito.junit.MockitoJUnit;
@@ -349,6 +353,23 @@ public class TapeDriveWorkerManagerTest {
                     1_000_000_001
                 )
         ).isInstanceOf(IllegalArgumentException.class);
+
+        assertThatThrownBy(
+            () ->
+                new TapeDriveWorkerManager(
+                    mock(QueueRepository.class),
+                    mock(ArchiveReferentialRepository.class),
+                    accessRequestManager,
+                    mock(TapeLibraryPool.class),
+                    mock(Map.class),
+                    inputTarDir.getAbsolutePath(),
+                    false,
+                    archiveCacheStorage,
+                    tapeCatalogService,
+                    FULL_CARTRIDGE_THRESHOLD,
+                    0
+                )
+        ).isInstanceOf(IllegalArgumentException.class);
     }
 
     // ===================================
@@ -390,13 +411,17 @@ public class TapeDriveWorkerManagerTest {
         ReadOrder readOrder = mock(ReadOrder.class);
         when(readOrder.isWriteOrder()).thenReturn(false);
         when(queueRepository.receive(any(), eq(QueueMessageType.WriteOrder))).thenReturn(Optional.empty());
-        when(queueRepository.receive(any(), eq(QueueMessageType.ReadOrder))).thenReturn(Optional.of(readOrder));
+        when(queueRepository.receive(any(), eq(QueueMessageType.ReadOrder), any(Bson.class)))
+            .thenReturn(Optional.of(readOrder))
+            .thenReturn(Optional.empty());
 
         // Test consume write order
         Optional<? extends ReadWriteOrder> order = tapeDriveWorkerManager.consume(driveWorker);
 
         verify(queueRepository, new Times(1)).receive(any(), eq(QueueMessageType.WriteOrder));
-        verify(queueRepository, new Times(1)).receive(any(), eq(QueueMessageType.ReadOrder));
+        verify(queueRepository, new Times(0)).receive(any(), eq(QueueMessageType.ReadOrder));
+        verify(queueRepository, new Times(2)).receive(any(), eq(QueueMessageType.ReadOrder), any(Bson.class));
+        verify(queueRepository, new Times(0)).markReady(any());
         verify(queueRepository, new Times(0)).receive(eq(QueueMessageType.WriteOrder));
         verify(queueRepository, new Times(0)).receive(eq(QueueMessageType.ReadOrder));
 
@@ -419,13 +444,12 @@ public class TapeDriveWorkerManagerTest {
             .thenReturn(Optional.empty())
             .thenReturn(Optional.of(writeOrder));
 
-        when(queueRepository.receive(any(), eq(QueueMessageType.ReadOrder))).thenReturn(Optional.empty());
-
         // Test consume write order
         Optional<? extends ReadWriteOrder> order = tapeDriveWorkerManager.consume(driveWorker);
 
         verify(queueRepository, new Times(2)).receive(any(), eq(QueueMessageType.WriteOrder));
-        verify(queueRepository, new Times(1)).receive(any(), eq(QueueMessageType.ReadOrder));
+        verify(queueRepository, new Times(0)).receive(any(), eq(QueueMessageType.ReadOrder));
+        verify(queueRepository, new Times(2)).receive(any(), eq(QueueMessageType.ReadOrder), any(Bson.class));
         verify(queueRepository, new Times(0)).receive(eq(QueueMessageType.WriteOrder));
         verify(queueRepository, new Times(0)).receive(eq(QueueMessageType.ReadOrder));
 
@@ -450,13 +474,12 @@ public class TapeDriveWorkerManagerTest {
 
         when(queueRepository.receive(eq(QueueMessageType.WriteOrder))).thenReturn(Optional.of(writeOrder));
 
-        when(queueRepository.receive(any(), eq(QueueMessageType.ReadOrder))).thenReturn(Optional.empty());
-
         // Test consume write order
         Optional<? extends ReadWriteOrder> order = tapeDriveWorkerManager.consume(driveWorker);
 
         verify(queueRepository, new Times(2)).receive(any(), eq(QueueMessageType.WriteOrder));
-        verify(queueRepository, new Times(1)).receive(any(), eq(QueueMessageType.ReadOrder));
+        verify(queueRepository, new Times(0)).receive(any(), eq(QueueMessageType.ReadOrder));
+        verify(queueRepository, new Times(2)).receive(any(), eq(QueueMessageType.ReadOrder), any(Bson.class));
         verify(queueRepository, new Times(1)).receive(eq(QueueMessageType.WriteOrder));
         verify(queueRepository, new Times(0)).receive(eq(QueueMessageType.ReadOrder));
 
@@ -481,15 +504,14 @@ public class TapeDriveWorkerManagerTest {
 
         when(queueRepository.receive(eq(QueueMessageType.WriteOrder))).thenReturn(Optional.empty());
 
-        when(queueRepository.receive(any(), eq(QueueMessageType.ReadOrder)))
-            .thenReturn(Optional.empty())
-            .thenReturn(Optional.of(readOrder));
+        when(queueRepository.receive(any(), eq(QueueMessageType.ReadOrder))).thenReturn(Optional.of(readOrder));
 
         // Test consume write order
         Optional<? extends ReadWriteOrder> order = tapeDriveWorkerManager.consume(driveWorker);
 
         verify(queueRepository, new Times(2)).receive(any(), eq(QueueMessageType.WriteOrder));
-        verify(queueRepository, new Times(2)).receive(any(), eq(QueueMessageType.ReadOrder));
+        verify(queueRepository, new Times(1)).receive(any(), eq(QueueMessageType.ReadOrder));
+        verify(queueRepository, new Times(2)).receive(any(), eq(QueueMessageType.ReadOrder), any(Bson.class));
         verify(queueRepository, new Times(1)).receive(eq(QueueMessageType.WriteOrder));
         verify(queueRepository, new Times(0)).receive(eq(QueueMessageType.ReadOrder));
 
@@ -515,9 +537,7 @@ public class TapeDriveWorkerManagerTest {
 
         when(queueRepository.receive(eq(QueueMessageType.WriteOrder))).thenReturn(Optional.empty());
 
-        when(queueRepository.receive(any(), eq(QueueMessageType.ReadOrder)))
-            .thenReturn(Optional.empty())
-            .thenReturn(Optional.empty());
+        when(queueRepository.receive(any(), eq(QueueMessageType.ReadOrder))).thenReturn(Optional.empty());
 
         when(queueRepository.receive(eq(QueueMessageType.ReadOrder))).thenReturn(Optional.of(readOrder));
 
@@ -525,7 +545,8 @@ public class TapeDriveWorkerManagerTest {
         Optional<? extends ReadWriteOrder> order = tapeDriveWorkerManager.consume(driveWorker);
 
         verify(queueRepository, new Times(2)).receive(any(), eq(QueueMessageType.WriteOrder));
-        verify(queueRepository, new Times(2)).receive(any(), eq(QueueMessageType.ReadOrder));
+        verify(queueRepository, new Times(1)).receive(any(), eq(QueueMessageType.ReadOrder));
+        verify(queueRepository, new Times(2)).receive(any(), eq(QueueMessageType.ReadOrder), any(Bson.class));
         verify(queueRepository, new Times(1)).receive(eq(QueueMessageType.WriteOrder));
         verify(queueRepository, new Times(0)).receive(eq(QueueMessageType.ReadOrder));
 
@@ -547,9 +568,7 @@ public class TapeDriveWorkerManagerTest {
 
         when(queueRepository.receive(eq(QueueMessageType.WriteOrder))).thenReturn(Optional.empty());
 
-        when(queueRepository.receive(any(), eq(QueueMessageType.ReadOrder)))
-            .thenReturn(Optional.empty())
-            .thenReturn(Optional.empty());
+        when(queueRepository.receive(any(), eq(QueueMessageType.ReadOrder))).thenReturn(Optional.empty());
 
         when(queueRepository.receive(eq(QueueMessageType.ReadOrder))).thenReturn(Optional.empty());
 
@@ -557,7 +576,8 @@ public class TapeDriveWorkerManagerTest {
         Optional<? extends ReadWriteOrder> order = tapeDriveWorkerManager.consume(driveWorker);
 
         verify(queueRepository, new Times(2)).receive(any(), eq(QueueMessageType.WriteOrder));
-        verify(queueRepository, new Times(2)).receive(any(), eq(QueueMessageType.ReadOrder));
+        verify(queueRepository, new Times(1)).receive(any(), eq(QueueMessageType.ReadOrder));
+        verify(queueRepository, new Times(2)).receive(any(), eq(QueueMessageType.ReadOrder), any(Bson.class));
         verify(queueRepository, new Times(1)).receive(eq(QueueMessageType.WriteOrder));
         verify(queueRepository, new Times(0)).receive(eq(QueueMessageType.ReadOrder));
 
@@ -578,12 +598,16 @@ public class TapeDriveWorkerManagerTest {
 
         ReadOrder readOrder = mock(ReadOrder.class);
         when(readOrder.isWriteOrder()).thenReturn(false);
-        when(queueRepository.receive(any(), eq(QueueMessageType.ReadOrder))).thenReturn(Optional.of(readOrder));
+        when(queueRepository.receive(any(), eq(QueueMessageType.ReadOrder), any(Bson.class)))
+            .thenReturn(Optional.of(readOrder))
+            .thenReturn(Optional.empty());
         // Test consume write order
         Optional<? extends ReadWriteOrder> order = tapeDriveWorkerManager.consume(driveWorker);
         // Get write order => not found
         verify(queueRepository, new Times(0)).receive(any(), eq(QueueMessageType.WriteOrder));
-        verify(queueRepository, new Times(1)).receive(any(), eq(QueueMessageType.ReadOrder));
+        verify(queueRepository, new Times(0)).receive(any(), eq(QueueMessageType.ReadOrder));
+        verify(queueRepository, new Times(2)).receive(any(), eq(QueueMessageType.ReadOrder), any(Bson.class));
+        verify(queueRepository, new Times(0)).markReady(any());
         verify(queueRepository, new Times(0)).receive(eq(QueueMessageType.WriteOrder));
         verify(queueRepository, new Times(0)).receive(eq(QueueMessageType.ReadOrder));
 
@@ -603,13 +627,13 @@ public class TapeDriveWorkerManagerTest {
         WriteOrder writeOrder = mock(WriteOrder.class);
         when(writeOrder.isWriteOrder()).thenReturn(true);
         when(queueRepository.receive(any(), eq(QueueMessageType.WriteOrder))).thenReturn(Optional.of(writeOrder));
-        when(queueRepository.receive(any(), eq(QueueMessageType.ReadOrder))).thenReturn(Optional.empty());
 
         // Test consume write order
         Optional<? extends ReadWriteOrder> order = tapeDriveWorkerManager.consume(driveWorker);
 
         verify(queueRepository, new Times(1)).receive(any(), eq(QueueMessageType.WriteOrder));
-        verify(queueRepository, new Times(1)).receive(any(), eq(QueueMessageType.ReadOrder));
+        verify(queueRepository, new Times(0)).receive(any(), eq(QueueMessageType.ReadOrder));
+        verify(queueRepository, new Times(2)).receive(any(), eq(QueueMessageType.ReadOrder), any(Bson.class));
         verify(queueRepository, new Times(0)).receive(eq(QueueMessageType.WriteOrder));
         verify(queueRepository, new Times(0)).receive(eq(QueueMessageType.ReadOrder));
 
@@ -628,9 +652,7 @@ public class TapeDriveWorkerManagerTest {
 
         ReadOrder readOrder = mock(ReadOrder.class);
         when(readOrder.isWriteOrder()).thenReturn(false);
-        when(queueRepository.receive(any(), eq(QueueMessageType.ReadOrder)))
-            .thenReturn(Optional.empty())
-            .thenReturn(Optional.of(readOrder));
+        when(queueRepository.receive(any(), eq(QueueMessageType.ReadOrder))).thenReturn(Optional.of(readOrder));
 
         when(queueRepository.receive(any(), eq(QueueMessageType.WriteOrder))).thenReturn(Optional.empty());
 
@@ -638,7 +660,8 @@ public class TapeDriveWorkerManagerTest {
         Optional<? extends ReadWriteOrder> order = tapeDriveWorkerManager.consume(driveWorker);
 
         verify(queueRepository, new Times(1)).receive(any(), eq(QueueMessageType.WriteOrder));
-        verify(queueRepository, new Times(2)).receive(any(), eq(QueueMessageType.ReadOrder));
+        verify(queueRepository, new Times(1)).receive(any(), eq(QueueMessageType.ReadOrder));
+        verify(queueRepository, new Times(2)).receive(any(), eq(QueueMessageType.ReadOrder), any(Bson.class));
         verify(queueRepository, new Times(0)).receive(eq(QueueMessageType.WriteOrder));
         verify(queueRepository, new Times(0)).receive(eq(QueueMessageType.ReadOrder));
 
@@ -661,15 +684,14 @@ public class TapeDriveWorkerManagerTest {
 
         when(queueRepository.receive(eq(QueueMessageType.ReadOrder))).thenReturn(Optional.of(readOrder));
 
-        when(queueRepository.receive(any(), eq(QueueMessageType.ReadOrder)))
-            .thenReturn(Optional.empty())
-            .thenReturn(Optional.empty());
+        when(queueRepository.receive(any(), eq(QueueMessageType.ReadOrder))).thenReturn(Optional.empty());
 
         // Test consume write order
         Optional<? extends ReadWriteOrder> order = tapeDriveWorkerManager.consume(driveWorker);
 
         verify(queueRepository, new Times(2)).receive(any(), eq(QueueMessageType.WriteOrder));
-        verify(queueRepository, new Times(2)).receive(any(), eq(QueueMessageType.ReadOrder));
+        verify(queueRepository, new Times(1)).receive(any(), eq(QueueMessageType.ReadOrder));
+        verify(queueRepository, new Times(2)).receive(any(), eq(QueueMessageType.ReadOrder), any(Bson.class));
         verify(queueRepository, new Times(1)).receive(eq(QueueMessageType.WriteOrder));
         verify(queueRepository, new Times(0)).receive(eq(QueueMessageType.ReadOrder));
 
@@ -687,9 +709,7 @@ public class TapeDriveWorkerManagerTest {
 
         WriteOrder writeOrder = mock(WriteOrder.class);
         when(writeOrder.isWriteOrder()).thenReturn(true);
-        when(queueRepository.receive(any(), eq(QueueMessageType.ReadOrder)))
-            .thenReturn(Optional.empty())
-            .thenReturn(Optional.empty());
+        when(queueRepository.receive(any(), eq(QueueMessageType.ReadOrder))).thenReturn(Optional.empty());
 
         when(queueRepository.receive(eq(QueueMessageType.ReadOrder))).thenReturn(Optional.empty());
 
@@ -701,7 +721,8 @@ public class TapeDriveWorkerManagerTest {
         Optional<? extends ReadWriteOrder> order = tapeDriveWorkerManager.consume(driveWorker);
 
         verify(queueRepository, new Times(2)).receive(any(), eq(QueueMessageType.WriteOrder));
-        verify(queueRepository, new Times(2)).receive(any(), eq(QueueMessageType.ReadOrder));
+        verify(queueRepository, new Times(1)).receive(any(), eq(QueueMessageType.ReadOrder));
+        verify(queueRepository, new Times(2)).receive(any(), eq(QueueMessageType.ReadOrder), any(Bson.class));
         verify(queueRepository, new Times(0)).receive(eq(QueueMessageType.WriteOrder));
         verify(queueRepository, new Times(0)).receive(eq(QueueMessageType.ReadOrder));
 
@@ -727,9 +748,7 @@ public class TapeDriveWorkerManagerTest {
 
         when(queueRepository.receive(eq(QueueMessageType.ReadOrder))).thenReturn(Optional.empty());
 
-        when(queueRepository.receive(any(), eq(QueueMessageType.ReadOrder)))
-            .thenReturn(Optional.empty())
-            .thenReturn(Optional.empty());
+        when(queueRepository.receive(any(), eq(QueueMessageType.ReadOrder))).thenReturn(Optional.empty());
 
         when(queueRepository.receive(eq(QueueMessageType.WriteOrder))).thenReturn(Optional.of(writeOrder));
 
@@ -737,7 +756,8 @@ public class TapeDriveWorkerManagerTest {
         Optional<? extends ReadWriteOrder> order = tapeDriveWorkerManager.consume(driveWorker);
 
         verify(queueRepository, new Times(2)).receive(any(), eq(QueueMessageType.WriteOrder));
-        verify(queueRepository, new Times(2)).receive(any(), eq(QueueMessageType.ReadOrder));
+        verify(queueRepository, new Times(1)).receive(any(), eq(QueueMessageType.ReadOrder));
+        verify(queueRepository, new Times(2)).receive(any(), eq(QueueMessageType.ReadOrder), any(Bson.class));
         verify(queueRepository, new Times(1)).receive(eq(QueueMessageType.WriteOrder));
         verify(queueRepository, new Times(0)).receive(eq(QueueMessageType.ReadOrder));
 
@@ -760,9 +780,7 @@ public class TapeDriveWorkerManagerTest {
 
         when(queueRepository.receive(eq(QueueMessageType.WriteOrder))).thenReturn(Optional.empty());
 
-        when(queueRepository.receive(any(), eq(QueueMessageType.ReadOrder)))
-            .thenReturn(Optional.empty())
-            .thenReturn(Optional.empty());
+        when(queueRepository.receive(any(), eq(QueueMessageType.ReadOrder))).thenReturn(Optional.empty());
 
         when(queueRepository.receive(eq(QueueMessageType.ReadOrder))).thenReturn(Optional.empty());
 
@@ -770,13 +788,166 @@ public class TapeDriveWorkerManagerTest {
         Optional<? extends ReadWriteOrder> order = tapeDriveWorkerManager.consume(driveWorker);
 
         verify(queueRepository, new Times(2)).receive(any(), eq(QueueMessageType.WriteOrder));
-        verify(queueRepository, new Times(2)).receive(any(), eq(QueueMessageType.ReadOrder));
+        verify(queueRepository, new Times(1)).receive(any(), eq(QueueMessageType.ReadOrder));
+        verify(queueRepository, new Times(2)).receive(any(), eq(QueueMessageType.ReadOrder), any(Bson.class));
         verify(queueRepository, new Times(1)).receive(eq(QueueMessageType.WriteOrder));
         verify(queueRepository, new Times(0)).receive(eq(QueueMessageType.ReadOrder));
 
         assertThat(order).isNotPresent();
     }
 
+    @Test
+    public void test_consume_produce_current_tape_read_orders_selected_in_forward_file_position_order()
+        throws QueueException {
+        TapeDriveWorker driveWorker = mock(TapeDriveWorker.class);
+        TapeCatalog tapeCatalog = mock(TapeCatalog.class);
+        when(tapeCatalog.getCode()).thenReturn("VIT0001");
+        when(tapeCatalog.getCurrentPosition()).thenReturn(12);
+        when(driveWorker.getCurrentTape()).thenReturn(tapeCatalog);
+        when(driveWorker.getIndex()).thenReturn(1);
+        when(driveWorker.getPriority()).thenReturn(ReadWritePriority.READ);
+
+        ReadOrder readOrder = mock(ReadOrder.class);
+        when(readOrder.isWriteOrder()).thenReturn(false);
+        when(queueRepository.receive(any(), eq(QueueMessageType.ReadOrder), any(Bson.class)))
+            .thenReturn(Optional.empty())
+            .thenReturn(Optional.of(readOrder));
+
+        // When
+        Optional<? extends ReadWriteOrder> order = tapeDriveWorkerManager.consume(driveWorker);
+
+        // Then : orders ahead of current position first, then restart from tape beginning
+        ArgumentCaptor<Bson> queryCaptor = ArgumentCaptor.forClass(Bson.class);
+        ArgumentCaptor<Bson> sortCaptor = ArgumentCaptor.forClass(Bson.class);
+        verify(queueRepository, new Times(2)).receive(
+            queryCaptor.capture(),
+            eq(QueueMessageType.ReadOrder),
+            sortCaptor.capture()
+        );
+        assertThat(queryCaptor.getAllValues().get(0).toString()).isEqualTo(
+            Filters.and(Filters.eq(ReadOrder.TAPE_CODE, "VIT0001"), Filters.gte(ReadOrder.FILE_POSITION, 12)).toString()
+        );
+        assertThat(queryCaptor.getAllValues().get(1).toString()).isEqualTo(
+            Filters.eq(ReadOrder.TAPE_CODE, "VIT0001").toString()
+        );
+        assertThat(sortCaptor.getAllValues()).allSatisfy(sort ->
+            assertThat(sort.toString()).isEqualTo(
+                Sorts.ascending(ReadOrder.PRIORITY, ReadOrder.FILE_POSITION).toString()
+            )
+        );
+        verify(queueRepository, new Times(0)).receive(any(), eq(QueueMessageType.ReadOrder));
+        verify(queueRepository, new Times(0)).receive(any(), eq(QueueMessageType.WriteOrder));
+
+        assertThat(order).isPresent();
+        assertThat(order.get().isWriteOrder()).isFalse();
+    }
+
+    @Test
+    public void test_consume_produce_current_tape_urgent_read_order_behind_current_position_selected_first()
+        throws QueueException {
+        TapeDriveWorker driveWorker = mock(TapeDriveWorker.class);
+        TapeCatalog tapeCatalog = mock(TapeCatalog.class);
+        when(tapeCatalog.getCode()).thenReturn("VIT0001");
+        when(tapeCatalog.getCurrentPosition()).thenReturn(12);
+        when(driveWorker.getCurrentTape()).thenReturn(tapeCatalog);
+        when(driveWorker.getIndex()).thenReturn(1);
+        when(driveWorker.getPriority()).thenReturn(ReadWritePriority.READ);
+
+        ReadOrder readOrderAhead = mock(ReadOrder.class);
+        when(readOrderAhead.getId()).thenReturn("ahead");
+        when(readOrderAhead.getPriority()).thenReturn(2);
+        ReadOrder urgentReadOrderBehind = mock(ReadOrder.class);
+        when(queueRepository.receive(any(), eq(QueueMessageType.ReadOrder), any(Bson.class)))
+            .thenReturn(Optional.of(readOrderAhead))
+            .thenReturn(Optional.of(urgentReadOrderBehind));
+
+        // When
+        Optional<? extends ReadWriteOrder> order = tapeDriveWorkerManager.consume(driveWorker);
+
+        // Then : less urgent order ahead is released
+        ArgumentCaptor<Bson> queryCaptor = ArgumentCaptor.forClass(Bson.class);
+        verify(queueRepository, new Times(2)).receive(
+            queryCaptor.capture(),
+            eq(QueueMessageType.ReadOrder),
+            any(Bson.class)
+        );
+        assertThat(queryCaptor.getAllValues().get(1).toString()).isEqualTo(
+            Filters.and(
+                Filters.eq(ReadOrder.TAPE_CODE, "VIT0001"),
+                Filters.lt(ReadOrder.FILE_POSITION, 12),
+                Filters.lt(ReadOrder.PRIORITY, 2)
+            ).toString()
+        );
+        verify(queueRepository).markReady("ahead");
+
+        assertThat(order.orElseThrow()).isSameAs(urgentReadOrderBehind);
+    }
+
+    @Test
+    public void test_consume_produce_bucket_written_by_another_drive_excluded_by_default() throws QueueException {
+        // Given
+        Bson secondDriveWriteOrderFilter = consumeSameBucketWriteOrdersFromTwoDrives(tapeDriveWorkerManager);
+
+        // Then
+        assertThat(secondDriveWriteOrderFilter.toString()).isEqualTo(
+            Filters.nin(WriteOrder.BUCKET, Set.of("bucket-A")).toString()
+        );
+    }
+
+    @Test
+    public void test_consume_produce_bucket_written_by_another_drive_allowed_with_parallel_drives_per_bucket()
+        throws QueueException {
+        // Given
+        TapeDriveWorkerManager parallelTapeDriveWorkerManager = new TapeDriveWorkerManager(
+            queueRepository,
+            archiveReferentialRepository,
+            accessRequestManager,
+            tapeLibraryPool,
+            driveTape,
+            "",
+            false,
+            archiveCacheStorage,
+            tapeCatalogService,
+            FULL_CARTRIDGE_THRESHOLD,
+            2
+        );
+
+        // When
+        Bson secondDriveWriteOrderFilter = consumeSameBucketWriteOrdersFromTwoDrives(parallelTapeDriveWorkerManager);
+
+        // Then : bucket-A is only used by 1 drive out of 2 allowed
+        assertThat(secondDriveWriteOrderFilter.toString()).isEqualTo(
+            Filters.nin(WriteOrder.BUCKET, Set.of()).toString()
+        );
+    }
+
+    private Bson consumeSameBucketWriteOrdersFromTwoDrives(TapeDriveWorkerManager manager) throws QueueException {
+        TapeDriveWorker driveWorker0 = mock(TapeDriveWorker.class);
+        when(driveWorker0.getIndex()).thenReturn(0);
+        when(driveWorker0.getPriority()).thenReturn(ReadWritePriority.WRITE);
+
+        TapeDriveWorker driveWorker1 = mock(TapeDriveWorker.class);
+        when(driveWorker1.getIndex()).thenReturn(1);
+        when(driveWorker1.getPriority()).thenReturn(ReadWritePriority.WRITE);
+
+        WriteOrder writeOrder1 = mock(WriteOrder.class);
+        when(writeOrder1.isWriteOrder()).thenReturn(true);
+        when(writeOrder1.getBucket()).thenReturn("bucket-A");
+        WriteOrder writeOrder2 = mock(WriteOrder.class);
+        when(writeOrder2.isWriteOrder()).thenReturn(true);
+        when(writeOrder2.getBucket()).thenReturn("bucket-A");
+        when(queueRepository.receive(any(), eq(QueueMessageType.WriteOrder)))
+            .thenReturn(Optional.of(writeOrder1))
+            .thenReturn(Optional.of(writeOrder2));
+
+        assertThat(manager.consume(driveWorker0).orElseThrow()).isSameAs(writeOrder1);
+        assertThat(manager.consume(driveWorker1).orElseThrow()).isSameAs(writeOrder2);
+
+        ArgumentCaptor<Bson> filterCaptor = ArgumentCaptor.forClass(Bson.class);
+        verify(queueRepository, new Times(2)).receive(filterCaptor.capture(), eq(QueueMessageType.WriteOrder));
+        return filterCaptor.getAllValues().get(1);
+    }
+
     @Test
     public void test_drive_initialization_on_bootstrap() throws Exception {
         CountDownLatch countDownLatch = new CountDownLatch(2);
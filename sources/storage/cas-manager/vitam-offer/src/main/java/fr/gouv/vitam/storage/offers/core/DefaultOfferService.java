@@ -28,6 +28,7 @@ package fr.gouv.vitam.storage.offers.core;
 
 import com.google.common.annotations.VisibleForTesting;
 import fr.gouv.vitam.common.digest.DigestType;
+import fr.gouv.vitam.common.model.ByteRange;
 import fr.gouv.vitam.common.model.storage.AccessRequestStatus;
 import fr.gouv.vitam.common.storage.ContainerInformation;
 import fr.gouv.vitam.common.storage.cas.container.api.ObjectContent;
@@ -42,6 +43,7 @@ import fr.gouv.vitam.storage.engine.common.model.Order;
 import fr.gouv.vitam.workspace.api.exception.ContentAddressableStorageDatabaseException;
 import fr.gouv.vitam.workspace.api.exception.ContentAddressableStorageException;
 import fr.gouv.vitam.workspace.api.exception.ContentAddressableStorageNotFoundException;
+import fr.gouv.vitam.workspace.api.exception.ContentAddressableStorageRangeNotSatisfiableException;
 import fr.gouv.vitam.workspace.api.exception.ContentAddressableStorageServerException;
 
 import java.io.IOException;
@@ -80,6 +82,20 @@ public interface DefaultOfferService {
     ObjectContent getObject(String containerName, String objectId)
         throws ContentAddressableStorageNotFoundException, ContentAddressableStorageException;
 
+    /**
+     * Get a byte range of an object on offer as an inputStream
+     *
+     * @param containerName the container containing the object
+     * @param objectId the object id
+     * @param range the byte range to read, or null to read the whole object
+     * @return the object (or object range) included in a response
+     * @throws ContentAddressableStorageNotFoundException thrown when object does not exists
+     * @throws ContentAddressableStorageRangeNotSatisfiableException thrown when range is outside object bounds
+     * @throws ContentAddressableStorageException thrown when a server error occurs
+     */
+    ObjectContent getObject(String containerName, String objectId, ByteRange range)
+        throws ContentAddressableStorageNotFoundException, ContentAddressableStorageException;
+
     /**
      * Create access request (asynchronous read from tape to local FS) for the given @containerName and objects list.
      * Return access request id
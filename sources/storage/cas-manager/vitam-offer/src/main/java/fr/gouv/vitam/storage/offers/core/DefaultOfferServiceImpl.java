@@ -28,7 +28,9 @@ package fr.gouv.vitam.storage.offers.core;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Stopwatch;
+import com.google.common.util.concurrent.RateLimiter;
 import fr.gouv.vitam.common.LocalDateUtil;
+import fr.gouv.vitam.common.VitamConfiguration;
 import fr.gouv.vitam.common.alert.AlertService;
 import fr.gouv.vitam.common.alert.AlertServiceImpl;
 import fr.gouv.vitam.common.collection.CloseableIterable;
@@ -38,6 +40,7 @@ import fr.gouv.vitam.common.exception.VitamRuntimeException;
 import fr.gouv.vitam.common.logging.VitamLogLevel;
 import fr.gouv.vitam.common.logging.VitamLogger;
 import fr.gouv.vitam.common.logging.VitamLoggerFactory;
+import fr.gouv.vitam.common.model.ByteRange;
 import fr.gouv.vitam.common.model.MetadatasObject;
 import fr.gouv.vitam.common.model.storage.AccessRequestStatus;
 import fr.gouv.vitam.common.performance.PerformanceLogger;
@@ -63,6 +66,7 @@ import fr.gouv.vitam.storage.engine.common.model.Order;
 import fr.gouv.vitam.storage.offers.database.OfferLogAndCompactedOfferLogService;
 import fr.gouv.vitam.storage.offers.database.OfferLogCompactionDatabaseService;
 import fr.gouv.vitam.storage.offers.database.OfferLogDatabaseService;
+import fr.gouv.vitam.storage.offers.database.OfferLogGroupCommitService;
 import fr.gouv.vitam.storage.offers.database.OfferSequenceDatabaseService;
 import fr.gouv.vitam.storage.offers.rest.OfferLogCompactionConfiguration;
 import fr.gouv.vitam.workspace.api.exception.ContentAddressableStorageDatabaseException;
@@ -75,6 +79,7 @@ import org.apache.commons.collections4.iterators.PeekingIterator;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -85,6 +90,7 @@ import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.apache.commons.collections4.iterators.PeekingIterator.peekingIterator;
 
@@ -92,6 +98,8 @@ public class DefaultOfferServiceImpl implements DefaultOfferService {
 
     private static final VitamLogger LOGGER = VitamLoggerFactory.getInstance(DefaultOfferServiceImpl.class);
 
+    private static final int DEFAULT_BATCH_DIGEST_COMPUTATION_THREAD_POOL_SIZE = 4;
+
     private final AlertService alertService = new AlertServiceImpl();
 
     private final ContentAddressableStorage defaultStorage;
@@ -102,9 +110,43 @@ public class DefaultOfferServiceImpl implements DefaultOfferService {
     private final StorageConfiguration configuration;
     private final OfferLogCompactionConfiguration offerLogCompactionConfig;
     private final OfferLogAndCompactedOfferLogService offerLogAndCompactedOfferLogService;
+    private final OfferLogGroupCommitService offerLogGroupCommitService;
     private final ExecutorService batchExecutorService;
+    private final int maxBatchThreadPoolSize;
     private final int batchMetadataComputationTimeoutIsSeconds;
+    private final ExecutorService digestComputationExecutorService;
+    private final int digestComputationThreadPoolSize;
+    private final RateLimiter digestComputationRateLimiter;
+
+    public DefaultOfferServiceImpl(
+        ContentAddressableStorage defaultStorage,
+        OfferLogCompactionDatabaseService offerLogCompactionDatabaseService,
+        OfferLogDatabaseService offerDatabaseService,
+        OfferSequenceDatabaseService offerSequenceDatabaseService,
+        StorageConfiguration configuration,
+        OfferLogCompactionConfiguration offerLogCompactionConfig,
+        OfferLogAndCompactedOfferLogService offerLogAndCompactedOfferLogService,
+        int maxBatchThreadPoolSize,
+        int batchMetadataComputationTimeout
+    ) {
+        this(
+            defaultStorage,
+            offerLogCompactionDatabaseService,
+            offerDatabaseService,
+            offerSequenceDatabaseService,
+            configuration,
+            offerLogCompactionConfig,
+            offerLogAndCompactedOfferLogService,
+            null,
+            maxBatchThreadPoolSize,
+            batchMetadataComputationTimeout
+        );
+    }
 
+    /**
+     * @param offerLogGroupCommitService optional offer log group commit service. If null, offer logs are written
+     * synchronously by each caller.
+     */
     public DefaultOfferServiceImpl(
         ContentAddressableStorage defaultStorage,
         OfferLogCompactionDatabaseService offerLogCompactionDatabaseService,
@@ -113,9 +155,55 @@ public class DefaultOfferServiceImpl implements DefaultOfferService {
         StorageConfiguration configuration,
         OfferLogCompactionConfiguration offerLogCompactionConfig,
         OfferLogAndCompactedOfferLogService offerLogAndCompactedOfferLogService,
+        OfferLogGroupCommitService offerLogGroupCommitService,
         int maxBatchThreadPoolSize,
         int batchMetadataComputationTimeout
     ) {
+        this(
+            defaultStorage,
+            offerLogCompactionDatabaseService,
+            offerDatabaseService,
+            offerSequenceDatabaseService,
+            configuration,
+            offerLogCompactionConfig,
+            offerLogAndCompactedOfferLogService,
+            offerLogGroupCommitService,
+            maxBatchThreadPoolSize,
+            batchMetadataComputationTimeout,
+            DEFAULT_BATCH_DIGEST_COMPUTATION_THREAD_POOL_SIZE,
+            0L
+        );
+    }
+
+    /**
+     * @param batchDigestComputationThreadPoolSize max number of threads recomputing digests of batch metadata requests
+     * without cache
+     * @param batchDigestComputationMaxReadBytesPerSecond max read bandwidth of batch digest computation (0 for
+     * unlimited). Must be 0 for tape offers, whose digests are read from the object referential.
+     */
+    public DefaultOfferServiceImpl(
+        ContentAddressableStorage defaultStorage,
+        OfferLogCompactionDatabaseService offerLogCompactionDatabaseService,
+        OfferLogDatabaseService offerDatabaseService,
+        OfferSequenceDatabaseService offerSequenceDatabaseService,
+        StorageConfiguration configuration,
+        OfferLogCompactionConfiguration offerLogCompactionConfig,
+        OfferLogAndCompactedOfferLogService offerLogAndCompactedOfferLogService,
+        OfferLogGroupCommitService offerLogGroupCommitService,
+        int maxBatchThreadPoolSize,
+        int batchMetadataComputationTimeout,
+        int batchDigestComputationThreadPoolSize,
+        long batchDigestComputationMaxReadBytesPerSecond
+    ) {
+        if (
+            batchDigestComputationMaxReadBytesPerSecond > 0 &&
+            StorageProvider.TAPE_LIBRARY.getValue().equalsIgnoreCase(configuration.getProvider())
+        ) {
+            // Throttled digest computation reads object content, which is not available on tape offers
+            throw new IllegalStateException(
+                "Invalid offer configuration. batchDigestComputationMaxReadBytesPerSecond must be 0 for tape offers"
+            );
+        }
         this.defaultStorage = defaultStorage;
         this.offerLogCompactionDatabaseService = offerLogCompactionDatabaseService;
         this.offerDatabaseService = offerDatabaseService;
@@ -123,8 +211,17 @@ public class DefaultOfferServiceImpl implements DefaultOfferService {
         this.configuration = configuration;
         this.offerLogCompactionConfig = offerLogCompactionConfig;
         this.offerLogAndCompactedOfferLogService = offerLogAndCompactedOfferLogService;
+        this.offerLogGroupCommitService = offerLogGroupCommitService;
         this.batchMetadataComputationTimeoutIsSeconds = batchMetadataComputationTimeout;
+        this.maxBatchThreadPoolSize = maxBatchThreadPoolSize;
         this.batchExecutorService = ExecutorUtils.createScalableBatchExecutorService(maxBatchThreadPoolSize);
+        this.digestComputationThreadPoolSize = batchDigestComputationThreadPoolSize;
+        this.digestComputationExecutorService = ExecutorUtils.createScalableBatchExecutorService(
+            batchDigestComputationThreadPoolSize
+        );
+        this.digestComputationRateLimiter = batchDigestComputationMaxReadBytesPerSecond > 0
+            ? RateLimiter.create(batchDigestComputationMaxReadBytesPerSecond)
+            : null;
     }
 
     @Override
@@ -141,11 +238,17 @@ public class DefaultOfferServiceImpl implements DefaultOfferService {
 
     @Override
     public ObjectContent getObject(String containerName, String objectId) throws ContentAddressableStorageException {
+        return getObject(containerName, objectId, null);
+    }
+
+    @Override
+    public ObjectContent getObject(String containerName, String objectId, ByteRange range)
+        throws ContentAddressableStorageException {
         Stopwatch times = Stopwatch.createStarted();
         try {
-            return defaultStorage.getObject(containerName, objectId);
+            return defaultStorage.getObject(containerName, objectId, range);
         } finally {
-            log(times, containerName, "GET_OBJECT");
+            log(times, containerName, range == null ? "GET_OBJECT" : "GET_OBJECT_RANGE");
         }
     }
 
@@ -277,11 +380,20 @@ public class DefaultOfferServiceImpl implements DefaultOfferService {
         throws ContentAddressableStorageServerException, ContentAddressableStorageDatabaseException {
         // Log in offer log
         Stopwatch times = Stopwatch.createStarted();
+        saveOfferLog(containerName, objectId, OfferLogAction.WRITE);
+        log(times, containerName, "LOG_CREATE_IN_DB");
+    }
+
+    private void saveOfferLog(String containerName, String objectId, OfferLogAction action)
+        throws ContentAddressableStorageServerException, ContentAddressableStorageDatabaseException {
+        if (offerLogGroupCommitService != null) {
+            offerLogGroupCommitService.save(containerName, Collections.singletonList(objectId), action);
+            return;
+        }
         long sequence = offerSequenceDatabaseService.getNextSequence(
             OfferSequenceDatabaseService.BACKUP_LOG_SEQUENCE_ID
         );
-        offerDatabaseService.save(containerName, objectId, OfferLogAction.WRITE, sequence);
-        log(times, containerName, "LOG_CREATE_IN_DB");
+        offerDatabaseService.save(containerName, objectId, action, sequence);
     }
 
     private String writeObject(
@@ -441,11 +553,15 @@ public class DefaultOfferServiceImpl implements DefaultOfferService {
         throws ContentAddressableStorageServerException, ContentAddressableStorageDatabaseException {
         // Log in offer log
         Stopwatch times = Stopwatch.createStarted();
-        long sequence = offerSequenceDatabaseService.getNextSequence(
-            OfferSequenceDatabaseService.BACKUP_LOG_SEQUENCE_ID,
-            objectIds.size()
-        );
-        offerDatabaseService.bulkSave(containerName, objectIds, OfferLogAction.WRITE, sequence);
+        if (offerLogGroupCommitService != null) {
+            offerLogGroupCommitService.save(containerName, objectIds, OfferLogAction.WRITE);
+        } else {
+            long sequence = offerSequenceDatabaseService.getNextSequence(
+                OfferSequenceDatabaseService.BACKUP_LOG_SEQUENCE_ID,
+                objectIds.size()
+            );
+            offerDatabaseService.bulkSave(containerName, objectIds, OfferLogAction.WRITE, sequence);
+        }
         log(times, containerName, "BULK_LOG_CREATE_IN_DB");
     }
 
@@ -510,11 +626,8 @@ public class DefaultOfferServiceImpl implements DefaultOfferService {
             throw new ContentAddressableStorageException("Object with id " + objectId + "can not be deleted");
         }
 
-        long sequence = offerSequenceDatabaseService.getNextSequence(
-            OfferSequenceDatabaseService.BACKUP_LOG_SEQUENCE_ID
-        );
         // Log in offer
-        offerDatabaseService.save(containerName, objectId, OfferLogAction.DELETE, sequence);
+        saveOfferLog(containerName, objectId, OfferLogAction.DELETE);
         log(times, containerName, "LOG_DELETE_IN_DB");
 
         times = Stopwatch.createStarted();
@@ -537,55 +650,44 @@ public class DefaultOfferServiceImpl implements DefaultOfferService {
     public StorageBulkMetadataResult getBulkMetadata(String containerName, List<String> objectIds, Boolean noCache)
         throws ContentAddressableStorageException {
         Stopwatch times = Stopwatch.createStarted();
+        boolean computeDigests = Boolean.TRUE.equals(noCache);
+        // Timeout applies to the whole bulk. Digest computation threads stop reading their chunk once expired.
+        long deadlineInNanos = System.nanoTime() + SECONDS.toNanos(batchMetadataComputationTimeoutIsSeconds);
         try {
-            List<CompletableFuture<StorageBulkMetadataResultEntry>> completableFutures = new ArrayList<>();
-            for (String objectId : objectIds) {
-                CompletableFuture<StorageBulkMetadataResultEntry> objectInformationCompletableFuture =
-                    CompletableFuture.supplyAsync(
-                        () -> {
-                            try {
-                                MetadatasObject objectMetadata = defaultStorage.getObjectMetadata(
-                                    containerName,
-                                    objectId,
-                                    noCache
-                                );
-                                return new StorageBulkMetadataResultEntry(
-                                    objectMetadata.getObjectName(),
-                                    objectMetadata.getDigest(),
-                                    objectMetadata.getFileSize()
-                                );
-                            } catch (ContentAddressableStorageNotFoundException e) {
-                                LOGGER.info("Object " + objectId + " not found in container " + containerName, e);
-                                return new StorageBulkMetadataResultEntry(objectId, null, null);
-                            } catch (ContentAddressableStorageException e) {
-                                throw new RuntimeException(
-                                    "Could not get object metadata for " +
-                                    containerName +
-                                    "/" +
-                                    objectId +
-                                    " (noCache=" +
-                                    noCache +
-                                    ")",
-                                    e
-                                );
-                            }
-                        },
-                        batchExecutorService
-                    );
+            // Objects are split into (at most) one chunk per batch thread, each chunk being a single bulk lookup.
+            // Digest computation (no cache) uses a smaller dedicated pool, each thread reading its chunk sequentially.
+            int threadPoolSize = computeDigests ? digestComputationThreadPoolSize : maxBatchThreadPoolSize;
+            int chunkSize = Math.max(1, (objectIds.size() + threadPoolSize - 1) / threadPoolSize);
+            List<CompletableFuture<List<StorageBulkMetadataResultEntry>>> completableFutures = new ArrayList<>();
+            for (List<String> objectIdsChunk : ListUtils.partition(objectIds, chunkSize)) {
+                CompletableFuture<List<StorageBulkMetadataResultEntry>> objectInformationCompletableFuture =
+                    computeDigests
+                        ? CompletableFuture.supplyAsync(
+                            () -> computeBulkMetadataEntries(containerName, objectIdsChunk, deadlineInNanos),
+                            digestComputationExecutorService
+                        )
+                        : CompletableFuture.supplyAsync(
+                            () -> getBulkMetadataEntries(containerName, objectIdsChunk, noCache),
+                            batchExecutorService
+                        );
                 completableFutures.add(objectInformationCompletableFuture);
             }
 
-            CompletableFuture<List<StorageBulkMetadataResultEntry>> batchObjectInformationFuture = sequence(
+            CompletableFuture<List<List<StorageBulkMetadataResultEntry>>> batchObjectInformationFuture = sequence(
                 completableFutures
             );
 
             try {
                 return new StorageBulkMetadataResult(
-                    batchObjectInformationFuture.get(batchMetadataComputationTimeoutIsSeconds, SECONDS)
+                    batchObjectInformationFuture
+                        .get(Math.max(0L, deadlineInNanos - System.nanoTime()), NANOSECONDS)
+                        .stream()
+                        .flatMap(List::stream)
+                        .collect(Collectors.toList())
                 );
             } catch (InterruptedException | ExecutionException | TimeoutException e) {
                 // Abort pending tasks
-                for (CompletableFuture<StorageBulkMetadataResultEntry> completableFuture : completableFutures) {
+                for (CompletableFuture<List<StorageBulkMetadataResultEntry>> completableFuture : completableFutures) {
                     completableFuture.cancel(false);
                 }
                 throw new ContentAddressableStorageException("Batch object information timed out", e);
@@ -595,6 +697,114 @@ public class DefaultOfferServiceImpl implements DefaultOfferService {
         }
     }
 
+    private List<StorageBulkMetadataResultEntry> getBulkMetadataEntries(
+        String containerName,
+        List<String> objectIds,
+        Boolean noCache
+    ) {
+        Map<String, MetadatasObject> objectsMetadata;
+        try {
+            objectsMetadata = defaultStorage.getObjectsMetadata(containerName, objectIds, noCache);
+        } catch (ContentAddressableStorageException e) {
+            throw new RuntimeException(
+                "Could not get object metadata for " +
+                containerName +
+                "/" +
+                objectIds +
+                " (noCache=" +
+                noCache +
+                ")",
+                e
+            );
+        }
+
+        List<StorageBulkMetadataResultEntry> entries = new ArrayList<>();
+        for (String objectId : objectIds) {
+            MetadatasObject objectMetadata = objectsMetadata.get(objectId);
+            if (objectMetadata == null) {
+                LOGGER.info("Object " + objectId + " not found in container " + containerName);
+                entries.add(new StorageBulkMetadataResultEntry(objectId, null, null));
+            } else {
+                entries.add(
+                    new StorageBulkMetadataResultEntry(
+                        objectMetadata.getObjectName(),
+                        objectMetadata.getDigest(),
+                        objectMetadata.getFileSize()
+                    )
+                );
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * Objects that cannot be read are reported without digest, so that they do not fail the whole bulk.
+     * Remaining objects are not read once the bulk timed out.
+     */
+    private List<StorageBulkMetadataResultEntry> computeBulkMetadataEntries(
+        String containerName,
+        List<String> objectIds,
+        long deadlineInNanos
+    ) {
+        List<StorageBulkMetadataResultEntry> entries = new ArrayList<>();
+        for (String objectId : objectIds) {
+            if (System.nanoTime() - deadlineInNanos > 0) {
+                throw new IllegalStateException("Batch digest computation of " + containerName + " timed out");
+            }
+            StorageBulkMetadataResultEntry entry;
+            try {
+                entry = computeMetadataEntry(containerName, objectId);
+            } catch (ContentAddressableStorageNotFoundException e) {
+                LOGGER.info("Object " + objectId + " not found in container " + containerName);
+                entries.add(new StorageBulkMetadataResultEntry(objectId, null, null));
+                continue;
+            } catch (ContentAddressableStorageException | IOException e) {
+                LOGGER.error("Could not compute digest of " + containerName + "/" + objectId, e);
+                entries.add(new StorageBulkMetadataResultEntry(objectId, null, null));
+                continue;
+            }
+            entries.add(entry);
+            DigestComputationMetrics.OBJECTS.labels(containerName).inc();
+            DigestComputationMetrics.READ_BYTES.labels(containerName).inc(entry.getSize());
+        }
+        return entries;
+    }
+
+    private StorageBulkMetadataResultEntry computeMetadataEntry(String containerName, String objectId)
+        throws ContentAddressableStorageException, IOException {
+        if (digestComputationRateLimiter == null) {
+            MetadatasObject objectMetadata = defaultStorage.getObjectMetadata(containerName, objectId, true);
+            return new StorageBulkMetadataResultEntry(
+                objectMetadata.getObjectName(),
+                objectMetadata.getDigest(),
+                objectMetadata.getFileSize()
+            );
+        }
+
+        // Read bytes are paid chunk by chunk as they are read, which caps the read bandwidth of all digest
+        // computation threads
+        ObjectContent objectContent = defaultStorage.getObject(containerName, objectId);
+        try (
+            InputStream inputStream = new ThrottledInputStream(
+                objectContent.getInputStream(),
+                digestComputationRateLimiter,
+                containerName
+            )
+        ) {
+            Digest digest = new Digest(VitamConfiguration.getDefaultDigestType());
+            digest.update(inputStream);
+            return new StorageBulkMetadataResultEntry(objectId, digest.digestHex(), objectContent.getSize());
+        }
+    }
+
+    /**
+     * Shuts down batch executors
+     */
+    public void close() {
+        batchExecutorService.shutdown();
+        digestComputationExecutorService.shutdown();
+    }
+
     private <T> CompletableFuture<List<T>> sequence(List<CompletableFuture<T>> completableFutures) {
         CompletableFuture<Void> allDoneFuture = CompletableFuture.allOf(
             completableFutures.toArray(new CompletableFuture[0])
@@ -28,6 +28,7 @@ package fr.gouv.vitam.storage.offers.core;
 
 import fr.gouv.vitam.common.VitamConfiguration;
 import fr.gouv.vitam.common.digest.DigestType;
+import fr.gouv.vitam.common.model.ByteRange;
 import fr.gouv.vitam.common.model.storage.AccessRequestStatus;
 import fr.gouv.vitam.common.security.IllegalPathException;
 import fr.gouv.vitam.common.security.SafeFileChecker;
@@ -81,6 +82,13 @@ public class SanityCheckOfferServiceDecorator implements DefaultOfferService {
         return innerService.getObject(containerName, objectId);
     }
 
+    @Override
+    public ObjectContent getObject(String containerName, String objectId, ByteRange range)
+        throws ContentAddressableStorageException {
+        checkSafeObjectPath(containerName, objectId);
+        return innerService.getObject(containerName, objectId, range);
+    }
+
     @Override
     public String createAccessRequest(String containerName, List<String> objectIds)
         throws ContentAddressableStorageException {
@@ -107,6 +107,28 @@ public class OfferLogDatabaseService {
         }
     }
 
+    /**
+     * Saves offer logs of (possibly) several containers in a single ordered insert.
+     * Offer logs are expected to be sorted by sequence.
+     */
+    public void saveAll(List<OfferLog> offerLogs)
+        throws ContentAddressableStorageServerException, ContentAddressableStorageDatabaseException {
+        try {
+            List<Document> documents = new ArrayList<>();
+            for (OfferLog offerLog : offerLogs) {
+                documents.add(Document.parse(JsonHandler.writeAsString(offerLog)));
+            }
+            mongoCollection.insertMany(documents, new InsertManyOptions().ordered(true));
+        } catch (MongoException e) {
+            throw new ContentAddressableStorageDatabaseException(
+                String.format("Database Error while saving %d entries in OfferLog collection", offerLogs.size()),
+                e
+            );
+        } catch (InvalidParseOperationException exc) {
+            throw new ContentAddressableStorageServerException("Cannot parse storage log", exc);
+        }
+    }
+
     public List<OfferLog> getDescendingOfferLogsBy(String containerName, Long offset, int limit) {
         Bson searchFilter = offset != null
             ? and(eq(CONTAINER, containerName), lte(SEQUENCE, offset))
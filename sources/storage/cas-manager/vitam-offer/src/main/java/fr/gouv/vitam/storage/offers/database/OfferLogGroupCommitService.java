@@ -0,0 +1,227 @@
+/*
+ * Copyright French Prime minister Office/SGMAP/DINSIC/Vitam Program (2015-2022)
+ *
+ * contact.vitam@culture.gouv.fr
+ *
+ * This software is a computer program whose purpose is to implement a digital archiving back-office system managing
+ * high volumetry securely and efficiently.
+ *
+ * This software is governed by the CeCILL 2.1 license under French law and abiding by the rules of distribution of free
+ * software. You can use, modify and/ or redistribute the software under the terms of the CeCILL 2.1 license as
+ * circulated by CEA, CNRS and INRIA at the following URL "https://cecill.info".
+ *
+ * As a counterpart to the access to the source code and rights to copy, modify and redistribute granted by the license,
+ * users are provided only with a limited warranty and the software's author, the holder of the economic rights, and the
+ * successive licensors have only limited liability.
+ *
+ * In this respect, the user's attention is drawn to the risks associated with loading, using, modifying and/or
+ * developing or reproducing the software by the user in light of its specific status of free software, that may mean
+ * that it is complicated to manipulate, and that also therefore means that it is reserved for developers and
+ * experienced professionals having in-depth computer knowledge. Users are therefore encouraged to load and test the
+ * software's suitability as regards their requirements in conditions enabling the security of their systems and/or data
+ * to be ensured and, more generally, to use and operate it in the same conditions as regards security.
+ *
+ * The fact that you are presently reading this means that you have had knowledge of the CeCILL 2.1 license and that you
+ * accept its terms.
+ */
+package fr.gouv.vitam.storage.offers.database;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Stopwatch;
+import fr.gouv.vitam.common.LocalDateUtil;
+import fr.gouv.vitam.common.logging.VitamLogger;
+import fr.gouv.vitam.common.logging.VitamLoggerFactory;
+import fr.gouv.vitam.common.performance.PerformanceLogger;
+import fr.gouv.vitam.common.thread.BatchingQueueConsumer;
+import fr.gouv.vitam.storage.engine.common.model.OfferLog;
+import fr.gouv.vitam.storage.engine.common.model.OfferLogAction;
+import fr.gouv.vitam.storage.offers.rest.OfferLogGroupCommitConfiguration;
+import fr.gouv.vitam.workspace.api.exception.ContentAddressableStorageDatabaseException;
+import fr.gouv.vitam.workspace.api.exception.ContentAddressableStorageServerException;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeoutException;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Group commit writer of offer logs.
+ *
+ * Concurrent callers enqueue their offer log entries, and a single committer thread :
+ * - drains pending entries (lingering at most maxWaitTimeInMillis for more entries, up to maxBatchSize entries)
+ * - reserves a block of sequences for the whole batch with a single sequence increment
+ * - persists the batch with a single ordered insert
+ * - acknowledges callers once the insert succeeded
+ *
+ * Callers wait at most commitTimeoutInMillis for their offer logs to be committed. Once closed, the
+ * service rejects new offer logs, and commits pending ones before stopping.
+ *
+ * Since sequence reservation and insertion are done by a single thread, offer logs are persisted in sequence order,
+ * which is required by offer synchronization (offer logs are listed by ascending sequence).
+ */
+public class OfferLogGroupCommitService implements AutoCloseable {
+
+    private static final VitamLogger LOGGER = VitamLoggerFactory.getInstance(OfferLogGroupCommitService.class);
+
+    private static final String SHUTDOWN_MESSAGE = "Offer log group commit service is shutdown";
+
+    private final OfferLogDatabaseService offerLogDatabaseService;
+    private final OfferSequenceDatabaseService offerSequenceDatabaseService;
+    private final long commitTimeoutInMillis;
+    private final BatchingQueueConsumer<PendingOfferLogs> committer;
+
+    public OfferLogGroupCommitService(
+        OfferLogDatabaseService offerLogDatabaseService,
+        OfferSequenceDatabaseService offerSequenceDatabaseService,
+        OfferLogGroupCommitConfiguration configuration
+    ) {
+        this(
+            offerLogDatabaseService,
+            offerSequenceDatabaseService,
+            configuration.getMaxBatchSize(),
+            configuration.getMaxWaitTimeInMillis(),
+            configuration.getCommitTimeoutInMillis()
+        );
+    }
+
+    @VisibleForTesting
+    OfferLogGroupCommitService(
+        OfferLogDatabaseService offerLogDatabaseService,
+        OfferSequenceDatabaseService offerSequenceDatabaseService,
+        int maxBatchSize,
+        int maxWaitTimeInMillis
+    ) {
+        this(
+            offerLogDatabaseService,
+            offerSequenceDatabaseService,
+            maxBatchSize,
+            maxWaitTimeInMillis,
+            OfferLogGroupCommitConfiguration.DEFAULT_COMMIT_TIMEOUT_IN_MILLIS
+        );
+    }
+
+    @VisibleForTesting
+    OfferLogGroupCommitService(
+        OfferLogDatabaseService offerLogDatabaseService,
+        OfferSequenceDatabaseService offerSequenceDatabaseService,
+        int maxBatchSize,
+        int maxWaitTimeInMillis,
+        long commitTimeoutInMillis
+    ) {
+        this.offerLogDatabaseService = offerLogDatabaseService;
+        this.offerSequenceDatabaseService = offerSequenceDatabaseService;
+        this.commitTimeoutInMillis = commitTimeoutInMillis;
+        this.committer = new BatchingQueueConsumer<>(
+            "OfferLogGroupCommitThread",
+            new LinkedBlockingQueue<>(),
+            maxBatchSize,
+            maxWaitTimeInMillis,
+            pendingOfferLogs -> pendingOfferLogs.fileNames.size(),
+            this::commit,
+            pendingOfferLogs ->
+                pendingOfferLogs.future.completeExceptionally(
+                    new ContentAddressableStorageServerException(SHUTDOWN_MESSAGE)
+                )
+        );
+    }
+
+    /**
+     * Logs an action on a list of objects of a container, and waits until the offer logs are persisted.
+     * Offer logs of a same call are persisted within the same batch, with contiguous sequences.
+     */
+    public void save(String containerName, List<String> fileNames, OfferLogAction action)
+        throws ContentAddressableStorageServerException, ContentAddressableStorageDatabaseException {
+        if (fileNames.isEmpty()) {
+            return;
+        }
+        PendingOfferLogs pendingOfferLogs = new PendingOfferLogs(containerName, fileNames, action);
+        try {
+            if (!committer.submit(pendingOfferLogs)) {
+                throw new ContentAddressableStorageServerException(SHUTDOWN_MESSAGE);
+            }
+            pendingOfferLogs.future.get(commitTimeoutInMillis, MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ContentAddressableStorageServerException("Interrupted while waiting for offer log commit", e);
+        } catch (TimeoutException e) {
+            throw new ContentAddressableStorageServerException(
+                "Offer logs not committed within " + commitTimeoutInMillis + " ms",
+                e
+            );
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof ContentAddressableStorageDatabaseException) {
+                throw new ContentAddressableStorageDatabaseException(e.getCause().getMessage(), e.getCause());
+            }
+            throw new ContentAddressableStorageServerException("Could not commit offer logs", e.getCause());
+        }
+    }
+
+    private void commit(List<PendingOfferLogs> batch) {
+        Stopwatch stopwatch = Stopwatch.createStarted();
+        int batchSize = batch.stream().mapToInt(pendingOfferLogs -> pendingOfferLogs.fileNames.size()).sum();
+        try {
+            long sequence = offerSequenceDatabaseService.getNextSequence(
+                OfferSequenceDatabaseService.BACKUP_LOG_SEQUENCE_ID,
+                batchSize
+            );
+
+            LocalDateTime now = LocalDateUtil.now();
+            List<OfferLog> offerLogs = new ArrayList<>(batchSize);
+            for (PendingOfferLogs pendingOfferLogs : batch) {
+                for (String fileName : pendingOfferLogs.fileNames) {
+                    offerLogs.add(
+                        new OfferLog(sequence++, now, pendingOfferLogs.containerName, fileName, pendingOfferLogs.action)
+                    );
+                }
+            }
+
+            offerLogDatabaseService.saveAll(offerLogs);
+
+            for (PendingOfferLogs pendingOfferLogs : batch) {
+                pendingOfferLogs.future.complete(null);
+            }
+        } catch (Exception e) {
+            LOGGER.error("Could not commit " + batchSize + " offer logs", e);
+            for (PendingOfferLogs pendingOfferLogs : batch) {
+                pendingOfferLogs.future.completeExceptionally(e);
+            }
+        } finally {
+            PerformanceLogger.getInstance()
+                .log(
+                    "STP_Offer_LogGroupCommit",
+                    String.valueOf(batchSize),
+                    "LOG_GROUP_COMMIT_IN_DB",
+                    stopwatch.elapsed(MILLISECONDS)
+                );
+        }
+    }
+
+    /**
+     * Stops accepting new offer logs, commits pending ones and stops committer thread.
+     */
+    @Override
+    public void close() {
+        if (!committer.close(commitTimeoutInMillis)) {
+            LOGGER.warn("Offer log group commit thread did not terminate within " + commitTimeoutInMillis + " ms");
+        }
+    }
+
+    private static class PendingOfferLogs {
+
+        private final String containerName;
+        private final List<String> fileNames;
+        private final OfferLogAction action;
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+        private PendingOfferLogs(String containerName, List<String> fileNames, OfferLogAction action) {
+            this.containerName = containerName;
+            this.fileNames = fileNames;
+            this.action = action;
+        }
+    }
+}
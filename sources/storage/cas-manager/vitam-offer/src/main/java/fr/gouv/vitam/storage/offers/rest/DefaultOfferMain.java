@@ -33,6 +33,8 @@ import fr.gouv.vitam.common.logging.VitamLogger;
 import fr.gouv.vitam.common.logging.VitamLoggerFactory;
 import fr.gouv.vitam.common.serverv2.VitamStarter;
 
+import java.util.List;
+
 import static fr.gouv.vitam.common.server.VitamServer.CONFIG_FILE_IS_A_MANDATORY_ARGUMENT;
 import static fr.gouv.vitam.common.server.VitamServer.SERVER_CAN_NOT_START;
 
@@ -62,7 +64,9 @@ public class DefaultOfferMain {
             OfferConfiguration.class,
             configurationFile,
             BusinessApplication.class,
-            AdminOfferApplication.class
+            AdminOfferApplication.class,
+            List.of(new OfferLifecycleListener()),
+            false
         );
 
         OfferCommonApplication.getInstance().initialize(configurationFile);
@@ -42,6 +42,7 @@ import fr.gouv.vitam.common.guid.GUIDFactory;
 import fr.gouv.vitam.common.json.JsonHandler;
 import fr.gouv.vitam.common.logging.VitamLogger;
 import fr.gouv.vitam.common.logging.VitamLoggerFactory;
+import fr.gouv.vitam.common.model.ByteRange;
 import fr.gouv.vitam.common.model.RequestResponseError;
 import fr.gouv.vitam.common.model.RequestResponseOK;
 import fr.gouv.vitam.common.model.storage.AccessRequestStatus;
@@ -67,6 +68,7 @@ import fr.gouv.vitam.storage.offers.core.DefaultOfferService;
 import fr.gouv.vitam.storage.offers.core.NonUpdatableContentAddressableStorageException;
 import fr.gouv.vitam.workspace.api.exception.ContentAddressableStorageException;
 import fr.gouv.vitam.workspace.api.exception.ContentAddressableStorageNotFoundException;
+import fr.gouv.vitam.workspace.api.exception.ContentAddressableStorageRangeNotSatisfiableException;
 import fr.gouv.vitam.workspace.api.exception.ContentAddressableStorageUnavailableDataFromAsyncOfferException;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.apache.commons.io.IOUtils;
@@ -260,6 +262,10 @@ public class DefaultOfferResource extends ApplicationStatusResource {
      * <p>
      * HEADER X-Tenant-Id (mandatory) : tenant's identifier HEADER "X-type" (optional) : data (dfault) or digest
      * </p>
+     * <p>
+     * HEADER Range (optional) : single byte range to read (RFC 7233). A partial (206) response with a Content-Range
+     * header is returned when the range is honored.
+     * </p>
      *
      * @param type Object type
      * @param objectId object id :.+ in order to get all path if some '/' are provided
@@ -284,7 +290,8 @@ public class DefaultOfferResource extends ApplicationStatusResource {
                 return Response.status(Status.PRECONDITION_FAILED).build();
             }
             final String containerName = buildContainerName(type, xTenantId);
-            ObjectContent objectContent = defaultOfferService.getObject(containerName, objectId);
+            final ByteRange range = ByteRange.parse(headers.getHeaderString(GlobalDataRest.RANGE)).orElse(null);
+            ObjectContent objectContent = defaultOfferService.getObject(containerName, objectId, range);
 
             StreamingOutput streamingOutput = output -> {
                 TaggedInputStream taggedInputStream = null;
@@ -316,13 +323,31 @@ public class DefaultOfferResource extends ApplicationStatusResource {
                 }
             };
 
-            return Response.ok(streamingOutput)
+            Response.ResponseBuilder responseBuilder = objectContent.getRange() == null
+                ? Response.ok(streamingOutput)
+                : Response.status(Status.PARTIAL_CONTENT)
+                    .entity(streamingOutput)
+                    .header(
+                        GlobalDataRest.CONTENT_RANGE,
+                        objectContent.getRange().toContentRange(objectContent.getTotalSize())
+                    );
+            return responseBuilder
                 .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_OCTET_STREAM)
                 .header(VitamHttpHeader.X_CONTENT_LENGTH.getName(), String.valueOf(objectContent.getSize()))
                 .build();
         } catch (final ContentAddressableStorageNotFoundException e) {
             LOGGER.warn(e);
             return buildErrorResponse(VitamCode.STORAGE_NOT_FOUND, e.getMessage());
+        } catch (final ContentAddressableStorageRangeNotSatisfiableException e) {
+            LOGGER.warn(e);
+            Response.ResponseBuilder responseBuilder = Response.status(Status.REQUESTED_RANGE_NOT_SATISFIABLE);
+            if (e.getObjectSize() >= 0) {
+                responseBuilder.header(
+                    GlobalDataRest.CONTENT_RANGE,
+                    ByteRange.toUnsatisfiedContentRange(e.getObjectSize())
+                );
+            }
+            return responseBuilder.build();
         } catch (final ContentAddressableStorageUnavailableDataFromAsyncOfferException e) {
             LOGGER.warn(e);
             return buildCustomErrorResponse(
@@ -42,6 +42,7 @@ import fr.gouv.vitam.storage.offers.core.SanityCheckOfferServiceDecorator;
 import fr.gouv.vitam.storage.offers.database.OfferLogAndCompactedOfferLogService;
 import fr.gouv.vitam.storage.offers.database.OfferLogCompactionDatabaseService;
 import fr.gouv.vitam.storage.offers.database.OfferLogDatabaseService;
+import fr.gouv.vitam.storage.offers.database.OfferLogGroupCommitService;
 import fr.gouv.vitam.storage.offers.database.OfferSequenceDatabaseService;
 
 import java.io.InputStream;
@@ -57,6 +58,8 @@ public class OfferCommonApplication {
 
     private StorageConfiguration storageConfiguration;
     private DefaultOfferService defaultOfferService;
+    private DefaultOfferServiceImpl defaultOfferServiceImpl;
+    private OfferLogGroupCommitService offerLogGroupCommitService;
     private ContentAddressableStorage contentAddressableStorage;
 
     public static OfferCommonApplication getInstance() {
@@ -71,6 +74,9 @@ public class OfferCommonApplication {
                 throw new IllegalStateException("Invalid configuration. Missing offer log compaction config");
             }
             configuration.getOfferLogCompactionConfiguration().validateConf();
+            if (configuration.getOfferLogGroupCommitConfiguration() != null) {
+                configuration.getOfferLogGroupCommitConfiguration().validateConf();
+            }
 
             MongoClient mongoClient = MongoDbAccess.createMongoClient(configuration);
 
@@ -91,6 +97,17 @@ public class OfferCommonApplication {
                     mongoDatabase.getCollection(COMPACTED_OFFER_LOG.getName())
                 );
 
+            if (
+                configuration.getOfferLogGroupCommitConfiguration() != null &&
+                configuration.getOfferLogGroupCommitConfiguration().isEnabled()
+            ) {
+                this.offerLogGroupCommitService = new OfferLogGroupCommitService(
+                    offerDatabaseService,
+                    offerSequenceDatabaseService,
+                    configuration.getOfferLogGroupCommitConfiguration()
+                );
+            }
+
             this.storageConfiguration = PropertiesUtils.readYaml(
                 PropertiesUtils.findFile(STORAGE_CONF_FILE_NAME),
                 StorageConfiguration.class
@@ -108,7 +125,7 @@ public class OfferCommonApplication {
                 mongoDatabase
             );
 
-            DefaultOfferServiceImpl defaultOfferServiceImpl = new DefaultOfferServiceImpl(
+            this.defaultOfferServiceImpl = new DefaultOfferServiceImpl(
                 contentAddressableStorage,
                 offerLogCompactionDatabaseService,
                 offerDatabaseService,
@@ -116,8 +133,11 @@ public class OfferCommonApplication {
                 this.storageConfiguration,
                 configuration.getOfferLogCompactionConfiguration(),
                 offerLogAndCompactedOfferLogService,
+                this.offerLogGroupCommitService,
                 configuration.getMaxBatchThreadPoolSize(),
-                configuration.getBatchMetadataComputationTimeout()
+                configuration.getBatchMetadataComputationTimeout(),
+                configuration.getBatchDigestComputationThreadPoolSize(),
+                configuration.getBatchDigestComputationMaxReadBytesPerSecond()
             );
             // Decorate default offer service with a sanity check wrapper
             this.defaultOfferService = new SanityCheckOfferServiceDecorator(
@@ -129,6 +149,21 @@ public class OfferCommonApplication {
         }
     }
 
+    /**
+     * Releases offer services resources
+     */
+    synchronized void close() {
+        if (defaultOfferServiceImpl != null) {
+            defaultOfferServiceImpl.close();
+            defaultOfferServiceImpl = null;
+        }
+        // Pending offer logs are committed before shutdown
+        if (offerLogGroupCommitService != null) {
+            offerLogGroupCommitService.close();
+            offerLogGroupCommitService = null;
+        }
+    }
+
     DefaultOfferService getDefaultOfferService() {
         return defaultOfferService;
     }
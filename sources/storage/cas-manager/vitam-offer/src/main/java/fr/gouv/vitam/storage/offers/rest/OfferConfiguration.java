@@ -47,6 +47,12 @@ public class OfferConfiguration extends DbConfigurationImpl {
     @JsonProperty("offerLogCompaction")
     private OfferLogCompactionConfiguration offerLogCompactionConfiguration;
 
+    /**
+     * Optional offer log group commit configuration (disabled if not set)
+     */
+    @JsonProperty("offerLogGroupCommit")
+    private OfferLogGroupCommitConfiguration offerLogGroupCommitConfiguration;
+
     /**
      * Max thread pool size for batch processing
      */
@@ -54,11 +60,26 @@ public class OfferConfiguration extends DbConfigurationImpl {
     private int maxBatchThreadPoolSize = 32;
 
     /**
-     * Timeout (in seconds) for batch metadata retrieval
+     * Timeout (in seconds) for batch metadata retrieval, applied to the whole batch
      */
     @JsonProperty("batchMetadataComputationTimeout")
     private int batchMetadataComputationTimeout = 600;
 
+    /**
+     * Max thread pool size for digest computation of batch metadata requests without cache (integrity audits).
+     * Each thread reads its objects sequentially.
+     */
+    @JsonProperty("batchDigestComputationThreadPoolSize")
+    private int batchDigestComputationThreadPoolSize = 4;
+
+    /**
+     * Max read bandwidth (in bytes per second) for digest computation of batch metadata requests without cache.
+     * 0 means unlimited. When set, digests are computed from object content streams, read bytes being paid as they
+     * are read. Must be 0 for tape offers, whose digests are read from the object referential.
+     */
+    @JsonProperty("batchDigestComputationMaxReadBytesPerSecond")
+    private long batchDigestComputationMaxReadBytesPerSecond = 0L;
+
     /**
      * @return the provider
      */
@@ -214,6 +235,17 @@ public class OfferConfiguration extends DbConfigurationImpl {
         return this;
     }
 
+    public OfferLogGroupCommitConfiguration getOfferLogGroupCommitConfiguration() {
+        return offerLogGroupCommitConfiguration;
+    }
+
+    public OfferConfiguration setOfferLogGroupCommitConfiguration(
+        OfferLogGroupCommitConfiguration offerLogGroupCommitConfiguration
+    ) {
+        this.offerLogGroupCommitConfiguration = offerLogGroupCommitConfiguration;
+        return this;
+    }
+
     public int getMaxBatchThreadPoolSize() {
         return maxBatchThreadPoolSize;
     }
@@ -231,4 +263,24 @@ public class OfferConfiguration extends DbConfigurationImpl {
         this.batchMetadataComputationTimeout = batchMetadataComputationTimeout;
         return this;
     }
+
+    public int getBatchDigestComputationThreadPoolSize() {
+        return batchDigestComputationThreadPoolSize;
+    }
+
+    public OfferConfiguration setBatchDigestComputationThreadPoolSize(int batchDigestComputationThreadPoolSize) {
+        this.batchDigestComputationThreadPoolSize = batchDigestComputationThreadPoolSize;
+        return this;
+    }
+
+    public long getBatchDigestComputationMaxReadBytesPerSecond() {
+        return batchDigestComputationMaxReadBytesPerSecond;
+    }
+
+    public OfferConfiguration setBatchDigestComputationMaxReadBytesPerSecond(
+        long batchDigestComputationMaxReadBytesPerSecond
+    ) {
+        this.batchDigestComputationMaxReadBytesPerSecond = batchDigestComputationMaxReadBytesPerSecond;
+        return this;
+    }
 }
@@ -0,0 +1,151 @@
+/*
+ * Copyright French Prime minister Office/SGMAP/DINSIC/Vitam Program (2015-2022)
+ *
+ * contact.vitam@culture.gouv.fr
+ *
+ * This software is a computer program whose purpose is to implement a digital archiving back-office system managing
+ * high volumetry securely and efficiently.
+ *
+ * This software is governed by the CeCILL 2.1 license under French law and abiding by the rules of distribution of free
+ * software. You can use, modify and/ or redistribute the software under the terms of the CeCILL 2.1 license as
+ * circulated by CEA, CNRS and INRIA at the following URL "https://cecill.info".
+ *
+ * As a counterpart to the access to the source code and rights to copy, modify and redistribute granted by the license,
+ * users are provided only with a limited warranty and the software's author, the holder of the economic rights, and the
+ * successive licensors have only limited liability.
+ *
+ * In this respect, the user's attention is drawn to the risks associated with loading, using, modifying and/or
+ * developing or reproducing the software by the user in light of its specific status of free software, that may mean
+ * that it is complicated to manipulate, and that also therefore means that it is reserved for developers and
+ * experienced professionals having in-depth computer knowledge. Users are therefore encouraged to load and test the
+ * software's suitability as regards their requirements in conditions enabling the security of their systems and/or data
+ * to be ensured and, more generally, to use and operate it in the same conditions as regards security.
+ *
+ * The fact that you are presently reading this means that you have had knowledge of the CeCILL 2.1 license and that you
+ * accept its terms.
+ */
+package fr.gouv.vitam.storage.offers.rest;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.Objects;
+
+/**
+ * Offer log group commit configuration.
+ *
+ * When enabled, concurrent offer log writes are coalesced into a single sequence reservation and a single insert.
+ * Writers wait at most commitTimeoutInMillis for their offer logs to be committed (60 seconds by default).
+ */
+public class OfferLogGroupCommitConfiguration {
+
+    private static final int MIN_BATCH_SIZE = 1;
+    private static final int MAX_BATCH_SIZE = 10_000;
+    private static final int MAX_WAIT_TIME_IN_MILLIS = 1_000;
+    public static final long DEFAULT_COMMIT_TIMEOUT_IN_MILLIS = 60_000L;
+
+    private final boolean enabled;
+    private final int maxBatchSize;
+    private final int maxWaitTimeInMillis;
+    private final long commitTimeoutInMillis;
+
+    @JsonCreator
+    public OfferLogGroupCommitConfiguration(
+        @JsonProperty("enabled") boolean enabled,
+        @JsonProperty("maxBatchSize") int maxBatchSize,
+        @JsonProperty("maxWaitTimeInMillis") int maxWaitTimeInMillis,
+        @JsonProperty("commitTimeoutInMillis") Long commitTimeoutInMillis
+    ) {
+        this.enabled = enabled;
+        this.maxBatchSize = maxBatchSize;
+        this.maxWaitTimeInMillis = maxWaitTimeInMillis;
+        this.commitTimeoutInMillis = Objects.requireNonNullElse(
+            commitTimeoutInMillis,
+            DEFAULT_COMMIT_TIMEOUT_IN_MILLIS
+        );
+    }
+
+    public void validateConf() {
+        if (!enabled) {
+            return;
+        }
+
+        if (maxBatchSize > MAX_BATCH_SIZE || maxBatchSize < MIN_BATCH_SIZE) {
+            throw new IllegalStateException(
+                "Invalid offer log group commit configuration. Invalid max batch size " +
+                maxBatchSize +
+                " expected between " +
+                MIN_BATCH_SIZE +
+                " and " +
+                MAX_BATCH_SIZE
+            );
+        }
+
+        if (maxWaitTimeInMillis > MAX_WAIT_TIME_IN_MILLIS || maxWaitTimeInMillis < 0) {
+            throw new IllegalStateException(
+                "Invalid offer log group commit configuration. Invalid max wait time " +
+                maxWaitTimeInMillis +
+                " expected between 0 and " +
+                MAX_WAIT_TIME_IN_MILLIS
+            );
+        }
+
+        if (commitTimeoutInMillis <= 0) {
+            throw new IllegalStateException(
+                "Invalid offer log group commit configuration. Invalid commit timeout " +
+                commitTimeoutInMillis +
+                " expected strictly positive"
+            );
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    public int getMaxWaitTimeInMillis() {
+        return maxWaitTimeInMillis;
+    }
+
+    public long getCommitTimeoutInMillis() {
+        return commitTimeoutInMillis;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        OfferLogGroupCommitConfiguration that = (OfferLogGroupCommitConfiguration) o;
+        return (
+            enabled == that.enabled &&
+            maxBatchSize == that.maxBatchSize &&
+            maxWaitTimeInMillis == that.maxWaitTimeInMillis &&
+            commitTimeoutInMillis == that.commitTimeoutInMillis
+        );
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(enabled, maxBatchSize, maxWaitTimeInMillis, commitTimeoutInMillis);
+    }
+
+    @Override
+    public String toString() {
+        return (
+            "OfferLogGroupCommitConfiguration{" +
+            "enabled=" +
+            enabled +
+            ", maxBatchSize=" +
+            maxBatchSize +
+            ", maxWaitTimeInMillis=" +
+            maxWaitTimeInMillis +
+            ", commitTimeoutInMillis=" +
+            commitTimeoutInMillis +
+            '}'
+        );
+    }
+}
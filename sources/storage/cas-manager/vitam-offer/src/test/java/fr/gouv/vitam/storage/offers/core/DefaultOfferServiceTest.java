@@ -86,6 +86,7 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
@@ -115,13 +116,17 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atMost;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doCallRealMethod;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -1323,6 +1328,7 @@ public class DefaultOfferServiceTest {
         })
             .when(contentAddressableStorage)
             .getObjectMetadata(eq(CONTAINER_PATH), anyString(), eq(false));
+        doCallRealMethod().when(contentAddressableStorage).getObjectsMetadata(eq(CONTAINER_PATH), anyList(), eq(false));
 
         // When
         StorageBulkMetadataResult result = offerService.getBulkMetadata(
@@ -1380,6 +1386,7 @@ public class DefaultOfferServiceTest {
         })
             .when(contentAddressableStorage)
             .getObjectMetadata(eq(CONTAINER_PATH), anyString(), eq(false));
+        doCallRealMethod().when(contentAddressableStorage).getObjectsMetadata(eq(CONTAINER_PATH), anyList(), eq(false));
 
         // When
         StorageBulkMetadataResult result = offerService.getBulkMetadata(
@@ -1437,6 +1444,7 @@ public class DefaultOfferServiceTest {
         })
             .when(contentAddressableStorage)
             .getObjectMetadata(eq(CONTAINER_PATH), anyString(), eq(false));
+        doCallRealMethod().when(contentAddressableStorage).getObjectsMetadata(eq(CONTAINER_PATH), anyList(), eq(false));
 
         // When / Then
         assertThatThrownBy(
@@ -1478,6 +1486,7 @@ public class DefaultOfferServiceTest {
         })
             .when(contentAddressableStorage)
             .getObjectMetadata(eq(CONTAINER_PATH), anyString(), eq(false));
+        doCallRealMethod().when(contentAddressableStorage).getObjectsMetadata(eq(CONTAINER_PATH), anyList(), eq(false));
 
         // When / Then
         assertThatThrownBy(
@@ -1485,6 +1494,174 @@ public class DefaultOfferServiceTest {
         ).isInstanceOf(ContentAddressableStorageException.class);
     }
 
+    @Test
+    public void getBulkMetadataWithoutCacheWithUnreadableObjectThenDigestMissingForThisObjectOnly() throws Exception {
+        // Given
+        ContentAddressableStorage contentAddressableStorage = mock(ContentAddressableStorage.class);
+        offerService = new DefaultOfferServiceImpl(
+            contentAddressableStorage,
+            offerLogCompactionDatabaseService,
+            offerDatabaseService,
+            offerSequenceDatabaseService,
+            configuration,
+            null,
+            offerLogAndCompactedOfferLogService,
+            MAX_BATCH_THREAD_POOL_SIZE,
+            BATCH_METADATA_COMPUTATION_TIMEOUT
+        );
+
+        doAnswer(args -> {
+            String objectName = args.getArgument(1);
+
+            if (objectName.equals("guid2")) {
+                throw new ContentAddressableStorageException("");
+            }
+
+            return new StorageMetadataResult(
+                objectName,
+                null,
+                "digest-" + objectName,
+                objectName.hashCode(),
+                null,
+                null
+            );
+        })
+            .when(contentAddressableStorage)
+            .getObjectMetadata(eq(CONTAINER_PATH), anyString(), eq(true));
+
+        // When
+        StorageBulkMetadataResult result = offerService.getBulkMetadata(
+            CONTAINER_PATH,
+            Arrays.asList("guid1", "guid2", "guid3"),
+            true
+        );
+
+        // Then
+        assertThat(result.getObjectMetadata())
+            .extracting(
+                StorageBulkMetadataResultEntry::getObjectName,
+                StorageBulkMetadataResultEntry::getDigest,
+                StorageBulkMetadataResultEntry::getSize
+            )
+            .containsExactlyInAnyOrder(
+                new Tuple("guid1", "digest-guid1", (long) "guid1".hashCode()),
+                new Tuple("guid2", null, null),
+                new Tuple("guid3", "digest-guid3", (long) "guid3".hashCode())
+            );
+    }
+
+    @Test
+    public void getBulkMetadataWithoutCacheWithReadBandwidthCapThenDigestComputedFromThrottledStream()
+        throws Exception {
+        // Given
+        ContentAddressableStorage contentAddressableStorage = mock(ContentAddressableStorage.class);
+        offerService = new DefaultOfferServiceImpl(
+            contentAddressableStorage,
+            offerLogCompactionDatabaseService,
+            offerDatabaseService,
+            offerSequenceDatabaseService,
+            configuration,
+            null,
+            offerLogAndCompactedOfferLogService,
+            null,
+            MAX_BATCH_THREAD_POOL_SIZE,
+            BATCH_METADATA_COMPUTATION_TIMEOUT,
+            2,
+            1_000_000L
+        );
+
+        doAnswer(args -> {
+            byte[] data = ((String) args.getArgument(1)).getBytes();
+            return new ObjectContent(new ByteArrayInputStream(data), data.length);
+        })
+            .when(contentAddressableStorage)
+            .getObject(eq(CONTAINER_PATH), anyString());
+
+        // When
+        StorageBulkMetadataResult result = offerService.getBulkMetadata(
+            CONTAINER_PATH,
+            Arrays.asList("guid1", "guid2"),
+            true
+        );
+
+        // Then
+        assertThat(result.getObjectMetadata())
+            .extracting(
+                StorageBulkMetadataResultEntry::getObjectName,
+                StorageBulkMetadataResultEntry::getDigest,
+                StorageBulkMetadataResultEntry::getSize
+            )
+            .containsExactlyInAnyOrder(
+                new Tuple("guid1", new Digest(getDefaultDigestType()).update("guid1").digestHex(), 5L),
+                new Tuple("guid2", new Digest(getDefaultDigestType()).update("guid2").digestHex(), 5L)
+            );
+        verify(contentAddressableStorage, never()).getObjectMetadata(anyString(), anyString(), anyBoolean());
+    }
+
+    @Test
+    public void getBulkMetadataWithoutCacheWithTimeoutThenRemainingObjectsNotRead() throws Exception {
+        // Given
+        ContentAddressableStorage contentAddressableStorage = mock(ContentAddressableStorage.class);
+        offerService = new DefaultOfferServiceImpl(
+            contentAddressableStorage,
+            offerLogCompactionDatabaseService,
+            offerDatabaseService,
+            offerSequenceDatabaseService,
+            configuration,
+            null,
+            offerLogAndCompactedOfferLogService,
+            null,
+            MAX_BATCH_THREAD_POOL_SIZE,
+            1,
+            1,
+            0L
+        );
+
+        doAnswer(args -> {
+            String objectName = args.getArgument(1);
+            TimeUnit.MILLISECONDS.sleep(400);
+            return new StorageMetadataResult(objectName, null, "digest-" + objectName, 10L, null, null);
+        })
+            .when(contentAddressableStorage)
+            .getObjectMetadata(eq(CONTAINER_PATH), anyString(), eq(true));
+        List<String> objectIds = Arrays.asList("guid1", "guid2", "guid3", "guid4", "guid5", "guid6", "guid7");
+
+        // When / Then
+        assertThatThrownBy(() -> offerService.getBulkMetadata(CONTAINER_PATH, objectIds, true))
+            .isInstanceOf(ContentAddressableStorageException.class)
+            .hasMessage("Batch object information timed out");
+        TimeUnit.SECONDS.sleep(1);
+        verify(contentAddressableStorage, atMost(4)).getObjectMetadata(eq(CONTAINER_PATH), anyString(), eq(true));
+    }
+
+    @Test
+    public void givenTapeOfferWithReadBandwidthCapWhenCreateOfferServiceThenKO() {
+        // Given
+        configuration.setProvider(StorageProvider.TAPE_LIBRARY.getValue());
+        ContentAddressableStorage contentAddressableStorage = mock(ContentAddressableStorage.class);
+
+        // When / Then
+        assertThatThrownBy(
+            () ->
+                new DefaultOfferServiceImpl(
+                    contentAddressableStorage,
+                    offerLogCompactionDatabaseService,
+                    offerDatabaseService,
+                    offerSequenceDatabaseService,
+                    configuration,
+                    null,
+                    offerLogAndCompactedOfferLogService,
+                    null,
+                    MAX_BATCH_THREAD_POOL_SIZE,
+                    BATCH_METADATA_COMPUTATION_TIMEOUT,
+                    2,
+                    1_000_000L
+                )
+        )
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("must be 0 for tape offers");
+    }
+
     @Test
     public void givenTapeOfferWhenCreateAccessRequestThenOK() throws ContentAddressableStorageException {
         // Given
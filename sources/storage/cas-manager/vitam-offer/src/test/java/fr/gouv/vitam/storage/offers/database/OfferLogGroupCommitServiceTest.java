@@ -0,0 +1,353 @@
+/*
+ * Copyright French Prime minister Office/SGMAP/DINSIC/Vitam Program (2015-2022)
+ *
+ * contact.vitam@culture.gouv.fr
+ *
+ * This software is a computer program whose purpose is to implement a digital archiving back-office system managing
+ * high volumetry securely and efficiently.
+ *
+ * This software is governed by the CeCILL 2.1 license under French law and abiding by the rules of distribution of free
+ * software. You can use, modify and/ or redistribute the software under the terms of the CeCILL 2.1 license as
+ * circulated by CEA, CNRS and INRIA at the following URL "https://cecill.info".
+ *
+ * As a counterpart to the access to the source code and rights to copy, modify and redistribute granted by the license,
+ * users are provided only with a limited warranty and the software's author, the holder of the economic rights, and the
+ * successive licensors have only limited liability.
+ *
+ * In this respect, the user's attention is drawn to the risks associated with loading, using, modifying and/or
+ * developing or reproducing the software by the user in light of its specific status of free software, that may mean
+ * that it is complicated to manipulate, and that also therefore means that it is reserved for developers and
+ * experienced professionals having in-depth computer knowledge. Users are therefore encouraged to load and test the
+ * software's suitability as regards their requirements in conditions enabling the security of their systems and/or data
+ * to be ensured and, more generally, to use and operate it in the same conditions as regards security.
+ *
+ * The fact that you are presently reading this means that you have had knowledge of the CeCILL 2.1 license and that you
+ * accept its terms.
+ */
+package fr.gouv.vitam.storage.offers.database;
+
+import com.google.common.util.concurrent.Uninterruptibles;
+import fr.gouv.vitam.common.logging.VitamLogger;
+import fr.gouv.vitam.common.logging.VitamLoggerFactory;
+import fr.gouv.vitam.storage.engine.common.model.OfferLog;
+import fr.gouv.vitam.storage.engine.common.model.OfferLogAction;
+import fr.gouv.vitam.workspace.api.exception.ContentAddressableStorageDatabaseException;
+import fr.gouv.vitam.workspace.api.exception.ContentAddressableStorageServerException;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static fr.gouv.vitam.storage.offers.database.OfferSequenceDatabaseService.BACKUP_LOG_SEQUENCE_ID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.Assume.assumeTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+public class OfferLogGroupCommitServiceTest {
+
+    private static final VitamLogger LOGGER = VitamLoggerFactory.getInstance(OfferLogGroupCommitServiceTest.class);
+
+    private static final int DB_LATENCY_IN_MILLIS = 2;
+
+    @Rule
+    public MockitoRule rule = MockitoJUnit.rule();
+
+    @Mock
+    private OfferLogDatabaseService offerLogDatabaseService;
+
+    @Mock
+    private OfferSequenceDatabaseService offerSequenceDatabaseService;
+
+    private OfferLogGroupCommitService instance;
+
+    @After
+    public void after() {
+        if (instance != null) {
+            instance.close();
+        }
+    }
+
+    @Test
+    public void should_save_single_offer_log() throws Exception {
+        // Given
+        doReturn(10L).when(offerSequenceDatabaseService).getNextSequence(BACKUP_LOG_SEQUENCE_ID, 1L);
+        List<OfferLog> savedOfferLogs = recordSavedOfferLogs();
+        instance = new OfferLogGroupCommitService(offerLogDatabaseService, offerSequenceDatabaseService, 100, 0);
+
+        // When
+        instance.save("container", Collections.singletonList("file1"), OfferLogAction.WRITE);
+
+        // Then
+        assertThat(savedOfferLogs).hasSize(1);
+        assertThat(savedOfferLogs.get(0).getSequence()).isEqualTo(10L);
+        assertThat(savedOfferLogs.get(0).getContainer()).isEqualTo("container");
+        assertThat(savedOfferLogs.get(0).getFileName()).isEqualTo("file1");
+        assertThat(savedOfferLogs.get(0).getAction()).isEqualTo(OfferLogAction.WRITE);
+    }
+
+    @Test
+    public void should_save_bulk_offer_logs_with_contiguous_sequences() throws Exception {
+        // Given
+        doReturn(5L).when(offerSequenceDatabaseService).getNextSequence(BACKUP_LOG_SEQUENCE_ID, 3L);
+        List<OfferLog> savedOfferLogs = recordSavedOfferLogs();
+        instance = new OfferLogGroupCommitService(offerLogDatabaseService, offerSequenceDatabaseService, 100, 0);
+
+        // When
+        instance.save("container", Arrays.asList("file1", "file2", "file3"), OfferLogAction.DELETE);
+
+        // Then
+        assertThat(savedOfferLogs).extracting(OfferLog::getSequence).containsExactly(5L, 6L, 7L);
+        assertThat(savedOfferLogs).extracting(OfferLog::getFileName).containsExactly("file1", "file2", "file3");
+        assertThat(savedOfferLogs).extracting(OfferLog::getAction).containsOnly(OfferLogAction.DELETE);
+    }
+
+    @Test
+    public void should_not_save_empty_offer_logs() throws Exception {
+        // Given
+        instance = new OfferLogGroupCommitService(offerLogDatabaseService, offerSequenceDatabaseService, 100, 0);
+
+        // When
+        instance.save("container", Collections.emptyList(), OfferLogAction.WRITE);
+
+        // Then
+        verify(offerSequenceDatabaseService, never()).getNextSequence(anyString(), anyLong());
+        verify(offerLogDatabaseService, never()).saveAll(anyList());
+    }
+
+    @Test
+    public void should_report_database_error_to_caller() throws Exception {
+        // Given
+        doReturn(1L).when(offerSequenceDatabaseService).getNextSequence(eq(BACKUP_LOG_SEQUENCE_ID), anyLong());
+        doThrow(new ContentAddressableStorageDatabaseException("error"))
+            .when(offerLogDatabaseService)
+            .saveAll(anyList());
+        instance = new OfferLogGroupCommitService(offerLogDatabaseService, offerSequenceDatabaseService, 100, 0);
+
+        // When
+        ThrowingCallable save = () ->
+            instance.save("container", Collections.singletonList("file1"), OfferLogAction.WRITE);
+
+        // Then
+        assertThatThrownBy(save).isInstanceOf(ContentAddressableStorageDatabaseException.class);
+    }
+
+    @Test
+    public void should_group_concurrent_offer_logs_in_sequence_order() throws Exception {
+        // Given
+        AtomicLong sequence = simulateSequenceDatabase();
+        List<List<OfferLog>> savedBatches = recordSavedBatches();
+        instance = new OfferLogGroupCommitService(offerLogDatabaseService, offerSequenceDatabaseService, 50, 5);
+
+        // When
+        int nbObjects = 1000;
+        runConcurrently(16, nbObjects, i ->
+            instance.save("container", Collections.singletonList("file" + i), OfferLogAction.WRITE)
+        );
+
+        // Then
+        List<OfferLog> allOfferLogs = savedBatches.stream().flatMap(List::stream).collect(Collectors.toList());
+        assertThat(allOfferLogs).hasSize(nbObjects);
+        assertThat(allOfferLogs)
+            .extracting(OfferLog::getSequence)
+            .containsExactlyElementsOf(LongStream.rangeClosed(1L, nbObjects).boxed().collect(Collectors.toList()));
+        assertThat(allOfferLogs)
+            .extracting(OfferLog::getFileName)
+            .containsExactlyInAnyOrderElementsOf(
+                IntStream.range(0, nbObjects).mapToObj(i -> "file" + i).collect(Collectors.toList())
+            );
+        assertThat(savedBatches).allMatch(batch -> batch.size() <= 50);
+        assertThat(savedBatches.size()).isLessThan(nbObjects);
+        assertThat(sequence.get()).isEqualTo(nbObjects);
+    }
+
+    /**
+     * Compares offer log write throughput (objects/sec) of the legacy path (1 sequence increment + 1 insert per
+     * object) with the group commit path, using a simulated database round-trip latency.
+     * Run with -DofferLogGroupCommitBenchmark=true (and optionally -DofferLogGroupCommitBenchmarkObjects=N).
+     */
+    @Test
+    public void benchmark_offer_log_write_throughput() throws Exception {
+        assumeTrue(Boolean.getBoolean("offerLogGroupCommitBenchmark"));
+
+        // Given
+        simulateSequenceDatabase();
+        recordSavedBatches();
+        doAnswer(args -> {
+                Uninterruptibles.sleepUninterruptibly(DB_LATENCY_IN_MILLIS, TimeUnit.MILLISECONDS);
+                return null;
+            })
+            .when(offerLogDatabaseService)
+            .save(anyString(), anyString(), any(), anyLong());
+        instance = new OfferLogGroupCommitService(offerLogDatabaseService, offerSequenceDatabaseService, 1000, 2);
+
+        int nbThreads = 32;
+        int nbObjects = Integer.getInteger("offerLogGroupCommitBenchmarkObjects", 2000);
+
+        // When
+        long legacyStart = System.nanoTime();
+        runConcurrently(nbThreads, nbObjects, i -> {
+            long seq = offerSequenceDatabaseService.getNextSequence(BACKUP_LOG_SEQUENCE_ID);
+            offerLogDatabaseService.save("container", "file" + i, OfferLogAction.WRITE, seq);
+        });
+        double legacyObjectsPerSecond = nbObjects * 1_000_000_000d / (System.nanoTime() - legacyStart);
+
+        long groupCommitStart = System.nanoTime();
+        runConcurrently(nbThreads, nbObjects, i ->
+            instance.save("container", Collections.singletonList("file" + i), OfferLogAction.WRITE)
+        );
+        double groupCommitObjectsPerSecond = nbObjects * 1_000_000_000d / (System.nanoTime() - groupCommitStart);
+
+        // Then
+        LOGGER.info(
+            String.format(
+                "Offer log write throughput (%d threads, %d ms db latency): " +
+                "legacy=%.0f objects/s, group commit=%.0f objects/s",
+                nbThreads,
+                DB_LATENCY_IN_MILLIS,
+                legacyObjectsPerSecond,
+                groupCommitObjectsPerSecond
+            )
+        );
+        assertThat(groupCommitObjectsPerSecond).isGreaterThan(legacyObjectsPerSecond);
+    }
+
+    @Test
+    public void should_reject_offer_logs_after_close() throws Exception {
+        // Given
+        instance = new OfferLogGroupCommitService(offerLogDatabaseService, offerSequenceDatabaseService, 100, 0);
+        instance.close();
+
+        // When
+        ThrowingCallable save = () ->
+            instance.save("container", Collections.singletonList("file1"), OfferLogAction.WRITE);
+
+        // Then
+        assertThatThrownBy(save)
+            .isInstanceOf(ContentAddressableStorageServerException.class)
+            .hasMessageContaining("shutdown");
+        verify(offerLogDatabaseService, never()).saveAll(anyList());
+    }
+
+    @Test
+    public void should_fail_when_offer_logs_not_committed_in_time() throws Exception {
+        // Given
+        doReturn(1L).when(offerSequenceDatabaseService).getNextSequence(eq(BACKUP_LOG_SEQUENCE_ID), anyLong());
+        CountDownLatch commitLatch = new CountDownLatch(1);
+        doAnswer(args -> {
+                commitLatch.await();
+                return null;
+            })
+            .when(offerLogDatabaseService)
+            .saveAll(anyList());
+        instance = new OfferLogGroupCommitService(offerLogDatabaseService, offerSequenceDatabaseService, 100, 0, 100L);
+
+        try {
+            // When
+            ThrowingCallable save = () ->
+                instance.save("container", Collections.singletonList("file1"), OfferLogAction.WRITE);
+
+            // Then
+            assertThatThrownBy(save)
+                .isInstanceOf(ContentAddressableStorageServerException.class)
+                .hasMessageContaining("not committed within 100 ms");
+        } finally {
+            commitLatch.countDown();
+        }
+    }
+
+    private AtomicLong simulateSequenceDatabase() throws ContentAddressableStorageDatabaseException {
+        AtomicLong sequence = new AtomicLong();
+        doAnswer(args -> {
+                // Concurrent updates of the single sequence document are serialized by the database
+                synchronized (sequence) {
+                    Uninterruptibles.sleepUninterruptibly(DB_LATENCY_IN_MILLIS, TimeUnit.MILLISECONDS);
+                    long inc = args.getArgument(1);
+                    return sequence.addAndGet(inc) + 1L - inc;
+                }
+            })
+            .when(offerSequenceDatabaseService)
+            .getNextSequence(eq(BACKUP_LOG_SEQUENCE_ID), anyLong());
+        doAnswer(args -> offerSequenceDatabaseService.getNextSequence(BACKUP_LOG_SEQUENCE_ID, 1L))
+            .when(offerSequenceDatabaseService)
+            .getNextSequence(BACKUP_LOG_SEQUENCE_ID);
+        return sequence;
+    }
+
+    private List<List<OfferLog>> recordSavedBatches() throws Exception {
+        List<List<OfferLog>> savedBatches = Collections.synchronizedList(new ArrayList<>());
+        doAnswer(args -> {
+                Uninterruptibles.sleepUninterruptibly(DB_LATENCY_IN_MILLIS, TimeUnit.MILLISECONDS);
+                savedBatches.add(new ArrayList<>(args.getArgument(0)));
+                return null;
+            })
+            .when(offerLogDatabaseService)
+            .saveAll(anyList());
+        return savedBatches;
+    }
+
+    private List<OfferLog> recordSavedOfferLogs() throws Exception {
+        List<OfferLog> savedOfferLogs = Collections.synchronizedList(new ArrayList<>());
+        doAnswer(args -> {
+                savedOfferLogs.addAll(args.getArgument(0));
+                return null;
+            })
+            .when(offerLogDatabaseService)
+            .saveAll(anyList());
+        return savedOfferLogs;
+    }
+
+    private void runConcurrently(int nbThreads, int nbTasks, IndexedTask task) {
+        ExecutorService executorService = Executors.newFixedThreadPool(nbThreads);
+        try {
+            CompletableFuture<?>[] futures = IntStream.range(0, nbTasks)
+                .mapToObj(i ->
+                    CompletableFuture.runAsync(
+                        () -> {
+                            try {
+                                task.run(i);
+                            } catch (Exception e) {
+                                throw new RuntimeException(e);
+                            }
+                        },
+                        executorService
+                    )
+                )
+                .toArray(CompletableFuture[]::new);
+            CompletableFuture.allOf(futures).join();
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    @FunctionalInterface
+    private interface IndexedTask {
+        void run(int index) throws Exception;
+    }
+}
@@ -293,6 +293,44 @@ public class DefaultOfferResourceTest {
             .get(OBJECTS_URI + OBJECT_TYPE_URI + OBJECT_ID_URI, OBJECT_CODE, "id1");
     }
 
+    @Test
+    public void getObjectRangeTestOK() throws Exception {
+        try (FileInputStream in = new FileInputStream(PropertiesUtils.findFile(ARCHIVE_FILE_TXT))) {
+            assertNotNull(in);
+            with()
+                .header(GlobalDataRest.X_TENANT_ID, "1")
+                .header(GlobalDataRest.VITAM_CONTENT_LENGTH, "8766")
+                .header(GlobalDataRest.X_DIGEST_ALGORITHM, DigestType.SHA512.getName())
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .body(in)
+                .when()
+                .put(OBJECTS_URI + OBJECT_TYPE_URI + OBJECT_ID_URI, OBJECT_CODE, "id1");
+        }
+
+        // partial content
+        given()
+            .header(GlobalDataRest.X_TENANT_ID, "1")
+            .header(GlobalDataRest.RANGE, "bytes=100-199")
+            .contentType(MediaType.APPLICATION_JSON)
+            .then()
+            .statusCode(Status.PARTIAL_CONTENT.getStatusCode())
+            .header(GlobalDataRest.CONTENT_RANGE, "bytes 100-199/8766")
+            .header(GlobalDataRest.X_CONTENT_LENGTH, "100")
+            .when()
+            .get(OBJECTS_URI + OBJECT_TYPE_URI + OBJECT_ID_URI, OBJECT_CODE, "id1");
+
+        // range not satisfiable
+        given()
+            .header(GlobalDataRest.X_TENANT_ID, "1")
+            .header(GlobalDataRest.RANGE, "bytes=8766-")
+            .contentType(MediaType.APPLICATION_JSON)
+            .then()
+            .statusCode(Status.REQUESTED_RANGE_NOT_SATISFIABLE.getStatusCode())
+            .header(GlobalDataRest.CONTENT_RANGE, "bytes */8766")
+            .when()
+            .get(OBJECTS_URI + OBJECT_TYPE_URI + OBJECT_ID_URI, OBJECT_CODE, "id1");
+    }
+
     @Test
     public void getObjectWithdot() throws Exception {
         try (FileInputStream in = new FileInputStream(PropertiesUtils.findFile(ARCHIVE_FILE_TXT))) {
@@ -26,6 +26,8 @@
  */
 package fr.gouv.vitam.storage.driver.model;
 
+import fr.gouv.vitam.common.model.ByteRange;
+
 /**
  * Holds minimal needed parameters that may be needed to send a request on an
  * object on the distant storage offer : object informations.
@@ -33,6 +35,7 @@ package fr.gouv.vitam.storage.driver.model;
 public class StorageObjectRequest extends StorageRequest {
 
     private final String guid;
+    private final ByteRange range;
 
     /**
      * Initialize the needed parameters for request on an object.
@@ -42,8 +45,21 @@ public class StorageObjectRequest extends StorageRequest {
      * @param guid the object guid
      */
     public StorageObjectRequest(Integer tenantId, String type, String guid) {
+        this(tenantId, type, guid, null);
+    }
+
+    /**
+     * Initialize the needed parameters for a byte range request on an object.
+     *
+     * @param tenantId The request tenantId
+     * @param type the type The request type
+     * @param guid the object guid
+     * @param range the byte range to read, or null to read the whole object
+     */
+    public StorageObjectRequest(Integer tenantId, String type, String guid, ByteRange range) {
         super(tenantId, type);
         this.guid = guid;
+        this.range = range;
     }
 
     public StorageObjectRequest(Integer tenantId, String guid) {
@@ -59,8 +75,17 @@ public class StorageObjectRequest extends StorageRequest {
         return guid;
     }
 
+    /**
+     * Gets the requested byte range
+     *
+     * @return the byte range, or null if the whole object is requested
+     */
+    public ByteRange getRange() {
+        return range;
+    }
+
     @Override
     public String toString() {
-        return "GUID: " + guid + " " + super.toString();
+        return "GUID: " + guid + (range != null ? " RANGE: " + range : "") + " " + super.toString();
     }
 }
@@ -32,6 +32,7 @@ import fr.gouv.vitam.common.client.BasicClient;
 import fr.gouv.vitam.common.client.VitamContext;
 import fr.gouv.vitam.common.collection.CloseableIterator;
 import fr.gouv.vitam.common.exception.InvalidParseOperationException;
+import fr.gouv.vitam.common.model.ByteRange;
 import fr.gouv.vitam.common.model.RequestResponse;
 import fr.gouv.vitam.common.model.RequestResponseOK;
 import fr.gouv.vitam.common.model.storage.AccessRequestStatus;
@@ -194,6 +195,30 @@ public interface StorageClient extends BasicClient {
     )
         throws StorageServerClientException, StorageNotFoundException, StorageUnavailableDataFromAsyncOfferClientException;
 
+    /**
+     * Retrieves a byte range of a binary object knowing its guid as an inputStream for a specific tenant/strategy.
+     * The returned response status is 206 (partial content) with a Content-Range header when the range has been
+     * honored, 200 when the whole object is returned, or 416 when the range is not satisfiable.
+     *
+     * @param strategyId the storage strategy id
+     * @param guid vitam guid of the object to be returned
+     * @param type the object type
+     * @param logInfo additional information for accessLog
+     * @param range the byte range to read, or null to read the whole object
+     * @return the object (or object range) requested
+     * @throws StorageServerClientException if the Server got an internal error
+     * @throws StorageNotFoundException if the Server got a NotFound result, if the container or the object does not exist
+     * @throws StorageUnavailableDataFromAsyncOfferClientException if object is not available for immediate access from async offer
+     */
+    Response getContainerAsync(
+        String strategyId,
+        String guid,
+        DataCategory type,
+        AccessLogInfoModel logInfo,
+        ByteRange range
+    )
+        throws StorageServerClientException, StorageNotFoundException, StorageUnavailableDataFromAsyncOfferClientException;
+
     /**
      * List object type in container
      *
@@ -271,6 +296,25 @@ public interface StorageClient extends BasicClient {
         Collection<String> objectIds
     ) throws StorageServerClientException;
 
+    /**
+     * Get object information from objects in storage
+     *
+     * @param strategyId the storage strategy id
+     * @param type the object type to list
+     * @param offerIds offers ids
+     * @param objectIds list of object ids
+     * @param noCache noCache forces digest computation by offers.
+     * @return informations
+     * @throws StorageServerClientException StorageServerClientException
+     */
+    RequestResponse<BatchObjectInformationResponse> getBatchObjectInformation(
+        String strategyId,
+        DataCategory type,
+        Collection<String> offerIds,
+        Collection<String> objectIds,
+        boolean noCache
+    ) throws StorageServerClientException;
+
     /**
      * @param objectId objectId
      * @param category category
@@ -28,6 +28,7 @@ package fr.gouv.vitam.storage.engine.client;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import fr.gouv.vitam.common.GlobalDataRest;
 import fr.gouv.vitam.common.LocalDateUtil;
 import fr.gouv.vitam.common.PropertiesUtils;
 import fr.gouv.vitam.common.VitamConfiguration;
@@ -39,6 +40,7 @@ import fr.gouv.vitam.common.digest.DigestType;
 import fr.gouv.vitam.common.exception.InvalidParseOperationException;
 import fr.gouv.vitam.common.json.JsonHandler;
 import fr.gouv.vitam.common.logging.SysErrLogger;
+import fr.gouv.vitam.common.model.ByteRange;
 import fr.gouv.vitam.common.model.RequestResponse;
 import fr.gouv.vitam.common.model.RequestResponseOK;
 import fr.gouv.vitam.common.model.storage.AccessRequestStatus;
@@ -67,8 +69,10 @@ import fr.gouv.vitam.storage.engine.common.referential.model.StorageStrategy;
 import org.apache.commons.io.IOUtils;
 
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedHashMap;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.Response.Status;
+import java.io.ByteArrayInputStream;
 import java.io.FileNotFoundException;
 import java.io.InputStream;
 import java.nio.charset.Charset;
@@ -238,6 +242,36 @@ public class StorageClientMock extends AbstractMockClient implements StorageClie
         );
     }
 
+    @Override
+    public Response getContainerAsync(
+        String strategyId,
+        String guid,
+        DataCategory type,
+        AccessLogInfoModel logInfo,
+        ByteRange range
+    ) throws StorageServerClientException, StorageNotFoundException {
+        if (range == null) {
+            return getContainerAsync(strategyId, guid, type, logInfo);
+        }
+        byte[] content = MOCK_GET_FILE_CONTENT.getBytes(Charset.defaultCharset());
+        if (!range.isSatisfiable(content.length)) {
+            return new FakeInboundResponse(Status.REQUESTED_RANGE_NOT_SATISFIABLE, null, null, null);
+        }
+        ByteRange resolvedRange = range.resolve(content.length);
+        MultivaluedHashMap<String, Object> headers = new MultivaluedHashMap<>();
+        headers.add(GlobalDataRest.CONTENT_RANGE, resolvedRange.toContentRange(content.length));
+        return new FakeInboundResponse(
+            Status.PARTIAL_CONTENT,
+            new ByteArrayInputStream(
+                content,
+                resolvedRange.getFirst().intValue(),
+                (int) resolvedRange.getLength()
+            ),
+            MediaType.APPLICATION_OCTET_STREAM_TYPE,
+            headers
+        );
+    }
+
     @Override
     public CloseableIterator<ObjectEntry> listContainer(String strategyId, String offerId, DataCategory type) {
         throw new IllegalStateException("Stop use this please");
@@ -293,6 +327,17 @@ public class StorageClientMock extends AbstractMockClient implements StorageClie
         throw new UnsupportedOperationException("Not Implemented");
     }
 
+    @Override
+    public RequestResponse<BatchObjectInformationResponse> getBatchObjectInformation(
+        String strategyId,
+        DataCategory type,
+        Collection<String> offerIds,
+        Collection<String> objectIds,
+        boolean noCache
+    ) {
+        throw new UnsupportedOperationException("Not Implemented");
+    }
+
     @Override
     public RequestResponseOK copyObjectFromOfferToOffer(
         String objectId,
@@ -45,6 +45,7 @@ import fr.gouv.vitam.common.exception.VitamClientInternalException;
 import fr.gouv.vitam.common.json.JsonHandler;
 import fr.gouv.vitam.common.logging.VitamLogger;
 import fr.gouv.vitam.common.logging.VitamLoggerFactory;
+import fr.gouv.vitam.common.model.ByteRange;
 import fr.gouv.vitam.common.model.RequestResponse;
 import fr.gouv.vitam.common.model.RequestResponseOK;
 import fr.gouv.vitam.common.model.storage.AccessRequestStatus;
@@ -315,6 +316,17 @@ class StorageClientRest extends DefaultClient implements StorageClient {
         DataCategory type,
         Collection<String> offerIds,
         Collection<String> objectIds
+    ) throws StorageServerClientException {
+        return getBatchObjectInformation(strategyId, type, offerIds, objectIds, false);
+    }
+
+    @Override
+    public RequestResponse<BatchObjectInformationResponse> getBatchObjectInformation(
+        String strategyId,
+        DataCategory type,
+        Collection<String> offerIds,
+        Collection<String> objectIds,
+        boolean noCache
     ) throws StorageServerClientException {
         ParametersChecker.checkParameter(GUID_MUST_HAVE_A_VALID_VALUE, objectIds);
         ParametersChecker.checkParameter(GUID_MUST_HAVE_A_VALID_VALUE, objectIds.toArray());
@@ -323,6 +335,7 @@ class StorageClientRest extends DefaultClient implements StorageClient {
             .withPath("/batch_info/" + type.getCollectionName())
             .withHeader(GlobalDataRest.X_TENANT_ID, ParameterHelper.getTenantParameter())
             .withHeader(GlobalDataRest.X_STRATEGY_ID, strategyId)
+            .withHeader(GlobalDataRest.X_OFFER_NO_CACHE, Boolean.toString(noCache))
             .withBody(objectIds)
             .withJson();
 
@@ -431,6 +444,7 @@ class StorageClientRest extends DefaultClient implements StorageClient {
         switch (status) {
             case OK:
             case CREATED:
+            case PARTIAL_CONTENT:
                 return response;
             case CONFLICT:
                 throw new StorageAlreadyExistsClientException(
@@ -485,6 +499,30 @@ class StorageClientRest extends DefaultClient implements StorageClient {
         String objectName,
         DataCategory type,
         AccessLogInfoModel logInfo
+    )
+        throws StorageServerClientException, StorageNotFoundException, StorageUnavailableDataFromAsyncOfferClientException {
+        return getContainerAsync(strategyId, offerId, objectName, type, logInfo, null);
+    }
+
+    @Override
+    public Response getContainerAsync(
+        String strategyId,
+        String guid,
+        DataCategory type,
+        AccessLogInfoModel logInfo,
+        ByteRange range
+    )
+        throws StorageServerClientException, StorageNotFoundException, StorageUnavailableDataFromAsyncOfferClientException {
+        return getContainerAsync(strategyId, null, guid, type, logInfo, range);
+    }
+
+    private Response getContainerAsync(
+        String strategyId,
+        String offerId,
+        String objectName,
+        DataCategory type,
+        AccessLogInfoModel logInfo,
+        ByteRange range
     )
         throws StorageServerClientException, StorageNotFoundException, StorageUnavailableDataFromAsyncOfferClientException {
         Integer tenantId = ParameterHelper.getTenantParameter();
@@ -494,12 +532,16 @@ class StorageClientRest extends DefaultClient implements StorageClient {
             .withHeader(GlobalDataRest.X_TENANT_ID, tenantId)
             .withHeader(GlobalDataRest.X_STRATEGY_ID, strategyId)
             .withHeaderIgnoreNull(GlobalDataRest.X_OFFER, offerId)
+            .withHeaderIgnoreNull(GlobalDataRest.RANGE, range)
             .withBody(logInfo)
             .withContentType(MediaType.APPLICATION_JSON_TYPE)
             .withAccept(MediaType.APPLICATION_OCTET_STREAM_TYPE);
         Response response = null;
         try {
             response = make(request);
+            if (isRangeNotSatisfiable(range, response)) {
+                return response;
+            }
             checkCustomResponseStatusForUnavailableDataFromAsyncOffer(response);
             return handleCommonResponseStatus(response);
         } catch (final VitamClientInternalException | StorageAlreadyExistsClientException e) {
@@ -510,12 +552,20 @@ class StorageClientRest extends DefaultClient implements StorageClient {
         } catch (StorageNotFoundClientException e) {
             throw new StorageNotFoundException(e);
         } finally {
-            if (response != null && SUCCESSFUL != response.getStatusInfo().getFamily()) {
+            if (
+                response != null &&
+                SUCCESSFUL != response.getStatusInfo().getFamily() &&
+                !isRangeNotSatisfiable(range, response)
+            ) {
                 response.close();
             }
         }
     }
 
+    private static boolean isRangeNotSatisfiable(ByteRange range, Response response) {
+        return range != null && response.getStatus() == Response.Status.REQUESTED_RANGE_NOT_SATISFIABLE.getStatusCode();
+    }
+
     @Override
     public CloseableIterator<ObjectEntry> listContainer(String strategyId, String offerId, DataCategory type)
         throws StorageServerClientException, StorageNotFoundClientException {
@@ -38,6 +38,7 @@ import fr.gouv.vitam.common.digest.DigestType;
 import fr.gouv.vitam.common.exception.VitamApplicationServerException;
 import fr.gouv.vitam.common.guid.GUIDFactory;
 import fr.gouv.vitam.common.json.JsonHandler;
+import fr.gouv.vitam.common.model.ByteRange;
 import fr.gouv.vitam.common.model.RequestResponse;
 import fr.gouv.vitam.common.model.RequestResponseOK;
 import fr.gouv.vitam.common.model.storage.AccessRequestStatus;
@@ -690,6 +691,46 @@ public class StorageClientRestTest extends ResteasyTestApplication {
         assertTrue(IOUtils.contentEquals(stream, stream2));
     }
 
+    @RunWithCustomExecutor
+    @Test
+    public void successGetContainerObjectRangeExecution() throws Exception {
+        VitamThreadUtils.getVitamSession().setTenantId(TENANT_ID);
+        when(mock.get()).thenReturn(
+            Response.status(Status.PARTIAL_CONTENT)
+                .entity(StreamUtils.toInputStream("tam"))
+                .header(GlobalDataRest.CONTENT_RANGE, "bytes 2-4/10")
+                .build()
+        );
+        final Response response = client.getContainerAsync(
+            "idStrategy",
+            "guid",
+            DataCategory.OBJECT,
+            AccessLogUtils.getNoLogAccessLog(),
+            ByteRange.of(2, 4)
+        );
+        assertEquals(Status.PARTIAL_CONTENT.getStatusCode(), response.getStatus());
+        assertEquals("bytes 2-4/10", response.getHeaderString(GlobalDataRest.CONTENT_RANGE));
+        assertTrue(IOUtils.contentEquals(response.readEntity(InputStream.class), StreamUtils.toInputStream("tam")));
+    }
+
+    @RunWithCustomExecutor
+    @Test
+    public void getContainerObjectRangeNotSatisfiableReturnsResponse() throws Exception {
+        VitamThreadUtils.getVitamSession().setTenantId(TENANT_ID);
+        when(mock.get()).thenReturn(Response.status(Status.REQUESTED_RANGE_NOT_SATISFIABLE).build());
+        try (
+            Response response = client.getContainerAsync(
+                "idStrategy",
+                "guid",
+                DataCategory.OBJECT,
+                AccessLogUtils.getNoLogAccessLog(),
+                ByteRange.from(10)
+            )
+        ) {
+            assertEquals(Status.REQUESTED_RANGE_NOT_SATISFIABLE.getStatusCode(), response.getStatus());
+        }
+    }
+
     @RunWithCustomExecutor
     @Test
     public void failsCopyObjectExecutionWhenPreconditionFailed() {
@@ -27,6 +27,7 @@
 package fr.gouv.vitam.storage.engine.common.model.request;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import fr.gouv.vitam.storage.engine.common.model.OfferDiffMode;
 
 /**
  * Offer diff request model
@@ -57,6 +58,12 @@ public class OfferDiffRequest {
     @JsonProperty("tenantId")
     private Integer tenantId;
 
+    /**
+     * diff mode. Defaults to {@link OfferDiffMode#SORT}
+     */
+    @JsonProperty("mode")
+    private OfferDiffMode mode;
+
     public OfferDiffRequest() {
         // Empty constructor for deserialization
     }
@@ -96,4 +103,13 @@ public class OfferDiffRequest {
         this.tenantId = tenantId;
         return this;
     }
+
+    public OfferDiffMode getMode() {
+        return mode;
+    }
+
+    public OfferDiffRequest setMode(OfferDiffMode mode) {
+        this.mode = mode;
+        return this;
+    }
 }
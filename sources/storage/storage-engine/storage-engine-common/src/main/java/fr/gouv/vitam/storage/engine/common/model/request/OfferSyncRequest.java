@@ -51,6 +51,12 @@ public class OfferSyncRequest {
     @JsonProperty("offset")
     private Long offset;
 
+    /**
+     * resume an interrupted synchronization from its last safe point, instead of starting from offset.
+     */
+    @JsonProperty("resume")
+    private boolean resume;
+
     /**
      * container to audit.
      */
@@ -103,6 +109,15 @@ public class OfferSyncRequest {
         return this;
     }
 
+    public boolean isResume() {
+        return resume;
+    }
+
+    public OfferSyncRequest setResume(boolean resume) {
+        this.resume = resume;
+        return this;
+    }
+
     public String getContainer() {
         return container;
     }
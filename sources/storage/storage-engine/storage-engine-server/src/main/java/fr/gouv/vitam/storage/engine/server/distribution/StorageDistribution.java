@@ -29,6 +29,7 @@ package fr.gouv.vitam.storage.engine.server.distribution;
 import com.fasterxml.jackson.databind.JsonNode;
 import fr.gouv.vitam.common.accesslog.AccessLogInfoModel;
 import fr.gouv.vitam.common.collection.CloseableIterator;
+import fr.gouv.vitam.common.model.ByteRange;
 import fr.gouv.vitam.common.model.RequestResponse;
 import fr.gouv.vitam.common.model.VitamAutoCloseable;
 import fr.gouv.vitam.common.model.storage.AccessRequestStatus;
@@ -252,6 +253,34 @@ public interface StorageDistribution extends VitamAutoCloseable {
         String offerId
     ) throws StorageException;
 
+    /**
+     * Get a byte range of a specific Object binary data as an input stream.
+     * <p>
+     * A partial content (206) response is returned when the range has been honored by the offer, and a requested
+     * range not satisfiable (416) response when the range is outside the object bounds.
+     * </p>
+     *
+     * @param strategyId id of the strategy
+     * @param origin origin
+     * @param objectId id of the object
+     * @param category category of the object
+     * @param offerId offer identifier, or null to read from the strategy hot offers
+     * @param logInformation information for accessLog
+     * @param range the byte range to read, or null to read the whole object
+     * @return an object as a Response with an InputStream
+     * @throws StorageNotFoundException Thrown if the Container or the object does not exist
+     * @throws StorageTechnicalException thrown if a technical error happened
+     */
+    Response getContainerByCategory(
+        String strategyId,
+        String origin,
+        String objectId,
+        DataCategory category,
+        String offerId,
+        AccessLogInfoModel logInformation,
+        ByteRange range
+    ) throws StorageException;
+
     /**
      * Get a specific Object information
      *
@@ -308,11 +337,24 @@ public interface StorageDistribution extends VitamAutoCloseable {
      */
     void deleteObjectInOffers(String strategyId, DataContext context, List<String> offers) throws StorageException;
 
+    /**
+     * Get digests of objects from offers, in a single bulk request per offer
+     *
+     * @param strategyId id of the strategy
+     * @param type the object type
+     * @param objectIds the object ids
+     * @param offerIds the offer ids
+     * @param noCache if true, offers recompute object digests instead of returning cached digests. A failing offer is
+     * then reported with missing (null) digests instead of failing the whole request
+     * @return object information, per object
+     * @throws StorageException on error
+     */
     List<BatchObjectInformationResponse> getBatchObjectInformation(
         String strategyId,
         DataCategory type,
         List<String> objectIds,
-        List<String> offerIds
+        List<String> offerIds,
+        boolean noCache
     ) throws StorageException;
 
     BulkObjectStoreResponse bulkCreateFromWorkspace(
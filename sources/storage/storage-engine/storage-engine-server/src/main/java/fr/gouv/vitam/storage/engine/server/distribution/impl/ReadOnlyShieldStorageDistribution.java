@@ -31,6 +31,7 @@ import fr.gouv.vitam.common.accesslog.AccessLogInfoModel;
 import fr.gouv.vitam.common.alert.AlertService;
 import fr.gouv.vitam.common.collection.CloseableIterator;
 import fr.gouv.vitam.common.logging.VitamLogLevel;
+import fr.gouv.vitam.common.model.ByteRange;
 import fr.gouv.vitam.common.model.RequestResponse;
 import fr.gouv.vitam.common.model.storage.AccessRequestStatus;
 import fr.gouv.vitam.common.model.storage.ObjectEntry;
@@ -217,6 +218,27 @@ public class ReadOnlyShieldStorageDistribution implements StorageDistribution {
         return innerStorageDistribution.getContainerByCategory(strategyId, origin, objectId, category, offerId);
     }
 
+    @Override
+    public Response getContainerByCategory(
+        String strategyId,
+        String origin,
+        String objectId,
+        DataCategory category,
+        String offerId,
+        AccessLogInfoModel logInformation,
+        ByteRange range
+    ) throws StorageException {
+        return innerStorageDistribution.getContainerByCategory(
+            strategyId,
+            origin,
+            objectId,
+            category,
+            offerId,
+            logInformation,
+            range
+        );
+    }
+
     @Override
     public JsonNode getContainerInformation(
         String strategyId,
@@ -267,9 +289,10 @@ public class ReadOnlyShieldStorageDistribution implements StorageDistribution {
         String strategyId,
         DataCategory type,
         List<String> objectIds,
-        List<String> offerIds
+        List<String> offerIds,
+        boolean noCache
     ) throws StorageException {
-        return innerStorageDistribution.getBatchObjectInformation(strategyId, type, objectIds, offerIds);
+        return innerStorageDistribution.getBatchObjectInformation(strategyId, type, objectIds, offerIds, noCache);
     }
 
     @Override
@@ -49,6 +49,7 @@ import fr.gouv.vitam.common.exception.VitamRuntimeException;
 import fr.gouv.vitam.common.json.JsonHandler;
 import fr.gouv.vitam.common.logging.VitamLogger;
 import fr.gouv.vitam.common.logging.VitamLoggerFactory;
+import fr.gouv.vitam.common.model.ByteRange;
 import fr.gouv.vitam.common.model.RequestResponse;
 import fr.gouv.vitam.common.model.storage.AccessRequestStatus;
 import fr.gouv.vitam.common.model.storage.ObjectEntry;
@@ -1488,7 +1489,7 @@ public class StorageDistributionImpl implements StorageDistribution {
         DataCategory category,
         AccessLogInfoModel logInformation
     ) throws StorageException {
-        return getContainerByCategoryResponse(strategyId, origin, objectId, category, null, logInformation);
+        return getContainerByCategoryResponse(strategyId, origin, objectId, category, null, logInformation, null);
     }
 
     @Override
@@ -1505,10 +1506,24 @@ public class StorageDistributionImpl implements StorageDistribution {
             objectId,
             category,
             offerId,
-            AccessLogUtils.getNoLogAccessLog()
+            AccessLogUtils.getNoLogAccessLog(),
+            null
         );
     }
 
+    @Override
+    public Response getContainerByCategory(
+        String strategyId,
+        String origin,
+        String objectId,
+        DataCategory category,
+        String offerId,
+        AccessLogInfoModel logInformation,
+        ByteRange range
+    ) throws StorageException {
+        return getContainerByCategoryResponse(strategyId, origin, objectId, category, offerId, logInformation, range);
+    }
+
     /**
      * getContainerByCategoryResponse.
      *
@@ -1516,6 +1531,7 @@ public class StorageDistributionImpl implements StorageDistribution {
      * @param origin origin
      * @param objectId objectId
      * @param category category
+     * @param range byte range to read, null to read the whole object
      * @return Response
      * @throws StorageException the exception
      */
@@ -1525,7 +1541,8 @@ public class StorageDistributionImpl implements StorageDistribution {
         String objectId,
         DataCategory category,
         String offerId,
-        AccessLogInfoModel logInformation
+        AccessLogInfoModel logInformation,
+        ByteRange range
     ) throws StorageException {
         // Check input params
         Integer tenantId = ParameterHelper.getTenantParameter();
@@ -1565,7 +1582,7 @@ public class StorageDistributionImpl implements StorageDistribution {
             }
         }
 
-        return getObjectResult(tenantId, strategyId, origin, objectId, category, storageOffers);
+        return getObjectResult(tenantId, strategyId, origin, objectId, category, storageOffers, range);
     }
 
     /**
@@ -1593,6 +1610,7 @@ public class StorageDistributionImpl implements StorageDistribution {
      * @param objectId objectID
      * @param type type
      * @param storageOffers storageOffer
+     * @param range byte range to read, null to read the whole object
      * @return StorageGetResult
      * @throws StorageException the exception
      */
@@ -1602,14 +1620,20 @@ public class StorageDistributionImpl implements StorageDistribution {
         String origin,
         String objectId,
         DataCategory type,
-        List<StorageOffer> storageOffers
+        List<StorageOffer> storageOffers,
+        ByteRange range
     ) throws StorageException {
         StorageGetResult result;
 
         for (final StorageOffer storageOffer : storageOffers) {
             final Driver driver = retrieveDriverInternal(storageOffer.getId());
             try (Connection connection = driver.connect(storageOffer.getId())) {
-                final StorageObjectRequest request = new StorageObjectRequest(tenantId, type.getFolder(), objectId);
+                final StorageObjectRequest request = new StorageObjectRequest(
+                    tenantId,
+                    type.getFolder(),
+                    objectId,
+                    range
+                );
                 RetryableOnException<StorageGetResult, StorageDriverException> retryable = new RetryableOnException<>(
                     retryableParameters,
                     exception ->
@@ -1926,7 +1950,8 @@ public class StorageDistributionImpl implements StorageDistribution {
         String strategyId,
         DataCategory type,
         List<String> objectIds,
-        List<String> offerIds
+        List<String> offerIds,
+        boolean noCache
     ) throws StorageException {
         // Check input params
         Integer tenantId = ParameterHelper.getTenantParameter();
@@ -1965,7 +1990,8 @@ public class StorageDistributionImpl implements StorageDistribution {
                             tenantId,
                             objectIds,
                             driverByOfferId.get(offerId),
-                            storageOfferByOfferId.get(offerId)
+                            storageOfferByOfferId.get(offerId),
+                            noCache
                         )
                 );
             completableFutures.put(offerId, objectInformationCompletableFuture);
@@ -1975,9 +2001,20 @@ public class StorageDistributionImpl implements StorageDistribution {
             Map<String, Map<String, String>> offerDigestsByObjectId = new HashMap<>();
 
             for (String offerId : completableFutures.keySet()) {
-                List<StorageBulkMetadataResultEntry> storageBulkMetadataResultEntries = completableFutures
-                    .get(offerId)
-                    .get();
+                List<StorageBulkMetadataResultEntry> storageBulkMetadataResultEntries;
+                try {
+                    storageBulkMetadataResultEntries = completableFutures.get(offerId).get();
+                } catch (ExecutionException e) {
+                    if (!noCache) {
+                        throw e;
+                    }
+                    // Digest computation failure of an offer is reported as missing digests for this offer only
+                    LOGGER.error("Could not compute digests of offer " + offerId, e);
+                    for (String objectId : objectIds) {
+                        offerDigestsByObjectId.computeIfAbsent(objectId, id -> new HashMap<>()).put(offerId, null);
+                    }
+                    continue;
+                }
 
                 for (StorageBulkMetadataResultEntry storageBulkMetadataResultEntry : storageBulkMetadataResultEntries) {
                     offerDigestsByObjectId
@@ -2005,15 +2042,16 @@ public class StorageDistributionImpl implements StorageDistribution {
         Integer tenantId,
         List<String> objectIds,
         Driver driver,
-        StorageOffer offer
+        StorageOffer offer,
+        boolean noCache
     ) {
         try (Connection connection = driver.connect(offer.getId())) {
-            // Get object metadata (cache enabled)
+            // Get object metadata (cache enabled unless noCache is set)
             final StorageGetBulkMetadataRequest request = new StorageGetBulkMetadataRequest(
                 tenantId,
                 type.getFolder(),
                 objectIds,
-                false
+                noCache
             );
 
             StorageBulkMetadataResult metaData = connection.getBulkMetadata(request);
@@ -2061,6 +2099,10 @@ public class StorageDistributionImpl implements StorageDistribution {
             mapParameters.put(StorageLogbookParameterName.size, logInfo.getSize().toString());
         }
 
+        if (logInfo.getRange() != null) {
+            mapParameters.put(StorageLogbookParameterName.range, logInfo.getRange());
+        }
+
         mapParameters.put(StorageLogbookParameterName.eventDateTime, LocalDateUtil.nowFormatted());
 
         return new AccessLogParameters(mapParameters);
@@ -0,0 +1,137 @@
+/*
+ * Copyright French Prime minister Office/SGMAP/DINSIC/Vitam Program (2015-2022)
+ *
+ * contact.vitam@culture.gouv.fr
+ *
+ * This software is a computer program whose purpose is to implement a digital archiving back-office system managing
+ * high volumetry securely and efficiently.
+ *
+ * This software is governed by the CeCILL 2.1 license under French law and abiding by the rules of distribution of free
+ * software. You can use, modify and/ or redistribute the software under the terms of the CeCILL 2.1 license as
+ * circulated by CEA, CNRS and INRIA at the following URL "https://cecill.info".
+ *
+ * As a counterpart to the access to the source code and rights to copy, modify and redistribute granted by the license,
+ * users are provided only with a limited warranty and the software's author, the holder of the economic rights, and the
+ * successive licensors have only limited liability.
+ *
+ * In this respect, the user's attention is drawn to the risks associated with loading, using, modifying and/or
+ * developing or reproducing the software by the user in light of its specific status of free software, that may mean
+ * that it is complicated to manipulate, and that also therefore means that it is reserved for developers and
+ * experienced professionals having in-depth computer knowledge. Users are therefore encouraged to load and test the
+ * software's suitability as regards their requirements in conditions enabling the security of their systems and/or data
+ * to be ensured and, more generally, to use and operate it in the same conditions as regards security.
+ *
+ * The fact that you are presently reading this means that you have had knowledge of the CeCILL 2.1 license and that you
+ * accept its terms.
+ */
+package fr.gouv.vitam.storage.engine.server.offerdiff;
+
+import fr.gouv.vitam.common.exception.InvalidParseOperationException;
+import fr.gouv.vitam.common.json.JsonHandler;
+import fr.gouv.vitam.common.logging.VitamLogger;
+import fr.gouv.vitam.common.logging.VitamLoggerFactory;
+import fr.gouv.vitam.storage.engine.common.model.DataCategory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+
+/**
+ * Persists offer diff checkpoints on local disk, to allow incremental offer diffs.
+ *
+ * For each (tenant, offer1, offer2, container), the store keeps the last {@link OfferDiffCheckpoint} and the list of
+ * object ids that mismatched during the last diff (one object id per line), so that they are checked again by the next
+ * incremental diff.
+ */
+public class OfferDiffCheckpointStore {
+
+    private static final VitamLogger LOGGER = VitamLoggerFactory.getInstance(OfferDiffCheckpointStore.class);
+
+    private static final String CHECKPOINT_EXTENSION = ".json";
+    private static final String MISMATCHED_OBJECT_IDS_EXTENSION = ".mismatches";
+    private static final String TMP_EXTENSION = ".tmp";
+
+    private final Path checkpointDirectory;
+
+    public OfferDiffCheckpointStore(String checkpointDirectory) throws IOException {
+        this.checkpointDirectory = Paths.get(checkpointDirectory);
+        Files.createDirectories(this.checkpointDirectory);
+    }
+
+    public Optional<OfferDiffCheckpoint> getCheckpoint(
+        int tenantId,
+        String offer1,
+        String offer2,
+        DataCategory dataCategory
+    ) {
+        Path checkpointFile = getFile(tenantId, offer1, offer2, dataCategory, CHECKPOINT_EXTENSION);
+        if (!Files.exists(checkpointFile)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(JsonHandler.getFromFile(checkpointFile.toFile(), OfferDiffCheckpoint.class));
+        } catch (InvalidParseOperationException e) {
+            LOGGER.warn("Could not read offer diff checkpoint " + checkpointFile + ". Ignoring it.", e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * @return the file listing object ids that mismatched during last diff, if any.
+     */
+    public Optional<File> getMismatchedObjectIdsFile(
+        int tenantId,
+        String offer1,
+        String offer2,
+        DataCategory dataCategory
+    ) {
+        Path mismatchedObjectIdsFile = getFile(tenantId, offer1, offer2, dataCategory, MISMATCHED_OBJECT_IDS_EXTENSION);
+        return Files.exists(mismatchedObjectIdsFile) ? Optional.of(mismatchedObjectIdsFile.toFile()) : Optional.empty();
+    }
+
+    /**
+     * Replaces checkpoint & mismatched object ids file. Mismatched object ids file is moved to the store.
+     */
+    public void saveCheckpoint(
+        int tenantId,
+        String offer1,
+        String offer2,
+        DataCategory dataCategory,
+        OfferDiffCheckpoint checkpoint,
+        File mismatchedObjectIdsFile
+    ) throws IOException {
+        Files.move(
+            mismatchedObjectIdsFile.toPath(),
+            getFile(tenantId, offer1, offer2, dataCategory, MISMATCHED_OBJECT_IDS_EXTENSION),
+            StandardCopyOption.REPLACE_EXISTING
+        );
+
+        Path checkpointFile = getFile(tenantId, offer1, offer2, dataCategory, CHECKPOINT_EXTENSION);
+        Path tmpCheckpointFile = checkpointFile.resolveSibling(checkpointFile.getFileName() + TMP_EXTENSION);
+        try {
+            JsonHandler.writeAsFile(checkpoint, tmpCheckpointFile.toFile());
+        } catch (InvalidParseOperationException e) {
+            throw new IOException("Could not write offer diff checkpoint " + tmpCheckpointFile, e);
+        }
+        Files.move(tmpCheckpointFile, checkpointFile, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private Path getFile(int tenantId, String offer1, String offer2, DataCategory dataCategory, String extension) {
+        String fileName = String.join(
+            "__",
+            Integer.toString(tenantId),
+            sanitize(offer1),
+            sanitize(offer2),
+            dataCategory.getCollectionName()
+        );
+        return checkpointDirectory.resolve(fileName + extension);
+    }
+
+    private static String sanitize(String value) {
+        return value.replaceAll("[^A-Za-z0-9._-]", "_");
+    }
+}
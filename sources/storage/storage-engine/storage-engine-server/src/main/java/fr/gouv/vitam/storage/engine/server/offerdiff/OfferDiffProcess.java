@@ -27,12 +27,15 @@
 
 package fr.gouv.vitam.storage.engine.server.offerdiff;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import fr.gouv.vitam.common.LocalDateUtil;
 import fr.gouv.vitam.common.VitamConfiguration;
 import fr.gouv.vitam.common.collection.CloseableIterator;
 import fr.gouv.vitam.common.json.JsonHandler;
 import fr.gouv.vitam.common.logging.VitamLogger;
 import fr.gouv.vitam.common.logging.VitamLoggerFactory;
+import fr.gouv.vitam.common.model.RequestResponse;
+import fr.gouv.vitam.common.model.RequestResponseOK;
 import fr.gouv.vitam.common.model.StatusCode;
 import fr.gouv.vitam.common.model.storage.ObjectEntry;
 import fr.gouv.vitam.common.model.storage.ObjectEntryReader;
@@ -41,45 +44,105 @@ import fr.gouv.vitam.common.thread.VitamThreadFactory;
 import fr.gouv.vitam.common.thread.VitamThreadUtils;
 import fr.gouv.vitam.storage.engine.common.exception.StorageException;
 import fr.gouv.vitam.storage.engine.common.model.DataCategory;
+import fr.gouv.vitam.storage.engine.common.model.OfferDiffMode;
+import fr.gouv.vitam.storage.engine.common.model.OfferLog;
+import fr.gouv.vitam.storage.engine.common.model.Order;
 import fr.gouv.vitam.storage.engine.common.referential.model.OfferReference;
 import fr.gouv.vitam.storage.engine.server.distribution.StorageDistribution;
+import fr.gouv.vitam.storage.engine.server.exception.RuntimeStorageException;
 import fr.gouv.vitam.storage.engine.server.offerdiff.sort.LargeFileSorter;
 import fr.gouv.vitam.storage.engine.server.offerdiff.sort.ObjectEntryLargeFileReader;
 import fr.gouv.vitam.storage.engine.server.offerdiff.sort.ObjectEntryLargeFileWriter;
 import org.apache.commons.collections4.iterators.PeekingIterator;
 import org.apache.commons.io.FileUtils;
 
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
 import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.stream.Collectors;
 
 public class OfferDiffProcess {
 
     private static final VitamLogger LOGGER = VitamLoggerFactory.getInstance(OfferDiffProcess.class);
 
+    public static final int DEFAULT_PARTITION_COUNT = 256;
+    public static final int DEFAULT_PARALLELISM = 4;
+    private static final int OFFER_LOG_BULK_SIZE = 1000;
+    private static final String FILE_SIZE = "fileSize";
+
     private final StorageDistribution distribution;
     private final String offer1;
     private final String offer2;
     private final DataCategory dataCategory;
+    private final OfferDiffMode mode;
+    private final int partitionCount;
+    private final int parallelism;
+    private final OfferDiffCheckpointStore offerDiffCheckpointStore;
 
     private OfferDiffStatus offerDiffStatus;
 
     public OfferDiffProcess(StorageDistribution distribution, String offer1, String offer2, DataCategory dataCategory) {
+        this(
+            distribution,
+            offer1,
+            offer2,
+            dataCategory,
+            OfferDiffMode.SORT,
+            DEFAULT_PARTITION_COUNT,
+            DEFAULT_PARALLELISM,
+            null
+        );
+    }
+
+    /**
+     * @param partitionCount number of hash partitions of offer listings ({@link OfferDiffMode#PARTITIONED} and
+     * {@link OfferDiffMode#INCREMENTAL} modes). Each partition is compared in memory.
+     * @param parallelism max number of partitions compared concurrently
+     * @param offerDiffCheckpointStore store of diff checkpoints. If {@code null}, no checkpoint is persisted and
+     * {@link OfferDiffMode#INCREMENTAL} mode always falls back to a full diff.
+     */
+    public OfferDiffProcess(
+        StorageDistribution distribution,
+        String offer1,
+        String offer2,
+        DataCategory dataCategory,
+        OfferDiffMode mode,
+        int partitionCount,
+        int parallelism,
+        OfferDiffCheckpointStore offerDiffCheckpointStore
+    ) {
+        if (partitionCount <= 0 || parallelism <= 0) {
+            throw new IllegalArgumentException("Invalid partition count or parallelism");
+        }
         this.distribution = distribution;
         this.offer1 = offer1;
         this.offer2 = offer2;
         this.dataCategory = dataCategory;
+        this.mode = mode;
+        this.partitionCount = partitionCount;
+        this.parallelism = parallelism;
+        this.offerDiffCheckpointStore = offerDiffCheckpointStore;
 
         this.offerDiffStatus = new OfferDiffStatus()
             .setRequestId(VitamThreadUtils.getVitamSession().getRequestId())
@@ -88,6 +151,7 @@ public class OfferDiffProcess {
             .setOffer1(offer1)
             .setOffer2(offer2)
             .setContainer(dataCategory.getCollectionName())
+            .setMode(mode)
             .setStartDate(getCurrentDate())
             .setEndDate(null);
     }
@@ -104,25 +168,29 @@ public class OfferDiffProcess {
                 )
             );
 
-            Set<String> offerIds = distribution
+            Map<String, String> offerStrategies = new HashMap<>();
+            distribution
                 .getStrategies()
-                .values()
-                .stream()
-                .flatMap(s -> s.getOffers().stream())
-                .map(OfferReference::getId)
-                .collect(Collectors.toSet());
+                .forEach(
+                    (strategyId, strategy) ->
+                        strategy
+                            .getOffers()
+                            .stream()
+                            .map(OfferReference::getId)
+                            .forEach(offerId -> offerStrategies.putIfAbsent(offerId, strategyId))
+                );
 
-            if (!offerIds.contains(offer1)) {
+            if (!offerStrategies.containsKey(offer1)) {
                 throw new IllegalArgumentException("Invalid offer1 : '" + offer1 + "'");
             }
 
-            if (!offerIds.contains(offer2)) {
+            if (!offerStrategies.containsKey(offer2)) {
                 throw new IllegalArgumentException("Invalid offer2 : '" + offer2 + "'");
             }
 
             diffOperationTempDir = createProcessTempStorageDir();
 
-            process(offer1, offer2, dataCategory, diffOperationTempDir);
+            process(offerStrategies.get(offer1), offerStrategies.get(offer2), diffOperationTempDir);
 
             LOGGER.info("[OfferDiff] Offer diff completed successfully");
             this.offerDiffStatus.setStatusCode(
@@ -139,8 +207,73 @@ public class OfferDiffProcess {
         }
     }
 
-    private void process(String offer1, String offer2, DataCategory dataCategory, File diffOperationTempDir)
+    private void process(String offer1StrategyId, String offer2StrategyId, File diffOperationTempDir)
         throws StorageException {
+        int tenant = VitamThreadUtils.getVitamSession().getTenantId();
+        String requestId = VitamThreadUtils.getVitamSession().getRequestId();
+
+        Optional<OfferDiffCheckpoint> previousCheckpoint = Optional.empty();
+        OfferDiffCheckpoint newCheckpoint = null;
+        File mismatchedObjectIdsFile = null;
+        if (offerDiffCheckpointStore != null) {
+            if (mode == OfferDiffMode.INCREMENTAL) {
+                previousCheckpoint = offerDiffCheckpointStore.getCheckpoint(tenant, offer1, offer2, dataCategory);
+            }
+            // Offer log sequences are retrieved before listing, so that any later update is covered by next diff
+            newCheckpoint = new OfferDiffCheckpoint()
+                .setOffer1Sequence(getLastOfferLogSequence(offer1StrategyId, offer1))
+                .setOffer2Sequence(getLastOfferLogSequence(offer2StrategyId, offer2))
+                .setRequestId(requestId);
+        }
+
+        try {
+            File reportFile = createTempFile(diffOperationTempDir, "_" + requestId + ".jsonl");
+            if (newCheckpoint != null) {
+                mismatchedObjectIdsFile = createTempFile(diffOperationTempDir, ".mismatches");
+            }
+
+            try (ReportWriter reportWriter = new ReportWriter(reportFile, mismatchedObjectIdsFile)) {
+                if (mode == OfferDiffMode.SORT) {
+                    sortAndCompareOfferListings(diffOperationTempDir, reportWriter);
+                } else if (mode == OfferDiffMode.INCREMENTAL && previousCheckpoint.isPresent()) {
+                    compareUpdatedObjects(
+                        offer1StrategyId,
+                        offer2StrategyId,
+                        previousCheckpoint.get(),
+                        newCheckpoint,
+                        diffOperationTempDir,
+                        reportWriter
+                    );
+                } else {
+                    if (mode == OfferDiffMode.INCREMENTAL) {
+                        LOGGER.info("[OfferDiff] No previous diff checkpoint found. Running a full partitioned diff");
+                    }
+                    partitionAndCompareOfferListings(diffOperationTempDir, reportWriter);
+                }
+
+                this.offerDiffStatus.setReportFileName(reportFile.getAbsoluteFile().toString());
+                this.offerDiffStatus.setTotalObjectCount(reportWriter.getTotalObjectCount());
+                this.offerDiffStatus.setErrorCount(reportWriter.getErrorCount());
+            }
+
+            if (newCheckpoint != null) {
+                offerDiffCheckpointStore.saveCheckpoint(
+                    tenant,
+                    offer1,
+                    offer2,
+                    dataCategory,
+                    newCheckpoint.setLastUpdate(getCurrentDate()),
+                    mismatchedObjectIdsFile
+                );
+            }
+        } catch (IOException e) {
+            throw new StorageException("Could not compare offer listings", e);
+        }
+        LOGGER.info("[OfferDiff] Comparing offer files done successfully !");
+    }
+
+    private void sortAndCompareOfferListings(File diffOperationTempDir, ReportWriter reportWriter)
+        throws StorageException, IOException {
         LOGGER.info("[OfferDiff] Listing offer files...");
 
         ExecutorService executor = Executors.newFixedThreadPool(2, VitamThreadFactory.getInstance());
@@ -172,25 +305,405 @@ public class OfferDiffProcess {
         File sortedOfferListing2 = sort(offer2, offerListing2.get(), diffOperationTempDir);
 
         LOGGER.info("[OfferDiff] Comparing offer files...");
+
+        compareOfferListings(offer1, offer2, sortedOfferListing1, sortedOfferListing2, reportWriter);
+
+        cleanupFiles(sortedOfferListing1, sortedOfferListing2);
+    }
+
+    private void partitionAndCompareOfferListings(File diffOperationTempDir, ReportWriter reportWriter)
+        throws StorageException {
+        LOGGER.info("[OfferDiff] Listing offer files into " + partitionCount + " partitions...");
+
+        ExecutorService executor = Executors.newFixedThreadPool(2, VitamThreadFactory.getInstance());
+        int tenant = VitamThreadUtils.getVitamSession().getTenantId();
+        String requestId = VitamThreadUtils.getVitamSession().getRequestId();
+
+        CompletableFuture<List<File>> listOffers1CompletableFuture = CompletableFuture.supplyAsync(
+            () -> listOfferObjectsByPartition(offer1, diffOperationTempDir, tenant, requestId),
+            executor
+        );
+
+        CompletableFuture<List<File>> listOffers2CompletableFuture = CompletableFuture.supplyAsync(
+            () -> listOfferObjectsByPartition(offer2, diffOperationTempDir, tenant, requestId),
+            executor
+        );
+
+        Optional<List<File>> offerPartitions1 = await(listOffers1CompletableFuture, offer1);
+        Optional<List<File>> offerPartitions2 = await(listOffers2CompletableFuture, offer2);
+
+        executor.shutdown();
+
+        if (offerPartitions1.isEmpty() || offerPartitions2.isEmpty()) {
+            offerPartitions1.ifPresent(files -> cleanupFiles(files.toArray(File[]::new)));
+            offerPartitions2.ifPresent(files -> cleanupFiles(files.toArray(File[]::new)));
+            throw new StorageException("One or more offer listing failed. Aborting");
+        }
+
+        LOGGER.info("[OfferDiff] Comparing offer partitions...");
+
+        runPartitionTasks(partition -> {
+            try {
+                comparePartition(
+                    offerPartitions1.get().get(partition),
+                    offerPartitions2.get().get(partition),
+                    reportWriter
+                );
+            } finally {
+                cleanupFiles(offerPartitions1.get().get(partition), offerPartitions2.get().get(partition));
+            }
+        });
+    }
+
+    private void compareUpdatedObjects(
+        String offer1StrategyId,
+        String offer2StrategyId,
+        OfferDiffCheckpoint previousCheckpoint,
+        OfferDiffCheckpoint newCheckpoint,
+        File diffOperationTempDir,
+        ReportWriter reportWriter
+    ) throws StorageException, IOException {
+        LOGGER.info(
+            String.format(
+                "[OfferDiff] Listing objects updated since last diff (offer log sequences %d / %d)...",
+                previousCheckpoint.getOffer1Sequence(),
+                previousCheckpoint.getOffer2Sequence()
+            )
+        );
+
+        List<File> partitionFiles = new ArrayList<>();
+        List<Writer> partitionWriters = new ArrayList<>();
         try {
-            File reportFile = createTempFile(
-                diffOperationTempDir,
-                "_" + this.offerDiffStatus.getRequestId() + ".jsonl"
+            for (int i = 0; i < partitionCount; i++) {
+                File partitionFile = createTempFile(diffOperationTempDir);
+                partitionFiles.add(partitionFile);
+                partitionWriters.add(
+                    new BufferedWriter(
+                        new OutputStreamWriter(new FileOutputStream(partitionFile), StandardCharsets.UTF_8)
+                    )
+                );
+            }
+
+            writeUpdatedObjectIds(
+                offer1StrategyId,
+                offer1,
+                previousCheckpoint.getOffer1Sequence(),
+                newCheckpoint.getOffer1Sequence(),
+                partitionWriters
+            );
+            writeUpdatedObjectIds(
+                offer2StrategyId,
+                offer2,
+                previousCheckpoint.getOffer2Sequence(),
+                newCheckpoint.getOffer2Sequence(),
+                partitionWriters
             );
 
-            try (ReportWriter reportWriter = new ReportWriter(reportFile)) {
-                compareOfferListings(offer1, offer2, sortedOfferListing1, sortedOfferListing2, reportWriter);
+            // Objects that mismatched during last diff are checked again
+            Optional<File> mismatchedObjectIdsFile = offerDiffCheckpointStore.getMismatchedObjectIdsFile(
+                VitamThreadUtils.getVitamSession().getTenantId(),
+                offer1,
+                offer2,
+                dataCategory
+            );
+            if (mismatchedObjectIdsFile.isPresent()) {
+                try (BufferedReader reader = newReader(mismatchedObjectIdsFile.get())) {
+                    String objectId;
+                    while ((objectId = reader.readLine()) != null) {
+                        writeObjectId(objectId, partitionWriters);
+                    }
+                }
+            }
+        } finally {
+            for (Writer partitionWriter : partitionWriters) {
+                partitionWriter.close();
+            }
+        }
 
-                this.offerDiffStatus.setReportFileName(reportFile.getAbsoluteFile().toString());
-                this.offerDiffStatus.setTotalObjectCount(reportWriter.getTotalObjectCount());
-                this.offerDiffStatus.setErrorCount(reportWriter.getErrorCount());
+        LOGGER.info("[OfferDiff] Comparing updated objects...");
 
-                cleanupFiles(sortedOfferListing1, sortedOfferListing2);
+        runPartitionTasks(partition -> {
+            try {
+                compareObjects(offer1StrategyId, offer2StrategyId, partitionFiles.get(partition), reportWriter);
+            } finally {
+                cleanupFiles(partitionFiles.get(partition));
             }
-        } catch (IOException e) {
-            throw new StorageException("Could not compare sorted offer listings", e);
+        });
+    }
+
+    private void writeUpdatedObjectIds(
+        String strategyId,
+        String offerId,
+        long fromExclusiveSequence,
+        long toInclusiveSequence,
+        List<Writer> partitionWriters
+    ) throws StorageException, IOException {
+        long offset = fromExclusiveSequence + 1;
+        while (offset <= toInclusiveSequence) {
+            List<OfferLog> offerLogs = getOfferLogs(strategyId, offerId, offset, OFFER_LOG_BULK_SIZE, Order.ASC);
+            for (OfferLog offerLog : offerLogs) {
+                if (offerLog.getSequence() > toInclusiveSequence) {
+                    return;
+                }
+                writeObjectId(offerLog.getFileName(), partitionWriters);
+            }
+            if (offerLogs.size() < OFFER_LOG_BULK_SIZE) {
+                return;
+            }
+            offset = offerLogs.get(offerLogs.size() - 1).getSequence() + 1;
         }
-        LOGGER.info("[OfferDiff] Comparing offer files done successfully !");
+    }
+
+    private void writeObjectId(String objectId, List<Writer> partitionWriters) throws IOException {
+        partitionWriters.get(getPartition(objectId)).append(objectId).append('\n');
+    }
+
+    private long getLastOfferLogSequence(String strategyId, String offerId) throws StorageException {
+        List<OfferLog> offerLogs = getOfferLogs(strategyId, offerId, null, 1, Order.DESC);
+        return offerLogs.isEmpty() ? 0L : offerLogs.get(0).getSequence();
+    }
+
+    private List<OfferLog> getOfferLogs(String strategyId, String offerId, Long offset, int limit, Order order)
+        throws StorageException {
+        RequestResponse<OfferLog> result = distribution.getOfferLogsByOfferId(
+            strategyId,
+            offerId,
+            dataCategory,
+            offset,
+            limit,
+            order
+        );
+        if (!result.isOk()) {
+            throw new StorageException("Could not retrieve offer logs of offer " + offerId + ": " + result);
+        }
+        return ((RequestResponseOK<OfferLog>) result).getResults();
+    }
+
+    private int getPartition(String objectId) {
+        return Math.floorMod(objectId.hashCode(), partitionCount);
+    }
+
+    private void runPartitionTasks(PartitionTask partitionTask) throws StorageException {
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism, VitamThreadFactory.getInstance());
+        int tenant = VitamThreadUtils.getVitamSession().getTenantId();
+        String requestId = VitamThreadUtils.getVitamSession().getRequestId();
+        try {
+            List<CompletableFuture<Void>> completableFutures = new ArrayList<>();
+            for (int i = 0; i < partitionCount; i++) {
+                int partition = i;
+                completableFutures.add(
+                    CompletableFuture.runAsync(
+                        () -> {
+                            VitamThreadUtils.getVitamSession().setTenantId(tenant);
+                            VitamThreadUtils.getVitamSession().setRequestId(requestId);
+                            try {
+                                partitionTask.run(partition);
+                            } catch (IOException e) {
+                                throw new UncheckedIOException(e);
+                            } catch (StorageException e) {
+                                throw new RuntimeStorageException("Could not compare offer partition", e);
+                            }
+                        },
+                        executor
+                    )
+                );
+            }
+            CompletableFuture.allOf(completableFutures.toArray(CompletableFuture[]::new)).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new StorageException("Interrupted offer diff", e);
+        } catch (ExecutionException e) {
+            throw new StorageException("Could not compare offer partitions", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private List<File> listOfferObjectsByPartition(
+        String offerId,
+        File diffOperationTempDir,
+        Integer tenant,
+        String requestId
+    ) {
+        Thread.currentThread().setName("OfferListing-" + offerId);
+        VitamThreadUtils.getVitamSession().setTenantId(tenant);
+        VitamThreadUtils.getVitamSession().setRequestId(requestId);
+
+        List<File> partitionFiles = new ArrayList<>();
+        List<ObjectEntryWriter> partitionWriters = new ArrayList<>();
+        try (
+            CloseableIterator<ObjectEntry> objectEntryIterator =
+                this.distribution.listContainerObjectsForOffer(dataCategory, offerId, true)
+        ) {
+            for (int i = 0; i < partitionCount; i++) {
+                File partitionFile = createTempFile(diffOperationTempDir);
+                partitionFiles.add(partitionFile);
+                partitionWriters.add(new ObjectEntryWriter(new FileOutputStream(partitionFile)));
+            }
+
+            for (int i = 0; objectEntryIterator.hasNext(); i++) {
+                ObjectEntry objectEntry = objectEntryIterator.next();
+                partitionWriters.get(getPartition(objectEntry.getObjectId())).write(objectEntry);
+                if (i > 0 && i % 10000 == 0) {
+                    LOGGER.info("[OfferDiff] " + i + "/? files listed from " + offerId + "/" + dataCategory);
+                }
+            }
+            for (ObjectEntryWriter partitionWriter : partitionWriters) {
+                partitionWriter.writeEof();
+            }
+
+            return partitionFiles;
+        } catch (StorageException | IOException e) {
+            cleanupFiles(partitionFiles.toArray(File[]::new));
+            throw new RuntimeException(
+                "Could not list offer objects. OfferId: '" + offerId + "', dataCategory: " + dataCategory,
+                e
+            );
+        } finally {
+            for (ObjectEntryWriter partitionWriter : partitionWriters) {
+                try {
+                    partitionWriter.close();
+                } catch (IOException e) {
+                    LOGGER.warn("Could not close partition file", e);
+                }
+            }
+        }
+    }
+
+    private void comparePartition(File partitionFile1, File partitionFile2, ReportWriter reportWriter)
+        throws IOException {
+        // Partitions are expected to be small enough to fit in memory
+        Map<String, Long> offer1ObjectSizes = new HashMap<>();
+        try (ObjectEntryReader objectEntryReader1 = new ObjectEntryReader(new FileInputStream(partitionFile1))) {
+            objectEntryReader1.forEachRemaining(
+                objectEntry -> offer1ObjectSizes.put(objectEntry.getObjectId(), objectEntry.getSize())
+            );
+        }
+
+        long matchingObjectCount = 0L;
+        List<ReportEntry> mismatches = new ArrayList<>();
+        try (ObjectEntryReader objectEntryReader2 = new ObjectEntryReader(new FileInputStream(partitionFile2))) {
+            while (objectEntryReader2.hasNext()) {
+                ObjectEntry objectEntry2 = objectEntryReader2.next();
+                Long size1 = offer1ObjectSizes.remove(objectEntry2.getObjectId());
+                if (size1 != null && size1 == objectEntry2.getSize()) {
+                    matchingObjectCount++;
+                } else {
+                    mismatches.add(
+                        new ReportEntry()
+                            .setObjectId(objectEntry2.getObjectId())
+                            .setSizeInOffer1(size1)
+                            .setSizeInOffer2(objectEntry2.getSize())
+                    );
+                }
+            }
+        }
+        offer1ObjectSizes.forEach(
+            (objectId, size1) -> mismatches.add(new ReportEntry().setObjectId(objectId).setSizeInOffer1(size1))
+        );
+
+        reportPartition(matchingObjectCount, mismatches, reportWriter);
+    }
+
+    private void compareObjects(
+        String offer1StrategyId,
+        String offer2StrategyId,
+        File objectIdsFile,
+        ReportWriter reportWriter
+    ) throws IOException, StorageException {
+        SortedSet<String> objectIds = new TreeSet<>();
+        try (BufferedReader reader = newReader(objectIdsFile)) {
+            String objectId;
+            while ((objectId = reader.readLine()) != null) {
+                objectIds.add(objectId);
+            }
+        }
+
+        // Only object sizes are compared : offers may return cached object metadata, without reading (and digesting)
+        // object content.
+        long matchingObjectCount = 0L;
+        List<ReportEntry> mismatches = new ArrayList<>();
+        for (String objectId : objectIds) {
+            Long size1;
+            Long size2;
+            if (offer1StrategyId.equals(offer2StrategyId)) {
+                JsonNode information = distribution.getContainerInformation(
+                    offer1StrategyId,
+                    dataCategory,
+                    objectId,
+                    List.of(offer1, offer2),
+                    false
+                );
+                size1 = getObjectSize(information, offer1);
+                size2 = getObjectSize(information, offer2);
+            } else {
+                size1 = getObjectSize(
+                    distribution.getContainerInformation(
+                        offer1StrategyId,
+                        dataCategory,
+                        objectId,
+                        List.of(offer1),
+                        false
+                    ),
+                    offer1
+                );
+                size2 = getObjectSize(
+                    distribution.getContainerInformation(
+                        offer2StrategyId,
+                        dataCategory,
+                        objectId,
+                        List.of(offer2),
+                        false
+                    ),
+                    offer2
+                );
+            }
+
+            if (size1 == null && size2 == null) {
+                // Object deleted from both offers
+                continue;
+            }
+            if (Objects.equals(size1, size2)) {
+                matchingObjectCount++;
+            } else {
+                mismatches.add(new ReportEntry().setObjectId(objectId).setSizeInOffer1(size1).setSizeInOffer2(size2));
+            }
+        }
+
+        reportPartition(matchingObjectCount, mismatches, reportWriter);
+    }
+
+    private static Long getObjectSize(JsonNode information, String offerId) {
+        JsonNode offerInformation = information.get(offerId);
+        if (offerInformation == null || !offerInformation.hasNonNull(FILE_SIZE)) {
+            return null;
+        }
+        return offerInformation.get(FILE_SIZE).asLong();
+    }
+
+    private void reportPartition(long matchingObjectCount, List<ReportEntry> mismatches, ReportWriter reportWriter)
+        throws IOException {
+        mismatches.sort(Comparator.comparing(ReportEntry::getObjectId));
+        synchronized (reportWriter) {
+            reportWriter.reportMatchingObjects(matchingObjectCount);
+            for (ReportEntry mismatch : mismatches) {
+                reportDifference(
+                    toObjectEntry(mismatch.getObjectId(), mismatch.getSizeInOffer1()),
+                    toObjectEntry(mismatch.getObjectId(), mismatch.getSizeInOffer2()),
+                    offer1,
+                    offer2,
+                    reportWriter
+                );
+            }
+        }
+    }
+
+    private static ObjectEntry toObjectEntry(String objectId, Long size) {
+        return size == null ? null : new ObjectEntry().setObjectId(objectId).setSize(size);
+    }
+
+    private static BufferedReader newReader(File file) throws IOException {
+        return new BufferedReader(new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8));
     }
 
     private File listOfferObjects(
@@ -231,9 +744,9 @@ public class OfferDiffProcess {
         }
     }
 
-    private Optional<File> await(CompletableFuture<File> completableFuture, String offerId) {
+    private <T> Optional<T> await(CompletableFuture<T> completableFuture, String offerId) {
         try {
-            File offerListingFile = completableFuture.get();
+            T offerListingFile = completableFuture.get();
             LOGGER.info("Offer listing succeeded for offer " + offerId);
             return Optional.of(offerListingFile);
         } catch (InterruptedException e) {
@@ -421,4 +934,9 @@ public class OfferDiffProcess {
         FileUtils.forceMkdir(diffOperationTempDir);
         return diffOperationTempDir;
     }
+
+    @FunctionalInterface
+    private interface PartitionTask {
+        void run(int partition) throws IOException, StorageException;
+    }
 }
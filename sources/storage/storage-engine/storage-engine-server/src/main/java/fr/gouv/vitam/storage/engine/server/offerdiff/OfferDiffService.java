@@ -32,8 +32,12 @@ import fr.gouv.vitam.common.logging.VitamLoggerFactory;
 import fr.gouv.vitam.common.thread.VitamThreadPoolExecutor;
 import fr.gouv.vitam.common.thread.VitamThreadUtils;
 import fr.gouv.vitam.storage.engine.common.model.DataCategory;
+import fr.gouv.vitam.storage.engine.common.model.OfferDiffMode;
 import fr.gouv.vitam.storage.engine.server.distribution.StorageDistribution;
+import fr.gouv.vitam.storage.engine.server.rest.StorageConfiguration;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.concurrent.atomic.AtomicReference;
 
 public class OfferDiffService {
@@ -44,6 +48,9 @@ public class OfferDiffService {
     private static final VitamLogger LOGGER = VitamLoggerFactory.getInstance(OfferDiffService.class);
 
     private final StorageDistribution distribution;
+    private final int partitionCount;
+    private final int parallelism;
+    private final OfferDiffCheckpointStore offerDiffCheckpointStore;
 
     private final AtomicReference<OfferDiffProcess> lastOfferDiffProcess = new AtomicReference<>(null);
 
@@ -51,11 +58,51 @@ public class OfferDiffService {
      * Constructor.
      */
     public OfferDiffService(StorageDistribution distribution) {
+        this(distribution, OfferDiffProcess.DEFAULT_PARTITION_COUNT, OfferDiffProcess.DEFAULT_PARALLELISM, null);
+    }
+
+    /**
+     * Constructor.
+     */
+    public OfferDiffService(StorageDistribution distribution, StorageConfiguration storageConfiguration) {
+        this(
+            distribution,
+            storageConfiguration.getOfferDiffPartitionCount(),
+            storageConfiguration.getOfferDiffThreadPoolSize(),
+            createOfferDiffCheckpointStore(storageConfiguration.getOfferDiffCheckpointDirectory())
+        );
+    }
+
+    OfferDiffService(
+        StorageDistribution distribution,
+        int partitionCount,
+        int parallelism,
+        OfferDiffCheckpointStore offerDiffCheckpointStore
+    ) {
         this.distribution = distribution;
+        this.partitionCount = partitionCount;
+        this.parallelism = parallelism;
+        this.offerDiffCheckpointStore = offerDiffCheckpointStore;
+    }
+
+    private static OfferDiffCheckpointStore createOfferDiffCheckpointStore(String offerDiffCheckpointDirectory) {
+        if (offerDiffCheckpointDirectory == null) {
+            LOGGER.warn("No offer diff checkpoint directory configured. Incremental offer diff will not be available");
+            return null;
+        }
+        try {
+            return new OfferDiffCheckpointStore(offerDiffCheckpointDirectory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not initialize offer diff checkpoint directory", e);
+        }
     }
 
     public boolean startOfferDiff(String offer1, String offer2, DataCategory dataCategory) {
-        OfferDiffProcess offerDiffProcess = createOfferDiffProcess(offer1, offer2, dataCategory);
+        return startOfferDiff(offer1, offer2, dataCategory, OfferDiffMode.SORT);
+    }
+
+    public boolean startOfferDiff(String offer1, String offer2, DataCategory dataCategory, OfferDiffMode mode) {
+        OfferDiffProcess offerDiffProcess = createOfferDiffProcess(offer1, offer2, dataCategory, mode);
 
         OfferDiffProcess currentOfferDiffProcess = lastOfferDiffProcess.updateAndGet(previousOfferDiffService -> {
             if (previousOfferDiffService != null && previousOfferDiffService.isRunning()) {
@@ -92,8 +139,22 @@ public class OfferDiffService {
             });
     }
 
-    OfferDiffProcess createOfferDiffProcess(String offer1, String offer2, DataCategory dataCategory) {
-        return new OfferDiffProcess(distribution, offer1, offer2, dataCategory);
+    OfferDiffProcess createOfferDiffProcess(
+        String offer1,
+        String offer2,
+        DataCategory dataCategory,
+        OfferDiffMode mode
+    ) {
+        return new OfferDiffProcess(
+            distribution,
+            offer1,
+            offer2,
+            dataCategory,
+            mode,
+            partitionCount,
+            parallelism,
+            offerDiffCheckpointStore
+        );
     }
 
     public boolean isRunning() {
@@ -28,6 +28,7 @@ package fr.gouv.vitam.storage.engine.server.offerdiff;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import fr.gouv.vitam.common.model.StatusCode;
+import fr.gouv.vitam.storage.engine.common.model.OfferDiffMode;
 
 public class OfferDiffStatus {
 
@@ -46,6 +47,9 @@ public class OfferDiffStatus {
     @JsonProperty("container")
     private String container;
 
+    @JsonProperty("mode")
+    private OfferDiffMode mode;
+
     @JsonProperty("statusCode")
     private StatusCode statusCode;
 
@@ -166,4 +170,13 @@ public class OfferDiffStatus {
         this.errorCount = errorCount;
         return this;
     }
+
+    public OfferDiffMode getMode() {
+        return mode;
+    }
+
+    public OfferDiffStatus setMode(OfferDiffMode mode) {
+        this.mode = mode;
+        return this;
+    }
 }
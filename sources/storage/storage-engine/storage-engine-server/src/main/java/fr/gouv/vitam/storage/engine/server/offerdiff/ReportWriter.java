@@ -41,6 +41,7 @@ public class ReportWriter implements AutoCloseable {
 
     private final OutputStream outputStream;
     private final Writer writer;
+    private final Writer mismatchedObjectIdsWriter;
 
     private long totalObjectCount;
     private long errorCount;
@@ -49,14 +50,29 @@ public class ReportWriter implements AutoCloseable {
     private boolean isClosed = false;
 
     public ReportWriter(File tempFile) throws IOException {
+        this(tempFile, null);
+    }
+
+    /**
+     * @param mismatchedObjectIdsFile if not null, ids of mismatched objects are also written to this file, one per
+     * line.
+     */
+    public ReportWriter(File tempFile, File mismatchedObjectIdsFile) throws IOException {
         this.outputStream = new FileOutputStream(tempFile);
         this.writer = new BufferedWriter(new OutputStreamWriter(outputStream));
+        this.mismatchedObjectIdsWriter = mismatchedObjectIdsFile == null
+            ? null
+            : new BufferedWriter(new OutputStreamWriter(new FileOutputStream(mismatchedObjectIdsFile)));
     }
 
     public void reportMatchingObject(String objectId) {
         this.totalObjectCount++;
     }
 
+    public void reportMatchingObjects(long count) {
+        this.totalObjectCount += count;
+    }
+
     public void reportObjectMismatch(String objectId, Long sizeOffer1, Long sizeOffer2) throws IOException {
         this.totalObjectCount++;
         this.errorCount++;
@@ -70,6 +86,10 @@ public class ReportWriter implements AutoCloseable {
                 new ReportEntry().setObjectId(objectId).setSizeInOffer1(sizeOffer1).setSizeInOffer2(sizeOffer2)
             )
         );
+
+        if (mismatchedObjectIdsWriter != null) {
+            mismatchedObjectIdsWriter.append(objectId).append("\n");
+        }
     }
 
     @Override
@@ -80,6 +100,9 @@ public class ReportWriter implements AutoCloseable {
         writer.flush();
         writer.close();
         outputStream.close();
+        if (mismatchedObjectIdsWriter != null) {
+            mismatchedObjectIdsWriter.close();
+        }
         isClosed = true;
     }
 
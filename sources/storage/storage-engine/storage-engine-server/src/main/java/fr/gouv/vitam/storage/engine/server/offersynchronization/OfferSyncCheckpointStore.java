@@ -0,0 +1,150 @@
+/*
+ * Copyright French Prime minister Office/SGMAP/DINSIC/Vitam Program (2015-2022)
+ *
+ * contact.vitam@culture.gouv.fr
+ *
+ * This software is a computer program whose purpose is to implement a digital archiving back-office system managing
+ * high volumetry securely and efficiently.
+ *
+ * This software is governed by the CeCILL 2.1 license under French law and abiding by the rules of distribution of free
+ * software. You can use, modify and/ or redistribute the software under the terms of the CeCILL 2.1 license as
+ * circulated by CEA, CNRS and INRIA at the following URL "https://cecill.info".
+ *
+ * As a counterpart to the access to the source code and rights to copy, modify and redistribute granted by the license,
+ * users are provided only with a limited warranty and the software's author, the holder of the economic rights, and the
+ * successive licensors have only limited liability.
+ *
+ * In this respect, the user's attention is drawn to the risks associated with loading, using, modifying and/or
+ * developing or reproducing the software by the user in light of its specific status of free software, that may mean
+ * that it is complicated to manipulate, and that also therefore means that it is reserved for developers and
+ * experienced professionals having in-depth computer knowledge. Users are therefore encouraged to load and test the
+ * software's suitability as regards their requirements in conditions enabling the security of their systems and/or data
+ * to be ensured and, more generally, to use and operate it in the same conditions as regards security.
+ *
+ * The fact that you are presently reading this means that you have had knowledge of the CeCILL 2.1 license and that you
+ * accept its terms.
+ */
+package fr.gouv.vitam.storage.engine.server.offersynchronization;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import fr.gouv.vitam.common.LocalDateUtil;
+import fr.gouv.vitam.common.exception.InvalidParseOperationException;
+import fr.gouv.vitam.common.json.JsonHandler;
+import fr.gouv.vitam.common.logging.VitamLogger;
+import fr.gouv.vitam.common.logging.VitamLoggerFactory;
+import fr.gouv.vitam.storage.engine.common.model.DataCategory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+
+/**
+ * Persists offer synchronization safe point offsets on local disk, so that an interrupted synchronization can be
+ * resumed from its last safe point instead of its initial start offset.
+ *
+ * One checkpoint file is kept per (tenant, source offer, target offer, strategy, container). A checkpoint is removed
+ * once the synchronization completes successfully.
+ */
+public class OfferSyncCheckpointStore {
+
+    private static final VitamLogger LOGGER = VitamLoggerFactory.getInstance(OfferSyncCheckpointStore.class);
+
+    private static final String OFFSET = "offset";
+    private static final String LAST_UPDATE = "lastUpdate";
+    private static final String JSON_EXTENSION = ".json";
+    private static final String TMP_EXTENSION = ".tmp";
+
+    private final Path checkpointDirectory;
+
+    public OfferSyncCheckpointStore(String checkpointDirectory) throws IOException {
+        this.checkpointDirectory = Paths.get(checkpointDirectory);
+        Files.createDirectories(this.checkpointDirectory);
+    }
+
+    /**
+     * @return the last persisted safe point offset (next offset to synchronize), if any.
+     */
+    public Optional<Long> getOffset(
+        int tenantId,
+        String sourceOffer,
+        String targetOffer,
+        String strategyId,
+        DataCategory dataCategory
+    ) {
+        Path checkpointFile = getCheckpointFile(tenantId, sourceOffer, targetOffer, strategyId, dataCategory);
+        if (!Files.exists(checkpointFile)) {
+            return Optional.empty();
+        }
+        try {
+            JsonNode checkpoint = JsonHandler.getFromFile(checkpointFile.toFile());
+            if (!checkpoint.hasNonNull(OFFSET)) {
+                return Optional.empty();
+            }
+            return Optional.of(checkpoint.get(OFFSET).asLong());
+        } catch (InvalidParseOperationException e) {
+            LOGGER.warn("Could not read offer synchronization checkpoint " + checkpointFile + ". Ignoring it.", e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Atomically persists the safe point offset (next offset to synchronize).
+     */
+    public void saveOffset(
+        int tenantId,
+        String sourceOffer,
+        String targetOffer,
+        String strategyId,
+        DataCategory dataCategory,
+        long offset
+    ) throws IOException {
+        Path checkpointFile = getCheckpointFile(tenantId, sourceOffer, targetOffer, strategyId, dataCategory);
+        Path tmpCheckpointFile = checkpointFile.resolveSibling(checkpointFile.getFileName() + TMP_EXTENSION);
+
+        ObjectNode checkpoint = JsonHandler.createObjectNode()
+            .put(OFFSET, offset)
+            .put(LAST_UPDATE, LocalDateUtil.nowFormatted());
+        try {
+            JsonHandler.writeAsFile(checkpoint, tmpCheckpointFile.toFile());
+        } catch (InvalidParseOperationException e) {
+            throw new IOException("Could not write offer synchronization checkpoint " + tmpCheckpointFile, e);
+        }
+        Files.move(tmpCheckpointFile, checkpointFile, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    public void deleteOffset(
+        int tenantId,
+        String sourceOffer,
+        String targetOffer,
+        String strategyId,
+        DataCategory dataCategory
+    ) throws IOException {
+        Files.deleteIfExists(getCheckpointFile(tenantId, sourceOffer, targetOffer, strategyId, dataCategory));
+    }
+
+    private Path getCheckpointFile(
+        int tenantId,
+        String sourceOffer,
+        String targetOffer,
+        String strategyId,
+        DataCategory dataCategory
+    ) {
+        String fileName = String.join(
+            "__",
+            Integer.toString(tenantId),
+            sanitize(sourceOffer),
+            sanitize(targetOffer),
+            sanitize(strategyId),
+            dataCategory.getCollectionName()
+        );
+        return checkpointDirectory.resolve(fileName + JSON_EXTENSION);
+    }
+
+    private static String sanitize(String value) {
+        return value.replaceAll("[^A-Za-z0-9._-]", "_");
+    }
+}
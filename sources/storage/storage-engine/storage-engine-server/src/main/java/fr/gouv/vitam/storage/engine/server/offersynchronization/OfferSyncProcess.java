@@ -35,6 +35,7 @@ import fr.gouv.vitam.common.model.storage.AccessRequestStatus;
 import fr.gouv.vitam.common.retryable.RetryableOnException;
 import fr.gouv.vitam.common.retryable.RetryableParameters;
 import fr.gouv.vitam.common.stream.StreamUtils;
+import fr.gouv.vitam.common.thread.VitamThreadPoolExecutor;
 import fr.gouv.vitam.common.thread.VitamThreadUtils;
 import fr.gouv.vitam.storage.engine.common.exception.StorageException;
 import fr.gouv.vitam.storage.engine.common.exception.StorageNotFoundException;
@@ -50,6 +51,7 @@ import org.apache.commons.collections4.ListUtils;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 
 import javax.ws.rs.core.Response;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -77,6 +79,7 @@ public class OfferSyncProcess {
     private final int bulkSize;
     private final RetryableParameters retryableParameters;
     private final int accessRequestCheckWaitingTime;
+    private final OfferSyncCheckpointStore offerSyncCheckpointStore;
 
     private OfferSyncStatus offerSyncStatus;
 
@@ -88,6 +91,32 @@ public class OfferSyncProcess {
         int offerSyncFirstAttemptWaitingTime,
         int offerSyncWaitingTime,
         int accessRequestCheckWaitingTime
+    ) {
+        this(
+            restoreOfferBackupService,
+            distribution,
+            bulkSize,
+            offerSyncNumberOfRetries,
+            offerSyncFirstAttemptWaitingTime,
+            offerSyncWaitingTime,
+            accessRequestCheckWaitingTime,
+            null
+        );
+    }
+
+    /**
+     * @param offerSyncCheckpointStore store of synchronization safe points. If {@code null}, safe points are not
+     * persisted and an interrupted synchronization has to be restarted from its start offset.
+     */
+    public OfferSyncProcess(
+        RestoreOfferBackupService restoreOfferBackupService,
+        StorageDistribution distribution,
+        int bulkSize,
+        int offerSyncNumberOfRetries,
+        int offerSyncFirstAttemptWaitingTime,
+        int offerSyncWaitingTime,
+        int accessRequestCheckWaitingTime,
+        OfferSyncCheckpointStore offerSyncCheckpointStore
     ) {
         this.restoreOfferBackupService = restoreOfferBackupService;
         this.distribution = distribution;
@@ -111,6 +140,7 @@ public class OfferSyncProcess {
             SECONDS
         );
         this.accessRequestCheckWaitingTime = accessRequestCheckWaitingTime;
+        this.offerSyncCheckpointStore = offerSyncCheckpointStore;
     }
 
     private static OfferLog getLastOfferLog(OfferLog offerLog1, OfferLog offerLog2) {
@@ -121,13 +151,22 @@ public class OfferSyncProcess {
         return LocalDateUtil.nowFormatted();
     }
 
+    /**
+     * Synchronize a container of the target offer from the source offer.
+     *
+     * @param startOffset the offset to start synchronization from
+     * @param resume when true, an interrupted synchronization of the same container is resumed from its last
+     * persisted safe point (if after startOffset). Otherwise, synchronization starts from startOffset and any
+     * persisted safe point is reset.
+     */
     public void synchronize(
         ExecutorService executor,
         String sourceOffer,
         String targetOffer,
         String strategyId,
         DataCategory dataCategory,
-        Long startOffset
+        Long startOffset,
+        boolean resume
     ) {
         this.offerSyncStatus = new OfferSyncStatus(
             VitamThreadUtils.getVitamSession().getRequestId(),
@@ -151,35 +190,54 @@ public class OfferSyncProcess {
                 )
             );
 
-            Long offset = startOffset;
+            int tenantId = VitamThreadUtils.getVitamSession().getTenantId();
+            Long offset = getStartOffset(
+                tenantId,
+                sourceOffer,
+                targetOffer,
+                strategyId,
+                dataCategory,
+                startOffset,
+                resume
+            );
+
+            // Offer log listing of the next page is pipelined with the synchronization of the current page
+            CompletableFuture<List<OfferLog>> nextListing = CompletableFuture.completedFuture(
+                getListing(sourceOffer, strategyId, dataCategory, offset)
+            );
             while (true) {
-                // get the data to startSynchronization
-                List<OfferLog> rawOfferLogs = restoreOfferBackupService.getListing(
-                    strategyId,
-                    sourceOffer,
-                    dataCategory,
-                    offset,
-                    bulkSize,
-                    Order.ASC
-                );
+                List<OfferLog> rawOfferLogs = awaitListing(nextListing);
 
                 if (rawOfferLogs.isEmpty()) {
                     break;
                 }
 
-                long lastSequence = synchronizeOfferLogs(
-                    executor,
-                    sourceOffer,
-                    targetOffer,
-                    strategyId,
-                    dataCategory,
-                    rawOfferLogs,
-                    offset
-                );
+                long nextOffset = Iterables.getLast(rawOfferLogs).getSequence() + 1;
+                boolean hasNextPage = rawOfferLogs.size() >= bulkSize;
+                if (hasNextPage) {
+                    nextListing = getListingAsync(sourceOffer, strategyId, dataCategory, nextOffset);
+                }
+
+                long lastSequence;
+                try {
+                    lastSequence = synchronizeOfferLogs(
+                        executor,
+                        sourceOffer,
+                        targetOffer,
+                        strategyId,
+                        dataCategory,
+                        rawOfferLogs,
+                        offset
+                    );
+                } catch (StorageException | RuntimeException e) {
+                    nextListing.cancel(false);
+                    throw e;
+                }
 
                 this.offerSyncStatus.setCurrentOffset(lastSequence);
 
                 offset = lastSequence + 1;
+                saveSafePoint(tenantId, sourceOffer, targetOffer, strategyId, dataCategory, offset);
 
                 LOGGER.info(
                     String.format(
@@ -191,11 +249,13 @@ public class OfferSyncProcess {
                     )
                 );
 
-                if (rawOfferLogs.size() < bulkSize) {
+                if (!hasNextPage) {
                     break;
                 }
             }
 
+            deleteSafePoint(tenantId, sourceOffer, targetOffer, strategyId, dataCategory);
+
             LOGGER.info(
                 String.format("The offers synchronization completed successfully. from %d to %d", startOffset, offset)
             );
@@ -216,6 +276,127 @@ public class OfferSyncProcess {
         }
     }
 
+    private Long getStartOffset(
+        int tenantId,
+        String sourceOffer,
+        String targetOffer,
+        String strategyId,
+        DataCategory dataCategory,
+        Long startOffset,
+        boolean resume
+    ) {
+        if (offerSyncCheckpointStore == null) {
+            return startOffset;
+        }
+        if (!resume) {
+            // Explicit start offset always wins. Any stale safe point is reset.
+            deleteSafePoint(tenantId, sourceOffer, targetOffer, strategyId, dataCategory);
+            return startOffset;
+        }
+        Optional<Long> safePoint = offerSyncCheckpointStore.getOffset(
+            tenantId,
+            sourceOffer,
+            targetOffer,
+            strategyId,
+            dataCategory
+        );
+        if (safePoint.isEmpty() || (startOffset != null && startOffset >= safePoint.get())) {
+            return startOffset;
+        }
+        LOGGER.info(
+            String.format(
+                "Resuming interrupted synchronization from %s to %s for category %s at safe point offset %s",
+                sourceOffer,
+                targetOffer,
+                dataCategory,
+                safePoint.get()
+            )
+        );
+        return safePoint.get();
+    }
+
+    private void saveSafePoint(
+        int tenantId,
+        String sourceOffer,
+        String targetOffer,
+        String strategyId,
+        DataCategory dataCategory,
+        long offset
+    ) {
+        if (offerSyncCheckpointStore == null) {
+            return;
+        }
+        try {
+            offerSyncCheckpointStore.saveOffset(tenantId, sourceOffer, targetOffer, strategyId, dataCategory, offset);
+        } catch (IOException e) {
+            // Not blocking : on restart, synchronization would simply be resumed from an older safe point
+            LOGGER.warn("Could not persist offer synchronization safe point offset " + offset, e);
+        }
+    }
+
+    private void deleteSafePoint(
+        int tenantId,
+        String sourceOffer,
+        String targetOffer,
+        String strategyId,
+        DataCategory dataCategory
+    ) {
+        if (offerSyncCheckpointStore == null) {
+            return;
+        }
+        try {
+            offerSyncCheckpointStore.deleteOffset(tenantId, sourceOffer, targetOffer, strategyId, dataCategory);
+        } catch (IOException e) {
+            LOGGER.warn("Could not delete offer synchronization safe point", e);
+        }
+    }
+
+    private List<OfferLog> getListing(String sourceOffer, String strategyId, DataCategory dataCategory, Long offset)
+        throws StorageException {
+        return restoreOfferBackupService.getListing(
+            strategyId,
+            sourceOffer,
+            dataCategory,
+            offset,
+            bulkSize,
+            Order.ASC
+        );
+    }
+
+    private CompletableFuture<List<OfferLog>> getListingAsync(
+        String sourceOffer,
+        String strategyId,
+        DataCategory dataCategory,
+        long offset
+    ) {
+        int tenantId = VitamThreadUtils.getVitamSession().getTenantId();
+        String requestId = VitamThreadUtils.getVitamSession().getRequestId();
+
+        return CompletableFuture.supplyAsync(
+            () -> {
+                VitamThreadUtils.getVitamSession().setTenantId(tenantId);
+                VitamThreadUtils.getVitamSession().setRequestId(requestId);
+                try {
+                    return getListing(sourceOffer, strategyId, dataCategory, offset);
+                } catch (StorageException e) {
+                    throw new RuntimeStorageException("Could not list offer logs of " + sourceOffer, e);
+                }
+            },
+            VitamThreadPoolExecutor.getDefaultExecutor()
+        );
+    }
+
+    private List<OfferLog> awaitListing(CompletableFuture<List<OfferLog>> listing) throws StorageException {
+        try {
+            return listing.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new StorageException(e);
+        } catch (ExecutionException e) {
+            throw new StorageException("Could not list offer logs", e.getCause());
+        }
+    }
+
     private long synchronizeOfferLogs(
         Executor executor,
         String sourceOffer,
@@ -37,13 +37,21 @@ import fr.gouv.vitam.storage.engine.common.model.request.OfferPartialSyncItem;
 import fr.gouv.vitam.storage.engine.server.distribution.StorageDistribution;
 import fr.gouv.vitam.storage.engine.server.rest.StorageConfiguration;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Manages offer synchronization service.
+ *
+ * Full synchronizations of distinct containers may run concurrently. They share the same synchronization executor,
+ * whose thread pool size bounds the global number of concurrent object copies / deletions. A partial synchronization
+ * cannot run concurrently with any other synchronization.
  */
 public class OfferSyncService implements AutoCloseable {
 
@@ -52,6 +60,8 @@ public class OfferSyncService implements AutoCloseable {
      */
     private static final VitamLogger LOGGER = VitamLoggerFactory.getInstance(OfferSyncService.class);
 
+    private static final String PARTIAL_SYNCHRONIZATION_KEY = "__partial_synchronization__";
+
     private final RestoreOfferBackupService restoreOfferBackupService;
     private final StorageDistribution distribution;
     private final int bulkSize;
@@ -59,9 +69,11 @@ public class OfferSyncService implements AutoCloseable {
     private final int offerSyncFirstAttemptWaitingTime;
     private final int offerSyncWaitingTime;
     private final int offerSyncAccessRequestCheckWaitingTime;
+    private final OfferSyncCheckpointStore offerSyncCheckpointStore;
 
     private final ExecutorService executor;
     private final AtomicReference<OfferSyncProcess> lastOfferSyncService = new AtomicReference<>(null);
+    private final Map<String, OfferSyncProcess> runningOfferSyncProcesses = new HashMap<>();
 
     /**
      * Constructor.
@@ -75,7 +87,8 @@ public class OfferSyncService implements AutoCloseable {
             storageConfiguration.getOfferSyncNumberOfRetries(),
             storageConfiguration.getOfferSyncFirstAttemptWaitingTime(),
             storageConfiguration.getOfferSyncWaitingTime(),
-            storageConfiguration.getOfferSyncAccessRequestCheckWaitingTime()
+            storageConfiguration.getOfferSyncAccessRequestCheckWaitingTime(),
+            createOfferSyncCheckpointStore(storageConfiguration.getOfferSyncCheckpointDirectory())
         );
     }
 
@@ -92,6 +105,34 @@ public class OfferSyncService implements AutoCloseable {
         int offerSyncFirstAttemptWaitingTime,
         int offerSyncWaitingTime,
         int offerSyncAccessRequestCheckWaitingTime
+    ) {
+        this(
+            restoreOfferBackupService,
+            distribution,
+            bulkSize,
+            offerSyncThreadPoolSize,
+            offerSyncNumberOfRetries,
+            offerSyncFirstAttemptWaitingTime,
+            offerSyncWaitingTime,
+            offerSyncAccessRequestCheckWaitingTime,
+            null
+        );
+    }
+
+    /**
+     * Test constructor.
+     */
+    @VisibleForTesting
+    OfferSyncService(
+        RestoreOfferBackupService restoreOfferBackupService,
+        StorageDistribution distribution,
+        int bulkSize,
+        int offerSyncThreadPoolSize,
+        int offerSyncNumberOfRetries,
+        int offerSyncFirstAttemptWaitingTime,
+        int offerSyncWaitingTime,
+        int offerSyncAccessRequestCheckWaitingTime,
+        OfferSyncCheckpointStore offerSyncCheckpointStore
     ) {
         this.restoreOfferBackupService = restoreOfferBackupService;
         this.distribution = distribution;
@@ -100,9 +141,22 @@ public class OfferSyncService implements AutoCloseable {
         this.offerSyncFirstAttemptWaitingTime = offerSyncFirstAttemptWaitingTime;
         this.offerSyncWaitingTime = offerSyncWaitingTime;
         this.offerSyncAccessRequestCheckWaitingTime = offerSyncAccessRequestCheckWaitingTime;
+        this.offerSyncCheckpointStore = offerSyncCheckpointStore;
         this.executor = ExecutorUtils.createScalableBatchExecutorService(offerSyncThreadPoolSize);
     }
 
+    private static OfferSyncCheckpointStore createOfferSyncCheckpointStore(String offerSyncCheckpointDirectory) {
+        if (offerSyncCheckpointDirectory == null) {
+            LOGGER.warn("No offer synchronization checkpoint directory configured. Safe points will not be persisted");
+            return null;
+        }
+        try {
+            return new OfferSyncCheckpointStore(offerSyncCheckpointDirectory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not initialize offer synchronization checkpoint directory", e);
+        }
+    }
+
     public boolean startSynchronization(
         String sourceOffer,
         String targetOffer,
@@ -111,16 +165,8 @@ public class OfferSyncService implements AutoCloseable {
     ) {
         OfferSyncProcess offerSyncProcess = createOfferSyncProcess();
 
-        OfferSyncProcess currentOfferSyncProcess = lastOfferSyncService.updateAndGet(previousOfferSyncService -> {
-            if (previousOfferSyncService != null && previousOfferSyncService.isRunning()) {
-                return previousOfferSyncService;
-            }
-            return offerSyncProcess;
-        });
-
-        // Ensure no concurrent synchronization service running
-        if (offerSyncProcess != currentOfferSyncProcess) {
-            LOGGER.error("Another synchronization workflow is already running " + currentOfferSyncProcess.toString());
+        // Ensure no conflicting synchronization service running
+        if (!tryRegisterOfferSyncProcess(PARTIAL_SYNCHRONIZATION_KEY, offerSyncProcess)) {
             return false;
         }
 
@@ -158,27 +204,23 @@ public class OfferSyncService implements AutoCloseable {
      * @param sourceOffer the identifier of the source offer
      * @param targetOffer the identifier of the target offer
      * @param strategyId the identifier of the strategy containing the two offers
-     * @param offset the offset of the process of the synchronisation
+     * @param offset the offset of the process of the synchronisation.
+     * @param resume when true, if a previous synchronization of the same container has been interrupted after the
+     * offset, synchronization is resumed from its last persisted safe point. Otherwise, the persisted safe point is
+     * reset and synchronization starts from the offset.
      */
     public boolean startSynchronization(
         String sourceOffer,
         String targetOffer,
         String strategyId,
         DataCategory dataCategory,
-        Long offset
+        Long offset,
+        boolean resume
     ) {
         OfferSyncProcess offerSyncProcess = createOfferSyncProcess();
 
-        OfferSyncProcess currentOfferSyncProcess = lastOfferSyncService.updateAndGet(previousOfferSyncService -> {
-            if (previousOfferSyncService != null && previousOfferSyncService.isRunning()) {
-                return previousOfferSyncService;
-            }
-            return offerSyncProcess;
-        });
-
-        // Ensure no concurrent synchronization service running
-        if (offerSyncProcess != currentOfferSyncProcess) {
-            LOGGER.error("Another synchronization workflow is already running " + currentOfferSyncProcess.toString());
+        // Ensure no conflicting synchronization service running (same container, or partial synchronization)
+        if (!tryRegisterOfferSyncProcess(dataCategory.getCollectionName(), offerSyncProcess)) {
             return false;
         }
 
@@ -191,8 +233,27 @@ public class OfferSyncService implements AutoCloseable {
             )
         );
 
-        runSynchronizationAsync(sourceOffer, targetOffer, strategyId, dataCategory, offset, offerSyncProcess);
+        runSynchronizationAsync(sourceOffer, targetOffer, strategyId, dataCategory, offset, resume, offerSyncProcess);
+
+        return true;
+    }
+
+    private synchronized boolean tryRegisterOfferSyncProcess(String key, OfferSyncProcess offerSyncProcess) {
+        runningOfferSyncProcesses.values().removeIf(runningOfferSyncProcess -> !runningOfferSyncProcess.isRunning());
 
+        OfferSyncProcess conflictingOfferSyncProcess = runningOfferSyncProcesses.get(key);
+        if (conflictingOfferSyncProcess == null) {
+            conflictingOfferSyncProcess = PARTIAL_SYNCHRONIZATION_KEY.equals(key)
+                ? runningOfferSyncProcesses.values().stream().findFirst().orElse(null)
+                : runningOfferSyncProcesses.get(PARTIAL_SYNCHRONIZATION_KEY);
+        }
+        if (conflictingOfferSyncProcess != null) {
+            LOGGER.error("Another synchronization workflow is already running " + conflictingOfferSyncProcess);
+            return false;
+        }
+
+        runningOfferSyncProcesses.put(key, offerSyncProcess);
+        lastOfferSyncService.set(offerSyncProcess);
         return true;
     }
 
@@ -204,7 +265,8 @@ public class OfferSyncService implements AutoCloseable {
             offerSyncNumberOfRetries,
             offerSyncFirstAttemptWaitingTime,
             offerSyncWaitingTime,
-            offerSyncAccessRequestCheckWaitingTime
+            offerSyncAccessRequestCheckWaitingTime,
+            offerSyncCheckpointStore
         );
     }
 
@@ -214,6 +276,7 @@ public class OfferSyncService implements AutoCloseable {
         String strategyId,
         DataCategory dataCategory,
         Long offset,
+        boolean resume,
         OfferSyncProcess offerSyncProcess
     ) {
         int tenantId = VitamThreadUtils.getVitamSession().getTenantId();
@@ -225,16 +288,23 @@ public class OfferSyncService implements AutoCloseable {
                     VitamThreadUtils.getVitamSession().setTenantId(tenantId);
                     VitamThreadUtils.getVitamSession().setRequestId(requestId);
 
-                    offerSyncProcess.synchronize(executor, sourceOffer, targetOffer, strategyId, dataCategory, offset);
+                    offerSyncProcess.synchronize(
+                        executor,
+                        sourceOffer,
+                        targetOffer,
+                        strategyId,
+                        dataCategory,
+                        offset,
+                        resume
+                    );
                 } catch (Exception e) {
                     LOGGER.error("An error occurred during synchronization process execution", e);
                 }
             });
     }
 
-    public boolean isRunning() {
-        OfferSyncProcess offerSyncProcess = lastOfferSyncService.get();
-        return offerSyncProcess != null && offerSyncProcess.isRunning();
+    public synchronized boolean isRunning() {
+        return runningOfferSyncProcesses.values().stream().anyMatch(OfferSyncProcess::isRunning);
     }
 
     public OfferSyncStatus getLastSynchronizationStatus() {
@@ -35,6 +35,7 @@ import fr.gouv.vitam.common.model.AuthenticationLevel;
 import fr.gouv.vitam.common.security.rest.VitamAuthentication;
 import fr.gouv.vitam.common.thread.VitamThreadUtils;
 import fr.gouv.vitam.storage.engine.common.model.DataCategory;
+import fr.gouv.vitam.storage.engine.common.model.OfferDiffMode;
 import fr.gouv.vitam.storage.engine.common.model.request.OfferDiffRequest;
 import fr.gouv.vitam.storage.engine.server.offerdiff.OfferDiffService;
 import fr.gouv.vitam.storage.engine.server.offerdiff.OfferDiffStatus;
@@ -99,10 +100,13 @@ public class AdminOfferDiffResource {
             throw new IllegalArgumentException("Offer ids to compare must not be the same");
         }
 
+        OfferDiffMode mode = offerDiffRequest.getMode() == null ? OfferDiffMode.SORT : offerDiffRequest.getMode();
+
         boolean started = offerDiffService.startOfferDiff(
             offerDiffRequest.getOffer1(),
             offerDiffRequest.getOffer2(),
-            dataCategory
+            dataCategory,
+            mode
         );
 
         Response.Status status;
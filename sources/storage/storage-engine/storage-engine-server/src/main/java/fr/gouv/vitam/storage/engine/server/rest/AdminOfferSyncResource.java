@@ -176,7 +176,7 @@ public class AdminOfferSyncResource {
     }
 
     /**
-     * Start offer synchronization. At most, one synchronization process can be started.
+     * Start offer synchronization. At most, one synchronization process per container can be started.
      */
     @Path(OFFER_SYNC_URI)
     @POST
@@ -220,7 +220,8 @@ public class AdminOfferSyncResource {
             offerSyncRequest.getTargetOffer(),
             offerSyncRequest.getStrategyId(),
             dataCategory,
-            offerSyncRequest.getOffset()
+            offerSyncRequest.getOffset(),
+            offerSyncRequest.isResume()
         );
 
         Response.Status status;
@@ -87,7 +87,7 @@ public class AdminStorageApplication extends Application {
             );
 
             singletons.add(new AdminOfferSyncResource(distribution, storageConfiguration));
-            singletons.add(new AdminOfferDiffResource(new OfferDiffService(distribution)));
+            singletons.add(new AdminOfferDiffResource(new OfferDiffService(distribution, storageConfiguration)));
             singletons.add(new BasicAuthenticationFilter(storageConfiguration));
             singletons.add(new AdminRequestIdFilter());
             singletons.add(new WriteProtectionScanner(new AlertServiceImpl(), storageConfiguration.isReadOnly()));
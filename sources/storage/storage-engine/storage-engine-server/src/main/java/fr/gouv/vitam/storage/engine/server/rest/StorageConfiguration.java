@@ -48,8 +48,13 @@ public final class StorageConfiguration extends DefaultVitamApplicationConfigura
     private int offerSyncFirstAttemptWaitingTime = 15;
     private int offerSyncWaitingTime = 30;
     private int offerSyncAccessRequestCheckWaitingTime = 10;
+    private String offerSyncCheckpointDirectory;
+    private int offerDiffPartitionCount = 256;
+    private int offerDiffThreadPoolSize = 4;
+    private String offerDiffCheckpointDirectory;
     private int storageLogBackupThreadPoolSize = 16;
     private int storageLogTraceabilityThreadPoolSize = 16;
+    private StorageLogBatchWriterConfiguration storageLogBatchWriter;
 
     /**
      * StorageConfiguration empty constructor for YAMLFactory
@@ -213,6 +218,42 @@ public final class StorageConfiguration extends DefaultVitamApplicationConfigura
         this.offerSyncAccessRequestCheckWaitingTime = offerSyncAccessRequestCheckWaitingTime;
     }
 
+    public String getOfferSyncCheckpointDirectory() {
+        return offerSyncCheckpointDirectory;
+    }
+
+    public StorageConfiguration setOfferSyncCheckpointDirectory(String offerSyncCheckpointDirectory) {
+        this.offerSyncCheckpointDirectory = offerSyncCheckpointDirectory;
+        return this;
+    }
+
+    public int getOfferDiffPartitionCount() {
+        return offerDiffPartitionCount;
+    }
+
+    public StorageConfiguration setOfferDiffPartitionCount(int offerDiffPartitionCount) {
+        this.offerDiffPartitionCount = offerDiffPartitionCount;
+        return this;
+    }
+
+    public int getOfferDiffThreadPoolSize() {
+        return offerDiffThreadPoolSize;
+    }
+
+    public StorageConfiguration setOfferDiffThreadPoolSize(int offerDiffThreadPoolSize) {
+        this.offerDiffThreadPoolSize = offerDiffThreadPoolSize;
+        return this;
+    }
+
+    public String getOfferDiffCheckpointDirectory() {
+        return offerDiffCheckpointDirectory;
+    }
+
+    public StorageConfiguration setOfferDiffCheckpointDirectory(String offerDiffCheckpointDirectory) {
+        this.offerDiffCheckpointDirectory = offerDiffCheckpointDirectory;
+        return this;
+    }
+
     public int getStorageLogBackupThreadPoolSize() {
         return storageLogBackupThreadPoolSize;
     }
@@ -229,6 +270,15 @@ public final class StorageConfiguration extends DefaultVitamApplicationConfigura
         this.storageLogTraceabilityThreadPoolSize = storageLogTraceabilityThreadPoolSize;
     }
 
+    public StorageLogBatchWriterConfiguration getStorageLogBatchWriter() {
+        return storageLogBatchWriter;
+    }
+
+    public StorageConfiguration setStorageLogBatchWriter(StorageLogBatchWriterConfiguration storageLogBatchWriter) {
+        this.storageLogBatchWriter = storageLogBatchWriter;
+        return this;
+    }
+
     public int getMinWriteTimeoutMs() {
         return minWriteTimeoutMs;
     }
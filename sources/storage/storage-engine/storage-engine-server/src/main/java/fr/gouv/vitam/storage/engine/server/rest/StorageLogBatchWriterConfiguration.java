@@ -0,0 +1,167 @@
+/*
+ * Copyright French Prime minister Office/SGMAP/DINSIC/Vitam Program (2015-2022)
+ *
+ * contact.vitam@culture.gouv.fr
+ *
+ * This software is a computer program whose purpose is to implement a digital archiving back-office system managing
+ * high volumetry securely and efficiently.
+ *
+ * This software is governed by the CeCILL 2.1 license under French law and abiding by the rules of distribution of free
+ * software. You can use, modify and/ or redistribute the software under the terms of the CeCILL 2.1 license as
+ * circulated by CEA, CNRS and INRIA at the following URL "https://cecill.info".
+ *
+ * As a counterpart to the access to the source code and rights to copy, modify and redistribute granted by the license,
+ * users are provided only with a limited warranty and the software's author, the holder of the economic rights, and the
+ * successive licensors have only limited liability.
+ *
+ * In this respect, the user's attention is drawn to the risks associated with loading, using, modifying and/or
+ * developing or reproducing the software by the user in light of its specific status of free software, that may mean
+ * that it is complicated to manipulate, and that also therefore means that it is reserved for developers and
+ * experienced professionals having in-depth computer knowledge. Users are therefore encouraged to load and test the
+ * software's suitability as regards their requirements in conditions enabling the security of their systems and/or data
+ * to be ensured and, more generally, to use and operate it in the same conditions as regards security.
+ *
+ * The fact that you are presently reading this means that you have had knowledge of the CeCILL 2.1 license and that you
+ * accept its terms.
+ */
+package fr.gouv.vitam.storage.engine.server.rest;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import fr.gouv.vitam.storage.engine.server.storagelog.StorageLogDurability;
+
+import java.util.Objects;
+
+/**
+ * Storage log batch writer configuration.
+ *
+ * When enabled, storage write / access log entries are enqueued by callers, and written by batch by a dedicated writer
+ * thread, that flushes (or fsyncs) each batch according to the configured durability.
+ */
+public class StorageLogBatchWriterConfiguration {
+
+    private static final int MIN_QUEUE_CAPACITY = 1;
+    private static final int MAX_QUEUE_CAPACITY = 1_000_000;
+    private static final int MIN_BATCH_SIZE = 1;
+    private static final int MAX_BATCH_SIZE = 10_000;
+    private static final int MAX_WAIT_TIME_IN_MILLIS = 1_000;
+
+    private final boolean enabled;
+    private final int queueCapacity;
+    private final int maxBatchSize;
+    private final int maxWaitTimeInMillis;
+    private final StorageLogDurability durability;
+
+    @JsonCreator
+    public StorageLogBatchWriterConfiguration(
+        @JsonProperty("enabled") boolean enabled,
+        @JsonProperty("queueCapacity") int queueCapacity,
+        @JsonProperty("maxBatchSize") int maxBatchSize,
+        @JsonProperty("maxWaitTimeInMillis") int maxWaitTimeInMillis,
+        @JsonProperty("durability") StorageLogDurability durability
+    ) {
+        this.enabled = enabled;
+        this.queueCapacity = queueCapacity;
+        this.maxBatchSize = maxBatchSize;
+        this.maxWaitTimeInMillis = maxWaitTimeInMillis;
+        this.durability = durability;
+    }
+
+    public void validateConf() {
+        if (!enabled) {
+            return;
+        }
+
+        if (queueCapacity > MAX_QUEUE_CAPACITY || queueCapacity < MIN_QUEUE_CAPACITY) {
+            throw new IllegalStateException(
+                "Invalid storage log batch writer configuration. Invalid queue capacity " +
+                queueCapacity +
+                " expected between " +
+                MIN_QUEUE_CAPACITY +
+                " and " +
+                MAX_QUEUE_CAPACITY
+            );
+        }
+
+        if (maxBatchSize > MAX_BATCH_SIZE || maxBatchSize < MIN_BATCH_SIZE) {
+            throw new IllegalStateException(
+                "Invalid storage log batch writer configuration. Invalid max batch size " +
+                maxBatchSize +
+                " expected between " +
+                MIN_BATCH_SIZE +
+                " and " +
+                MAX_BATCH_SIZE
+            );
+        }
+
+        if (maxWaitTimeInMillis > MAX_WAIT_TIME_IN_MILLIS || maxWaitTimeInMillis < 0) {
+            throw new IllegalStateException(
+                "Invalid storage log batch writer configuration. Invalid max wait time " +
+                maxWaitTimeInMillis +
+                " expected between 0 and " +
+                MAX_WAIT_TIME_IN_MILLIS
+            );
+        }
+
+        if (durability == null) {
+            throw new IllegalStateException("Invalid storage log batch writer configuration. Missing durability");
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    public int getMaxWaitTimeInMillis() {
+        return maxWaitTimeInMillis;
+    }
+
+    public StorageLogDurability getDurability() {
+        return durability;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        StorageLogBatchWriterConfiguration that = (StorageLogBatchWriterConfiguration) o;
+        return (
+            enabled == that.enabled &&
+            queueCapacity == that.queueCapacity &&
+            maxBatchSize == that.maxBatchSize &&
+            maxWaitTimeInMillis == that.maxWaitTimeInMillis &&
+            durability == that.durability
+        );
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(enabled, queueCapacity, maxBatchSize, maxWaitTimeInMillis, durability);
+    }
+
+    @Override
+    public String toString() {
+        return (
+            "StorageLogBatchWriterConfiguration{" +
+            "enabled=" +
+            enabled +
+            ", queueCapacity=" +
+            queueCapacity +
+            ", maxBatchSize=" +
+            maxBatchSize +
+            ", maxWaitTimeInMillis=" +
+            maxWaitTimeInMillis +
+            ", durability=" +
+            durability +
+            '}'
+        );
+    }
+}
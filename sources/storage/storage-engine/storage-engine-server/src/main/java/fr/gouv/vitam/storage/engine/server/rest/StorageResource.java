@@ -48,6 +48,7 @@ import fr.gouv.vitam.common.exception.InvalidParseOperationException;
 import fr.gouv.vitam.common.json.JsonHandler;
 import fr.gouv.vitam.common.logging.VitamLogger;
 import fr.gouv.vitam.common.logging.VitamLoggerFactory;
+import fr.gouv.vitam.common.model.ByteRange;
 import fr.gouv.vitam.common.model.RequestResponse;
 import fr.gouv.vitam.common.model.RequestResponseError;
 import fr.gouv.vitam.common.model.RequestResponseOK;
@@ -131,6 +132,7 @@ import java.security.cert.CertificateException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -576,10 +578,20 @@ public class StorageResource extends ApplicationStatusResource implements VitamA
         String strategyId = HttpHeaderHelper.getHeaderValues(headers, VitamHttpHeader.STRATEGY_ID).get(0);
         String listOffer = HttpHeaderHelper.getHeaderValues(headers, VitamHttpHeader.OFFERS_IDS).get(0);
         List<String> offerIds = Arrays.asList(listOffer.split(","));
+        // Optional header : digests are read from offer cache unless explicitly requested
+        boolean noCache =
+            HttpHeaderHelper.hasValuesFor(headers, VitamHttpHeader.OFFER_NO_CACHE) &&
+            Boolean.parseBoolean(HttpHeaderHelper.getHeaderValues(headers, VitamHttpHeader.OFFER_NO_CACHE).get(0));
 
         List<BatchObjectInformationResponse> objectInformationResponses;
         try {
-            objectInformationResponses = distribution.getBatchObjectInformation(strategyId, type, objectIds, offerIds);
+            objectInformationResponses = distribution.getBatchObjectInformation(
+                strategyId,
+                type,
+                objectIds,
+                offerIds,
+                noCache
+            );
         } catch (StorageException e) {
             LOGGER.error(e);
             return buildErrorResponse(VitamCode.STORAGE_TECHNICAL_INTERNAL_ERROR);
@@ -622,18 +634,23 @@ public class StorageResource extends ApplicationStatusResource implements VitamA
         List<String> offerIdHeaders = Optional.of(
             HttpHeaderHelper.getHeaderValues(headers, VitamHttpHeader.OFFER)
         ).orElse(Collections.emptyList());
+        ByteRange range = ByteRange.parse(headers.getHeaderString(GlobalDataRest.RANGE)).orElse(null);
         try {
             if (CollectionUtils.isEmpty(offerIdHeaders)) {
-                return new VitamAsyncInputStreamResponse(
-                    getByCategory(objectId, dataCategory, strategyId, vitamCode, accessLogInfoModel),
-                    Status.OK,
-                    MediaType.APPLICATION_OCTET_STREAM_TYPE
+                return toAsyncObjectResponse(
+                    getByCategory(objectId, dataCategory, strategyId, vitamCode, null, accessLogInfoModel, range)
                 );
             } else {
-                return new VitamAsyncInputStreamResponse(
-                    getByCategory(objectId, dataCategory, strategyId, vitamCode, offerIdHeaders.get(0)),
-                    Status.OK,
-                    MediaType.APPLICATION_OCTET_STREAM_TYPE
+                return toAsyncObjectResponse(
+                    getByCategory(
+                        objectId,
+                        dataCategory,
+                        strategyId,
+                        vitamCode,
+                        offerIdHeaders.get(0),
+                        AccessLogUtils.getNoLogAccessLog(),
+                        range
+                    )
                 );
             }
         } catch (final StorageNotFoundException exc) {
@@ -652,6 +669,21 @@ public class StorageResource extends ApplicationStatusResource implements VitamA
         return buildErrorResponse(vitamCode);
     }
 
+    /**
+     * Partial content (206) and unsatisfiable range (416) statuses are forwarded to the caller with their Content-Range
+     * header. Any other successful offer response is served as a plain 200.
+     */
+    private static Response toAsyncObjectResponse(Response response) {
+        Status status = Status.fromStatusCode(response.getStatus());
+        if (status != Status.PARTIAL_CONTENT && status != Status.REQUESTED_RANGE_NOT_SATISFIABLE) {
+            return new VitamAsyncInputStreamResponse(response, Status.OK, MediaType.APPLICATION_OCTET_STREAM_TYPE);
+        }
+        Map<String, String> rangeHeaders = new HashMap<>();
+        rangeHeaders.put(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_OCTET_STREAM);
+        rangeHeaders.put(GlobalDataRest.CONTENT_RANGE, response.getHeaderString(GlobalDataRest.CONTENT_RANGE));
+        return new VitamAsyncInputStreamResponse(response, status, rangeHeaders);
+    }
+
     /**
      * Get colection data.
      *
@@ -739,6 +771,29 @@ public class StorageResource extends ApplicationStatusResource implements VitamA
         return buildErrorResponse(vitamCode);
     }
 
+    private Response getByCategory(
+        String objectId,
+        DataCategory category,
+        String strategyId,
+        VitamCode vitamCode,
+        String offerId,
+        AccessLogInfoModel logInformation,
+        ByteRange range
+    ) throws StorageException {
+        if (vitamCode == null) {
+            return distribution.getContainerByCategory(
+                strategyId,
+                StorageDistributionImpl.NORMAL_ORIGIN,
+                objectId,
+                category,
+                offerId,
+                logInformation,
+                range
+            );
+        }
+        return buildErrorResponse(vitamCode);
+    }
+
     /**
      * Post a new object
      *
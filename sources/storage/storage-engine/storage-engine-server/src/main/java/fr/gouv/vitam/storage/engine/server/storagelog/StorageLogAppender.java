@@ -34,36 +34,44 @@ import fr.gouv.vitam.storage.engine.server.storagelog.parameters.StorageLogStruc
 
 import java.io.BufferedWriter;
 import java.io.IOException;
-import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
 import java.nio.file.Path;
 
 import static java.nio.file.StandardOpenOption.APPEND;
 import static java.nio.file.StandardOpenOption.CREATE_NEW;
+import static java.nio.file.StandardOpenOption.WRITE;
 
 /**
  * Storage log appender.
  *
  * Not thread-safe. Should not be invoked by multiple threads concurrently.
+ * When storage log batch writer is enabled, appender is only accessed by the {@link StorageLogBatchWriter} thread.
  */
 public class StorageLogAppender implements VitamAutoCloseable {
 
     private static final VitamLogger LOGGER = VitamLoggerFactory.getInstance(StorageLogAppender.class);
 
+    private final Path filePath;
+    private final FileChannel fileChannel;
     private final Writer writer;
     private final String lineSeparator = "\n";
+    private volatile IOException asyncWriteFailure;
 
     public StorageLogAppender(Path filePath) throws IOException {
-        OutputStream outputStream = openStream(filePath);
-        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        this.filePath = filePath;
+        this.fileChannel = openChannel(filePath);
+        this.writer = new BufferedWriter(
+            new OutputStreamWriter(Channels.newOutputStream(fileChannel), StandardCharsets.UTF_8)
+        );
     }
 
-    private OutputStream openStream(Path path) throws IOException {
+    private FileChannel openChannel(Path path) throws IOException {
         try {
-            return Files.newOutputStream(path, CREATE_NEW, APPEND);
+            return FileChannel.open(path, CREATE_NEW, APPEND, WRITE);
         } catch (IOException e) {
             throw new IOException(String.format("Cannot open storage log file %s", path.toFile().getAbsolutePath()), e);
         }
@@ -76,11 +84,48 @@ public class StorageLogAppender implements VitamAutoCloseable {
      * @throws IOException
      */
     public void append(StorageLogStructure parameters) throws IOException {
+        write(parameters);
+        flush();
+    }
+
+    /**
+     * Writes an entry to the (buffered) log, without flushing it.
+     */
+    void write(StorageLogStructure parameters) throws IOException {
         writer.append(JsonHandler.unprettyPrint(parameters.getMapParameters()));
         writer.append(lineSeparator);
+    }
+
+    /**
+     * Flushes written entries to the file system.
+     */
+    void flush() throws IOException {
         writer.flush();
     }
 
+    /**
+     * Flushes written entries and forces them to be written to disk.
+     */
+    void sync() throws IOException {
+        writer.flush();
+        fileChannel.force(false);
+    }
+
+    /**
+     * Records a failure of an asynchronous write, to be reported when the appender is closed.
+     */
+    void setAsyncWriteFailure(IOException asyncWriteFailure) {
+        this.asyncWriteFailure = asyncWriteFailure;
+    }
+
+    IOException getAsyncWriteFailure() {
+        return asyncWriteFailure;
+    }
+
+    Path getFilePath() {
+        return filePath;
+    }
+
     @Override
     public void close() {
         try {
@@ -0,0 +1,256 @@
+/*
+ * Copyright French Prime minister Office/SGMAP/DINSIC/Vitam Program (2015-2022)
+ *
+ * contact.vitam@culture.gouv.fr
+ *
+ * This software is a computer program whose purpose is to implement a digital archiving back-office system managing
+ * high volumetry securely and efficiently.
+ *
+ * This software is governed by the CeCILL 2.1 license under French law and abiding by the rules of distribution of free
+ * software. You can use, modify and/ or redistribute the software under the terms of the CeCILL 2.1 license as
+ * circulated by CEA, CNRS and INRIA at the following URL "https://cecill.info".
+ *
+ * As a counterpart to the access to the source code and rights to copy, modify and redistribute granted by the license,
+ * users are provided only with a limited warranty and the software's author, the holder of the economic rights, and the
+ * successive licensors have only limited liability.
+ *
+ * In this respect, the user's attention is drawn to the risks associated with loading, using, modifying and/or
+ * developing or reproducing the software by the user in light of its specific status of free software, that may mean
+ * that it is complicated to manipulate, and that also therefore means that it is reserved for developers and
+ * experienced professionals having in-depth computer knowledge. Users are therefore encouraged to load and test the
+ * software's suitability as regards their requirements in conditions enabling the security of their systems and/or data
+ * to be ensured and, more generally, to use and operate it in the same conditions as regards security.
+ *
+ * The fact that you are presently reading this means that you have had knowledge of the CeCILL 2.1 license and that you
+ * accept its terms.
+ */
+package fr.gouv.vitam.storage.engine.server.storagelog;
+
+import com.google.common.annotations.VisibleForTesting;
+import fr.gouv.vitam.common.logging.VitamLogger;
+import fr.gouv.vitam.common.logging.VitamLoggerFactory;
+import fr.gouv.vitam.common.thread.BatchingQueueConsumer;
+import fr.gouv.vitam.storage.engine.server.rest.StorageLogBatchWriterConfiguration;
+import fr.gouv.vitam.storage.engine.server.storagelog.parameters.StorageLogStructure;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Batch writer of storage logs.
+ *
+ * Callers enqueue their storage log entries into a bounded queue (blocking when full), and a single writer thread :
+ * - drains pending entries (lingering at most maxWaitTimeInMillis for more entries, up to maxBatchSize entries)
+ * - serializes & writes the whole batch into buffered storage log appenders
+ * - flushes (or fsyncs) every storage log file of the batch once
+ * - acknowledges callers, according to configured durability
+ *
+ * Entries are written in enqueue order. Closing an appender (log rotation) is enqueued as well, so that a closed
+ * storage log file contains all entries enqueued before closure. In async mode, a write failure does not prevent
+ * next entries from being written : it is recorded on the appender, and closing the appender fails so that the storage
+ * log file is reported as incomplete.
+ */
+public class StorageLogBatchWriter implements AutoCloseable {
+
+    private static final VitamLogger LOGGER = VitamLoggerFactory.getInstance(StorageLogBatchWriter.class);
+
+    private static final String SHUTDOWN_MESSAGE = "Storage log batch writer is shutdown";
+
+    private final StorageLogDurability durability;
+    private final BatchingQueueConsumer<PendingEntry> writer;
+
+    public StorageLogBatchWriter(StorageLogBatchWriterConfiguration configuration) {
+        this(
+            configuration.getQueueCapacity(),
+            configuration.getMaxBatchSize(),
+            configuration.getMaxWaitTimeInMillis(),
+            configuration.getDurability()
+        );
+    }
+
+    @VisibleForTesting
+    StorageLogBatchWriter(
+        int queueCapacity,
+        int maxBatchSize,
+        int maxWaitTimeInMillis,
+        StorageLogDurability durability
+    ) {
+        this.durability = durability;
+        this.writer = new BatchingQueueConsumer<>(
+            "StorageLogBatchWriterThread",
+            new ArrayBlockingQueue<>(queueCapacity),
+            maxBatchSize,
+            maxWaitTimeInMillis,
+            pendingEntry -> 1,
+            this::write,
+            pendingEntry -> pendingEntry.future.completeExceptionally(new IOException(SHUTDOWN_MESSAGE))
+        );
+    }
+
+    /**
+     * Enqueues a storage log entry.
+     * Should be invoked under appender lock, so that entries of a same appender are enqueued in order.
+     *
+     * @return a future to be awaited (outside appender lock) using {@link #await(CompletableFuture)}
+     * @throws IOException if writer is shutdown
+     */
+    CompletableFuture<Void> submit(StorageLogAppender appender, StorageLogStructure parameters, String logType)
+        throws IOException {
+        PendingEntry pendingEntry = new PendingEntry(appender, parameters, logType);
+        enqueue(pendingEntry);
+
+        if (durability == StorageLogDurability.ASYNC) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return pendingEntry.future;
+    }
+
+    /**
+     * Closes an appender, once all previously enqueued entries of the appender are written.
+     * Should be invoked under appender lock.
+     */
+    void close(StorageLogAppender appender) throws IOException {
+        PendingEntry closeRequest = new PendingEntry(appender, null, null);
+        enqueue(closeRequest);
+        await(closeRequest.future);
+    }
+
+    /**
+     * Waits for an enqueued entry to be written with required durability.
+     */
+    static void await(CompletableFuture<Void> future) throws IOException {
+        try {
+            future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for storage log write", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw new IOException(e.getCause().getMessage(), e.getCause());
+            }
+            throw new IOException("Could not write storage log", e.getCause());
+        }
+    }
+
+    private void enqueue(PendingEntry pendingEntry) throws IOException {
+        try {
+            if (!writer.submit(pendingEntry)) {
+                throw new IOException(SHUTDOWN_MESSAGE);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while enqueuing storage log entry", e);
+        }
+    }
+
+    private void write(List<PendingEntry> batch) {
+        int entryCount = 0;
+        Map<StorageLogAppender, List<PendingEntry>> pendingEntriesByAppender = new LinkedHashMap<>();
+        for (PendingEntry pendingEntry : batch) {
+            if (pendingEntry.isCloseRequest()) {
+                // Previous entries of the batch must be persisted before closing their file
+                commit(pendingEntriesByAppender);
+                pendingEntriesByAppender.clear();
+                closeAppender(pendingEntry);
+                continue;
+            }
+
+            entryCount++;
+            try {
+                pendingEntry.appender.write(pendingEntry.parameters);
+                pendingEntriesByAppender
+                    .computeIfAbsent(pendingEntry.appender, a -> new ArrayList<>())
+                    .add(pendingEntry);
+            } catch (IOException e) {
+                fail(pendingEntry.appender, List.of(pendingEntry), e);
+            } catch (RuntimeException e) {
+                fail(pendingEntry.appender, List.of(pendingEntry), new IOException("Could not write storage log", e));
+            }
+        }
+        commit(pendingEntriesByAppender);
+        StorageLogMetrics.BATCH_SIZE.observe(entryCount);
+    }
+
+    private void commit(Map<StorageLogAppender, List<PendingEntry>> pendingEntriesByAppender) {
+        for (Map.Entry<StorageLogAppender, List<PendingEntry>> entry : pendingEntriesByAppender.entrySet()) {
+            StorageLogAppender appender = entry.getKey();
+            List<PendingEntry> pendingEntries = entry.getValue();
+            try {
+                if (durability == StorageLogDurability.FSYNC) {
+                    appender.sync();
+                } else {
+                    appender.flush();
+                }
+            } catch (IOException e) {
+                fail(appender, pendingEntries, e);
+                continue;
+            }
+
+            long now = System.nanoTime();
+            for (PendingEntry pendingEntry : pendingEntries) {
+                StorageLogMetrics.APPENDED_ENTRIES.labels(pendingEntry.logType).inc();
+                StorageLogMetrics.APPEND_DURATION.labels(pendingEntry.logType).observe(
+                    (now - pendingEntry.submitTimeInNanos) / 1_000_000_000.0
+                );
+                pendingEntry.future.complete(null);
+            }
+        }
+    }
+
+    private void closeAppender(PendingEntry closeRequest) {
+        closeRequest.appender.close();
+        // In async mode, callers are not notified of write failures : rotation must fail, so that the storage log
+        // file is reported as possibly incomplete
+        IOException asyncWriteFailure = closeRequest.appender.getAsyncWriteFailure();
+        if (asyncWriteFailure != null) {
+            closeRequest.future.completeExceptionally(
+                new IOException("A previous asynchronous storage log write failed", asyncWriteFailure)
+            );
+        } else {
+            closeRequest.future.complete(null);
+        }
+    }
+
+    private void fail(StorageLogAppender appender, List<PendingEntry> pendingEntries, IOException e) {
+        LOGGER.error("Could not write " + pendingEntries.size() + " storage log entries", e);
+        if (durability == StorageLogDurability.ASYNC && appender.getAsyncWriteFailure() == null) {
+            appender.setAsyncWriteFailure(e);
+        }
+        for (PendingEntry pendingEntry : pendingEntries) {
+            pendingEntry.future.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * Stops accepting new entries, writes pending ones and stops writer thread.
+     */
+    @Override
+    public void close() {
+        writer.close();
+    }
+
+    private static class PendingEntry {
+
+        private final StorageLogAppender appender;
+        private final StorageLogStructure parameters;
+        private final String logType;
+        private final long submitTimeInNanos = System.nanoTime();
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+        private PendingEntry(StorageLogAppender appender, StorageLogStructure parameters, String logType) {
+            this.appender = appender;
+            this.parameters = parameters;
+            this.logType = logType;
+        }
+
+        private boolean isCloseRequest() {
+            return parameters == null;
+        }
+    }
+}
@@ -44,9 +44,13 @@ public final class StorageLogFactory {
         }
 
         if (instance == null) {
+            if (storageConfiguration.getStorageLogBatchWriter() != null) {
+                storageConfiguration.getStorageLogBatchWriter().validateConf();
+            }
             instance = new StorageLogService(
                 VitamConfiguration.getTenants(),
-                Paths.get(storageConfiguration.getLoggingDirectory())
+                Paths.get(storageConfiguration.getLoggingDirectory()),
+                storageConfiguration.getStorageLogBatchWriter()
             );
         }
         return instance;
@@ -27,10 +27,15 @@
 
 package fr.gouv.vitam.storage.engine.server.storagelog;
 
+import com.google.common.annotations.VisibleForTesting;
 import fr.gouv.vitam.common.LocalDateUtil;
 import fr.gouv.vitam.common.ParametersChecker;
+import fr.gouv.vitam.common.alert.AlertService;
+import fr.gouv.vitam.common.alert.AlertServiceImpl;
+import fr.gouv.vitam.common.logging.VitamLogLevel;
 import fr.gouv.vitam.common.logging.VitamLogger;
 import fr.gouv.vitam.common.logging.VitamLoggerFactory;
+import fr.gouv.vitam.storage.engine.server.rest.StorageLogBatchWriterConfiguration;
 import fr.gouv.vitam.storage.engine.server.storagelog.parameters.AccessLogParameters;
 import fr.gouv.vitam.storage.engine.server.storagelog.parameters.StorageLogStructure;
 import fr.gouv.vitam.storage.engine.server.storagelog.parameters.StorageLogbookParameters;
@@ -46,6 +51,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -71,6 +77,8 @@ public class StorageLogService implements StorageLog {
     private final Map<Integer, StorageLogAppender> accessOperationLogAppenders;
     private final Map<Integer, Object> writeLockers;
     private final Map<Integer, Object> accessLockers;
+    private final StorageLogBatchWriter batchWriter;
+    private final AlertService alertService;
 
     /**
      * Constructor.
@@ -80,6 +88,33 @@ public class StorageLogService implements StorageLog {
      * @throws IOException
      */
     public StorageLogService(List<Integer> tenants, Path basePath) throws IOException {
+        this(tenants, basePath, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param tenants
+     * @param basePath
+     * @param batchWriterConfiguration storage log batch writer configuration. If null or disabled, entries are
+     * written & flushed synchronously by callers.
+     * @throws IOException
+     */
+    public StorageLogService(
+        List<Integer> tenants,
+        Path basePath,
+        StorageLogBatchWriterConfiguration batchWriterConfiguration
+    ) throws IOException {
+        this(tenants, basePath, batchWriterConfiguration, new AlertServiceImpl());
+    }
+
+    @VisibleForTesting
+    StorageLogService(
+        List<Integer> tenants,
+        Path basePath,
+        StorageLogBatchWriterConfiguration batchWriterConfiguration,
+        AlertService alertService
+    ) throws IOException {
         ParametersChecker.checkParameter(PARAMS_CANNOT_BE_NULL, tenants, basePath);
         this.tenants = tenants;
 
@@ -90,6 +125,10 @@ public class StorageLogService implements StorageLog {
         this.accessOperationLogAppenders = new HashMap<>();
         this.writeLockers = new HashMap<>();
         this.accessLockers = new HashMap<>();
+        this.batchWriter = batchWriterConfiguration != null && batchWriterConfiguration.isEnabled()
+            ? new StorageLogBatchWriter(batchWriterConfiguration)
+            : null;
+        this.alertService = alertService;
         initializeStorageLogs();
     }
 
@@ -165,33 +204,60 @@ public class StorageLogService implements StorageLog {
     }
 
     private void append(Integer tenant, StorageLogStructure parameters, Boolean isWriteOperation) throws IOException {
-        if (isWriteOperation) {
-            synchronized (writeLockers.get(tenant)) {
-                writeOperationLogAppenders.get(tenant).append(parameters);
+        String logType = isWriteOperation ? StorageLogMetrics.WRITE_LOG_TYPE : StorageLogMetrics.ACCESS_LOG_TYPE;
+        Object locker = isWriteOperation ? writeLockers.get(tenant) : accessLockers.get(tenant);
+        Map<Integer, StorageLogAppender> appenders = isWriteOperation
+            ? writeOperationLogAppenders
+            : accessOperationLogAppenders;
+
+        if (batchWriter == null) {
+            long start = System.nanoTime();
+            synchronized (locker) {
+                appenders.get(tenant).append(parameters);
             }
+            StorageLogMetrics.APPENDED_ENTRIES.labels(logType).inc();
+            StorageLogMetrics.APPEND_DURATION.labels(logType).observe((System.nanoTime() - start) / 1_000_000_000.0);
+            return;
+        }
+
+        // Enqueue under lock (entry ordering & log rotation), but wait for write outside lock for batching
+        CompletableFuture<Void> future;
+        synchronized (locker) {
+            future = batchWriter.submit(appenders.get(tenant), parameters, logType);
+        }
+        StorageLogBatchWriter.await(future);
+    }
+
+    private void closeAppender(StorageLogAppender appender) throws IOException {
+        if (batchWriter == null) {
+            appender.close();
         } else {
-            synchronized (accessLockers.get(tenant)) {
-                accessOperationLogAppenders.get(tenant).append(parameters);
-            }
+            batchWriter.close(appender);
         }
     }
 
     @Override
     public List<LogInformation> rotateLogFile(Integer tenant, boolean isWriteOperation) throws IOException {
-        if (isWriteOperation) {
-            synchronized (writeLockers.get(tenant)) {
-                writeOperationLogAppenders.get(tenant).close();
-                List<LogInformation> storageLogToBackup = listStorageLogsToBackup(tenant, isWriteOperation);
-                writeOperationLogAppenders.put(tenant, createAppender(tenant, isWriteOperation));
-                return storageLogToBackup;
-            }
-        } else {
-            synchronized (accessLockers.get(tenant)) {
-                accessOperationLogAppenders.get(tenant).close();
-                List<LogInformation> storageLogToBackup = listStorageLogsToBackup(tenant, isWriteOperation);
-                accessOperationLogAppenders.put(tenant, createAppender(tenant, isWriteOperation));
-                return storageLogToBackup;
+        Object locker = isWriteOperation ? writeLockers.get(tenant) : accessLockers.get(tenant);
+        Map<Integer, StorageLogAppender> appenders = isWriteOperation
+            ? writeOperationLogAppenders
+            : accessOperationLogAppenders;
+
+        synchronized (locker) {
+            StorageLogAppender appender = appenders.get(tenant);
+            try {
+                closeAppender(appender);
+            } catch (IOException e) {
+                // Log file is still backed up with all flushed entries, but some entries may be missing
+                alertService.createAlert(
+                    VitamLogLevel.ERROR,
+                    "Storage log file " + appender.getFilePath() + " may be incomplete",
+                    e
+                );
             }
+            List<LogInformation> storageLogToBackup = listStorageLogsToBackup(tenant, isWriteOperation);
+            appenders.put(tenant, createAppender(tenant, isWriteOperation));
+            return storageLogToBackup;
         }
     }
 
@@ -267,11 +333,22 @@ public class StorageLogService implements StorageLog {
     public void close() {
         for (Integer tenant : this.tenants) {
             synchronized (writeLockers.get(tenant)) {
-                writeOperationLogAppenders.get(tenant).close();
+                closeAppenderQuietly(writeOperationLogAppenders.get(tenant));
             }
             synchronized (accessLockers.get(tenant)) {
-                accessOperationLogAppenders.get(tenant).close();
+                closeAppenderQuietly(accessOperationLogAppenders.get(tenant));
             }
         }
+        if (batchWriter != null) {
+            batchWriter.close();
+        }
+    }
+
+    private void closeAppenderQuietly(StorageLogAppender appender) {
+        try {
+            closeAppender(appender);
+        } catch (IOException e) {
+            LOGGER.warn("Could not close storage log appender", e);
+        }
     }
 }
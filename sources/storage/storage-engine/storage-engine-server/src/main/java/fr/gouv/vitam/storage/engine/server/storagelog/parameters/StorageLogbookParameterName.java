@@ -122,4 +122,8 @@ public enum StorageLogbookParameterName {
      * Object Size
      */
     objectSize,
+    /**
+     * Byte range of the object served on partial reads
+     */
+    range,
 }
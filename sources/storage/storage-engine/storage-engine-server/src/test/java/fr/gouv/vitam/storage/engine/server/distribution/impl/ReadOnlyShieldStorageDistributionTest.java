@@ -399,14 +399,15 @@ public class ReadOnlyShieldStorageDistributionTest {
         List<BatchObjectInformationResponse> response = List.of(mock(BatchObjectInformationResponse.class));
         doReturn(response)
             .when(innerStorageDistribution)
-            .getBatchObjectInformation(STRATEGY, DATA_CATEGORY, List.of(OBJECT_ID), OFFER_IDS);
+            .getBatchObjectInformation(STRATEGY, DATA_CATEGORY, List.of(OBJECT_ID), OFFER_IDS, true);
 
         // When
         List<BatchObjectInformationResponse> result = instance.getBatchObjectInformation(
             STRATEGY,
             DATA_CATEGORY,
             List.of(OBJECT_ID),
-            OFFER_IDS
+            OFFER_IDS,
+            true
         );
 
         // Then
@@ -414,7 +415,8 @@ public class ReadOnlyShieldStorageDistributionTest {
             STRATEGY,
             DATA_CATEGORY,
             List.of(OBJECT_ID),
-            OFFER_IDS
+            OFFER_IDS,
+            true
         );
         assertThat(result).isEqualTo(response);
     }
@@ -1353,7 +1353,8 @@ public class StorageDistributionImplTest {
             VitamConfiguration.getDefaultStrategy(),
             DataCategory.OBJECT,
             Arrays.asList("guid1", "guid2"),
-            Collections.singletonList(OFFER_ID)
+            Collections.singletonList(OFFER_ID),
+            false
         );
         assertThat(batchObjectInformation).hasSize(2);
         assertThat(batchObjectInformation.get(0).getObjectId()).isEqualTo("guid1");
@@ -1364,6 +1365,44 @@ public class StorageDistributionImplTest {
         assertThat(batchObjectInformation.get(1).getOfferDigests().get(OFFER_ID)).isEqualTo("digest-guid2");
     }
 
+    @Test
+    @RunWithCustomExecutor
+    public void getBatchObjectInformationWithoutCacheWhenOfferFailsThenDigestsMissingForThisOfferOnly()
+        throws Exception {
+        VitamThreadUtils.getVitamSession().setTenantId(0);
+        List<BatchObjectInformationResponse> batchObjectInformation = customDistribution.getBatchObjectInformation(
+            VitamConfiguration.getDefaultStrategy(),
+            DataCategory.OBJECT,
+            Arrays.asList("guid1", "MyUnavailableBulkMetadataObjectId"),
+            Arrays.asList(OFFER_ID, "default2"),
+            true
+        );
+        assertThat(batchObjectInformation).hasSize(2);
+        for (BatchObjectInformationResponse objectInformation : batchObjectInformation) {
+            assertThat(objectInformation.getOfferDigests()).containsOnlyKeys(OFFER_ID, "default2");
+            assertThat(objectInformation.getOfferDigests().get(OFFER_ID)).isEqualTo(
+                "digest-" + objectInformation.getObjectId()
+            );
+            assertThat(objectInformation.getOfferDigests().get("default2")).isNull();
+        }
+    }
+
+    @Test
+    @RunWithCustomExecutor
+    public void getBatchObjectInformationWithCacheWhenOfferFailsThenThrowException() {
+        VitamThreadUtils.getVitamSession().setTenantId(0);
+        assertThatThrownBy(
+            () ->
+                customDistribution.getBatchObjectInformation(
+                    VitamConfiguration.getDefaultStrategy(),
+                    DataCategory.OBJECT,
+                    Arrays.asList("guid1", "MyUnavailableBulkMetadataObjectId"),
+                    Arrays.asList(OFFER_ID, "default2"),
+                    false
+                )
+        ).isInstanceOf(StorageException.class);
+    }
+
     @RunWithCustomExecutor
     @Test
     public void testGetContainerByCategoryFromStrategyWithOneEmptyOfferRanks() throws StorageException, IOException {
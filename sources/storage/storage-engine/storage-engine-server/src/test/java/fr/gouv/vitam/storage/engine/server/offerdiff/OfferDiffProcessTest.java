@@ -26,10 +26,13 @@
  */
 package fr.gouv.vitam.storage.engine.server.offerdiff;
 
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.common.collect.ImmutableMap;
 import fr.gouv.vitam.common.collection.CloseableIterator;
 import fr.gouv.vitam.common.collection.CloseableIteratorUtils;
 import fr.gouv.vitam.common.guid.GUIDFactory;
+import fr.gouv.vitam.common.json.JsonHandler;
+import fr.gouv.vitam.common.model.RequestResponseOK;
 import fr.gouv.vitam.common.model.StatusCode;
 import fr.gouv.vitam.common.model.storage.ObjectEntry;
 import fr.gouv.vitam.common.thread.RunWithCustomExecutor;
@@ -39,6 +42,10 @@ import fr.gouv.vitam.common.thread.VitamThreadPoolExecutor;
 import fr.gouv.vitam.common.thread.VitamThreadUtils;
 import fr.gouv.vitam.storage.engine.common.exception.StorageException;
 import fr.gouv.vitam.storage.engine.common.model.DataCategory;
+import fr.gouv.vitam.storage.engine.common.model.OfferDiffMode;
+import fr.gouv.vitam.storage.engine.common.model.OfferLog;
+import fr.gouv.vitam.storage.engine.common.model.OfferLogAction;
+import fr.gouv.vitam.storage.engine.common.model.Order;
 import fr.gouv.vitam.storage.engine.common.referential.model.OfferReference;
 import fr.gouv.vitam.storage.engine.common.referential.model.StorageStrategy;
 import fr.gouv.vitam.storage.engine.server.distribution.StorageDistribution;
@@ -49,18 +56,36 @@ import org.junit.BeforeClass;
 import org.junit.ClassRule;
 import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
 
 import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 @RunWithCustomExecutor
 public class OfferDiffProcessTest {
@@ -78,6 +103,9 @@ public class OfferDiffProcessTest {
     @Rule
     public MockitoRule mockitoRule = MockitoJUnit.rule();
 
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
     @Mock
     private StorageDistribution distribution;
 
@@ -318,4 +346,221 @@ public class OfferDiffProcessTest {
             VitamThreadUtils.getVitamSession().getRequestId()
         );
     }
+    @Test
+    @RunWithCustomExecutor
+    public void partitionedDiffOfLargeOffersWithErrors() throws Exception {
+        // Given
+        int nbEntries = 1000;
+        CloseableIterator<ObjectEntry> entries1 = CloseableIteratorUtils.toCloseableIterator(
+            IntStream.range(0, nbEntries)
+                .filter(i -> i != 10)
+                .mapToObj(i -> new ObjectEntry().setObjectId("obj" + i).setSize(i))
+                .iterator()
+        );
+        doReturn(entries1).when(distribution).listContainerObjectsForOffer(DATA_CATEGORY, OFFER1, true);
+
+        CloseableIterator<ObjectEntry> entries2 = CloseableIteratorUtils.toCloseableIterator(
+            IntStream.range(0, nbEntries)
+                .map(i -> nbEntries - 1 - i)
+                .filter(i -> i != 20)
+                .mapToObj(i -> new ObjectEntry().setObjectId("obj" + i).setSize(i == 30 ? 300 : i))
+                .iterator()
+        );
+        doReturn(entries2).when(distribution).listContainerObjectsForOffer(DATA_CATEGORY, OFFER2, true);
+
+        OfferDiffProcess instance = new OfferDiffProcess(
+            distribution,
+            OFFER1,
+            OFFER2,
+            DATA_CATEGORY,
+            OfferDiffMode.PARTITIONED,
+            8,
+            3,
+            null
+        );
+
+        // When
+        instance.run();
+
+        // Then
+        assertThat(instance.isRunning()).isFalse();
+        assertThat(instance.getOfferDiffStatus().getMode()).isEqualTo(OfferDiffMode.PARTITIONED);
+        assertThat(instance.getOfferDiffStatus().getTotalObjectCount()).isEqualTo(1000L);
+        assertThat(instance.getOfferDiffStatus().getErrorCount()).isEqualTo(3L);
+        assertThat(instance.getOfferDiffStatus().getStatusCode()).isEqualTo(StatusCode.WARNING);
+        assertThat(Files.readAllLines(new File(instance.getOfferDiffStatus().getReportFileName()).toPath()))
+            .containsExactlyInAnyOrder(
+                "{\"objectId\":\"obj10\",\"sizeInOffer1\":null,\"sizeInOffer2\":10}",
+                "{\"objectId\":\"obj20\",\"sizeInOffer1\":20,\"sizeInOffer2\":null}",
+                "{\"objectId\":\"obj30\",\"sizeInOffer1\":30,\"sizeInOffer2\":300}"
+            );
+    }
+
+    @Test
+    @RunWithCustomExecutor
+    public void incrementalDiffShouldOnlyCompareUpdatedAndPreviouslyMismatchedObjects() throws Exception {
+        // Given
+        OfferDiffCheckpointStore checkpointStore = new OfferDiffCheckpointStore(
+            temporaryFolder.getRoot().getAbsolutePath()
+        );
+        Map<String, List<OfferLog>> offerLogs = new HashMap<>();
+        offerLogs.put(OFFER1, new ArrayList<>());
+        offerLogs.put(OFFER2, new ArrayList<>());
+        givenOfferLogs(offerLogs);
+
+        givenOfferLog(offerLogs, OFFER1, 10L, "obj6");
+        givenOfferLog(offerLogs, OFFER2, 10L, "obj3");
+
+        doReturn(
+            CloseableIteratorUtils.toCloseableIterator(
+                Arrays.asList(
+                    new ObjectEntry().setObjectId("obj1").setSize(1L),
+                    new ObjectEntry().setObjectId("obj4").setSize(4L),
+                    new ObjectEntry().setObjectId("obj6").setSize(6L)
+                ).iterator()
+            )
+        )
+            .when(distribution)
+            .listContainerObjectsForOffer(DATA_CATEGORY, OFFER1, true);
+        doReturn(
+            CloseableIteratorUtils.toCloseableIterator(
+                Arrays.asList(
+                    new ObjectEntry().setObjectId("obj4").setSize(40L),
+                    new ObjectEntry().setObjectId("obj3").setSize(3L),
+                    new ObjectEntry().setObjectId("obj1").setSize(1L)
+                ).iterator()
+            )
+        )
+            .when(distribution)
+            .listContainerObjectsForOffer(DATA_CATEGORY, OFFER2, true);
+
+        // When : first incremental diff (no checkpoint)
+        OfferDiffProcess instance1 = new OfferDiffProcess(
+            distribution,
+            OFFER1,
+            OFFER2,
+            DATA_CATEGORY,
+            OfferDiffMode.INCREMENTAL,
+            4,
+            2,
+            checkpointStore
+        );
+        instance1.run();
+
+        // Then : full diff
+        assertThat(instance1.getOfferDiffStatus().getTotalObjectCount()).isEqualTo(4L);
+        assertThat(instance1.getOfferDiffStatus().getErrorCount()).isEqualTo(3L);
+        assertThat(checkpointStore.getCheckpoint(TENANT_ID, OFFER1, OFFER2, DATA_CATEGORY)).hasValueSatisfying(
+            checkpoint -> {
+                assertThat(checkpoint.getOffer1Sequence()).isEqualTo(10L);
+                assertThat(checkpoint.getOffer2Sequence()).isEqualTo(10L);
+            }
+        );
+
+        // Given : updates since last diff
+        //  - obj3 fixed on offer1 (previous mismatch)
+        //  - obj4 still mismatching (previous mismatch)
+        //  - obj6 deleted from offer1 (previous mismatch)
+        //  - obj7 written to both offers
+        //  - obj8 only written to offer2
+        clearInvocations(distribution);
+        givenOfferLog(offerLogs, OFFER1, 11L, "obj3");
+        givenOfferLog(offerLogs, OFFER1, 12L, "obj6");
+        givenOfferLog(offerLogs, OFFER1, 13L, "obj7");
+        givenOfferLog(offerLogs, OFFER2, 11L, "obj7");
+        givenOfferLog(offerLogs, OFFER2, 12L, "obj8");
+
+        Map<String, Map<String, Long>> objectSizes = Map.of(
+            OFFER1,
+            Map.of("obj1", 1L, "obj3", 3L, "obj4", 4L, "obj7", 7L),
+            OFFER2,
+            Map.of("obj1", 1L, "obj3", 3L, "obj4", 40L, "obj7", 7L, "obj8", 8L)
+        );
+        doAnswer(args -> {
+            String objectId = args.getArgument(2);
+            List<String> offerIds = args.getArgument(3);
+            ObjectNode result = JsonHandler.createObjectNode();
+            for (String offerId : offerIds) {
+                Long size = objectSizes.get(offerId).get(objectId);
+                if (size != null) {
+                    result.set(offerId, JsonHandler.createObjectNode().put("fileSize", size));
+                }
+            }
+            return result;
+        })
+            .when(distribution)
+            .getContainerInformation(eq("default"), eq(DATA_CATEGORY), anyString(), anyList(), eq(false));
+
+        // When : second incremental diff
+        OfferDiffProcess instance2 = new OfferDiffProcess(
+            distribution,
+            OFFER1,
+            OFFER2,
+            DATA_CATEGORY,
+            OfferDiffMode.INCREMENTAL,
+            4,
+            2,
+            checkpointStore
+        );
+        instance2.run();
+
+        // Then
+        verify(distribution, never()).listContainerObjectsForOffer(any(), any(), anyBoolean());
+        verify(distribution, never()).getContainerInformation(any(), any(), any(), any(), eq(true));
+        assertThat(instance2.getOfferDiffStatus().getStatusCode()).isEqualTo(StatusCode.WARNING);
+        assertThat(instance2.getOfferDiffStatus().getTotalObjectCount()).isEqualTo(4L);
+        assertThat(instance2.getOfferDiffStatus().getErrorCount()).isEqualTo(2L);
+        assertThat(Files.readAllLines(new File(instance2.getOfferDiffStatus().getReportFileName()).toPath()))
+            .containsExactlyInAnyOrder(
+                "{\"objectId\":\"obj4\",\"sizeInOffer1\":4,\"sizeInOffer2\":40}",
+                "{\"objectId\":\"obj8\",\"sizeInOffer1\":null,\"sizeInOffer2\":8}"
+            );
+        assertThat(checkpointStore.getCheckpoint(TENANT_ID, OFFER1, OFFER2, DATA_CATEGORY)).hasValueSatisfying(
+            checkpoint -> {
+                assertThat(checkpoint.getOffer1Sequence()).isEqualTo(13L);
+                assertThat(checkpoint.getOffer2Sequence()).isEqualTo(12L);
+            }
+        );
+        assertThat(
+            Files.readAllLines(
+                checkpointStore
+                    .getMismatchedObjectIdsFile(TENANT_ID, OFFER1, OFFER2, DATA_CATEGORY)
+                    .orElseThrow()
+                    .toPath(),
+                StandardCharsets.UTF_8
+            )
+        ).containsExactlyInAnyOrder("obj4", "obj8");
+    }
+
+    private void givenOfferLogs(Map<String, List<OfferLog>> offerLogs) throws StorageException {
+        doAnswer(args -> {
+            String offerId = args.getArgument(1);
+            Long offset = args.getArgument(3);
+            int limit = args.getArgument(4);
+            Order order = args.getArgument(5);
+            List<OfferLog> logs = new ArrayList<>(offerLogs.get(offerId));
+            if (order == Order.DESC) {
+                logs.sort((log1, log2) -> Long.compare(log2.getSequence(), log1.getSequence()));
+            }
+            return new RequestResponseOK<OfferLog>().addAllResults(
+                logs
+                    .stream()
+                    .filter(
+                        offerLog ->
+                            offset == null ||
+                            (order == Order.ASC ? offerLog.getSequence() >= offset : offerLog.getSequence() <= offset)
+                    )
+                    .limit(limit)
+                    .collect(Collectors.toList())
+            );
+        })
+            .when(distribution)
+            .getOfferLogsByOfferId(eq("default"), anyString(), eq(DATA_CATEGORY), any(), anyInt(), any());
+    }
+
+    private void givenOfferLog(Map<String, List<OfferLog>> offerLogs, String offerId, long sequence, String fileName) {
+        offerLogs
+            .get(offerId)
+            .add(new OfferLog("2_unit", fileName, OfferLogAction.WRITE).setSequence(sequence));
+    }
 }
@@ -33,6 +33,7 @@ import fr.gouv.vitam.common.thread.RunWithCustomExecutorRule;
 import fr.gouv.vitam.common.thread.VitamThreadPoolExecutor;
 import fr.gouv.vitam.common.thread.VitamThreadUtils;
 import fr.gouv.vitam.storage.engine.common.model.DataCategory;
+import fr.gouv.vitam.storage.engine.common.model.OfferDiffMode;
 import fr.gouv.vitam.storage.engine.server.distribution.StorageDistribution;
 import org.junit.Before;
 import org.junit.Rule;
@@ -83,7 +84,9 @@ public class OfferDiffServiceTest {
         // Given
         OfferDiffProcess offerDiffProcess = mock(OfferDiffProcess.class);
         OfferDiffService instance = spy(new OfferDiffService(distribution));
-        when(instance.createOfferDiffProcess(OFFER1, OFFER2, DATA_CATEGORY)).thenReturn(offerDiffProcess);
+        when(instance.createOfferDiffProcess(OFFER1, OFFER2, DATA_CATEGORY, OfferDiffMode.SORT)).thenReturn(
+            offerDiffProcess
+        );
 
         // When
         boolean result = instance.startOfferDiff(OFFER1, OFFER2, DATA_CATEGORY);
@@ -103,7 +106,7 @@ public class OfferDiffServiceTest {
 
         OfferDiffService instance = spy(new OfferDiffService(distribution));
         doNothing().when(instance).runDiffAsync(offerDiffProcess1);
-        when(instance.createOfferDiffProcess(OFFER1, OFFER2, DATA_CATEGORY)).thenReturn(
+        when(instance.createOfferDiffProcess(OFFER1, OFFER2, DATA_CATEGORY, OfferDiffMode.SORT)).thenReturn(
             offerDiffProcess1,
             offerDiffProcess2
         );
@@ -129,7 +132,7 @@ public class OfferDiffServiceTest {
 
         OfferDiffService instance = spy(new OfferDiffService(distribution));
         doNothing().when(instance).runDiffAsync(offerDiffProcess1);
-        when(instance.createOfferDiffProcess(OFFER1, OFFER2, DATA_CATEGORY)).thenReturn(
+        when(instance.createOfferDiffProcess(OFFER1, OFFER2, DATA_CATEGORY, OfferDiffMode.SORT)).thenReturn(
             offerDiffProcess1,
             offerDiffProcess2
         );
@@ -167,7 +170,9 @@ public class OfferDiffServiceTest {
 
         OfferDiffService instance = spy(new OfferDiffService(distribution));
         doNothing().when(instance).runDiffAsync(offerDiffProcess);
-        when(instance.createOfferDiffProcess(OFFER1, OFFER2, DATA_CATEGORY)).thenReturn(offerDiffProcess);
+        when(instance.createOfferDiffProcess(OFFER1, OFFER2, DATA_CATEGORY, OfferDiffMode.SORT)).thenReturn(
+            offerDiffProcess
+        );
 
         // When
         boolean processStarted = instance.startOfferDiff(OFFER1, OFFER2, DATA_CATEGORY);
@@ -187,7 +192,9 @@ public class OfferDiffServiceTest {
 
         OfferDiffService instance = spy(new OfferDiffService(distribution));
         doNothing().when(instance).runDiffAsync(offerDiffProcess);
-        when(instance.createOfferDiffProcess(OFFER1, OFFER2, DATA_CATEGORY)).thenReturn(offerDiffProcess);
+        when(instance.createOfferDiffProcess(OFFER1, OFFER2, DATA_CATEGORY, OfferDiffMode.SORT)).thenReturn(
+            offerDiffProcess
+        );
 
         // When
         boolean processStarted = instance.startOfferDiff(OFFER1, OFFER2, DATA_CATEGORY);
@@ -222,7 +229,9 @@ public class OfferDiffServiceTest {
 
         OfferDiffService instance = spy(new OfferDiffService(distribution));
         doNothing().when(instance).runDiffAsync(offerDiffProcess);
-        when(instance.createOfferDiffProcess(OFFER1, OFFER2, DATA_CATEGORY)).thenReturn(offerDiffProcess);
+        when(instance.createOfferDiffProcess(OFFER1, OFFER2, DATA_CATEGORY, OfferDiffMode.SORT)).thenReturn(
+            offerDiffProcess
+        );
 
         // When
         boolean processStarted = instance.startOfferDiff(OFFER1, OFFER2, DATA_CATEGORY);
@@ -244,7 +253,9 @@ public class OfferDiffServiceTest {
 
         OfferDiffService instance = spy(new OfferDiffService(distribution));
         doNothing().when(instance).runDiffAsync(offerDiffProcess);
-        when(instance.createOfferDiffProcess(OFFER1, OFFER2, DATA_CATEGORY)).thenReturn(offerDiffProcess);
+        when(instance.createOfferDiffProcess(OFFER1, OFFER2, DATA_CATEGORY, OfferDiffMode.SORT)).thenReturn(
+            offerDiffProcess
+        );
 
         // When
         boolean processStarted = instance.startOfferDiff(OFFER1, OFFER2, DATA_CATEGORY);
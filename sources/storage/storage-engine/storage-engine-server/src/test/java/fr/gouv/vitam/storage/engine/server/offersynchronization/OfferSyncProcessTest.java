@@ -51,6 +51,7 @@ import org.junit.BeforeClass;
 import org.junit.ClassRule;
 import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnit;
@@ -62,8 +63,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
 import static java.util.Collections.singletonList;
@@ -75,6 +79,7 @@ import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.never;
@@ -102,6 +107,9 @@ public class OfferSyncProcessTest {
     @Rule
     public MockitoRule mockitoRule = MockitoJUnit.rule();
 
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
     @Mock
     private RestoreOfferBackupService restoreOfferBackupService;
 
@@ -196,7 +204,7 @@ public class OfferSyncProcessTest {
         OfferSyncProcess instance = new OfferSyncProcess(restoreOfferBackupService, distribution, 10, 1, 1, 1, 1);
 
         // When
-        instance.synchronize(executorService, SOURCE, TARGET, STRATEGY, DATA_CATEGORY, null);
+        instance.synchronize(executorService, SOURCE, TARGET, STRATEGY, DATA_CATEGORY, null, false);
 
         // Then
         assertThat(targetDataFiles).isEqualTo(sourceDataFiles);
@@ -227,7 +235,7 @@ public class OfferSyncProcessTest {
             .createAccessRequestIfRequired(eq(STRATEGY), eq(SOURCE), eq(DATA_CATEGORY), anyList());
 
         // When
-        instance.synchronize(executorService, SOURCE, TARGET, STRATEGY, DATA_CATEGORY, null);
+        instance.synchronize(executorService, SOURCE, TARGET, STRATEGY, DATA_CATEGORY, null, false);
 
         // Then
         assertThat(targetDataFiles).isEqualTo(sourceDataFiles);
@@ -275,7 +283,7 @@ public class OfferSyncProcessTest {
             .checkAccessRequestStatuses(STRATEGY, SOURCE, List.of(ACCESS_REQUEST_1), false);
 
         // When
-        instance.synchronize(executorService, SOURCE, TARGET, STRATEGY, DATA_CATEGORY, null);
+        instance.synchronize(executorService, SOURCE, TARGET, STRATEGY, DATA_CATEGORY, null, false);
 
         // Then
         assertThat(targetDataFiles).isEqualTo(sourceDataFiles);
@@ -316,7 +324,7 @@ public class OfferSyncProcessTest {
             .createAccessRequestIfRequired(eq(STRATEGY), eq(SOURCE), eq(DATA_CATEGORY), anyList());
 
         // When
-        instance.synchronize(executorService, SOURCE, TARGET, STRATEGY, DATA_CATEGORY, null);
+        instance.synchronize(executorService, SOURCE, TARGET, STRATEGY, DATA_CATEGORY, null, false);
 
         // Then
         assertThat(targetDataFiles).isEqualTo(sourceDataFiles);
@@ -385,7 +393,7 @@ public class OfferSyncProcessTest {
             .checkAccessRequestStatuses(STRATEGY, SOURCE, List.of(ACCESS_REQUEST_2), false);
 
         // When
-        instance.synchronize(executorService, SOURCE, TARGET, STRATEGY, DATA_CATEGORY, null);
+        instance.synchronize(executorService, SOURCE, TARGET, STRATEGY, DATA_CATEGORY, null, false);
 
         // Then
         assertThat(targetDataFiles).isEqualTo(sourceDataFiles);
@@ -436,7 +444,7 @@ public class OfferSyncProcessTest {
         OfferSyncProcess instance = new OfferSyncProcess(restoreOfferBackupService, distribution, 100, 1, 1, 1, 1);
 
         // When
-        instance.synchronize(executorService, SOURCE, TARGET, STRATEGY, DATA_CATEGORY, null);
+        instance.synchronize(executorService, SOURCE, TARGET, STRATEGY, DATA_CATEGORY, null, false);
 
         // Then
         verifySynchronizationStatus(instance, null, 2L);
@@ -450,7 +458,7 @@ public class OfferSyncProcessTest {
         givenDataSetInSourceOfferPart2(CONTAINER_1);
 
         // When
-        instance.synchronize(executorService, SOURCE, TARGET, STRATEGY, DATA_CATEGORY, 3L);
+        instance.synchronize(executorService, SOURCE, TARGET, STRATEGY, DATA_CATEGORY, 3L, false);
 
         // Then
         verifySynchronizationStatus(instance, 3L, 12L);
@@ -469,7 +477,7 @@ public class OfferSyncProcessTest {
         OfferSyncProcess instance = new OfferSyncProcess(restoreOfferBackupService, distribution, 100, 1, 1, 1, 1);
 
         // When
-        instance.synchronize(executorService, SOURCE, TARGET, STRATEGY, DATA_CATEGORY, null);
+        instance.synchronize(executorService, SOURCE, TARGET, STRATEGY, DATA_CATEGORY, null, false);
 
         // Then
         verifySynchronizationStatus(instance, null, 2L);
@@ -482,13 +490,215 @@ public class OfferSyncProcessTest {
         // Given not updates
 
         // When
-        instance.synchronize(executorService, SOURCE, TARGET, STRATEGY, DATA_CATEGORY, 3L);
+        instance.synchronize(executorService, SOURCE, TARGET, STRATEGY, DATA_CATEGORY, 3L, false);
 
         // Then
         verifySynchronizationStatus(instance, 3L, null);
         assertThat(targetDataFiles).isEqualTo(sourceDataFiles);
     }
 
+    @Test
+    @RunWithCustomExecutor
+    public void synchronizeShouldListNextBatchWhileSynchronizingCurrentBatch() throws Exception {
+        // Given
+        givenDataSetInSourceOffer();
+
+        OfferSyncProcess instance = new OfferSyncProcess(restoreOfferBackupService, distribution, 10, 1, 1, 1, 1);
+        doReturn(Optional.empty())
+            .when(distribution)
+            .createAccessRequestIfRequired(eq(STRATEGY), eq(SOURCE), eq(DATA_CATEGORY), anyList());
+
+        CountDownLatch secondBatchListed = new CountDownLatch(1);
+        AtomicBoolean copiedWhileListingSecondBatch = new AtomicBoolean(true);
+        doAnswer(args -> {
+            Long offset = args.getArgument(3);
+            if (offset != null && offset == 11L) {
+                secondBatchListed.countDown();
+            }
+            return sourceOfferLogs
+                .stream()
+                .filter(offerLog -> offset == null || offerLog.getSequence() >= offset)
+                .limit((int) args.getArgument(4))
+                .collect(Collectors.toList());
+        })
+            .when(restoreOfferBackupService)
+            .getListing(eq(STRATEGY), eq(SOURCE), eq(DATA_CATEGORY), any(), anyInt(), eq(Order.ASC));
+        doAnswer(args -> {
+            // First batch copies only complete once the second batch has been listed
+            if (!secondBatchListed.await(10, TimeUnit.SECONDS)) {
+                copiedWhileListingSecondBatch.set(false);
+            }
+            targetDataFiles.put(args.getArgument(2), (byte[]) ((Response) args.getArgument(6)).getEntity());
+            return null;
+        })
+            .when(distribution)
+            .storeDataInOffers(
+                eq(STRATEGY),
+                eq(OfferSyncProcess.OFFER_SYNC_ORIGIN),
+                anyString(),
+                eq(DATA_CATEGORY),
+                eq(null),
+                eq(singletonList(TARGET)),
+                any()
+            );
+
+        // When
+        instance.synchronize(executorService, SOURCE, TARGET, STRATEGY, DATA_CATEGORY, null, false);
+
+        // Then
+        assertThat(copiedWhileListingSecondBatch).isTrue();
+        assertThat(targetDataFiles).isEqualTo(sourceDataFiles);
+        verifySynchronizationStatus(instance, null, 12L);
+    }
+
+    @Test
+    @RunWithCustomExecutor
+    public void synchronizeShouldResumeInterruptedSynchronizationFromPersistedSafePoint() throws Exception {
+        // Given
+        givenDataSetInSourceOffer();
+        OfferSyncCheckpointStore checkpointStore = new OfferSyncCheckpointStore(
+            temporaryFolder.getRoot().getAbsolutePath()
+        );
+        doReturn(Optional.empty())
+            .when(distribution)
+            .createAccessRequestIfRequired(eq(STRATEGY), eq(SOURCE), eq(DATA_CATEGORY), anyList());
+
+        // Listing of second batch fails on first attempt
+        AtomicBoolean listingFailure = new AtomicBoolean(true);
+        doAnswer(args -> {
+            Long offset = args.getArgument(3);
+            if (offset != null && offset == 11L && listingFailure.get()) {
+                throw new StorageException("listing error");
+            }
+            return sourceOfferLogs
+                .stream()
+                .filter(offerLog -> offset == null || offerLog.getSequence() >= offset)
+                .limit((int) args.getArgument(4))
+                .collect(Collectors.toList());
+        })
+            .when(restoreOfferBackupService)
+            .getListing(eq(STRATEGY), eq(SOURCE), eq(DATA_CATEGORY), any(), anyInt(), eq(Order.ASC));
+
+        OfferSyncProcess instance1 = new OfferSyncProcess(
+            restoreOfferBackupService,
+            distribution,
+            10,
+            1,
+            1,
+            1,
+            1,
+            checkpointStore
+        );
+
+        // When : interrupted synchronization
+        instance1.synchronize(executorService, SOURCE, TARGET, STRATEGY, DATA_CATEGORY, null, false);
+
+        // Then
+        assertThat(instance1.getOfferSyncStatus().getStatusCode()).isEqualTo(StatusCode.KO);
+        assertThat(checkpointStore.getOffset(TENANT_ID, SOURCE, TARGET, STRATEGY, DATA_CATEGORY)).contains(11L);
+
+        // When : restarted synchronization
+        listingFailure.set(false);
+        clearInvocations(restoreOfferBackupService, distribution);
+        OfferSyncProcess instance2 = new OfferSyncProcess(
+            restoreOfferBackupService,
+            distribution,
+            10,
+            1,
+            1,
+            1,
+            1,
+            checkpointStore
+        );
+        instance2.synchronize(executorService, SOURCE, TARGET, STRATEGY, DATA_CATEGORY, null, true);
+
+        // Then
+        verifySynchronizationStatus(instance2, null, 12L);
+        assertThat(targetDataFiles).isEqualTo(sourceDataFiles);
+        verify(restoreOfferBackupService).getListing(STRATEGY, SOURCE, DATA_CATEGORY, 11L, 10, Order.ASC);
+        verify(restoreOfferBackupService, never()).getListing(STRATEGY, SOURCE, DATA_CATEGORY, null, 10, Order.ASC);
+        verify(distribution, times(1)).storeDataInOffers(
+            anyString(),
+            anyString(),
+            anyString(),
+            any(),
+            any(),
+            any(),
+            any()
+        );
+        assertThat(checkpointStore.getOffset(TENANT_ID, SOURCE, TARGET, STRATEGY, DATA_CATEGORY)).isEmpty();
+    }
+
+    @Test
+    @RunWithCustomExecutor
+    public void synchronizeShouldIgnorePersistedSafePointBeforeRequestedStartOffset() throws Exception {
+        // Given
+        givenDataSetInSourceOffer();
+        OfferSyncCheckpointStore checkpointStore = new OfferSyncCheckpointStore(
+            temporaryFolder.getRoot().getAbsolutePath()
+        );
+        checkpointStore.saveOffset(TENANT_ID, SOURCE, TARGET, STRATEGY, DATA_CATEGORY, 3L);
+        doReturn(Optional.empty())
+            .when(distribution)
+            .createAccessRequestIfRequired(eq(STRATEGY), eq(SOURCE), eq(DATA_CATEGORY), anyList());
+
+        OfferSyncProcess instance = new OfferSyncProcess(
+            restoreOfferBackupService,
+            distribution,
+            100,
+            1,
+            1,
+            1,
+            1,
+            checkpointStore
+        );
+
+        // When
+        instance.synchronize(executorService, SOURCE, TARGET, STRATEGY, DATA_CATEGORY, 11L, true);
+
+        // Then
+        verifySynchronizationStatus(instance, 11L, 12L);
+        verify(restoreOfferBackupService).getListing(STRATEGY, SOURCE, DATA_CATEGORY, 11L, 100, Order.ASC);
+        assertThat(checkpointStore.getOffset(TENANT_ID, SOURCE, TARGET, STRATEGY, DATA_CATEGORY)).isEmpty();
+    }
+
+    @Test
+    @RunWithCustomExecutor
+    public void synchronizeShouldResetPersistedSafePointWhenNotResumed() throws Exception {
+        // Given
+        givenDataSetInSourceOffer();
+        OfferSyncCheckpointStore checkpointStore = new OfferSyncCheckpointStore(
+            temporaryFolder.getRoot().getAbsolutePath()
+        );
+        checkpointStore.saveOffset(TENANT_ID, SOURCE, TARGET, STRATEGY, DATA_CATEGORY, 11L);
+        checkpointStore.saveOffset(TENANT_ID + 1, SOURCE, TARGET, STRATEGY, DATA_CATEGORY, 11L);
+        doReturn(Optional.empty())
+            .when(distribution)
+            .createAccessRequestIfRequired(eq(STRATEGY), eq(SOURCE), eq(DATA_CATEGORY), anyList());
+
+        OfferSyncProcess instance = new OfferSyncProcess(
+            restoreOfferBackupService,
+            distribution,
+            100,
+            1,
+            1,
+            1,
+            1,
+            checkpointStore
+        );
+
+        // When
+        instance.synchronize(executorService, SOURCE, TARGET, STRATEGY, DATA_CATEGORY, 3L, false);
+
+        // Then
+        verifySynchronizationStatus(instance, 3L, 12L);
+        verify(restoreOfferBackupService).getListing(STRATEGY, SOURCE, DATA_CATEGORY, 3L, 100, Order.ASC);
+        verify(restoreOfferBackupService, never()).getListing(STRATEGY, SOURCE, DATA_CATEGORY, 11L, 100, Order.ASC);
+        assertThat(checkpointStore.getOffset(TENANT_ID, SOURCE, TARGET, STRATEGY, DATA_CATEGORY)).isEmpty();
+        // Other tenant checkpoint is kept
+        assertThat(checkpointStore.getOffset(TENANT_ID + 1, SOURCE, TARGET, STRATEGY, DATA_CATEGORY)).contains(11L);
+    }
+
     @Test
     @RunWithCustomExecutor
     public void partial_synchronize_existing_and_delete_not_found() throws StorageException {
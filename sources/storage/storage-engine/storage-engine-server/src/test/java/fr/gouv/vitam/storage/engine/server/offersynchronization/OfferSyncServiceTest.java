@@ -48,6 +48,7 @@ import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -67,6 +68,7 @@ public class OfferSyncServiceTest {
     private static final DataCategory DATA_CATEGORY = DataCategory.UNIT;
     private static final int TENANT_ID = 2;
     private static final Long OFFSET = null;
+    private static final boolean RESUME = true;
 
     @Rule
     public RunWithCustomExecutorRule runInThread = new RunWithCustomExecutorRule(
@@ -96,7 +98,7 @@ public class OfferSyncServiceTest {
         OfferSyncService instance = spy(
             new OfferSyncService(restoreOfferBackupService, distribution, 1000, 16, 1, 1, 1, 1)
         );
-        doNothing().when(instance).runSynchronizationAsync(any(), any(), any(), any(), anyLong(), any());
+        doNothing().when(instance).runSynchronizationAsync(any(), any(), any(), any(), anyLong(), anyBoolean(), any());
         when(instance.createOfferSyncProcess()).thenReturn(offerSyncProcess);
 
         // When
@@ -105,7 +107,8 @@ public class OfferSyncServiceTest {
             TARGET,
             VitamConfiguration.getDefaultStrategy(),
             DATA_CATEGORY,
-            OFFSET
+            OFFSET,
+            RESUME
         );
 
         // Then
@@ -115,6 +118,7 @@ public class OfferSyncServiceTest {
             VitamConfiguration.getDefaultStrategy(),
             DATA_CATEGORY,
             OFFSET,
+            RESUME,
             offerSyncProcess
         );
         assertThat(result).isTrue();
@@ -131,7 +135,7 @@ public class OfferSyncServiceTest {
         OfferSyncService instance = spy(
             new OfferSyncService(restoreOfferBackupService, distribution, 1000, 16, 1, 1, 1, 1)
         );
-        doNothing().when(instance).runSynchronizationAsync(any(), any(), any(), any(), anyLong(), any());
+        doNothing().when(instance).runSynchronizationAsync(any(), any(), any(), any(), anyLong(), anyBoolean(), any());
         when(instance.createOfferSyncProcess()).thenReturn(offerSyncProcess1, offerSyncProcess2);
 
         // When
@@ -140,14 +144,16 @@ public class OfferSyncServiceTest {
             TARGET,
             VitamConfiguration.getDefaultStrategy(),
             DATA_CATEGORY,
-            OFFSET
+            OFFSET,
+            RESUME
         );
         boolean result2 = instance.startSynchronization(
             SOURCE,
             TARGET,
             VitamConfiguration.getDefaultStrategy(),
             DATA_CATEGORY,
-            OFFSET
+            OFFSET,
+            RESUME
         );
 
         // Then
@@ -157,6 +163,7 @@ public class OfferSyncServiceTest {
             VitamConfiguration.getDefaultStrategy(),
             DATA_CATEGORY,
             OFFSET,
+            RESUME,
             offerSyncProcess1
         );
         verify(instance, never()).runSynchronizationAsync(
@@ -165,12 +172,62 @@ public class OfferSyncServiceTest {
             VitamConfiguration.getDefaultStrategy(),
             DATA_CATEGORY,
             OFFSET,
+            RESUME,
             offerSyncProcess2
         );
         assertThat(result1).isTrue();
         assertThat(result2).isFalse();
     }
 
+    @Test
+    @RunWithCustomExecutor
+    public void startSynchronizationShouldSucceedIfAnotherContainerProcessIsRunning() {
+        // Given
+        OfferSyncProcess offerSyncProcess1 = mock(OfferSyncProcess.class);
+        OfferSyncProcess offerSyncProcess2 = mock(OfferSyncProcess.class);
+        when(offerSyncProcess1.isRunning()).thenReturn(true);
+        when(offerSyncProcess2.isRunning()).thenReturn(true);
+
+        OfferSyncService instance = spy(
+            new OfferSyncService(restoreOfferBackupService, distribution, 1000, 16, 1, 1, 1, 1)
+        );
+        doNothing().when(instance).runSynchronizationAsync(any(), any(), any(), any(), anyLong(), anyBoolean(), any());
+        when(instance.createOfferSyncProcess()).thenReturn(offerSyncProcess1, offerSyncProcess2);
+
+        // When
+        boolean result1 = instance.startSynchronization(
+            SOURCE,
+            TARGET,
+            VitamConfiguration.getDefaultStrategy(),
+            DataCategory.UNIT,
+            OFFSET,
+            RESUME
+        );
+        boolean result2 = instance.startSynchronization(
+            SOURCE,
+            TARGET,
+            VitamConfiguration.getDefaultStrategy(),
+            DataCategory.OBJECT,
+            OFFSET,
+            RESUME
+        );
+
+        // Then
+        verify(instance).runSynchronizationAsync(
+            SOURCE,
+            TARGET,
+            VitamConfiguration.getDefaultStrategy(),
+            DataCategory.OBJECT,
+            OFFSET,
+            RESUME,
+            offerSyncProcess2
+        );
+        assertThat(result1).isTrue();
+        assertThat(result2).isTrue();
+        assertThat(instance.isRunning()).isTrue();
+        assertThat(instance.getLastSynchronizationStatus()).isSameAs(offerSyncProcess2.getOfferSyncStatus());
+    }
+
     @Test
     @RunWithCustomExecutor
     public void startSynchronizationShouldFailIfAnotherPartialSyncProcessIsAlreadyRunning() {
@@ -231,7 +288,7 @@ public class OfferSyncServiceTest {
         OfferSyncService instance = spy(
             new OfferSyncService(restoreOfferBackupService, distribution, 1000, 16, 1, 1, 1, 1)
         );
-        doNothing().when(instance).runSynchronizationAsync(any(), any(), any(), any(), anyLong(), any());
+        doNothing().when(instance).runSynchronizationAsync(any(), any(), any(), any(), anyLong(), anyBoolean(), any());
         when(instance.createOfferSyncProcess()).thenReturn(offerSyncProcess1, offerSyncProcess2);
 
         // When
@@ -240,14 +297,16 @@ public class OfferSyncServiceTest {
             TARGET,
             VitamConfiguration.getDefaultStrategy(),
             DATA_CATEGORY,
-            OFFSET
+            OFFSET,
+            RESUME
         );
         boolean result2 = instance.startSynchronization(
             SOURCE,
             TARGET,
             VitamConfiguration.getDefaultStrategy(),
             DATA_CATEGORY,
-            OFFSET
+            OFFSET,
+            RESUME
         );
 
         // Then
@@ -257,6 +316,7 @@ public class OfferSyncServiceTest {
             VitamConfiguration.getDefaultStrategy(),
             DATA_CATEGORY,
             OFFSET,
+            RESUME,
             offerSyncProcess1
         );
         verify(instance).runSynchronizationAsync(
@@ -265,6 +325,7 @@ public class OfferSyncServiceTest {
             VitamConfiguration.getDefaultStrategy(),
             DATA_CATEGORY,
             OFFSET,
+            RESUME,
             offerSyncProcess2
         );
         assertThat(result1).isTrue();
@@ -296,7 +357,7 @@ public class OfferSyncServiceTest {
         OfferSyncService instance = spy(
             new OfferSyncService(restoreOfferBackupService, distribution, 1000, 16, 1, 1, 1, 1)
         );
-        doNothing().when(instance).runSynchronizationAsync(any(), any(), any(), any(), anyLong(), any());
+        doNothing().when(instance).runSynchronizationAsync(any(), any(), any(), any(), anyLong(), anyBoolean(), any());
         when(instance.createOfferSyncProcess()).thenReturn(offerSyncProcess);
 
         // When
@@ -305,7 +366,8 @@ public class OfferSyncServiceTest {
             TARGET,
             VitamConfiguration.getDefaultStrategy(),
             DATA_CATEGORY,
-            OFFSET
+            OFFSET,
+            RESUME
         );
         boolean isRunning = instance.isRunning();
 
@@ -326,7 +388,9 @@ public class OfferSyncServiceTest {
                 new OfferSyncService(restoreOfferBackupService, distribution, 1000, 16, 1, 1, 1, 1)
             )
         ) {
-            doNothing().when(instance).runSynchronizationAsync(any(), any(), any(), any(), anyLong(), any());
+            doNothing()
+                .when(instance)
+                .runSynchronizationAsync(any(), any(), any(), any(), anyLong(), anyBoolean(), any());
             when(instance.createOfferSyncProcess()).thenReturn(offerSyncProcess);
 
             // When
@@ -335,7 +399,8 @@ public class OfferSyncServiceTest {
                 TARGET,
                 VitamConfiguration.getDefaultStrategy(),
                 DATA_CATEGORY,
-                OFFSET
+                OFFSET,
+                RESUME
             );
             boolean isRunning = instance.isRunning();
 
@@ -376,7 +441,9 @@ public class OfferSyncServiceTest {
                 new OfferSyncService(restoreOfferBackupService, distribution, 1000, 16, 1, 1, 1, 1)
             )
         ) {
-            doNothing().when(instance).runSynchronizationAsync(any(), any(), any(), any(), anyLong(), any());
+            doNothing()
+                .when(instance)
+                .runSynchronizationAsync(any(), any(), any(), any(), anyLong(), anyBoolean(), any());
             when(instance.createOfferSyncProcess()).thenReturn(offerSyncProcess);
 
             // When
@@ -385,7 +452,8 @@ public class OfferSyncServiceTest {
                 TARGET,
                 VitamConfiguration.getDefaultStrategy(),
                 DATA_CATEGORY,
-                OFFSET
+                OFFSET,
+                RESUME
             );
             OfferSyncStatus status = instance.getLastSynchronizationStatus();
 
@@ -409,7 +477,9 @@ public class OfferSyncServiceTest {
                 new OfferSyncService(restoreOfferBackupService, distribution, 1000, 16, 1, 1, 1, 1)
             )
         ) {
-            doNothing().when(instance).runSynchronizationAsync(any(), any(), any(), any(), anyLong(), any());
+            doNothing()
+                .when(instance)
+                .runSynchronizationAsync(any(), any(), any(), any(), anyLong(), anyBoolean(), any());
             when(instance.createOfferSyncProcess()).thenReturn(offerSyncProcess);
 
             // When
@@ -418,7 +488,8 @@ public class OfferSyncServiceTest {
                 TARGET,
                 VitamConfiguration.getDefaultStrategy(),
                 DATA_CATEGORY,
-                OFFSET
+                OFFSET,
+                RESUME
             );
             OfferSyncStatus status = instance.getLastSynchronizationStatus();
 
@@ -439,7 +510,7 @@ public class OfferSyncServiceTest {
             return null;
         })
             .when(offerSyncProcess)
-            .synchronize(any(), any(), any(), any(), any(), eq(OFFSET));
+            .synchronize(any(), any(), any(), any(), any(), eq(OFFSET), eq(RESUME));
 
         try (
             OfferSyncService instance = new OfferSyncService(
@@ -460,6 +531,7 @@ public class OfferSyncServiceTest {
                 VitamConfiguration.getDefaultStrategy(),
                 DATA_CATEGORY,
                 OFFSET,
+                RESUME,
                 offerSyncProcess
             );
             countDownLatch.await(1, TimeUnit.MINUTES);
@@ -471,7 +543,8 @@ public class OfferSyncServiceTest {
                 TARGET,
                 VitamConfiguration.getDefaultStrategy(),
                 DATA_CATEGORY,
-                OFFSET
+                OFFSET,
+                RESUME
             );
         }
     }
@@ -91,7 +91,8 @@ public class AdminOfferSyncResourceTest {
                 OFFER_FS_2_SERVICE_CONSUL,
                 VitamConfiguration.getDefaultStrategy(),
                 DataCategory.UNIT,
-                null
+                null,
+                false
             )
         ).thenReturn(true);
 
@@ -117,7 +118,8 @@ public class AdminOfferSyncResourceTest {
                 OFFER_FS_2_SERVICE_CONSUL,
                 VitamConfiguration.getDefaultStrategy(),
                 DataCategory.UNIT,
-                null
+                null,
+                false
             )
         ).thenReturn(false);
 
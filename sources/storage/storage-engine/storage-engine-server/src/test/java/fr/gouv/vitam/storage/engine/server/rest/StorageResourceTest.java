@@ -45,6 +45,7 @@ import fr.gouv.vitam.common.junit.JunitHelper;
 import fr.gouv.vitam.common.logging.SysErrLogger;
 import fr.gouv.vitam.common.logging.VitamLogger;
 import fr.gouv.vitam.common.logging.VitamLoggerFactory;
+import fr.gouv.vitam.common.model.ByteRange;
 import fr.gouv.vitam.common.model.RequestResponse;
 import fr.gouv.vitam.common.model.RequestResponseOK;
 import fr.gouv.vitam.common.model.storage.AccessRequestStatus;
@@ -92,6 +93,7 @@ import javax.servlet.ServletConfig;
 import javax.ws.rs.core.Application;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedHashMap;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.Response.Status;
 import java.io.ByteArrayInputStream;
@@ -117,6 +119,7 @@ import static io.restassured.RestAssured.given;
 import static java.util.Collections.emptyList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.hamcrest.Matchers.equalTo;
 
 /**
  *
@@ -954,6 +957,37 @@ public class StorageResourceTest {
             .statusCode(Status.OK.getStatusCode());
     }
 
+    @Test
+    public void getObjectRangeOk() {
+        given()
+            .contentType(MediaType.APPLICATION_JSON)
+            .accept(MediaType.APPLICATION_OCTET_STREAM)
+            .headers(VitamHttpHeader.TENANT_ID.getName(), TENANT_ID, VitamHttpHeader.STRATEGY_ID.getName(), STRATEGY_ID)
+            .header(GlobalDataRest.RANGE, "bytes=1-2")
+            .body(AccessLogUtils.getNoLogAccessLog())
+            .when()
+            .get(OBJECTS_URI + OBJECT_ID_URI, "id0")
+            .then()
+            .statusCode(Status.PARTIAL_CONTENT.getStatusCode())
+            .header(GlobalDataRest.CONTENT_RANGE, "bytes 1-2/4")
+            .body(equalTo("es"));
+    }
+
+    @Test
+    public void getObjectRangeNotSatisfiable() {
+        given()
+            .contentType(MediaType.APPLICATION_JSON)
+            .accept(MediaType.APPLICATION_OCTET_STREAM)
+            .headers(VitamHttpHeader.TENANT_ID.getName(), TENANT_ID, VitamHttpHeader.STRATEGY_ID.getName(), STRATEGY_ID)
+            .header(GlobalDataRest.RANGE, "bytes=10-")
+            .body(AccessLogUtils.getNoLogAccessLog())
+            .when()
+            .get(OBJECTS_URI + OBJECT_ID_URI, "id0")
+            .then()
+            .statusCode(Status.REQUESTED_RANGE_NOT_SATISFIABLE.getStatusCode())
+            .header(GlobalDataRest.CONTENT_RANGE, "bytes */4");
+    }
+
     @Test
     public void getObjectUnavailableFromAsyncOffer() {
         given()
@@ -2257,6 +2291,44 @@ public class StorageResourceTest {
             return getContainerByCategoryResponse(strategyId, objectId);
         }
 
+        @Override
+        public Response getContainerByCategory(
+            String strategyId,
+            String origin,
+            String objectId,
+            DataCategory category,
+            String offerId,
+            AccessLogInfoModel logInformation,
+            ByteRange range
+        ) throws StorageException {
+            if (range == null) {
+                return getContainerByCategoryResponse(strategyId, objectId);
+            }
+            getContainerByCategoryResponse(strategyId, objectId);
+            if (!range.isSatisfiable(4)) {
+                MultivaluedHashMap<String, Object> headers = new MultivaluedHashMap<>();
+                headers.add(GlobalDataRest.CONTENT_RANGE, ByteRange.toUnsatisfiedContentRange(4));
+                return new AbstractMockClient.FakeInboundResponse(
+                    Status.REQUESTED_RANGE_NOT_SATISFIABLE,
+                    new ByteArrayInputStream(new byte[0]),
+                    MediaType.APPLICATION_OCTET_STREAM_TYPE,
+                    headers
+                );
+            }
+            ByteRange resolvedRange = range.resolve(4);
+            MultivaluedHashMap<String, Object> headers = new MultivaluedHashMap<>();
+            headers.add(GlobalDataRest.CONTENT_RANGE, resolvedRange.toContentRange(4));
+            return new AbstractMockClient.FakeInboundResponse(
+                Status.PARTIAL_CONTENT,
+                new ByteArrayInputStream(
+                    "test".substring(resolvedRange.getFirst().intValue(), resolvedRange.getLast().intValue() + 1)
+                        .getBytes()
+                ),
+                MediaType.APPLICATION_OCTET_STREAM_TYPE,
+                headers
+            );
+        }
+
         private Response getContainerByCategoryResponse(String strategyId, String objectId)
             throws StorageNotFoundException, StorageTechnicalException, StorageUnavailableDataFromAsyncOfferException {
             Integer tenantId = ParameterHelper.getTenantParameter();
@@ -2344,7 +2416,8 @@ public class StorageResourceTest {
             String strategyId,
             DataCategory type,
             List<String> objectIds,
-            List<String> offerIds
+            List<String> offerIds,
+            boolean noCache
         ) {
             throw new UnsupportedOperationException("UnsupportedOperationException");
         }
@@ -0,0 +1,201 @@
+/*
+ * Copyright French Prime minister Office/SGMAP/DINSIC/Vitam Program (2015-2022)
+ *
+ * contact.vitam@culture.gouv.fr
+ *
+ * This software is a computer program whose purpose is to implement a digital archiving back-office system managing
+ * high volumetry securely and efficiently.
+ *
+ * This software is governed by the CeCILL 2.1 license under French law and abiding by the rules of distribution of free
+ * software. You can use, modify and/ or redistribute the software under the terms of the CeCILL 2.1 license as
+ * circulated by CEA, CNRS and INRIA at the following URL "https://cecill.info".
+ *
+ * As a counterpart to the access to the source code and rights to copy, modify and redistribute granted by the license,
+ * users are provided only with a limited warranty and the software's author, the holder of the economic rights, and the
+ * successive licensors have only limited liability.
+ *
+ * In this respect, the user's attention is drawn to the risks associated with loading, using, modifying and/or
+ * developing or reproducing the software by the user in light of its specific status of free software, that may mean
+ * that it is complicated to manipulate, and that also therefore means that it is reserved for developers and
+ * experienced professionals having in-depth computer knowledge. Users are therefore encouraged to load and test the
+ * software's suitability as regards their requirements in conditions enabling the security of their systems and/or data
+ * to be ensured and, more generally, to use and operate it in the same conditions as regards security.
+ *
+ * The fact that you are presently reading this means that you have had knowledge of the CeCILL 2.1 license and that you
+ * accept its terms.
+ */
+package fr.gouv.vitam.storage.engine.server.storagelog;
+
+import fr.gouv.vitam.storage.engine.server.storagelog.parameters.StorageLogbookParameterName;
+import fr.gouv.vitam.storage.engine.server.storagelog.parameters.StorageLogbookParameters;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class StorageLogBatchWriterTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private StorageLogBatchWriter instance;
+
+    @After
+    public void cleanUp() {
+        if (instance != null) {
+            instance.close();
+        }
+    }
+
+    @Test
+    public void givenFlushDurabilityWhenSubmitThenEntriesWrittenOnceFutureCompleted() throws Exception {
+        // Given
+        instance = new StorageLogBatchWriter(100, 10, 10, StorageLogDurability.FLUSH);
+        Path filePath = folder.getRoot().toPath().resolve("file.log");
+        StorageLogAppender appender = new StorageLogAppender(filePath);
+
+        // When
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            futures.add(instance.submit(appender, buildStorageParameters("params" + i), "write"));
+        }
+        for (CompletableFuture<Void> future : futures) {
+            StorageLogBatchWriter.await(future);
+        }
+
+        // Then
+        List<String> lines = Files.readAllLines(filePath, StandardCharsets.UTF_8);
+        assertThat(lines).hasSize(25);
+        for (int i = 0; i < 25; i++) {
+            assertThat(lines.get(i)).isEqualTo("{\"objectIdentifier\":\"params" + i + "\"}");
+        }
+        instance.close(appender);
+    }
+
+    @Test
+    public void givenFsyncDurabilityWhenSubmitThenBatchSyncedOnce() throws Exception {
+        // Given
+        instance = new StorageLogBatchWriter(100, 10, 100, StorageLogDurability.FSYNC);
+        StorageLogAppender appender = spy(new StorageLogAppender(folder.getRoot().toPath().resolve("file.log")));
+
+        // When
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            futures.add(instance.submit(appender, buildStorageParameters("params" + i), "write"));
+        }
+        for (CompletableFuture<Void> future : futures) {
+            StorageLogBatchWriter.await(future);
+        }
+
+        // Then
+        verify(appender, times(10)).write(any());
+        verify(appender, times(1)).sync();
+        instance.close(appender);
+    }
+
+    @Test
+    public void givenAsyncDurabilityWhenCloseAppenderThenPendingEntriesWritten() throws Exception {
+        // Given
+        instance = new StorageLogBatchWriter(1000, 10, 100, StorageLogDurability.ASYNC);
+        Path filePath = folder.getRoot().toPath().resolve("file.log");
+        StorageLogAppender appender = new StorageLogAppender(filePath);
+
+        // When
+        for (int i = 0; i < 100; i++) {
+            assertThat(instance.submit(appender, buildStorageParameters("params" + i), "access")).isDone();
+        }
+        instance.close(appender);
+
+        // Then
+        assertThat(Files.readAllLines(filePath, StandardCharsets.UTF_8)).hasSize(100);
+    }
+
+    @Test
+    public void givenAsyncDurabilityWhenWriteFailsThenNextEntriesWrittenAndCloseFails() throws Exception {
+        // Given
+        instance = new StorageLogBatchWriter(100, 10, 1, StorageLogDurability.ASYNC);
+        Path filePath = folder.getRoot().toPath().resolve("file.log");
+        StorageLogAppender appender = spy(new StorageLogAppender(filePath));
+        doThrow(new IOException("disk full")).doCallRealMethod().when(appender).flush();
+
+        // When
+        instance.submit(appender, buildStorageParameters("params1"), "write");
+        long timeout = System.currentTimeMillis() + 10_000L;
+        while (appender.getAsyncWriteFailure() == null && System.currentTimeMillis() < timeout) {
+            Thread.sleep(10L);
+        }
+        CompletableFuture<Void> future = instance.submit(appender, buildStorageParameters("params2"), "write");
+        ThrowingCallable closeAppender = () -> instance.close(appender);
+
+        // Then
+        assertThat(appender.getAsyncWriteFailure()).hasMessage("disk full");
+        assertThat(future).isDone();
+        assertThatThrownBy(closeAppender)
+            .isInstanceOf(IOException.class)
+            .hasMessage("A previous asynchronous storage log write failed");
+        assertThat(Files.readAllLines(filePath, StandardCharsets.UTF_8)).containsExactly(
+            "{\"objectIdentifier\":\"params1\"}",
+            "{\"objectIdentifier\":\"params2\"}"
+        );
+    }
+
+    @Test
+    public void givenFlushDurabilityWhenWriteFailsThenFutureFails() throws Exception {
+        // Given
+        instance = new StorageLogBatchWriter(100, 10, 1, StorageLogDurability.FLUSH);
+        StorageLogAppender appender = spy(new StorageLogAppender(folder.getRoot().toPath().resolve("file.log")));
+        doThrow(new IOException("disk full")).when(appender).flush();
+
+        // When
+        CompletableFuture<Void> future = instance.submit(appender, buildStorageParameters("params1"), "write");
+
+        // Then
+        assertThatThrownBy(() -> StorageLogBatchWriter.await(future))
+            .isInstanceOf(IOException.class)
+            .hasMessage("disk full");
+        instance.close(appender);
+    }
+
+    @Test
+    public void givenShutdownWriterWhenSubmitThenFails() throws Exception {
+        // Given
+        instance = new StorageLogBatchWriter(100, 10, 1, StorageLogDurability.FLUSH);
+        StorageLogAppender appender = new StorageLogAppender(folder.getRoot().toPath().resolve("file.log"));
+        instance.close(appender);
+        instance.close();
+
+        // When / Then
+        assertThatThrownBy(() -> instance.submit(appender, buildStorageParameters("params1"), "write"))
+            .isInstanceOf(IOException.class)
+            .hasMessage("Storage log batch writer is shutdown");
+    }
+
+    private StorageLogbookParameters buildStorageParameters(String str) {
+        StorageLogbookParameters params = mock(StorageLogbookParameters.class);
+        Map<StorageLogbookParameterName, String> mapParameters = new HashMap<>();
+        mapParameters.put(StorageLogbookParameterName.objectIdentifier, str);
+        when(params.getMapParameters()).thenReturn(mapParameters);
+        return params;
+    }
+}
@@ -27,7 +27,10 @@
 package fr.gouv.vitam.storage.engine.server.storagelog;
 
 import fr.gouv.vitam.common.LocalDateUtil;
+import fr.gouv.vitam.common.alert.AlertService;
+import fr.gouv.vitam.common.logging.VitamLogLevel;
 import fr.gouv.vitam.common.thread.VitamThreadFactory;
+import fr.gouv.vitam.storage.engine.server.rest.StorageLogBatchWriterConfiguration;
 import fr.gouv.vitam.storage.engine.server.storagelog.parameters.StorageLogbookParameterName;
 import fr.gouv.vitam.storage.engine.server.storagelog.parameters.StorageLogbookParameters;
 import org.apache.commons.collections4.MultiValuedMap;
@@ -60,7 +63,12 @@ import java.util.stream.Collectors;
 
 import static fr.gouv.vitam.storage.engine.server.storagelog.StorageLogService.WRITE_LOG_DIR;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 public class StorageLogServiceTest {
@@ -170,6 +178,93 @@ public class StorageLogServiceTest {
 
     @Test
     public void multiThreadedAppendRotateLogsTest() throws Exception {
+        runMultiThreadedAppendRotateLogs(null);
+    }
+
+    @Test
+    public void multiThreadedAppendRotateLogsWithAsyncBatchWriterTest() throws Exception {
+        runMultiThreadedAppendRotateLogs(
+            new StorageLogBatchWriterConfiguration(true, 100, 10, 2, StorageLogDurability.ASYNC)
+        );
+    }
+
+    @Test
+    public void multiThreadedAppendRotateLogsWithFsyncBatchWriterTest() throws Exception {
+        runMultiThreadedAppendRotateLogs(
+            new StorageLogBatchWriterConfiguration(true, 1000, 100, 2, StorageLogDurability.FSYNC)
+        );
+    }
+
+    @Test
+    public void rotateLogsWithBatchWriterTest() throws IOException {
+        File workingDir = folder.newFolder();
+
+        storageLogService = new StorageLogService(
+            tenants,
+            Paths.get(workingDir.getAbsolutePath()),
+            new StorageLogBatchWriterConfiguration(true, 100, 10, 100, StorageLogDurability.ASYNC)
+        );
+
+        // Given
+        storageLogService.appendWriteLog(0, buildStorageParameters("tenant0-param1"));
+        storageLogService.appendWriteLog(1, buildStorageParameters("tenant1-param1"));
+        storageLogService.appendWriteLog(0, buildStorageParameters("tenant0-param2"));
+
+        // When
+        List<LogInformation> logInformation = storageLogService.rotateLogFile(0, true);
+
+        // Then : rotated file is complete, even if entries are written asynchronously
+        assertThat(logInformation).hasSize(1);
+        assertFileContent(
+            logInformation.get(0).getPath(),
+            "{\"objectIdentifier\":\"tenant0-param1\"}\n{\"objectIdentifier\":\"tenant0-param2\"}\n"
+        );
+
+        storageLogService.close();
+
+        Path path = Paths.get(workingDir.getAbsolutePath()).resolve(WRITE_LOG_DIR);
+        List<Path> files = Files.list(path).sorted().collect(Collectors.toList());
+        assertThat(files).hasSize(4);
+        assertFileContent(files.get(1), "");
+        assertFileContent(files.get(2), "{\"objectIdentifier\":\"tenant1-param1\"}\n");
+        assertEmptyFile(files.get(3));
+    }
+
+    @Test
+    public void givenAsyncWriteFailureWhenRotateLogsThenFileBackedUpAndAlertRaised() throws IOException {
+        File workingDir = folder.newFolder();
+        AlertService alertService = mock(AlertService.class);
+
+        storageLogService = new StorageLogService(
+            tenants,
+            Paths.get(workingDir.getAbsolutePath()),
+            new StorageLogBatchWriterConfiguration(true, 100, 10, 100, StorageLogDurability.ASYNC),
+            alertService
+        );
+
+        // Given
+        StorageLogbookParameters invalidParameters = mock(StorageLogbookParameters.class);
+        when(invalidParameters.getMapParameters()).thenThrow(new IllegalStateException("invalid parameters"));
+        storageLogService.appendWriteLog(0, buildStorageParameters("tenant0-param1"));
+        storageLogService.appendWriteLog(0, invalidParameters);
+
+        // When
+        List<LogInformation> logInformation = storageLogService.rotateLogFile(0, true);
+
+        // Then : flushed entries are backed up, and logging continues into a new file
+        assertThat(logInformation).hasSize(1);
+        assertFileContent(logInformation.get(0).getPath(), "{\"objectIdentifier\":\"tenant0-param1\"}\n");
+        verify(alertService).createAlert(eq(VitamLogLevel.ERROR), contains("may be incomplete"), any(IOException.class));
+
+        storageLogService.appendWriteLog(0, buildStorageParameters("tenant0-param2"));
+        logInformation = storageLogService.rotateLogFile(0, true);
+        assertThat(logInformation).hasSize(1);
+        assertFileContent(logInformation.get(0).getPath(), "{\"objectIdentifier\":\"tenant0-param2\"}\n");
+        verifyNoMoreInteractions(alertService);
+    }
+
+    private void runMultiThreadedAppendRotateLogs(StorageLogBatchWriterConfiguration batchWriterConfiguration)
+        throws Exception {
         File workingDir = folder.newFolder();
 
         /*
@@ -178,7 +273,11 @@ public class StorageLogServiceTest {
          * Wait for "TEST_DURATION_IN_MILLISECONDS" and stop threads
          * Ensure that all messages have been logged
          */
-        storageLogService = new StorageLogService(tenants, Paths.get(workingDir.getAbsolutePath()));
+        storageLogService = new StorageLogService(
+            tenants,
+            Paths.get(workingDir.getAbsolutePath()),
+            batchWriterConfiguration
+        );
 
         int TEST_DURATION_IN_MILLISECONDS = 1500;
         int INTERVAL_BETWEEN_LOG_ROTATION = 30;
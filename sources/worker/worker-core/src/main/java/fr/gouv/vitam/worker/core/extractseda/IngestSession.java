@@ -35,8 +35,11 @@ import fr.gouv.vitam.common.model.unit.GotObj;
 import fr.gouv.vitam.logbook.common.parameters.LogbookLifeCycleParameters;
 import fr.gouv.vitam.worker.common.utils.DataObjectDetail;
 import fr.gouv.vitam.worker.common.utils.DataObjectInfo;
+import fr.gouv.vitam.worker.core.utils.CompactStringMap;
 import fr.gouv.vitam.worker.core.utils.FastValueAccessMap;
+import fr.gouv.vitam.worker.core.utils.StringDictionary;
 
+import java.io.File;
 import java.io.StringWriter;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -45,26 +48,34 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
-public class IngestSession {
+/**
+ * Ingest session state of {@link fr.gouv.vitam.worker.core.handler.ExtractSedaActionHandler}.
+ *
+ * Compact sessions store large identifier mappings as dictionary encoded int maps, with identifiers spilled to
+ * a tmp file once {@code maxInMemoryIds} is exceeded. Compact sessions must be closed to delete their tmp files.
+ */
+public class IngestSession implements AutoCloseable {
+
+    private final StringDictionary idDictionary;
 
     private final ObjectNode archiveUnitTree = JsonHandler.createObjectNode();
-    private final Map<String, String> unitIdToGuid = new HashMap<>();
-    private final Map<String, String> guidToUnitId = new HashMap<>();
-    private final Map<String, String> unitIdToGroupId = new HashMap<>();
+    private final Map<String, String> unitIdToGuid;
+    private final Map<String, String> guidToUnitId;
+    private final Map<String, String> unitIdToGroupId;
     private final Map<String, List<String>> objectGroupIdToUnitId = new HashMap<>();
-    private final Map<String, String> dataObjectIdToObjectGroupId = new FastValueAccessMap<>();
+    private final Map<String, String> dataObjectIdToObjectGroupId;
     private final Map<String, GotObj> dataObjectIdWithoutObjectGroupId = new HashMap<>();
     private final Map<String, LogbookLifeCycleParameters> guidToLifeCycleParameters = new HashMap<>();
     private final Set<String> existingUnitGuids = new HashSet<>();
-    private final Map<String, String> objectGroupIdToGuid = new HashMap<>();
-    private final Map<String, String> dataObjectIdToGuid = new HashMap<>();
+    private final Map<String, String> objectGroupIdToGuid;
+    private final Map<String, String> dataObjectIdToGuid;
     private final Map<String, Set<String>> unitIdToSetOfRuleId = new HashMap<>();
     private final Map<String, StringWriter> mngtMdRuleIdToRulesXml = new HashMap<>();
     private final List<String> originatingAgencies = new ArrayList<>();
     private final Map<String, JsonNode> existingGOTs = new HashMap<>();
-    private final Map<String, String> existingUnitIdWithExistingObjectGroup = new HashMap<>();
+    private final Map<String, String> existingUnitIdWithExistingObjectGroup;
     private final Map<String, Boolean> isThereManifestRelatedReferenceRemained = new HashMap<>();
-    private final Map<String, String> existingGOTGUIDToNewGotGUIDInAttachment = new HashMap<>();
+    private final Map<String, String> existingGOTGUIDToNewGotGUIDInAttachment;
     private final Map<String, List<String>> objectGroupIdToDataObjectId = new HashMap<>();
     private final Map<String, DataObjectInfo> objectGuidToDataObject = new HashMap<>();
     private final Map<String, DataObjectDetail> dataObjectIdToDetailDataObject = new HashMap<>();
@@ -74,6 +85,44 @@ public class IngestSession {
 
     private final Multimap<String, String> usageToObjectGroupId = HashMultimap.create();
 
+    public IngestSession() {
+        this(null);
+    }
+
+    private IngestSession(StringDictionary idDictionary) {
+        this.idDictionary = idDictionary;
+        this.unitIdToGuid = createIdMap();
+        this.guidToUnitId = createIdMap();
+        this.unitIdToGroupId = createIdMap();
+        this.dataObjectIdToObjectGroupId = idDictionary == null
+            ? new FastValueAccessMap<>()
+            : new CompactStringMap(idDictionary, true);
+        this.objectGroupIdToGuid = createIdMap();
+        this.dataObjectIdToGuid = createIdMap();
+        this.existingUnitIdWithExistingObjectGroup = createIdMap();
+        this.existingGOTGUIDToNewGotGUIDInAttachment = createIdMap();
+    }
+
+    /**
+     * @param maxInMemoryIds max number of identifiers kept on heap before spilling to disk
+     * @param tmpDirectory tmp directory for spilled identifiers
+     * @return a compact ingest session for huge SIPs
+     */
+    public static IngestSession createCompactSession(int maxInMemoryIds, File tmpDirectory) {
+        return new IngestSession(new StringDictionary(maxInMemoryIds, tmpDirectory));
+    }
+
+    private Map<String, String> createIdMap() {
+        return idDictionary == null ? new HashMap<>() : new CompactStringMap(idDictionary);
+    }
+
+    @Override
+    public void close() {
+        if (idDictionary != null) {
+            idDictionary.close();
+        }
+    }
+
     public ObjectNode getArchiveUnitTree() {
         return archiveUnitTree;
     }
@@ -380,8 +380,19 @@ public class ExtractSedaActionHandler extends ActionHandler {
     @Override
     public ItemStatus execute(WorkerParameters params, HandlerIO handlerIO) {
         // Initialize Ingest Session
-        IngestSession ingestSession = new IngestSession();
-        return execute(params, handlerIO, ingestSession);
+        try (IngestSession ingestSession = createIngestSession()) {
+            return execute(params, handlerIO, ingestSession);
+        }
+    }
+
+    private IngestSession createIngestSession() {
+        if (!VitamConfiguration.isIngestSessionCompactStore()) {
+            return new IngestSession();
+        }
+        return IngestSession.createCompactSession(
+            VitamConfiguration.getIngestSessionMaxInMemoryIds(),
+            new File(VitamConfiguration.getVitamTmpFolder())
+        );
     }
 
     @VisibleForTesting
@@ -554,8 +554,9 @@ public class HandlerIOImpl implements HandlerIO, VitamAutoCloseable {
                 response = workspaceClient.getObject(containerName, jsonFilePath);
                 is = (InputStream) response.getEntity();
                 if (is != null) {
+                    // Json reports (report.jsonl) may be stored gzip compressed in workspace
                     try (FileOutputStream fileOutputStream = new FileOutputStream(file)) {
-                        StreamUtils.copy(is, fileOutputStream);
+                        StreamUtils.copy(StreamUtils.decompressIfGzipped(is), fileOutputStream);
                     }
                 } else {
                     LOGGER.error("Json not found");
@@ -30,6 +30,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.common.annotations.VisibleForTesting;
 import fr.gouv.vitam.common.SedaConstants;
+import fr.gouv.vitam.common.VitamConfiguration;
 import fr.gouv.vitam.common.database.builder.request.exception.InvalidCreateOperationException;
 import fr.gouv.vitam.common.database.builder.request.single.Select;
 import fr.gouv.vitam.common.error.VitamCode;
@@ -45,6 +46,7 @@ import fr.gouv.vitam.common.format.identification.exception.FormatIdentifierNotF
 import fr.gouv.vitam.common.format.identification.exception.FormatIdentifierTechnicalException;
 import fr.gouv.vitam.common.format.identification.model.FormatIdentifierResponse;
 import fr.gouv.vitam.common.format.identification.siegfried.FormatIdentifierSiegfried;
+import fr.gouv.vitam.common.guid.GUIDFactory;
 import fr.gouv.vitam.common.json.JsonHandler;
 import fr.gouv.vitam.common.logging.VitamLogger;
 import fr.gouv.vitam.common.logging.VitamLoggerFactory;
@@ -67,14 +69,20 @@ import fr.gouv.vitam.worker.common.HandlerIO;
 import fr.gouv.vitam.worker.core.handler.ActionHandler;
 import fr.gouv.vitam.workspace.api.exception.ContentAddressableStorageNotFoundException;
 import fr.gouv.vitam.workspace.api.exception.ContentAddressableStorageServerException;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.FilenameUtils;
 
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import static fr.gouv.vitam.common.database.builder.query.QueryHelper.eq;
 
@@ -117,23 +125,94 @@ public class FormatIdentificationActionPlugin extends ActionHandler implements V
     private static final int REFERENTIAL_INGEST_CONTRACT_PARAMETERS_RANK = 1;
     private static final String UNKNOWN_FORMAT = "unknown";
 
+    private static final String BATCH_IDENTIFICATION_FOLDER = "FormatIdentification";
+
+    /**
+     * Shared by all plugin instances of the worker, entries being scoped by operation
+     */
+    private static final FormatIdentificationCache FORMAT_IDENTIFICATION_CACHE = new FormatIdentificationCache();
+
     private final AdminManagementClientFactory adminManagementClientFactory;
     private final FormatIdentifierFactory formatIdentifierFactory;
+    private final FormatIdentificationCache formatIdentificationCache;
+
+    private IngestContractModel ingestContractModel;
 
     /**
      * Empty constructor
      */
     public FormatIdentificationActionPlugin() {
-        this(AdminManagementClientFactory.getInstance(), FormatIdentifierFactory.getInstance());
+        this(
+            AdminManagementClientFactory.getInstance(),
+            FormatIdentifierFactory.getInstance(),
+            FORMAT_IDENTIFICATION_CACHE
+        );
     }
 
     @VisibleForTesting
     public FormatIdentificationActionPlugin(
         AdminManagementClientFactory adminManagementClientFactory,
         FormatIdentifierFactory formatIdentifierFactory
+    ) {
+        this(adminManagementClientFactory, formatIdentifierFactory, new FormatIdentificationCache());
+    }
+
+    @VisibleForTesting
+    FormatIdentificationActionPlugin(
+        AdminManagementClientFactory adminManagementClientFactory,
+        FormatIdentifierFactory formatIdentifierFactory,
+        FormatIdentificationCache formatIdentificationCache
     ) {
         this.adminManagementClientFactory = adminManagementClientFactory;
         this.formatIdentifierFactory = formatIdentifierFactory;
+        this.formatIdentificationCache = formatIdentificationCache;
+    }
+
+    /**
+     * In batch mode, binaries of all object groups of the bulk are identified with a single format identifier call.
+     * Binaries that could not be identified by the batch call are identified one by one, so that a single faulty
+     * binary does not fail the whole bulk.
+     */
+    @Override
+    public List<ItemStatus> executeList(WorkerParameters params, HandlerIO handlerIO) throws ProcessingException {
+        if (!VitamConfiguration.isFormatIdentificationBatchMode()) {
+            return super.executeList(params, handlerIO);
+        }
+        checkMandatoryParameters(params);
+        LOGGER.debug("FormatIdentificationActionHandler running in batch mode ...");
+
+        final List<String> objectGroupIds = params.getObjectNameList();
+        final FormatIdentifier formatIdentifier = loadFormatIdentifier();
+        if (formatIdentifier == null) {
+            return objectGroupIds.stream().map(id -> buildFatalItemStatus()).collect(Collectors.toList());
+        }
+
+        final File batchDirectory = handlerIO.getNewLocalFile(
+            BATCH_IDENTIFICATION_FOLDER + "/" + GUIDFactory.newGUID().getId()
+        );
+        try {
+            final BinaryFormatIdentifier batchIdentifier = identifyBatch(
+                params,
+                handlerIO,
+                formatIdentifier,
+                batchDirectory.toPath()
+            );
+
+            final List<ItemStatus> itemStatuses = new ArrayList<>();
+            for (final String objectGroupId : objectGroupIds) {
+                params.setObjectName(objectGroupId);
+                handlerIO.setCurrentObjectId(objectGroupId);
+                itemStatuses.add(checkObjectGroupFormats(params, handlerIO, batchIdentifier));
+            }
+            return itemStatuses;
+        } finally {
+            handlerIO.setCurrentObjectId(null);
+            try {
+                FileUtils.deleteDirectory(batchDirectory);
+            } catch (IOException e) {
+                LOGGER.error("Cannot delete format identification folder " + batchDirectory, e);
+            }
+        }
     }
 
     @Override
@@ -141,17 +220,25 @@ public class FormatIdentificationActionPlugin extends ActionHandler implements V
         checkMandatoryParameters(params);
         LOGGER.debug("FormatIdentificationActionHandler running ...");
 
-        final ItemStatus itemStatus = new ItemStatus(FILE_FORMAT);
-        FormatIdentifier formatIdentifier;
+        final FormatIdentifier formatIdentifier = loadFormatIdentifier();
+        if (formatIdentifier == null) {
+            return buildFatalItemStatus();
+        }
+        return checkObjectGroupFormats(
+            params,
+            handlerIO,
+            (objectId, uri) -> identifyFromWorkspace(handlerIO, formatIdentifier, uri)
+        );
+    }
+
+    private FormatIdentifier loadFormatIdentifier() {
         try {
-            formatIdentifier = formatIdentifierFactory.getFormatIdentifierFor(FORMAT_IDENTIFIER_ID);
+            return formatIdentifierFactory.getFormatIdentifierFor(FORMAT_IDENTIFIER_ID);
         } catch (final FormatIdentifierNotFoundException e) {
             LOGGER.error(
                 VitamCodeHelper.getLogMessage(VitamCode.WORKER_FORMAT_IDENTIFIER_NOT_FOUND, FORMAT_IDENTIFIER_ID),
                 e
             );
-            itemStatus.increment(StatusCode.FATAL);
-            return new ItemStatus(FILE_FORMAT).setItemsStatus(FILE_FORMAT, itemStatus);
         } catch (final FormatIdentifierFactoryException e) {
             LOGGER.error(
                 VitamCodeHelper.getLogMessage(
@@ -160,13 +247,24 @@ public class FormatIdentificationActionPlugin extends ActionHandler implements V
                 ),
                 e
             );
-            itemStatus.increment(StatusCode.FATAL);
-            return new ItemStatus(FILE_FORMAT).setItemsStatus(FILE_FORMAT, itemStatus);
         } catch (final FormatIdentifierTechnicalException e) {
             LOGGER.error(VitamCodeHelper.getLogMessage(VitamCode.WORKER_FORMAT_IDENTIFIER_TECHNICAL_INTERNAL_ERROR), e);
-            itemStatus.increment(StatusCode.FATAL);
-            return new ItemStatus(FILE_FORMAT).setItemsStatus(FILE_FORMAT, itemStatus);
         }
+        return null;
+    }
+
+    private static ItemStatus buildFatalItemStatus() {
+        final ItemStatus itemStatus = new ItemStatus(FILE_FORMAT);
+        itemStatus.increment(StatusCode.FATAL);
+        return new ItemStatus(FILE_FORMAT).setItemsStatus(FILE_FORMAT, itemStatus);
+    }
+
+    private ItemStatus checkObjectGroupFormats(
+        WorkerParameters params,
+        HandlerIO handlerIO,
+        BinaryFormatIdentifier binaryFormatIdentifier
+    ) {
+        final ItemStatus itemStatus = new ItemStatus(FILE_FORMAT);
         try {
             // Get objectGroup metadatas
             final JsonNode jsonOG = (JsonNode) handlerIO.getInput(OG_INPUT_RANK);
@@ -181,70 +279,58 @@ public class FormatIdentificationActionPlugin extends ActionHandler implements V
                     for (final JsonNode versionsArray : versions) {
                         for (final JsonNode version : versionsArray) {
                             if (version.get(SedaConstants.TAG_PHYSICAL_ID) == null) {
-                                File file = null;
-                                try {
-                                    final JsonNode jsonFormatIdentifier = version.get(
-                                        SedaConstants.TAG_FORMAT_IDENTIFICATION
-                                    );
-                                    final String objectId = version.get(SedaConstants.PREFIX_ID).asText();
-                                    // Retrieve the file
-                                    file = loadFileFromWorkspace(handlerIO, objectIdToUri.get(objectId));
-
-                                    final ObjectCheckFormatResult result = executeOneObjectFromOG(
-                                        handlerIO,
-                                        formatIdentifier,
-                                        objectId,
-                                        jsonFormatIdentifier,
-                                        file,
-                                        version
-                                    );
-
-                                    if (result.getMetadataUpdated()) {
-                                        metadataUpdated = true;
-                                    }
+                                final JsonNode jsonFormatIdentifier = version.get(
+                                    SedaConstants.TAG_FORMAT_IDENTIFICATION
+                                );
+                                final String objectId = version.get(SedaConstants.PREFIX_ID).asText();
+
+                                final ObjectCheckFormatResult result = executeOneObjectFromOG(
+                                    handlerIO,
+                                    params.getContainerName(),
+                                    binaryFormatIdentifier,
+                                    objectId,
+                                    objectIdToUri.get(objectId),
+                                    jsonFormatIdentifier,
+                                    version
+                                );
+
+                                if (result.getMetadataUpdated()) {
+                                    metadataUpdated = true;
+                                }
 
-                                    // create ItemStatus for subtask
-                                    ItemStatus subTaskItemStatus = new ItemStatus(FILE_FORMAT);
-                                    subTaskItemStatus.increment(result.getStatus());
-                                    itemStatus.increment(result.getStatus());
-
-                                    if (result.getStatus().equals(StatusCode.KO)) {
-                                        switch (result.getSubStatus()) {
-                                            case FILE_FORMAT_NOT_FOUND:
-                                                subTaskItemStatus.setGlobalOutcomeDetailSubcode(SUBSTATUS_UNKNOWN);
-                                                break;
-                                            case FILE_FORMAT_NOT_FOUND_REFERENTIAL_ERROR:
-                                            case FILE_FORMAT_PUID_NOT_FOUND:
-                                                subTaskItemStatus.setGlobalOutcomeDetailSubcode(SUBSTATUS_UNCHARTED);
-                                                break;
-                                            case FILE_FORMAT_REJECTED:
-                                                subTaskItemStatus.setGlobalOutcomeDetailSubcode(SUBSTATUS_REJECTED);
-                                                itemStatus.setGlobalOutcomeDetailSubcode(FILE_FORMAT_REJECTED);
-                                                break;
-                                        }
-                                        LOGGER.error(JsonHandler.unprettyPrint(result));
+                                // create ItemStatus for subtask
+                                ItemStatus subTaskItemStatus = new ItemStatus(FILE_FORMAT);
+                                subTaskItemStatus.increment(result.getStatus());
+                                itemStatus.increment(result.getStatus());
+
+                                if (result.getStatus().equals(StatusCode.KO)) {
+                                    switch (result.getSubStatus()) {
+                                        case FILE_FORMAT_NOT_FOUND:
+                                            subTaskItemStatus.setGlobalOutcomeDetailSubcode(SUBSTATUS_UNKNOWN);
+                                            break;
+                                        case FILE_FORMAT_NOT_FOUND_REFERENTIAL_ERROR:
+                                        case FILE_FORMAT_PUID_NOT_FOUND:
+                                            subTaskItemStatus.setGlobalOutcomeDetailSubcode(SUBSTATUS_UNCHARTED);
+                                            break;
+                                        case FILE_FORMAT_REJECTED:
+                                            subTaskItemStatus.setGlobalOutcomeDetailSubcode(SUBSTATUS_REJECTED);
+                                            itemStatus.setGlobalOutcomeDetailSubcode(FILE_FORMAT_REJECTED);
+                                            break;
                                     }
+                                    LOGGER.error(JsonHandler.unprettyPrint(result));
+                                }
 
-                                    itemStatus.setSubTaskStatus(objectId, subTaskItemStatus);
+                                itemStatus.setSubTaskStatus(objectId, subTaskItemStatus);
 
-                                    if (result.getEventDetailData() != null) {
-                                        itemStatus
-                                            .getSubTaskStatus()
-                                            .get(objectId)
-                                            .setEvDetailData(result.getEventDetailData());
-                                    }
+                                if (result.getEventDetailData() != null) {
+                                    itemStatus
+                                        .getSubTaskStatus()
+                                        .get(objectId)
+                                        .setEvDetailData(result.getEventDetailData());
+                                }
 
-                                    if (StatusCode.FATAL.equals(itemStatus.getGlobalStatus())) {
-                                        return new ItemStatus(FILE_FORMAT).setItemsStatus(FILE_FORMAT, itemStatus);
-                                    }
-                                } finally {
-                                    if (file != null) {
-                                        try {
-                                            Files.delete(file.toPath());
-                                        } catch (IOException e) {
-                                            LOGGER.error(e);
-                                        }
-                                    }
+                                if (StatusCode.FATAL.equals(itemStatus.getGlobalStatus())) {
+                                    return new ItemStatus(FILE_FORMAT).setItemsStatus(FILE_FORMAT, itemStatus);
                                 }
                             }
                         }
@@ -279,14 +365,213 @@ public class FormatIdentificationActionPlugin extends ActionHandler implements V
         // Do not know...
     }
 
-    private ObjectCheckFormatResult executeOneObjectFromOG(
+    /**
+     * Copies the binaries of all object groups of the bulk in a single local directory, and identifies them with a
+     * single format identifier call.<br>
+     * Binaries whose identification is reused by digest (from the cache, or from another binary of the bulk) are not
+     * retrieved from the workspace. Binaries keep their file name (prefixed by their object id), as format identifiers
+     * may rely on file extensions.<br>
+     * Binaries that could not be retrieved, or whose identification is missing from the batch result (including when
+     * the batch call fails), are identified one by one.
+     *
+     * @return the identifier giving the format of each binary of the bulk
+     */
+    private BinaryFormatIdentifier identifyBatch(
+        WorkerParameters params,
+        HandlerIO handlerIO,
+        FormatIdentifier formatIdentifier,
+        Path batchDirectory
+    ) {
+        final BinaryFormatIdentifier singleObjectIdentifier = (objectId, uri) ->
+            identifyFromWorkspace(handlerIO, formatIdentifier, uri);
+        final String operationId = params.getContainerName();
+        final Map<String, String> batchObjectIdsByDigest = new HashMap<>();
+        final Map<String, String> sameDigestObjectIds = new HashMap<>();
+        final Map<String, List<FormatIdentifierResponse>> cachedFormatsByObjectId = new HashMap<>();
+        final Map<String, Path> batchFilesByObjectId = new HashMap<>();
+        try {
+            Files.createDirectories(batchDirectory);
+        } catch (IOException e) {
+            LOGGER.error("Cannot create format identification folder, binaries are identified one by one", e);
+            return singleObjectIdentifier;
+        }
+        for (final String objectGroupId : params.getObjectNameList()) {
+            handlerIO.setCurrentObjectId(objectGroupId);
+            final JsonNode jsonOG;
+            try {
+                jsonOG = (JsonNode) handlerIO.getInput(OG_INPUT_RANK);
+            } catch (ProcessingException e) {
+                // Reported when the object group is checked
+                LOGGER.error("Cannot read object group " + objectGroupId, e);
+                continue;
+            }
+            final Map<String, JsonNode> versionsById = getBinaryVersionsById(jsonOG);
+            for (final Map.Entry<String, String> binary : getMapOfObjectsIdsAndUris(jsonOG).entrySet()) {
+                final String[] digest = getDigest(versionsById.get(binary.getKey()));
+                if (digest != null) {
+                    final List<FormatIdentifierResponse> cachedFormats = formatIdentificationCache.getFormats(
+                        operationId,
+                        digest[0],
+                        digest[1]
+                    );
+                    if (cachedFormats != null) {
+                        // Kept in the batch result, as the cache entry may be evicted before the object group check
+                        cachedFormatsByObjectId.put(binary.getKey(), cachedFormats);
+                        continue;
+                    }
+                    final String batchObjectId = batchObjectIdsByDigest.putIfAbsent(
+                        digest[0] + "/" + digest[1],
+                        binary.getKey()
+                    );
+                    if (batchObjectId != null) {
+                        // Identification is reused from the binary of the bulk with the same digest
+                        sameDigestObjectIds.put(binary.getKey(), batchObjectId);
+                        continue;
+                    }
+                }
+                try {
+                    final File file = loadFileFromWorkspace(handlerIO, binary.getValue());
+                    final Path batchFile = batchDirectory.resolve(
+                        binary.getKey() + "_" + FilenameUtils.getName(binary.getValue())
+                    );
+                    Files.move(file.toPath(), batchFile);
+                    batchFilesByObjectId.put(binary.getKey(), batchFile);
+                } catch (ProcessingException | IOException e) {
+                    LOGGER.error("Cannot add object " + binary.getKey() + " to the bulk, identified on its own", e);
+                }
+            }
+        }
+
+        Map<Path, List<FormatIdentifierResponse>> formats = Collections.emptyMap();
+        if (!batchFilesByObjectId.isEmpty()) {
+            try {
+                formats = formatIdentifier.analyseDirectory(batchDirectory);
+            } catch (
+                FormatIdentifierTechnicalException
+                | FormatIdentifierBadRequestException
+                | FormatIdentifierNotFoundException e
+            ) {
+                LOGGER.error("Format identification of the bulk failed, binaries are identified one by one", e);
+            }
+        }
+        final Map<Path, List<FormatIdentifierResponse>> batchFormats = formats;
+        return (objectId, uri) -> {
+            final List<FormatIdentifierResponse> cachedFormats = cachedFormatsByObjectId.get(objectId);
+            if (cachedFormats != null) {
+                return cachedFormats;
+            }
+            final Path batchFile = batchFilesByObjectId.get(sameDigestObjectIds.getOrDefault(objectId, objectId));
+            if (batchFile == null) {
+                return singleObjectIdentifier.identify(objectId, uri);
+            }
+            final List<FormatIdentifierResponse> objectFormats = batchFormats.get(batchFile);
+            if (objectFormats == null) {
+                return formatIdentifier.analysePath(batchFile);
+            }
+            return objectFormats;
+        };
+    }
+
+    private List<FormatIdentifierResponse> identifyFromWorkspace(
         HandlerIO handlerIO,
         FormatIdentifier formatIdentifier,
+        String uri
+    )
+        throws ProcessingException, FileFormatNotFoundException, FormatIdentifierTechnicalException, FormatIdentifierBadRequestException, FormatIdentifierNotFoundException {
+        // Retrieve the file
+        final File file = loadFileFromWorkspace(handlerIO, uri);
+        try {
+            return formatIdentifier.analysePath(file.toPath());
+        } finally {
+            try {
+                Files.delete(file.toPath());
+            } catch (IOException e) {
+                LOGGER.error(e);
+            }
+        }
+    }
+
+    /**
+     * Identifies the binary, reusing formats of a binary with the same digest when enabled
+     */
+    private List<FormatIdentifierResponse> identify(
+        String operationId,
+        BinaryFormatIdentifier binaryFormatIdentifier,
         String objectId,
+        String uri,
+        JsonNode version
+    )
+        throws ProcessingException, FileFormatNotFoundException, FormatIdentifierTechnicalException, FormatIdentifierBadRequestException, FormatIdentifierNotFoundException {
+        final String[] digest = getDigest(version);
+        if (digest == null) {
+            return binaryFormatIdentifier.identify(objectId, uri);
+        }
+
+        final List<FormatIdentifierResponse> cachedFormats = formatIdentificationCache.getFormats(
+            operationId,
+            digest[0],
+            digest[1]
+        );
+        if (cachedFormats != null) {
+            return cachedFormats;
+        }
+
+        List<FormatIdentifierResponse> formats;
+        try {
+            formats = binaryFormatIdentifier.identify(objectId, uri);
+        } catch (FileFormatNotFoundException e) {
+            formatIdentificationCache.putFormats(operationId, digest[0], digest[1], Collections.emptyList());
+            throw e;
+        }
+        formatIdentificationCache.putFormats(operationId, digest[0], digest[1], formats);
+        return formats;
+    }
+
+    /**
+     * @return the digest algorithm and value of the version, or null if identification reuse by digest is disabled
+     */
+    private String[] getDigest(JsonNode version) {
+        if (!VitamConfiguration.isFormatIdentificationReuseByDigest() || version == null) {
+            return null;
+        }
+        final JsonNode algorithm = version.get(SedaConstants.ALGORITHM);
+        final JsonNode digest = version.get(SedaConstants.TAG_DIGEST);
+        if (algorithm == null || digest == null) {
+            return null;
+        }
+        return new String[] { algorithm.asText(), digest.asText() };
+    }
+
+    private List<FileFormatModel> findFileFormats(String operationId, String puid)
+        throws InvalidCreateOperationException, ReferentialException, InvalidParseOperationException, IOException {
+        final List<FileFormatModel> cachedFileFormats = formatIdentificationCache.getFileFormats(operationId, puid);
+        if (cachedFileFormats != null) {
+            return cachedFileFormats;
+        }
+
+        final Select select = new Select();
+        select.setQuery(eq(FileFormat.PUID, puid));
+        final RequestResponse<FileFormatModel> result;
+        try (AdminManagementClient adminClient = adminManagementClientFactory.getClient()) {
+            result = adminClient.getFormats(select.getFinalSelect());
+        }
+
+        final List<FileFormatModel> fileFormats = result.isOk()
+            ? ((RequestResponseOK<FileFormatModel>) result).getResults()
+            : Collections.emptyList();
+        formatIdentificationCache.putFileFormats(operationId, puid, fileFormats);
+        return fileFormats;
+    }
+
+    private ObjectCheckFormatResult executeOneObjectFromOG(
+        HandlerIO handlerIO,
+        String operationId,
+        BinaryFormatIdentifier binaryFormatIdentifier,
+        String objectId,
+        String uri,
         JsonNode manifestFormatIdentification,
-        File file,
         JsonNode version
-    ) {
+    ) throws ProcessingException {
         final ObjectCheckFormatResult objectCheckFormatResult = new ObjectCheckFormatResult(objectId);
         objectCheckFormatResult.setStatus(StatusCode.OK);
 
@@ -294,7 +579,7 @@ public class FormatIdentificationActionPlugin extends ActionHandler implements V
         boolean everyFormatType = true;
         Set<String> formatTypeSet;
         try {
-            IngestContractModel ingestContract = loadIngestContractFromWorkspace(handlerIO);
+            IngestContractModel ingestContract = getIngestContract(handlerIO);
             everyFormatType = ingestContract.isEveryFormatType();
             formatUnidentifiedAuthorized = ingestContract.isFormatUnidentifiedAuthorized();
             formatTypeSet = ingestContract.getFormatType();
@@ -304,23 +589,22 @@ public class FormatIdentificationActionPlugin extends ActionHandler implements V
             }
 
             // check the file
-            final List<FormatIdentifierResponse> formats = formatIdentifier.analysePath(file.toPath());
+            final List<FormatIdentifierResponse> formats = identify(
+                operationId,
+                binaryFormatIdentifier,
+                objectId,
+                uri,
+                version
+            );
 
             final FormatIdentifierResponse format = getFirstPronomFormat(formats);
             if (format == null) {
                 throw new FileFormatNotFoundException("File format not found in " + FORMAT_IDENTIFIER_ID);
             }
 
-            final String formatId = format.getPuid();
-
-            final Select select = new Select();
-            select.setQuery(eq(FileFormat.PUID, formatId));
-            final RequestResponse<FileFormatModel> result;
-            try (AdminManagementClient adminClient = adminManagementClientFactory.getClient()) {
-                result = adminClient.getFormats(select.getFinalSelect());
-            }
+            final List<FileFormatModel> results = findFileFormats(operationId, format.getPuid());
 
-            if (!result.isOk() || ((RequestResponseOK<FileFormatModel>) result).getResults().isEmpty()) {
+            if (results.isEmpty()) {
                 // format not found in vitam referential
                 if (formatUnidentifiedAuthorized) {
                     checkNotFoundFormatIdentification(manifestFormatIdentification, version, objectCheckFormatResult);
@@ -329,9 +613,6 @@ public class FormatIdentificationActionPlugin extends ActionHandler implements V
                 objectCheckFormatResult.setSubStatus(FILE_FORMAT_PUID_NOT_FOUND);
             } else {
                 // check formatIdentification
-
-                RequestResponseOK<FileFormatModel> requestResponseOK = (RequestResponseOK<FileFormatModel>) result;
-                List<FileFormatModel> results = requestResponseOK.getResults();
                 FileFormatModel refFormat = results.get(0);
 
                 checkFormatIdentification(
@@ -532,6 +813,31 @@ public class FormatIdentificationActionPlugin extends ActionHandler implements V
         return binaryObjectsToStore;
     }
 
+    private Map<String, JsonNode> getBinaryVersionsById(JsonNode jsonOG) {
+        final Map<String, JsonNode> versionsById = new HashMap<>();
+        final JsonNode qualifiers = jsonOG.get(SedaConstants.PREFIX_QUALIFIERS);
+        if (qualifiers == null) {
+            return versionsById;
+        }
+        for (final JsonNode versionsArray : qualifiers.findValues(SedaConstants.TAG_VERSIONS)) {
+            for (final JsonNode version : versionsArray) {
+                if (version.get(SedaConstants.TAG_PHYSICAL_ID) == null) {
+                    versionsById.put(version.get(SedaConstants.PREFIX_ID).asText(), version);
+                }
+            }
+        }
+        return versionsById;
+    }
+
+    /**
+     * Gives the formats identified for a binary object
+     */
+    @FunctionalInterface
+    private interface BinaryFormatIdentifier {
+        List<FormatIdentifierResponse> identify(String objectId, String uri)
+            throws ProcessingException, FileFormatNotFoundException, FormatIdentifierTechnicalException, FormatIdentifierBadRequestException, FormatIdentifierNotFoundException;
+    }
+
     /**
      * Object used to keep all file format result for all objects. Not really actually used, but can be usefull
      */
@@ -585,13 +891,16 @@ public class FormatIdentificationActionPlugin extends ActionHandler implements V
         }
     }
 
-    private IngestContractModel loadIngestContractFromWorkspace(HandlerIO handlerIO)
-        throws InvalidParseOperationException {
-        ContractsDetailsModel contractsDetailsModel = JsonHandler.getFromFile(
-            (File) handlerIO.getInput(REFERENTIAL_INGEST_CONTRACT_PARAMETERS_RANK),
-            ContractsDetailsModel.class
-        );
-        return contractsDetailsModel.getIngestContractModel();
+    private IngestContractModel getIngestContract(HandlerIO handlerIO) throws InvalidParseOperationException {
+        // Same ingest contract for all object groups of the bulk
+        if (ingestContractModel == null) {
+            ContractsDetailsModel contractsDetailsModel = JsonHandler.getFromFile(
+                (File) handlerIO.getInput(REFERENTIAL_INGEST_CONTRACT_PARAMETERS_RANK),
+                ContractsDetailsModel.class
+            );
+            ingestContractModel = contractsDetailsModel.getIngestContractModel();
+        }
+        return ingestContractModel;
     }
 
     private boolean identifiedFormatsRestricted(final JsonNode format, Set<String> formatTypeSet) {
@@ -0,0 +1,87 @@
+/*
+ * Copyright French Prime minister Office/SGMAP/DINSIC/Vitam Program (2015-2022)
+ *
+ * contact.vitam@culture.gouv.fr
+ *
+ * This software is a computer program whose purpose is to implement a digital archiving back-office system managing
+ * high volumetry securely and efficiently.
+ *
+ * This software is governed by the CeCILL 2.1 license under French law and abiding by the rules of distribution of free
+ * software. You can use, modify and/ or redistribute the software under the terms of the CeCILL 2.1 license as
+ * circulated by CEA, CNRS and INRIA at the following URL "https://cecill.info".
+ *
+ * As a counterpart to the access to the source code and rights to copy, modify and redistribute granted by the license,
+ * users are provided only with a limited warranty and the software's author, the holder of the economic rights, and the
+ * successive licensors have only limited liability.
+ *
+ * In this respect, the user's attention is drawn to the risks associated with loading, using, modifying and/or
+ * developing or reproducing the software by the user in light of its specific status of free software, that may mean
+ * that it is complicated to manipulate, and that also therefore means that it is reserved for developers and
+ * experienced professionals having in-depth computer knowledge. Users are therefore encouraged to load and test the
+ * software's suitability as regards their requirements in conditions enabling the security of their systems and/or data
+ * to be ensured and, more generally, to use and operate it in the same conditions as regards security.
+ *
+ * The fact that you are presently reading this means that you have had knowledge of the CeCILL 2.1 license and that you
+ * accept its terms.
+ */
+package fr.gouv.vitam.worker.core.plugin;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import fr.gouv.vitam.common.format.identification.model.FormatIdentifierResponse;
+import fr.gouv.vitam.common.model.administration.FileFormatModel;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Operation scoped cache of format identification results.<br>
+ * Keeps the file format referential entries resolved by PUID, and optionally the identified formats by binary digest,
+ * so that each bulk of a format check step does not resolve the same values again.
+ */
+class FormatIdentificationCache {
+
+    private static final int MAX_FILE_FORMAT_ENTRIES = 10_000;
+    private static final int MAX_DIGEST_ENTRIES = 100_000;
+    private static final int CACHE_TIMEOUT_IN_MINUTES = 30;
+
+    private final Cache<String, List<FileFormatModel>> fileFormatsByPuid;
+    private final Cache<String, List<FormatIdentifierResponse>> formatsByDigest;
+
+    FormatIdentificationCache() {
+        this.fileFormatsByPuid = CacheBuilder.newBuilder()
+            .maximumSize(MAX_FILE_FORMAT_ENTRIES)
+            .expireAfterAccess(CACHE_TIMEOUT_IN_MINUTES, TimeUnit.MINUTES)
+            .build();
+        this.formatsByDigest = CacheBuilder.newBuilder()
+            .maximumSize(MAX_DIGEST_ENTRIES)
+            .expireAfterAccess(CACHE_TIMEOUT_IN_MINUTES, TimeUnit.MINUTES)
+            .build();
+    }
+
+    /**
+     * @return the referential file formats of the PUID (empty if unknown in the referential), or null if not cached
+     */
+    List<FileFormatModel> getFileFormats(String operationId, String puid) {
+        return fileFormatsByPuid.getIfPresent(operationId + "/" + puid);
+    }
+
+    void putFileFormats(String operationId, String puid, List<FileFormatModel> fileFormats) {
+        fileFormatsByPuid.put(operationId + "/" + puid, fileFormats);
+    }
+
+    /**
+     * @return the identified formats of the binary (empty if no format found), or null if not cached
+     */
+    List<FormatIdentifierResponse> getFormats(String operationId, String algorithm, String digest) {
+        return formatsByDigest.getIfPresent(getDigestKey(operationId, algorithm, digest));
+    }
+
+    void putFormats(String operationId, String algorithm, String digest, List<FormatIdentifierResponse> formats) {
+        formatsByDigest.put(getDigestKey(operationId, algorithm, digest), formats);
+    }
+
+    private static String getDigestKey(String operationId, String algorithm, String digest) {
+        return operationId + "/" + algorithm + "/" + digest;
+    }
+}
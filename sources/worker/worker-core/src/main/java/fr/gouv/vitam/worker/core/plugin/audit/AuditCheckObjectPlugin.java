@@ -27,11 +27,13 @@
 package fr.gouv.vitam.worker.core.plugin.audit;
 
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.annotations.VisibleForTesting;
 import fr.gouv.vitam.batch.report.model.ReportItemStatus;
 import fr.gouv.vitam.batch.report.model.ReportStatus;
 import fr.gouv.vitam.batch.report.model.entry.AuditObjectGroupReportEntry;
 import fr.gouv.vitam.batch.report.model.entry.AuditObjectVersion;
+import fr.gouv.vitam.common.VitamConfiguration;
 import fr.gouv.vitam.common.exception.InvalidParseOperationException;
 import fr.gouv.vitam.common.json.JsonHandler;
 import fr.gouv.vitam.common.logging.VitamLogger;
@@ -100,7 +102,7 @@ public class AuditCheckObjectPlugin extends ActionHandler {
         final ItemStatus itemStatus = new ItemStatus(AUDIT_CHECK_OBJECT);
         Map<WorkerParameterName, String> mapParameters = param.getMapParameters();
         String action = mapParameters.get(WorkerParameterName.auditActions);
-        AuditObjectGroup gotDetail = loadAuditLine(param);
+        AuditObjectGroup gotDetail = loadAuditLine(param.getObjectMetadata());
         List<StorageStrategy> storageStrategies = loadStorageStrategies(handler);
         String actionType = null;
         AuditCheckObjectGroupResult result = null;
@@ -121,10 +123,65 @@ public class AuditCheckObjectPlugin extends ActionHandler {
         return new ItemStatus(AUDIT_CHECK_OBJECT).setItemsStatus(AUDIT_CHECK_OBJECT, itemStatus);
     }
 
-    private AuditObjectGroup loadAuditLine(WorkerParameters param) throws ProcessingStatusException {
+    @Override
+    public List<ItemStatus> executeList(WorkerParameters param, HandlerIO handler) throws ProcessingException {
+        String action = param.getMapParameters().get(WorkerParameterName.auditActions);
+        boolean batchIntegrityAudit =
+            VitamConfiguration.isIntegrityAuditBatchMode() && AuditIntegrityService.CHECK_INTEGRITY_ID.equals(action);
+        if (!batchIntegrityAudit) {
+            return super.executeList(param, handler);
+        }
+        LOGGER.debug("Starting batched integrity audit");
+
+        try {
+            return executeBatchIntegrityAudit(param, handler);
+        } catch (ProcessingStatusException e) {
+            LOGGER.error(String.format("Audit action failed with status [%s]", e.getStatusCode()), e);
+            return param
+                .getObjectNameList()
+                .stream()
+                .map(id -> buildItemStatus(AUDIT_CHECK_OBJECT, e.getStatusCode(), null))
+                .collect(Collectors.toList());
+        }
+    }
+
+    private List<ItemStatus> executeBatchIntegrityAudit(WorkerParameters param, HandlerIO handler)
+        throws ProcessingStatusException {
+        List<AuditObjectGroup> gotDetails = new ArrayList<>();
+        for (JsonNode objectMetadata : param.getObjectMetadataList()) {
+            gotDetails.add(loadAuditLine(objectMetadata));
+        }
+        List<StorageStrategy> storageStrategies = loadStorageStrategies(handler);
+
+        List<AuditCheckObjectGroupResult> results = auditIntegrityService.checkBulk(gotDetails, storageStrategies);
+
+        List<AuditObjectGroupReportEntry> entries = new ArrayList<>();
+        List<ItemStatus> itemStatuses = new ArrayList<>();
+        for (int i = 0; i < gotDetails.size(); i++) {
+            AuditCheckObjectGroupResult result = results.get(i);
+            entries.add(
+                createAuditObjectGroupReportEntry(gotDetails.get(i), result, AuditIntegrityService.CHECK_INTEGRITY_ID)
+            );
+
+            final ItemStatus itemStatus = new ItemStatus(AUDIT_CHECK_OBJECT);
+            itemStatus.setItemsStatus(
+                AuditIntegrityService.CHECK_INTEGRITY_ID,
+                buildItemStatus(AuditIntegrityService.CHECK_INTEGRITY_ID, result.getStatus(), null)
+            );
+            if (itemStatus.getGlobalStatus().isGreaterOrEqualToKo()) {
+                itemStatus.setGlobalOutcomeDetailSubcode(AuditIntegrityService.CHECK_INTEGRITY_ID);
+            }
+            itemStatuses.add(new ItemStatus(AUDIT_CHECK_OBJECT).setItemsStatus(AUDIT_CHECK_OBJECT, itemStatus));
+        }
+        auditReportService.appendEntries(param.getContainerName(), entries);
+
+        return itemStatuses;
+    }
+
+    private AuditObjectGroup loadAuditLine(JsonNode objectMetadata) throws ProcessingStatusException {
         AuditObjectGroup auditDistributionLine;
         try {
-            auditDistributionLine = JsonHandler.getFromJsonNode(param.getObjectMetadata(), AuditObjectGroup.class);
+            auditDistributionLine = JsonHandler.getFromJsonNode(objectMetadata, AuditObjectGroup.class);
         } catch (InvalidParseOperationException e) {
             throw new ProcessingStatusException(StatusCode.FATAL, "Could not load audit object group data", e);
         }
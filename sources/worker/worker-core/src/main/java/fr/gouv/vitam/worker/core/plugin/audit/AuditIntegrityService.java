@@ -28,14 +28,20 @@ package fr.gouv.vitam.worker.core.plugin.audit;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.annotations.VisibleForTesting;
+import fr.gouv.vitam.common.VitamConfiguration;
+import fr.gouv.vitam.common.error.VitamError;
 import fr.gouv.vitam.common.logging.VitamLogger;
 import fr.gouv.vitam.common.logging.VitamLoggerFactory;
+import fr.gouv.vitam.common.model.RequestResponse;
+import fr.gouv.vitam.common.model.RequestResponseOK;
 import fr.gouv.vitam.common.model.StatusCode;
 import fr.gouv.vitam.common.model.objectgroup.StorageJson;
+import fr.gouv.vitam.processing.common.metrics.CommonProcessingMetrics;
 import fr.gouv.vitam.storage.engine.client.StorageClient;
 import fr.gouv.vitam.storage.engine.client.StorageClientFactory;
 import fr.gouv.vitam.storage.engine.client.exception.StorageClientException;
 import fr.gouv.vitam.storage.engine.common.model.DataCategory;
+import fr.gouv.vitam.storage.engine.common.model.response.BatchObjectInformationResponse;
 import fr.gouv.vitam.storage.engine.common.referential.model.StorageStrategy;
 import fr.gouv.vitam.storage.engine.common.utils.StorageStrategyNotFoundException;
 import fr.gouv.vitam.storage.engine.common.utils.StorageStrategyUtils;
@@ -44,9 +50,14 @@ import fr.gouv.vitam.worker.core.plugin.audit.model.AuditCheckObjectGroupResult;
 import fr.gouv.vitam.worker.core.plugin.audit.model.AuditCheckObjectResult;
 import fr.gouv.vitam.worker.core.plugin.audit.model.AuditObject;
 import fr.gouv.vitam.worker.core.plugin.audit.model.AuditObjectGroup;
+import org.apache.commons.collections4.ListUtils;
 import org.apache.commons.lang.StringUtils;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * AuditIntegrityService
@@ -109,31 +120,10 @@ public class AuditIntegrityService {
                 );
                 for (String offerId : offerIds) {
                     JsonNode metadata = offerToMetadata.findValue(offerId);
-                    if (object.getMessageDigest() == null || metadata == null || !metadata.has(DIGEST)) {
-                        LOGGER.warn(
-                            String.format(
-                                PROBLEM_OCCURED_MSG + "Object Digest is %s and metadata size is  %s",
-                                object.getMessageDigest(),
-                                metadata == null ? 0 : metadata.size()
-                            )
-                        );
-                        auditCheckObjectResult.getOfferStatuses().put(offerId, StatusCode.KO);
-                    } else {
-                        String digest = metadata.get(DIGEST).asText();
-                        if (StringUtils.equals(object.getMessageDigest(), digest)) {
-                            auditCheckObjectResult.getOfferStatuses().put(offerId, StatusCode.OK);
-                        } else {
-                            LOGGER.warn(
-                                String.format(
-                                    PROBLEM_OCCURED_MSG +
-                                    "Object Digest %s is different then object metadata digest %s",
-                                    object.getMessageDigest(),
-                                    digest
-                                )
-                            );
-                            auditCheckObjectResult.getOfferStatuses().put(offerId, StatusCode.KO);
-                        }
-                    }
+                    String digest = metadata == null || !metadata.has(DIGEST) ? null : metadata.get(DIGEST).asText();
+                    StatusCode status = checkDigest(object, digest);
+                    CommonProcessingMetrics.INTEGRITY_AUDIT_CHECKED_OBJECTS.labels(offerId, status.name()).inc();
+                    auditCheckObjectResult.getOfferStatuses().put(offerId, status);
                 }
                 result.getObjectStatuses().add(auditCheckObjectResult);
             }
@@ -149,4 +139,135 @@ public class AuditIntegrityService {
 
         return result;
     }
+
+    /**
+     * Check the integrity of all binary objects of a bulk of GOTs.
+     * Offer digests are computed by bulk, with one storage request per storage strategy and batch of objects,
+     * instead of one request per object.
+     *
+     * @param gotDetails got details
+     * @param storageStrategies deployed storage strategies
+     * @return results of integrity check, in the same order than got details
+     * @throws ProcessingStatusException exception
+     */
+    public List<AuditCheckObjectGroupResult> checkBulk(
+        List<AuditObjectGroup> gotDetails,
+        List<StorageStrategy> storageStrategies
+    ) throws ProcessingStatusException {
+        Map<String, List<String>> objectIdsByStrategy = new LinkedHashMap<>();
+        for (AuditObjectGroup gotDetail : gotDetails) {
+            for (AuditObject object : gotDetail.getObjects()) {
+                if (PHYSICAL_MASTER.equals(object.getQualifier())) {
+                    LOGGER.info(
+                        String.format("Skip checking object %s due to its Physical Master type.", object.getId())
+                    );
+                    continue;
+                }
+                objectIdsByStrategy
+                    .computeIfAbsent(object.getStorage().getStrategyId(), strategyId -> new ArrayList<>())
+                    .add(object.getId());
+            }
+        }
+
+        Map<String, List<String>> offerIdsByStrategy = new HashMap<>();
+        Map<String, Map<String, String>> offerDigestsByObjectId = new HashMap<>();
+        try (final StorageClient storageClient = storageClientFactory.getClient()) {
+            for (Map.Entry<String, List<String>> entry : objectIdsByStrategy.entrySet()) {
+                String strategyId = entry.getKey();
+                List<String> offerIds = StorageStrategyUtils.loadOfferIds(strategyId, storageStrategies);
+                offerIdsByStrategy.put(strategyId, offerIds);
+
+                List<List<String>> batches = ListUtils.partition(entry.getValue(), VitamConfiguration.getBatchSize());
+                for (List<String> objectIds : batches) {
+                    offerDigestsByObjectId.putAll(loadOfferDigests(storageClient, strategyId, offerIds, objectIds));
+                }
+            }
+        } catch (StorageClientException | StorageStrategyNotFoundException e) {
+            LOGGER.error("Storage server errors : ", e);
+            throw new ProcessingStatusException(StatusCode.FATAL, String.format("Storage server errors : %s", e));
+        }
+
+        List<AuditCheckObjectGroupResult> results = new ArrayList<>();
+        for (AuditObjectGroup gotDetail : gotDetails) {
+            AuditCheckObjectGroupResult result = new AuditCheckObjectGroupResult();
+            result.setIdObjectGroup(gotDetail.getId());
+
+            for (AuditObject object : gotDetail.getObjects()) {
+                if (PHYSICAL_MASTER.equals(object.getQualifier())) {
+                    continue;
+                }
+
+                AuditCheckObjectResult auditCheckObjectResult = new AuditCheckObjectResult();
+                auditCheckObjectResult.setIdObject(object.getId());
+                Map<String, String> offerDigests = offerDigestsByObjectId.getOrDefault(object.getId(), Map.of());
+                for (String offerId : offerIdsByStrategy.get(object.getStorage().getStrategyId())) {
+                    StatusCode status = checkDigest(object, offerDigests.get(offerId));
+                    CommonProcessingMetrics.INTEGRITY_AUDIT_CHECKED_OBJECTS.labels(offerId, status.name()).inc();
+                    auditCheckObjectResult.getOfferStatuses().put(offerId, status);
+                }
+                result.getObjectStatuses().add(auditCheckObjectResult);
+            }
+
+            result.setStatus(result.getObjectsGlobalStatus());
+            if (result.getStatus() == null) {
+                result.setStatus(StatusCode.OK);
+            }
+            results.add(result);
+        }
+        return results;
+    }
+
+    private Map<String, Map<String, String>> loadOfferDigests(
+        StorageClient storageClient,
+        String strategyId,
+        List<String> offerIds,
+        List<String> objectIds
+    ) throws StorageClientException, ProcessingStatusException {
+        RequestResponse<BatchObjectInformationResponse> response = storageClient.getBatchObjectInformation(
+            strategyId,
+            DataCategory.OBJECT,
+            offerIds,
+            objectIds,
+            true
+        );
+        if (!response.isOk()) {
+            throw new ProcessingStatusException(
+                StatusCode.FATAL,
+                "Could not load object digests from offers : " + ((VitamError) response).getDescription()
+            );
+        }
+
+        List<BatchObjectInformationResponse> objectInformations = (
+            (RequestResponseOK<BatchObjectInformationResponse>) response
+        ).getResults();
+        Map<String, Map<String, String>> offerDigestsByObjectId = new HashMap<>();
+        for (BatchObjectInformationResponse objectInformation : objectInformations) {
+            offerDigestsByObjectId.put(objectInformation.getObjectId(), objectInformation.getOfferDigests());
+        }
+        return offerDigestsByObjectId;
+    }
+
+    private StatusCode checkDigest(AuditObject object, String offerDigest) {
+        if (object.getMessageDigest() == null || offerDigest == null) {
+            LOGGER.warn(
+                String.format(
+                    PROBLEM_OCCURED_MSG + "Object Digest is %s and offer digest is %s",
+                    object.getMessageDigest(),
+                    offerDigest
+                )
+            );
+            return StatusCode.KO;
+        }
+        if (!StringUtils.equals(object.getMessageDigest(), offerDigest)) {
+            LOGGER.warn(
+                String.format(
+                    PROBLEM_OCCURED_MSG + "Object Digest %s is different then object metadata digest %s",
+                    object.getMessageDigest(),
+                    offerDigest
+                )
+            );
+            return StatusCode.KO;
+        }
+        return StatusCode.OK;
+    }
 }
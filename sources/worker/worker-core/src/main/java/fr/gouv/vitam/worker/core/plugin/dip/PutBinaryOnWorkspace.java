@@ -27,6 +27,7 @@
 package fr.gouv.vitam.worker.core.plugin.dip;
 
 import com.google.common.annotations.VisibleForTesting;
+import fr.gouv.vitam.common.VitamConfiguration;
 import fr.gouv.vitam.common.accesslog.AccessLogInfoModel;
 import fr.gouv.vitam.common.accesslog.AccessLogUtils;
 import fr.gouv.vitam.common.exception.InvalidParseOperationException;
@@ -97,6 +98,12 @@ public class PutBinaryOnWorkspace extends ActionHandler {
     public ItemStatus execute(WorkerParameters param, HandlerIO handler) throws ProcessingException {
         final ItemStatus itemStatus = new ItemStatus(PUT_BINARY_ON_WORKSPACE);
 
+        if (VitamConfiguration.isExportArchiveStreamingMode()) {
+            // Binaries are read from storage while the archive is written (cf. StoreExports)
+            itemStatus.increment(StatusCode.OK);
+            return new ItemStatus(PUT_BINARY_ON_WORKSPACE).setItemsStatus(PUT_BINARY_ON_WORKSPACE, itemStatus);
+        }
+
         Map<String, Object> guidToPath;
         try (InputStream inputStream = new FileInputStream((File) handler.getInput(GUID_TO_INFO_RANK))) {
             guidToPath = JsonHandler.getMapFromInputStream(inputStream);
@@ -29,19 +29,28 @@ package fr.gouv.vitam.worker.core.plugin.dip;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.common.annotations.VisibleForTesting;
 import fr.gouv.vitam.common.VitamConfiguration;
+import fr.gouv.vitam.common.accesslog.AccessLogInfoModel;
+import fr.gouv.vitam.common.accesslog.AccessLogUtils;
+import fr.gouv.vitam.common.digest.Digest;
+import fr.gouv.vitam.common.exception.InvalidParseOperationException;
 import fr.gouv.vitam.common.json.JsonHandler;
 import fr.gouv.vitam.common.logging.VitamLogger;
 import fr.gouv.vitam.common.logging.VitamLoggerFactory;
 import fr.gouv.vitam.common.model.ItemStatus;
 import fr.gouv.vitam.common.model.StatusCode;
+import fr.gouv.vitam.common.stream.StreamUtils;
+import fr.gouv.vitam.common.thread.VitamThreadPoolExecutor;
 import fr.gouv.vitam.common.thread.VitamThreadUtils;
 import fr.gouv.vitam.processing.common.exception.ProcessingException;
+import fr.gouv.vitam.processing.common.parameter.WorkerParameterName;
 import fr.gouv.vitam.processing.common.parameter.WorkerParameters;
 import fr.gouv.vitam.storage.engine.client.StorageClient;
 import fr.gouv.vitam.storage.engine.client.StorageClientFactory;
 import fr.gouv.vitam.storage.engine.client.exception.StorageAlreadyExistsClientException;
 import fr.gouv.vitam.storage.engine.client.exception.StorageNotFoundClientException;
 import fr.gouv.vitam.storage.engine.client.exception.StorageServerClientException;
+import fr.gouv.vitam.storage.engine.client.exception.StorageUnavailableDataFromAsyncOfferClientException;
+import fr.gouv.vitam.storage.engine.common.exception.StorageNotFoundException;
 import fr.gouv.vitam.storage.engine.common.model.DataCategory;
 import fr.gouv.vitam.storage.engine.common.model.request.ObjectDescription;
 import fr.gouv.vitam.worker.common.HandlerIO;
@@ -49,11 +58,29 @@ import fr.gouv.vitam.worker.core.handler.ActionHandler;
 import fr.gouv.vitam.workspace.api.exception.ContentAddressableStorageException;
 import fr.gouv.vitam.workspace.client.WorkspaceClient;
 import fr.gouv.vitam.workspace.common.CompressInformation;
+import org.apache.commons.compress.archivers.zip.Zip64Mode;
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
+import org.apache.commons.io.IOUtils;
+
+import javax.ws.rs.core.Response;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 import static fr.gouv.vitam.common.model.IngestWorkflowConstants.SEDA_FILE;
+import static java.lang.String.format;
 
 /**
  * ZIP the ExportsPurge and move it from workspace to storage
+ *
+ * In export archive streaming mode, binaries are not copied into the workspace beforehand : they are read from storage
+ * and appended to the zip while it is written to the workspace, and its digest is computed on the fly.
  */
 public class StoreExports extends ActionHandler {
 
@@ -68,6 +95,8 @@ public class StoreExports extends ActionHandler {
     private static final String JSONL_EXTENSION = ".jsonl";
     private static final String DIGEST = "SystemMessageDigest";
     private static final String DIGEST_TYPE = "SystemAlgorithm";
+    static final String GUID_TO_INFO = "data/guid_to_path.json";
+    private static final String STRATEGY_ID = "strategyId";
     private final StorageClientFactory storageClientFactory;
 
     public StoreExports() {
@@ -106,9 +135,22 @@ public class StoreExports extends ActionHandler {
 
             try (WorkspaceClient workspaceClient = handler.getWorkspaceClientFactory().getClient()) {
                 if (workspaceClient.isExistingObject(handler.getContainerName(), SEDA_FILE)) {
-                    zipWorkspace(workspaceClient, handler.getContainerName(), tenantFolder, zipFileName, container);
+                    String digest;
+                    if (VitamConfiguration.isExportArchiveStreamingMode()) {
+                        digest = streamArchiveToWorkspace(
+                            workspaceClient,
+                            params,
+                            handler,
+                            tenantFolder,
+                            zipFileName,
+                            container
+                        );
+                    } else {
+                        zipWorkspace(workspaceClient, handler.getContainerName(), tenantFolder, zipFileName, container);
+                        digest = computeObjectDigest(handler, container, tenantFolder, zipFileName);
+                    }
                     ObjectNode eventDetailDataNode = JsonHandler.createObjectNode();
-                    eventDetailDataNode.put(DIGEST, computeObjectDigest(handler, container, tenantFolder, zipFileName));
+                    eventDetailDataNode.put(DIGEST, digest);
                     eventDetailDataNode.put(DIGEST_TYPE, VitamConfiguration.getDefaultDigestType().getName());
                     itemStatus.setEvDetailData(JsonHandler.unprettyPrint(eventDetailDataNode));
                 }
@@ -170,6 +212,135 @@ public class StoreExports extends ActionHandler {
         workspaceClient.compress(operationId, compressInformation);
     }
 
+    private String streamArchiveToWorkspace(
+        WorkspaceClient workspaceClient,
+        WorkerParameters params,
+        HandlerIO handler,
+        String outputDir,
+        String outputFile,
+        String container
+    ) throws ContentAddressableStorageException, ProcessingException {
+        LOGGER.debug("Try to stream archive into workspace...");
+
+        Map<String, Object> guidToInfo = loadGuidToInfo(handler);
+
+        // Ensure target folder exists
+        workspaceClient.createContainer(container);
+        workspaceClient.createFolder(container, outputDir);
+
+        String outputPath = outputDir + "/" + outputFile;
+        Digest digest = new Digest(VitamConfiguration.getDefaultDigestType());
+        try (PipedInputStream archiveInputStream = new PipedInputStream(VitamConfiguration.getChunkSize())) {
+            PipedOutputStream archiveOutputStream = new PipedOutputStream(archiveInputStream);
+            Future<Void> archiveWriter = VitamThreadPoolExecutor.getDefaultExecutor()
+                .submit(() -> {
+                    try (OutputStream digestOutputStream = digest.getDigestOutputStream(archiveOutputStream)) {
+                        writeArchive(digestOutputStream, params, handler, guidToInfo);
+                    }
+                    return null;
+                });
+            try {
+                workspaceClient.putObject(container, outputPath, archiveInputStream);
+            } finally {
+                // Stops the writer if the workspace did not read the whole archive
+                archiveInputStream.close();
+            }
+            archiveWriter.get();
+        } catch (ExecutionException e) {
+            // The archive stored in workspace is truncated
+            workspaceClient.deleteObject(container, outputPath);
+            throw new ProcessingException("Could not write archive " + outputPath, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ProcessingException(e);
+        } catch (IOException e) {
+            throw new ContentAddressableStorageException(e);
+        }
+        return digest.toString();
+    }
+
+    private Map<String, Object> loadGuidToInfo(HandlerIO handler)
+        throws ContentAddressableStorageException, ProcessingException {
+        try (InputStream inputStream = handler.getInputStreamFromWorkspace(GUID_TO_INFO)) {
+            return JsonHandler.getMapFromInputStream(inputStream);
+        } catch (IOException | InvalidParseOperationException e) {
+            throw new ProcessingException(e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void writeArchive(
+        OutputStream outputStream,
+        WorkerParameters params,
+        HandlerIO handler,
+        Map<String, Object> guidToInfo
+    ) throws IOException, ContentAddressableStorageException, ProcessingException {
+        boolean mustLog = Boolean.parseBoolean(
+            params.getMapParameters().get(WorkerParameterName.mustLogAccessOnObject)
+        );
+        try (
+            ZipArchiveOutputStream zipArchiveOutputStream = new ZipArchiveOutputStream(outputStream);
+            WorkspaceClient workspaceClient = handler.getWorkspaceClientFactory().getClient();
+            StorageClient storageClient = storageClientFactory.getClient()
+        ) {
+            zipArchiveOutputStream.setUseZip64(Zip64Mode.Always);
+
+            Response manifest = workspaceClient.getObject(handler.getContainerName(), SEDA_FILE);
+            try {
+                appendEntry(zipArchiveOutputStream, SEDA_FILE, (InputStream) manifest.getEntity());
+            } finally {
+                StreamUtils.consumeAnyEntityAndClose(manifest);
+            }
+
+            for (Map.Entry<String, Object> binary : guidToInfo.entrySet()) {
+                Map<String, Object> objectInfo = (Map<String, Object>) binary.getValue();
+                Response response = getBinary(storageClient, binary.getKey(), objectInfo, mustLog);
+                try {
+                    appendEntry(
+                        zipArchiveOutputStream,
+                        (String) objectInfo.get(AccessLogUtils.FILE_NAME),
+                        (InputStream) response.getEntity()
+                    );
+                } finally {
+                    StreamUtils.consumeAnyEntityAndClose(response);
+                }
+            }
+        }
+    }
+
+    private Response getBinary(
+        StorageClient storageClient,
+        String objectName,
+        Map<String, Object> objectInfo,
+        boolean mustLog
+    ) throws ProcessingException {
+        String strategyId = (String) objectInfo.get(STRATEGY_ID);
+        AccessLogInfoModel logInfo = AccessLogUtils.getInfoFromWorkerInfo(
+            objectInfo,
+            VitamThreadUtils.getVitamSession(),
+            mustLog
+        );
+        for (int i = 0; i < PutBinaryOnWorkspace.NUMBER_OF_RETRY; i++) {
+            try {
+                return storageClient.getContainerAsync(strategyId, objectName, DataCategory.OBJECT, logInfo);
+            } catch (
+                StorageNotFoundException
+                | StorageServerClientException
+                | StorageUnavailableDataFromAsyncOfferClientException e
+            ) {
+                LOGGER.error(format("unable to read binary %s from offer, retry: %d", objectName, i), e);
+            }
+        }
+        throw new ProcessingException("Could not read binary " + objectName + " from offer");
+    }
+
+    private void appendEntry(ZipArchiveOutputStream zipArchiveOutputStream, String entryName, InputStream inputStream)
+        throws IOException {
+        zipArchiveOutputStream.putArchiveEntry(new ZipArchiveEntry(entryName));
+        IOUtils.copy(inputStream, zipArchiveOutputStream);
+        zipArchiveOutputStream.closeArchiveEntry();
+    }
+
     private String computeObjectDigest(HandlerIO handler, String container, String tenantFolder, String fileName)
         throws ContentAddressableStorageException {
         LOGGER.debug("Compute object digest from workspace...");
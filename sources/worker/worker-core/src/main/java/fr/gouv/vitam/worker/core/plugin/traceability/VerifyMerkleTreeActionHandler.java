@@ -67,6 +67,7 @@ import fr.gouv.vitam.common.model.StatusCode;
 import fr.gouv.vitam.common.model.WorkspaceConstants;
 import fr.gouv.vitam.common.security.merkletree.MerkleTree;
 import fr.gouv.vitam.common.security.merkletree.MerkleTreeAlgo;
+import fr.gouv.vitam.common.security.merkletree.StreamingMerkleTreeAlgo;
 import fr.gouv.vitam.logbook.common.model.TraceabilityEvent;
 import fr.gouv.vitam.processing.common.exception.ProcessingException;
 import fr.gouv.vitam.processing.common.parameter.WorkerParameters;
@@ -229,7 +230,7 @@ public class VerifyMerkleTreeActionHandler extends ActionHandler {
      */
     public static MerkleTreeAlgo computeMerkleTree(InputStream inputStream, DigestType digestType)
         throws ProcessingException {
-        final MerkleTreeAlgo merkleTreeAlgo = new MerkleTreeAlgo(digestType);
+        final MerkleTreeAlgo merkleTreeAlgo = new StreamingMerkleTreeAlgo(digestType);
 
         // Process
         try (
@@ -0,0 +1,276 @@
+/*
+ * Copyright French Prime minister Office/SGMAP/DINSIC/Vitam Program (2015-2022)
+ *
+ * contact.vitam@culture.gouv.fr
+ *
+ * This software is a computer program whose purpose is to implement a digital archiving back-office system managing
+ * high volumetry securely and efficiently.
+ *
+ * This software is governed by the CeCILL 2.1 license under French law and abiding by the rules of distribution of free
+ * software. You can use, modify and/ or redistribute the software under the terms of the CeCILL 2.1 license as
+ * circulated by CEA, CNRS and INRIA at the following URL "https://cecill.info".
+ *
+ * As a counterpart to the access to the source code and rights to copy, modify and redistribute granted by the license,
+ * users are provided only with a limited warranty and the software's author, the holder of the economic rights, and the
+ * successive licensors have only limited liability.
+ *
+ * In this respect, the user's attention is drawn to the risks associated with loading, using, modifying and/or
+ * developing or reproducing the software by the user in light of its specific status of free software, that may mean
+ * that it is complicated to manipulate, and that also therefore means that it is reserved for developers and
+ * experienced professionals having in-depth computer knowledge. Users are therefore encouraged to load and test the
+ * software's suitability as regards their requirements in conditions enabling the security of their systems and/or data
+ * to be ensured and, more generally, to use and operate it in the same conditions as regards security.
+ *
+ * The fact that you are presently reading this means that you have had knowledge of the CeCILL 2.1 license and that you
+ * accept its terms.
+ */
+package fr.gouv.vitam.worker.core.utils;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Compact String to String map for large identifier mappings.
+ *
+ * Keys and values are dictionary encoded through a (shared) {@link StringDictionary}, and entries are stored as int
+ * codes in open addressing arrays. Like {@link FastValueAccessMap}, value reference counts are tracked for O(1)
+ * "containsValue". Null keys are not supported, and entry set iterators are read-only.
+ *
+ * Not thread safe.
+ */
+public class CompactStringMap extends AbstractMap<String, String> {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int EMPTY = 0;
+    private static final int NULL_VALUE = 0;
+
+    private final StringDictionary dictionary;
+    private final boolean trackValues;
+
+    // Key code + 1 (0 for empty slots)
+    private int[] keys = new int[INITIAL_CAPACITY];
+    // Value code + 1 (0 for null values)
+    private int[] values = new int[INITIAL_CAPACITY];
+    // Reference count of value code + 1 (if values are tracked)
+    private int[] valueReferenceCounts;
+    private int size = 0;
+
+    public CompactStringMap(StringDictionary dictionary) {
+        this(dictionary, false);
+    }
+
+    /**
+     * @param trackValues if true, value reference counts are maintained for fast "containsValue" lookups
+     */
+    public CompactStringMap(StringDictionary dictionary, boolean trackValues) {
+        this.dictionary = dictionary;
+        this.trackValues = trackValues;
+        this.valueReferenceCounts = trackValues ? new int[INITIAL_CAPACITY] : null;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        int keyCode = dictionary.lookup(key);
+        return keyCode >= 0 && keys[findSlot(keyCode)] != EMPTY;
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        if (!trackValues) {
+            return super.containsValue(value);
+        }
+        if (value == null) {
+            return valueReferenceCounts[NULL_VALUE] > 0;
+        }
+        int valueCode = dictionary.lookup(value);
+        return valueCode >= 0 && valueCode + 1 < valueReferenceCounts.length && valueReferenceCounts[valueCode + 1] > 0;
+    }
+
+    @Override
+    public String get(Object key) {
+        int keyCode = dictionary.lookup(key);
+        if (keyCode < 0) {
+            return null;
+        }
+        int slot = findSlot(keyCode);
+        return keys[slot] == EMPTY ? null : decodeValue(values[slot]);
+    }
+
+    @Override
+    public String put(String key, String value) {
+        if (key == null) {
+            throw new NullPointerException("Null keys not supported");
+        }
+        int keyCode = dictionary.encode(key);
+        int encodedValue = value == null ? NULL_VALUE : dictionary.encode(value) + 1;
+        incrementValueReference(encodedValue);
+
+        int slot = findSlot(keyCode);
+        if (keys[slot] != EMPTY) {
+            int previousValue = values[slot];
+            values[slot] = encodedValue;
+            decrementValueReference(previousValue);
+            return decodeValue(previousValue);
+        }
+
+        keys[slot] = keyCode + 1;
+        values[slot] = encodedValue;
+        size++;
+        if (size * 2 > keys.length) {
+            resize(keys.length * 2);
+        }
+        return null;
+    }
+
+    @Override
+    public String remove(Object key) {
+        int keyCode = dictionary.lookup(key);
+        if (keyCode < 0) {
+            return null;
+        }
+        int slot = findSlot(keyCode);
+        if (keys[slot] == EMPTY) {
+            return null;
+        }
+        int previousValue = values[slot];
+        decrementValueReference(previousValue);
+        deleteSlot(slot);
+        size--;
+        return decodeValue(previousValue);
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(keys, EMPTY);
+        Arrays.fill(values, NULL_VALUE);
+        if (trackValues) {
+            Arrays.fill(valueReferenceCounts, 0);
+        }
+        size = 0;
+    }
+
+    @Override
+    public Set<Entry<String, String>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<String, String>> iterator() {
+                return new EntryIterator();
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    private int findSlot(int keyCode) {
+        int mask = keys.length - 1;
+        int slot = mix(keyCode) & mask;
+        while (keys[slot] != EMPTY && keys[slot] != keyCode + 1) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void deleteSlot(int slot) {
+        // Backward shift deletion (linear probing)
+        int mask = keys.length - 1;
+        int current = slot;
+        int next = (current + 1) & mask;
+        while (keys[next] != EMPTY) {
+            int idealSlot = mix(keys[next] - 1) & mask;
+            if (((next - idealSlot) & mask) >= ((next - current) & mask)) {
+                keys[current] = keys[next];
+                values[current] = values[next];
+                current = next;
+            }
+            next = (next + 1) & mask;
+        }
+        keys[current] = EMPTY;
+        values[current] = NULL_VALUE;
+    }
+
+    private void resize(int capacity) {
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+        keys = new int[capacity];
+        values = new int[capacity];
+        int mask = capacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                int slot = mix(oldKeys[i] - 1) & mask;
+                while (keys[slot] != EMPTY) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private void incrementValueReference(int encodedValue) {
+        if (!trackValues) {
+            return;
+        }
+        if (encodedValue >= valueReferenceCounts.length) {
+            valueReferenceCounts = Arrays.copyOf(
+                valueReferenceCounts,
+                Math.max(encodedValue + 1, valueReferenceCounts.length * 2)
+            );
+        }
+        valueReferenceCounts[encodedValue]++;
+    }
+
+    private void decrementValueReference(int encodedValue) {
+        if (trackValues) {
+            valueReferenceCounts[encodedValue]--;
+        }
+    }
+
+    private String decodeValue(int encodedValue) {
+        return encodedValue == NULL_VALUE ? null : dictionary.decode(encodedValue - 1);
+    }
+
+    private static int mix(int code) {
+        int h = code * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private class EntryIterator implements Iterator<Entry<String, String>> {
+
+        private int slot = -1;
+        private int remaining = size;
+
+        @Override
+        public boolean hasNext() {
+            return remaining > 0;
+        }
+
+        @Override
+        public Entry<String, String> next() {
+            if (remaining <= 0) {
+                throw new NoSuchElementException();
+            }
+            do {
+                slot++;
+            } while (keys[slot] == EMPTY);
+            remaining--;
+            return new SimpleImmutableEntry<>(dictionary.decode(keys[slot] - 1), decodeValue(values[slot]));
+        }
+    }
+}
@@ -0,0 +1,268 @@
+/*
+ * Copyright French Prime minister Office/SGMAP/DINSIC/Vitam Program (2015-2022)
+ *
+ * contact.vitam@culture.gouv.fr
+ *
+ * This software is a computer program whose purpose is to implement a digital archiving back-office system managing
+ * high volumetry securely and efficiently.
+ *
+ * This software is governed by the CeCILL 2.1 license under French law and abiding by the rules of distribution of free
+ * software. You can use, modify and/ or redistribute the software under the terms of the CeCILL 2.1 license as
+ * circulated by CEA, CNRS and INRIA at the following URL "https://cecill.info".
+ *
+ * As a counterpart to the access to the source code and rights to copy, modify and redistribute granted by the license,
+ * users are provided only with a limited warranty and the software's author, the holder of the economic rights, and the
+ * successive licensors have only limited liability.
+ *
+ * In this respect, the user's attention is drawn to the risks associated with loading, using, modifying and/or
+ * developing or reproducing the software by the user in light of its specific status of free software, that may mean
+ * that it is complicated to manipulate, and that also therefore means that it is reserved for developers and
+ * experienced professionals having in-depth computer knowledge. Users are therefore encouraged to load and test the
+ * software's suitability as regards their requirements in conditions enabling the security of their systems and/or data
+ * to be ensured and, more generally, to use and operate it in the same conditions as regards security.
+ *
+ * The fact that you are presently reading this means that you have had knowledge of the CeCILL 2.1 license and that you
+ * accept its terms.
+ */
+package fr.gouv.vitam.worker.core.utils;
+
+import com.google.common.annotations.VisibleForTesting;
+import fr.gouv.vitam.common.ParametersChecker;
+import fr.gouv.vitam.common.guid.GUIDFactory;
+import org.apache.commons.io.FileUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Dictionary encoding of strings (identifiers) to dense int codes.
+ *
+ * The first {@code maxInMemoryEntries} strings are kept on heap. Next ones are spilled to a memory mapped file
+ * in {@code tmpDirectory}, which is deleted on close. Only codes and string hashes are kept on heap for spilled
+ * entries.
+ *
+ * Not thread safe.
+ */
+public class StringDictionary implements AutoCloseable {
+
+    private static final int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int NO_CODE = -1;
+
+    private final int maxInMemoryEntries;
+    private final File tmpDirectory;
+    private final int segmentSize;
+
+    private String[] inMemoryEntries = new String[INITIAL_CAPACITY];
+    private int[] entryHashes = new int[INITIAL_CAPACITY];
+    private int size = 0;
+
+    // Open addressing index of codes (code + 1, 0 for empty slots)
+    private int[] index = new int[INITIAL_CAPACITY * 2];
+
+    // Spilled entries
+    private long[] spilledEntryOffsets = new long[0];
+    private File spillFile;
+    private FileChannel spillFileChannel;
+    private final List<MappedByteBuffer> spillSegments = new ArrayList<>();
+    private long spillFileSize = 0L;
+
+    public StringDictionary(int maxInMemoryEntries, File tmpDirectory) {
+        this(maxInMemoryEntries, tmpDirectory, DEFAULT_SEGMENT_SIZE);
+    }
+
+    @VisibleForTesting
+    StringDictionary(int maxInMemoryEntries, File tmpDirectory, int segmentSize) {
+        ParametersChecker.checkParameter("Tmp directory is required", tmpDirectory);
+        ParametersChecker.checkValue("maxInMemoryEntries", maxInMemoryEntries, 0);
+        this.maxInMemoryEntries = maxInMemoryEntries;
+        this.tmpDirectory = tmpDirectory;
+        this.segmentSize = segmentSize;
+    }
+
+    /**
+     * @return the code of the string, registering it if not already known
+     */
+    public int encode(String value) {
+        ParametersChecker.checkParameter("Value is required", value);
+        int hash = value.hashCode();
+        int slot = findSlot(value, hash);
+        if (index[slot] != 0) {
+            return index[slot] - 1;
+        }
+
+        int code = size;
+        if (code < maxInMemoryEntries) {
+            storeInMemory(code, value);
+        } else {
+            spill(code, value);
+        }
+        ensureHashCapacity(code + 1);
+        entryHashes[code] = hash;
+        index[slot] = code + 1;
+        size++;
+
+        if (size * 2 > index.length) {
+            rehash();
+        }
+        return code;
+    }
+
+    /**
+     * @return the code of the string, or -1 if unknown
+     */
+    public int lookup(Object value) {
+        if (!(value instanceof String)) {
+            return NO_CODE;
+        }
+        String str = (String) value;
+        int slot = findSlot(str, str.hashCode());
+        return index[slot] - 1;
+    }
+
+    public String decode(int code) {
+        if (code < 0 || code >= size) {
+            throw new IllegalArgumentException("Unknown code " + code);
+        }
+        if (code < maxInMemoryEntries) {
+            return inMemoryEntries[code];
+        }
+        return readSpilledEntry(spilledEntryOffsets[code - maxInMemoryEntries]);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int getSpilledEntryCount() {
+        return Math.max(0, size - maxInMemoryEntries);
+    }
+
+    private int findSlot(String value, int hash) {
+        int mask = index.length - 1;
+        int slot = mix(hash) & mask;
+        while (index[slot] != 0) {
+            int code = index[slot] - 1;
+            if (entryHashes[code] == hash && decode(code).equals(value)) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void rehash() {
+        int[] newIndex = new int[index.length * 2];
+        int mask = newIndex.length - 1;
+        for (int code = 0; code < size; code++) {
+            int slot = mix(entryHashes[code]) & mask;
+            while (newIndex[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            newIndex[slot] = code + 1;
+        }
+        index = newIndex;
+    }
+
+    private void storeInMemory(int code, String value) {
+        if (code >= inMemoryEntries.length) {
+            inMemoryEntries = Arrays.copyOf(
+                inMemoryEntries,
+                (int) Math.min(maxInMemoryEntries, inMemoryEntries.length * 2L)
+            );
+        }
+        inMemoryEntries[code] = value;
+    }
+
+    private void ensureHashCapacity(int capacity) {
+        if (capacity > entryHashes.length) {
+            entryHashes = Arrays.copyOf(entryHashes, Math.max(capacity, entryHashes.length * 2));
+        }
+    }
+
+    private void spill(int code, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        int recordSize = Integer.BYTES + bytes.length;
+        if (recordSize > segmentSize) {
+            throw new IllegalArgumentException("Value too long (" + bytes.length + " bytes)");
+        }
+
+        try {
+            if (spillFileChannel == null) {
+                spillFile = File.createTempFile(GUIDFactory.newGUID().toString(), ".dict", tmpDirectory);
+                spillFileChannel = FileChannel.open(
+                    spillFile.toPath(),
+                    StandardOpenOption.READ,
+                    StandardOpenOption.WRITE
+                );
+            }
+
+            // Records never span over 2 segments
+            long segmentRemaining = segmentSize - (spillFileSize % segmentSize);
+            if (segmentRemaining < recordSize) {
+                spillFileSize += segmentRemaining;
+            }
+            int segmentIndex = (int) (spillFileSize / segmentSize);
+            if (segmentIndex == spillSegments.size()) {
+                spillSegments.add(
+                    spillFileChannel.map(FileChannel.MapMode.READ_WRITE, (long) segmentIndex * segmentSize, segmentSize)
+                );
+            }
+
+            ByteBuffer segment = spillSegments.get(segmentIndex).duplicate();
+            segment.position((int) (spillFileSize % segmentSize));
+            segment.putInt(bytes.length);
+            segment.put(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not spill dictionary entries to disk", e);
+        }
+
+        int spilledIndex = code - maxInMemoryEntries;
+        if (spilledIndex >= spilledEntryOffsets.length) {
+            spilledEntryOffsets = Arrays.copyOf(
+                spilledEntryOffsets,
+                Math.max(INITIAL_CAPACITY, spilledEntryOffsets.length * 2)
+            );
+        }
+        spilledEntryOffsets[spilledIndex] = spillFileSize;
+        spillFileSize += recordSize;
+    }
+
+    private String readSpilledEntry(long offset) {
+        ByteBuffer segment = spillSegments.get((int) (offset / segmentSize)).duplicate();
+        segment.position((int) (offset % segmentSize));
+        byte[] bytes = new byte[segment.getInt()];
+        segment.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int mix(int hash) {
+        int h = hash * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    @Override
+    public void close() {
+        spillSegments.clear();
+        try {
+            if (spillFileChannel != null) {
+                spillFileChannel.close();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            FileUtils.deleteQuietly(spillFile);
+            spillFileChannel = null;
+            spillFile = null;
+        }
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright French Prime minister Office/SGMAP/DINSIC/Vitam Program (2015-2022)
+ *
+ * contact.vitam@culture.gouv.fr
+ *
+ * This software is a computer program whose purpose is to implement a digital archiving back-office system managing
+ * high volumetry securely and efficiently.
+ *
+ * This software is governed by the CeCILL 2.1 license under French law and abiding by the rules of distribution of free
+ * software. You can use, modify and/ or redistribute the software under the terms of the CeCILL 2.1 license as
+ * circulated by CEA, CNRS and INRIA at the following URL "https://cecill.info".
+ *
+ * As a counterpart to the access to the source code and rights to copy, modify and redistribute granted by the license,
+ * users are provided only with a limited warranty and the software's author, the holder of the economic rights, and the
+ * successive licensors have only limited liability.
+ *
+ * In this respect, the user's attention is drawn to the risks associated with loading, using, modifying and/or
+ * developing or reproducing the software by the user in light of its specific status of free software, that may mean
+ * that it is complicated to manipulate, and that also therefore means that it is reserved for developers and
+ * experienced professionals having in-depth computer knowledge. Users are therefore encouraged to load and test the
+ * software's suitability as regards their requirements in conditions enabling the security of their systems and/or data
+ * to be ensured and, more generally, to use and operate it in the same conditions as regards security.
+ *
+ * The fact that you are presently reading this means that you have had knowledge of the CeCILL 2.1 license and that you
+ * accept its terms.
+ */
+package fr.gouv.vitam.worker.core.extractseda;
+
+import fr.gouv.vitam.common.guid.GUIDFactory;
+import fr.gouv.vitam.common.performance.PerformanceLogger;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assume.assumeTrue;
+
+public class IngestSessionTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void testCompactSessionWithSpilledIds() {
+        // Given
+        IngestSession ingestSession = IngestSession.createCompactSession(100, temporaryFolder.getRoot());
+
+        // When
+        populateSession(ingestSession, 10_000);
+
+        // Then
+        assertThat(ingestSession.getUnitIdToGuid()).hasSize(10_000);
+        assertThat(ingestSession.getUnitIdToGuid().get("ID42")).isEqualTo("unitGuid42");
+        assertThat(ingestSession.getGuidToUnitId().get("unitGuid42")).isEqualTo("ID42");
+        assertThat(ingestSession.getUnitIdToGroupId().get("ID42")).isEqualTo("GOT42");
+        assertThat(ingestSession.getObjectGroupIdToGuid().get("GOT42")).isEqualTo("gotGuid42");
+        assertThat(ingestSession.getDataObjectIdToGuid().get("BDO42")).isEqualTo("bdoGuid42");
+        assertThat(ingestSession.getDataObjectIdToObjectGroupId().containsValue("GOT42")).isTrue();
+        assertThat(ingestSession.getDataObjectIdToObjectGroupId().containsValue("GOT10000")).isFalse();
+        assertThat(ingestSession.getUnitIdToGroupId().entrySet()).hasSize(10_000);
+        assertThat(temporaryFolder.getRoot().list()).hasSize(1);
+
+        ingestSession.close();
+        assertThat(temporaryFolder.getRoot().list()).isEmpty();
+    }
+
+    /**
+     * Ingest session benchmark for a synthetic 2M-unit manifest (1 object group & 1 binary object per unit).
+     * Run with -DingestSessionBenchmark=true (and optionally -DingestSessionBenchmarkUnits=N).
+     */
+    @Test
+    public void benchmark_ingest_session_peak_heap_and_wall_time() {
+        assumeTrue(Boolean.getBoolean("ingestSessionBenchmark"));
+        int nbUnits = Integer.getInteger("ingestSessionBenchmarkUnits", 2_000_000);
+
+        runBenchmark("HashMap session", nbUnits, IngestSession::new);
+        runBenchmark(
+            "Compact session",
+            nbUnits,
+            () -> IngestSession.createCompactSession(nbUnits / 4, temporaryFolder.getRoot())
+        );
+    }
+
+    private void runBenchmark(String name, int nbUnits, Supplier<IngestSession> ingestSessionSupplier) {
+        System.gc();
+        long baselineHeap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+        ManagementFactory.getMemoryPoolMXBeans().forEach(MemoryPoolMXBean::resetPeakUsage);
+        long start = System.nanoTime();
+
+        try (IngestSession ingestSession = ingestSessionSupplier.get()) {
+            populateSession(ingestSession, nbUnits);
+
+            // Lookups performed while writing units & object groups
+            for (int i = 0; i < nbUnits; i++) {
+                String gotId = ingestSession.getUnitIdToGroupId().get("ID" + i);
+                assertThat(ingestSession.getObjectGroupIdToGuid().get(gotId)).isNotNull();
+                assertThat(ingestSession.getUnitIdToGuid().get("ID" + i)).isNotNull();
+            }
+
+            long wallTime = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            // Peak of tenured heap pools (young generation peaks only reflect short lived garbage)
+            long peakTenuredHeap = ManagementFactory.getMemoryPoolMXBeans()
+                .stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .filter(pool -> !pool.getName().contains("Eden") && !pool.getName().contains("Survivor"))
+                .mapToLong(pool -> pool.getPeakUsage().getUsed())
+                .sum();
+            System.gc();
+            long retainedHeap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed() - baselineHeap;
+
+            // Reported as : INGEST_SESSION_BENCHMARK,<session>,<units / retained heap>,<peak tenured heap>,<wall time>
+            PerformanceLogger.getInstance()
+                .log(
+                    "INGEST_SESSION_BENCHMARK",
+                    name,
+                    nbUnits + " units / retained heap " + retainedHeap / 1024 / 1024 + " MB",
+                    peakTenuredHeap,
+                    wallTime
+                );
+        }
+    }
+
+    private void populateSession(IngestSession ingestSession, int nbUnits) {
+        boolean realGuids = nbUnits > 10_000;
+        for (int i = 0; i < nbUnits; i++) {
+            String unitId = "ID" + i;
+            String gotId = "GOT" + i;
+            String bdoId = "BDO" + i;
+            String unitGuid = realGuids ? GUIDFactory.newUnitGUID(0).getId() : "unitGuid" + i;
+            String gotGuid = realGuids ? GUIDFactory.newObjectGroupGUID(0).getId() : "gotGuid" + i;
+            String bdoGuid = realGuids ? GUIDFactory.newObjectGUID(0).getId() : "bdoGuid" + i;
+
+            ingestSession.getUnitIdToGuid().put(unitId, unitGuid);
+            ingestSession.getGuidToUnitId().put(unitGuid, unitId);
+            ingestSession.getUnitIdToGroupId().put(unitId, gotId);
+            ingestSession.getObjectGroupIdToGuid().put(gotId, gotGuid);
+            ingestSession.getDataObjectIdToObjectGroupId().put(bdoId, gotId);
+            ingestSession.getDataObjectIdToGuid().put(bdoId, bdoGuid);
+        }
+    }
+}
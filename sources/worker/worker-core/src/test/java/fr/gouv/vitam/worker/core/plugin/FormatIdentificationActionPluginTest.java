@@ -27,8 +27,10 @@
 package fr.gouv.vitam.worker.core.plugin;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.common.collect.Lists;
 import fr.gouv.vitam.common.PropertiesUtils;
+import fr.gouv.vitam.common.SedaConstants;
 import fr.gouv.vitam.common.VitamConfiguration;
 import fr.gouv.vitam.common.exception.InvalidParseOperationException;
 import fr.gouv.vitam.common.format.identification.FormatIdentifier;
@@ -62,21 +64,34 @@ import org.junit.Test;
 import org.mockito.invocation.InvocationOnMock;
 import org.mockito.stubbing.Answer;
 
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.Response.Status;
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static junit.framework.TestCase.assertTrue;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class FormatIdentificationActionPluginTest {
@@ -145,11 +160,13 @@ public class FormatIdentificationActionPluginTest {
             Lists.newArrayList()
         );
         deleteFiles();
+        VitamConfiguration.setFormatIdentificationBatchMode(true);
     }
 
     @After
     public void setDown() {
         deleteFiles();
+        VitamConfiguration.setFormatIdentificationBatchMode(false);
     }
 
     @Test
@@ -501,6 +518,190 @@ public class FormatIdentificationActionPluginTest {
         assertEquals(StatusCode.FATAL, response.getGlobalStatus());
     }
 
+    @Test
+    public void givenBatchModeWhenExecuteListThenIdentifyBulkWithSingleCall() throws Exception {
+        when(workspaceClient.getObject(any(), any())).thenAnswer(
+            a -> Response.status(Status.OK).entity(new ByteArrayInputStream("data".getBytes())).build()
+        );
+        final List<String> fileNames = new ArrayList<>();
+        when(formatIdentifier.analyseDirectory(any())).thenAnswer(a -> {
+            try (Stream<Path> files = Files.list(a.getArgument(0))) {
+                files.forEach(file -> fileNames.add(file.getFileName().toString()));
+            }
+            return identifyAllFiles(a.getArgument(0));
+        });
+        when(adminManagementClient.getFormats(any())).thenReturn(getAdminManagementJson());
+
+        final HandlerIOImpl bulkHandlerIO = getBulkHandlerIO(og, og3);
+        plugin = new FormatIdentificationActionPlugin(adminManagementClientFactory, formatIdentifierFactory);
+
+        final List<ItemStatus> response = plugin.executeList(getBulkWorkerParameters(2), bulkHandlerIO);
+
+        assertThat(response).hasSize(2);
+        response.forEach(itemStatus -> assertEquals(StatusCode.WARNING, itemStatus.getGlobalStatus()));
+        // Binaries keep their extension
+        assertThat(fileNames).anyMatch(
+            name -> name.startsWith("aeaaaaaaaaaam7myaaaamakxfgivurqaaaaq_") && name.endsWith(".odp")
+        );
+        verify(formatIdentifier).analyseDirectory(any());
+        verify(formatIdentifier, never()).analysePath(any());
+        // Single PUID resolved once for the whole bulk
+        verify(adminManagementClient).getFormats(any());
+        bulkHandlerIO.partialClose();
+    }
+
+    @Test
+    public void givenReuseByDigestWhenExecuteListThenSameDigestBinariesIdentifiedOnce() throws Exception {
+        when(workspaceClient.getObject(any(), any())).thenAnswer(
+            a -> Response.status(Status.OK).entity(new ByteArrayInputStream("data".getBytes())).build()
+        );
+        when(formatIdentifier.analyseDirectory(any())).thenAnswer(a -> identifyAllFiles(a.getArgument(0)));
+        when(adminManagementClient.getFormats(any())).thenReturn(getAdminManagementJson());
+
+        for (final JsonNode version : og.get(SedaConstants.PREFIX_QUALIFIERS).findValues(SedaConstants.TAG_VERSIONS)) {
+            version.forEach(
+                v -> ((ObjectNode) v).put(SedaConstants.ALGORITHM, "SHA-512").put(SedaConstants.TAG_DIGEST, "1a2b")
+            );
+        }
+        final HandlerIOImpl bulkHandlerIO = getBulkHandlerIO(og);
+        plugin = new FormatIdentificationActionPlugin(adminManagementClientFactory, formatIdentifierFactory);
+
+        VitamConfiguration.setFormatIdentificationReuseByDigest(true);
+        final List<ItemStatus> response;
+        try {
+            response = plugin.executeList(getBulkWorkerParameters(1), bulkHandlerIO);
+        } finally {
+            VitamConfiguration.setFormatIdentificationReuseByDigest(false);
+        }
+
+        assertThat(response).hasSize(1);
+        assertEquals(StatusCode.WARNING, response.get(0).getGlobalStatus());
+        assertThat(response.get(0).getItemsStatus().get(FILE_FORMAT).getSubTaskStatus()).hasSize(4);
+        verify(workspaceClient, times(1)).getObject(any(), any());
+        bulkHandlerIO.partialClose();
+    }
+
+    @Test
+    public void givenReuseByDigestWhenCachedFormatsEvictedDuringBulkThenFormatsKeptInBatchResult() throws Exception {
+        when(workspaceClient.getObject(any(), any())).thenAnswer(
+            a -> Response.status(Status.OK).entity(new ByteArrayInputStream("data".getBytes())).build()
+        );
+        when(formatIdentifier.analyseDirectory(any())).thenAnswer(a -> identifyAllFiles(a.getArgument(0)));
+        when(adminManagementClient.getFormats(any())).thenReturn(getAdminManagementJson());
+
+        for (final JsonNode version : og.get(SedaConstants.PREFIX_QUALIFIERS).findValues(SedaConstants.TAG_VERSIONS)) {
+            version.forEach(
+                v -> ((ObjectNode) v).put(SedaConstants.ALGORITHM, "SHA-512").put(SedaConstants.TAG_DIGEST, "1a2b")
+            );
+        }
+        // Cached at bulk preparation, evicted afterwards
+        final FormatIdentificationCache formatIdentificationCache = spy(new FormatIdentificationCache());
+        doReturn(getFormatIdentifierResponseList())
+            .doReturn(null)
+            .when(formatIdentificationCache)
+            .getFormats(any(), any(), any());
+        final HandlerIOImpl bulkHandlerIO = getBulkHandlerIO(og);
+        plugin = new FormatIdentificationActionPlugin(
+            adminManagementClientFactory,
+            formatIdentifierFactory,
+            formatIdentificationCache
+        );
+
+        VitamConfiguration.setFormatIdentificationReuseByDigest(true);
+        final List<ItemStatus> response;
+        try {
+            response = plugin.executeList(getBulkWorkerParameters(1), bulkHandlerIO);
+        } finally {
+            VitamConfiguration.setFormatIdentificationReuseByDigest(false);
+        }
+
+        assertThat(response).hasSize(1);
+        assertEquals(StatusCode.WARNING, response.get(0).getGlobalStatus());
+        bulkHandlerIO.partialClose();
+    }
+
+    @Test
+    public void givenBatchModeWhenIdentifierDoesNotRespondThenIdentifyBinariesOneByOne() throws Exception {
+        when(workspaceClient.getObject(any(), any())).thenAnswer(
+            a -> Response.status(Status.OK).entity(new ByteArrayInputStream("data".getBytes())).build()
+        );
+        when(formatIdentifier.analyseDirectory(any())).thenThrow(new FormatIdentifierNotFoundException(""));
+        when(formatIdentifier.analysePath(any())).thenReturn(getFormatIdentifierResponseList());
+        when(adminManagementClient.getFormats(any())).thenReturn(getAdminManagementJson());
+
+        final HandlerIOImpl bulkHandlerIO = getBulkHandlerIO(og, og3);
+        plugin = new FormatIdentificationActionPlugin(adminManagementClientFactory, formatIdentifierFactory);
+
+        final List<ItemStatus> response = plugin.executeList(getBulkWorkerParameters(2), bulkHandlerIO);
+
+        assertThat(response).hasSize(2);
+        response.forEach(itemStatus -> assertEquals(StatusCode.WARNING, itemStatus.getGlobalStatus()));
+        verify(formatIdentifier, times(5)).analysePath(any());
+        bulkHandlerIO.partialClose();
+    }
+
+    @Test
+    public void givenBatchModeWhenOneBinaryCannotBeIdentifiedThenOnlyItsObjectGroupIsFatal() throws Exception {
+        when(workspaceClient.getObject(any(), any())).thenAnswer(
+            a -> Response.status(Status.OK).entity(new ByteArrayInputStream("data".getBytes())).build()
+        );
+        when(formatIdentifier.analyseDirectory(any())).thenThrow(new FormatIdentifierTechnicalException(""));
+        when(formatIdentifier.analysePath(any())).thenAnswer(a -> {
+            if (a.getArgument(0).toString().contains("aeaaaaaaaaakwtamaai7cak32lvlyoyaaaaq")) {
+                throw new FormatIdentifierTechnicalException("");
+            }
+            return getFormatIdentifierResponseList();
+        });
+        when(adminManagementClient.getFormats(any())).thenReturn(getAdminManagementJson());
+
+        final HandlerIOImpl bulkHandlerIO = getBulkHandlerIO(og, og3);
+        plugin = new FormatIdentificationActionPlugin(adminManagementClientFactory, formatIdentifierFactory);
+
+        final List<ItemStatus> response = plugin.executeList(getBulkWorkerParameters(2), bulkHandlerIO);
+
+        assertThat(response).hasSize(2);
+        assertEquals(StatusCode.WARNING, response.get(0).getGlobalStatus());
+        assertEquals(StatusCode.FATAL, response.get(1).getGlobalStatus());
+        bulkHandlerIO.partialClose();
+    }
+
+    private HandlerIOImpl getBulkHandlerIO(JsonNode... objectGroups) throws FileNotFoundException {
+        final List<String> objectGroupIds = new ArrayList<>();
+        for (int i = 0; i < objectGroups.length; i++) {
+            objectGroupIds.add("og" + i + ".json");
+        }
+        final HandlerIOImpl bulkHandlerIO = new HandlerIOImpl(
+            workspaceClientFactory,
+            mock(LogbookLifeCyclesClientFactory.class),
+            guid.getId(),
+            "workerId",
+            objectGroupIds
+        );
+        for (int i = 0; i < objectGroups.length; i++) {
+            bulkHandlerIO.setCurrentObjectId(objectGroupIds.get(i));
+            bulkHandlerIO.getInput().add(objectGroups[i]);
+            bulkHandlerIO.getInput().add(PropertiesUtils.getResourceFile(REFERENTIAL_INGEST_CONTRACT_DEFAULT_CONFIG));
+        }
+        bulkHandlerIO.setCurrentObjectId(null);
+        return bulkHandlerIO;
+    }
+
+    private WorkerParameters getBulkWorkerParameters(int bulkSize) {
+        final WorkerParameters params = getDefaultWorkerParameters();
+        final List<String> objectGroupIds = new ArrayList<>();
+        for (int i = 0; i < bulkSize; i++) {
+            objectGroupIds.add("og" + i + ".json");
+        }
+        params.setObjectNameList(objectGroupIds);
+        return params;
+    }
+
+    private Map<Path, List<FormatIdentifierResponse>> identifyAllFiles(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.collect(Collectors.toMap(file -> file, file -> getFormatIdentifierResponseList()));
+        }
+    }
+
     private DefaultWorkerParameters getDefaultWorkerParameters() {
         return WorkerParametersFactory.newWorkerParameters(
             "pId",
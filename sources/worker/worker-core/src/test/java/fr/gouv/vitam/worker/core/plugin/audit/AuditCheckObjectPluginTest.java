@@ -29,6 +29,7 @@ package fr.gouv.vitam.worker.core.plugin.audit;
 import com.fasterxml.jackson.databind.JsonNode;
 import fr.gouv.vitam.batch.report.model.entry.AuditObjectGroupReportEntry;
 import fr.gouv.vitam.common.PropertiesUtils;
+import fr.gouv.vitam.common.VitamConfiguration;
 import fr.gouv.vitam.common.guid.GUIDFactory;
 import fr.gouv.vitam.common.json.JsonHandler;
 import fr.gouv.vitam.common.model.ItemStatus;
@@ -61,7 +62,10 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class AuditCheckObjectPluginTest {
@@ -244,6 +248,62 @@ public class AuditCheckObjectPluginTest {
         assertThat(status.getItemId()).isEqualTo(AuditCheckObjectPlugin.AUDIT_CHECK_OBJECT);
     }
 
+    @RunWithCustomExecutor
+    @Test
+    public void shouldCheckIntegrityOfBulkOfObjectGroupsInBatchMode() throws Exception {
+        // Given
+        HandlerIO handler = mock(HandlerIO.class);
+        VitamThreadUtils.getVitamSession().setTenantId(0);
+        VitamThreadUtils.getVitamSession().setRequestId("opId");
+        JsonNode jsonl1 = JsonHandler.getFromInputStream(
+            getClass().getResourceAsStream("/AuditObjectWorkflow/objectGroup_1.json")
+        );
+        JsonNode jsonl3 = JsonHandler.getFromInputStream(
+            getClass().getResourceAsStream("/AuditObjectWorkflow/objectGroup_3.json")
+        );
+        WorkerParameters params = WorkerParametersFactory.newWorkerParameters()
+            .setWorkerGUID(GUIDFactory.newGUID().getId())
+            .setContainerName(VitamThreadUtils.getVitamSession().getRequestId())
+            .setRequestId(VitamThreadUtils.getVitamSession().getRequestId())
+            .setProcessId(VitamThreadUtils.getVitamSession().getRequestId())
+            .setObjectNameList(List.of(jsonl1.get("id").asText(), jsonl3.get("id").asText()))
+            .setObjectMetadataList(List.of(jsonl1.get("params"), jsonl3.get("params")))
+            .setCurrentStep("StepName");
+        params.putParameterValue(WorkerParameterName.auditActions, "AUDIT_FILE_INTEGRITY");
+
+        AuditCheckObjectGroupResult koResult = new AuditCheckObjectGroupResult();
+        koResult.setIdObjectGroup("aebaaaaaaahgotryaauzialjp6aa32aaaaaq");
+        koResult.setStatus(StatusCode.KO);
+        AuditCheckObjectResult koObjectResult = new AuditCheckObjectResult();
+        koObjectResult.setIdObject("aeaaaaaaaahgotryaauzialjp6aa3zyaaaaq");
+        koObjectResult.getOfferStatuses().put("offer-fs-1.service.int.consul", StatusCode.KO);
+        koResult.getObjectStatuses().add(koObjectResult);
+
+        when(auditIntegrityService.checkBulk(anyList(), any())).thenReturn(List.of(generateOkAuditResult(), koResult));
+        doNothing().when(auditReportService).appendEntries(processIdCaptor.capture(), auditReportEntryCaptor.capture());
+        when(handler.getInput(0)).thenReturn(PropertiesUtils.getResourceFile("AuditObjectWorkflow/strategies.json"));
+
+        // When
+        List<ItemStatus> statuses;
+        VitamConfiguration.setIntegrityAuditBatchMode(true);
+        try {
+            statuses = auditCheckObjectPlugin.executeList(params, handler);
+        } finally {
+            VitamConfiguration.setIntegrityAuditBatchMode(false);
+        }
+
+        // Then
+        assertThat(statuses).hasSize(2);
+        assertThat(statuses.get(0).getGlobalStatus()).isEqualTo(StatusCode.OK);
+        assertThat(statuses.get(1).getGlobalStatus()).isEqualTo(StatusCode.KO);
+        assertThat(statuses.get(1).getItemId()).isEqualTo(AuditCheckObjectPlugin.AUDIT_CHECK_OBJECT);
+        verify(auditIntegrityService, never()).check(any(), any());
+        assertThat(processIdCaptor.getValue()).isEqualTo("opId");
+        assertThat(auditReportEntryCaptor.getValue()).hasSize(2);
+        assertThat(auditReportEntryCaptor.getValue().get(0).getOutcome()).isEqualTo("AUDIT_FILE_INTEGRITY");
+        assertThat(auditReportEntryCaptor.getValue().get(1).getObjectVersions()).hasSize(1);
+    }
+
     private AuditCheckObjectGroupResult generateOkAuditResult() {
         AuditCheckObjectGroupResult result = new AuditCheckObjectGroupResult();
         result.setIdObjectGroup("aebaaaaaaahgotryaauzialjp5zkhgyaaaaq");
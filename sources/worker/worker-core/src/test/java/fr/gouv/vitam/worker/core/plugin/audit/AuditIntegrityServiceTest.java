@@ -29,13 +29,16 @@ package fr.gouv.vitam.worker.core.plugin.audit;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import fr.gouv.vitam.common.SystemPropertyUtil;
 import fr.gouv.vitam.common.VitamConfiguration;
+import fr.gouv.vitam.common.error.VitamError;
 import fr.gouv.vitam.common.json.JsonHandler;
+import fr.gouv.vitam.common.model.RequestResponseOK;
 import fr.gouv.vitam.common.model.StatusCode;
 import fr.gouv.vitam.storage.driver.model.StorageMetadataResult;
 import fr.gouv.vitam.storage.engine.client.StorageClient;
 import fr.gouv.vitam.storage.engine.client.StorageClientFactory;
 import fr.gouv.vitam.storage.engine.client.exception.StorageServerClientException;
 import fr.gouv.vitam.storage.engine.common.model.DataCategory;
+import fr.gouv.vitam.storage.engine.common.model.response.BatchObjectInformationResponse;
 import fr.gouv.vitam.storage.engine.common.referential.model.OfferReference;
 import fr.gouv.vitam.storage.engine.common.referential.model.StorageStrategy;
 import fr.gouv.vitam.worker.core.distribution.JsonLineModel;
@@ -51,15 +54,20 @@ import java.io.File;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import static fr.gouv.vitam.common.json.JsonHandler.getFromInputStream;
 import static fr.gouv.vitam.common.json.JsonHandler.getFromJsonNode;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class AuditIntegrityServiceTest {
@@ -240,6 +248,88 @@ public class AuditIntegrityServiceTest {
         }).isInstanceOf(ProcessingStatusException.class);
     }
 
+    @Test
+    public void givenBulkOfObjectGroupsWhenBatchCheckThenSingleStorageRequestPerStrategy() throws Exception {
+        String digest =
+            "86c0bc701ef6b5dd21b080bc5bb2af38097baa6237275da83a52f092c9eae3e4e4b0247391620bd732fe824d18bd3bb6c37e62ec73a8cf3585c6a799399861b1";
+        reset(storageClient);
+        when(
+            storageClient.getBatchObjectInformation(
+                eq(VitamConfiguration.getDefaultStrategy()),
+                eq(DataCategory.OBJECT),
+                eq(List.of("offer-fs-1.service.int.consul", "offer-fs-2.service.int.consul")),
+                eq(List.of("aeaaaaaaaahgotryaauzialjp5zkhgiaaaaq", "aeaaaaaaaahgotryaauzialjp6aa3zyaaaaq")),
+                eq(true)
+            )
+        ).thenReturn(
+            new RequestResponseOK<BatchObjectInformationResponse>()
+                .addResult(
+                    new BatchObjectInformationResponse(
+                        DataCategory.OBJECT,
+                        "aeaaaaaaaahgotryaauzialjp5zkhgiaaaaq",
+                        Map.of("offer-fs-1.service.int.consul", digest, "offer-fs-2.service.int.consul", digest)
+                    )
+                )
+                .addResult(
+                    new BatchObjectInformationResponse(
+                        DataCategory.OBJECT,
+                        "aeaaaaaaaahgotryaauzialjp6aa3zyaaaaq",
+                        Map.of("offer-fs-2.service.int.consul", "fakeDigestMessage")
+                    )
+                )
+        );
+
+        AuditObjectGroup detail1 = loadAuditObjectGroup("/AuditObjectWorkflow/objectGroup_1.json");
+        AuditObjectGroup detail3 = loadAuditObjectGroup("/AuditObjectWorkflow/objectGroup_3.json");
+
+        List<AuditCheckObjectGroupResult> responses = service.checkBulk(
+            List.of(detail1, detail3),
+            loadStorageStrategiesMock()
+        );
+
+        verify(storageClient, never()).getInformation(anyString(), any(), anyString(), any(), anyBoolean());
+        assertThat(responses).hasSize(2);
+
+        assertThat(responses.get(0).getIdObjectGroup()).isEqualTo(detail1.getId());
+        assertThat(responses.get(0).getStatus()).isEqualTo(StatusCode.OK);
+        assertThat(responses.get(0).getObjectStatuses()).hasSize(1);
+        assertThat(responses.get(0).getObjectStatuses().get(0).getOfferStatuses()).containsOnly(
+            Map.entry("offer-fs-1.service.int.consul", StatusCode.OK),
+            Map.entry("offer-fs-2.service.int.consul", StatusCode.OK)
+        );
+
+        assertThat(responses.get(1).getIdObjectGroup()).isEqualTo(detail3.getId());
+        assertThat(responses.get(1).getStatus()).isEqualTo(StatusCode.KO);
+        assertThat(responses.get(1).getObjectStatuses()).hasSize(1);
+        assertThat(responses.get(1).getObjectStatuses().get(0).getIdObject()).isEqualTo(
+            "aeaaaaaaaahgotryaauzialjp6aa3zyaaaaq"
+        );
+        assertThat(responses.get(1).getObjectStatuses().get(0).getOfferStatuses()).containsOnly(
+            Map.entry("offer-fs-1.service.int.consul", StatusCode.KO),
+            Map.entry("offer-fs-2.service.int.consul", StatusCode.KO)
+        );
+    }
+
+    @Test
+    public void givenStorageErrorWhenBatchCheckThenFatal() throws Exception {
+        reset(storageClient);
+        when(storageClient.getBatchObjectInformation(anyString(), any(), any(), any(), eq(true))).thenReturn(
+            new VitamError<BatchObjectInformationResponse>("STORAGE_ERROR").setHttpCode(500).setDescription("error")
+        );
+
+        AuditObjectGroup detail = loadAuditObjectGroup("/AuditObjectWorkflow/objectGroup_3.json");
+
+        assertThatThrownBy(() -> service.checkBulk(List.of(detail), loadStorageStrategiesMock()))
+            .isInstanceOf(ProcessingStatusException.class)
+            .extracting(e -> ((ProcessingStatusException) e).getStatusCode())
+            .isEqualTo(StatusCode.FATAL);
+    }
+
+    private AuditObjectGroup loadAuditObjectGroup(String resource) throws Exception {
+        JsonLineModel objectGroupLine = getFromInputStream(getClass().getResourceAsStream(resource), JsonLineModel.class);
+        return getFromJsonNode(objectGroupLine.getParams(), AuditObjectGroup.class);
+    }
+
     private List<StorageStrategy> loadStorageStrategiesMock() {
         StorageStrategy defaultStrategy = new StorageStrategy();
         defaultStrategy.setId("default");
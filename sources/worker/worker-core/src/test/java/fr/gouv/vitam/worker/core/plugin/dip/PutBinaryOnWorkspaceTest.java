@@ -26,6 +26,7 @@
  */
 package fr.gouv.vitam.worker.core.plugin.dip;
 
+import fr.gouv.vitam.common.VitamConfiguration;
 import fr.gouv.vitam.common.accesslog.AccessLogUtils;
 import fr.gouv.vitam.common.model.ItemStatus;
 import fr.gouv.vitam.common.model.StatusCode;
@@ -64,6 +65,7 @@ import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
 
 public class PutBinaryOnWorkspaceTest {
 
@@ -254,4 +256,26 @@ public class PutBinaryOnWorkspaceTest {
             eq(false)
         );
     }
+
+    @Test
+    @RunWithCustomExecutor
+    public void should_not_transfer_object_in_export_archive_streaming_mode() throws Exception {
+        // Given
+        DefaultWorkerParameters param = WorkerParametersFactory.newWorkerParameters();
+        param.setObjectName("aeaaaaaaaaasqm2gaak5wak7uvv55tqaaaaq");
+
+        // When
+        ItemStatus itemStatus;
+        VitamConfiguration.setExportArchiveStreamingMode(true);
+        try {
+            itemStatus = putBinaryOnWorkspace.execute(param, handlerIO);
+        } finally {
+            VitamConfiguration.setExportArchiveStreamingMode(false);
+        }
+
+        // Then
+        assertThat(itemStatus.getGlobalStatus()).isEqualTo(StatusCode.OK);
+        verifyZeroInteractions(storageClient);
+        verify(handlerIO, never()).transferInputStreamToWorkspace(any(), any(), any(), any(Boolean.class));
+    }
 }
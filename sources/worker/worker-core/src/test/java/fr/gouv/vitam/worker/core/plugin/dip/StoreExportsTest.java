@@ -27,7 +27,9 @@
 package fr.gouv.vitam.worker.core.plugin.dip;
 
 import fr.gouv.vitam.common.VitamConfiguration;
+import fr.gouv.vitam.common.digest.Digest;
 import fr.gouv.vitam.common.guid.GUIDFactory;
+import fr.gouv.vitam.common.json.JsonHandler;
 import fr.gouv.vitam.common.model.ItemStatus;
 import fr.gouv.vitam.common.thread.RunWithCustomExecutor;
 import fr.gouv.vitam.common.thread.RunWithCustomExecutorRule;
@@ -36,18 +38,29 @@ import fr.gouv.vitam.common.thread.VitamThreadUtils;
 import fr.gouv.vitam.processing.common.parameter.WorkerParameters;
 import fr.gouv.vitam.storage.engine.client.StorageClient;
 import fr.gouv.vitam.storage.engine.client.StorageClientFactory;
+import fr.gouv.vitam.storage.engine.common.model.DataCategory;
 import fr.gouv.vitam.storage.engine.common.model.request.ObjectDescription;
 import fr.gouv.vitam.worker.common.HandlerIO;
 import fr.gouv.vitam.workspace.client.WorkspaceClient;
 import fr.gouv.vitam.workspace.client.WorkspaceClientFactory;
 import fr.gouv.vitam.workspace.common.CompressInformation;
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipArchiveInputStream;
+import org.apache.commons.io.IOUtils;
+import org.jboss.resteasy.core.Headers;
+import org.jboss.resteasy.core.ServerResponse;
 import org.junit.Assert;
 import org.junit.Rule;
 import org.junit.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Map;
 
 import static fr.gouv.vitam.common.model.IngestWorkflowConstants.SEDA_FILE;
@@ -60,9 +73,12 @@ import static junit.framework.TestCase.assertEquals;
 import static junit.framework.TestCase.assertFalse;
 import static junit.framework.TestCase.assertNotNull;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyZeroInteractions;
 
@@ -70,6 +86,7 @@ public class StoreExportsTest {
 
     static String EXPORT_DIP = "EXPORT_DIP";
     static final String TRANSFER_DIP = "TRANSFER_DIP";
+    static final String STORE_DIP = "STORE_DIP";
 
     @Rule
     public RunWithCustomExecutorRule runInThread = new RunWithCustomExecutorRule(
@@ -227,4 +244,93 @@ public class StoreExportsTest {
             imap.get(TRANSFER_DIP).getEvDetailData()
         );
     }
+
+    @RunWithCustomExecutor
+    @Test
+    public void givenStreamingModeWhenExecuteThenZipBinariesFromStorage() throws Exception {
+        VitamThreadUtils.getVitamSession().setTenantId(2);
+        String requestId = GUIDFactory.newRequestIdGUID(2).toString();
+        VitamThreadUtils.getVitamSession().setRequestId(requestId);
+
+        HandlerIO handlerIO = mock(HandlerIO.class);
+        WorkspaceClientFactory workspaceClientFactory = mock(WorkspaceClientFactory.class);
+        WorkspaceClient workspaceClient = mock(WorkspaceClient.class);
+        doReturn(workspaceClientFactory).when(handlerIO).getWorkspaceClientFactory();
+        doReturn(workspaceClient).when(workspaceClientFactory).getClient();
+
+        WorkerParameters params = mock(WorkerParameters.class);
+        doReturn(requestId).when(params).getContainerName();
+        doReturn(requestId).when(handlerIO).getContainerName();
+        doReturn(EXPORT_DIP).when(params).getWorkflowIdentifier();
+
+        StorageClientFactory storageClientFactory = mock(StorageClientFactory.class);
+        StorageClient storageClient = mock(StorageClient.class);
+        doReturn(storageClient).when(storageClientFactory).getClient();
+
+        String guid = "aeaaaaaaaaasqm2gaak5wak7uvv55tqaaaaq";
+        doReturn(true).when(workspaceClient).isExistingObject(requestId, SEDA_FILE);
+        doReturn(getClass().getResourceAsStream("/PutBinaryOnWorkspace/guid_to_path.json"))
+            .when(handlerIO)
+            .getInputStreamFromWorkspace(StoreExports.GUID_TO_INFO);
+        doReturn(new ServerResponse(toInputStream("<manifest/>"), 200, new Headers<>()))
+            .when(workspaceClient)
+            .getObject(requestId, SEDA_FILE);
+        doReturn(new ServerResponse(toInputStream("binary"), 200, new Headers<>()))
+            .when(storageClient)
+            .getContainerAsync(eq("other_strategy"), eq(guid), eq(DataCategory.OBJECT), any());
+
+        ByteArrayOutputStream archive = new ByteArrayOutputStream();
+        doAnswer(invocation -> {
+            IOUtils.copy(invocation.<InputStream>getArgument(2), archive);
+            return null;
+        })
+            .when(workspaceClient)
+            .putObject(eq(DIP_CONTAINER), eq("2/" + requestId), any(InputStream.class));
+
+        StoreExports storeExports = new StoreExports(storageClientFactory);
+
+        // When
+        ItemStatus itemStatus;
+        VitamConfiguration.setExportArchiveStreamingMode(true);
+        try {
+            itemStatus = storeExports.execute(params, handlerIO);
+        } finally {
+            VitamConfiguration.setExportArchiveStreamingMode(false);
+        }
+
+        // Then
+        verify(workspaceClient).createContainer(DIP_CONTAINER);
+        verify(workspaceClient).createFolder(DIP_CONTAINER, "2");
+        verify(workspaceClient, never()).compress(any(), any());
+        verify(workspaceClient, never()).computeObjectDigest(any(), any(), any());
+
+        Map<String, String> entries = new HashMap<>();
+        try (ZipArchiveInputStream zipInputStream = new ZipArchiveInputStream(toInputStream(archive))) {
+            ZipArchiveEntry entry;
+            while ((entry = zipInputStream.getNextZipEntry()) != null) {
+                entries.put(entry.getName(), IOUtils.toString(zipInputStream, StandardCharsets.UTF_8));
+            }
+        }
+        assertThat(entries).containsOnly(
+            Map.entry(SEDA_FILE, "<manifest/>"),
+            Map.entry("Content/" + guid, "binary")
+        );
+
+        String expectedDigest = new Digest(VitamConfiguration.getDefaultDigestType())
+            .update(archive.toByteArray())
+            .toString();
+        assertThat(
+            JsonHandler.getFromString(itemStatus.getItemsStatus().get(STORE_DIP).getEvDetailData())
+                .get("SystemMessageDigest")
+                .asText()
+        ).isEqualTo(expectedDigest);
+    }
+
+    private static InputStream toInputStream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static InputStream toInputStream(ByteArrayOutputStream content) {
+        return new ByteArrayInputStream(content.toByteArray());
+    }
 }
@@ -0,0 +1,141 @@
+/*
+ * Copyright French Prime minister Office/SGMAP/DINSIC/Vitam Program (2015-2022)
+ *
+ * contact.vitam@culture.gouv.fr
+ *
+ * This software is a computer program whose purpose is to implement a digital archiving back-office system managing
+ * high volumetry securely and efficiently.
+ *
+ * This software is governed by the CeCILL 2.1 license under French law and abiding by the rules of distribution of free
+ * software. You can use, modify and/ or redistribute the software under the terms of the CeCILL 2.1 license as
+ * circulated by CEA, CNRS and INRIA at the following URL "https://cecill.info".
+ *
+ * As a counterpart to the access to the source code and rights to copy, modify and redistribute granted by the license,
+ * users are provided only with a limited warranty and the software's author, the holder of the economic rights, and the
+ * successive licensors have only limited liability.
+ *
+ * In this respect, the user's attention is drawn to the risks associated with loading, using, modifying and/or
+ * developing or reproducing the software by the user in light of its specific status of free software, that may mean
+ * that it is complicated to manipulate, and that also therefore means that it is reserved for developers and
+ * experienced professionals having in-depth computer knowledge. Users are therefore encouraged to load and test the
+ * software's suitability as regards their requirements in conditions enabling the security of their systems and/or data
+ * to be ensured and, more generally, to use and operate it in the same conditions as regards security.
+ *
+ * The fact that you are presently reading this means that you have had knowledge of the CeCILL 2.1 license and that you
+ * accept its terms.
+ */
+package fr.gouv.vitam.worker.core.utils;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class CompactStringMapTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void testContainsValue() {
+        try (StringDictionary dictionary = new StringDictionary(1000, temporaryFolder.getRoot())) {
+            Map<String, String> instance = new CompactStringMap(dictionary, true);
+
+            instance.put("k0", "v0");
+
+            instance.put("k1", "v1");
+            instance.remove("k1");
+
+            instance.put("k2", "v2");
+            instance.put("k2_bis", "v2");
+
+            instance.put("k3", "v3");
+            instance.put("k3_bis", "v3");
+            instance.remove("k3");
+
+            instance.put("k4", "v4");
+            instance.put("k4", "v4_updated");
+
+            instance.put("k5", null);
+
+            assertThat(instance.containsValue("v0")).isTrue();
+            assertThat(instance.containsValue("v1")).isFalse();
+            assertThat(instance.containsValue("v2")).isTrue();
+            assertThat(instance.containsValue("v3")).isTrue();
+            assertThat(instance.containsValue("v4")).isFalse();
+            assertThat(instance.containsValue("v4_updated")).isTrue();
+            assertThat(instance.containsValue("k0")).isFalse();
+            assertThat(instance.containsValue(null)).isTrue();
+
+            instance.remove("k5");
+            assertThat(instance.containsValue(null)).isFalse();
+        }
+    }
+
+    @Test
+    public void testNullKeyNotSupported() {
+        try (StringDictionary dictionary = new StringDictionary(1000, temporaryFolder.getRoot())) {
+            Map<String, String> instance = new CompactStringMap(dictionary);
+            assertThatThrownBy(() -> instance.put(null, "v")).isInstanceOf(NullPointerException.class);
+            assertThat(instance.get(null)).isNull();
+            assertThat(instance.containsKey(null)).isFalse();
+        }
+    }
+
+    @Test
+    public void testRandomOperationsSameAsHashMap() {
+        Random random = new Random(42);
+        try (StringDictionary dictionary = new StringDictionary(500, temporaryFolder.getRoot())) {
+            Map<String, String> instance = new CompactStringMap(dictionary, true);
+            Map<String, String> expected = new HashMap<>();
+
+            for (int i = 0; i < 20_000; i++) {
+                String key = "key" + random.nextInt(1_000);
+                String value = random.nextInt(10) == 0 ? null : "value" + random.nextInt(500);
+                switch (random.nextInt(4)) {
+                    case 0:
+                    case 1:
+                        assertThat(instance.put(key, value)).isEqualTo(expected.put(key, value));
+                        break;
+                    case 2:
+                        assertThat(instance.remove(key)).isEqualTo(expected.remove(key));
+                        break;
+                    default:
+                        assertThat(instance.get(key)).isEqualTo(expected.get(key));
+                        assertThat(instance.containsKey(key)).isEqualTo(expected.containsKey(key));
+                        assertThat(instance.containsValue(value)).isEqualTo(expected.containsValue(value));
+                }
+                assertThat(instance.size()).isEqualTo(expected.size());
+            }
+
+            assertThat(instance).isEqualTo(expected);
+            assertThat(expected).isEqualTo(instance);
+
+            instance.clear();
+            assertThat(instance).isEmpty();
+            assertThat(instance.containsValue("value1")).isFalse();
+        }
+    }
+
+    @Test
+    public void testMapsSharingSameDictionary() {
+        try (StringDictionary dictionary = new StringDictionary(1000, temporaryFolder.getRoot())) {
+            Map<String, String> unitIdToGuid = new CompactStringMap(dictionary);
+            Map<String, String> guidToUnitId = new CompactStringMap(dictionary);
+
+            unitIdToGuid.put("ID1", "guid1");
+            guidToUnitId.put("guid1", "ID1");
+
+            assertThat(unitIdToGuid).containsOnlyKeys("ID1").containsEntry("ID1", "guid1");
+            assertThat(guidToUnitId).containsOnlyKeys("guid1").containsEntry("guid1", "ID1");
+            assertThat(unitIdToGuid.get("guid1")).isNull();
+            assertThat(dictionary.size()).isEqualTo(2);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright French Prime minister Office/SGMAP/DINSIC/Vitam Program (2015-2022)
+ *
+ * contact.vitam@culture.gouv.fr
+ *
+ * This software is a computer program whose purpose is to implement a digital archiving back-office system managing
+ * high volumetry securely and efficiently.
+ *
+ * This software is governed by the CeCILL 2.1 license under French law and abiding by the rules of distribution of free
+ * software. You can use, modify and/ or redistribute the software under the terms of the CeCILL 2.1 license as
+ * circulated by CEA, CNRS and INRIA at the following URL "https://cecill.info".
+ *
+ * As a counterpart to the access to the source code and rights to copy, modify and redistribute granted by the license,
+ * users are provided only with a limited warranty and the software's author, the holder of the economic rights, and the
+ * successive licensors have only limited liability.
+ *
+ * In this respect, the user's attention is drawn to the risks associated with loading, using, modifying and/or
+ * developing or reproducing the software by the user in light of its specific status of free software, that may mean
+ * that it is complicated to manipulate, and that also therefore means that it is reserved for developers and
+ * experienced professionals having in-depth computer knowledge. Users are therefore encouraged to load and test the
+ * software's suitability as regards their requirements in conditions enabling the security of their systems and/or data
+ * to be ensured and, more generally, to use and operate it in the same conditions as regards security.
+ *
+ * The fact that you are presently reading this means that you have had knowledge of the CeCILL 2.1 license and that you
+ * accept its terms.
+ */
+package fr.gouv.vitam.worker.core.utils;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class StringDictionaryTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void testEncodeDecodeInMemory() {
+        try (StringDictionary instance = new StringDictionary(1000, temporaryFolder.getRoot())) {
+            assertThat(instance.encode("id1")).isEqualTo(0);
+            assertThat(instance.encode("id2")).isEqualTo(1);
+            assertThat(instance.encode("id1")).isEqualTo(0);
+
+            assertThat(instance.lookup("id2")).isEqualTo(1);
+            assertThat(instance.lookup("unknown")).isEqualTo(-1);
+            assertThat(instance.lookup(12)).isEqualTo(-1);
+            assertThat(instance.decode(1)).isEqualTo("id2");
+            assertThat(instance.size()).isEqualTo(2);
+            assertThat(instance.getSpilledEntryCount()).isZero();
+            assertThat(temporaryFolder.getRoot().list()).isEmpty();
+        }
+    }
+
+    @Test
+    public void testEncodeDecodeWithSpilledEntries() {
+        StringDictionary instance = new StringDictionary(100, temporaryFolder.getRoot());
+
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(instance.encode("id_" + i + "_é")).isEqualTo(i);
+        }
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(instance.encode("id_" + i + "_é")).isEqualTo(i);
+            assertThat(instance.lookup("id_" + i + "_é")).isEqualTo(i);
+            assertThat(instance.decode(i)).isEqualTo("id_" + i + "_é");
+        }
+
+        assertThat(instance.size()).isEqualTo(10_000);
+        assertThat(instance.getSpilledEntryCount()).isEqualTo(9_900);
+        assertThat(temporaryFolder.getRoot().list()).hasSize(1);
+
+        instance.close();
+        assertThat(temporaryFolder.getRoot().list()).isEmpty();
+    }
+
+    @Test
+    public void testSpilledEntriesOverSeveralSegments() {
+        String prefix = "x".repeat(1_000);
+        try (StringDictionary instance = new StringDictionary(0, temporaryFolder.getRoot(), 10_000)) {
+            int nbEntries = 100;
+            for (int i = 0; i < nbEntries; i++) {
+                assertThat(instance.encode(prefix + i)).isEqualTo(i);
+            }
+            for (int i = 0; i < nbEntries; i++) {
+                assertThat(instance.decode(i)).isEqualTo(prefix + i);
+            }
+        }
+    }
+
+    @Test
+    public void testValueLargerThanSegment() {
+        try (StringDictionary instance = new StringDictionary(0, temporaryFolder.getRoot(), 1_000)) {
+            assertThatThrownBy(() -> instance.encode("x".repeat(1_000))).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Test
+    public void testDecodeUnknownCode() {
+        try (StringDictionary instance = new StringDictionary(10, temporaryFolder.getRoot())) {
+            instance.encode("id1");
+            assertThatThrownBy(() -> instance.decode(1)).isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> instance.decode(-1)).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
@@ -29,11 +29,16 @@ package fr.gouv.vitam.workspace.client;
 import fr.gouv.vitam.common.GlobalDataRest;
 import fr.gouv.vitam.workspace.api.exception.ContentAddressableStorageNotFoundException;
 import fr.gouv.vitam.workspace.api.exception.ContentAddressableStorageServerException;
+import org.apache.commons.io.IOUtils;
 
 import javax.ws.rs.core.Response;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import static org.apache.commons.io.IOUtils.EOF;
 
@@ -45,10 +50,15 @@ public class WorkspaceBufferingInputStream extends InputStream {
     private final int maxOnDiskBufferSize;
     private final int maxInMemoryBufferSize;
     private final File tmpDirectory;
+    private final WorkspaceChunkPrefetcher prefetcher;
+    private final Deque<PrefetchedChunk> prefetchedChunks = new ArrayDeque<>();
     private InputStream inputStream;
+    private PrefetchedChunk currentPrefetchedChunk;
     private long totalReadBytes;
+    private long totalSize = -1L;
+    private long nextPrefetchOffset;
     private boolean isLastChunk = false;
-    private boolean closed = false;
+    private volatile boolean closed = false;
 
     public WorkspaceBufferingInputStream(
         WorkspaceClientFactory workspaceClientFactory,
@@ -57,6 +67,29 @@ public class WorkspaceBufferingInputStream extends InputStream {
         int maxOnDiskBufferSize,
         int maxInMemoryBufferSize,
         File tmpDirectory
+    ) throws IOException, ContentAddressableStorageNotFoundException {
+        this(
+            workspaceClientFactory,
+            containerName,
+            objectName,
+            maxOnDiskBufferSize,
+            maxInMemoryBufferSize,
+            tmpDirectory,
+            null
+        );
+    }
+
+    /**
+     * @param prefetcher if not null, next chunks are downloaded in background while current chunk is being consumed
+     */
+    public WorkspaceBufferingInputStream(
+        WorkspaceClientFactory workspaceClientFactory,
+        String containerName,
+        String objectName,
+        int maxOnDiskBufferSize,
+        int maxInMemoryBufferSize,
+        File tmpDirectory,
+        WorkspaceChunkPrefetcher prefetcher
     ) throws IOException, ContentAddressableStorageNotFoundException {
         this.workspaceClientFactory = workspaceClientFactory;
         this.containerName = containerName;
@@ -64,15 +97,39 @@ public class WorkspaceBufferingInputStream extends InputStream {
         this.maxOnDiskBufferSize = maxOnDiskBufferSize;
         this.maxInMemoryBufferSize = maxInMemoryBufferSize;
         this.tmpDirectory = tmpDirectory;
+        this.prefetcher = prefetcher;
         this.totalReadBytes = 0L;
 
-        loadNextBuffer();
+        loadFirstBuffer();
+    }
+
+    private void loadFirstBuffer() throws ContentAddressableStorageNotFoundException, IOException {
+        fetchChunk(0L);
+        schedulePrefetch();
     }
 
     private void loadNextBuffer() throws ContentAddressableStorageNotFoundException, IOException {
         // Cleanup previously open input stream
         cleanup();
 
+        long start = System.nanoTime();
+        PrefetchedChunk prefetchedChunk = this.prefetchedChunks.poll();
+        if (prefetchedChunk != null) {
+            this.currentPrefetchedChunk = prefetchedChunk;
+            this.inputStream = prefetchedChunk.await();
+            this.isLastChunk = prefetchedChunk.isLastChunk;
+        } else {
+            fetchChunk(this.totalReadBytes);
+        }
+
+        if (this.prefetcher != null) {
+            this.prefetcher.getListener().consumerStalled(System.nanoTime() - start);
+        }
+
+        schedulePrefetch();
+    }
+
+    private void fetchChunk(long offset) throws ContentAddressableStorageNotFoundException, IOException {
         // Load next chunk and store it :
         // - In memory if chunk size <= maxInMemoryBufferSize
         // - In a tmp file otherwise (<= maxOnDiskBufferSize)
@@ -81,7 +138,7 @@ public class WorkspaceBufferingInputStream extends InputStream {
             Response response = workspaceClient.getObject(
                 this.containerName,
                 this.objectName,
-                this.totalReadBytes,
+                offset,
                 (long) this.maxOnDiskBufferSize
             );
             InputStream objInputStream = response.readEntity(InputStream.class)
@@ -96,15 +153,101 @@ public class WorkspaceBufferingInputStream extends InputStream {
             );
 
             this.isLastChunk = chunkSize < this.maxOnDiskBufferSize;
+
+            // Total size is required to plan chunk prefetching
+            String totalSizeHeader = response.getHeaderString(GlobalDataRest.X_CONTENT_LENGTH);
+            if (this.prefetcher != null && totalSizeHeader != null) {
+                this.totalSize = Long.parseLong(totalSizeHeader);
+                this.isLastChunk |= offset + chunkSize >= this.totalSize;
+            }
+            this.nextPrefetchOffset = offset + chunkSize;
         } catch (ContentAddressableStorageServerException e) {
             throw new IOException(e);
         }
     }
 
+    private void schedulePrefetch() {
+        if (this.prefetcher == null || this.totalSize < 0L) {
+            return;
+        }
+
+        while (
+            this.prefetchedChunks.size() < this.prefetcher.getPrefetchDepth() && this.nextPrefetchOffset < this.totalSize
+        ) {
+            long offset = this.nextPrefetchOffset;
+            long chunkSize = Math.min(this.maxOnDiskBufferSize, this.totalSize - offset);
+            boolean inMemory = chunkSize <= this.maxInMemoryBufferSize;
+
+            if (!this.prefetcher.tryReserve(chunkSize, inMemory)) {
+                // Prefetch budget exceeded. Next chunks will be loaded synchronously.
+                return;
+            }
+
+            CompletableFuture<InputStream> future = CompletableFuture.supplyAsync(
+                () -> prefetchChunk(offset, chunkSize, inMemory),
+                this.prefetcher.getExecutor()
+            );
+            this.prefetchedChunks.add(
+                new PrefetchedChunk(future, chunkSize, inMemory, offset + chunkSize >= this.totalSize)
+            );
+            this.nextPrefetchOffset += chunkSize;
+        }
+    }
+
+    private InputStream prefetchChunk(long offset, long expectedChunkSize, boolean inMemory) {
+        if (this.closed) {
+            return null;
+        }
+        try (
+            WorkspaceClient workspaceClient = this.workspaceClientFactory.getClient();
+            Response response = workspaceClient.getObject(
+                this.containerName,
+                this.objectName,
+                offset,
+                (long) this.maxOnDiskBufferSize
+            );
+            InputStream objInputStream = response.readEntity(InputStream.class)
+        ) {
+            long chunkSize = Long.parseLong(response.getHeaderString(GlobalDataRest.X_CHUNK_LENGTH));
+            if (chunkSize != expectedChunkSize) {
+                throw new IOException(
+                    "Unexpected chunk size " + chunkSize + " for " + containerName + "/" + objectName + " at " + offset
+                );
+            }
+
+            InputStream chunkInputStream = new DeferredFileBufferingInputStream(
+                objInputStream,
+                chunkSize,
+                maxInMemoryBufferSize,
+                tmpDirectory
+            );
+            this.prefetcher.getListener().chunkPrefetched(chunkSize, inMemory);
+            return chunkInputStream;
+        } catch (ContentAddressableStorageNotFoundException | ContentAddressableStorageServerException | IOException e) {
+            throw new CompletionException(e);
+        }
+    }
+
     private void cleanup() throws IOException {
         if (this.inputStream != null) {
             this.inputStream.close();
         }
+        if (this.currentPrefetchedChunk != null) {
+            this.prefetcher.release(this.currentPrefetchedChunk.chunkSize, this.currentPrefetchedChunk.inMemory);
+            this.currentPrefetchedChunk = null;
+        }
+    }
+
+    private void cancelPrefetchedChunks() {
+        PrefetchedChunk prefetchedChunk;
+        while ((prefetchedChunk = this.prefetchedChunks.poll()) != null) {
+            PrefetchedChunk chunk = prefetchedChunk;
+            // Chunks being downloaded are released (and their tmp files deleted) once completed
+            chunk.future.whenComplete((chunkInputStream, e) -> {
+                IOUtils.closeQuietly(chunkInputStream);
+                this.prefetcher.release(chunk.chunkSize, chunk.inMemory);
+            });
+        }
     }
 
     @Override
@@ -159,8 +302,9 @@ public class WorkspaceBufferingInputStream extends InputStream {
     @Override
     public void close() throws IOException {
         if (!this.closed) {
-            cleanup();
             this.closed = true;
+            cancelPrefetchedChunks();
+            cleanup();
         }
         super.close();
     }
@@ -170,4 +314,38 @@ public class WorkspaceBufferingInputStream extends InputStream {
             throw new IOException("Already closed input stream");
         }
     }
+
+    private static class PrefetchedChunk {
+
+        private final CompletableFuture<InputStream> future;
+        private final long chunkSize;
+        private final boolean inMemory;
+        private final boolean isLastChunk;
+
+        private PrefetchedChunk(
+            CompletableFuture<InputStream> future,
+            long chunkSize,
+            boolean inMemory,
+            boolean isLastChunk
+        ) {
+            this.future = future;
+            this.chunkSize = chunkSize;
+            this.inMemory = inMemory;
+            this.isLastChunk = isLastChunk;
+        }
+
+        private InputStream await() throws IOException, ContentAddressableStorageNotFoundException {
+            try {
+                return this.future.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof ContentAddressableStorageNotFoundException) {
+                    throw (ContentAddressableStorageNotFoundException) e.getCause();
+                }
+                if (e.getCause() instanceof IOException) {
+                    throw (IOException) e.getCause();
+                }
+                throw new IOException(e.getCause());
+            }
+        }
+    }
 }
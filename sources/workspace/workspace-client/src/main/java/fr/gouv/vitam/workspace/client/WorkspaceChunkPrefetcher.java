@@ -0,0 +1,128 @@
+/*
+ * Copyright French Prime minister Office/SGMAP/DINSIC/Vitam Program (2015-2022)
+ *
+ * contact.vitam@culture.gouv.fr
+ *
+ * This software is a computer program whose purpose is to implement a digital archiving back-office system managing
+ * high volumetry securely and efficiently.
+ *
+ * This software is governed by the CeCILL 2.1 license under French law and abiding by the rules of distribution of free
+ * software. You can use, modify and/ or redistribute the software under the terms of the CeCILL 2.1 license as
+ * circulated by CEA, CNRS and INRIA at the following URL "https://cecill.info".
+ *
+ * As a counterpart to the access to the source code and rights to copy, modify and redistribute granted by the license,
+ * users are provided only with a limited warranty and the software's author, the holder of the economic rights, and the
+ * successive licensors have only limited liability.
+ *
+ * In this respect, the user's attention is drawn to the risks associated with loading, using, modifying and/or
+ * developing or reproducing the software by the user in light of its specific status of free software, that may mean
+ * that it is complicated to manipulate, and that also therefore means that it is reserved for developers and
+ * experienced professionals having in-depth computer knowledge. Users are therefore encouraged to load and test the
+ * software's suitability as regards their requirements in conditions enabling the security of their systems and/or data
+ * to be ensured and, more generally, to use and operate it in the same conditions as regards security.
+ *
+ * The fact that you are presently reading this means that you have had knowledge of the CeCILL 2.1 license and that you
+ * accept its terms.
+ */
+package fr.gouv.vitam.workspace.client;
+
+import fr.gouv.vitam.common.ParametersChecker;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Read-ahead settings of {@link WorkspaceBufferingInputStream}, shared by all streams of a JVM.
+ *
+ * Chunks are prefetched in background only while the global in-memory / on-disk prefetch budget allows it.
+ * Otherwise, streams fall back to synchronous chunk loading.
+ */
+public class WorkspaceChunkPrefetcher {
+
+    private final int prefetchDepth;
+    private final long maxInMemoryPrefetchSize;
+    private final long maxOnDiskPrefetchSize;
+    private final Executor executor;
+    private final Listener listener;
+
+    private long inMemoryReservedSize = 0L;
+    private long onDiskReservedSize = 0L;
+
+    /**
+     * @param prefetchDepth max number of chunks downloaded ahead of the consumer, per stream
+     * @param maxInMemoryPrefetchSize max size of prefetched chunks buffered in memory, for all streams
+     * @param maxOnDiskPrefetchSize max size of prefetched chunks buffered on disk, for all streams
+     * @param executor executor of background chunk downloads
+     * @param listener prefetch metrics listener
+     */
+    public WorkspaceChunkPrefetcher(
+        int prefetchDepth,
+        long maxInMemoryPrefetchSize,
+        long maxOnDiskPrefetchSize,
+        Executor executor,
+        Listener listener
+    ) {
+        ParametersChecker.checkParameter("Executor & listener are required", executor, listener);
+        ParametersChecker.checkValue("prefetchDepth", prefetchDepth, 1);
+        ParametersChecker.checkValue("maxInMemoryPrefetchSize", maxInMemoryPrefetchSize, 0);
+        ParametersChecker.checkValue("maxOnDiskPrefetchSize", maxOnDiskPrefetchSize, 0);
+        this.prefetchDepth = prefetchDepth;
+        this.maxInMemoryPrefetchSize = maxInMemoryPrefetchSize;
+        this.maxOnDiskPrefetchSize = maxOnDiskPrefetchSize;
+        this.executor = executor;
+        this.listener = listener;
+    }
+
+    int getPrefetchDepth() {
+        return prefetchDepth;
+    }
+
+    Executor getExecutor() {
+        return executor;
+    }
+
+    Listener getListener() {
+        return listener;
+    }
+
+    synchronized boolean tryReserve(long size, boolean inMemory) {
+        if (inMemory) {
+            if (inMemoryReservedSize + size > maxInMemoryPrefetchSize) {
+                return false;
+            }
+            inMemoryReservedSize += size;
+        } else {
+            if (onDiskReservedSize + size > maxOnDiskPrefetchSize) {
+                return false;
+            }
+            onDiskReservedSize += size;
+        }
+        return true;
+    }
+
+    synchronized void release(long size, boolean inMemory) {
+        if (inMemory) {
+            inMemoryReservedSize -= size;
+        } else {
+            onDiskReservedSize -= size;
+        }
+    }
+
+    synchronized long getReservedSize(boolean inMemory) {
+        return inMemory ? inMemoryReservedSize : onDiskReservedSize;
+    }
+
+    /**
+     * Prefetch metrics listener
+     */
+    public interface Listener {
+        /**
+         * Invoked when a chunk has been downloaded in background
+         */
+        void chunkPrefetched(long sizeInBytes, boolean inMemory);
+
+        /**
+         * Invoked when stream consumer waited for next chunk
+         */
+        void consumerStalled(long durationInNanos);
+    }
+}
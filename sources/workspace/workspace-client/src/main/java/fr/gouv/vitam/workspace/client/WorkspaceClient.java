@@ -269,18 +269,32 @@ public class WorkspaceClient extends DefaultClient {
     }
 
     public void putAtomicObject(String containerName, String objectName, InputStream stream, long size)
+        throws ContentAddressableStorageServerException {
+        if (size < 0) {
+            throw new IllegalArgumentException("Invalid size " + size);
+        }
+        putAtomicObject(containerName, objectName, stream, Long.valueOf(size));
+    }
+
+    /**
+     * Atomically writes a stream whose size is not known in advance (generated content).
+     * The object only becomes visible once the whole stream has been successfully written.
+     */
+    public void putAtomicObject(String containerName, String objectName, InputStream stream)
+        throws ContentAddressableStorageServerException {
+        putAtomicObject(containerName, objectName, stream, (Long) null);
+    }
+
+    private void putAtomicObject(String containerName, String objectName, InputStream stream, Long size)
         throws ContentAddressableStorageServerException {
         ParametersChecker.checkParameter(
             ErrorMessage.CONTAINER_OBJECT_NAMES_ARE_A_MANDATORY_PARAMETER.getMessage(),
             containerName,
             objectName
         );
-        if (size < 0) {
-            throw new IllegalArgumentException("Invalid size " + size);
-        }
         VitamRequestBuilder request = post()
             .withPath(ATOMIC_CONTAINERS + containerName + OBJECTS + objectName)
-            .withHeader(GlobalDataRest.X_CONTENT_LENGTH, size)
+            .withHeaderIgnoreNull(GlobalDataRest.X_CONTENT_LENGTH, size)
             .withBody(stream)
             .withContentType(MediaType.APPLICATION_OCTET_STREAM_TYPE)
             .withJsonAccept();
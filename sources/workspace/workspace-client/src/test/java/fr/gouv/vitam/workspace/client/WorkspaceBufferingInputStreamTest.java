@@ -34,6 +34,7 @@ import fr.gouv.vitam.workspace.api.exception.ContentAddressableStorageServerExce
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.input.BoundedInputStream;
 import org.apache.commons.io.output.ByteArrayOutputStream;
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -51,14 +52,19 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.channels.Channels;
 import java.nio.file.Files;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import static fr.gouv.vitam.common.GlobalDataRest.X_CHUNK_LENGTH;
 import static fr.gouv.vitam.common.GlobalDataRest.X_CONTENT_LENGTH;
 import static org.apache.commons.io.IOUtils.EOF;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -81,11 +87,21 @@ public class WorkspaceBufferingInputStreamTest {
     @Mock
     private WorkspaceClient workspaceClient;
 
+    @Mock
+    private WorkspaceChunkPrefetcher.Listener listener;
+
+    private final ExecutorService executorService = Executors.newFixedThreadPool(4);
+
     @Before
     public void init() {
         doReturn(workspaceClient).when(workspaceClientFactory).getClient();
     }
 
+    @After
+    public void tearDown() {
+        executorService.shutdownNow();
+    }
+
     @Test
     public void testReadByte() throws Exception {
         verifyReadByte(0, 1_000, 4_500);
@@ -209,6 +225,134 @@ public class WorkspaceBufferingInputStreamTest {
         verifyResult(size, maxOnDiskBufferSize, testFile, inputStream);
     }
 
+    @Test
+    public void testReadByteArrayWithPrefetch() throws Exception {
+        verifyReadByteArrayWithPrefetch(0, 1_000, 4_500, 2);
+        verifyReadByteArrayWithPrefetch(1, 1_000, 4_500, 2);
+        verifyReadByteArrayWithPrefetch(4_500, 1_000, 4_500, 2);
+        verifyReadByteArrayWithPrefetch(9_000, 1_000, 4_500, 2);
+        verifyReadByteArrayWithPrefetch(10_000, 1_000, 4_500, 1);
+        verifyReadByteArrayWithPrefetch(100_000, 1_000, 4_500, 3);
+        verifyReadByteArrayWithPrefetch(100_000, 10_000, 4_500, 3);
+    }
+
+    @Test
+    public void testReadByteArrayWithExhaustedPrefetchBudget() throws Exception {
+        // Given
+        File testFile = createRandomFile(100_000);
+        givenWorkspaceClientReturnsFileContent(testFile);
+        WorkspaceChunkPrefetcher prefetcher = new WorkspaceChunkPrefetcher(2, 0L, 0L, executorService, listener);
+
+        // When
+        InputStream inputStream = readFully(prefetcher, 1_000, 4_500);
+
+        // Then : chunks loaded synchronously
+        verifyPrefetchResult(100_000, 4_500, testFile, inputStream, prefetcher);
+        verify(listener, never()).chunkPrefetched(anyLong(), anyBoolean());
+    }
+
+    @Test
+    public void testCloseWithPendingPrefetchedChunks() throws Exception {
+        // Given
+        File testFile = createRandomFile(100_000);
+        givenWorkspaceClientReturnsFileContent(testFile);
+        WorkspaceChunkPrefetcher prefetcher = new WorkspaceChunkPrefetcher(
+            3,
+            1_000_000L,
+            1_000_000L,
+            executorService,
+            listener
+        );
+
+        // When
+        try (
+            WorkspaceBufferingInputStream instance = new WorkspaceBufferingInputStream(
+                workspaceClientFactory,
+                CONTAINER,
+                OBJECT,
+                4_500,
+                1_000,
+                tempFolder.getRoot(),
+                prefetcher
+            )
+        ) {
+            assertThat(instance.read(new byte[10])).isEqualTo(10);
+        }
+
+        // Then : prefetched chunks are released & deleted
+        executorService.shutdown();
+        assertThat(executorService.awaitTermination(1, TimeUnit.MINUTES)).isTrue();
+        assertThat(prefetcher.getReservedSize(true)).isZero();
+        assertThat(prefetcher.getReservedSize(false)).isZero();
+        Files.delete(testFile.toPath());
+        assertThat(tempFolder.getRoot().list()).isNullOrEmpty();
+    }
+
+    private void verifyReadByteArrayWithPrefetch(
+        int size,
+        int maxInMemoryBufferSize,
+        int maxOnDiskBufferSize,
+        int prefetchDepth
+    ) throws Exception {
+        // Given
+        File testFile = createRandomFile(size);
+        givenWorkspaceClientReturnsFileContent(testFile);
+        WorkspaceChunkPrefetcher prefetcher = new WorkspaceChunkPrefetcher(
+            prefetchDepth,
+            1_000_000L,
+            1_000_000L,
+            executorService,
+            listener
+        );
+
+        // When
+        InputStream inputStream = readFully(prefetcher, maxInMemoryBufferSize, maxOnDiskBufferSize);
+
+        // Then
+        verifyPrefetchResult(size, maxOnDiskBufferSize, testFile, inputStream, prefetcher);
+    }
+
+    private InputStream readFully(WorkspaceChunkPrefetcher prefetcher, int maxInMemoryBufferSize, int maxOnDiskBufferSize)
+        throws Exception {
+        try (
+            WorkspaceBufferingInputStream instance = new WorkspaceBufferingInputStream(
+                workspaceClientFactory,
+                CONTAINER,
+                OBJECT,
+                maxOnDiskBufferSize,
+                maxInMemoryBufferSize,
+                tempFolder.getRoot(),
+                prefetcher
+            )
+        ) {
+            ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+            byte[] buffer = new byte[50];
+            int read;
+            while (EOF != (read = instance.read(buffer))) {
+                byteArrayOutputStream.write(buffer, 0, read);
+            }
+            return byteArrayOutputStream.toInputStream();
+        }
+    }
+
+    private void verifyPrefetchResult(
+        int size,
+        int maxOnDiskBufferSize,
+        File testFile,
+        InputStream inputStream,
+        WorkspaceChunkPrefetcher prefetcher
+    ) throws ContentAddressableStorageNotFoundException, ContentAddressableStorageServerException, IOException {
+        assertThat(inputStream).hasSameContentAs(new FileInputStream(testFile));
+        // No extra request for trailing empty chunk since total size is known
+        int expectedInvocations = Math.max(1, (size + maxOnDiskBufferSize - 1) / maxOnDiskBufferSize);
+        verify(workspaceClient, times(expectedInvocations)).getObject(eq(CONTAINER), eq(OBJECT), anyLong(), anyLong());
+        reset(workspaceClient);
+        assertThat(prefetcher.getReservedSize(true)).isZero();
+        assertThat(prefetcher.getReservedSize(false)).isZero();
+        Files.delete(testFile.toPath());
+        assertThat(tempFolder.getRoot().list()).isNullOrEmpty();
+    }
+
     private File createRandomFile(int size) throws IOException {
         File file = tempFolder.newFile(GUIDFactory.newGUID().toString() + ".tmp");
         FileUtils.copyToFile(new FakeInputStream(size), file);
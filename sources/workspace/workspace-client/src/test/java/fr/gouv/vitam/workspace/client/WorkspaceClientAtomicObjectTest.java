@@ -142,6 +142,13 @@ public class WorkspaceClientAtomicObjectTest extends ResteasyTestApplication {
         client.putAtomicObject(CONTAINER_NAME, OBJECT_NAME, stream, length);
     }
 
+    @Test
+    public void givenUnknownLengthWhenCreateObjectThenReturnCreated() throws Exception {
+        stream = getInputStream("file1.pdf");
+        when(mock.post()).thenReturn(Response.status(Status.CREATED).build());
+        client.putAtomicObject(CONTAINER_NAME, OBJECT_NAME, stream);
+    }
+
     private InputStream getInputStream(String file) throws FileNotFoundException {
         return PropertiesUtils.getResourceAsStream(file);
     }
@@ -165,6 +165,15 @@ public interface WorkspaceContentAddressableStorage {
     void putObject(String containerName, String objectName, InputStream stream)
         throws ContentAddressableStorageException;
 
+    /**
+     * Atomically adds an object at location containerName/objectName : the object is only visible once fully written.
+     *
+     * @param containerName container to place the object.
+     * @param objectName fully qualified object name relative to the container.
+     * @param stream the data
+     * @param size the expected size of the data, or a negative value when unknown (generated content)
+     * @throws ContentAddressableStorageException Thrown when put action failed
+     */
     void putAtomicObject(String containerName, String objectName, InputStream stream, long size)
         throws ContentAddressableStorageException;
 
@@ -477,7 +477,7 @@ public class WorkspaceFileSystem implements WorkspaceContentAddressableStorage {
 
             try (
                 OutputStream outputStream = Files.newOutputStream(tmpFilePath);
-                ExactSizeInputStream input = new ExactSizeInputStream(stream, size)
+                InputStream input = size < 0 ? stream : new ExactSizeInputStream(stream, size)
             ) {
                 IOUtils.copy(input, outputStream);
             }
@@ -237,6 +237,20 @@ public class WorkspaceFileSystemTest {
         assertThat(is).hasSameContentAs(getInputStream("file1.pdf"));
     }
 
+    @Test
+    public void givenPutAtomicObjectWithUnknownSizeThenGetObjectOK() throws Exception {
+        // Given
+        storage.createContainer(CONTAINER_NAME);
+
+        // When
+        storage.putAtomicObject(CONTAINER_NAME, OBJECT_NAME, getInputStream("file1.pdf"), -1L);
+
+        // Then
+        assertThat(storage.isExistingObject(CONTAINER_NAME, OBJECT_NAME)).isTrue();
+        InputStream is = (InputStream) storage.getObject(CONTAINER_NAME, OBJECT_NAME, null, null).getEntity();
+        assertThat(is).hasSameContentAs(getInputStream("file1.pdf"));
+    }
+
     @Test
     public void givenPutAtomicObjectWithSubDirectoriesThenGetObjectOK() throws Exception {
         // Given
@@ -655,7 +655,7 @@ public class WorkspaceResource extends ApplicationStatusResource {
         InputStream stream,
         @PathParam(CONTAINER_NAME) String containerName,
         @PathParam(OBJECT_NAME) String objectName,
-        @HeaderParam(GlobalDataRest.X_CONTENT_LENGTH) long size
+        @HeaderParam(GlobalDataRest.X_CONTENT_LENGTH) Long size
     ) {
         try {
             ParametersChecker.checkParameter(
@@ -664,10 +664,11 @@ public class WorkspaceResource extends ApplicationStatusResource {
                 objectName
             );
             workspace.checkWorkspaceFileSanity(containerName, objectName);
-            if (size < 0L) {
+            if (size != null && size < 0L) {
                 throw new IllegalArgumentException("Invalid stream size " + size);
             }
-            workspace.putAtomicObject(containerName, objectName, stream, size);
+            // Missing size header : streamed content of unknown size
+            workspace.putAtomicObject(containerName, objectName, stream, size == null ? -1L : size);
             return Response.status(Status.CREATED).entity(containerName + "/" + objectName).build();
         } catch (IllegalPathException | IllegalArgumentException e) {
             LOGGER.error(e);
@@ -953,6 +953,24 @@ public class WorkspaceResourceTest {
         getObjectOk("test 1");
     }
 
+    @Test
+    public void givenPutAtomicObjectWithoutSizeThenGetObjectOK() throws Exception {
+        // Given
+        createContainerOK();
+
+        // When
+        with()
+            .contentType(ContentType.BINARY)
+            .body("test 1".getBytes(StandardCharsets.UTF_8))
+            .when()
+            .post("/atomic_containers/" + CONTAINER_NAME + "/objects/myObject")
+            .then()
+            .statusCode(Status.CREATED.getStatusCode());
+
+        // Then
+        getObjectOk("test 1");
+    }
+
     @Test
     public void givenExistingFileWhenPutAtomicObjectThenException() throws Exception {
         // Given